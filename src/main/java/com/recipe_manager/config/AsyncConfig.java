@@ -0,0 +1,42 @@
+package com.recipe_manager.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Configuration for asynchronous calls to external services.
+ *
+ * <p>External service clients block on HTTP I/O, so their asynchronous calls run on virtual
+ * threads rather than on the common fork-join pool, whose few platform threads would otherwise be
+ * held for the length of every call. Each task carries the logging and tracing context of the
+ * request that submitted it (see {@link RequestContextTaskDecorator}). On shutdown the executor
+ * stops accepting calls and waits up to {@code
+ * external.services.common.executor-shutdown-timeout} for those in flight.
+ */
+@Configuration
+public class AsyncConfig {
+
+  /** Name of the executor for asynchronous external service calls. */
+  public static final String EXTERNAL_SERVICE_EXECUTOR = "externalServiceExecutor";
+
+  /** Thread name prefix of external service calls. */
+  private static final String THREAD_NAME_PREFIX = "external-service-";
+
+  /**
+   * Executor for asynchronous external service calls, starting one virtual thread per call.
+   *
+   * @param externalServicesConfig the external services configuration
+   * @return the executor, closed with the application context
+   */
+  @Bean(name = EXTERNAL_SERVICE_EXECUTOR)
+  public SimpleAsyncTaskExecutor externalServiceExecutor(
+      final ExternalServicesConfig externalServicesConfig) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+    executor.setVirtualThreads(true);
+    executor.setTaskDecorator(new RequestContextTaskDecorator());
+    executor.setTaskTerminationTimeout(
+        externalServicesConfig.getCommon().getExecutorShutdownTimeout().toMillis());
+    return executor;
+  }
+}
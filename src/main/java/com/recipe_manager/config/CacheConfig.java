@@ -2,6 +2,9 @@ package com.recipe_manager.config;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
@@ -14,16 +17,24 @@ import org.springframework.validation.annotation.Validated;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
 import com.recipe_manager.security.OAuth2Client.TokenIntrospectionResponse;
+import com.recipe_manager.service.cache.CollectionAccessCache.CollectionAcl;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
+import com.recipe_manager.service.cache.IngredientPriceLoader;
+import com.recipe_manager.service.cache.RecipeCacheService.VersionedRecipe;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
 /**
- * Configuration for caching external service responses. Provides TTL-based caching with
- * configurable cache sizes and expiration times.
+ * Configuration for caching external service responses and fully built recipe DTOs. Provides
+ * TTL-based caching with configurable cache sizes and expiration times.
  */
 @Configuration
 @EnableCaching
@@ -32,6 +43,9 @@ import lombok.Data;
 @Data
 public class CacheConfig {
 
+  /** Name under which recipe details cache metrics are published. */
+  public static final String RECIPE_CACHE_NAME = "recipes";
+
   /** Default sliding window TTL in minutes for token introspection cache. */
   private static final int DEFAULT_TTL_MINUTES = 5;
 
@@ -44,6 +58,36 @@ public class CacheConfig {
   /** Number of nanoseconds per second for time conversion. */
   private static final long NANOS_PER_SECOND = 1_000_000_000L;
 
+  /** Default maximum total weight of the recipe details cache. */
+  private static final long DEFAULT_RECIPE_MAX_WEIGHT = 250_000L;
+
+  /** Default TTL in minutes for recipe details cache entries. */
+  private static final int DEFAULT_RECIPE_TTL_MINUTES = 30;
+
+  /** Default TTL in minutes for entries in the shared recipe cache tier. */
+  private static final int DEFAULT_RECIPE_SHARED_TTL_MINUTES = 60;
+
+  /** Name under which per-user collection access cache metrics are published. */
+  public static final String COLLECTION_ACCESS_CACHE_NAME = "collection-access";
+
+  /** Name under which per-collection ACL cache metrics are published. */
+  public static final String COLLECTION_ACL_CACHE_NAME = "collection-acl";
+
+  /** Default maximum number of users or collections held by the collection access caches. */
+  private static final long DEFAULT_COLLECTION_ACCESS_MAX_SIZE = 10000L;
+
+  /** Default TTL in minutes for collection access cache entries. */
+  private static final int DEFAULT_COLLECTION_ACCESS_TTL_MINUTES = 5;
+
+  /** Name under which ingredient price cache metrics are published. */
+  public static final String INGREDIENT_PRICE_CACHE_NAME = "ingredient-prices";
+
+  /** Default maximum number of ingredients with a cached price. */
+  private static final long DEFAULT_INGREDIENT_PRICE_MAX_SIZE = 10000L;
+
+  /** Default time in hours recipe scraper pricing may be served past its TTL. */
+  private static final int DEFAULT_RECIPE_SCRAPER_MAX_STALE_HOURS = 24;
+
   /** External services cache configuration. */
   @Valid @NotNull private ExternalServicesCache externalServices = new ExternalServicesCache();
 
@@ -51,6 +95,13 @@ public class CacheConfig {
   @Valid @NotNull
   private TokenIntrospectionCache tokenIntrospection = new TokenIntrospectionCache();
 
+  /** Recipe details cache configuration. */
+  @Valid @NotNull private RecipeDetailsCache recipe = new RecipeDetailsCache();
+
+  /** Collection access control cache configuration. */
+  @Valid @NotNull
+  private CollectionAccessCacheProperties collectionAccess = new CollectionAccessCacheProperties();
+
   @Data
   public static class TokenIntrospectionCache {
     /** Sliding window TTL for token introspection cache. */
@@ -63,14 +114,61 @@ public class CacheConfig {
     @NotNull private Duration inactiveTokenTtl = Duration.ofSeconds(DEFAULT_INACTIVE_TTL_SECONDS);
   }
 
+  @Data
+  public static class RecipeDetailsCache {
+    /**
+     * Maximum total weight of cached recipes. Each recipe weighs one plus the number of rows in
+     * its ingredient, step, tag, revision, favorite and comment collections.
+     */
+    @Positive private long maxWeight = DEFAULT_RECIPE_MAX_WEIGHT;
+
+    /** Safety-net TTL bounding staleness from writes made by other instances. */
+    @NotNull private Duration ttl = Duration.ofMinutes(DEFAULT_RECIPE_TTL_MINUTES);
+
+    /** Optional second tier shared across instances. */
+    @Valid @NotNull private SharedTier sharedTier = new SharedTier();
+
+    @Data
+    public static class SharedTier {
+      /** Whether the shared tier is enabled. */
+      private boolean enabled;
+
+      /** TTL for entries in the shared tier. */
+      @NotNull private Duration ttl = Duration.ofMinutes(DEFAULT_RECIPE_SHARED_TTL_MINUTES);
+    }
+  }
+
+  @Data
+  public static class CollectionAccessCacheProperties {
+    /** Maximum number of users, and separately of collections, with cached access entries. */
+    @Positive private long maxSize = DEFAULT_COLLECTION_ACCESS_MAX_SIZE;
+
+    /**
+     * Safety-net TTL bounding staleness from changes this instance does not see: writes made by
+     * other instances and friendship changes in the user management service.
+     */
+    @NotNull private Duration ttl = Duration.ofMinutes(DEFAULT_COLLECTION_ACCESS_TTL_MINUTES);
+  }
+
   @Data
   public static class ExternalServicesCache {
-    /** Recipe scraper cache TTL. */
+    /** Recipe scraper cache TTL, after which entries are stale and refreshed on their next read. */
     @NotNull private Duration recipeScraperTtl;
 
+    /**
+     * How long recipe scraper pricing may be served in all, covering refreshes that are pending
+     * or failing while the scraper is unavailable. Entries are dropped after this.
+     */
+    @NotNull
+    private Duration recipeScraperMaxStale =
+        Duration.ofHours(DEFAULT_RECIPE_SCRAPER_MAX_STALE_HOURS);
+
     /** Maximum cache size for recipe scraper. */
     @Positive private long recipeScraperMaxSize;
 
+    /** Maximum number of ingredients with a cached price. */
+    @Positive private long ingredientPriceMaxSize = DEFAULT_INGREDIENT_PRICE_MAX_SIZE;
+
     /** Whether to enable cache statistics. */
     @NotNull private Boolean enableStats;
   }
@@ -88,11 +186,121 @@ public class CacheConfig {
             .maximumSize(externalServices.getRecipeScraperMaxSize())
             .expireAfterWrite(externalServices.getRecipeScraperTtl())
             .recordStats());
-    cacheManager.setCacheNames(java.util.List.of("recipe-scraper-shopping-info"));
+    cacheManager.setCacheNames(java.util.List.of("media-manager-list"));
     cacheManager.setAsyncCacheMode(true); // Enable async cache mode for CompletableFuture support
     return cacheManager;
   }
 
+  /**
+   * Creates the cache of ingredient prices used to price shopping lists.
+   *
+   * <p>Entries older than the recipe scraper TTL are refreshed ahead: the next read still returns
+   * the stale price and starts an asynchronous reload, so no shopping list waits on the scraper
+   * for an ingredient it has priced before. Entries are dropped once they reach the maximum
+   * staleness.
+   *
+   * @param meterRegistry the registry to publish cache metrics to
+   * @param loader the loader that refreshes prices from the recipe scraper
+   * @return configured cache of unit prices keyed by ingredient ID
+   */
+  @Bean("ingredientPriceCache")
+  public LoadingCache<Long, IngredientPrice> ingredientPriceCache(
+      final MeterRegistry meterRegistry, final IngredientPriceLoader loader) {
+    LoadingCache<Long, IngredientPrice> cache =
+        Caffeine.newBuilder()
+            .maximumSize(externalServices.getIngredientPriceMaxSize())
+            .refreshAfterWrite(externalServices.getRecipeScraperTtl())
+            .expireAfterWrite(externalServices.getRecipeScraperMaxStale())
+            .recordStats()
+            .build(loader);
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, INGREDIENT_PRICE_CACHE_NAME);
+  }
+
+  /**
+   * Creates the in-process cache of fully built recipe DTOs served by {@code GET
+   * /recipes/{recipeId}}.
+   *
+   * <p>Eviction is weight-based so that a few recipes with very large ingredient, step or comment
+   * lists cannot crowd out many small ones. Hit, miss, load and eviction statistics are published
+   * to Micrometer under {@code cache="recipes"}.
+   *
+   * @param meterRegistry the registry to publish cache metrics to
+   * @return configured cache for versioned recipe DTOs keyed by recipe ID
+   */
+  @Bean("recipeDetailsCache")
+  public Cache<Long, VersionedRecipe> recipeDetailsCache(final MeterRegistry meterRegistry) {
+    Cache<Long, VersionedRecipe> cache =
+        Caffeine.newBuilder()
+            .maximumWeight(recipe.getMaxWeight())
+            .weigher((Long recipeId, VersionedRecipe entry) -> weighRecipe(entry.recipe()))
+            .expireAfterWrite(recipe.getTtl())
+            .recordStats()
+            .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, RECIPE_CACHE_NAME);
+  }
+
+  /**
+   * Creates the cache of the non-public collections each user can access, as granted by the
+   * vw_user_collection_access view.
+   *
+   * @param meterRegistry the registry to publish cache metrics to
+   * @return configured cache of accessible collection IDs keyed by user ID
+   */
+  @Bean("collectionAccessCache")
+  public Cache<UUID, Set<Long>> collectionAccessCache(final MeterRegistry meterRegistry) {
+    Cache<UUID, Set<Long>> cache =
+        Caffeine.newBuilder()
+            .maximumSize(collectionAccess.getMaxSize())
+            .expireAfterWrite(collectionAccess.getTtl())
+            .recordStats()
+            .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, COLLECTION_ACCESS_CACHE_NAME);
+  }
+
+  /**
+   * Creates the cache of per-collection access control entries: owner, visibility, collaboration
+   * mode and collaborators.
+   *
+   * @param meterRegistry the registry to publish cache metrics to
+   * @return configured cache of ACL entries keyed by collection ID
+   */
+  @Bean("collectionAclCache")
+  public Cache<Long, CollectionAcl> collectionAclCache(final MeterRegistry meterRegistry) {
+    Cache<Long, CollectionAcl> cache =
+        Caffeine.newBuilder()
+            .maximumSize(collectionAccess.getMaxSize())
+            .expireAfterWrite(collectionAccess.getTtl())
+            .recordStats()
+            .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, COLLECTION_ACL_CACHE_NAME);
+  }
+
+  /**
+   * Estimates the relative size of a cached recipe from the number of rows it was built from.
+   *
+   * @param dto the recipe DTO
+   * @return the cache weight
+   */
+  static int weighRecipe(final RecipeDto dto) {
+    return 1
+        + sizeOf(dto.getIngredients())
+        + sizeOf(dto.getSteps())
+        + sizeOf(dto.getTags())
+        + sizeOf(dto.getRevisions())
+        + sizeOf(dto.getFavorites())
+        + sizeOf(dto.getComments());
+  }
+
+  /**
+   * Null-safe collection size.
+   *
+   * @param collection the collection, possibly null
+   * @return the size, or 0 for null
+   */
+  private static int sizeOf(final Collection<?> collection) {
+    return collection == null ? 0 : collection.size();
+  }
+
   /**
    * Creates a cache for token introspection responses with sliding window expiration.
    *
@@ -137,5 +137,8 @@ public class ExternalServicesConfig {
 
     /** Whether to enable distributed tracing. */
     @NotNull private Boolean enableTracing;
+
+    /** How long shutdown waits for in-flight external service calls to finish. */
+    @NotNull private Duration executorShutdownTimeout = Duration.ofSeconds(30);
   }
 }
@@ -0,0 +1,135 @@
+package com.recipe_manager.config;
+
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes Hibernate second-level cache statistics to Micrometer, one set of meters per cache
+ * region (entity, natural-id and query regions alike), tagged with {@code region}.
+ *
+ * <p>Requires {@code hibernate.generate_statistics}, which is off by default because collecting
+ * statistics adds bookkeeping to every session and query. It is on in the local profile and can be
+ * enabled elsewhere with {@code HIBERNATE_STATISTICS_ENABLED=true}; when it is off nothing is
+ * registered.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+  /** Logger for metric registration. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(HibernateCacheMetrics.class);
+
+  /** Tag identifying the cache region. */
+  static final String REGION_TAG = "region";
+
+  /** Factory whose statistics are published. */
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Creates a new HibernateCacheMetrics.
+   *
+   * @param entityManagerFactory the entity manager factory backed by Hibernate
+   */
+  public HibernateCacheMetrics(final EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    if (!statistics.isStatisticsEnabled()) {
+      LOGGER.info("Hibernate statistics are disabled; second-level cache metrics not registered");
+      return;
+    }
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      bindRegion(registry, statistics, region);
+    }
+  }
+
+  /**
+   * Registers the meters for one cache region.
+   *
+   * @param registry the registry to bind to
+   * @param statistics the Hibernate statistics
+   * @param region the cache region name
+   */
+  private void bindRegion(
+      final MeterRegistry registry, final Statistics statistics, final String region) {
+    FunctionCounter.builder(
+            "hibernate.cache.region.requests",
+            statistics,
+            regionStat(region, CacheRegionStatistics::getHitCount))
+        .tags(REGION_TAG, region, "result", "hit")
+        .description("Second-level cache lookups that found an entry")
+        .register(registry);
+    FunctionCounter.builder(
+            "hibernate.cache.region.requests",
+            statistics,
+            regionStat(region, CacheRegionStatistics::getMissCount))
+        .tags(REGION_TAG, region, "result", "miss")
+        .description("Second-level cache lookups that found no entry")
+        .register(registry);
+    FunctionCounter.builder(
+            "hibernate.cache.region.puts",
+            statistics,
+            regionStat(region, CacheRegionStatistics::getPutCount))
+        .tags(REGION_TAG, region)
+        .description("Entries put into the second-level cache")
+        .register(registry);
+    Gauge.builder("hibernate.cache.region.hit.ratio", statistics, s -> hitRatio(s, region))
+        .tags(REGION_TAG, region)
+        .description("Fraction of second-level cache lookups that found an entry")
+        .register(registry);
+    Gauge.builder(
+            "hibernate.cache.region.entries",
+            statistics,
+            regionStat(region, CacheRegionStatistics::getElementCountInMemory))
+        .tags(REGION_TAG, region)
+        .description("Entries currently held in memory")
+        .register(registry);
+  }
+
+  /**
+   * Computes the hit ratio for a region.
+   *
+   * @param statistics the Hibernate statistics
+   * @param region the cache region name
+   * @return hits divided by lookups, or NaN before the first lookup
+   */
+  static double hitRatio(final Statistics statistics, final String region) {
+    CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+    if (regionStatistics == null) {
+      return Double.NaN;
+    }
+    long hits = regionStatistics.getHitCount();
+    long lookups = hits + regionStatistics.getMissCount();
+    return lookups == 0 ? Double.NaN : (double) hits / lookups;
+  }
+
+  /**
+   * Adapts a region statistic to a meter function, reading zero while the region has no
+   * statistics.
+   *
+   * @param region the cache region name
+   * @param stat the statistic to read
+   * @return function reading the statistic from {@link Statistics}
+   */
+  private static ToDoubleFunction<Statistics> regionStat(
+      final String region, final ToDoubleFunction<CacheRegionStatistics> stat) {
+    return statistics -> {
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+      return regionStatistics == null ? 0 : stat.applyAsDouble(regionStatistics);
+    };
+  }
+}
@@ -0,0 +1,16 @@
+package com.recipe_manager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.recipe_manager.repository.NaturalIdRepositoryImpl;
+
+/**
+ * JPA repository configuration. Registers {@link NaturalIdRepositoryImpl} as the base class for all
+ * repositories so that reference-data repositories can look entities up by cached natural ID.
+ */
+@Configuration
+@EnableJpaRepositories(
+    basePackages = "com.recipe_manager.repository",
+    repositoryBaseClass = NaturalIdRepositoryImpl.class)
+public class JpaConfig {}
@@ -0,0 +1,48 @@
+package com.recipe_manager.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Carries the submitting thread's logging and tracing context over to the thread that runs a task.
+ *
+ * <p>The SLF4J MDC (request, correlation and user IDs) and the current OpenTelemetry context are
+ * captured when the task is submitted and installed while it runs, so log lines and spans of an
+ * external service call are attributed to the request that made it. The running thread's own MDC
+ * is restored afterwards.
+ */
+public final class RequestContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(final Runnable runnable) {
+    Map<String, String> submitterMdc = MDC.getCopyOfContextMap();
+    Context submitterContext = Context.current();
+    return () -> {
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      setMdc(submitterMdc);
+      try (Scope scope = submitterContext.makeCurrent()) {
+        runnable.run();
+      } finally {
+        setMdc(previousMdc);
+      }
+    };
+  }
+
+  /**
+   * Replaces the current thread's MDC.
+   *
+   * @param contextMap the MDC to install, or null to clear it
+   */
+  private static void setMdc(final Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
+    }
+  }
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.recipe_manager.model.dto.collection.CollectionCollaboratorDto;
@@ -25,6 +26,7 @@ import com.recipe_manager.model.dto.request.SearchCollectionsRequest;
 import com.recipe_manager.model.dto.request.UpdateCollectionRequest;
 import com.recipe_manager.model.dto.response.CollectionDetailsDto;
 import com.recipe_manager.model.dto.response.CollectionDto;
+import com.recipe_manager.model.dto.response.CollectionRecipesResponse;
 import com.recipe_manager.model.dto.response.CollectionTagResponse;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
@@ -101,12 +103,13 @@ public class CollectionController {
   /**
    * Get detailed information about a specific collection by ID.
    *
-   * <p>Returns detailed collection information including all recipes in the collection. Access is
-   * controlled by the collection's visibility settings and the user's permissions (owner,
-   * collaborator, or public access).
+   * <p>Returns detailed collection information including the first page of recipes in the
+   * collection; when there are more, {@code recipesNextCursor} continues the listing at {@code GET
+   * /collections/{collectionId}/recipes}. Access is controlled by the collection's visibility
+   * settings and the user's permissions (owner, collaborator, or public access).
    *
    * @param collectionId the ID of the collection to retrieve
-   * @return ResponseEntity with the collection details including all recipes
+   * @return ResponseEntity with the collection details including the first page of recipes
    */
   @GetMapping(value = "/{collectionId}", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<CollectionDetailsDto> getCollectionById(
@@ -114,6 +117,26 @@ public class CollectionController {
     return collectionService.getCollectionById(collectionId);
   }
 
+  /**
+   * Get a page of the recipes in a collection.
+   *
+   * <p>Recipes are paged by keyset in display order. Pass the {@code nextCursor} of the previous
+   * page (or the {@code recipesNextCursor} of the collection details) as {@code cursor}; omit it
+   * for the first page. Access is checked as for the collection details.
+   *
+   * @param collectionId the ID of the collection
+   * @param cursor keyset cursor from the previous page, or omitted for the first page
+   * @param pageable pagination parameters; only the page size is used
+   * @return ResponseEntity with the page of recipes and the next cursor
+   */
+  @GetMapping(value = "/{collectionId}/recipes", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<CollectionRecipesResponse> getCollectionRecipes(
+      @PathVariable final Long collectionId,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
+    return collectionService.getCollectionRecipes(collectionId, cursor, pageable.getPageSize());
+  }
+
   /**
    * Update collection metadata.
    *
@@ -266,12 +289,13 @@ public class CollectionController {
    *   <li>User has edit permission on the collection
    * </ul>
    *
-   * <p>Returns all recipes in the collection (not just the reordered ones) with updated metadata
-   * including recipe titles and descriptions, sorted by display order.
+   * <p>Returns only the reordered recipes with their metadata including recipe titles and
+   * descriptions, sorted by display order. The rest of the collection is listed by {@code GET
+   * /collections/{collectionId}/recipes}.
    *
    * @param collectionId the ID of the collection
    * @param request the reorder request containing recipe IDs and new display orders
-   * @return ResponseEntity containing list of all recipes in the collection with metadata
+   * @return ResponseEntity containing list of the reordered recipes with metadata
    */
   @PutMapping(
       value = "/{collectionId}/recipes/reorder",
@@ -78,8 +78,13 @@ public class FavoriteController {
    *   <li>PRIVATE profiles: Only the user themselves can view favorites (403 for all others)
    * </ul>
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), results are paged
+   * by keyset, most recently favorited first, and the response carries a {@code nextCursor}.
+   *
    * @param userId the user ID whose favorites to retrieve (optional, defaults to authenticated
    *     user)
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param includeDetails whether to return full recipes instead of summaries
    * @param pageable pagination parameters (page, size, sort)
    * @return ResponseEntity with paginated search response containing favorite recipes
    * @throws AccessDeniedException if the requesting user is not authorized to view the favorites
@@ -88,9 +93,16 @@ public class FavoriteController {
   @GetMapping(value = "/recipes", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<SearchRecipesResponse> getUserFavorites(
       @RequestParam(value = "userId", required = false) final UUID userId,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @RequestParam(value = "includeDetails", defaultValue = "false")
+          final boolean includeDetails,
       @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable)
       throws AccessDeniedException {
-    return favoriteService.getUserFavorites(userId, pageable);
+    if (cursor != null) {
+      return favoriteService.getUserFavorites(
+          userId, cursor, pageable.getPageSize(), includeDetails);
+    }
+    return favoriteService.getUserFavorites(userId, pageable, includeDetails);
   }
 
   /**
@@ -1,7 +1,13 @@
 package com.recipe_manager.controller;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,12 +37,15 @@ import com.recipe_manager.model.dto.request.EditIngredientCommentRequest;
 import com.recipe_manager.model.dto.request.EditRecipeCommentRequest;
 import com.recipe_manager.model.dto.request.EditReviewRequest;
 import com.recipe_manager.model.dto.request.EditStepCommentRequest;
+import com.recipe_manager.model.dto.request.MealPlanShoppingListRequest;
 import com.recipe_manager.model.dto.request.RemoveTagRequest;
 import com.recipe_manager.model.dto.request.SearchRecipesRequest;
 import com.recipe_manager.model.dto.request.UpdateRecipeRequest;
 import com.recipe_manager.model.dto.response.IngredientCommentResponse;
 import com.recipe_manager.model.dto.response.IngredientRevisionsResponse;
+import com.recipe_manager.model.dto.response.MealPlanShoppingListResponse;
 import com.recipe_manager.model.dto.response.RecipeCommentsResponse;
+import com.recipe_manager.model.dto.response.RecipeHistoryResponse;
 import com.recipe_manager.model.dto.response.RecipeIngredientsResponse;
 import com.recipe_manager.model.dto.response.RecipeRevisionsResponse;
 import com.recipe_manager.model.dto.response.ReviewResponse;
@@ -51,6 +61,8 @@ import com.recipe_manager.service.RecipeService;
 import com.recipe_manager.service.ReviewService;
 import com.recipe_manager.service.StepService;
 import com.recipe_manager.service.TagService;
+import com.recipe_manager.service.cache.RecipeVersionService;
+import com.recipe_manager.service.cache.RecipeVersionService.Resource;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.validation.Valid;
@@ -83,6 +95,9 @@ public class RecipeManagementController {
   /** Service for review-related operations. */
   private final ReviewService reviewService;
 
+  /** Service computing ETags for conditional GETs. */
+  private final RecipeVersionService recipeVersionService;
+
   /**
    * Constructs the controller with all required services.
    *
@@ -91,6 +106,7 @@ public class RecipeManagementController {
    * @param stepService the step service
    * @param tagService the tag service
    * @param reviewService the review service
+   * @param recipeVersionService the recipe version service
    */
   @SuppressFBWarnings(
       value = "EI_EXPOSE_REP2",
@@ -100,12 +116,14 @@ public class RecipeManagementController {
       final IngredientService ingredientService,
       final StepService stepService,
       final TagService tagService,
-      final ReviewService reviewService) {
+      final ReviewService reviewService,
+      final RecipeVersionService recipeVersionService) {
     this.recipeService = recipeService;
     this.ingredientService = ingredientService;
     this.stepService = stepService;
     this.tagService = tagService;
     this.reviewService = reviewService;
+    this.recipeVersionService = recipeVersionService;
   }
 
   /**
@@ -123,25 +141,43 @@ public class RecipeManagementController {
   /**
    * Get all recipes.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), results are paged
+   * by keyset, newest first, and the response carries a {@code nextCursor}; otherwise standard
+   * page/size pagination is used.
+   *
+   * <p>Recipes are returned as summaries with favorite and comment counts unless {@code
+   * includeDetails=true} is passed.
+   *
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param includeDetails whether to return full recipes instead of summaries
    * @param pageable pagination parameters
    * @return ResponseEntity with paginated list of recipes
    */
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<SearchRecipesResponse> getAllRecipes(
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @RequestParam(value = "includeDetails", defaultValue = "false")
+          final boolean includeDetails,
       @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
-    return recipeService.getAllRecipes(pageable);
+    if (cursor != null) {
+      return recipeService.getAllRecipes(cursor, pageable.getPageSize(), includeDetails);
+    }
+    return recipeService.getAllRecipes(pageable, includeDetails);
   }
 
   /**
    * Get trending recipes with pagination.
    *
+   * @param includeDetails whether to return full recipes instead of summaries
    * @param pageable pagination parameters
    * @return ResponseEntity with paginated list of trending recipes
    */
   @GetMapping(value = "/trending", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<SearchRecipesResponse> getTrendingRecipes(
+      @RequestParam(value = "includeDetails", defaultValue = "false")
+          final boolean includeDetails,
       @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
-    return recipeService.getTrendingRecipes(pageable);
+    return recipeService.getTrendingRecipes(pageable, includeDetails);
   }
 
   /**
@@ -172,11 +208,19 @@ public class RecipeManagementController {
    * Get a full recipe.
    *
    * @param recipeId the recipe ID
-   * @return placeholder response
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return the recipe, or 304 if the client's copy is current
    */
   @GetMapping(value = "/{recipeId}", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<RecipeDto> getRecipe(@PathVariable final String recipeId) {
-    return recipeService.getRecipe(recipeId);
+  public ResponseEntity<RecipeDto> getRecipe(
+      @PathVariable final String recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        parseRecipeId(recipeId),
+        Resource.RECIPE,
+        ifNoneMatch,
+        etag -> recipeService.getRecipe(recipeId, etag));
   }
 
   /**
@@ -195,36 +239,52 @@ public class RecipeManagementController {
    * Get recipe ingredients.
    *
    * @param recipeId the recipe ID
-   * @return response with recipe ingredients
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return response with recipe ingredients, or 304 if the client's copy is current
    */
   @GetMapping(value = "/{recipeId}/ingredients", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<RecipeIngredientsResponse> getRecipeIngredients(
-      @PathVariable final String recipeId) {
-    return ingredientService.getIngredients(recipeId);
+      @PathVariable final String recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        parseRecipeId(recipeId),
+        Resource.INGREDIENTS,
+        ifNoneMatch,
+        () -> ingredientService.getIngredients(recipeId));
   }
 
   /**
    * Get recipe steps.
    *
    * @param recipeId the recipe ID
-   * @return placeholder response
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return response with recipe steps, or 304 if the client's copy is current
    */
   @GetMapping("/{recipeId}/steps")
-  public ResponseEntity<StepResponse> getRecipeSteps(@PathVariable final Long recipeId) {
-    StepResponse response = stepService.getSteps(recipeId);
-    return ResponseEntity.ok(response);
+  public ResponseEntity<StepResponse> getRecipeSteps(
+      @PathVariable final Long recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        recipeId,
+        Resource.STEPS,
+        ifNoneMatch,
+        () -> ResponseEntity.ok(stepService.getSteps(recipeId)));
   }
 
   /**
-   * Get recipe history.
+   * Get a recipe's ingredients and steps as they were right after a revision.
    *
    * @param recipeId the recipe ID
-   * @return placeholder response
+   * @param asOf the revision ID to rebuild the recipe as of; the latest revision if omitted
+   * @return response with the recipe's ingredients and steps as of the revision
    */
-  @GetMapping("/{recipeId}/history")
-  public ResponseEntity<String> getRecipeHistory(@PathVariable final String recipeId) {
-    // Placeholder: would call recipeService.getHistory(recipeId)
-    return ResponseEntity.ok("Get Recipe History - placeholder");
+  @GetMapping(value = "/{recipeId}/history", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<RecipeHistoryResponse> getRecipeHistory(
+      @PathVariable final Long recipeId,
+      @RequestParam(value = "asOf", required = false) final Long asOf) {
+    return ResponseEntity.ok(recipeService.getRecipeHistory(recipeId, asOf));
   }
 
   /**
@@ -254,6 +314,21 @@ public class RecipeManagementController {
     return ingredientService.generateShoppingList(recipeId);
   }
 
+  /**
+   * Generate one shopping list for the recipes of a meal plan.
+   *
+   * <p>Each recipe's ingredient quantities are scaled by its serving multiplier, and quantities of
+   * the same ingredient are combined across convertible units (for example grams and kilograms).
+   *
+   * @param request the recipes and their serving multipliers
+   * @return response with the combined shopping list
+   */
+  @PostMapping(value = "/shopping-list", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MealPlanShoppingListResponse> generateMealPlanShoppingList(
+      @Valid @RequestBody final MealPlanShoppingListRequest request) {
+    return ingredientService.generateMealPlanShoppingList(request);
+  }
+
   /**
    * Add a tag to a recipe.
    *
@@ -286,26 +361,46 @@ public class RecipeManagementController {
    * Get tags for a recipe.
    *
    * @param recipeId the recipe ID
-   * @return response with all tags for the recipe
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return response with all tags for the recipe, or 304 if the client's copy is current
    */
   @GetMapping(value = "/{recipeId}/tags", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<TagResponse> getTags(@PathVariable final Long recipeId) {
-    TagResponse response = tagService.getTags(recipeId);
-    return ResponseEntity.ok(response);
+  public ResponseEntity<TagResponse> getTags(
+      @PathVariable final Long recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        recipeId,
+        Resource.TAGS,
+        ifNoneMatch,
+        () -> ResponseEntity.ok(tagService.getTags(recipeId)));
   }
 
   /**
    * Search recipes based on flexible criteria.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), results are paged
+   * by keyset and the response carries a {@code nextCursor}; otherwise standard page/size
+   * pagination is used.
+   *
    * @param searchRequest the search criteria (request body)
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param includeDetails whether to return full recipes instead of summaries
    * @param pageable pagination parameters (query parameters)
    * @return ResponseEntity with paginated search results
    */
   @PostMapping("/search")
   public ResponseEntity<SearchRecipesResponse> searchRecipes(
       @Valid @RequestBody final SearchRecipesRequest searchRequest,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @RequestParam(value = "includeDetails", defaultValue = "false")
+          final boolean includeDetails,
       @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
-    return recipeService.searchRecipes(searchRequest, pageable);
+    if (cursor != null) {
+      return recipeService.searchRecipes(
+          searchRequest, cursor, pageable.getPageSize(), includeDetails);
+    }
+    return recipeService.searchRecipes(searchRequest, pageable, includeDetails);
   }
 
   /**
@@ -433,12 +528,19 @@ public class RecipeManagementController {
    * Get recipe reviews.
    *
    * @param recipeId the recipe ID
-   * @return response with all reviews for the recipe
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return response with all reviews for the recipe, or 304 if the client's copy is current
    */
   @GetMapping(value = "/{recipeId}/review", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<ReviewResponse> getRecipeReviews(@PathVariable final Long recipeId) {
-    ReviewResponse response = reviewService.getReviews(recipeId);
-    return ResponseEntity.ok(response);
+  public ResponseEntity<ReviewResponse> getRecipeReviews(
+      @PathVariable final Long recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        recipeId,
+        Resource.REVIEWS,
+        ifNoneMatch,
+        () -> ResponseEntity.ok(reviewService.getReviews(recipeId)));
   }
 
   /**
@@ -489,42 +591,77 @@ public class RecipeManagementController {
   /**
    * Get all revisions for a recipe.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), revisions are paged
+   * by keyset, newest first, and the response carries a {@code nextCursor}; otherwise every
+   * revision is returned.
+   *
    * @param recipeId the recipe ID
-   * @return response with all revisions for the recipe
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param pageable pagination parameters; only the page size is used
+   * @return response with the revisions for the recipe
    */
   @GetMapping("/{recipeId}/revisions")
   public ResponseEntity<RecipeRevisionsResponse> getRecipeRevisions(
-      @PathVariable final Long recipeId) {
-    RecipeRevisionsResponse response = recipeService.getRevisions(recipeId);
+      @PathVariable final Long recipeId,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
+    RecipeRevisionsResponse response =
+        cursor != null
+            ? recipeService.getRevisions(recipeId, cursor, pageable.getPageSize())
+            : recipeService.getRevisions(recipeId);
     return ResponseEntity.ok(response);
   }
 
   /**
    * Get all revisions for a specific recipe step.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), revisions are paged
+   * by keyset, newest first, and the response carries a {@code nextCursor}; otherwise every
+   * revision is returned.
+   *
    * @param recipeId the recipe ID
    * @param stepId the step ID
-   * @return response with all revisions for the step
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param pageable pagination parameters; only the page size is used
+   * @return response with the revisions for the step
    */
   @GetMapping("/{recipeId}/steps/{stepId}/revisions")
   public ResponseEntity<StepRevisionsResponse> getStepRevisions(
-      @PathVariable final Long recipeId, @PathVariable final Long stepId) {
-    StepRevisionsResponse response = stepService.getStepRevisions(recipeId, stepId);
+      @PathVariable final Long recipeId,
+      @PathVariable final Long stepId,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
+    StepRevisionsResponse response =
+        cursor != null
+            ? stepService.getStepRevisions(recipeId, stepId, cursor, pageable.getPageSize())
+            : stepService.getStepRevisions(recipeId, stepId);
     return ResponseEntity.ok(response);
   }
 
   /**
    * Get all revisions for a specific recipe ingredient.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), revisions are paged
+   * by keyset, newest first, and the response carries a {@code nextCursor}; otherwise every
+   * revision is returned.
+   *
    * @param recipeId the recipe ID
    * @param ingredientId the ingredient ID
-   * @return response with all revisions for the ingredient
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param pageable pagination parameters; only the page size is used
+   * @return response with the revisions for the ingredient
    */
   @GetMapping("/{recipeId}/ingredients/{ingredientId}/revisions")
   public ResponseEntity<IngredientRevisionsResponse> getIngredientRevisions(
-      @PathVariable final Long recipeId, @PathVariable final Long ingredientId) {
+      @PathVariable final Long recipeId,
+      @PathVariable final Long ingredientId,
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
     IngredientRevisionsResponse response =
-        ingredientService.getIngredientRevisions(recipeId, ingredientId);
+        cursor != null
+            ? ingredientService.getIngredientRevisions(
+                recipeId, ingredientId, cursor, pageable.getPageSize())
+            : ingredientService.getIngredientRevisions(recipeId, ingredientId);
     return ResponseEntity.ok(response);
   }
 
@@ -532,13 +669,19 @@ public class RecipeManagementController {
    * Get all comments for a recipe.
    *
    * @param recipeId the recipe ID
-   * @return response with all comments for the recipe
+   * @param ifNoneMatch ETag(s) of the client's cached copy
+   * @return response with all comments for the recipe, or 304 if the client's copy is current
    */
   @GetMapping(value = "/{recipeId}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<RecipeCommentsResponse> getRecipeComments(
-      @PathVariable final Long recipeId) {
-    RecipeCommentsResponse response = recipeService.getRecipeComments(recipeId);
-    return ResponseEntity.ok(response);
+      @PathVariable final Long recipeId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          final String ifNoneMatch) {
+    return conditionalGet(
+        recipeId,
+        Resource.COMMENTS,
+        ifNoneMatch,
+        () -> ResponseEntity.ok(recipeService.getRecipeComments(recipeId)));
   }
 
   /**
@@ -586,4 +729,82 @@ public class RecipeManagementController {
     recipeService.deleteRecipeComment(recipeId, commentId);
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * Serves a recipe resource conditionally from a loader that reads the database directly.
+   *
+   * @param recipeId the recipe ID, or null if it could not be parsed
+   * @param resource the resource being served
+   * @param ifNoneMatch the If-None-Match header value, possibly null
+   * @param loader loads the full response
+   * @param <T> the response body type
+   * @return the response
+   * @see #conditionalGet(Long, Resource, String, Function)
+   */
+  private <T> ResponseEntity<T> conditionalGet(
+      final Long recipeId,
+      final Resource resource,
+      final String ifNoneMatch,
+      final Supplier<ResponseEntity<T>> loader) {
+    return conditionalGet(recipeId, resource, ifNoneMatch, etag -> loader.get());
+  }
+
+  /**
+   * Serves a recipe resource conditionally. The version probe runs first; if the client's ETag
+   * is current a 304 is returned without calling the loader, otherwise the loader is called with
+   * the probed ETag and its response is returned with that ETag attached. A loader that reads the
+   * database runs after the probe, so a concurrent change can only pair newer data with an older
+   * tag, which costs the client one extra full response but never a stale 304. A loader that
+   * serves cached data must only serve a copy built at the ETag it is given, as {@link
+   * RecipeService#getRecipe(String, String)} does, since an older copy under the probed tag would
+   * let the client revalidate stale data. Requests for recipes the probe cannot find call the
+   * loader with a null ETag so that its usual error handling applies.
+   *
+   * @param recipeId the recipe ID, or null if it could not be parsed
+   * @param resource the resource being served
+   * @param ifNoneMatch the If-None-Match header value, possibly null
+   * @param loader loads the full response given the probed ETag, or null if there is none
+   * @param <T> the response body type
+   * @return the response
+   */
+  private <T> ResponseEntity<T> conditionalGet(
+      final Long recipeId,
+      final Resource resource,
+      final String ifNoneMatch,
+      final Function<String, ResponseEntity<T>> loader) {
+    Optional<String> etag =
+        recipeId == null ? Optional.empty() : recipeVersionService.currentEtag(recipeId, resource);
+    if (etag.isEmpty()) {
+      return loader.apply(null);
+    }
+    if (RecipeVersionService.matches(ifNoneMatch, etag.get())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag.get())
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+    ResponseEntity<T> response = loader.apply(etag.get());
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      return response;
+    }
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .eTag(etag.get())
+        .cacheControl(CacheControl.noCache())
+        .body(response.getBody());
+  }
+
+  /**
+   * Parses a recipe ID path variable for the version probe.
+   *
+   * @param recipeId the raw recipe ID
+   * @return the parsed ID, or null if it is not a number
+   */
+  private static Long parseRecipeId(final String recipeId) {
+    try {
+      return Long.parseLong(recipeId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
 }
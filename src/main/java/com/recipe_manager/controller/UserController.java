@@ -56,13 +56,24 @@ public class UserController {
    * <p>Retrieves all recipes created by the authenticated user with pagination support. Returns
    * recipes in the same format as the main recipes list endpoint.
    *
+   * <p>When a {@code cursor} parameter is present (empty for the first page), results are paged
+   * by keyset, newest first, and the response carries a {@code nextCursor}.
+   *
+   * @param cursor keyset cursor from the previous page, or empty for the first page
+   * @param includeDetails whether to return full recipes instead of summaries
    * @param pageable pagination parameters
    * @return ResponseEntity with paginated list of user's recipes
    */
   @GetMapping(value = "/recipes", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<SearchRecipesResponse> getMyRecipes(
+      @RequestParam(value = "cursor", required = false) final String cursor,
+      @RequestParam(value = "includeDetails", defaultValue = "false")
+          final boolean includeDetails,
       @PageableDefault(size = DEFAULT_PAGE_SIZE) final Pageable pageable) {
-    return recipeService.getMyRecipes(pageable);
+    if (cursor != null) {
+      return recipeService.getMyRecipes(cursor, pageable.getPageSize(), includeDetails);
+    }
+    return recipeService.getMyRecipes(pageable, includeDetails);
   }
 
   /**
@@ -1,10 +1,8 @@
 package com.recipe_manager.model.converter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.recipe_manager.exception.RevisionSerializationException;
 import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.RevisionJson;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
@@ -13,15 +11,14 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * JPA Attribute Converter for AbstractRevision objects. Handles conversion between AbstractRevision
  * objects and their JSON string representation for storage in JSONB database columns.
+ *
+ * <p>Revision entities map their JSONB columns with {@link RevisionPayloadConverter}, which defers
+ * parsing; this converter is for attributes that always need the typed revision.
  */
 @Converter
 @Slf4j
 public final class RevisionDataConverter implements AttributeConverter<AbstractRevision, String> {
 
-  /** ObjectMapper instance configured with JavaTimeModule for JSON processing. */
-  private static final ObjectMapper OBJECT_MAPPER =
-      new ObjectMapper().registerModule(new JavaTimeModule());
-
   /**
    * Converts the value stored in the entity attribute into the data representation to be stored in
    * the database.
@@ -36,12 +33,12 @@ public final class RevisionDataConverter implements AttributeConverter<AbstractR
     }
 
     try {
-      String json = OBJECT_MAPPER.writeValueAsString(attribute);
+      String json = RevisionJson.write(attribute);
       log.debug("Converted revision to JSON: {}", json);
       return json;
-    } catch (JsonProcessingException e) {
+    } catch (RevisionSerializationException e) {
       log.error("Error converting revision to JSON", e);
-      throw new RevisionSerializationException("Failed to convert revision to JSON", e);
+      throw e;
     }
   }
 
@@ -59,12 +56,12 @@ public final class RevisionDataConverter implements AttributeConverter<AbstractR
     }
 
     try {
-      AbstractRevision revision = OBJECT_MAPPER.readValue(dbData, AbstractRevision.class);
+      AbstractRevision revision = RevisionJson.read(dbData);
       log.debug("Converted JSON to revision: {}", revision);
       return revision;
-    } catch (JsonProcessingException e) {
+    } catch (RevisionSerializationException e) {
       log.error("Error converting JSON to revision: {}", dbData, e);
-      throw new RevisionSerializationException("Failed to convert JSON to revision", e);
+      throw e;
     }
   }
 }
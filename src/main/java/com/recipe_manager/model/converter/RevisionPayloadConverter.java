@@ -0,0 +1,44 @@
+package com.recipe_manager.model.converter;
+
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import com.recipe_manager.model.dto.revision.RevisionPayload;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JPA Attribute Converter for revision payloads. Unlike {@link RevisionDataConverter} it does not
+ * parse the column: the JSON text is wrapped as loaded and only deserialized if a caller asks for
+ * the typed revision.
+ *
+ * <p>Payloads are treated as immutable, so Hibernate neither copies them for its dirty-checking
+ * snapshot nor compares them beyond equality of the stored text.
+ */
+@Converter
+@Mutability(Immutability.class)
+public final class RevisionPayloadConverter implements AttributeConverter<RevisionPayload, String> {
+
+  /**
+   * Converts a payload to the JSON stored in the database column.
+   *
+   * @param attribute the payload
+   * @return the JSON, or null if there is no payload
+   */
+  @Override
+  public String convertToDatabaseColumn(final RevisionPayload attribute) {
+    return attribute == null ? null : attribute.getJson();
+  }
+
+  /**
+   * Wraps the JSON stored in the database column without parsing it.
+   *
+   * @param dbData the JSON
+   * @return the payload, or null if the column is empty
+   */
+  @Override
+  public RevisionPayload convertToEntityAttribute(final String dbData) {
+    return RevisionPayload.ofJson(dbData);
+  }
+}
@@ -28,7 +28,7 @@ import lombok.ToString;
 @Builder
 @EqualsAndHashCode
 @ToString
-public final class RecipeDto {
+public final class RecipeDto implements RecipeView {
   /** The unique ID of the recipe. */
   private Long recipeId;
 
@@ -0,0 +1,62 @@
+package com.recipe_manager.model.dto.recipe;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.recipe_manager.model.enums.DifficultyLevel;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight recipe representation for list and search responses. Carries the recipe's own fields
+ * and favorite/comment counts instead of its ingredient, step, tag, revision, favorite and comment
+ * collections.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public final class RecipeSummaryDto implements RecipeView {
+  /** The unique ID of the recipe. */
+  private Long recipeId;
+
+  /** The user ID of the recipe owner. */
+  private UUID userId;
+
+  /** The title of the recipe. */
+  private String title;
+
+  /** The description of the recipe. */
+  private String description;
+
+  /** The origin URL of the recipe. */
+  private String originUrl;
+
+  /** The number of servings. */
+  private BigDecimal servings;
+
+  /** Preparation time in minutes. */
+  private Integer preparationTime;
+
+  /** Cooking time in minutes. */
+  private Integer cookingTime;
+
+  /** The difficulty level. */
+  private DifficultyLevel difficulty;
+
+  /** The creation timestamp. */
+  private LocalDateTime createdAt;
+
+  /** The last update timestamp. */
+  private LocalDateTime updatedAt;
+
+  /** Number of users who have favorited the recipe. */
+  private long favoriteCount;
+
+  /** Number of comments on the recipe. */
+  private long commentCount;
+}
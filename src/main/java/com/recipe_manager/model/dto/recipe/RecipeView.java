@@ -0,0 +1,91 @@
+package com.recipe_manager.model.dto.recipe;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.recipe_manager.model.enums.DifficultyLevel;
+
+/**
+ * Common read view of a recipe in list and search responses. Implemented by {@link
+ * RecipeSummaryDto} (the default, scalar fields plus engagement counts) and {@link RecipeDto} (the
+ * full graph, returned when details are requested).
+ */
+public interface RecipeView {
+  /**
+   * Gets the unique ID of the recipe.
+   *
+   * @return the recipe ID
+   */
+  Long getRecipeId();
+
+  /**
+   * Gets the user ID of the recipe owner.
+   *
+   * @return the owner's user ID
+   */
+  UUID getUserId();
+
+  /**
+   * Gets the title of the recipe.
+   *
+   * @return the title
+   */
+  String getTitle();
+
+  /**
+   * Gets the description of the recipe.
+   *
+   * @return the description
+   */
+  String getDescription();
+
+  /**
+   * Gets the origin URL of the recipe.
+   *
+   * @return the origin URL
+   */
+  String getOriginUrl();
+
+  /**
+   * Gets the number of servings.
+   *
+   * @return the servings
+   */
+  BigDecimal getServings();
+
+  /**
+   * Gets the preparation time in minutes.
+   *
+   * @return the preparation time
+   */
+  Integer getPreparationTime();
+
+  /**
+   * Gets the cooking time in minutes.
+   *
+   * @return the cooking time
+   */
+  Integer getCookingTime();
+
+  /**
+   * Gets the difficulty level.
+   *
+   * @return the difficulty
+   */
+  DifficultyLevel getDifficulty();
+
+  /**
+   * Gets the creation timestamp.
+   *
+   * @return the creation timestamp
+   */
+  LocalDateTime getCreatedAt();
+
+  /**
+   * Gets the last update timestamp.
+   *
+   * @return the last update timestamp
+   */
+  LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,46 @@
+package com.recipe_manager.model.dto.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Request DTO for generating one shopping list across the recipes of a meal plan. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public final class MealPlanShoppingListRequest {
+  /** Max number of recipes in one meal plan. */
+  private static final int MAX_RECIPES = 50;
+
+  /** The recipes in the meal plan. */
+  @NotNull(message = "Recipes list is required")
+  @NotEmpty(message = "Recipes list must not be empty")
+  @Size(max = MAX_RECIPES, message = "A meal plan may contain at most 50 recipes")
+  @Valid
+  private List<MealPlanRecipe> recipes;
+
+  /** Represents a recipe in the meal plan and how many times its servings are needed. */
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class MealPlanRecipe {
+    /** The recipe ID. */
+    @NotNull(message = "Recipe ID is required")
+    private Long recipeId;
+
+    /** Factor to scale the recipe's ingredient quantities by; defaults to 1. */
+    @DecimalMin(value = "0", inclusive = false, message = "Serving multiplier must be positive")
+    private BigDecimal servingMultiplier;
+  }
+}
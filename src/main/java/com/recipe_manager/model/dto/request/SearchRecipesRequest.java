@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.recipe_manager.model.enums.DifficultyLevel;
 import com.recipe_manager.model.enums.IngredientMatchMode;
+import com.recipe_manager.model.enums.TextSearchMode;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -52,4 +53,16 @@ public class SearchRecipesRequest {
 
   /** List of tag names to search for. */
   private List<String> tags;
+
+  /**
+   * How {@link #recipeNameQuery} is matched. Defaults to CONTAINS (substring match); FULL_TEXT
+   * uses the ranked full-text index and orders results by relevance.
+   */
+  @Builder.Default private TextSearchMode textSearchMode = TextSearchMode.CONTAINS;
+
+  /**
+   * Logic for tag matching. Defaults to OR (recipes must carry ANY of the specified tags); AND
+   * requires all of them and NONE excludes recipes carrying any of them.
+   */
+  @Builder.Default private IngredientMatchMode tagMatchMode = IngredientMatchMode.OR;
 }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.recipe_manager.model.dto.collection.CollectionCollaboratorDto;
 import com.recipe_manager.model.dto.collection.CollectionRecipeDto;
 import com.recipe_manager.model.dto.collection.CollectionTagDto;
@@ -17,7 +18,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * Response DTO for collection details endpoint matching OpenAPI specification. Contains full
- * collection metadata and list of recipes with their display order.
+ * collection metadata and the first page of recipes with their display order.
  */
 @Data
 @AllArgsConstructor
@@ -48,9 +49,19 @@ public final class CollectionDetailsDto {
   /** The last update timestamp. */
   private LocalDateTime updatedAt;
 
-  /** List of recipes in this collection (ordered by displayOrder). */
+  /** The total number of recipes in this collection. */
+  private Integer recipeCount;
+
+  /**
+   * The first page of recipes in this collection (ordered by displayOrder). Further pages are
+   * listed by the collection recipes endpoint starting from {@link #recipesNextCursor}.
+   */
   private List<CollectionRecipeDto> recipes;
 
+  /** Opaque cursor for the next page of recipes. Omitted when all recipes are listed. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String recipesNextCursor;
+
   /** List of collaborators for this collection. */
   private List<CollectionCollaboratorDto> collaborators;
 
@@ -0,0 +1,31 @@
+package com.recipe_manager.model.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.recipe_manager.model.dto.collection.CollectionRecipeDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the collection recipes endpoint. Contains one keyset page of the recipes in a
+ * collection, ordered by display order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public final class CollectionRecipesResponse {
+  /** The collection ID. */
+  private Long collectionId;
+
+  /** The recipes on this page (ordered by displayOrder). */
+  private List<CollectionRecipeDto> recipes;
+
+  /** Opaque cursor for the next page. Omitted on the last page. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
+}
@@ -0,0 +1,44 @@
+package com.recipe_manager.model.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Response DTO for the meal plan shopping list endpoint. Contains the combined shopping list items
+ * for all recipes in the meal plan.
+ */
+@Data
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+public final class MealPlanShoppingListResponse {
+  /** The IDs of the recipes in the meal plan, in request order. */
+  private List<Long> recipeIds;
+
+  /** List of shopping list items for all recipes. */
+  private List<ShoppingListItemDto> items;
+
+  /** Total count of shopping list items. */
+  private Integer totalCount;
+
+  /** Total estimated cost for all ingredients. */
+  private BigDecimal totalEstimatedCost;
+
+  /** Whether any item's estimated price is stale and being refreshed. */
+  private Boolean pricingStale;
+}
@@ -0,0 +1,40 @@
+package com.recipe_manager.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the recipe history endpoint. Contains a recipe's ingredients and steps as they
+ * were right after a given revision.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class RecipeHistoryResponse {
+  /** The recipe ID. */
+  private Long recipeId;
+
+  /** The revision the recipe is shown as of; null if the recipe has no revisions. */
+  private Long revisionId;
+
+  /** When that revision was made. */
+  private LocalDateTime revisionCreatedAt;
+
+  /** The ingredients as of the revision. */
+  private List<RecipeIngredientDto> ingredients;
+
+  /** The steps as of the revision, ordered by step number. */
+  private List<RecipeStepDto> steps;
+
+  /** Number of revisions replayed from the nearest snapshot or the current recipe. */
+  private int replayedRevisions;
+}
@@ -3,7 +3,7 @@ package com.recipe_manager.model.dto.response;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.recipe_manager.model.dto.recipe.RecipeDto;
+import com.recipe_manager.model.dto.recipe.RecipeView;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,8 +23,11 @@ import lombok.NoArgsConstructor;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class SearchRecipesResponse {
 
-  /** List of recipes matching the search criteria. */
-  private List<RecipeDto> recipes;
+  /**
+   * Recipes matching the search criteria: {@code RecipeSummaryDto} rows by default, or full {@code
+   * RecipeDto} graphs when details are requested.
+   */
+  private List<? extends RecipeView> recipes;
 
   /** Current page number (0-based). */
   private int page;
@@ -32,10 +35,10 @@ public class SearchRecipesResponse {
   /** Number of items per page. */
   private int size;
 
-  /** Total number of recipes matching the search criteria. */
+  /** Total number of recipes matching the search criteria; -1 in cursor mode (not counted). */
   private long totalElements;
 
-  /** Total number of pages available. */
+  /** Total number of pages available; -1 in cursor mode (not counted). */
   private int totalPages;
 
   /** Whether this is the first page. */
@@ -49,4 +52,10 @@ public class SearchRecipesResponse {
 
   /** Whether the current page is empty. */
   private boolean empty;
+
+  /**
+   * Opaque cursor for the next page in cursor (keyset) mode. Omitted on the last page and in
+   * offset mode.
+   */
+  private String nextCursor;
 }
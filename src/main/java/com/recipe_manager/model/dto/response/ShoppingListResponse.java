@@ -37,4 +37,7 @@ public final class ShoppingListResponse {
 
   /** Total estimated cost for all ingredients. */
   private java.math.BigDecimal totalEstimatedCost;
+
+  /** Whether any item's estimated price is stale and being refreshed. */
+  private Boolean pricingStale;
 }
@@ -2,6 +2,7 @@ package com.recipe_manager.model.dto.response;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.recipe_manager.model.dto.recipe.RecipeRevisionDto;
 
 import lombok.AllArgsConstructor;
@@ -34,6 +35,13 @@ public final class StepRevisionsResponse {
   /** The list of revisions for the step. */
   private List<RecipeRevisionDto> revisions;
 
-  /** The total number of revisions. */
+  /** The total number of revisions; the number on this page in cursor mode. */
   private Integer totalCount;
+
+  /**
+   * Opaque cursor for the next page in cursor (keyset) mode. Omitted on the last page and when
+   * all revisions are returned at once.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
 }
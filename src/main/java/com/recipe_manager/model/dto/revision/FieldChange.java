@@ -0,0 +1,23 @@
+package com.recipe_manager.model.dto.revision;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** The previous and new value of one field changed by an update revision. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public final class FieldChange {
+  /** The previous value before the change. */
+  @JsonProperty("previousValue")
+  private Object previousValue;
+
+  /** The new value after the change. */
+  @JsonProperty("newValue")
+  private Object newValue;
+}
@@ -1,6 +1,11 @@
 package com.recipe_manager.model.dto.revision;
 
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.recipe_manager.model.enums.IngredientField;
 
@@ -15,6 +20,9 @@ import lombok.extern.jackson.Jacksonized;
 /**
  * Revision data model for updating an existing ingredient in a recipe. Contains the field that was
  * changed and both the previous and new values.
+ *
+ * <p>An update that changes several fields of the same ingredient is stored as one revision whose
+ * {@code changes} map holds every changed field; the single-field properties are then unset.
  */
 @Data
 @Jacksonized
@@ -37,8 +45,34 @@ public final class IngredientUpdateRevision extends AbstractIngredientRevision {
   @JsonProperty("newValue")
   private Object newValue;
 
+  /** Every changed field, in field order, when more than one field changed. */
+  @JsonProperty("changes")
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  private Map<IngredientField, FieldChange> changes;
+
+  /**
+   * Returns every field this revision changed, whether it was stored as a single-field change or
+   * as a coalesced one.
+   *
+   * @return the changed fields mapped to their previous and new values
+   */
+  @JsonIgnore
+  public Map<IngredientField, FieldChange> getFieldChanges() {
+    if (changes != null && !changes.isEmpty()) {
+      return changes;
+    }
+    return changedField == null
+        ? Map.of()
+        : Map.of(changedField, new FieldChange(previousValue, newValue));
+  }
+
   @Override
   public boolean isValid() {
+    if (changes != null && !changes.isEmpty()) {
+      return hasValidIngredientData()
+          && changes.values().stream()
+              .allMatch(change -> !Objects.equals(change.getPreviousValue(), change.getNewValue()));
+    }
     return hasValidIngredientData()
         && changedField != null
         && previousValue != null
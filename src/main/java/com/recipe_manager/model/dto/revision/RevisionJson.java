@@ -0,0 +1,61 @@
+package com.recipe_manager.model.dto.revision;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe_manager.exception.RevisionSerializationException;
+
+/**
+ * Reads and writes revision JSON through a shared {@link ObjectReader} and {@link ObjectWriter}.
+ * Both are immutable and thread-safe; the reader is bound to {@link AbstractRevision}, so the
+ * polymorphic root deserializer is resolved once rather than on every call.
+ */
+public final class RevisionJson {
+
+  /** ObjectMapper instance configured with JavaTimeModule for JSON processing. */
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new JavaTimeModule());
+
+  /** Reader for stored revisions. */
+  private static final ObjectReader READER = OBJECT_MAPPER.readerFor(AbstractRevision.class);
+
+  /**
+   * Writer for revisions. Not bound to {@link AbstractRevision}: each revision is written with
+   * its own class's serializer and type id, exactly as {@code writeValueAsString} does.
+   */
+  private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+  private RevisionJson() {}
+
+  /**
+   * Reads a stored revision.
+   *
+   * @param json the revision JSON
+   * @return the revision
+   * @throws RevisionSerializationException if the JSON cannot be read
+   */
+  public static AbstractRevision read(final String json) {
+    try {
+      return READER.readValue(json);
+    } catch (JsonProcessingException e) {
+      throw new RevisionSerializationException("Failed to convert JSON to revision", e);
+    }
+  }
+
+  /**
+   * Writes a revision for storage or display.
+   *
+   * @param revision the revision
+   * @return the revision JSON
+   * @throws RevisionSerializationException if the revision cannot be written
+   */
+  public static String write(final AbstractRevision revision) {
+    try {
+      return WRITER.writeValueAsString(revision);
+    } catch (JsonProcessingException e) {
+      throw new RevisionSerializationException("Failed to convert revision to JSON", e);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.recipe_manager.model.dto.revision;
+
+/**
+ * A revision as stored in a JSONB column, deserialized only when it is needed.
+ *
+ * <p>Listing revisions only needs the stored text, which is passed through to the response as
+ * it is; replaying them needs the typed {@link AbstractRevision}, and usually only for the new
+ * data. A payload loaded from the database therefore keeps the column text and parses it on the
+ * first call to {@link #getRevision()}. A payload created from a revision object serializes it on
+ * the first call to {@link #getJson()} instead.
+ *
+ * <p>Payloads are values: equality is on the JSON text. The lazily computed form is cached
+ * without synchronization, so a payload belongs to one thread, like the entity that holds it.
+ */
+public final class RevisionPayload {
+
+  /** The revision JSON; null until first needed if created from a revision. */
+  private String json;
+
+  /** The typed revision; null until first needed if loaded from JSON. */
+  private AbstractRevision revision;
+
+  private RevisionPayload(final String json, final AbstractRevision revision) {
+    this.json = json;
+    this.revision = revision;
+  }
+
+  /**
+   * Wraps stored revision JSON without parsing it.
+   *
+   * @param json the stored JSON
+   * @return the payload, or null if there is no JSON
+   */
+  public static RevisionPayload ofJson(final String json) {
+    return json == null || json.isBlank() ? null : new RevisionPayload(json, null);
+  }
+
+  /**
+   * Wraps a revision without serializing it.
+   *
+   * @param revision the revision
+   * @return the payload, or null if there is no revision
+   */
+  public static RevisionPayload of(final AbstractRevision revision) {
+    return revision == null ? null : new RevisionPayload(null, revision);
+  }
+
+  /**
+   * Gets the revision JSON, serializing the revision on first use.
+   *
+   * @return the JSON
+   */
+  public String getJson() {
+    if (json == null) {
+      json = RevisionJson.write(revision);
+    }
+    return json;
+  }
+
+  /**
+   * Gets the typed revision, parsing the JSON on first use.
+   *
+   * @return the revision
+   * @throws com.recipe_manager.exception.RevisionSerializationException if the JSON is invalid
+   */
+  public AbstractRevision getRevision() {
+    if (revision == null) {
+      revision = RevisionJson.read(json);
+    }
+    return revision;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other
+        || other instanceof RevisionPayload payload && getJson().equals(payload.getJson());
+  }
+
+  @Override
+  public int hashCode() {
+    return getJson().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return getJson();
+  }
+}
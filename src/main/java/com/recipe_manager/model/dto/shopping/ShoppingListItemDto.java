@@ -43,4 +43,7 @@ public final class ShoppingListItemDto {
 
   /** The estimated price for this ingredient. */
   private BigDecimal estimatedPrice;
+
+  /** Whether the estimated price is older than the pricing TTL and is being refreshed. */
+  private Boolean priceStale;
 }
@@ -0,0 +1,19 @@
+package com.recipe_manager.model.entity;
+
+/**
+ * Shared settings for sequence-generated entity IDs.
+ *
+ * <p>Entities draw their IDs from pooled database sequences rather than identity columns, so
+ * Hibernate knows an ID before the insert and can defer and batch inserts. Each sequence call
+ * reserves a block of {@link #ALLOCATION_SIZE} IDs.
+ */
+public final class SequenceIds {
+
+  /**
+   * IDs reserved per sequence call. Must equal the {@code INCREMENT BY} of every ID sequence (see
+   * migration V007).
+   */
+  public static final int ALLOCATION_SIZE = 50;
+
+  private SequenceIds() {}
+}
@@ -3,12 +3,21 @@ package com.recipe_manager.model.entity.collection;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import com.recipe_manager.model.entity.SequenceIds;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -24,9 +33,15 @@ import lombok.ToString;
 /**
  * Entity representing a tag that can be applied to collections. Maps to the collection_tags table
  * in the database.
+ *
+ * <p>Tags are cached in the second-level cache, and their unique name is a natural ID whose
+ * resolution is cached too, so find-or-create by name usually avoids the database.
  */
 @Entity
 @Table(name = "collection_tags", schema = "recipe_manager")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CollectionTag.CACHE_REGION)
+@NaturalIdCache(region = CollectionTag.NATURAL_ID_CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,18 +50,30 @@ import lombok.ToString;
 @EqualsAndHashCode(exclude = "collections")
 @ToString(exclude = "collections")
 public class CollectionTag {
+  /** Second-level cache region for collection tags. */
+  public static final String CACHE_REGION = "collection-tags";
+
+  /** Cache region for name to ID resolutions. */
+  public static final String NATURAL_ID_CACHE_REGION = "collection-tags-natural-id";
+
   /** Max name length as defined in DB schema. */
   private static final int MAX_NAME_LENGTH = 50;
 
   /** The unique ID of the tag. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "collection_tags_tag_id_seq")
+  @SequenceGenerator(
+      name = "collection_tags_tag_id_seq",
+      sequenceName = "collection_tags_tag_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "tag_id")
   private Long tagId;
 
   /** The name of the tag. */
   @NotBlank
   @Size(max = MAX_NAME_LENGTH)
+  @NaturalId(mutable = true)
   @Column(name = "name", nullable = false, unique = true)
   private String name;
 
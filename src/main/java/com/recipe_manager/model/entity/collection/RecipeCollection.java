@@ -10,6 +10,7 @@ import org.hibernate.annotations.JdbcType;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.dialect.type.PostgreSQLEnumJdbcType;
 
+import com.recipe_manager.model.entity.SequenceIds;
 import com.recipe_manager.model.enums.CollaborationMode;
 import com.recipe_manager.model.enums.CollectionVisibility;
 
@@ -24,6 +25,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -56,7 +58,13 @@ public class RecipeCollection {
 
   /** The unique ID of the collection. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(
+      strategy = GenerationType.SEQUENCE, generator = "recipe_collections_collection_id_seq")
+  @SequenceGenerator(
+      name = "recipe_collections_collection_id_seq",
+      sequenceName = "recipe_collections_collection_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "collection_id")
   private Long collectionId;
 
@@ -89,6 +97,24 @@ public class RecipeCollection {
   @Column(name = "collaboration_mode", nullable = false)
   private CollaborationMode collaborationMode;
 
+  /**
+   * The number of recipes in the collection. Maintained with atomic updates through {@link
+   * com.recipe_manager.repository.collection.RecipeCollectionRepository#adjustRecipeCount}, so the
+   * entity never writes it.
+   */
+  @Column(name = "recipe_count", nullable = false, insertable = false, updatable = false)
+  @Default
+  private Integer recipeCount = 0;
+
+  /**
+   * The number of collaborators on the collection. Maintained like {@link #recipeCount} through
+   * {@link
+   * com.recipe_manager.repository.collection.RecipeCollectionRepository#adjustCollaboratorCount}.
+   */
+  @Column(name = "collaborator_count", nullable = false, insertable = false, updatable = false)
+  @Default
+  private Integer collaboratorCount = 0;
+
   /** The creation timestamp. */
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
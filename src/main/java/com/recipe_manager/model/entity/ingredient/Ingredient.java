@@ -3,11 +3,15 @@ package com.recipe_manager.model.entity.ingredient;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.recipe_manager.model.entity.SequenceIds;
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +19,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -28,9 +33,15 @@ import lombok.ToString;
 
 /**
  * Entity representing an ingredient in the system. Maps to the ingredients table in the database.
+ *
+ * <p>Ingredients are reference data that is read on nearly every recipe write and rarely changes,
+ * so they are kept in the second-level cache. Names are only unique case-insensitively, so name
+ * lookups use the query cache rather than a natural ID.
  */
 @Entity
 @Table(name = "ingredients", schema = "recipe_manager")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Ingredient.CACHE_REGION)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -39,12 +50,20 @@ import lombok.ToString;
 @EqualsAndHashCode(exclude = "recipeIngredients")
 @ToString(exclude = "recipeIngredients")
 public class Ingredient {
+  /** Second-level cache region for ingredients. */
+  public static final String CACHE_REGION = "ingredients";
+
   /** Max length allowed by database schema. */
   private static final int MAX_INGREDIENT_NAME_LENGTH = 255;
 
   /** The unique ID of the ingredient. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingredients_ingredient_id_seq")
+  @SequenceGenerator(
+      name = "ingredients_ingredient_id_seq",
+      sequenceName = "ingredients_ingredient_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "ingredient_id")
   private Long ingredientId;
 
@@ -3,6 +3,8 @@ package com.recipe_manager.model.entity.ingredient;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.recipe_manager.model.entity.SequenceIds;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +14,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,7 +32,13 @@ public class IngredientComment {
 
   /** The unique identifier for the comment. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(
+      strategy = GenerationType.SEQUENCE, generator = "ingredient_comments_comment_id_seq")
+  @SequenceGenerator(
+      name = "ingredient_comments_comment_id_seq",
+      sequenceName = "ingredient_comments_comment_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "comment_id")
   private Long commentId;
 
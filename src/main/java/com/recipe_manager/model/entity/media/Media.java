@@ -8,6 +8,7 @@ import org.hibernate.annotations.JdbcType;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.dialect.type.PostgreSQLEnumJdbcType;
 
+import com.recipe_manager.model.entity.SequenceIds;
 import com.recipe_manager.model.enums.MediaType;
 import com.recipe_manager.model.enums.ProcessingStatus;
 
@@ -17,6 +18,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -45,7 +47,12 @@ public class Media {
 
   /** The unique ID of the media. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "media_media_id_seq")
+  @SequenceGenerator(
+      name = "media_media_id_seq",
+      sequenceName = "media_media_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "media_id")
   private Long mediaId;
 
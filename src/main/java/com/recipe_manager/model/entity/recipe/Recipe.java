@@ -11,6 +11,7 @@ import org.hibernate.annotations.JdbcType;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.dialect.type.PostgreSQLEnumJdbcType;
 
+import com.recipe_manager.model.entity.SequenceIds;
 import com.recipe_manager.model.enums.DifficultyLevel;
 
 import jakarta.persistence.CascadeType;
@@ -25,6 +26,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -76,7 +78,12 @@ public class Recipe {
 
   /** The unique ID of the recipe. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_recipe_id_seq")
+  @SequenceGenerator(
+      name = "recipes_recipe_id_seq",
+      sequenceName = "recipes_recipe_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "recipe_id")
   private Long recipeId;
 
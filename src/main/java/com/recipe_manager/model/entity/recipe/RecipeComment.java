@@ -3,6 +3,8 @@ package com.recipe_manager.model.entity.recipe;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.recipe_manager.model.entity.SequenceIds;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +15,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -32,7 +35,12 @@ public class RecipeComment {
 
   /** The unique identifier for the comment. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_comments_comment_id_seq")
+  @SequenceGenerator(
+      name = "recipe_comments_comment_id_seq",
+      sequenceName = "recipe_comments_comment_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "comment_id")
   private Long commentId;
 
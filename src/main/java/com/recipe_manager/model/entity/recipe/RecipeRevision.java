@@ -7,8 +7,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcType;
 import org.hibernate.dialect.type.PostgreSQLEnumJdbcType;
 
-import com.recipe_manager.model.converter.RevisionDataConverter;
+import com.recipe_manager.model.converter.RevisionPayloadConverter;
+import com.recipe_manager.model.dto.revision.AbstractIngredientRevision;
 import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.AbstractStepRevision;
+import com.recipe_manager.model.dto.revision.RevisionPayload;
+import com.recipe_manager.model.entity.SequenceIds;
 import com.recipe_manager.model.enums.RevisionCategory;
 import com.recipe_manager.model.enums.RevisionType;
 
@@ -22,11 +26,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Builder.Default;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,20 +40,28 @@ import lombok.ToString;
 
 /**
  * Entity representing a revision to a recipe. Maps to the recipe_revisions table in the database.
+ *
+ * <p>The previous and new data are held as {@link RevisionPayload}s: loading a revision keeps the
+ * JSONB text, which revision listings pass through unchanged, and {@link #getPreviousData()} and
+ * {@link #getNewData()} parse it only when called.
  */
 @Entity
 @Table(name = "recipe_revisions", schema = "recipe_manager")
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
-@Builder
 @EqualsAndHashCode
 @ToString
 public class RecipeRevision {
   /** The unique ID of the revision. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(
+      strategy = GenerationType.SEQUENCE, generator = "recipe_revisions_revision_id_seq")
+  @SequenceGenerator(
+      name = "recipe_revisions_revision_id_seq",
+      sequenceName = "recipe_revisions_revision_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "revision_id")
   private Long revisionId;
 
@@ -77,17 +90,27 @@ public class RecipeRevision {
   @Column(name = "revision_type", nullable = false)
   private RevisionType revisionType;
 
-  /** The previous data as a typed revision object. */
+  /** The previous data, parsed on demand. */
   @NotNull
+  @Setter(AccessLevel.NONE)
   @Column(name = "previous_data", columnDefinition = "jsonb", nullable = false)
-  @Convert(converter = RevisionDataConverter.class)
-  private AbstractRevision previousData;
+  @Convert(converter = RevisionPayloadConverter.class)
+  private RevisionPayload previousPayload;
 
-  /** The new data as a typed revision object. */
+  /** The new data, parsed on demand. */
   @NotNull
+  @Setter(AccessLevel.NONE)
   @Column(name = "new_data", columnDefinition = "jsonb", nullable = false)
-  @Convert(converter = RevisionDataConverter.class)
-  private AbstractRevision newData;
+  @Convert(converter = RevisionPayloadConverter.class)
+  private RevisionPayload newPayload;
+
+  /** The step the revision applies to, for step revisions; copied from the data on insert. */
+  @Column(name = "step_id")
+  private Long stepId;
+
+  /** The ingredient the revision applies to, for ingredient revisions; copied on insert. */
+  @Column(name = "ingredient_id")
+  private Long ingredientId;
 
   /** The change comment. */
   @Column(name = "change_comment", columnDefinition = "text")
@@ -96,6 +119,87 @@ public class RecipeRevision {
   /** The creation timestamp. */
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
-  @Default
   private LocalDateTime createdAt = LocalDateTime.now();
+
+  /**
+   * Creates a revision.
+   *
+   * @param revisionId the revision ID
+   * @param recipe the recipe the revision belongs to
+   * @param userId the user who made the revision
+   * @param revisionCategory the revision category
+   * @param revisionType the revision type
+   * @param previousData the previous data
+   * @param newData the new data
+   * @param changeComment the change comment
+   * @param createdAt the creation timestamp, or null for now
+   */
+  @Builder
+  public RecipeRevision(
+      final Long revisionId,
+      final Recipe recipe,
+      final UUID userId,
+      final RevisionCategory revisionCategory,
+      final RevisionType revisionType,
+      final AbstractRevision previousData,
+      final AbstractRevision newData,
+      final String changeComment,
+      final LocalDateTime createdAt) {
+    this.revisionId = revisionId;
+    this.recipe = recipe;
+    this.userId = userId;
+    this.revisionCategory = revisionCategory;
+    this.revisionType = revisionType;
+    this.previousPayload = RevisionPayload.of(previousData);
+    this.newPayload = RevisionPayload.of(newData);
+    this.changeComment = changeComment;
+    this.createdAt = createdAt == null ? LocalDateTime.now() : createdAt;
+  }
+
+  /**
+   * Gets the previous data as a typed revision object, parsing it on first access.
+   *
+   * @return the previous data
+   */
+  public AbstractRevision getPreviousData() {
+    return previousPayload == null ? null : previousPayload.getRevision();
+  }
+
+  /**
+   * Sets the previous data.
+   *
+   * @param previousData the previous data
+   */
+  public void setPreviousData(final AbstractRevision previousData) {
+    this.previousPayload = RevisionPayload.of(previousData);
+  }
+
+  /**
+   * Gets the new data as a typed revision object, parsing it on first access.
+   *
+   * @return the new data
+   */
+  public AbstractRevision getNewData() {
+    return newPayload == null ? null : newPayload.getRevision();
+  }
+
+  /**
+   * Sets the new data.
+   *
+   * @param newData the new data
+   */
+  public void setNewData(final AbstractRevision newData) {
+    this.newPayload = RevisionPayload.of(newData);
+  }
+
+  /** Copy the step or ingredient ID out of the revision data before persisting. */
+  @PrePersist
+  public void onCreate() {
+    AbstractRevision data = getNewData() != null ? getNewData() : getPreviousData();
+    if (data instanceof AbstractStepRevision step) {
+      stepId = step.getStepId();
+    } else if (data instanceof AbstractIngredientRevision ingredient) {
+      ingredientId = ingredient.getIngredientId();
+    }
+  }
 }
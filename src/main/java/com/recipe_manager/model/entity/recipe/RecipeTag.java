@@ -3,12 +3,21 @@ package com.recipe_manager.model.entity.recipe;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import com.recipe_manager.model.entity.SequenceIds;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -24,9 +33,15 @@ import lombok.ToString;
 /**
  * Entity representing a tag that can be applied to recipes. Maps to the recipe_tags table in the
  * database.
+ *
+ * <p>Tags are cached in the second-level cache, and their unique name is a natural ID whose
+ * resolution is cached too, so find-or-create by name usually avoids the database.
  */
 @Entity
 @Table(name = "recipe_tags", schema = "recipe_manager")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RecipeTag.CACHE_REGION)
+@NaturalIdCache(region = RecipeTag.NATURAL_ID_CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,18 +50,30 @@ import lombok.ToString;
 @EqualsAndHashCode(exclude = "recipes")
 @ToString(exclude = "recipes")
 public class RecipeTag {
+  /** Second-level cache region for recipe tags. */
+  public static final String CACHE_REGION = "recipe-tags";
+
+  /** Cache region for name to ID resolutions. */
+  public static final String NATURAL_ID_CACHE_REGION = "recipe-tags-natural-id";
+
   /** Max name length as defined in DB schema. */
   private static final int MAX_NAME_LENGTH = 50;
 
   /** The unique ID of the tag. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_tags_tag_id_seq")
+  @SequenceGenerator(
+      name = "recipe_tags_tag_id_seq",
+      sequenceName = "recipe_tags_tag_id_seq",
+      schema = "recipe_manager",
+      allocationSize = SequenceIds.ALLOCATION_SIZE)
   @Column(name = "tag_id")
   private Long tagId;
 
   /** The name of the tag. */
   @NotBlank
   @Size(max = MAX_NAME_LENGTH)
+  @NaturalId(mutable = true)
   @Column(name = "name", nullable = false, unique = true)
   private String name;
 
@@ -5,5 +5,7 @@ public enum IngredientMatchMode {
   /** Recipes must contain ALL specified ingredients. */
   AND,
   /** Recipes must contain ANY of the specified ingredients. */
-  OR
+  OR,
+  /** Recipes must contain NONE of the specified ingredients. */
+  NONE
 }
@@ -1,28 +1,35 @@
 package com.recipe_manager.model.enums;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+
 /**
  * Enum representing the unit of measurement for ingredients. Maps to the ingredient_unit_enum in
  * the database.
+ *
+ * <p>Each unit also carries its conversion to a canonical unit: weights convert to grams and
+ * volumes to milliliters (US customary cup and spoons). Count-like units such as PIECE or CAN have
+ * no common measure and are their own canonical unit, so they only combine with themselves.
  */
 public enum IngredientUnit {
   /** Gram. */
   G,
   /** Kilogram. */
-  KG,
+  KG(G, "1000"),
   /** Ounce. */
-  OZ,
+  OZ(G, "28.349523125"),
   /** Pound. */
-  LB,
+  LB(G, "453.59237"),
   /** Milliliter. */
   ML,
   /** Liter. */
-  L,
+  L(ML, "1000"),
   /** Cup. */
-  CUP,
+  CUP(ML, "236.5882365"),
   /** Tablespoon. */
-  TBSP,
+  TBSP(ML, "14.78676478125"),
   /** Teaspoon. */
-  TSP,
+  TSP(ML, "4.92892159375"),
   /** Piece. */
   PIECE,
   /** Clove (garlic, etc.). */
@@ -38,5 +45,61 @@ public enum IngredientUnit {
   /** Packet. */
   PACKET,
   /** Unit. */
-  UNIT
+  UNIT;
+
+  /** The canonical unit, or null if this unit is canonical. */
+  private final IngredientUnit canonicalUnit;
+
+  /** How many canonical units one of this unit is. */
+  private final BigDecimal canonicalFactor;
+
+  IngredientUnit() {
+    this.canonicalUnit = null;
+    this.canonicalFactor = BigDecimal.ONE;
+  }
+
+  IngredientUnit(final IngredientUnit canonicalUnit, final String canonicalFactor) {
+    this.canonicalUnit = canonicalUnit;
+    this.canonicalFactor = new BigDecimal(canonicalFactor);
+  }
+
+  /**
+   * Gets the canonical unit quantities of this unit convert to.
+   *
+   * @return the canonical unit; this unit if it is canonical
+   */
+  public IngredientUnit getCanonicalUnit() {
+    return canonicalUnit == null ? this : canonicalUnit;
+  }
+
+  /**
+   * Gets how many canonical units one of this unit is.
+   *
+   * @return the conversion factor; one for canonical units
+   */
+  public BigDecimal getCanonicalFactor() {
+    return canonicalFactor;
+  }
+
+  /**
+   * Converts a quantity in this unit to the canonical unit.
+   *
+   * @param quantity the quantity in this unit
+   * @return the quantity in the canonical unit
+   */
+  public BigDecimal toCanonical(final BigDecimal quantity) {
+    return canonicalUnit == null ? quantity : quantity.multiply(canonicalFactor);
+  }
+
+  /**
+   * Converts a quantity in the canonical unit to this unit.
+   *
+   * @param canonicalQuantity the quantity in the canonical unit
+   * @return the quantity in this unit
+   */
+  public BigDecimal fromCanonical(final BigDecimal canonicalQuantity) {
+    return canonicalUnit == null
+        ? canonicalQuantity
+        : canonicalQuantity.divide(canonicalFactor, MathContext.DECIMAL64);
+  }
 }
@@ -0,0 +1,12 @@
+package com.recipe_manager.model.enums;
+
+/** Strategy used to match the free-text query of a recipe search. */
+public enum TextSearchMode {
+  /** Case-insensitive substring match on recipe title and description. */
+  CONTAINS,
+  /**
+   * Ranked full-text match against the indexed search document built from the recipe title,
+   * description, tag names and ingredient names. Results are ordered by relevance.
+   */
+  FULL_TEXT
+}
@@ -13,6 +13,7 @@ import com.recipe_manager.model.dto.response.CollectionSummaryResponse;
 import com.recipe_manager.model.entity.collection.CollectionCollaborator;
 import com.recipe_manager.model.entity.collection.RecipeCollection;
 import com.recipe_manager.model.entity.collection.RecipeCollectionItem;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
 import com.recipe_manager.repository.collection.CollectionSummaryProjection;
 
 /** MapStruct mapper for converting collection response objects. */
@@ -39,21 +40,13 @@ public interface CollectionMapper {
   CollectionDto fromProjection(CollectionSummaryProjection projection);
 
   /**
-   * Converts RecipeCollection entity to CollectionDto (for API response). Calculates recipe count
-   * and collaborator count from the entity's collections.
+   * Converts RecipeCollection entity to CollectionDto (for API response). Recipe and collaborator
+   * counts come from the collection's stored count columns, so the items and collaborators are
+   * not loaded.
    *
    * @param collection the recipe collection entity
    * @return the API response DTO
    */
-  @Mapping(
-      target = "recipeCount",
-      expression =
-          "java(collection.getCollectionItems() != null ? collection.getCollectionItems().size() :"
-              + " 0)")
-  @Mapping(
-      target = "collaboratorCount",
-      expression =
-          "java(collection.getCollaborators() != null ? collection.getCollaborators().size() : 0)")
   CollectionDto toDto(RecipeCollection collection);
 
   /**
@@ -65,10 +58,25 @@ public interface CollectionMapper {
    * @return the detailed collection DTO with recipes, collaborators, and tags
    */
   @Mapping(target = "recipes", source = "collectionItems")
+  @Mapping(target = "recipesNextCursor", ignore = true)
   @Mapping(target = "collaborators", source = "collaborators")
   @Mapping(target = "tags", source = "collectionTags")
   CollectionDetailsDto toDetailsDto(RecipeCollection collection);
 
+  /**
+   * Converts RecipeCollection entity to CollectionDetailsDto without its recipes. The collection
+   * items are not touched; callers fill in a page of recipes from {@link
+   * #fromRecipeProjections}.
+   *
+   * @param collection the recipe collection entity
+   * @return the detailed collection DTO with collaborators and tags, and no recipes
+   */
+  @Mapping(target = "recipes", ignore = true)
+  @Mapping(target = "recipesNextCursor", ignore = true)
+  @Mapping(target = "collaborators", source = "collaborators")
+  @Mapping(target = "tags", source = "collectionTags")
+  CollectionDetailsDto toDetailsDtoWithoutRecipes(RecipeCollection collection);
+
   /**
    * Converts RecipeCollectionItem entity to CollectionRecipeDto. Extracts recipe information from
    * the recipe relationship.
@@ -89,6 +97,22 @@ public interface CollectionMapper {
    */
   List<CollectionRecipeDto> toRecipeDtoList(List<RecipeCollectionItem> items);
 
+  /**
+   * Converts a collection recipe projection to CollectionRecipeDto.
+   *
+   * @param projection the collection recipe projection
+   * @return the recipe DTO with display order and audit info
+   */
+  CollectionRecipeDto fromRecipeProjection(CollectionRecipeProjection projection);
+
+  /**
+   * Converts a list of collection recipe projections to a list of CollectionRecipeDto.
+   *
+   * @param projections the collection recipe projections
+   * @return the list of recipe DTOs
+   */
+  List<CollectionRecipeDto> fromRecipeProjections(List<CollectionRecipeProjection> projections);
+
   /**
    * Converts CollectionCollaborator entity to CollectionCollaboratorDto.
    *
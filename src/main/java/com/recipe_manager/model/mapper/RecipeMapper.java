@@ -5,8 +5,10 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import com.recipe_manager.model.dto.recipe.RecipeDto;
+import com.recipe_manager.model.dto.recipe.RecipeSummaryDto;
 import com.recipe_manager.model.dto.request.UpdateRecipeRequest;
 import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.repository.recipe.RecipeSummaryProjection;
 
 /** MapStruct mapper for updating Recipe from UpdateRecipeRequest, including nested collections. */
 @Mapper(
@@ -34,6 +36,14 @@ public interface RecipeMapper {
   @Mapping(target = "comments", source = "recipeComments")
   RecipeDto toDto(Recipe recipe);
 
+  /**
+   * Maps a recipe summary projection to a RecipeSummaryDto.
+   *
+   * @param projection the summary row
+   * @return the mapped RecipeSummaryDto
+   */
+  RecipeSummaryDto toSummaryDto(RecipeSummaryProjection projection);
+
   /**
    * Updates the given Recipe entity with values from the UpdateRecipeRequest. Only non-null fields
    * in the request will be updated.
@@ -6,30 +6,24 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.recipe_manager.exception.RevisionSerializationException;
 import com.recipe_manager.model.dto.recipe.RecipeRevisionDto;
-import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.RevisionPayload;
 import com.recipe_manager.model.entity.recipe.RecipeRevision;
 
 /** MapStruct mapper for converting between RecipeRevision entity and RecipeRevisionDto. */
 @Mapper(componentModel = "spring")
 public interface RecipeRevisionMapper {
 
-  /** ObjectMapper instance configured with JavaTimeModule for JSON processing. */
-  ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
-
   /**
-   * Maps a RecipeRevision entity to a RecipeRevisionDto.
+   * Maps a RecipeRevision entity to a RecipeRevisionDto. The revision data is copied as the JSON
+   * stored in the database, without being parsed and written again.
    *
    * @param entity the RecipeRevision entity
    * @return the mapped RecipeRevisionDto
    */
   @Mapping(target = "recipeId", source = "recipe.recipeId")
-  @Mapping(target = "previousData", source = "previousData", qualifiedByName = "revisionToString")
-  @Mapping(target = "newData", source = "newData", qualifiedByName = "revisionToString")
+  @Mapping(target = "previousData", source = "previousPayload", qualifiedByName = "payloadToString")
+  @Mapping(target = "newData", source = "newPayload", qualifiedByName = "payloadToString")
   RecipeRevisionDto toDto(RecipeRevision entity);
 
   /**
@@ -41,20 +35,13 @@ public interface RecipeRevisionMapper {
   List<RecipeRevisionDto> toDtoList(List<RecipeRevision> entities);
 
   /**
-   * Converts an AbstractRevision object to its JSON string representation.
+   * Gets a revision payload's JSON, which for a loaded revision is the stored text as is.
    *
-   * @param revision the revision object
+   * @param payload the revision payload
    * @return the JSON string representation
    */
-  @Named("revisionToString")
-  default String revisionToString(AbstractRevision revision) {
-    if (revision == null) {
-      return null;
-    }
-    try {
-      return OBJECT_MAPPER.writeValueAsString(revision);
-    } catch (JsonProcessingException e) {
-      throw new RevisionSerializationException("Failed to convert revision to JSON string", e);
-    }
+  @Named("payloadToString")
+  default String payloadToString(RevisionPayload payload) {
+    return payload == null ? null : payload.getJson();
   }
 }
@@ -3,7 +3,6 @@ package com.recipe_manager.model.mapper;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,7 +11,7 @@ import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInf
 import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
 import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
-import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.util.ShoppingListAggregator;
 
 /** MapStruct mapper for converting RecipeIngredient entities to shopping list items. */
 @Mapper(componentModel = "spring")
@@ -30,61 +29,23 @@ public interface ShoppingListMapper {
   @Mapping(target = "unit", source = "unit")
   @Mapping(target = "isOptional", source = "isOptional")
   @Mapping(target = "estimatedPrice", ignore = true)
+  @Mapping(target = "priceStale", ignore = true)
   ShoppingListItemDto toShoppingListItem(RecipeIngredient entity);
 
   /**
    * Converts a list of RecipeIngredient entities to a list of aggregated ShoppingListItemDto.
-   * Ingredients with the same name and unit are combined, with quantities summed.
+   * Ingredients with the same name are combined when their units convert to the same canonical
+   * unit, with quantities summed (see {@link ShoppingListAggregator}).
    *
    * @param entities the list of RecipeIngredient entities
    * @return the aggregated list of ShoppingListItemDto
    */
   default List<ShoppingListItemDto> toAggregatedShoppingListItems(List<RecipeIngredient> entities) {
-    // Group by ingredient name and unit
-    Map<String, List<RecipeIngredient>> groupedIngredients =
-        entities.stream()
-            .collect(
-                Collectors.groupingBy(
-                    entity -> entity.getIngredient().getName() + "_" + entity.getUnit()));
-
-    return groupedIngredients.values().stream().map(this::aggregateIngredients).toList();
-  }
-
-  /**
-   * Aggregates a list of RecipeIngredient entities with the same name and unit into a single
-   * ShoppingListItemDto.
-   *
-   * @param ingredients the list of ingredients to aggregate
-   * @return the aggregated ShoppingListItemDto
-   */
-  default ShoppingListItemDto aggregateIngredients(List<RecipeIngredient> ingredients) {
-    if (ingredients.isEmpty()) {
-      return null;
+    ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    for (RecipeIngredient entity : entities) {
+      aggregator.add(entity, BigDecimal.ONE);
     }
-
-    RecipeIngredient first = ingredients.get(0);
-    Long ingredientId = first.getIngredient().getIngredientId();
-    String ingredientName = first.getIngredient().getName();
-    IngredientUnit unit = first.getUnit();
-
-    // Sum quantities
-    BigDecimal totalQuantity =
-        ingredients.stream()
-            .map(RecipeIngredient::getQuantity)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    // If any ingredient is required (not optional), the shopping list item is
-    // required
-    boolean isOptional = ingredients.stream().allMatch(RecipeIngredient::getIsOptional);
-
-    return ShoppingListItemDto.builder()
-        .ingredientId(ingredientId)
-        .ingredientName(ingredientName)
-        .totalQuantity(totalQuantity)
-        .unit(unit)
-        .isOptional(isOptional)
-        .estimatedPrice(null) // Will be set by mergeWithPricingData if available
-        .build();
+    return aggregator.toItems();
   }
 
   /**
@@ -0,0 +1,26 @@
+package com.recipe_manager.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository for entities with a simple {@code @NaturalId}. Lookups by natural ID go through
+ * Hibernate's natural-id cache and second-level entity cache, so repeated lookups of the same value
+ * do not reach the database.
+ *
+ * @param <T> the entity type
+ * @param <I> the identifier type
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, I> extends JpaRepository<T, I> {
+
+  /**
+   * Find an entity by its natural ID. The match is exact, including case.
+   *
+   * @param naturalId the natural ID value
+   * @return Optional containing the entity if found, empty otherwise
+   */
+  Optional<T> findBySimpleNaturalId(Object naturalId);
+}
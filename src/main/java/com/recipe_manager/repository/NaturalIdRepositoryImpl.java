@@ -0,0 +1,46 @@
+package com.recipe_manager.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Base repository implementation for every JPA repository in the service. Repositories whose
+ * interface extends {@link NaturalIdRepository} get natural-id lookups; all others behave exactly
+ * like {@link SimpleJpaRepository}.
+ *
+ * @param <T> the entity type
+ * @param <I> the identifier type
+ */
+@Transactional(readOnly = true)
+public class NaturalIdRepositoryImpl<T, I> extends SimpleJpaRepository<T, I>
+    implements NaturalIdRepository<T, I> {
+
+  /** Entity manager bound to the current persistence context. */
+  private final EntityManager entityManager;
+
+  /**
+   * Creates a new NaturalIdRepositoryImpl.
+   *
+   * @param entityInformation metadata for the managed entity
+   * @param entityManager the entity manager
+   */
+  public NaturalIdRepositoryImpl(
+      final JpaEntityInformation<T, ?> entityInformation, final EntityManager entityManager) {
+    super(entityInformation, entityManager);
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Optional<T> findBySimpleNaturalId(final Object naturalId) {
+    return entityManager
+        .unwrap(Session.class)
+        .bySimpleNaturalId(getDomainClass())
+        .loadOptional(naturalId);
+  }
+}
@@ -1,5 +1,6 @@
 package com.recipe_manager.repository.collection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +28,27 @@ public interface CollectionCollaboratorRepository
    */
   List<CollectionCollaborator> findByIdCollectionId(Long collectionId);
 
+  /**
+   * Finds the user IDs of all collaborators on a collection.
+   *
+   * @param collectionId the collection ID
+   * @return list of collaborator user IDs
+   */
+  @Query(
+      "SELECT cc.id.userId FROM CollectionCollaborator cc WHERE cc.id.collectionId ="
+          + " :collectionId")
+  List<UUID> findUserIdsByCollectionId(@Param("collectionId") Long collectionId);
+
+  /**
+   * Finds the collaborator keys (collection and user ID) of several collections at once.
+   *
+   * @param collectionIds the collection IDs
+   * @return list of collaborator keys
+   */
+  @Query("SELECT cc.id FROM CollectionCollaborator cc WHERE cc.id.collectionId IN :collectionIds")
+  List<CollectionCollaboratorId> findIdsByCollectionIdIn(
+      @Param("collectionIds") Collection<Long> collectionIds);
+
   /**
    * Finds all collections where a user is a collaborator.
    *
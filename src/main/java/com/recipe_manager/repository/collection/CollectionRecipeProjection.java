@@ -0,0 +1,52 @@
+package com.recipe_manager.repository.collection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a collection item with the recipe title and description. Used to list the recipes
+ * in a collection without loading item or recipe entities.
+ */
+public interface CollectionRecipeProjection {
+  /**
+   * Gets the recipe ID.
+   *
+   * @return the recipe ID
+   */
+  Long getRecipeId();
+
+  /**
+   * Gets the recipe title.
+   *
+   * @return the recipe title
+   */
+  String getRecipeTitle();
+
+  /**
+   * Gets the recipe description.
+   *
+   * @return the recipe description
+   */
+  String getRecipeDescription();
+
+  /**
+   * Gets the display order of the recipe in the collection.
+   *
+   * @return the display order
+   */
+  Integer getDisplayOrder();
+
+  /**
+   * Gets the user ID who added the recipe to the collection.
+   *
+   * @return the user ID
+   */
+  UUID getAddedBy();
+
+  /**
+   * Gets the timestamp when the recipe was added to the collection.
+   *
+   * @return the added timestamp
+   */
+  LocalDateTime getAddedAt();
+}
@@ -7,8 +7,9 @@ import com.recipe_manager.model.enums.CollaborationMode;
 import com.recipe_manager.model.enums.CollectionVisibility;
 
 /**
- * Projection interface for collection summary data from database views. Used by Spring Data JPA to
- * map query results from vw_collection_summary view.
+ * Projection interface for collection summary data. Used by Spring Data JPA to map the native
+ * collection listing queries, which read recipe and collaborator counts from the stored count
+ * columns on recipe_collections.
  */
 public interface CollectionSummaryProjection {
   /**
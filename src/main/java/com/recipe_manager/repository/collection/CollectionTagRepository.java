@@ -2,17 +2,22 @@ package com.recipe_manager.repository.collection;
 
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.recipe_manager.model.entity.collection.CollectionTag;
+import com.recipe_manager.repository.NaturalIdRepository;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for CollectionTag entity. Provides CRUD operations and custom query methods
- * for collection tags.
+ * for collection tags. Exact name lookups use the natural-id cache; case-insensitive lookups are
+ * served from the query cache.
  */
 @Repository
-public interface CollectionTagRepository extends JpaRepository<CollectionTag, Long> {
+public interface CollectionTagRepository extends NaturalIdRepository<CollectionTag, Long> {
 
   /**
    * Find a tag by its name (case insensitive).
@@ -20,6 +25,7 @@ public interface CollectionTagRepository extends JpaRepository<CollectionTag, Lo
    * @param name the tag name to search for
    * @return Optional containing the tag if found, empty otherwise
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<CollectionTag> findByNameIgnoreCase(String name);
 
   /**
@@ -28,5 +34,6 @@ public interface CollectionTagRepository extends JpaRepository<CollectionTag, Lo
    * @param name the tag name to check
    * @return true if tag exists, false otherwise
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   boolean existsByNameIgnoreCase(String name);
 }
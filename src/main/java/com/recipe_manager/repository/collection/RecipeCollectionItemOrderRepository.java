@@ -0,0 +1,20 @@
+package com.recipe_manager.repository.collection;
+
+import java.util.Map;
+
+/**
+ * Bulk display-order updates for recipe collection items, mixed into {@link
+ * RecipeCollectionItemRepository}.
+ */
+public interface RecipeCollectionItemOrderRepository {
+
+  /**
+   * Sets the display order of several recipes in a collection with a single statement.
+   *
+   * @param collectionId the collection ID
+   * @param displayOrders the new display order of each recipe, keyed by recipe ID
+   * @return the number of items updated; fewer than requested if some recipes are not in the
+   *     collection
+   */
+  int updateDisplayOrders(Long collectionId, Map<Long, Integer> displayOrders);
+}
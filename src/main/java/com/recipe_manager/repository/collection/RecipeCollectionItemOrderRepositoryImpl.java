@@ -0,0 +1,60 @@
+package com.recipe_manager.repository.collection;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+
+import com.recipe_manager.model.entity.collection.RecipeCollectionItem;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native implementation of {@link RecipeCollectionItemOrderRepository}.
+ *
+ * <p>The new orders are joined in as a {@code VALUES} list, so reordering any number of recipes is
+ * one round trip rather than a select and an update per recipe. Managed items are not refreshed;
+ * callers reload the collection afterwards. The statement is synchronized on {@link
+ * RecipeCollectionItem}, so Hibernate invalidates only that entity's cached data rather than
+ * every second-level cache region and the query cache.
+ */
+public class RecipeCollectionItemOrderRepositoryImpl
+    implements RecipeCollectionItemOrderRepository {
+
+  /** Statement prefix; the VALUES rows and the collection filter are appended per call. */
+  static final String UPDATE_DISPLAY_ORDERS_SQL =
+      "UPDATE recipe_manager.recipe_collection_items AS i "
+          + "SET display_order = v.display_order "
+          + "FROM (VALUES %s) AS v(recipe_id, display_order) "
+          + "WHERE i.collection_id = ? AND i.recipe_id = v.recipe_id";
+
+  /** One row of the VALUES list, typed so that PostgreSQL need not infer it. */
+  static final String VALUES_ROW = "(CAST(? AS BIGINT), CAST(? AS INTEGER))";
+
+  /** Entity manager bound to the current transaction. */
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public int updateDisplayOrders(final Long collectionId, final Map<Long, Integer> displayOrders) {
+    if (displayOrders.isEmpty()) {
+      return 0;
+    }
+
+    String rows = String.join(", ", Collections.nCopies(displayOrders.size(), VALUES_ROW));
+    NativeQuery<?> query =
+        entityManager
+            .createNativeQuery(String.format(UPDATE_DISPLAY_ORDERS_SQL, rows))
+            .unwrap(NativeQuery.class);
+    query.addSynchronizedEntityClass(RecipeCollectionItem.class);
+
+    int position = 1;
+    for (Map.Entry<Long, Integer> entry : displayOrders.entrySet()) {
+      query.setParameter(position++, entry.getKey());
+      query.setParameter(position++, entry.getValue());
+    }
+    query.setParameter(position, collectionId);
+
+    return query.executeUpdate();
+  }
+}
@@ -1,8 +1,10 @@
 package com.recipe_manager.repository.collection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,10 +16,14 @@ import com.recipe_manager.model.entity.collection.RecipeCollectionItemId;
 /**
  * Repository interface for RecipeCollectionItem entity operations. Handles recipe-to-collection
  * associations with custom ordering.
+ *
+ * <p>Display orders are gapped: new items are appended one increment past the current maximum, so
+ * an item can later be moved between two neighbours by updating its row alone.
  */
 @Repository
 public interface RecipeCollectionItemRepository
-    extends JpaRepository<RecipeCollectionItem, RecipeCollectionItemId> {
+    extends JpaRepository<RecipeCollectionItem, RecipeCollectionItemId>,
+        RecipeCollectionItemOrderRepository {
 
   /**
    * Finds all items in a collection, ordered by display order.
@@ -80,6 +86,8 @@ public interface RecipeCollectionItemRepository
 
   /**
    * Finds the maximum display order value in a collection. Useful for adding new items at the end.
+   * Callers appending an item should hold the collection row lock (see {@link
+   * RecipeCollectionRepository#findByIdForUpdate}) so that concurrent appends see each other.
    *
    * @param collectionId the collection ID
    * @return the maximum display order, or null if collection is empty
@@ -116,4 +124,78 @@ public interface RecipeCollectionItemRepository
           + " :collectionId ORDER BY rci.displayOrder ASC")
   List<RecipeCollectionItem> findByIdCollectionIdWithRecipe(
       @Param("collectionId") Long collectionId);
+
+  /**
+   * Finds a single item in a collection with its recipe eagerly loaded.
+   *
+   * @param collectionId the collection ID
+   * @param recipeId the recipe ID
+   * @return optional containing the item with its recipe if found
+   */
+  @Query(
+      "SELECT rci FROM RecipeCollectionItem rci JOIN FETCH rci.recipe WHERE rci.id.collectionId ="
+          + " :collectionId AND rci.id.recipeId = :recipeId")
+  Optional<RecipeCollectionItem> findByIdCollectionIdAndIdRecipeIdWithRecipe(
+      @Param("collectionId") Long collectionId, @Param("recipeId") Long recipeId);
+
+  /**
+   * Finds the first page of the recipes in a collection, ordered by display order with the recipe
+   * ID breaking ties. Only the listed columns are read; no item or recipe entities are loaded.
+   *
+   * @param collectionId the collection ID
+   * @param limit the maximum number of rows to return
+   * @return the first page of the collection's recipes
+   */
+  @Query(
+      "SELECT rci.id.recipeId AS recipeId, r.title AS recipeTitle, "
+          + "r.description AS recipeDescription, rci.displayOrder AS displayOrder, "
+          + "rci.addedBy AS addedBy, rci.addedAt AS addedAt "
+          + "FROM RecipeCollectionItem rci JOIN rci.recipe r "
+          + "WHERE rci.id.collectionId = :collectionId "
+          + "ORDER BY rci.displayOrder ASC, rci.id.recipeId ASC")
+  List<CollectionRecipeProjection> findRecipePage(
+      @Param("collectionId") Long collectionId, Pageable limit);
+
+  /**
+   * Finds the next page of the recipes in a collection after a keyset position, in the order of
+   * {@link #findRecipePage}. The page seeks past the position, so it is a range scan of the
+   * (collection_id, display_order, recipe_id) index however deep the client has paged.
+   *
+   * @param collectionId the collection ID
+   * @param displayOrder display order of the last row of the previous page
+   * @param recipeId recipe ID of the last row of the previous page
+   * @param limit the maximum number of rows to return
+   * @return the next page of the collection's recipes
+   */
+  @Query(
+      "SELECT rci.id.recipeId AS recipeId, r.title AS recipeTitle, "
+          + "r.description AS recipeDescription, rci.displayOrder AS displayOrder, "
+          + "rci.addedBy AS addedBy, rci.addedAt AS addedAt "
+          + "FROM RecipeCollectionItem rci JOIN rci.recipe r "
+          + "WHERE rci.id.collectionId = :collectionId "
+          + "AND (rci.displayOrder, rci.id.recipeId) > (:displayOrder, :recipeId) "
+          + "ORDER BY rci.displayOrder ASC, rci.id.recipeId ASC")
+  List<CollectionRecipeProjection> findRecipePageAfter(
+      @Param("collectionId") Long collectionId,
+      @Param("displayOrder") Integer displayOrder,
+      @Param("recipeId") Long recipeId,
+      Pageable limit);
+
+  /**
+   * Finds the given recipes of a collection, in display order. Recipe IDs that are not in the
+   * collection are left out.
+   *
+   * @param collectionId the collection ID
+   * @param recipeIds the recipe IDs
+   * @return the matching recipes of the collection
+   */
+  @Query(
+      "SELECT rci.id.recipeId AS recipeId, r.title AS recipeTitle, "
+          + "r.description AS recipeDescription, rci.displayOrder AS displayOrder, "
+          + "rci.addedBy AS addedBy, rci.addedAt AS addedAt "
+          + "FROM RecipeCollectionItem rci JOIN rci.recipe r "
+          + "WHERE rci.id.collectionId = :collectionId AND rci.id.recipeId IN :recipeIds "
+          + "ORDER BY rci.displayOrder ASC, rci.id.recipeId ASC")
+  List<CollectionRecipeProjection> findRecipesByIds(
+      @Param("collectionId") Long collectionId, @Param("recipeIds") Collection<Long> recipeIds);
 }
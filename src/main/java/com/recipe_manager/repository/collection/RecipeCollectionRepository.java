@@ -7,6 +7,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,10 +16,24 @@ import org.springframework.stereotype.Repository;
 import com.recipe_manager.model.entity.collection.RecipeCollection;
 import com.recipe_manager.model.enums.CollectionVisibility;
 
+import jakarta.persistence.LockModeType;
+
 /** Repository interface for RecipeCollection entity operations. */
 @Repository
 public interface RecipeCollectionRepository extends JpaRepository<RecipeCollection, Long> {
 
+  /**
+   * Finds a collection by ID and locks its row until the end of the transaction. Appending a
+   * recipe reads the collection's maximum display order; holding this lock serializes appends to
+   * the same collection, so two of them cannot be given the same order.
+   *
+   * @param collectionId the collection ID
+   * @return optional containing the locked collection if found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM RecipeCollection c WHERE c.collectionId = :collectionId")
+  Optional<RecipeCollection> findByIdForUpdate(@Param("collectionId") Long collectionId);
+
   /**
    * Finds all collections owned by a specific user.
    *
@@ -85,9 +101,7 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
    */
   @Query(
       value =
-          "SELECT DISTINCT c.* FROM recipe_manager.recipe_collections c "
-              + "LEFT JOIN recipe_manager.recipe_collection_items rci ON c.collection_id ="
-              + " rci.collection_id "
+          "SELECT c.* FROM recipe_manager.recipe_collections c "
               + "WHERE (:searchQuery IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :searchQuery, '%')) "
               + "  OR LOWER(c.description) LIKE LOWER(CONCAT('%', :searchQuery, '%'))) "
               + "AND (:#{#visibilityList == null || #visibilityList.length == 0} = true OR c.visibility::text = ANY(CAST(:visibilityList AS"
@@ -95,14 +109,11 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
               + "AND (:#{#collaborationModeList == null || #collaborationModeList.length == 0} = true OR c.collaboration_mode::text = ANY(CAST(:collaborationModeList AS"
               + " text[]))) "
               + "AND (:ownerUserId IS NULL OR c.user_id = :ownerUserId) "
-              + "GROUP BY c.collection_id "
-              + "HAVING (:minRecipeCount IS NULL OR COUNT(rci.recipe_id) >= :minRecipeCount) "
-              + "AND (:maxRecipeCount IS NULL OR COUNT(rci.recipe_id) <= :maxRecipeCount) "
+              + "AND (:minRecipeCount IS NULL OR c.recipe_count >= :minRecipeCount) "
+              + "AND (:maxRecipeCount IS NULL OR c.recipe_count <= :maxRecipeCount) "
               + "ORDER BY c.created_at DESC",
       countQuery =
-          "SELECT COUNT(DISTINCT c.collection_id) FROM recipe_manager.recipe_collections c "
-              + "LEFT JOIN recipe_manager.recipe_collection_items rci ON c.collection_id ="
-              + " rci.collection_id "
+          "SELECT COUNT(*) FROM recipe_manager.recipe_collections c "
               + "WHERE (:searchQuery IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :searchQuery, '%')) "
               + "  OR LOWER(c.description) LIKE LOWER(CONCAT('%', :searchQuery, '%'))) "
               + "AND (:#{#visibilityList == null || #visibilityList.length == 0} = true OR c.visibility::text = ANY(CAST(:visibilityList AS"
@@ -110,9 +121,8 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
               + "AND (:#{#collaborationModeList == null || #collaborationModeList.length == 0} = true OR c.collaboration_mode::text = ANY(CAST(:collaborationModeList AS"
               + " text[]))) "
               + "AND (:ownerUserId IS NULL OR c.user_id = :ownerUserId) "
-              + "GROUP BY c.collection_id "
-              + "HAVING (:minRecipeCount IS NULL OR COUNT(rci.recipe_id) >= :minRecipeCount) "
-              + "AND (:maxRecipeCount IS NULL OR COUNT(rci.recipe_id) <= :maxRecipeCount)",
+              + "AND (:minRecipeCount IS NULL OR c.recipe_count >= :minRecipeCount) "
+              + "AND (:maxRecipeCount IS NULL OR c.recipe_count <= :maxRecipeCount)",
       nativeQuery = true)
   Page<RecipeCollection> searchCollections(
       @Param("searchQuery") String searchQuery,
@@ -124,26 +134,69 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
       Pageable pageable);
 
   /**
-   * Finds all collections accessible by a specific user using database views. This includes
-   * collections the user owns, collaborates on, and public collections based on the
-   * vw_user_collection_access view.
+   * Finds all collections accessible by a user. Public collections are accessible to everyone;
+   * any other collection must be in the given set, which callers take from {@code
+   * CollectionAccessCache} rather than the vw_user_collection_access view. Recipe and collaborator
+   * counts are read from the collection's stored count columns.
    *
-   * @param userId the user ID to check access for
+   * @param collectionIds IDs of the non-public collections the user can access
    * @param pageable pagination information
    * @return page of collection summaries accessible by the user
    */
   @Query(
       value =
           "SELECT collection_id, name, description, visibility, collaboration_mode, "
-              + "owner_id, recipe_count, collaborator_count, created_at, updated_at "
-              + "FROM recipe_manager.vw_collection_summary "
-              + "WHERE collection_id IN ( "
-              + "  SELECT collection_id FROM recipe_manager.vw_user_collection_access "
-              + "  WHERE accessor_user_id = :userId "
-              + ")",
+              + "user_id AS owner_id, recipe_count, collaborator_count, created_at, updated_at "
+              + "FROM recipe_manager.recipe_collections "
+              + "WHERE visibility = 'PUBLIC' "
+              + "OR collection_id = ANY(CAST(:collectionIds AS BIGINT[]))",
+      countQuery =
+          "SELECT COUNT(*) FROM recipe_manager.recipe_collections "
+              + "WHERE visibility = 'PUBLIC' "
+              + "OR collection_id = ANY(CAST(:collectionIds AS BIGINT[]))",
       nativeQuery = true)
   Page<CollectionSummaryProjection> findAccessibleCollections(
-      @Param("userId") UUID userId, Pageable pageable);
+      @Param("collectionIds") Long[] collectionIds, Pageable pageable);
+
+  /**
+   * Finds the IDs of the top trending collections accessible by a user, highest score first, read
+   * straight from the score index. Accessibility is decided as in {@link
+   * #findAccessibleCollections}.
+   *
+   * @param collectionIds IDs of the non-public collections the user can access
+   * @param limit maximum number of IDs to return
+   * @return the trending collection IDs the user can access, in trending order
+   */
+  @Query(
+      value =
+          "SELECT s.collection_id FROM recipe_manager.collection_trending_scores s "
+              + "INNER JOIN recipe_manager.recipe_collections c "
+              + "ON c.collection_id = s.collection_id "
+              + "WHERE c.visibility = 'PUBLIC' "
+              + "OR c.collection_id = ANY(CAST(:collectionIds AS BIGINT[])) "
+              + "ORDER BY s.score DESC, s.collection_id DESC "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<Long> findTrendingAccessibleCollectionIds(
+      @Param("collectionIds") Long[] collectionIds, @Param("limit") int limit);
+
+  /**
+   * Finds the IDs of the non-public collections a user can access, from the
+   * vw_user_collection_access view which handles all permission logic (owner, collaborator,
+   * friends). Public collections are left out: everyone can access them, so they are checked
+   * against the collection itself rather than cached per user.
+   *
+   * @param userId the user ID to check access for
+   * @return IDs of the non-public collections the user can access
+   */
+  @Query(
+      value =
+          "SELECT vca.collection_id FROM recipe_manager.vw_user_collection_access vca "
+              + "INNER JOIN recipe_manager.recipe_collections c "
+              + "ON c.collection_id = vca.collection_id "
+              + "WHERE vca.accessor_user_id = :userId AND c.visibility <> 'PUBLIC'",
+      nativeQuery = true)
+  List<Long> findNonPublicAccessibleCollectionIds(@Param("userId") UUID userId);
 
   /**
    * Checks if a user has view access to a specific collection. Uses the vw_user_collection_access
@@ -180,7 +233,7 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
 
   /**
    * Finds collections owned by a specific user with pagination. Returns collection summary data
-   * including recipe and collaborator counts from the vw_collection_summary view.
+   * including the stored recipe and collaborator counts.
    *
    * @param userId the user ID
    * @param pageable pagination parameters
@@ -189,19 +242,18 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
   @Query(
       value =
           "SELECT collection_id, name, description, visibility, collaboration_mode, "
-              + "owner_id, recipe_count, collaborator_count, created_at, updated_at "
-              + "FROM recipe_manager.vw_collection_summary "
-              + "WHERE owner_id = :userId",
+              + "user_id AS owner_id, recipe_count, collaborator_count, created_at, updated_at "
+              + "FROM recipe_manager.recipe_collections "
+              + "WHERE user_id = :userId",
       countQuery =
-          "SELECT COUNT(*) FROM recipe_manager.vw_collection_summary WHERE owner_id = :userId",
+          "SELECT COUNT(*) FROM recipe_manager.recipe_collections WHERE user_id = :userId",
       nativeQuery = true)
   Page<CollectionSummaryProjection> findOwnedCollections(
       @Param("userId") UUID userId, Pageable pageable);
 
   /**
    * Finds collections owned by or where user is a collaborator with pagination. Returns collection
-   * summary data including recipe and collaborator counts. Uses vw_collection_summary view joined
-   * with collection_collaborators table.
+   * summary data including the stored recipe and collaborator counts.
    *
    * @param userId the user ID
    * @param pageable pagination parameters
@@ -209,70 +261,51 @@ public interface RecipeCollectionRepository extends JpaRepository<RecipeCollecti
    */
   @Query(
       value =
-          "SELECT DISTINCT cs.collection_id, cs.name, cs.description, cs.visibility, "
-              + "cs.collaboration_mode, cs.owner_id, cs.recipe_count, cs.collaborator_count, "
-              + "cs.created_at, cs.updated_at "
-              + "FROM recipe_manager.vw_collection_summary cs "
-              + "LEFT JOIN recipe_manager.collection_collaborators cc "
-              + "ON cs.collection_id = cc.collection_id "
-              + "WHERE cs.owner_id = :userId OR cc.user_id = :userId",
+          "SELECT c.collection_id, c.name, c.description, c.visibility, "
+              + "c.collaboration_mode, c.user_id AS owner_id, c.recipe_count, "
+              + "c.collaborator_count, c.created_at, c.updated_at "
+              + "FROM recipe_manager.recipe_collections c "
+              + "WHERE c.user_id = :userId OR EXISTS ("
+              + "  SELECT 1 FROM recipe_manager.collection_collaborators cc "
+              + "  WHERE cc.collection_id = c.collection_id AND cc.user_id = :userId)",
       countQuery =
-          "SELECT COUNT(DISTINCT cs.collection_id) "
-              + "FROM recipe_manager.vw_collection_summary cs "
-              + "LEFT JOIN recipe_manager.collection_collaborators cc "
-              + "ON cs.collection_id = cc.collection_id "
-              + "WHERE cs.owner_id = :userId OR cc.user_id = :userId",
+          "SELECT COUNT(*) FROM recipe_manager.recipe_collections c "
+              + "WHERE c.user_id = :userId OR EXISTS ("
+              + "  SELECT 1 FROM recipe_manager.collection_collaborators cc "
+              + "  WHERE cc.collection_id = c.collection_id AND cc.user_id = :userId)",
       nativeQuery = true)
   Page<CollectionSummaryProjection> findOwnedAndCollaboratingCollections(
       @Param("userId") UUID userId, Pageable pageable);
 
   /**
-   * Find trending collections accessible to the user based on a time-decayed scoring algorithm.
-   * Returns at most 100 trending collections, which can then be paginated by the client. Score =
-   * Sum(Weight * exp(-DecayRate * Age)) Weights: Favorites=3.0, RecipeAdds=4.0 DecayRate: 0.23
-   * (half-life of ~3 days)
+   * Adds to a collection's stored recipe count. Runs as a single atomic update in the caller's
+   * transaction, so concurrent adds and removes on the same collection do not lose updates. The
+   * update is JPQL rather than native SQL so that Hibernate knows it only touches {@code
+   * RecipeCollection} and leaves the other second-level cache regions and the query cache alone.
    *
-   * @param userId the user requesting trending collections
-   * @param pageable pagination information (within the top 100)
-   * @return page of trending collections the user can access (max 100 total)
+   * @param collectionId the collection ID
+   * @param delta the change in the number of recipes
+   * @return the number of rows updated
    */
+  @Modifying
   @Query(
-      value =
-          "WITH top_trending AS ("
-              + "  SELECT c.collection_id, c.user_id, c.name, c.description, c.visibility, "
-              + "    c.collaboration_mode, c.created_at, c.updated_at, "
-              + "    (COALESCE(fav.fav_score, 0) + COALESCE(adds.add_score, 0)) as trending_score "
-              + "  FROM recipe_manager.recipe_collections c "
-              + "  INNER JOIN recipe_manager.vw_user_collection_access vca "
-              + "    ON c.collection_id = vca.collection_id AND vca.accessor_user_id = :userId "
-              + "  LEFT JOIN ("
-              + "    SELECT cf.collection_id, "
-              + "      SUM(3.0 * EXP(-0.23 * EXTRACT(EPOCH FROM (NOW() - cf.favorited_at)) / 86400))"
-              + "        as fav_score "
-              + "    FROM recipe_manager.collection_favorites cf "
-              + "    WHERE cf.favorited_at > NOW() - INTERVAL '30 days' "
-              + "    GROUP BY cf.collection_id"
-              + "  ) fav ON c.collection_id = fav.collection_id "
-              + "  LEFT JOIN ("
-              + "    SELECT rci.collection_id, "
-              + "      SUM(4.0 * EXP(-0.23 * EXTRACT(EPOCH FROM (NOW() - rci.added_at)) / 86400))"
-              + "        as add_score "
-              + "    FROM recipe_manager.recipe_collection_items rci "
-              + "    WHERE rci.added_at > NOW() - INTERVAL '30 days' "
-              + "    GROUP BY rci.collection_id"
-              + "  ) adds ON c.collection_id = adds.collection_id "
-              + "  ORDER BY trending_score DESC, c.created_at DESC "
-              + "  LIMIT 100"
-              + ") "
-              + "SELECT collection_id, user_id, name, description, visibility, "
-              + "  collaboration_mode, created_at, updated_at "
-              + "FROM top_trending "
-              + "ORDER BY trending_score DESC, created_at DESC",
-      countQuery =
-          "SELECT LEAST(COUNT(*), 100) "
-              + "FROM recipe_manager.recipe_collections c "
-              + "INNER JOIN recipe_manager.vw_user_collection_access vca "
-              + "  ON c.collection_id = vca.collection_id AND vca.accessor_user_id = :userId",
-      nativeQuery = true)
-  Page<RecipeCollection> findTrendingCollections(@Param("userId") UUID userId, Pageable pageable);
+      "UPDATE RecipeCollection c "
+          + "SET c.recipeCount = GREATEST(c.recipeCount + :delta, 0) "
+          + "WHERE c.collectionId = :collectionId")
+  int adjustRecipeCount(@Param("collectionId") Long collectionId, @Param("delta") int delta);
+
+  /**
+   * Adds to a collection's stored collaborator count, as {@link #adjustRecipeCount} does for
+   * recipes.
+   *
+   * @param collectionId the collection ID
+   * @param delta the change in the number of collaborators
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query(
+      "UPDATE RecipeCollection c "
+          + "SET c.collaboratorCount = GREATEST(c.collaboratorCount + :delta, 0) "
+          + "WHERE c.collectionId = :collectionId")
+  int adjustCollaboratorCount(@Param("collectionId") Long collectionId, @Param("delta") int delta);
 }
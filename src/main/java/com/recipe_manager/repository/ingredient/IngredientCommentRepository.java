@@ -1,5 +1,6 @@
 package com.recipe_manager.repository.ingredient;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +24,21 @@ public interface IngredientCommentRepository extends JpaRepository<IngredientCom
    */
   List<IngredientComment> findByIngredientIngredientIdOrderByCreatedAtAsc(Long ingredientId);
 
+  /**
+   * Find all comments for a set of ingredients in a single query, oldest first. The ingredient is
+   * fetched with each comment so callers can group the result by ingredient ID.
+   *
+   * @param ingredientIds the ingredient IDs
+   * @return list of comments for the ingredients
+   */
+  @Query(
+      "SELECT ic FROM IngredientComment ic "
+          + "JOIN FETCH ic.ingredient i "
+          + "WHERE i.ingredientId IN :ingredientIds "
+          + "ORDER BY ic.createdAt ASC, ic.commentId ASC")
+  List<IngredientComment> findByIngredientIdsWithIngredient(
+      @Param("ingredientIds") Collection<Long> ingredientIds);
+
   /**
    * Find all public comments for a specific ingredient.
    *
@@ -1,15 +1,23 @@
 package com.recipe_manager.repository.ingredient;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.recipe_manager.model.entity.ingredient.Ingredient;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for Ingredient entity. Provides data access methods for ingredient
- * operations.
+ * operations. Name lookups are served from the query cache.
  */
 @Repository
 public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
@@ -20,5 +28,16 @@ public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
    * @param name the ingredient name
    * @return optional containing the ingredient if found
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<Ingredient> findByNameIgnoreCase(String name);
+
+  /**
+   * Find all ingredients whose lower-cased name is in the given set.
+   *
+   * @param names lower-cased ingredient names
+   * @return list of matching ingredients
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT i FROM Ingredient i WHERE LOWER(i.name) IN :names")
+  List<Ingredient> findAllByLowerCaseNameIn(@Param("names") Collection<String> names);
 }
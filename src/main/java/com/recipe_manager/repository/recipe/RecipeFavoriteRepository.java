@@ -1,5 +1,7 @@
 package com.recipe_manager.repository.recipe;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -57,6 +59,43 @@ public interface RecipeFavoriteRepository extends JpaRepository<RecipeFavorite,
           + "ORDER BY rf.favoritedAt DESC")
   Page<RecipeFavorite> findByUserIdWithRecipe(@Param("userId") UUID userId, Pageable pageable);
 
+  /**
+   * First keyset page of a user's favorites with recipe details, most recent first. Returns a list
+   * so that no count query runs.
+   *
+   * @param userId the user ID
+   * @param limit the maximum number of rows to return
+   * @return favorites ordered by favorited date and recipe ID, descending
+   */
+  @Query(
+      "SELECT rf FROM RecipeFavorite rf "
+          + "JOIN FETCH rf.recipe r "
+          + "WHERE rf.id.userId = :userId "
+          + "ORDER BY rf.favoritedAt DESC, rf.id.recipeId DESC")
+  List<RecipeFavorite> findLatestByUserIdWithRecipe(
+      @Param("userId") UUID userId, Pageable limit);
+
+  /**
+   * Next keyset page of a user's favorites with recipe details, after the given position.
+   *
+   * @param userId the user ID
+   * @param favoritedAt favorited date of the last row of the previous page
+   * @param recipeId recipe ID of the last row of the previous page
+   * @param limit the maximum number of rows to return
+   * @return favorites ordered by favorited date and recipe ID, descending
+   */
+  @Query(
+      "SELECT rf FROM RecipeFavorite rf "
+          + "JOIN FETCH rf.recipe r "
+          + "WHERE rf.id.userId = :userId "
+          + "AND (rf.favoritedAt, rf.id.recipeId) < (:favoritedAt, :recipeId) "
+          + "ORDER BY rf.favoritedAt DESC, rf.id.recipeId DESC")
+  List<RecipeFavorite> findByUserIdWithRecipeFavoritedBefore(
+      @Param("userId") UUID userId,
+      @Param("favoritedAt") LocalDateTime favoritedAt,
+      @Param("recipeId") Long recipeId,
+      Pageable limit);
+
   /**
    * Check if a user has favorited a specific recipe.
    *
@@ -1,9 +1,12 @@
 package com.recipe_manager.repository.recipe;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
@@ -34,4 +37,16 @@ public interface RecipeIngredientRepository
    */
   Optional<RecipeIngredient> findByRecipeRecipeIdAndIngredientIngredientId(
       Long recipeId, Long ingredientId);
+
+  /**
+   * Find the ingredients of several recipes in one query, with each ingredient fetched.
+   *
+   * @param recipeIds the recipe IDs
+   * @return the recipe ingredients of all the recipes
+   */
+  @Query(
+      "SELECT ri FROM RecipeIngredient ri JOIN FETCH ri.ingredient "
+          + "WHERE ri.id.recipeId IN :recipeIds")
+  List<RecipeIngredient> findByRecipeIdsWithIngredient(
+      @Param("recipeIds") Collection<Long> recipeIds);
 }
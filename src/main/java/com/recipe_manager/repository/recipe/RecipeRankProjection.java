@@ -0,0 +1,21 @@
+package com.recipe_manager.repository.recipe;
+
+/**
+ * Projection interface for ranked full-text search results. Used to page through matches by
+ * relevance and then load only the recipes on the current page.
+ */
+public interface RecipeRankProjection {
+  /**
+   * Gets the recipe ID.
+   *
+   * @return the recipe ID
+   */
+  Long getRecipeId();
+
+  /**
+   * Gets the full-text relevance rank.
+   *
+   * @return the relevance rank
+   */
+  Float getRank();
+}
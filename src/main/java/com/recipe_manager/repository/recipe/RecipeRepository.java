@@ -1,5 +1,8 @@
 package com.recipe_manager.repository.recipe;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -18,14 +21,21 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
   /**
    * Search recipes based on flexible criteria.
    *
+   * <p>Ingredient and tag names are matched case-insensitively according to their match mode: AND
+   * requires every name, OR any name and NONE excludes recipes with any of them. With AND, a name
+   * that matches nothing leaves no results. These are the semantics of the in-memory filter index,
+   * so results do not change when searches fall back to this query while the index is unavailable.
+   *
    * @param recipeNameQuery the recipe name query
    * @param difficulty the difficulty level
    * @param maxCookingTime maximum cooking time
    * @param maxPreparationTime maximum preparation time
    * @param minServings minimum servings
    * @param maxServings maximum servings
-   * @param ingredientsList array of ingredient names
-   * @param tagsList array of tag names
+   * @param ingredientsList array of distinct lower-cased ingredient names
+   * @param ingredientMatchMode how ingredient names combine: AND, OR or NONE
+   * @param tagsList array of distinct lower-cased tag names
+   * @param tagMatchMode how tag names combine: AND, OR or NONE
    * @param pageable pagination information
    * @return page of recipes matching the search criteria
    */
@@ -41,13 +51,33 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
               + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
               + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
               + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
-              + "     EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
               + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
-              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])))) "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
               + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
-              + "     EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
               + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
-              + "             WHERE rtj.recipe_id = r.recipe_id AND rt.name = ANY(CAST(:tagsList AS TEXT[]))))",
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END)",
       nativeQuery = true,
       countQuery =
           "SELECT COUNT(DISTINCT r.recipe_id) FROM recipe_manager.recipes r "
@@ -60,13 +90,33 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
               + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
               + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
               + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
-              + "     EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
               + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
-              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])))) "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
               + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
-              + "     EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
               + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
-              + "             WHERE rtj.recipe_id = r.recipe_id AND rt.name = ANY(CAST(:tagsList AS TEXT[]))))")
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END)")
   Page<Recipe> searchRecipes(
       @Param("recipeNameQuery") String recipeNameQuery,
       @Param("difficulty") String difficulty,
@@ -75,9 +125,357 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
       @Param("minServings") java.math.BigDecimal minServings,
       @Param("maxServings") java.math.BigDecimal maxServings,
       @Param("ingredientsList") String[] ingredientsList,
+      @Param("ingredientMatchMode") String ingredientMatchMode,
       @Param("tagsList") String[] tagsList,
+      @Param("tagMatchMode") String tagMatchMode,
       Pageable pageable);
 
+  /**
+   * Ranked full-text search over the indexed recipe search document.
+   *
+   * <p>The {@code search_document} column is a weighted tsvector (title &gt; tag names &gt;
+   * ingredient names &gt; description) maintained by database triggers and backed by a GIN index,
+   * so matching does not scan the recipes table. The query text is parsed with {@code
+   * websearch_to_tsquery}, which accepts free user input (quoted phrases, {@code OR}, {@code -}
+   * exclusions) without raising syntax errors. Results are ordered by {@code ts_rank_cd} relevance,
+   * then by recipe ID for a stable order between pages.
+   *
+   * @param query the full-text query; must not be blank
+   * @param difficulty the difficulty level
+   * @param maxCookingTime maximum cooking time
+   * @param maxPreparationTime maximum preparation time
+   * @param minServings minimum servings
+   * @param maxServings maximum servings
+   * @param ingredientsList array of distinct lower-cased ingredient names
+   * @param ingredientMatchMode how ingredient names combine: AND, OR or NONE
+   * @param tagsList array of distinct lower-cased tag names
+   * @param tagMatchMode how tag names combine: AND, OR or NONE
+   * @param pageable pagination information
+   * @return page of matching recipes ordered by relevance
+   */
+  @Query(
+      value =
+          "SELECT r.* FROM recipe_manager.recipes r "
+              + "WHERE r.search_document @@ websearch_to_tsquery('english', CAST(:query AS TEXT)) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
+              + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END) "
+              + "ORDER BY ts_rank_cd(r.search_document, websearch_to_tsquery('english', CAST(:query AS TEXT))) DESC, "
+              + "r.recipe_id DESC",
+      nativeQuery = true,
+      countQuery =
+          "SELECT COUNT(*) FROM recipe_manager.recipes r "
+              + "WHERE r.search_document @@ websearch_to_tsquery('english', CAST(:query AS TEXT)) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
+              + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END)")
+  Page<Recipe> fullTextSearchRecipes(
+      @Param("query") String query,
+      @Param("difficulty") String difficulty,
+      @Param("maxCookingTime") Integer maxCookingTime,
+      @Param("maxPreparationTime") Integer maxPreparationTime,
+      @Param("minServings") java.math.BigDecimal minServings,
+      @Param("maxServings") java.math.BigDecimal maxServings,
+      @Param("ingredientsList") String[] ingredientsList,
+      @Param("ingredientMatchMode") String ingredientMatchMode,
+      @Param("tagsList") String[] tagsList,
+      @Param("tagMatchMode") String tagMatchMode,
+      Pageable pageable);
+
+  /**
+   * Search within a candidate set of recipe IDs, typically produced by the in-memory ingredient and
+   * tag filter index, applying the remaining scalar and text criteria.
+   *
+   * <p>When {@code fullText} is true the query text is matched against the indexed search document
+   * and results are ranked by relevance; otherwise it is a case-insensitive substring match on
+   * title and description. Ties (and all results when there is no ranking) are ordered by recipe ID
+   * descending.
+   *
+   * @param recipeIds candidate recipe IDs
+   * @param query the text query, or null for none
+   * @param fullText whether to use full-text matching for the query
+   * @param difficulty the difficulty level
+   * @param maxCookingTime maximum cooking time
+   * @param maxPreparationTime maximum preparation time
+   * @param minServings minimum servings
+   * @param maxServings maximum servings
+   * @param pageable pagination information
+   * @return page of matching recipes
+   */
+  @Query(
+      value =
+          "SELECT r.* FROM recipe_manager.recipes r "
+              + "WHERE r.recipe_id = ANY(CAST(:recipeIds AS BIGINT[])) "
+              + "AND (CAST(:query AS TEXT) IS NULL OR "
+              + "     (CAST(:fullText AS BOOLEAN) AND "
+              + "      r.search_document @@ websearch_to_tsquery('english', CAST(:query AS TEXT))) OR "
+              + "     (NOT CAST(:fullText AS BOOLEAN) AND "
+              + "      (LOWER(r.title) LIKE LOWER(CONCAT('%', CAST(:query AS TEXT), '%')) OR "
+              + "       LOWER(r.description) LIKE LOWER(CONCAT('%', CAST(:query AS TEXT), '%'))))) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
+              + "ORDER BY CASE WHEN CAST(:fullText AS BOOLEAN) AND CAST(:query AS TEXT) IS NOT NULL "
+              + "  THEN ts_rank_cd(r.search_document, websearch_to_tsquery('english', CAST(:query AS TEXT))) "
+              + "END DESC NULLS LAST, r.recipe_id DESC",
+      nativeQuery = true,
+      countQuery =
+          "SELECT COUNT(*) FROM recipe_manager.recipes r "
+              + "WHERE r.recipe_id = ANY(CAST(:recipeIds AS BIGINT[])) "
+              + "AND (CAST(:query AS TEXT) IS NULL OR "
+              + "     (CAST(:fullText AS BOOLEAN) AND "
+              + "      r.search_document @@ websearch_to_tsquery('english', CAST(:query AS TEXT))) OR "
+              + "     (NOT CAST(:fullText AS BOOLEAN) AND "
+              + "      (LOWER(r.title) LIKE LOWER(CONCAT('%', CAST(:query AS TEXT), '%')) OR "
+              + "       LOWER(r.description) LIKE LOWER(CONCAT('%', CAST(:query AS TEXT), '%'))))) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC))")
+  Page<Recipe> searchRecipesWithinIds(
+      @Param("recipeIds") Long[] recipeIds,
+      @Param("query") String query,
+      @Param("fullText") boolean fullText,
+      @Param("difficulty") String difficulty,
+      @Param("maxCookingTime") Integer maxCookingTime,
+      @Param("maxPreparationTime") Integer maxPreparationTime,
+      @Param("minServings") java.math.BigDecimal minServings,
+      @Param("maxServings") java.math.BigDecimal maxServings,
+      Pageable pageable);
+
+  /**
+   * Keyset variant of {@link #searchRecipes}: returns the next slice of matches, newest first,
+   * after the given position without running a count query.
+   *
+   * <p>Callers request one row more than the page size to learn whether another page exists. When
+   * {@code candidateIds} is non-empty, results are restricted to those recipe IDs (typically the
+   * output of the in-memory ingredient/tag filter index), and the name-based ingredient and tag
+   * arrays should be empty.
+   *
+   * @param recipeNameQuery the recipe name query
+   * @param difficulty the difficulty level
+   * @param maxCookingTime maximum cooking time
+   * @param maxPreparationTime maximum preparation time
+   * @param minServings minimum servings
+   * @param maxServings maximum servings
+   * @param ingredientsList array of distinct lower-cased ingredient names
+   * @param ingredientMatchMode how ingredient names combine: AND, OR or NONE
+   * @param tagsList array of distinct lower-cased tag names
+   * @param tagMatchMode how tag names combine: AND, OR or NONE
+   * @param candidateIds recipe IDs to restrict to, or empty for no restriction
+   * @param cursorCreatedAt creation time of the last row of the previous page, or null
+   * @param cursorRecipeId recipe ID of the last row of the previous page, or null
+   * @param limit the maximum number of rows to return
+   * @return matching recipes ordered by creation time and ID, descending
+   */
+  @Query(
+      value =
+          "SELECT r.* FROM recipe_manager.recipes r "
+              + "WHERE (CAST(:recipeNameQuery AS VARCHAR) IS NULL OR "
+              + "       LOWER(r.title) LIKE LOWER(CONCAT('%', CAST(:recipeNameQuery AS VARCHAR), '%')) OR "
+              + "       LOWER(r.description) LIKE LOWER(CONCAT('%', CAST(:recipeNameQuery AS VARCHAR), '%'))) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
+              + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:candidateIds AS BIGINT[]), 1), 0) = 0 OR "
+              + "     r.recipe_id = ANY(CAST(:candidateIds AS BIGINT[]))) "
+              + "AND (CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.recipe_id) < (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorRecipeId AS BIGINT))) "
+              + "ORDER BY r.created_at DESC, r.recipe_id DESC",
+      nativeQuery = true)
+  List<Recipe> searchRecipesAfter(
+      @Param("recipeNameQuery") String recipeNameQuery,
+      @Param("difficulty") String difficulty,
+      @Param("maxCookingTime") Integer maxCookingTime,
+      @Param("maxPreparationTime") Integer maxPreparationTime,
+      @Param("minServings") java.math.BigDecimal minServings,
+      @Param("maxServings") java.math.BigDecimal maxServings,
+      @Param("ingredientsList") String[] ingredientsList,
+      @Param("ingredientMatchMode") String ingredientMatchMode,
+      @Param("tagsList") String[] tagsList,
+      @Param("tagMatchMode") String tagMatchMode,
+      @Param("candidateIds") Long[] candidateIds,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorRecipeId") Long cursorRecipeId,
+      Pageable limit);
+
+  /**
+   * Keyset variant of {@link #fullTextSearchRecipes}: returns the IDs and relevance ranks of the
+   * next slice of matches after the given position, without running a count query. Only IDs are
+   * returned so that callers hydrate just the rows they render.
+   *
+   * @param query the full-text query; must not be blank
+   * @param difficulty the difficulty level
+   * @param maxCookingTime maximum cooking time
+   * @param maxPreparationTime maximum preparation time
+   * @param minServings minimum servings
+   * @param maxServings maximum servings
+   * @param ingredientsList array of distinct lower-cased ingredient names
+   * @param ingredientMatchMode how ingredient names combine: AND, OR or NONE
+   * @param tagsList array of distinct lower-cased tag names
+   * @param tagMatchMode how tag names combine: AND, OR or NONE
+   * @param candidateIds recipe IDs to restrict to, or empty for no restriction
+   * @param cursorRank rank of the last row of the previous page, or null
+   * @param cursorRecipeId recipe ID of the last row of the previous page, or null
+   * @param limit the maximum number of rows to return
+   * @return matching recipe IDs and ranks ordered by rank and ID, descending
+   */
+  @Query(
+      value =
+          "SELECT ranked.recipe_id AS \"recipeId\", ranked.rank AS \"rank\" FROM ( "
+              + "SELECT r.recipe_id, "
+              + "ts_rank_cd(r.search_document, websearch_to_tsquery('english', CAST(:query AS TEXT))) AS rank "
+              + "FROM recipe_manager.recipes r "
+              + "WHERE r.search_document @@ websearch_to_tsquery('english', CAST(:query AS TEXT)) "
+              + "AND (CAST(:difficulty AS VARCHAR) IS NULL OR r.difficulty::text = CAST(:difficulty AS VARCHAR)) "
+              + "AND (CAST(:maxCookingTime AS INTEGER) IS NULL OR r.cooking_time <= CAST(:maxCookingTime AS INTEGER)) "
+              + "AND (CAST(:maxPreparationTime AS INTEGER) IS NULL OR r.preparation_time <= CAST(:maxPreparationTime AS INTEGER)) "
+              + "AND (CAST(:minServings AS NUMERIC) IS NULL OR r.servings >= CAST(:minServings AS NUMERIC)) "
+              + "AND (CAST(:maxServings AS NUMERIC) IS NULL OR r.servings <= CAST(:maxServings AS NUMERIC)) "
+              + "AND (COALESCE(array_length(CAST(:ingredientsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:ingredientMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE ri.recipe_id = r.recipe_id AND LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri "
+              + "             JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id "
+              + "             WHERE LOWER(i.name) = ANY(CAST(:ingredientsList AS TEXT[])) "
+              + "             GROUP BY ri.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(i.name)) = cardinality(CAST(:ingredientsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:tagsList AS TEXT[]), 1), 0) = 0 OR "
+              + "     CASE CAST(:tagMatchMode AS VARCHAR) "
+              + "     WHEN 'OR' THEN EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     WHEN 'NONE' THEN NOT EXISTS (SELECT 1 FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE rtj.recipe_id = r.recipe_id AND LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[]))) "
+              + "     ELSE r.recipe_id IN (SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj "
+              + "             JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id "
+              + "             WHERE LOWER(rt.name) = ANY(CAST(:tagsList AS TEXT[])) "
+              + "             GROUP BY rtj.recipe_id "
+              + "             HAVING COUNT(DISTINCT LOWER(rt.name)) = cardinality(CAST(:tagsList AS TEXT[]))) "
+              + "     END) "
+              + "AND (COALESCE(array_length(CAST(:candidateIds AS BIGINT[]), 1), 0) = 0 OR "
+              + "     r.recipe_id = ANY(CAST(:candidateIds AS BIGINT[]))) "
+              + ") ranked "
+              + "WHERE (CAST(:cursorRank AS REAL) IS NULL OR "
+              + "       (ranked.rank, ranked.recipe_id) < (CAST(:cursorRank AS REAL), CAST(:cursorRecipeId AS BIGINT))) "
+              + "ORDER BY ranked.rank DESC, ranked.recipe_id DESC",
+      nativeQuery = true)
+  List<RecipeRankProjection> fullTextSearchRecipeRanksAfter(
+      @Param("query") String query,
+      @Param("difficulty") String difficulty,
+      @Param("maxCookingTime") Integer maxCookingTime,
+      @Param("maxPreparationTime") Integer maxPreparationTime,
+      @Param("minServings") java.math.BigDecimal minServings,
+      @Param("maxServings") java.math.BigDecimal maxServings,
+      @Param("ingredientsList") String[] ingredientsList,
+      @Param("ingredientMatchMode") String ingredientMatchMode,
+      @Param("tagsList") String[] tagsList,
+      @Param("tagMatchMode") String tagMatchMode,
+      @Param("candidateIds") Long[] candidateIds,
+      @Param("cursorRank") Float cursorRank,
+      @Param("cursorRecipeId") Long cursorRecipeId,
+      Pageable limit);
+
   /**
    * Find all recipes owned by a specific user with pagination.
    *
@@ -88,37 +486,104 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
   Page<Recipe> findByUserId(UUID userId, Pageable pageable);
 
   /**
-   * Find trending recipes based on a time-decayed scoring algorithm. Score = Sum(Weight *
-   * exp(-DecayRate * Age)) Weights: Favorites=3.0, Comments=2.0, CollectionAdds=4.0 DecayRate: 0.23
-   * (half-life of ~3 days)
+   * First keyset page of all recipes, newest first. Returns a list so that no count query runs.
+   *
+   * @param limit the maximum number of rows to return
+   * @return recipes ordered by creation time and ID, descending
+   */
+  List<Recipe> findAllByOrderByCreatedAtDescRecipeIdDesc(Pageable limit);
+
+  /**
+   * Next keyset page of all recipes, newest first, after the given position.
+   *
+   * @param createdAt creation time of the last row of the previous page
+   * @param recipeId recipe ID of the last row of the previous page
+   * @param limit the maximum number of rows to return
+   * @return recipes ordered by creation time and ID, descending
+   */
+  @Query(
+      "SELECT r FROM Recipe r "
+          + "WHERE (r.createdAt, r.recipeId) < (:createdAt, :recipeId) "
+          + "ORDER BY r.createdAt DESC, r.recipeId DESC")
+  List<Recipe> findAllCreatedBefore(
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("recipeId") Long recipeId,
+      Pageable limit);
+
+  /**
+   * First keyset page of a user's recipes, newest first. Returns a list so that no count query
+   * runs.
+   *
+   * @param userId the owner's user ID
+   * @param limit the maximum number of rows to return
+   * @return recipes ordered by creation time and ID, descending
+   */
+  List<Recipe> findByUserIdOrderByCreatedAtDescRecipeIdDesc(UUID userId, Pageable limit);
+
+  /**
+   * Next keyset page of a user's recipes, newest first, after the given position.
+   *
+   * @param userId the owner's user ID
+   * @param createdAt creation time of the last row of the previous page
+   * @param recipeId recipe ID of the last row of the previous page
+   * @param limit the maximum number of rows to return
+   * @return recipes ordered by creation time and ID, descending
+   */
+  @Query(
+      "SELECT r FROM Recipe r "
+          + "WHERE r.userId = :userId "
+          + "AND (r.createdAt, r.recipeId) < (:createdAt, :recipeId) "
+          + "ORDER BY r.createdAt DESC, r.recipeId DESC")
+  List<Recipe> findByUserIdCreatedBefore(
+      @Param("userId") UUID userId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("recipeId") Long recipeId,
+      Pageable limit);
+
+  /**
+   * Load summary rows for the given recipes: the recipe's own columns plus favorite and comment
+   * counts, in a single query. Collections are not loaded. Row order is unspecified; callers
+   * reorder to match the page they are summarizing.
+   *
+   * @param recipeIds the recipe IDs to summarize
+   * @return one summary row per existing recipe
+   */
+  @Query(
+      "SELECT r.recipeId AS recipeId, r.userId AS userId, r.title AS title, "
+          + "r.description AS description, r.originUrl AS originUrl, r.servings AS servings, "
+          + "r.preparationTime AS preparationTime, r.cookingTime AS cookingTime, "
+          + "r.difficulty AS difficulty, r.createdAt AS createdAt, r.updatedAt AS updatedAt, "
+          + "(SELECT COUNT(f) FROM RecipeFavorite f WHERE f.recipe = r) AS favoriteCount, "
+          + "(SELECT COUNT(c) FROM RecipeComment c WHERE c.recipe = r) AS commentCount "
+          + "FROM Recipe r WHERE r.recipeId IN :recipeIds")
+  List<RecipeSummaryProjection> findSummariesByRecipeIdIn(
+      @Param("recipeIds") Collection<Long> recipeIds);
+
+  /**
+   * Find which of the given recipes exist, without loading them.
+   *
+   * @param recipeIds the recipe IDs to check
+   * @return the IDs of the existing recipes, in no particular order
+   */
+  @Query("SELECT r.recipeId FROM Recipe r WHERE r.recipeId IN :recipeIds")
+  List<Long> findExistingRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+  /**
+   * Find trending recipes ordered by their precomputed time-decayed score. Scores are maintained
+   * incrementally in recipe_trending_scores (see {@code TrendingScoreService}); only recipes with
+   * engagement inside the trending window are listed. Ties are broken by recipe ID, newest first,
+   * so the query is served from the (score, recipe_id) index.
    *
    * @param pageable pagination information
    * @return page of trending recipes
    */
   @Query(
       value =
-          "SELECT r.*, "
-              + "(COALESCE(SUM(3.0 * EXP(-0.23 * EXTRACT(EPOCH FROM (NOW() - rf.favorited_at)) / 86400)), 0) + "
-              + " COALESCE(SUM(2.0 * EXP(-0.23 * EXTRACT(EPOCH FROM (NOW() - rc.created_at)) / 86400)), 0) + "
-              + " COALESCE(SUM(4.0 * EXP(-0.23 * EXTRACT(EPOCH FROM (NOW() - rci.added_at)) / 86400)), 0)) as trending_score "
-              + "FROM recipe_manager.recipes r "
-              + "LEFT JOIN recipe_manager.recipe_favorites rf ON r.recipe_id = rf.recipe_id "
-              + "  AND rf.favorited_at > NOW() - INTERVAL '30 days' "
-              + "LEFT JOIN recipe_manager.recipe_comments rc ON r.recipe_id = rc.recipe_id "
-              + "  AND rc.created_at > NOW() - INTERVAL '30 days' "
-              + "LEFT JOIN recipe_manager.recipe_collection_items rci ON r.recipe_id = rci.recipe_id "
-              + "  AND rci.added_at > NOW() - INTERVAL '30 days' "
-              + "GROUP BY r.recipe_id "
-              + "ORDER BY trending_score DESC, r.created_at DESC",
-      countQuery =
-          "SELECT COUNT(DISTINCT r.recipe_id) "
-              + "FROM recipe_manager.recipes r "
-              + "LEFT JOIN recipe_manager.recipe_favorites rf ON r.recipe_id = rf.recipe_id "
-              + "  AND rf.favorited_at > NOW() - INTERVAL '30 days' "
-              + "LEFT JOIN recipe_manager.recipe_comments rc ON r.recipe_id = rc.recipe_id "
-              + "  AND rc.created_at > NOW() - INTERVAL '30 days' "
-              + "LEFT JOIN recipe_manager.recipe_collection_items rci ON r.recipe_id = rci.recipe_id "
-              + "  AND rci.added_at > NOW() - INTERVAL '30 days'",
+          "SELECT r.* "
+              + "FROM recipe_manager.recipe_trending_scores ts "
+              + "JOIN recipe_manager.recipes r ON r.recipe_id = ts.recipe_id "
+              + "ORDER BY ts.score DESC, ts.recipe_id DESC",
+      countQuery = "SELECT COUNT(*) FROM recipe_manager.recipe_trending_scores",
       nativeQuery = true)
   Page<Recipe> findTrendingRecipes(Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.recipe_manager.repository.recipe;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +25,67 @@ public interface RecipeRevisionRepository extends JpaRepository<RecipeRevision,
       "SELECT r FROM RecipeRevision r WHERE r.recipe.recipeId = :recipeId ORDER BY r.createdAt DESC")
   List<RecipeRevision> findByRecipeId(@Param("recipeId") Long recipeId);
 
+  /**
+   * Find a page of a recipe's revisions using keyset pagination, newest first.
+   *
+   * <p>Revisions are ordered by (created_at, revision_id) descending and the page seeks past the
+   * cursor position, so every page is a range scan of the recipe's revision index however deep
+   * the client has paged.
+   *
+   * @param recipeId the recipe ID
+   * @param cursorCreatedAt creation time of the last row of the previous page, or null
+   * @param cursorRevisionId revision ID of the last row of the previous page, or null
+   * @param limit maximum number of rows to return
+   * @return the page of revisions
+   */
+  @Query(
+      value =
+          "SELECT * FROM recipe_manager.recipe_revisions r WHERE r.recipe_id = :recipeId "
+              + "AND (CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.revision_id) < "
+              + "     (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorRevisionId AS BIGINT))) "
+              + "ORDER BY r.created_at DESC, r.revision_id DESC "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<RecipeRevision> findPageByRecipeId(
+      @Param("recipeId") Long recipeId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorRevisionId") Long cursorRevisionId,
+      @Param("limit") int limit);
+
+  /**
+   * Find the revisions of a recipe between two positions, oldest first. Positions are
+   * (created_at, revision_id) pairs; the range excludes the lower bound and includes the upper
+   * one, so it holds exactly the revisions to replay to get from one position to the other.
+   *
+   * @param recipeId the recipe ID
+   * @param afterCreatedAt creation time of the lower bound, or null to start at the first revision
+   * @param afterRevisionId revision ID of the lower bound, or null
+   * @param toCreatedAt creation time of the upper bound, or null to end at the latest revision
+   * @param toRevisionId revision ID of the upper bound, or null
+   * @param limit maximum number of rows to return
+   * @return the revisions in the range, oldest first
+   */
+  @Query(
+      value =
+          "SELECT * FROM recipe_manager.recipe_revisions r WHERE r.recipe_id = :recipeId "
+              + "AND (CAST(:afterCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.revision_id) > "
+              + "     (CAST(:afterCreatedAt AS TIMESTAMP), CAST(:afterRevisionId AS BIGINT))) "
+              + "AND (CAST(:toCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.revision_id) <= "
+              + "     (CAST(:toCreatedAt AS TIMESTAMP), CAST(:toRevisionId AS BIGINT))) "
+              + "ORDER BY r.created_at, r.revision_id "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<RecipeRevision> findRangeByRecipeId(
+      @Param("recipeId") Long recipeId,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterRevisionId") Long afterRevisionId,
+      @Param("toCreatedAt") LocalDateTime toCreatedAt,
+      @Param("toRevisionId") Long toRevisionId,
+      @Param("limit") int limit);
+
   /**
    * Find all revisions made by a specific user.
    *
@@ -53,16 +115,38 @@ public interface RecipeRevisionRepository extends JpaRepository<RecipeRevision,
    * @return list of step revisions for the recipe and step
    */
   @Query(
-      value =
-          "SELECT * FROM recipe_manager.recipe_revisions r WHERE r.recipe_id = :recipeId "
-              + "AND r.revision_category = 'STEP' "
-              + "AND (CAST(r.previous_data->>'stepId' AS bigint) = :stepId "
-              + "OR CAST(r.new_data->>'stepId' AS bigint) = :stepId) "
-              + "ORDER BY r.created_at DESC",
-      nativeQuery = true)
+      "SELECT r FROM RecipeRevision r WHERE r.recipe.recipeId = :recipeId AND r.stepId = :stepId "
+          + "ORDER BY r.createdAt DESC, r.revisionId DESC")
   List<RecipeRevision> findStepRevisionsByRecipeIdAndStepId(
       @Param("recipeId") Long recipeId, @Param("stepId") Long stepId);
 
+  /**
+   * Find a page of a step's revisions using keyset pagination, newest first.
+   *
+   * @param recipeId the recipe ID
+   * @param stepId the step ID
+   * @param cursorCreatedAt creation time of the last row of the previous page, or null
+   * @param cursorRevisionId revision ID of the last row of the previous page, or null
+   * @param limit maximum number of rows to return
+   * @return the page of step revisions
+   */
+  @Query(
+      value =
+          "SELECT * FROM recipe_manager.recipe_revisions r "
+              + "WHERE r.recipe_id = :recipeId AND r.step_id = :stepId "
+              + "AND (CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.revision_id) < "
+              + "     (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorRevisionId AS BIGINT))) "
+              + "ORDER BY r.created_at DESC, r.revision_id DESC "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<RecipeRevision> findStepRevisionPage(
+      @Param("recipeId") Long recipeId,
+      @Param("stepId") Long stepId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorRevisionId") Long cursorRevisionId,
+      @Param("limit") int limit);
+
   /**
    * Find all ingredient revisions for a specific recipe and ingredient.
    *
@@ -71,13 +155,36 @@ public interface RecipeRevisionRepository extends JpaRepository<RecipeRevision,
    * @return list of ingredient revisions for the recipe and ingredient
    */
   @Query(
-      value =
-          "SELECT * FROM recipe_manager.recipe_revisions r WHERE r.recipe_id = :recipeId "
-              + "AND r.revision_category = 'INGREDIENT' "
-              + "AND (CAST(r.previous_data->>'ingredientId' AS bigint) = :ingredientId "
-              + "OR CAST(r.new_data->>'ingredientId' AS bigint) = :ingredientId) "
-              + "ORDER BY r.created_at DESC",
-      nativeQuery = true)
+      "SELECT r FROM RecipeRevision r WHERE r.recipe.recipeId = :recipeId "
+          + "AND r.ingredientId = :ingredientId "
+          + "ORDER BY r.createdAt DESC, r.revisionId DESC")
   List<RecipeRevision> findIngredientRevisionsByRecipeIdAndIngredientId(
       @Param("recipeId") Long recipeId, @Param("ingredientId") Long ingredientId);
+
+  /**
+   * Find a page of an ingredient's revisions using keyset pagination, newest first.
+   *
+   * @param recipeId the recipe ID
+   * @param ingredientId the ingredient ID
+   * @param cursorCreatedAt creation time of the last row of the previous page, or null
+   * @param cursorRevisionId revision ID of the last row of the previous page, or null
+   * @param limit maximum number of rows to return
+   * @return the page of ingredient revisions
+   */
+  @Query(
+      value =
+          "SELECT * FROM recipe_manager.recipe_revisions r "
+              + "WHERE r.recipe_id = :recipeId AND r.ingredient_id = :ingredientId "
+              + "AND (CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR "
+              + "     (r.created_at, r.revision_id) < "
+              + "     (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorRevisionId AS BIGINT))) "
+              + "ORDER BY r.created_at DESC, r.revision_id DESC "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<RecipeRevision> findIngredientRevisionPage(
+      @Param("recipeId") Long recipeId,
+      @Param("ingredientId") Long ingredientId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorRevisionId") Long cursorRevisionId,
+      @Param("limit") int limit);
 }
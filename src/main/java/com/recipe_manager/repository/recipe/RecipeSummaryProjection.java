@@ -0,0 +1,104 @@
+package com.recipe_manager.repository.recipe;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.recipe_manager.model.enums.DifficultyLevel;
+
+/**
+ * Projection of a recipe's own columns plus favorite and comment counts. Used to build list and
+ * search responses without loading the recipe's collections.
+ */
+public interface RecipeSummaryProjection {
+  /**
+   * Gets the recipe ID.
+   *
+   * @return the recipe ID
+   */
+  Long getRecipeId();
+
+  /**
+   * Gets the owner user ID.
+   *
+   * @return the owner user ID
+   */
+  UUID getUserId();
+
+  /**
+   * Gets the recipe title.
+   *
+   * @return the title
+   */
+  String getTitle();
+
+  /**
+   * Gets the recipe description.
+   *
+   * @return the description
+   */
+  String getDescription();
+
+  /**
+   * Gets the origin URL.
+   *
+   * @return the origin URL
+   */
+  String getOriginUrl();
+
+  /**
+   * Gets the number of servings.
+   *
+   * @return the servings
+   */
+  BigDecimal getServings();
+
+  /**
+   * Gets the preparation time in minutes.
+   *
+   * @return the preparation time
+   */
+  Integer getPreparationTime();
+
+  /**
+   * Gets the cooking time in minutes.
+   *
+   * @return the cooking time
+   */
+  Integer getCookingTime();
+
+  /**
+   * Gets the difficulty level.
+   *
+   * @return the difficulty
+   */
+  DifficultyLevel getDifficulty();
+
+  /**
+   * Gets the creation timestamp.
+   *
+   * @return the creation timestamp
+   */
+  LocalDateTime getCreatedAt();
+
+  /**
+   * Gets the last update timestamp.
+   *
+   * @return the last update timestamp
+   */
+  LocalDateTime getUpdatedAt();
+
+  /**
+   * Gets the number of favorites.
+   *
+   * @return the favorite count
+   */
+  Long getFavoriteCount();
+
+  /**
+   * Gets the number of comments.
+   *
+   * @return the comment count
+   */
+  Long getCommentCount();
+}
@@ -1,18 +1,27 @@
 package com.recipe_manager.repository.recipe;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.repository.NaturalIdRepository;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for RecipeTag entity. Provides CRUD operations and custom query methods for
- * recipe tags.
+ * recipe tags. Exact name lookups use the natural-id cache; case-insensitive lookups are served
+ * from the query cache.
  */
 @Repository
-public interface RecipeTagRepository extends JpaRepository<RecipeTag, Long> {
+public interface RecipeTagRepository extends NaturalIdRepository<RecipeTag, Long> {
 
   /**
    * Find a tag by its name (case insensitive).
@@ -20,6 +29,7 @@ public interface RecipeTagRepository extends JpaRepository<RecipeTag, Long> {
    * @param name the tag name to search for
    * @return Optional containing the tag if found, empty otherwise
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<RecipeTag> findByNameIgnoreCase(String name);
 
   /**
@@ -28,5 +38,16 @@ public interface RecipeTagRepository extends JpaRepository<RecipeTag, Long> {
    * @param name the tag name to check
    * @return true if tag exists, false otherwise
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   boolean existsByNameIgnoreCase(String name);
+
+  /**
+   * Find all tags whose lower-cased name is in the given set.
+   *
+   * @param names lower-cased tag names
+   * @return list of matching tags
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT t FROM RecipeTag t WHERE LOWER(t.name) IN :names")
+  List<RecipeTag> findAllByLowerCaseNameIn(@Param("names") Collection<String> names);
 }
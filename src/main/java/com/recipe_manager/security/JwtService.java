@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -15,10 +16,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.recipe_manager.config.ExternalServicesConfig;
+import com.recipe_manager.model.enums.ExternalServiceName;
+import com.recipe_manager.service.external.SingleFlight;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -56,16 +60,30 @@ public final class JwtService {
   /** OAuth2 service configuration. */
   private final ExternalServicesConfig.OAuth2ServiceConfig oauth2Config;
 
+  /**
+   * Shares concurrent introspections of the same token. Calls are shared in front of {@link
+   * OAuth2Client#introspectToken}, so a shared introspection passes its circuit breaker and
+   * retries once, however many requests wait for it.
+   */
+  private final SingleFlight<String, OAuth2Client.TokenIntrospectionResponse> introspections =
+      new SingleFlight<>(ExternalServiceName.OAUTH2_SERVICE, "introspectToken");
+
   /**
    * Constructs a new JwtService with OAuth2 support.
    *
    * @param oauth2Client OAuth2 client for token operations
    * @param externalServicesConfig external services configuration
+   * @param meterRegistry registry for request coalescing metrics
    */
   public JwtService(
-      final OAuth2Client oauth2Client, final ExternalServicesConfig externalServicesConfig) {
+      final OAuth2Client oauth2Client,
+      final ExternalServicesConfig externalServicesConfig,
+      final MeterRegistry meterRegistry) {
     this.oauth2Client = oauth2Client;
     this.oauth2Config = externalServicesConfig.getOauth2Service();
+    if (meterRegistry != null) {
+      introspections.bindTo(meterRegistry);
+    }
   }
 
   /**
@@ -180,7 +198,7 @@ public final class JwtService {
    */
   private Optional<TokenInfo> validateTokenViaIntrospection(final String token) {
     try {
-      OAuth2Client.TokenIntrospectionResponse response = oauth2Client.introspectToken(token).join();
+      OAuth2Client.TokenIntrospectionResponse response = introspect(token).join();
 
       if (response == null || !Boolean.TRUE.equals(response.getActive())) {
         LOGGER.debug("Token introspection returned inactive or null response");
@@ -227,7 +245,7 @@ public final class JwtService {
    */
   public boolean isTokenValidViaIntrospection(final String token) {
     try {
-      OAuth2Client.TokenIntrospectionResponse response = oauth2Client.introspectToken(token).join();
+      OAuth2Client.TokenIntrospectionResponse response = introspect(token).join();
       return response != null && Boolean.TRUE.equals(response.getActive());
     } catch (Exception e) {
       LOGGER.warn("Token introspection validation failed: {}", e.getMessage());
@@ -235,6 +253,17 @@ public final class JwtService {
     }
   }
 
+  /**
+   * Introspects a token, sharing the introspection already in flight for it if there is one.
+   *
+   * @param token the token to introspect
+   * @return the pending introspection response
+   */
+  private CompletableFuture<OAuth2Client.TokenIntrospectionResponse> introspect(
+      final String token) {
+    return introspections.execute(token, () -> oauth2Client.introspectToken(token));
+  }
+
   /**
    * Checks if a JWT token is expired.
    *
@@ -3,6 +3,7 @@ package com.recipe_manager.security;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
@@ -21,6 +22,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.recipe_manager.config.AsyncConfig;
 import com.recipe_manager.config.ExternalServicesConfig;
 import com.recipe_manager.exception.ExternalServiceException;
 import com.recipe_manager.model.enums.ExternalServiceName;
@@ -67,6 +69,9 @@ public class OAuth2Client {
   /** Cache for token introspection responses. */
   private final Cache<String, TokenIntrospectionResponse> tokenIntrospectionCache;
 
+  /** Executor running OAuth2 service calls on virtual threads. */
+  private final Executor externalServiceExecutor;
+
   /** Cached service access token (thread-safe). */
   private final AtomicReference<ServiceToken> cachedServiceToken = new AtomicReference<>();
 
@@ -77,19 +82,22 @@ public class OAuth2Client {
    * @param restTemplate the REST template for HTTP operations (shared Spring bean - intentionally
    *     stored as reference)
    * @param tokenIntrospectionCache cache for token introspection responses
+   * @param externalServiceExecutor executor for the asynchronous OAuth2 service calls
    */
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public OAuth2Client(
       final ExternalServicesConfig externalServicesConfig,
       final RestTemplate restTemplate,
       @Qualifier("tokenIntrospectionCache")
-          final Cache<String, TokenIntrospectionResponse> tokenIntrospectionCache) {
+          final Cache<String, TokenIntrospectionResponse> tokenIntrospectionCache,
+      @Qualifier(AsyncConfig.EXTERNAL_SERVICE_EXECUTOR) final Executor externalServiceExecutor) {
     this.config = externalServicesConfig.getOauth2Service();
     // RestTemplate is a shared Spring bean designed to be reused
     // Storing the reference is intentional and safe
     this.restTemplate = restTemplate;
     // Caffeine Cache is thread-safe and designed to be shared
     this.tokenIntrospectionCache = tokenIntrospectionCache;
+    this.externalServiceExecutor = externalServiceExecutor;
   }
 
   /**
@@ -123,7 +131,8 @@ public class OAuth2Client {
             throw new ExternalServiceException(
                 ExternalServiceName.OAUTH2_SERVICE, "OAuth2 service token request failed", e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -179,7 +188,8 @@ public class OAuth2Client {
             throw new ExternalServiceException(
                 ExternalServiceName.OAUTH2_SERVICE, "OAuth2 token introspection failed", e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -218,7 +228,8 @@ public class OAuth2Client {
             throw new ExternalServiceException(
                 ExternalServiceName.OAUTH2_SERVICE, "OAuth2 user info retrieval failed", e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -2,10 +2,12 @@ package com.recipe_manager.security;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -18,6 +20,7 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.recipe_manager.config.AsyncConfig;
 import com.recipe_manager.config.ExternalServicesConfig;
 import com.recipe_manager.exception.ExternalServiceException;
 import com.recipe_manager.model.enums.ExternalServiceName;
@@ -65,17 +68,24 @@ public class ServiceAuthClient {
   /** OAuth2 service configuration. */
   private final ExternalServicesConfig.OAuth2ServiceConfig oauth2Config;
 
+  /** Executor running token requests on virtual threads. */
+  private final Executor externalServiceExecutor;
+
   /**
    * Constructs a new ServiceAuthClient.
    *
    * @param restTemplate The REST template for HTTP calls
    * @param externalServicesConfig The external services configuration
+   * @param externalServiceExecutor The executor for asynchronous token requests
    */
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ServiceAuthClient(
-      final RestTemplate restTemplate, final ExternalServicesConfig externalServicesConfig) {
+      final RestTemplate restTemplate,
+      final ExternalServicesConfig externalServicesConfig,
+      @Qualifier(AsyncConfig.EXTERNAL_SERVICE_EXECUTOR) final Executor externalServiceExecutor) {
     this.restTemplate = restTemplate;
     this.oauth2Config = externalServicesConfig.getOauth2Service();
+    this.externalServiceExecutor = externalServiceExecutor;
   }
 
   /**
@@ -117,7 +127,8 @@ public class ServiceAuthClient {
             throw new ExternalServiceException(
                 ExternalServiceName.OAUTH2_SERVICE, "Failed to acquire service token", e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
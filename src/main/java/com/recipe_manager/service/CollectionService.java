@@ -1,9 +1,15 @@
 package com.recipe_manager.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +27,7 @@ import com.recipe_manager.model.dto.request.SearchCollectionsRequest;
 import com.recipe_manager.model.dto.request.UpdateCollectionRequest;
 import com.recipe_manager.model.dto.response.CollectionDetailsDto;
 import com.recipe_manager.model.dto.response.CollectionDto;
+import com.recipe_manager.model.dto.response.CollectionRecipesResponse;
 import com.recipe_manager.model.entity.collection.CollectionCollaborator;
 import com.recipe_manager.model.entity.collection.CollectionCollaboratorId;
 import com.recipe_manager.model.entity.collection.CollectionTag;
@@ -29,16 +36,22 @@ import com.recipe_manager.model.entity.collection.RecipeCollectionItem;
 import com.recipe_manager.model.entity.collection.RecipeCollectionItemId;
 import com.recipe_manager.model.entity.recipe.Recipe;
 import com.recipe_manager.model.enums.CollaborationMode;
+import com.recipe_manager.model.enums.CollectionVisibility;
 import com.recipe_manager.model.mapper.CollectionMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionItemMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionMapper;
 import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
 import com.recipe_manager.repository.collection.CollectionSummaryProjection;
 import com.recipe_manager.repository.collection.CollectionTagRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionItemRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.CollectionItemCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import jakarta.persistence.EntityManager;
@@ -56,6 +69,12 @@ public class CollectionService {
   /** Default display order increment for recipes in collections. */
   private static final int DISPLAY_ORDER_INCREMENT = 10;
 
+  /** Number of recipes listed with a collection's details; the rest are paged separately. */
+  private static final int DETAILS_RECIPE_PAGE_SIZE = 50;
+
+  /** Maximum number of trending collections listed per user. */
+  private static final int MAX_TRENDING_COLLECTIONS = 100;
+
   /** Array index for grantedBy field in collaborator query results. */
   private static final int GRANTED_BY_INDEX = 3;
 
@@ -92,9 +111,18 @@ public class CollectionService {
   /** Service for sending notifications about recipe events. */
   private final NotificationService notificationService;
 
+  /** Service maintaining recipe and collection trending scores. */
+  private final TrendingScoreService trendingScoreService;
+
   /** Entity manager for managing persistence context. */
   @PersistenceContext private final EntityManager entityManager;
 
+  /** In-memory collection access control. */
+  private final CollectionAccessCache collectionAccessCache;
+
+  /** Global ranking of trending collections. */
+  private final TrendingCollectionRanking trendingCollectionRanking;
+
   /**
    * Constructs the collection service with required dependencies.
    *
@@ -107,7 +135,10 @@ public class CollectionService {
    * @param recipeCollectionItemMapper the mapper used for converting between item entities and DTOs
    * @param recipeRepository the repository used for accessing recipe data
    * @param notificationService the service for sending notifications
+   * @param trendingScoreService the service maintaining recipe and collection trending scores
    * @param entityManager the entity manager for managing persistence context
+   * @param collectionAccessCache the in-memory collection access control
+   * @param trendingCollectionRanking the global ranking of trending collections
    */
   public CollectionService(
       final RecipeCollectionRepository recipeCollectionRepository,
@@ -119,7 +150,10 @@ public class CollectionService {
       final RecipeCollectionItemMapper recipeCollectionItemMapper,
       final RecipeRepository recipeRepository,
       final NotificationService notificationService,
-      final EntityManager entityManager) {
+      final TrendingScoreService trendingScoreService,
+      final EntityManager entityManager,
+      final CollectionAccessCache collectionAccessCache,
+      final TrendingCollectionRanking trendingCollectionRanking) {
     this.recipeCollectionRepository = recipeCollectionRepository;
     this.recipeCollectionItemRepository = recipeCollectionItemRepository;
     this.collectionCollaboratorRepository = collectionCollaboratorRepository;
@@ -129,14 +163,17 @@ public class CollectionService {
     this.recipeCollectionItemMapper = recipeCollectionItemMapper;
     this.recipeRepository = recipeRepository;
     this.notificationService = notificationService;
+    this.trendingScoreService = trendingScoreService;
     this.entityManager = entityManager;
+    this.collectionAccessCache = collectionAccessCache;
+    this.trendingCollectionRanking = trendingCollectionRanking;
   }
 
   /**
    * Retrieves all collections accessible to the authenticated user with pagination.
    *
-   * <p>This includes collections the user owns, collaborates on, and public collections based on
-   * the vw_user_collection_access database view.
+   * <p>This includes public collections and the collections the user owns, collaborates on or can
+   * see as a friend, taken from the cached per-user access set.
    *
    * @param pageable pagination parameters including page number, size, and sort criteria
    * @return ResponseEntity containing a page of collection DTOs
@@ -146,9 +183,10 @@ public class CollectionService {
     // Get current authenticated user ID from security context
     UUID currentUserId = SecurityUtils.getCurrentUserId();
 
-    // Fetch accessible collections from repository
+    // Fetch public collections plus the non-public ones the user can access
     Page<CollectionSummaryProjection> projectionPage =
-        recipeCollectionRepository.findAccessibleCollections(currentUserId, pageable);
+        recipeCollectionRepository.findAccessibleCollections(
+            nonPublicAccessibleIds(currentUserId), pageable);
 
     // Map projections to DTOs
     Page<CollectionDto> dtoPage = projectionPage.map(collectionMapper::fromProjection);
@@ -221,14 +259,33 @@ public class CollectionService {
     RecipeCollection savedCollection = recipeCollectionRepository.save(collection);
 
     // Process batch recipe additions if provided
-    addRecipesDuringCreation(request.getRecipeIds(), savedCollection, currentUserId);
+    int recipesAdded =
+        addRecipesDuringCreation(request.getRecipeIds(), savedCollection, currentUserId);
 
     // Process batch collaborator additions if applicable
-    addCollaboratorsDuringCreation(request.getCollaboratorIds(), savedCollection, currentUserId);
+    int collaboratorsAdded =
+        addCollaboratorsDuringCreation(
+            request.getCollaboratorIds(), savedCollection, currentUserId);
+
+    // Record the stored counts once for the whole batch
+    if (recipesAdded > 0) {
+      recipeCollectionRepository.adjustRecipeCount(savedCollection.getCollectionId(), recipesAdded);
+    }
+    if (collaboratorsAdded > 0) {
+      recipeCollectionRepository.adjustCollaboratorCount(
+          savedCollection.getCollectionId(), collaboratorsAdded);
+    }
 
     // Process batch tag additions if provided
     addTagsDuringCreation(request.getTags(), savedCollection);
 
+    // The owner (and, for friends-only collections, any friend) gains access
+    if (savedCollection.getVisibility() == CollectionVisibility.FRIENDS_ONLY) {
+      collectionAccessCache.evictCollection(savedCollection.getCollectionId());
+    } else {
+      collectionAccessCache.evictUserAccess(savedCollection.getCollectionId(), currentUserId);
+    }
+
     // Flush pending writes and clear persistence context to ensure fresh load
     entityManager.flush();
     entityManager.clear();
@@ -294,6 +351,8 @@ public class CollectionService {
 
       // Save the entity
       recipeCollectionItemRepository.save(collectionItem);
+      trendingScoreService.recordCollectionAdd(recipeId);
+      trendingScoreService.recordCollectionRecipeAdd(collection.getCollectionId());
 
       // Trigger async notification to recipe author
       notificationService.notifyRecipeCollectedAsync(
@@ -352,6 +411,7 @@ public class CollectionService {
       // exist
       try {
         collectionCollaboratorRepository.save(collaborator);
+        collectionAccessCache.evictUserAccess(collection.getCollectionId(), userId);
         addedCount++;
       } catch (org.springframework.dao.DataIntegrityViolationException e) {
         throw new ResourceNotFoundException("User with ID " + userId + " not found");
@@ -412,12 +472,12 @@ public class CollectionService {
    * Retrieves detailed information about a specific collection by ID.
    *
    * <p>This method checks if the authenticated user has view access to the collection using the
-   * vw_user_collection_access database view, fetches the collection with all recipes eagerly
-   * loaded, and returns the detailed collection information including all recipes ordered by
-   * display order.
+   * in-memory collection access cache and returns the collection's details with the first page of
+   * its recipes, ordered by display order. The items of large collections are not loaded; the
+   * response carries a cursor for {@link #getCollectionRecipes} when there are more recipes.
    *
    * @param collectionId the ID of the collection to retrieve
-   * @return ResponseEntity containing the detailed collection DTO with all recipes
+   * @return ResponseEntity containing the detailed collection DTO with the first page of recipes
    * @throws ResourceNotFoundException if the collection doesn't exist or user has no access
    */
   @Transactional(readOnly = true)
@@ -425,23 +485,50 @@ public class CollectionService {
     // Get current authenticated user ID from security context
     UUID currentUserId = SecurityUtils.getCurrentUserId();
 
-    // Check view permission using database view
-    if (!recipeCollectionRepository.hasViewAccess(collectionId, currentUserId)) {
+    // Check view permission using the access cache
+    if (!collectionAccessCache.hasViewAccess(collectionId, currentUserId)) {
       throw new ResourceNotFoundException("Collection not found or access denied");
     }
 
-    // Fetch collection with items eagerly loaded
+    // Fetch the collection without its items
     RecipeCollection collection =
         recipeCollectionRepository
-            .findByIdWithItems(collectionId)
+            .findById(collectionId)
             .orElseThrow(() -> new ResourceNotFoundException("Collection not found"));
 
-    // Map entity to detailed DTO with all recipes
-    CollectionDetailsDto dto = collectionMapper.toDetailsDto(collection);
+    // Map entity to detailed DTO and add the first page of recipes
+    CollectionDetailsDto dto = collectionMapper.toDetailsDtoWithoutRecipes(collection);
+    CollectionRecipesResponse firstPage =
+        loadRecipePage(collectionId, null, DETAILS_RECIPE_PAGE_SIZE);
+    dto.setRecipes(firstPage.getRecipes());
+    dto.setRecipesNextCursor(firstPage.getNextCursor());
 
     return ResponseEntity.ok(dto);
   }
 
+  /**
+   * Retrieves a page of the recipes in a collection using keyset (cursor) pagination, ordered by
+   * display order.
+   *
+   * @param collectionId the ID of the collection
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @return ResponseEntity containing the page of recipes and the next cursor
+   * @throws ResourceNotFoundException if the collection doesn't exist or user has no access
+   * @throws com.recipe_manager.exception.BusinessException if the cursor is malformed
+   */
+  @Transactional(readOnly = true)
+  public ResponseEntity<CollectionRecipesResponse> getCollectionRecipes(
+      final Long collectionId, final String cursor, final int size) {
+    UUID currentUserId = SecurityUtils.getCurrentUserId();
+
+    if (!collectionAccessCache.hasViewAccess(collectionId, currentUserId)) {
+      throw new ResourceNotFoundException("Collection not found or access denied");
+    }
+
+    return ResponseEntity.ok(loadRecipePage(collectionId, cursor, size));
+  }
+
   /**
    * Updates collection metadata (name, description, visibility, collaboration mode).
    *
@@ -471,6 +558,10 @@ public class CollectionService {
       throw new AccessDeniedException("Only the collection owner can update it");
     }
 
+    // Remember who could see and edit the collection before the update
+    CollectionVisibility previousVisibility = collection.getVisibility();
+    CollaborationMode previousCollaborationMode = collection.getCollaborationMode();
+
     // Update only provided fields (partial update)
     if (request.getName() != null) {
       collection.setName(request.getName());
@@ -488,6 +579,12 @@ public class CollectionService {
     // Save the updated collection (updatedAt will be set automatically by JPA)
     RecipeCollection updatedCollection = recipeCollectionRepository.save(collection);
 
+    // Access may have changed for any user
+    if (collection.getVisibility() != previousVisibility
+        || collection.getCollaborationMode() != previousCollaborationMode) {
+      collectionAccessCache.evictCollection(collectionId);
+    }
+
     // Convert updated entity to DTO
     CollectionDto responseDto = collectionMapper.toDto(updatedCollection);
 
@@ -523,6 +620,7 @@ public class CollectionService {
 
     // Delete the collection (cascade will delete items and collaborators)
     recipeCollectionRepository.delete(collection);
+    collectionAccessCache.evictDeletedCollection(collectionId);
 
     // Return 204 No Content
     return ResponseEntity.noContent().build();
@@ -572,9 +670,16 @@ public class CollectionService {
    *   <li>Favorites (weight: 3.0)
    *   <li>Recipe additions (weight: 4.0)
    *   <li>Time decay: half-life of ~3 days
-   *   <li>Maximum 100 trending collections are considered
+   *   <li>Maximum 100 trending collections are listed
    * </ul>
    *
+   * <p>Scores are maintained as events happen and ranked globally in the background (see {@link
+   * TrendingCollectionRanking}); this only filters the ranking through the user's access and loads
+   * the collections on the requested page. The ranking holds the global top {@code
+   * app.trending.collections.ranking-size} (default 1000) collections. When fewer than 100 of them
+   * are visible to the user and the ranking was cut off at that size, the user's list is read from
+   * the score index instead, limited to the collections they can access.
+   *
    * @param pageable pagination parameters
    * @return ResponseEntity containing paginated trending collections
    */
@@ -582,12 +687,32 @@ public class CollectionService {
   public ResponseEntity<Page<CollectionDto>> getTrendingCollections(final Pageable pageable) {
     UUID currentUserId = SecurityUtils.getCurrentUserId();
 
-    Page<RecipeCollection> collections =
-        recipeCollectionRepository.findTrendingCollections(currentUserId, pageable);
-
-    Page<CollectionDto> dtoPage = collections.map(collectionMapper::toDto);
+    // Keep the top trending collections the user can see
+    List<Long> trendingIds =
+        collectionAccessCache.filterViewable(
+            trendingCollectionRanking.getRanking(), currentUserId, MAX_TRENDING_COLLECTIONS);
+    if (trendingIds.size() < MAX_TRENDING_COLLECTIONS && trendingCollectionRanking.isTruncated()) {
+      // Collections the user can see may rank below the global top
+      trendingIds =
+          recipeCollectionRepository.findTrendingAccessibleCollectionIds(
+              nonPublicAccessibleIds(currentUserId), MAX_TRENDING_COLLECTIONS);
+    }
 
-    return ResponseEntity.ok(dtoPage);
+    // Load only the requested page, in ranking order
+    int from = (int) Math.min(pageable.getOffset(), trendingIds.size());
+    int to = Math.min(from + pageable.getPageSize(), trendingIds.size());
+    List<Long> pageIds = trendingIds.subList(from, to);
+    Map<Long, RecipeCollection> collectionsById =
+        recipeCollectionRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(RecipeCollection::getCollectionId, Function.identity()));
+    List<CollectionDto> collections =
+        pageIds.stream()
+            .map(collectionsById::get)
+            .filter(Objects::nonNull)
+            .map(collectionMapper::toDto)
+            .toList();
+
+    return ResponseEntity.ok(new PageImpl<>(collections, pageable, trendingIds.size()));
   }
 
   /**
@@ -606,10 +731,10 @@ public class CollectionService {
     // Get current authenticated user ID
     UUID currentUserId = SecurityUtils.getCurrentUserId();
 
-    // Fetch the collection and verify it exists
+    // Fetch and lock the collection so concurrent appends cannot read the same max display order
     RecipeCollection collection =
         recipeCollectionRepository
-            .findById(collectionId)
+            .findByIdForUpdate(collectionId)
             .orElseThrow(() -> new ResourceNotFoundException("Collection not found"));
 
     // Check if user has edit permission
@@ -621,7 +746,8 @@ public class CollectionService {
       throw new DuplicateResourceException("Recipe is already in this collection");
     }
 
-    // Calculate display order (max + 10, or 10 if collection is empty)
+    // Calculate display order (max + 10, or 10 if collection is empty); the gap leaves room to
+    // move other items in between later without renumbering
     Integer maxDisplayOrder =
         recipeCollectionItemRepository.findMaxDisplayOrderByCollectionId(collectionId);
     int newDisplayOrder =
@@ -642,6 +768,9 @@ public class CollectionService {
 
     // Save the entity
     RecipeCollectionItem savedItem = recipeCollectionItemRepository.save(collectionItem);
+    recipeCollectionRepository.adjustRecipeCount(collectionId, 1);
+    trendingScoreService.recordCollectionAdd(recipeId);
+    trendingScoreService.recordCollectionRecipeAdd(collectionId);
 
     // Trigger async notification to recipe author
     Recipe recipe =
@@ -697,6 +826,7 @@ public class CollectionService {
 
     // Delete the recipe from the collection
     recipeCollectionItemRepository.deleteByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
+    recipeCollectionRepository.adjustRecipeCount(collectionId, -1);
 
     // Return 204 No Content
     return ResponseEntity.noContent().build();
@@ -735,24 +865,16 @@ public class CollectionService {
     // Check if user has edit permission
     checkEditPermission(collection, currentUserId);
 
-    // Find the recipe collection item
+    // Find the recipe collection item with recipe metadata loaded
     RecipeCollectionItem item =
         recipeCollectionItemRepository
-            .findByIdCollectionIdAndIdRecipeId(collectionId, recipeId)
+            .findByIdCollectionIdAndIdRecipeIdWithRecipe(collectionId, recipeId)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Recipe not found in this collection"));
 
-    // Update display order
+    // Update display order; only this item's row changes
     item.setDisplayOrder(request.getDisplayOrder());
-    recipeCollectionItemRepository.save(item);
-
-    // Fetch the item with recipe metadata loaded
-    RecipeCollectionItem updatedItem =
-        recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId).stream()
-            .filter(i -> i.getId().getRecipeId().equals(recipeId))
-            .findFirst()
-            .orElseThrow(
-                () -> new ResourceNotFoundException("Recipe not found in this collection"));
+    RecipeCollectionItem updatedItem = recipeCollectionItemRepository.save(item);
 
     // Map to DTO and return 200 OK
     com.recipe_manager.model.dto.collection.CollectionRecipeDto responseDto =
@@ -768,15 +890,16 @@ public class CollectionService {
    * <p>This method:
    *
    * <ul>
-   *   <li>Validates all recipes exist in the collection
    *   <li>Validates no duplicate display orders in the request
-   *   <li>Updates all display orders atomically in a transaction
-   *   <li>Returns updated recipes with metadata (title, description) in display order
+   *   <li>Updates all display orders with a single set-based statement
+   *   <li>Validates all recipes exist in the collection, rolling the update back if not
+   *   <li>Returns the reordered recipes with metadata (title, description) in display order; the
+   *       rest of the collection is not loaded
    * </ul>
    *
    * @param collectionId the ID of the collection
    * @param request the reorder request containing recipe IDs and new display orders
-   * @return ResponseEntity containing list of CollectionRecipeDto with updated orders
+   * @return ResponseEntity containing list of CollectionRecipeDto for the reordered recipes
    * @throws ResourceNotFoundException if collection not found or any recipe not in collection
    * @throws AccessDeniedException if user lacks edit permission
    * @throws IllegalArgumentException if request contains duplicate display orders or invalid data
@@ -811,46 +934,36 @@ public class CollectionService {
       throw new IllegalArgumentException("Request contains duplicate display orders");
     }
 
-    // Fetch all existing items in the collection to validate recipes exist
-    List<RecipeCollectionItem> existingItems =
-        recipeCollectionItemRepository.findByIdCollectionId(collectionId);
-
-    // Create a map of existing recipe IDs for quick lookup
-    java.util.Set<Long> existingRecipeIds =
-        existingItems.stream()
-            .map(item -> item.getId().getRecipeId())
-            .collect(java.util.stream.Collectors.toSet());
-
-    // Validate all requested recipes exist in the collection
+    // Update all display orders in one statement; a later entry for the same recipe wins
+    java.util.Map<Long, Integer> displayOrders = new java.util.LinkedHashMap<>();
     for (RecipeOrder recipeOrder : request.getRecipes()) {
-      if (!existingRecipeIds.contains(recipeOrder.getRecipeId())) {
-        throw new ResourceNotFoundException(
-            "Recipe with ID " + recipeOrder.getRecipeId() + " not found in this collection");
-      }
+      displayOrders.put(recipeOrder.getRecipeId(), recipeOrder.getDisplayOrder());
     }
-
-    // Update display orders for all recipes in the request
-    for (RecipeOrder recipeOrder : request.getRecipes()) {
-      RecipeCollectionItem item =
-          recipeCollectionItemRepository
-              .findByIdCollectionIdAndIdRecipeId(collectionId, recipeOrder.getRecipeId())
-              .orElseThrow(
-                  () ->
-                      new ResourceNotFoundException(
-                          "Recipe " + recipeOrder.getRecipeId() + " not found in collection"));
-      item.setDisplayOrder(recipeOrder.getDisplayOrder());
-      recipeCollectionItemRepository.save(item);
+    int updatedCount =
+        recipeCollectionItemRepository.updateDisplayOrders(collectionId, displayOrders);
+
+    // Fetch only the reordered items with recipe metadata, in display order
+    List<CollectionRecipeProjection> updatedItems =
+        recipeCollectionItemRepository.findRecipesByIds(collectionId, displayOrders.keySet());
+
+    // Any recipe the update did not match is not in the collection; throwing rolls the update back
+    if (updatedCount != displayOrders.size()) {
+      java.util.Set<Long> existingRecipeIds =
+          updatedItems.stream()
+              .map(CollectionRecipeProjection::getRecipeId)
+              .collect(java.util.stream.Collectors.toSet());
+      Long missingRecipeId =
+          displayOrders.keySet().stream()
+              .filter(id -> !existingRecipeIds.contains(id))
+              .findFirst()
+              .orElse(null);
+      throw new ResourceNotFoundException(
+          "Recipe with ID " + missingRecipeId + " not found in this collection");
     }
 
-    // Fetch all items with recipe metadata and return in display order
-    List<RecipeCollectionItem> updatedItems =
-        recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId);
-
     // Map to DTOs
     List<com.recipe_manager.model.dto.collection.CollectionRecipeDto> responseDtos =
-        updatedItems.stream()
-            .map(collectionMapper::toRecipeDto)
-            .collect(java.util.stream.Collectors.toList());
+        collectionMapper.fromRecipeProjections(updatedItems);
 
     return ResponseEntity.ok(responseDtos);
   }
@@ -973,6 +1086,8 @@ public class CollectionService {
     // Save the collaborator
     try {
       collectionCollaboratorRepository.save(collaborator);
+      recipeCollectionRepository.adjustCollaboratorCount(collectionId, 1);
+      collectionAccessCache.evictUserAccess(collectionId, targetUserId);
 
       // Fetch with usernames using the native query
       List<Object[]> collaboratorRows =
@@ -1045,6 +1160,8 @@ public class CollectionService {
 
     // Delete the collaborator
     collectionCollaboratorRepository.deleteByIdCollectionIdAndIdUserId(collectionId, userId);
+    recipeCollectionRepository.adjustCollaboratorCount(collectionId, -1);
+    collectionAccessCache.evictUserAccess(collectionId, userId);
 
     return ResponseEntity.noContent().build();
   }
@@ -1071,15 +1188,12 @@ public class CollectionService {
     }
 
     // Check if user is a collaborator
-    boolean isCollaborator =
-        collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collection.getCollectionId(), userId);
-    if (isCollaborator) {
+    if (collectionAccessCache.isCollaborator(collection.getCollectionId(), userId)) {
       return;
     }
 
     // Check visibility
-    if (collection.getVisibility() == com.recipe_manager.model.enums.CollectionVisibility.PUBLIC) {
+    if (collection.getVisibility() == CollectionVisibility.PUBLIC) {
       return;
     }
 
@@ -1118,10 +1232,7 @@ public class CollectionService {
 
     if (mode == CollaborationMode.SPECIFIC_USERS) {
       // Check if user is a collaborator
-      boolean isCollaborator =
-          collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-              collection.getCollectionId(), userId);
-      if (isCollaborator) {
+      if (collectionAccessCache.isCollaborator(collection.getCollectionId(), userId)) {
         return;
       }
     }
@@ -1130,6 +1241,49 @@ public class CollectionService {
     throw new AccessDeniedException("User doesn't have edit permission for this collection");
   }
 
+  /**
+   * Loads one keyset page of a collection's recipes. One row more than the page size is read to
+   * learn whether another page exists.
+   *
+   * @param collectionId the collection ID
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @return the page of recipes and the cursor for the next page
+   */
+  private CollectionRecipesResponse loadRecipePage(
+      final Long collectionId, final String cursor, final int size) {
+    CollectionItemCursor after = CollectionItemCursor.decode(cursor);
+    Pageable limit = PageRequest.of(0, size + 1);
+
+    List<CollectionRecipeProjection> rows =
+        after == null
+            ? recipeCollectionItemRepository.findRecipePage(collectionId, limit)
+            : recipeCollectionItemRepository.findRecipePageAfter(
+                collectionId, after.getDisplayOrder(), after.getRecipeId(), limit);
+    String nextCursor = null;
+    if (rows.size() > size) {
+      rows = rows.subList(0, size);
+      CollectionRecipeProjection last = rows.get(size - 1);
+      nextCursor = CollectionItemCursor.of(last.getDisplayOrder(), last.getRecipeId()).encode();
+    }
+
+    return CollectionRecipesResponse.builder()
+        .collectionId(collectionId)
+        .recipes(collectionMapper.fromRecipeProjections(rows))
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Returns the non-public collections a user can access as an array for use in native queries.
+   *
+   * @param userId the user ID
+   * @return the accessible non-public collection IDs
+   */
+  private Long[] nonPublicAccessibleIds(final UUID userId) {
+    return collectionAccessCache.getNonPublicAccessibleIds(userId).toArray(Long[]::new);
+  }
+
   /**
    * Converts a list of enums to a String array for use in native queries.
    *
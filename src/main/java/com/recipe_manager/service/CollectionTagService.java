@@ -2,6 +2,7 @@ package com.recipe_manager.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,8 +66,7 @@ public class CollectionTagService {
 
     // Find or create the tag
     CollectionTag tag =
-        collectionTagRepository
-            .findByNameIgnoreCase(request.getName())
+        findTagByName(request.getName())
             .orElseGet(
                 () -> {
                   CollectionTag newTag =
@@ -105,8 +105,7 @@ public class CollectionTagService {
                     new ResourceNotFoundException("Collection not found with ID: " + collectionId));
 
     CollectionTag tag =
-        collectionTagRepository
-            .findByNameIgnoreCase(request.getTagName())
+        findTagByName(request.getTagName())
             .orElseThrow(
                 () ->
                     new ResourceNotFoundException(
@@ -140,6 +139,19 @@ public class CollectionTagService {
     return getTagsResponse(collectionId, collection.getCollectionTags());
   }
 
+  /**
+   * Find a tag by name, trying the cached natural-id lookup for an exact match before falling back
+   * to the case-insensitive query.
+   *
+   * @param name the tag name
+   * @return Optional containing the tag if found, empty otherwise
+   */
+  private Optional<CollectionTag> findTagByName(final String name) {
+    return collectionTagRepository
+        .findBySimpleNaturalId(name.trim())
+        .or(() -> collectionTagRepository.findByNameIgnoreCase(name));
+  }
+
   /**
    * Helper method to create CollectionTagResponse from collection tags.
    *
@@ -1,11 +1,15 @@
 package com.recipe_manager.service;
 
 import java.nio.file.AccessDeniedException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,8 +22,9 @@ import com.recipe_manager.exception.ResourceNotFoundException;
 import com.recipe_manager.model.dto.collection.CollectionFavoriteDto;
 import com.recipe_manager.model.dto.external.usermanagement.GetFollowersResponseDto;
 import com.recipe_manager.model.dto.external.usermanagement.UserPreferencesDto;
-import com.recipe_manager.model.dto.recipe.RecipeDto;
 import com.recipe_manager.model.dto.recipe.RecipeFavoriteDto;
+import com.recipe_manager.model.dto.recipe.RecipeSummaryDto;
+import com.recipe_manager.model.dto.recipe.RecipeView;
 import com.recipe_manager.model.dto.response.CollectionDto;
 import com.recipe_manager.model.dto.response.SearchRecipesResponse;
 import com.recipe_manager.model.entity.collection.CollectionFavorite;
@@ -28,6 +33,7 @@ import com.recipe_manager.model.entity.collection.RecipeCollection;
 import com.recipe_manager.model.entity.recipe.Recipe;
 import com.recipe_manager.model.entity.recipe.RecipeFavorite;
 import com.recipe_manager.model.entity.recipe.RecipeFavoriteId;
+import com.recipe_manager.model.enums.ExternalServiceName;
 import com.recipe_manager.model.enums.ProfileVisibilityEnum;
 import com.recipe_manager.model.mapper.CollectionFavoriteMapper;
 import com.recipe_manager.model.mapper.CollectionMapper;
@@ -37,9 +43,16 @@ import com.recipe_manager.repository.collection.CollectionFavoriteRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeFavoriteRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.repository.recipe.RecipeSummaryProjection;
+import com.recipe_manager.service.cache.CollectionAccessCache;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.external.SingleFlight;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.RecipeCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Service for managing recipe favorites.
@@ -86,6 +99,19 @@ public class FavoriteService {
   /** Client for user management service. */
   private final UserManagementClient userManagementClient;
 
+  /** Service maintaining recipe and collection trending scores. */
+  private final TrendingScoreService trendingScoreService;
+
+  /** Read-through cache of fully built recipe DTOs. */
+  private final RecipeCacheService recipeCacheService;
+
+  /** In-memory collection access control. */
+  private final CollectionAccessCache collectionAccessCache;
+
+  /** Shares concurrent privacy preference lookups for the same user. */
+  private final SingleFlight<UUID, UserPreferencesDto> userPreferencesCalls =
+      new SingleFlight<>(ExternalServiceName.USER_MANAGEMENT, "getUserPreferences");
+
   /**
    * Constructs the service with required dependencies.
    *
@@ -98,6 +124,10 @@ public class FavoriteService {
    * @param collectionFavoriteMapper mapper for collection favorites
    * @param collectionMapper mapper for collections
    * @param userManagementClient client for user management service
+   * @param trendingScoreService service maintaining recipe and collection trending scores
+   * @param recipeCacheService read-through cache of fully built recipe DTOs
+   * @param collectionAccessCache in-memory collection access control
+   * @param meterRegistry registry for request coalescing metrics
    */
   @SuppressFBWarnings(
       value = "EI_EXPOSE_REP2",
@@ -111,7 +141,11 @@ public class FavoriteService {
       final RecipeMapper recipeMapper,
       final CollectionFavoriteMapper collectionFavoriteMapper,
       final CollectionMapper collectionMapper,
-      final UserManagementClient userManagementClient) {
+      final UserManagementClient userManagementClient,
+      final TrendingScoreService trendingScoreService,
+      final RecipeCacheService recipeCacheService,
+      final CollectionAccessCache collectionAccessCache,
+      final MeterRegistry meterRegistry) {
     this.recipeFavoriteRepository = recipeFavoriteRepository;
     this.recipeRepository = recipeRepository;
     this.collectionFavoriteRepository = collectionFavoriteRepository;
@@ -121,6 +155,12 @@ public class FavoriteService {
     this.collectionFavoriteMapper = collectionFavoriteMapper;
     this.collectionMapper = collectionMapper;
     this.userManagementClient = userManagementClient;
+    this.trendingScoreService = trendingScoreService;
+    this.recipeCacheService = recipeCacheService;
+    this.collectionAccessCache = collectionAccessCache;
+    if (meterRegistry != null) {
+      userPreferencesCalls.bindTo(meterRegistry);
+    }
   }
 
   /**
@@ -136,6 +176,21 @@ public class FavoriteService {
    */
   public ResponseEntity<SearchRecipesResponse> getUserFavorites(
       final UUID userId, final Pageable pageable) throws AccessDeniedException {
+    return getUserFavorites(userId, pageable, true);
+  }
+
+  /**
+   * Get favorited recipes for a user with privacy controls, as summaries or full recipe graphs.
+   *
+   * @param userId the user ID whose favorites to retrieve (null for authenticated user)
+   * @param pageable pagination parameters
+   * @param includeDetails whether to return full recipes instead of summaries
+   * @return ResponseEntity with paginated search response containing favorite recipes
+   * @throws AccessDeniedException if the requesting user is not authorized to view the favorites
+   */
+  public ResponseEntity<SearchRecipesResponse> getUserFavorites(
+      final UUID userId, final Pageable pageable, final boolean includeDetails)
+      throws AccessDeniedException {
 
     final UUID authenticatedUserId = SecurityUtils.getCurrentUserId();
     final UUID targetUserId = (userId != null) ? userId : authenticatedUserId;
@@ -150,11 +205,8 @@ public class FavoriteService {
         recipeFavoriteRepository.findByUserIdWithRecipe(targetUserId, pageable);
 
     // Convert to Recipe DTOs
-    List<RecipeDto> recipeDtos =
-        favoritesPage.getContent().stream()
-            .map(RecipeFavorite::getRecipe)
-            .map(recipeMapper::toDto)
-            .toList();
+    List<? extends RecipeView> recipeDtos =
+        toRecipeViews(favoritesPage.getContent(), includeDetails);
 
     // Build response matching SearchRecipesResponse format
     SearchRecipesResponse response =
@@ -173,6 +225,68 @@ public class FavoriteService {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Get favorited recipes for a user using keyset (cursor) pagination, most recently favorited
+   * first.
+   *
+   * <p>Applies the same privacy rules as {@link #getUserFavorites(UUID, Pageable, boolean)}. No count query
+   * runs, so {@code totalElements} and {@code totalPages} are reported as -1.
+   *
+   * @param userId the user ID whose favorites to retrieve (null for authenticated user)
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @param includeDetails whether to return full recipes instead of summaries
+   * @return ResponseEntity with the page of favorite recipes and the next cursor
+   * @throws AccessDeniedException if the requesting user is not authorized to view the favorites
+   */
+  public ResponseEntity<SearchRecipesResponse> getUserFavorites(
+      final UUID userId, final String cursor, final int size, final boolean includeDetails)
+      throws AccessDeniedException {
+
+    final UUID authenticatedUserId = SecurityUtils.getCurrentUserId();
+    final UUID targetUserId = (userId != null) ? userId : authenticatedUserId;
+
+    if (!targetUserId.equals(authenticatedUserId)) {
+      checkPrivacyAuthorization(targetUserId, authenticatedUserId);
+    }
+
+    // Fetch one extra row to learn whether another page exists
+    RecipeCursor after = RecipeCursor.decodeTimestamp(cursor);
+    Pageable limit = PageRequest.of(0, size + 1);
+    List<RecipeFavorite> favorites =
+        after == null
+            ? recipeFavoriteRepository.findLatestByUserIdWithRecipe(targetUserId, limit)
+            : recipeFavoriteRepository.findByUserIdWithRecipeFavoritedBefore(
+                targetUserId, after.getTimestamp(), after.getRecipeId(), limit);
+
+    boolean hasNext = favorites.size() > size;
+    List<RecipeFavorite> page = hasNext ? favorites.subList(0, size) : favorites;
+    String nextCursor = null;
+    if (hasNext) {
+      RecipeFavorite last = page.get(page.size() - 1);
+      nextCursor =
+          RecipeCursor.ofTimestamp(last.getFavoritedAt(), last.getId().getRecipeId()).encode();
+    }
+
+    List<? extends RecipeView> recipeDtos = toRecipeViews(page, includeDetails);
+
+    SearchRecipesResponse response =
+        SearchRecipesResponse.builder()
+            .recipes(recipeDtos)
+            .page(0)
+            .size(size)
+            .totalElements(-1)
+            .totalPages(-1)
+            .first(after == null)
+            .last(nextCursor == null)
+            .numberOfElements(recipeDtos.size())
+            .empty(recipeDtos.isEmpty())
+            .nextCursor(nextCursor)
+            .build();
+
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Add a recipe to the authenticated user's favorites.
    *
@@ -206,6 +320,8 @@ public class FavoriteService {
 
     // Save and return DTO
     RecipeFavorite savedFavorite = recipeFavoriteRepository.save(favorite);
+    trendingScoreService.recordFavorite(recipeId);
+    recipeCacheService.evict(recipeId);
     RecipeFavoriteDto dto = recipeFavoriteMapper.toDto(savedFavorite);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(dto);
@@ -223,12 +339,16 @@ public class FavoriteService {
     final UUID currentUserId = SecurityUtils.getCurrentUserId();
 
     // Verify favorite exists
-    if (!recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(currentUserId, recipeId)) {
-      throw new ResourceNotFoundException("Favorite not found for this user and recipe");
-    }
+    RecipeFavorite favorite =
+        recipeFavoriteRepository
+            .findByIdUserIdAndIdRecipeId(currentUserId, recipeId)
+            .orElseThrow(
+                () -> new ResourceNotFoundException("Favorite not found for this user and recipe"));
 
-    // Delete favorite
+    // Delete favorite and take back its trending weight
     recipeFavoriteRepository.deleteByIdUserIdAndIdRecipeId(currentUserId, recipeId);
+    trendingScoreService.withdrawFavorite(recipeId, favorite.getFavoritedAt());
+    recipeCacheService.evict(recipeId);
 
     return ResponseEntity.noContent().build();
   }
@@ -259,8 +379,10 @@ public class FavoriteService {
   private void checkPrivacyAuthorization(final UUID targetUserId, final UUID requestingUserId)
       throws AccessDeniedException {
 
-    // Get user preferences from user-management-service
-    UserPreferencesDto preferences = userManagementClient.getUserPreferences(targetUserId);
+    // Get user preferences from user-management-service, sharing concurrent lookups
+    UserPreferencesDto preferences =
+        userPreferencesCalls.call(
+            targetUserId, () -> userManagementClient.getUserPreferences(targetUserId));
 
     // Extract profile visibility
     ProfileVisibilityEnum visibility = preferences.getPrivacy().getProfileVisibility();
@@ -292,6 +414,30 @@ public class FavoriteService {
     }
   }
 
+  /**
+   * Maps a page of favorites to their recipes, as full DTOs or as summaries loaded with a single
+   * projection query.
+   *
+   * @param favorites the favorites in page order
+   * @param includeDetails whether to map the full recipe graph
+   * @return the recipe views in page order
+   */
+  private List<? extends RecipeView> toRecipeViews(
+      final List<RecipeFavorite> favorites, final boolean includeDetails) {
+    if (includeDetails) {
+      return favorites.stream().map(RecipeFavorite::getRecipe).map(recipeMapper::toDto).toList();
+    }
+    if (favorites.isEmpty()) {
+      return List.of();
+    }
+    List<Long> recipeIds = favorites.stream().map(f -> f.getId().getRecipeId()).toList();
+    Map<Long, RecipeSummaryDto> byId = new HashMap<>();
+    for (RecipeSummaryProjection row : recipeRepository.findSummariesByRecipeIdIn(recipeIds)) {
+      byId.put(row.getRecipeId(), recipeMapper.toSummaryDto(row));
+    }
+    return recipeIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+  }
+
   // ==================== Collection Favorites ====================
 
   /**
@@ -366,7 +512,7 @@ public class FavoriteService {
                     new ResourceNotFoundException("Collection not found with ID: " + collectionId));
 
     // Verify user has view access to the collection
-    if (!recipeCollectionRepository.hasViewAccess(collectionId, currentUserId)) {
+    if (!collectionAccessCache.hasViewAccess(collectionId, currentUserId)) {
       throw new AccessDeniedException("You do not have access to view this collection");
     }
 
@@ -380,6 +526,7 @@ public class FavoriteService {
 
     // Save and return DTO
     CollectionFavorite savedFavorite = collectionFavoriteRepository.save(favorite);
+    trendingScoreService.recordCollectionFavorite(collectionId);
     CollectionFavoriteDto dto = collectionFavoriteMapper.toDto(savedFavorite);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(dto);
@@ -397,13 +544,17 @@ public class FavoriteService {
     final UUID currentUserId = SecurityUtils.getCurrentUserId();
 
     // Verify favorite exists
-    if (!collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
-        currentUserId, collectionId)) {
-      throw new ResourceNotFoundException("Favorite not found for this user and collection");
-    }
+    CollectionFavorite favorite =
+        collectionFavoriteRepository
+            .findByIdUserIdAndIdCollectionId(currentUserId, collectionId)
+            .orElseThrow(
+                () ->
+                    new ResourceNotFoundException(
+                        "Favorite not found for this user and collection"));
 
-    // Delete favorite
+    // Delete favorite and take back its trending weight
     collectionFavoriteRepository.deleteByIdUserIdAndIdCollectionId(currentUserId, collectionId);
+    trendingScoreService.withdrawCollectionFavorite(collectionId, favorite.getFavoritedAt());
 
     return ResponseEntity.noContent().build();
   }
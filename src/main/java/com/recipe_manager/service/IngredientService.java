@@ -1,8 +1,15 @@
 package com.recipe_manager.service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,13 +20,16 @@ import org.springframework.stereotype.Service;
 
 import com.recipe_manager.exception.BusinessException;
 import com.recipe_manager.exception.ResourceNotFoundException;
-import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.model.dto.ingredient.IngredientCommentDto;
 import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
 import com.recipe_manager.model.dto.request.AddIngredientCommentRequest;
 import com.recipe_manager.model.dto.request.DeleteIngredientCommentRequest;
 import com.recipe_manager.model.dto.request.EditIngredientCommentRequest;
+import com.recipe_manager.model.dto.request.MealPlanShoppingListRequest;
+import com.recipe_manager.model.dto.request.MealPlanShoppingListRequest.MealPlanRecipe;
 import com.recipe_manager.model.dto.response.IngredientCommentResponse;
 import com.recipe_manager.model.dto.response.IngredientRevisionsResponse;
+import com.recipe_manager.model.dto.response.MealPlanShoppingListResponse;
 import com.recipe_manager.model.dto.response.RecipeIngredientsResponse;
 import com.recipe_manager.model.dto.response.ShoppingListResponse;
 import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
@@ -36,8 +46,11 @@ import com.recipe_manager.repository.ingredient.IngredientCommentRepository;
 import com.recipe_manager.repository.recipe.RecipeIngredientRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
-import com.recipe_manager.service.external.RecipeScraperService;
+import com.recipe_manager.service.cache.IngredientPriceCache;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.util.RevisionCursor;
+import com.recipe_manager.util.ShoppingListAggregator;
 import com.recipe_manager.util.SecurityUtils;
 
 import io.micrometer.core.instrument.Counter;
@@ -78,8 +91,8 @@ public final class IngredientService {
   /** Mapper for converting RecipeIngredient entities to shopping list items. */
   private final ShoppingListMapper shoppingListMapper;
 
-  /** Service for retrieving external pricing information. */
-  private final RecipeScraperService recipeScraperService;
+  /** Per-ingredient prices backed by the recipe scraper. */
+  private final IngredientPriceCache ingredientPriceCache;
 
   /** Service for sending notifications about recipe events. */
   private final NotificationService notificationService;
@@ -102,7 +115,7 @@ public final class IngredientService {
       final IngredientCommentMapper ingredientCommentMapper,
       final RecipeRevisionMapper recipeRevisionMapper,
       final ShoppingListMapper shoppingListMapper,
-      final RecipeScraperService recipeScraperService,
+      final IngredientPriceCache ingredientPriceCache,
       final NotificationService notificationService) {
     this.recipeIngredientRepository = recipeIngredientRepository;
     this.ingredientCommentRepository = ingredientCommentRepository;
@@ -112,7 +125,7 @@ public final class IngredientService {
     this.ingredientCommentMapper = ingredientCommentMapper;
     this.recipeRevisionMapper = recipeRevisionMapper;
     this.shoppingListMapper = shoppingListMapper;
-    this.recipeScraperService = recipeScraperService;
+    this.ingredientPriceCache = ingredientPriceCache;
     this.notificationService = notificationService;
   }
 
@@ -148,14 +161,8 @@ public final class IngredientService {
     final List<RecipeIngredient> ingredients = recipeIngredientRepository.findByRecipeRecipeId(id);
     final List<RecipeIngredientDto> ingredientDtos = recipeIngredientMapper.toDtoList(ingredients);
 
-    // Fetch and populate comments for each ingredient
-    ingredientDtos.forEach(
-        dto -> {
-          final List<IngredientComment> comments =
-              ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(
-                  dto.getIngredientId());
-          dto.setComments(ingredientCommentMapper.toDtoList(comments));
-        });
+    // Fetch comments for all ingredients in one query
+    populateComments(ingredientDtos);
 
     final RecipeIngredientsResponse response =
         RecipeIngredientsResponse.builder()
@@ -186,14 +193,8 @@ public final class IngredientService {
     final List<RecipeIngredientDto> scaledIngredientDtos =
         recipeIngredientMapper.toDtoListWithScale(ingredients, quantity);
 
-    // Fetch and populate comments for each ingredient
-    scaledIngredientDtos.forEach(
-        dto -> {
-          final List<IngredientComment> comments =
-              ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(
-                  dto.getIngredientId());
-          dto.setComments(ingredientCommentMapper.toDtoList(comments));
-        });
+    // Fetch comments for all ingredients in one query
+    populateComments(scaledIngredientDtos);
 
     final RecipeIngredientsResponse response =
         RecipeIngredientsResponse.builder()
@@ -229,56 +230,157 @@ public final class IngredientService {
     final List<ShoppingListItemDto> shoppingListItems =
         shoppingListMapper.toAggregatedShoppingListItems(ingredients);
 
-    // Get external pricing data
-    RecipeScraperShoppingDto pricingData = null;
-    boolean hasPricingData = false;
-    try {
-      LOGGER.debug("Fetching pricing data for recipe {}", id);
-      pricingData = recipeScraperService.getShoppingInfo(id).get();
-      hasPricingData = pricingData != null && !pricingData.getIngredients().isEmpty();
-      if (hasPricingData) {
-        if (shoppingListsWithPricingCounter != null) {
-          shoppingListsWithPricingCounter.increment();
-        }
-        LOGGER.debug(
-            "Successfully retrieved pricing data for recipe {} with {} ingredients",
-            id,
-            pricingData != null ? pricingData.getIngredients().size() : 0);
+    // Price the items from cached ingredient prices, fetching only missing ones
+    final List<Long> ingredientIds = new ArrayList<>(ingredients.size());
+    for (RecipeIngredient ingredient : ingredients) {
+      if (ingredient.getIngredient() != null) {
+        ingredientIds.add(ingredient.getIngredient().getIngredientId());
       }
-    } catch (InterruptedException | ExecutionException e) {
-      LOGGER.warn("Failed to retrieve pricing data for recipe {}: {}", id, e.getMessage());
-      // Continue without pricing data - graceful degradation
     }
-
-    // Merge pricing data with shopping list items
-    final List<ShoppingListItemDto> enrichedShoppingListItems =
-        shoppingListMapper.mergeWithPricingData(shoppingListItems, pricingData);
-
-    // Calculate total estimated cost
-    final BigDecimal totalEstimatedCost =
-        enrichedShoppingListItems.stream()
-            .map(ShoppingListItemDto::getEstimatedPrice)
-            .filter(price -> price != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    final Map<Long, IngredientPrice> prices =
+        ingredientPriceCache.getPrices(Map.of(id, ingredientIds));
+    final boolean hasPricingData = !prices.isEmpty();
+    if (hasPricingData && shoppingListsWithPricingCounter != null) {
+      shoppingListsWithPricingCounter.increment();
+    }
+    final BigDecimal totalEstimatedCost = applyPrices(shoppingListItems, prices);
 
     final ShoppingListResponse response =
         ShoppingListResponse.builder()
             .recipeId(id)
-            .items(enrichedShoppingListItems)
-            .totalCount(enrichedShoppingListItems.size())
+            .items(shoppingListItems)
+            .totalCount(shoppingListItems.size())
             .totalEstimatedCost(totalEstimatedCost)
+            .pricingStale(hasStalePrice(shoppingListItems))
             .build();
 
     LOGGER.info(
         "Generated shopping list for recipe {} with {} items, total cost: ${}, pricing data: {}",
         id,
-        enrichedShoppingListItems.size(),
+        shoppingListItems.size(),
         totalEstimatedCost,
         hasPricingData ? "available" : "unavailable");
 
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Generate one shopping list for the recipes of a meal plan with pricing information.
+   *
+   * <p>The ingredients of all recipes are loaded in one query and summed in a single pass, each
+   * scaled by its recipe's serving multiplier; quantities of the same ingredient are combined
+   * across units that convert to the same canonical unit. Each item is then priced from its
+   * ingredient's cached unit price, so only ingredients not priced recently are fetched from the
+   * recipe scraper; an ingredient whose pricing is unavailable simply has no price.
+   *
+   * @param request the recipes and their serving multipliers
+   * @return response with the combined shopping list including pricing data
+   * @throws ResourceNotFoundException if any of the recipes is not found
+   */
+  public ResponseEntity<MealPlanShoppingListResponse> generateMealPlanShoppingList(
+      final MealPlanShoppingListRequest request) {
+    // A recipe listed twice is needed for the sum of its multipliers
+    final Map<Long, BigDecimal> multipliers = new LinkedHashMap<>();
+    for (MealPlanRecipe recipe : request.getRecipes()) {
+      BigDecimal multiplier =
+          recipe.getServingMultiplier() == null ? BigDecimal.ONE : recipe.getServingMultiplier();
+      multipliers.merge(recipe.getRecipeId(), multiplier, BigDecimal::add);
+    }
+
+    final Set<Long> existingRecipeIds =
+        new HashSet<>(recipeRepository.findExistingRecipeIds(multipliers.keySet()));
+    final List<Long> missingRecipeIds =
+        multipliers.keySet().stream().filter(id -> !existingRecipeIds.contains(id)).toList();
+    if (!missingRecipeIds.isEmpty()) {
+      throw new ResourceNotFoundException("Recipes not found with ids: " + missingRecipeIds);
+    }
+
+    if (shoppingListGenerationsCounter != null) {
+      shoppingListGenerationsCounter.increment();
+    }
+    LOGGER.info("Generating meal plan shopping list for recipes {}", multipliers.keySet());
+
+    // Get local ingredient data for all recipes in one query and aggregate in one pass
+    final ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    final Map<Long, List<Long>> ingredientIdsByRecipe = new HashMap<>();
+    for (RecipeIngredient ingredient :
+        recipeIngredientRepository.findByRecipeIdsWithIngredient(multipliers.keySet())) {
+      Long recipeId = ingredient.getId().getRecipeId();
+      aggregator.add(ingredient, multipliers.get(recipeId));
+      ingredientIdsByRecipe
+          .computeIfAbsent(recipeId, key -> new ArrayList<>())
+          .add(ingredient.getIngredient().getIngredientId());
+    }
+
+    // Price the combined items from cached ingredient prices, fetching only missing ones
+    final Map<Long, IngredientPrice> prices = ingredientPriceCache.getPrices(ingredientIdsByRecipe);
+    if (!prices.isEmpty() && shoppingListsWithPricingCounter != null) {
+      shoppingListsWithPricingCounter.increment();
+    }
+    final List<ShoppingListItemDto> items = aggregator.toItems();
+    final BigDecimal totalEstimatedCost = applyPrices(items, prices);
+
+    final MealPlanShoppingListResponse response =
+        MealPlanShoppingListResponse.builder()
+            .recipeIds(List.copyOf(multipliers.keySet()))
+            .items(items)
+            .totalCount(items.size())
+            .totalEstimatedCost(totalEstimatedCost)
+            .pricingStale(hasStalePrice(items))
+            .build();
+
+    LOGGER.info(
+        "Generated meal plan shopping list for {} recipes with {} items, total cost: ${}, "
+            + "pricing data for {} ingredients",
+        multipliers.size(),
+        items.size(),
+        totalEstimatedCost,
+        prices.size());
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Sets the estimated price of each shopping list item from its ingredient's unit price, and
+   * whether that price is stale. Items whose ingredient has no price, or whose unit does not
+   * convert to the priced unit, are left without one.
+   *
+   * @param items the shopping list items
+   * @param prices the unit prices by ingredient ID
+   * @return the total estimated cost of the priced items
+   */
+  private BigDecimal applyPrices(
+      final List<ShoppingListItemDto> items, final Map<Long, IngredientPrice> prices) {
+    BigDecimal totalEstimatedCost = BigDecimal.ZERO;
+    for (ShoppingListItemDto item : items) {
+      IngredientPrice price =
+          item.getIngredientId() == null ? null : prices.get(item.getIngredientId());
+      BigDecimal estimatedPrice =
+          price == null ? null : price.priceOf(item.getTotalQuantity(), item.getUnit());
+      if (estimatedPrice != null) {
+        item.setEstimatedPrice(estimatedPrice);
+        item.setPriceStale(ingredientPriceCache.isStale(price));
+        totalEstimatedCost = totalEstimatedCost.add(estimatedPrice);
+      }
+    }
+    return totalEstimatedCost;
+  }
+
+  /**
+   * Checks whether any shopping list item has a stale price.
+   *
+   * @param items the shopping list items
+   * @return true if at least one estimated price is being refreshed
+   */
+  private static boolean hasStalePrice(final List<ShoppingListItemDto> items) {
+    for (ShoppingListItemDto item : items) {
+      if (Boolean.TRUE.equals(item.getPriceStale())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Add a comment to an ingredient.
    *
@@ -311,9 +413,7 @@ public final class IngredientService {
     final IngredientComment savedComment = ingredientCommentRepository.save(comment);
 
     // Get all comments for this ingredient
-    final List<IngredientComment> comments =
-        ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(
-            ingredientIdLong);
+    final List<IngredientCommentDto> comments = findCommentDtos(ingredientIdLong);
 
     LOGGER.info(
         "Added comment to ingredient {} in recipe {}: {}",
@@ -330,7 +430,7 @@ public final class IngredientService {
         IngredientCommentResponse.builder()
             .recipeId(recipeIdLong)
             .ingredientId(ingredientIdLong)
-            .comments(ingredientCommentMapper.toDtoList(comments))
+            .comments(comments)
             .build());
   }
 
@@ -373,6 +473,53 @@ public final class IngredientService {
                         recipeIdString, ingredientIdString)));
   }
 
+  /**
+   * Populates the comments of each ingredient DTO from a single bulk query.
+   *
+   * @param ingredientDtos the ingredient DTOs to populate
+   */
+  private void populateComments(final List<RecipeIngredientDto> ingredientDtos) {
+    final Map<Long, List<IngredientComment>> commentsByIngredient =
+        findCommentsByIngredientId(
+            ingredientDtos.stream()
+                .map(RecipeIngredientDto::getIngredientId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+    ingredientDtos.forEach(
+        dto ->
+            dto.setComments(
+                ingredientCommentMapper.toDtoList(
+                    commentsByIngredient.getOrDefault(dto.getIngredientId(), List.of()))));
+  }
+
+  /**
+   * Loads the comments of a single ingredient for a comment response.
+   *
+   * @param ingredientId the ingredient ID
+   * @return the ingredient's comments, oldest first
+   */
+  private List<IngredientCommentDto> findCommentDtos(final Long ingredientId) {
+    return ingredientCommentMapper.toDtoList(
+        findCommentsByIngredientId(Set.of(ingredientId)).getOrDefault(ingredientId, List.of()));
+  }
+
+  /**
+   * Loads the comments for a set of ingredients in one query and groups them by ingredient ID,
+   * keeping each group oldest first.
+   *
+   * @param ingredientIds the ingredient IDs
+   * @return comments keyed by ingredient ID; ingredients without comments are absent
+   */
+  private Map<Long, List<IngredientComment>> findCommentsByIngredientId(
+      final Set<Long> ingredientIds) {
+    if (ingredientIds.isEmpty()) {
+      return Map.of();
+    }
+    return ingredientCommentRepository.findByIngredientIdsWithIngredient(ingredientIds).stream()
+        .collect(Collectors.groupingBy(comment -> comment.getIngredient().getIngredientId()));
+  }
+
   /**
    * Edit a comment on an ingredient.
    *
@@ -405,9 +552,7 @@ public final class IngredientService {
     ingredientCommentRepository.save(comment);
 
     // Get all comments for this ingredient
-    final List<IngredientComment> comments =
-        ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(
-            ingredientIdLong);
+    final List<IngredientCommentDto> comments = findCommentDtos(ingredientIdLong);
 
     LOGGER.info(
         "Edited comment {} for ingredient {} in recipe {}: '{}' -> '{}'",
@@ -421,7 +566,7 @@ public final class IngredientService {
         IngredientCommentResponse.builder()
             .recipeId(recipeIdLong)
             .ingredientId(ingredientIdLong)
-            .comments(ingredientCommentMapper.toDtoList(comments))
+            .comments(comments)
             .build());
   }
 
@@ -456,9 +601,7 @@ public final class IngredientService {
     ingredientCommentRepository.delete(comment);
 
     // Get remaining comments for this ingredient
-    final List<IngredientComment> comments =
-        ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(
-            ingredientIdLong);
+    final List<IngredientCommentDto> comments = findCommentDtos(ingredientIdLong);
 
     LOGGER.info(
         "Deleted comment {} for ingredient {} in recipe {}: '{}'",
@@ -471,7 +614,7 @@ public final class IngredientService {
         IngredientCommentResponse.builder()
             .recipeId(recipeIdLong)
             .ingredientId(ingredientIdLong)
-            .comments(ingredientCommentMapper.toDtoList(comments))
+            .comments(comments)
             .build());
   }
 
@@ -486,6 +629,74 @@ public final class IngredientService {
    */
   public IngredientRevisionsResponse getIngredientRevisions(
       final Long recipeId, final Long ingredientId) {
+    validateIngredientRevisionAccess(recipeId, ingredientId);
+
+    // Get all ingredient revisions for the recipe and ingredient
+    List<RecipeRevision> revisions =
+        recipeRevisionRepository.findIngredientRevisionsByRecipeIdAndIngredientId(
+            recipeId, ingredientId);
+
+    // Convert to DTOs
+    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
+
+    return IngredientRevisionsResponse.builder()
+        .recipeId(recipeId)
+        .ingredientId(ingredientId)
+        .revisions(revisionDtos)
+        .totalCount(revisionDtos.size())
+        .build();
+  }
+
+  /**
+   * Get a page of an ingredient's revisions using keyset (cursor) pagination, newest first.
+   *
+   * @param recipeId the recipe ID
+   * @param ingredientId the ingredient ID
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @return IngredientRevisionsResponse with the page of revisions and the next cursor
+   * @throws ResourceNotFoundException if the recipe or ingredient is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   * @throws BusinessException if the cursor is malformed
+   */
+  public IngredientRevisionsResponse getIngredientRevisions(
+      final Long recipeId, final Long ingredientId, final String cursor, final int size) {
+    validateIngredientRevisionAccess(recipeId, ingredientId);
+    RevisionCursor after = RevisionCursor.decode(cursor);
+
+    List<RecipeRevision> revisions =
+        recipeRevisionRepository.findIngredientRevisionPage(
+            recipeId,
+            ingredientId,
+            after == null ? null : after.getCreatedAt(),
+            after == null ? null : after.getRevisionId(),
+            size + 1);
+    String nextCursor = null;
+    if (revisions.size() > size) {
+      revisions = revisions.subList(0, size);
+      RecipeRevision last = revisions.get(size - 1);
+      nextCursor = RevisionCursor.of(last.getCreatedAt(), last.getRevisionId()).encode();
+    }
+    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
+
+    return IngredientRevisionsResponse.builder()
+        .recipeId(recipeId)
+        .ingredientId(ingredientId)
+        .revisions(revisionDtos)
+        .totalCount(revisionDtos.size())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Checks that the current user owns the recipe and that the ingredient belongs to it.
+   *
+   * @param recipeId the recipe ID
+   * @param ingredientId the ingredient ID
+   * @throws ResourceNotFoundException if the recipe or ingredient is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   */
+  private void validateIngredientRevisionAccess(final Long recipeId, final Long ingredientId) {
     // Check user has access to the recipe
     Recipe recipe =
         recipeRepository
@@ -514,20 +725,5 @@ public final class IngredientService {
               "Recipe ingredient not found for recipe %d and ingredient %d",
               recipeId, ingredientId));
     }
-
-    // Get all ingredient revisions for the recipe and ingredient
-    List<RecipeRevision> revisions =
-        recipeRevisionRepository.findIngredientRevisionsByRecipeIdAndIngredientId(
-            recipeId, ingredientId);
-
-    // Convert to DTOs
-    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
-
-    return IngredientRevisionsResponse.builder()
-        .recipeId(recipeId)
-        .ingredientId(ingredientId)
-        .revisions(revisionDtos)
-        .totalCount(revisionDtos.size())
-        .build();
   }
 }
@@ -1,12 +1,22 @@
 package com.recipe_manager.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,42 +29,50 @@ import com.recipe_manager.model.dto.recipe.RecipeCommentDto;
 import com.recipe_manager.model.dto.recipe.RecipeDto;
 import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
 import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.recipe.RecipeSummaryDto;
+import com.recipe_manager.model.dto.recipe.RecipeTagDto;
+import com.recipe_manager.model.dto.recipe.RecipeView;
 import com.recipe_manager.model.dto.request.AddRecipeCommentRequest;
 import com.recipe_manager.model.dto.request.CreateRecipeRequest;
 import com.recipe_manager.model.dto.request.EditRecipeCommentRequest;
 import com.recipe_manager.model.dto.request.SearchRecipesRequest;
 import com.recipe_manager.model.dto.request.UpdateRecipeRequest;
 import com.recipe_manager.model.dto.response.RecipeCommentsResponse;
+import com.recipe_manager.model.dto.response.RecipeHistoryResponse;
 import com.recipe_manager.model.dto.response.RecipeRevisionsResponse;
 import com.recipe_manager.model.dto.response.SearchRecipesResponse;
-import com.recipe_manager.model.dto.revision.IngredientAddRevision;
-import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
-import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
-import com.recipe_manager.model.dto.revision.StepAddRevision;
-import com.recipe_manager.model.dto.revision.StepDeleteRevision;
-import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
 import com.recipe_manager.model.entity.recipe.Recipe;
 import com.recipe_manager.model.entity.recipe.RecipeComment;
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
 import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
 import com.recipe_manager.model.entity.recipe.RecipeRevision;
-import com.recipe_manager.model.entity.recipe.RecipeStep;
 import com.recipe_manager.model.entity.recipe.RecipeTag;
-import com.recipe_manager.model.enums.IngredientField;
+import com.recipe_manager.model.enums.IngredientMatchMode;
 import com.recipe_manager.model.enums.RevisionCategory;
 import com.recipe_manager.model.enums.RevisionType;
-import com.recipe_manager.model.enums.StepField;
+import com.recipe_manager.model.enums.TextSearchMode;
 import com.recipe_manager.model.mapper.RecipeCommentMapper;
 import com.recipe_manager.model.mapper.RecipeMapper;
 import com.recipe_manager.model.mapper.RecipeRevisionMapper;
 import com.recipe_manager.model.mapper.RecipeStepMapper;
 import com.recipe_manager.repository.ingredient.IngredientRepository;
 import com.recipe_manager.repository.recipe.RecipeCommentRepository;
+import com.recipe_manager.repository.recipe.RecipeRankProjection;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
+import com.recipe_manager.repository.recipe.RecipeSummaryProjection;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
+import com.recipe_manager.service.cache.RecipeCacheService;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.revision.RevisionDiff;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.RecipeCursor;
+import com.recipe_manager.util.RevisionCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 /**
@@ -95,6 +113,21 @@ public class RecipeService {
   /** Service for sending notifications about recipe events. */
   private final NotificationService notificationService;
 
+  /** In-memory ingredient and tag index used to evaluate search filters. */
+  private final RecipeFilterIndex recipeFilterIndex;
+
+  /** Service maintaining recipe trending scores. */
+  private final TrendingScoreService trendingScoreService;
+
+  /** Read-through cache of fully built recipe DTOs. */
+  private final RecipeCacheService recipeCacheService;
+
+  /** Set-based resolver for ingredient and tag references. */
+  private final ReferenceDataResolver referenceDataResolver;
+
+  /** Snapshot store and point-in-time rebuilds of recipe revisions. */
+  private final RecipeHistoryService recipeHistoryService;
+
   /**
    * Service class for managing recipes.
    *
@@ -110,6 +143,11 @@ public class RecipeService {
    * @param recipeCommentMapper the mapper used for converting between recipe comment entities and
    *     DTOs
    * @param notificationService the service for sending notifications about recipe events
+   * @param recipeFilterIndex the in-memory ingredient and tag index used for search filters
+   * @param trendingScoreService the service maintaining recipe trending scores
+   * @param recipeCacheService the read-through cache of fully built recipe DTOs
+   * @param referenceDataResolver the set-based resolver for ingredient and tag references
+   * @param recipeHistoryService the snapshot store for recipe revisions
    */
   public RecipeService(
       final RecipeRepository recipeRepository,
@@ -121,7 +159,12 @@ public class RecipeService {
       final RecipeStepMapper recipeStepMapper,
       final RecipeCommentRepository recipeCommentRepository,
       final RecipeCommentMapper recipeCommentMapper,
-      final NotificationService notificationService) {
+      final NotificationService notificationService,
+      final RecipeFilterIndex recipeFilterIndex,
+      final TrendingScoreService trendingScoreService,
+      final RecipeCacheService recipeCacheService,
+      final ReferenceDataResolver referenceDataResolver,
+      final RecipeHistoryService recipeHistoryService) {
     this.recipeRepository = recipeRepository;
     this.ingredientRepository = ingredientRepository;
     this.recipeTagRepository = recipeTagRepository;
@@ -132,6 +175,11 @@ public class RecipeService {
     this.recipeCommentRepository = recipeCommentRepository;
     this.recipeCommentMapper = recipeCommentMapper;
     this.notificationService = notificationService;
+    this.recipeFilterIndex = recipeFilterIndex;
+    this.trendingScoreService = trendingScoreService;
+    this.recipeCacheService = recipeCacheService;
+    this.referenceDataResolver = referenceDataResolver;
+    this.recipeHistoryService = recipeHistoryService;
   }
 
   /**
@@ -165,27 +213,27 @@ public class RecipeService {
 
     // Map and persist ingredients
     if (!request.getIngredients().isEmpty()) {
-      final Recipe savedRecipe = recipe; // for lambda capture
-      var recipeIngredients =
-          request.getIngredients().stream()
-              .map(
-                  ingredientReq -> {
-                    Ingredient ingredient = resolveIngredient(ingredientReq);
-                    RecipeIngredientId id =
-                        RecipeIngredientId.builder()
-                            .recipeId(null) // will be set by JPA after recipe is saved
-                            .ingredientId(ingredient.getIngredientId())
-                            .build();
-                    return RecipeIngredient.builder()
-                        .id(id)
-                        .recipe(savedRecipe)
-                        .ingredient(ingredient)
-                        .quantity(ingredientReq.getQuantity())
-                        .unit(ingredientReq.getUnit())
-                        .isOptional(Boolean.TRUE.equals(ingredientReq.getIsOptional()))
-                        .build();
-                  })
-              .collect(Collectors.toList());
+      List<Ingredient> ingredients =
+          referenceDataResolver.resolveIngredients(request.getIngredients());
+      List<RecipeIngredient> recipeIngredients = new ArrayList<>(ingredients.size());
+      for (int i = 0; i < ingredients.size(); i++) {
+        RecipeIngredientDto ingredientReq = request.getIngredients().get(i);
+        Ingredient ingredient = ingredients.get(i);
+        RecipeIngredientId id =
+            RecipeIngredientId.builder()
+                .recipeId(null) // will be set by JPA after recipe is saved
+                .ingredientId(ingredient.getIngredientId())
+                .build();
+        recipeIngredients.add(
+            RecipeIngredient.builder()
+                .id(id)
+                .recipe(recipe)
+                .ingredient(ingredient)
+                .quantity(ingredientReq.getQuantity())
+                .unit(ingredientReq.getUnit())
+                .isOptional(Boolean.TRUE.equals(ingredientReq.getIsOptional()))
+                .build());
+      }
       recipe.setRecipeIngredients(recipeIngredients);
     }
 
@@ -198,25 +246,15 @@ public class RecipeService {
       recipe.setRecipeSteps(recipeSteps);
     }
 
-    // Map and persist tags
+    // Map and persist tags, creating any that do not exist yet
     if (request.getTags() != null && !request.getTags().isEmpty()) {
-      var recipeTags =
-          request.getTags().stream()
-              .map(
-                  tagDto -> {
-                    // Find existing tag by name or create new one
-                    return recipeTagRepository
-                        .findByNameIgnoreCase(tagDto.getName())
-                        .orElseGet(
-                            () ->
-                                recipeTagRepository.save(
-                                    RecipeTag.builder().name(tagDto.getName()).build()));
-                  })
-              .collect(Collectors.toList());
-      recipe.setRecipeTags(recipeTags);
+      recipe.setRecipeTags(
+          referenceDataResolver.resolveTags(
+              request.getTags().stream().map(RecipeTagDto::getName).toList()));
     }
 
     Recipe saved = recipeRepository.save(recipe);
+    recipeFilterIndex.indexRecipe(saved);
     RecipeDto response = recipeMapper.toDto(saved);
 
     // Trigger async notification for recipe published (notifies author's followers)
@@ -279,42 +317,46 @@ public class RecipeService {
     // Create ingredient revisions before making changes
     List<RecipeRevision> ingredientRevisions = new ArrayList<>();
     if (request.getIngredients() != null) {
-      ingredientRevisions = createIngredientRevisions(recipe, request.getIngredients());
+      List<Ingredient> ingredients =
+          referenceDataResolver.resolveIngredients(request.getIngredients());
+      ingredientRevisions =
+          toRevisionEntities(
+              recipe,
+              RevisionDiff.diffIngredients(
+                  recipe.getRecipeIngredients(), request.getIngredients(), ingredients));
 
       // Clear existing ingredients
       recipe.getRecipeIngredients().clear();
 
       // Add new ingredients
-      if (!request.getIngredients().isEmpty()) {
-        final Recipe savedRecipe = recipe; // for lambda capture
-        var recipeIngredients =
-            request.getIngredients().stream()
-                .map(
-                    ingredientReq -> {
-                      Ingredient ingredient = resolveIngredient(ingredientReq);
-                      RecipeIngredientId rid =
-                          RecipeIngredientId.builder()
-                              .recipeId(savedRecipe.getRecipeId())
-                              .ingredientId(ingredient.getIngredientId())
-                              .build();
-                      return RecipeIngredient.builder()
-                          .id(rid)
-                          .recipe(savedRecipe)
-                          .ingredient(ingredient)
-                          .quantity(ingredientReq.getQuantity())
-                          .unit(ingredientReq.getUnit())
-                          .isOptional(ingredientReq.getIsOptional())
-                          .build();
-                    })
-                .collect(Collectors.toList());
-        recipe.getRecipeIngredients().addAll(recipeIngredients);
+      for (int i = 0; i < ingredients.size(); i++) {
+        RecipeIngredientDto ingredientReq = request.getIngredients().get(i);
+        Ingredient ingredient = ingredients.get(i);
+        RecipeIngredientId rid =
+            RecipeIngredientId.builder()
+                .recipeId(recipe.getRecipeId())
+                .ingredientId(ingredient.getIngredientId())
+                .build();
+        recipe
+            .getRecipeIngredients()
+            .add(
+                RecipeIngredient.builder()
+                    .id(rid)
+                    .recipe(recipe)
+                    .ingredient(ingredient)
+                    .quantity(ingredientReq.getQuantity())
+                    .unit(ingredientReq.getUnit())
+                    .isOptional(ingredientReq.getIsOptional())
+                    .build());
       }
     }
 
     // Create step revisions before making changes
     List<RecipeRevision> stepRevisions = new ArrayList<>();
     if (request.getSteps() != null) {
-      stepRevisions = createStepRevisions(recipe, request.getSteps());
+      stepRevisions =
+          toRevisionEntities(
+              recipe, RevisionDiff.diffSteps(recipe.getRecipeSteps(), request.getSteps()));
 
       // Clear existing steps
       recipe.getRecipeSteps().clear();
@@ -333,25 +375,21 @@ public class RecipeService {
       var existingTagNames =
           recipe.getRecipeTags().stream().map(RecipeTag::getName).collect(Collectors.toSet());
 
-      // Add only new tags that don't already exist
-      var newRecipeTags =
+      // Add only new tags that don't already exist, creating any that are missing
+      var newTagNames =
           request.getTags().stream()
-              .filter(tagDto -> !existingTagNames.contains(tagDto.getName()))
-              .map(
-                  tagDto -> {
-                    // Find existing tag by name or create new one
-                    return recipeTagRepository
-                        .findByNameIgnoreCase(tagDto.getName())
-                        .orElseGet(
-                            () ->
-                                recipeTagRepository.save(
-                                    RecipeTag.builder().name(tagDto.getName()).build()));
-                  })
-              .collect(Collectors.toList());
-      recipe.getRecipeTags().addAll(newRecipeTags);
+              .map(RecipeTagDto::getName)
+              .filter(name -> !existingTagNames.contains(name))
+              .toList();
+      if (!newTagNames.isEmpty()) {
+        referenceDataResolver.resolveTags(newTagNames).stream()
+            .filter(tag -> !recipe.getRecipeTags().contains(tag))
+            .forEach(recipe.getRecipeTags()::add);
+      }
     }
 
     Recipe saved = recipeRepository.save(recipe);
+    recipeFilterIndex.indexRecipe(saved);
 
     // Save all revisions after successful recipe update
     List<RecipeRevision> allRevisions = new ArrayList<>();
@@ -360,9 +398,11 @@ public class RecipeService {
 
     if (!allRevisions.isEmpty()) {
       recipeRevisionRepository.saveAll(allRevisions);
+      recipeHistoryService.recordRevisions(saved, allRevisions);
     }
 
     RecipeDto response = recipeMapper.toDto(saved);
+    recipeCacheService.evict(id);
 
     return ResponseEntity.ok(response);
   }
@@ -396,17 +436,21 @@ public class RecipeService {
 
     // Delete the recipe
     recipeRepository.delete(recipe);
+    recipeFilterIndex.removeRecipe(id);
+    recipeCacheService.evict(id);
 
     return ResponseEntity.noContent().build();
   }
 
   /**
-   * Get a recipe by ID.
+   * Get a recipe by ID. A cached copy is only served if it was built at the given version, so the
+   * body always matches the ETag the caller derived from that version.
    *
    * @param recipeId the recipe ID
+   * @param version the recipe's current version from the ETag probe, or null to skip the cache
    * @return ResponseEntity with the recipe data
    */
-  public ResponseEntity<RecipeDto> getRecipe(final String recipeId) {
+  public ResponseEntity<RecipeDto> getRecipe(final String recipeId, final String version) {
     // Parse recipeId
     Long id;
     try {
@@ -415,19 +459,22 @@ public class RecipeService {
       throw new BusinessException("Invalid recipe ID: " + recipeId);
     }
 
-    // Fetch the recipe
-    Recipe recipe =
-        recipeRepository
-            .findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Recipe not found: " + recipeId));
-
-    // Convert to DTO using mapper
-    RecipeDto response = recipeMapper.toDto(recipe);
+    // Serve from cache, building the DTO from the database on a miss
+    RecipeDto response =
+        recipeCacheService.get(
+            id,
+            version,
+            key ->
+                recipeMapper.toDto(
+                    recipeRepository
+                        .findById(key)
+                        .orElseThrow(
+                            () -> new ResourceNotFoundException("Recipe not found: " + recipeId))));
     return ResponseEntity.ok(response);
   }
 
   /**
-   * Search for recipes based on flexible criteria.
+   * Search for recipes based on flexible criteria, returning full recipe details.
    *
    * @param searchRequest the search criteria
    * @param pageable pagination information
@@ -435,32 +482,38 @@ public class RecipeService {
    */
   public ResponseEntity<SearchRecipesResponse> searchRecipes(
       final SearchRecipesRequest searchRequest, final Pageable pageable) {
+    return searchRecipes(searchRequest, pageable, true);
+  }
 
-    // Preprocess tags to ensure case-insensitive matching by converting to
-    // lowercase
-    List<String> tagsToSearch = searchRequest.getTags();
-    if (searchRequest.getTags() != null && !searchRequest.getTags().isEmpty()) {
-      // Find actual tag names that match case-insensitively
-      var matchingTagNames =
-          searchRequest.getTags().stream()
-              .map(tagName -> recipeTagRepository.findByNameIgnoreCase(tagName))
-              .filter(Optional::isPresent)
-              .map(Optional::get)
-              .map(RecipeTag::getName)
-              .collect(Collectors.toList());
-
-      // Update the search request with the actual tag names from the database
-      tagsToSearch = matchingTagNames.isEmpty() ? null : matchingTagNames;
-    }
+  /**
+   * Search for recipes based on flexible criteria.
+   *
+   * @param searchRequest the search criteria
+   * @param pageable pagination information
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with paginated search results
+   */
+  public ResponseEntity<SearchRecipesResponse> searchRecipes(
+      final SearchRecipesRequest searchRequest,
+      final Pageable pageable,
+      final boolean includeDetails) {
+    return ResponseEntity.ok(
+        buildSearchRecipesResponse(findSearchPage(searchRequest, pageable), includeDetails));
+  }
 
-    // Preprocess ingredients to ensure case-insensitive matching
-    List<String> ingredientsToSearch = null;
-    if (searchRequest.getIngredients() != null && !searchRequest.getIngredients().isEmpty()) {
-      List<String> lowercaseIngredients =
-          searchRequest.getIngredients().stream()
-              .map(String::toLowerCase)
-              .collect(Collectors.toList());
-      ingredientsToSearch = lowercaseIngredients.isEmpty() ? null : lowercaseIngredients;
+  /**
+   * Runs an offset-paginated search.
+   *
+   * @param searchRequest the search criteria
+   * @param pageable pagination information
+   * @return the page of matching recipes
+   */
+  private Page<Recipe> findSearchPage(
+      final SearchRecipesRequest searchRequest, final Pageable pageable) {
+
+    // Ingredient and tag filters are answered from the in-memory index when it is available
+    if (recipeFilterIndex.isReady() && hasIngredientOrTagFilter(searchRequest)) {
+      return searchWithFilterIndex(searchRequest, pageable);
     }
 
     // Create a new search request with the processed ingredients and tags
@@ -475,471 +528,618 @@ public class RecipeService {
             .ingredients(searchRequest.getIngredients())
             .tags(searchRequest.getTags())
             .ingredientMatchMode(searchRequest.getIngredientMatchMode())
+            .textSearchMode(searchRequest.getTextSearchMode())
+            .tagMatchMode(searchRequest.getTagMatchMode())
             .build();
 
-    // Perform search using repository
-    Page<Recipe> recipePage =
-        recipeRepository.searchRecipes(
-            processedSearchRequest.getRecipeNameQuery(),
-            processedSearchRequest.getDifficulty() != null
-                ? processedSearchRequest.getDifficulty().name()
-                : null,
-            processedSearchRequest.getMaxCookingTime(),
-            processedSearchRequest.getMaxPreparationTime(),
-            processedSearchRequest.getMinServings(),
-            processedSearchRequest.getMaxServings(),
-            ingredientsToSearch != null
-                ? ingredientsToSearch.toArray(new String[0])
-                : new String[0],
-            tagsToSearch != null ? tagsToSearch.toArray(new String[0]) : new String[0],
-            pageable);
-
-    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage));
+    String difficulty =
+        processedSearchRequest.getDifficulty() != null
+            ? processedSearchRequest.getDifficulty().name()
+            : null;
+    String[] ingredientsArray = toSearchNames(searchRequest.getIngredients());
+    String[] tagsArray = toSearchNames(searchRequest.getTags());
+    String ingredientMode = ingredientMatchMode(searchRequest).name();
+    String tagMode = tagMatchMode(searchRequest).name();
+
+    // Perform search using repository; full-text mode ranks by relevance using the indexed
+    // search document, while the default mode keeps substring semantics
+    Page<Recipe> recipePage;
+    if (isFullTextSearch(processedSearchRequest)) {
+      recipePage =
+          recipeRepository.fullTextSearchRecipes(
+              processedSearchRequest.getRecipeNameQuery().trim(),
+              difficulty,
+              processedSearchRequest.getMaxCookingTime(),
+              processedSearchRequest.getMaxPreparationTime(),
+              processedSearchRequest.getMinServings(),
+              processedSearchRequest.getMaxServings(),
+              ingredientsArray,
+              ingredientMode,
+              tagsArray,
+              tagMode,
+              pageable);
+    } else {
+      recipePage =
+          recipeRepository.searchRecipes(
+              processedSearchRequest.getRecipeNameQuery(),
+              difficulty,
+              processedSearchRequest.getMaxCookingTime(),
+              processedSearchRequest.getMaxPreparationTime(),
+              processedSearchRequest.getMinServings(),
+              processedSearchRequest.getMaxServings(),
+              ingredientsArray,
+              ingredientMode,
+              tagsArray,
+              tagMode,
+              pageable);
+    }
+
+    return recipePage;
   }
 
   /**
-   * Get all recipes with pagination.
+   * Searches using the in-memory filter index for ingredient and tag criteria.
+   *
+   * <p>Requested names are resolved to IDs in one query per facet and evaluated as bitmap
+   * operations. When no other criteria apply and the default order is requested, only the
+   * requested page of IDs is loaded from the database and the total comes from the index, so no
+   * count query runs. Otherwise the matching IDs are handed to the database as a candidate set for
+   * the remaining criteria.
    *
+   * @param searchRequest the search criteria
    * @param pageable pagination information
-   * @return ResponseEntity with paginated list of recipes
+   * @return the page of matching recipes
    */
-  public ResponseEntity<SearchRecipesResponse> getAllRecipes(final Pageable pageable) {
-    // Fetch all recipes with pagination
-    Page<Recipe> recipePage = recipeRepository.findAll(pageable);
+  private Page<Recipe> searchWithFilterIndex(
+      final SearchRecipesRequest searchRequest, final Pageable pageable) {
+    RecipeFilterIndex.Match match = matchFilterIndex(searchRequest);
 
-    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage));
+    if (match.isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+
+    if (!hasScalarCriteria(searchRequest) && pageable.getSort().isUnsorted()) {
+      List<Long> pageIds = match.pageDescending(pageable.getOffset(), pageable.getPageSize());
+      return new PageImpl<>(findAllInOrder(pageIds), pageable, match.count());
+    }
+
+    boolean fullText = isFullTextSearch(searchRequest);
+    String query = searchRequest.getRecipeNameQuery();
+    if (query != null && query.isBlank()) {
+      query = null;
+    } else if (fullText) {
+      query = query.trim();
+    }
+    return recipeRepository.searchRecipesWithinIds(
+        match.toArray(),
+        query,
+        fullText,
+        searchRequest.getDifficulty() != null ? searchRequest.getDifficulty().name() : null,
+        searchRequest.getMaxCookingTime(),
+        searchRequest.getMaxPreparationTime(),
+        searchRequest.getMinServings(),
+        searchRequest.getMaxServings(),
+        pageable);
   }
 
   /**
-   * Get trending recipes with pagination.
+   * Search for recipes using keyset (cursor) pagination.
    *
-   * @param pageable pagination information
-   * @return ResponseEntity containing paginated trending recipes
+   * <p>Returns the next {@code size} matches after the position encoded in {@code cursor} together
+   * with a token for the following page. No count query runs, so {@code totalElements} and {@code
+   * totalPages} are reported as -1. Full-text searches seek on relevance rank, all other searches
+   * on creation time, newest first.
+   *
+   * @param searchRequest the search criteria
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with the page of results and the next cursor
    */
-  public ResponseEntity<SearchRecipesResponse> getTrendingRecipes(final Pageable pageable) {
-    Page<Recipe> recipePage = recipeRepository.findTrendingRecipes(pageable);
-    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage));
+  public ResponseEntity<SearchRecipesResponse> searchRecipes(
+      final SearchRecipesRequest searchRequest,
+      final String cursor,
+      final int size,
+      final boolean includeDetails) {
+    String[] ingredientsArray = new String[0];
+    String[] tagsArray = new String[0];
+    Long[] candidateIds = new Long[0];
+    if (hasIngredientOrTagFilter(searchRequest)) {
+      if (recipeFilterIndex.isReady()) {
+        RecipeFilterIndex.Match match = matchFilterIndex(searchRequest);
+        if (match.isEmpty()) {
+          return ResponseEntity.ok(
+              buildCursorResponse(List.of(), size, isFirstPage(cursor), null, includeDetails));
+        }
+        candidateIds = match.toArray();
+      } else {
+        ingredientsArray = toSearchNames(searchRequest.getIngredients());
+        tagsArray = toSearchNames(searchRequest.getTags());
+      }
+    }
+
+    String difficulty =
+        searchRequest.getDifficulty() != null ? searchRequest.getDifficulty().name() : null;
+    Pageable limit = PageRequest.of(0, size + 1);
+
+    if (isFullTextSearch(searchRequest)) {
+      RecipeCursor after = RecipeCursor.decodeRank(cursor);
+      List<RecipeRankProjection> ranked =
+          recipeRepository.fullTextSearchRecipeRanksAfter(
+              searchRequest.getRecipeNameQuery().trim(),
+              difficulty,
+              searchRequest.getMaxCookingTime(),
+              searchRequest.getMaxPreparationTime(),
+              searchRequest.getMinServings(),
+              searchRequest.getMaxServings(),
+              ingredientsArray,
+              ingredientMatchMode(searchRequest).name(),
+              tagsArray,
+              tagMatchMode(searchRequest).name(),
+              candidateIds,
+              after != null ? after.getRank() : null,
+              after != null ? after.getRecipeId() : null,
+              limit);
+      boolean hasNext = ranked.size() > size;
+      List<RecipeRankProjection> page = hasNext ? ranked.subList(0, size) : ranked;
+      RecipeRankProjection last = hasNext ? page.get(page.size() - 1) : null;
+      return ResponseEntity.ok(
+          buildCursorResponse(
+              findAllInOrder(page.stream().map(RecipeRankProjection::getRecipeId).toList()),
+              size,
+              after == null,
+              last != null
+                  ? RecipeCursor.ofRank(last.getRank(), last.getRecipeId()).encode()
+                  : null,
+              includeDetails));
+    }
+
+    RecipeCursor after = RecipeCursor.decodeTimestamp(cursor);
+    List<Recipe> recipes =
+        recipeRepository.searchRecipesAfter(
+            searchRequest.getRecipeNameQuery(),
+            difficulty,
+            searchRequest.getMaxCookingTime(),
+            searchRequest.getMaxPreparationTime(),
+            searchRequest.getMinServings(),
+            searchRequest.getMaxServings(),
+            ingredientsArray,
+            ingredientMatchMode(searchRequest).name(),
+            tagsArray,
+            tagMatchMode(searchRequest).name(),
+            candidateIds,
+            after != null ? after.getTimestamp() : null,
+            after != null ? after.getRecipeId() : null,
+            limit);
+    return ResponseEntity.ok(buildCursorResponse(recipes, size, after == null, includeDetails));
   }
 
   /**
-   * Get all recipes owned by the authenticated user with pagination.
+   * Resolves ingredient and tag names and evaluates them against the in-memory filter index.
    *
-   * @param pageable pagination information
-   * @return ResponseEntity with paginated list of user's recipes
+   * <p>Requested names are resolved to IDs in one query per facet and evaluated as bitmap
+   * operations.
+   *
+   * @param searchRequest the search criteria
+   * @return the matching recipe IDs
    */
-  public ResponseEntity<SearchRecipesResponse> getMyRecipes(final Pageable pageable) {
-    UUID currentUserId = SecurityUtils.getCurrentUserId();
-    Page<Recipe> recipePage = recipeRepository.findByUserId(currentUserId, pageable);
+  private RecipeFilterIndex.Match matchFilterIndex(final SearchRecipesRequest searchRequest) {
+    Set<String> ingredientNames = normalizeFilterNames(searchRequest.getIngredients());
+    Set<String> tagNames = normalizeFilterNames(searchRequest.getTags());
+
+    List<Set<Long>> ingredientGroups =
+        ingredientNames.isEmpty()
+            ? List.of()
+            : groupIdsByName(
+                ingredientNames,
+                ingredientRepository.findAllByLowerCaseNameIn(ingredientNames),
+                Ingredient::getName,
+                Ingredient::getIngredientId);
+    List<Set<Long>> tagGroups =
+        tagNames.isEmpty()
+            ? List.of()
+            : groupIdsByName(
+                tagNames,
+                recipeTagRepository.findAllByLowerCaseNameIn(tagNames),
+                RecipeTag::getName,
+                RecipeTag::getTagId);
+
+    return recipeFilterIndex.match(
+        ingredientGroups,
+        ingredientMatchMode(searchRequest),
+        tagGroups,
+        tagMatchMode(searchRequest));
+  }
 
-    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage));
+  /**
+   * The ingredient match mode of a search request, AND when not given.
+   *
+   * @param searchRequest the search criteria
+   * @return the ingredient match mode
+   */
+  private static IngredientMatchMode ingredientMatchMode(final SearchRecipesRequest searchRequest) {
+    return searchRequest.getIngredientMatchMode() != null
+        ? searchRequest.getIngredientMatchMode()
+        : IngredientMatchMode.AND;
   }
 
   /**
-   * Builds a SearchRecipesResponse from a Page of Recipe entities.
+   * The tag match mode of a search request, OR when not given.
    *
-   * @param recipePage the page of recipes
-   * @return SearchRecipesResponse with pagination metadata
+   * @param searchRequest the search criteria
+   * @return the tag match mode
    */
-  private SearchRecipesResponse buildSearchRecipesResponse(final Page<Recipe> recipePage) {
-    // Convert recipes to DTOs
-    var recipeDtos = recipePage.getContent().stream().map(recipeMapper::toDto).toList();
+  private static IngredientMatchMode tagMatchMode(final SearchRecipesRequest searchRequest) {
+    return searchRequest.getTagMatchMode() != null
+        ? searchRequest.getTagMatchMode()
+        : IngredientMatchMode.OR;
+  }
 
-    // Build response with pagination metadata
-    return SearchRecipesResponse.builder()
-        .recipes(recipeDtos)
-        .page(recipePage.getNumber())
-        .size(recipePage.getSize())
-        .totalElements(recipePage.getTotalElements())
-        .totalPages(recipePage.getTotalPages())
-        .first(recipePage.isFirst())
-        .last(recipePage.isLast())
-        .numberOfElements(recipePage.getNumberOfElements())
-        .empty(recipePage.isEmpty())
-        .build();
+  /**
+   * Normalizes ingredient or tag names for the SQL filters, the same way the filter index does, so
+   * that both paths return the same results.
+   *
+   * @param names the requested names
+   * @return the distinct lower-cased names, or an empty array for no filter
+   */
+  private static String[] toSearchNames(final List<String> names) {
+    return normalizeFilterNames(names).toArray(String[]::new);
   }
 
   /**
-   * Resolves an ingredient by ID or name, creating it if necessary.
+   * Whether a search request filters by ingredients or tags.
    *
-   * @param ingredientReq the ingredient request containing ID or name
-   * @return the resolved ingredient
-   * @throws IllegalArgumentException if ingredient has neither valid ID nor name
+   * @param searchRequest the search criteria
+   * @return true if ingredient or tag names were supplied
    */
-  private Ingredient resolveIngredient(final RecipeIngredientDto ingredientReq) {
-    Ingredient ingredient = null;
+  private boolean hasIngredientOrTagFilter(final SearchRecipesRequest searchRequest) {
+    return (searchRequest.getIngredients() != null && !searchRequest.getIngredients().isEmpty())
+        || (searchRequest.getTags() != null && !searchRequest.getTags().isEmpty());
+  }
 
-    // Try to find by ID first
-    if (ingredientReq.getIngredientId() != null) {
-      Optional<Ingredient> found = ingredientRepository.findById(ingredientReq.getIngredientId());
-      ingredient = found.orElse(null);
-    }
+  /**
+   * Whether a search request has criteria other than ingredients and tags.
+   *
+   * @param searchRequest the search criteria
+   * @return true if a text query or scalar filter was supplied
+   */
+  private boolean hasScalarCriteria(final SearchRecipesRequest searchRequest) {
+    return (searchRequest.getRecipeNameQuery() != null
+            && !searchRequest.getRecipeNameQuery().isBlank())
+        || searchRequest.getDifficulty() != null
+        || searchRequest.getMaxCookingTime() != null
+        || searchRequest.getMaxPreparationTime() != null
+        || searchRequest.getMinServings() != null
+        || searchRequest.getMaxServings() != null;
+  }
 
-    // If not found by ID, try to find or create by name
-    if (ingredient == null && ingredientReq.getIngredientName() != null) {
-      ingredient =
-          ingredientRepository
-              .findByNameIgnoreCase(ingredientReq.getIngredientName())
-              .orElseGet(
-                  () ->
-                      ingredientRepository.save(
-                          Ingredient.builder().name(ingredientReq.getIngredientName()).build()));
+  /**
+   * Trims and lower-cases filter names, dropping blanks and duplicates.
+   *
+   * @param names the requested names
+   * @return the normalized names in request order
+   */
+  private static Set<String> normalizeFilterNames(final List<String> names) {
+    if (names == null) {
+      return Set.of();
     }
+    return names.stream()
+        .filter(name -> name != null && !name.isBlank())
+        .map(name -> name.trim().toLowerCase(Locale.ROOT))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
 
-    // Validate that we have a valid ingredient
-    if (ingredient == null) {
-      throw new IllegalArgumentException("Ingredient must have either a valid ID or name");
+  /**
+   * Groups resolved entity IDs by requested name. Each requested name yields one group, which is
+   * empty when the name did not resolve.
+   *
+   * @param names the normalized requested names
+   * @param resolved the entities found for those names
+   * @param nameOf extracts an entity's name
+   * @param idOf extracts an entity's ID
+   * @param <T> the entity type
+   * @return one ID group per requested name
+   */
+  private static <T> List<Set<Long>> groupIdsByName(
+      final Set<String> names,
+      final List<T> resolved,
+      final Function<T, String> nameOf,
+      final Function<T, Long> idOf) {
+    Map<String, Set<Long>> idsByName = new LinkedHashMap<>();
+    names.forEach(name -> idsByName.put(name, new HashSet<>()));
+    for (T entity : resolved) {
+      Set<Long> ids = idsByName.get(nameOf.apply(entity).toLowerCase(Locale.ROOT));
+      if (ids != null) {
+        ids.add(idOf.apply(entity));
+      }
     }
-
-    return ingredient;
+    return new ArrayList<>(idsByName.values());
   }
 
   /**
-   * Creates revision entities for ingredient changes.
+   * Loads recipes by ID, preserving the order of the given IDs.
    *
-   * @param recipe the recipe being updated
-   * @param newIngredients the new ingredients from the update request
-   * @return list of revision entities to be saved
+   * @param recipeIds the recipe IDs in the desired order
+   * @return the recipes that exist, in the given order
    */
-  private List<RecipeRevision> createIngredientRevisions(
-      final Recipe recipe, final List<RecipeIngredientDto> newIngredients) {
-    List<RecipeRevision> revisions = new ArrayList<>();
-
-    if (newIngredients == null) {
-      return revisions; // No changes to track
+  private List<Recipe> findAllInOrder(final List<Long> recipeIds) {
+    Map<Long, Recipe> byId = new HashMap<>();
+    for (Recipe recipe : recipeRepository.findAllById(recipeIds)) {
+      byId.put(recipe.getRecipeId(), recipe);
     }
+    return recipeIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+  }
 
-    var currentIngredients = recipe.getRecipeIngredients();
-    var currentUserId = SecurityUtils.getCurrentUserId();
-
-    // Track deleted ingredients (existing ingredients not in new list)
-    for (var currentIngredient : currentIngredients) {
-      boolean foundInNew =
-          newIngredients.stream()
-              .anyMatch(
-                  newIng ->
-                      (newIng.getIngredientId() != null
-                              && newIng
-                                  .getIngredientId()
-                                  .equals(currentIngredient.getIngredient().getIngredientId()))
-                          || (newIng.getIngredientName() != null
-                              && newIng
-                                  .getIngredientName()
-                                  .equalsIgnoreCase(currentIngredient.getIngredient().getName())));
-
-      if (!foundInNew) {
-        // Create delete revision
-        var deleteRevision =
-            IngredientDeleteRevision.builder()
-                .category(RevisionCategory.INGREDIENT)
-                .type(RevisionType.DELETE)
-                .ingredientId(currentIngredient.getIngredient().getIngredientId())
-                .ingredientName(currentIngredient.getIngredient().getName())
-                .quantity(currentIngredient.getQuantity())
-                .unit(currentIngredient.getUnit())
-                .isOptional(currentIngredient.getIsOptional())
-                .changeComment("Ingredient removed from recipe")
-                .build();
+  /**
+   * Whether a search request should use the ranked full-text index. A blank query cannot be
+   * ranked, so it falls back to the default filter-only search.
+   *
+   * @param searchRequest the search criteria
+   * @return true if the full-text search path should be used
+   */
+  private boolean isFullTextSearch(final SearchRecipesRequest searchRequest) {
+    return searchRequest.getTextSearchMode() == TextSearchMode.FULL_TEXT
+        && searchRequest.getRecipeNameQuery() != null
+        && !searchRequest.getRecipeNameQuery().isBlank();
+  }
 
-        revisions.add(
-            createRevisionEntity(
-                recipe,
-                currentUserId,
-                RevisionCategory.INGREDIENT,
-                RevisionType.DELETE,
-                deleteRevision,
-                deleteRevision));
-      }
-    }
+  /**
+   * Get all recipes with pagination, returning full recipe details.
+   *
+   * @param pageable pagination information
+   * @return ResponseEntity with paginated list of recipes
+   */
+  public ResponseEntity<SearchRecipesResponse> getAllRecipes(final Pageable pageable) {
+    return getAllRecipes(pageable, true);
+  }
 
-    // Track added and updated ingredients
-    for (var newIngredient : newIngredients) {
-      var existingIngredient = findExistingIngredient(currentIngredients, newIngredient);
-
-      if (existingIngredient == null) {
-        // New ingredient - create add revision
-        var resolvedIngredient = resolveIngredient(newIngredient);
-        var addRevision =
-            IngredientAddRevision.builder()
-                .category(RevisionCategory.INGREDIENT)
-                .type(RevisionType.ADD)
-                .ingredientId(resolvedIngredient.getIngredientId())
-                .ingredientName(resolvedIngredient.getName())
-                .quantity(newIngredient.getQuantity())
-                .unit(newIngredient.getUnit())
-                .isOptional(Boolean.TRUE.equals(newIngredient.getIsOptional()))
-                .changeComment("New ingredient added to recipe")
-                .build();
+  /**
+   * Get all recipes with pagination.
+   *
+   * @param pageable pagination information
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with paginated list of recipes
+   */
+  public ResponseEntity<SearchRecipesResponse> getAllRecipes(
+      final Pageable pageable, final boolean includeDetails) {
+    // Fetch all recipes with pagination
+    Page<Recipe> recipePage = recipeRepository.findAll(pageable);
 
-        revisions.add(
-            createRevisionEntity(
-                recipe,
-                currentUserId,
-                RevisionCategory.INGREDIENT,
-                RevisionType.ADD,
-                addRevision,
-                addRevision));
-      } else {
-        // Check for updates to existing ingredient
-        revisions.addAll(
-            createIngredientUpdateRevisions(
-                recipe, currentUserId, existingIngredient, newIngredient));
-      }
-    }
+    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage, includeDetails));
+  }
 
-    return revisions;
+  /**
+   * Get all recipes using keyset (cursor) pagination, newest first.
+   *
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with the page of recipes and the next cursor
+   */
+  public ResponseEntity<SearchRecipesResponse> getAllRecipes(
+      final String cursor, final int size, final boolean includeDetails) {
+    RecipeCursor after = RecipeCursor.decodeTimestamp(cursor);
+    Pageable limit = PageRequest.of(0, size + 1);
+    List<Recipe> recipes =
+        after == null
+            ? recipeRepository.findAllByOrderByCreatedAtDescRecipeIdDesc(limit)
+            : recipeRepository.findAllCreatedBefore(
+                after.getTimestamp(), after.getRecipeId(), limit);
+
+    return ResponseEntity.ok(buildCursorResponse(recipes, size, after == null, includeDetails));
   }
 
   /**
-   * Creates revision entities for step changes.
+   * Get trending recipes with pagination, returning full recipe details.
    *
-   * @param recipe the recipe being updated
-   * @param newSteps the new steps from the update request
-   * @return list of revision entities to be saved
+   * @param pageable pagination information
+   * @return ResponseEntity containing paginated trending recipes
    */
-  private List<RecipeRevision> createStepRevisions(
-      final Recipe recipe, final List<RecipeStepDto> newSteps) {
-    List<RecipeRevision> revisions = new ArrayList<>();
+  public ResponseEntity<SearchRecipesResponse> getTrendingRecipes(final Pageable pageable) {
+    return getTrendingRecipes(pageable, true);
+  }
 
-    if (newSteps == null) {
-      return revisions; // No changes to track
-    }
+  /**
+   * Get trending recipes with pagination.
+   *
+   * @param pageable pagination information
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity containing paginated trending recipes
+   */
+  public ResponseEntity<SearchRecipesResponse> getTrendingRecipes(
+      final Pageable pageable, final boolean includeDetails) {
+    Page<Recipe> recipePage = recipeRepository.findTrendingRecipes(pageable);
+    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage, includeDetails));
+  }
 
-    var currentSteps = recipe.getRecipeSteps();
-    var currentUserId = SecurityUtils.getCurrentUserId();
-
-    // Track deleted steps (existing steps not in new list)
-    for (var currentStep : currentSteps) {
-      boolean foundInNew =
-          newSteps.stream()
-              .anyMatch(newStep -> newStep.getStepNumber().equals(currentStep.getStepNumber()));
-
-      if (!foundInNew) {
-        // Create delete revision
-        var deleteRevision =
-            StepDeleteRevision.builder()
-                .category(RevisionCategory.STEP)
-                .type(RevisionType.DELETE)
-                .stepId(currentStep.getStepId())
-                .stepNumber(currentStep.getStepNumber())
-                .instruction(currentStep.getInstruction())
-                .changeComment("Step removed from recipe")
-                .build();
+  /**
+   * Get all recipes owned by the authenticated user with pagination, returning full recipe
+   * details.
+   *
+   * @param pageable pagination information
+   * @return ResponseEntity with paginated list of user's recipes
+   */
+  public ResponseEntity<SearchRecipesResponse> getMyRecipes(final Pageable pageable) {
+    return getMyRecipes(pageable, true);
+  }
 
-        revisions.add(
-            createRevisionEntity(
-                recipe,
-                currentUserId,
-                RevisionCategory.STEP,
-                RevisionType.DELETE,
-                deleteRevision,
-                deleteRevision));
-      }
-    }
+  /**
+   * Get all recipes owned by the authenticated user with pagination.
+   *
+   * @param pageable pagination information
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with paginated list of user's recipes
+   */
+  public ResponseEntity<SearchRecipesResponse> getMyRecipes(
+      final Pageable pageable, final boolean includeDetails) {
+    UUID currentUserId = SecurityUtils.getCurrentUserId();
+    Page<Recipe> recipePage = recipeRepository.findByUserId(currentUserId, pageable);
 
-    // Track added and updated steps
-    for (var newStep : newSteps) {
-      var existingStep = findExistingStep(currentSteps, newStep.getStepNumber());
-
-      if (existingStep == null) {
-        // New step - create add revision
-        var addRevision =
-            StepAddRevision.builder()
-                .category(RevisionCategory.STEP)
-                .type(RevisionType.ADD)
-                .stepNumber(newStep.getStepNumber())
-                .instruction(newStep.getInstruction())
-                .changeComment("New step added to recipe")
-                .build();
+    return ResponseEntity.ok(buildSearchRecipesResponse(recipePage, includeDetails));
+  }
 
-        revisions.add(
-            createRevisionEntity(
-                recipe,
-                currentUserId,
-                RevisionCategory.STEP,
-                RevisionType.ADD,
-                addRevision,
-                addRevision));
-      } else {
-        // Check for updates to existing step
-        revisions.addAll(createStepUpdateRevisions(recipe, currentUserId, existingStep, newStep));
-      }
-    }
+  /**
+   * Get the authenticated user's recipes using keyset (cursor) pagination, newest first.
+   *
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return ResponseEntity with the page of recipes and the next cursor
+   */
+  public ResponseEntity<SearchRecipesResponse> getMyRecipes(
+      final String cursor, final int size, final boolean includeDetails) {
+    UUID currentUserId = SecurityUtils.getCurrentUserId();
+    RecipeCursor after = RecipeCursor.decodeTimestamp(cursor);
+    Pageable limit = PageRequest.of(0, size + 1);
+    List<Recipe> recipes =
+        after == null
+            ? recipeRepository.findByUserIdOrderByCreatedAtDescRecipeIdDesc(currentUserId, limit)
+            : recipeRepository.findByUserIdCreatedBefore(
+                currentUserId, after.getTimestamp(), after.getRecipeId(), limit);
+
+    return ResponseEntity.ok(buildCursorResponse(recipes, size, after == null, includeDetails));
+  }
 
-    return revisions;
+  /**
+   * Builds a SearchRecipesResponse from a Page of Recipe entities.
+   *
+   * @param recipePage the page of recipes
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return SearchRecipesResponse with pagination metadata
+   */
+  private SearchRecipesResponse buildSearchRecipesResponse(
+      final Page<Recipe> recipePage, final boolean includeDetails) {
+    // Build response with pagination metadata
+    return SearchRecipesResponse.builder()
+        .recipes(toRecipeViews(recipePage.getContent(), includeDetails))
+        .page(recipePage.getNumber())
+        .size(recipePage.getSize())
+        .totalElements(recipePage.getTotalElements())
+        .totalPages(recipePage.getTotalPages())
+        .first(recipePage.isFirst())
+        .last(recipePage.isLast())
+        .numberOfElements(recipePage.getNumberOfElements())
+        .empty(recipePage.isEmpty())
+        .build();
   }
 
   /**
-   * Finds an existing ingredient matching the new ingredient request.
+   * Builds a cursor-mode response from a slice fetched with one extra row. The extra row, if
+   * present, is dropped and signals that another page exists.
    *
-   * @param currentIngredients the list of current recipe ingredients
-   * @param newIngredient the new ingredient to match against
-   * @return the matching RecipeIngredient if found, null otherwise
+   * @param recipes the fetched recipes, ordered newest first, at most {@code size + 1}
+   * @param size the page size
+   * @param first whether this is the first page
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return SearchRecipesResponse with the next cursor
    */
-  private RecipeIngredient findExistingIngredient(
-      final List<RecipeIngredient> currentIngredients, final RecipeIngredientDto newIngredient) {
-    return currentIngredients.stream()
-        .filter(
-            current ->
-                (newIngredient.getIngredientId() != null
-                        && newIngredient
-                            .getIngredientId()
-                            .equals(current.getIngredient().getIngredientId()))
-                    || (newIngredient.getIngredientName() != null
-                        && newIngredient
-                            .getIngredientName()
-                            .equalsIgnoreCase(current.getIngredient().getName())))
-        .findFirst()
-        .orElse(null);
+  private SearchRecipesResponse buildCursorResponse(
+      final List<Recipe> recipes,
+      final int size,
+      final boolean first,
+      final boolean includeDetails) {
+    boolean hasNext = recipes.size() > size;
+    List<Recipe> page = hasNext ? recipes.subList(0, size) : recipes;
+    String nextCursor = null;
+    if (hasNext) {
+      Recipe last = page.get(page.size() - 1);
+      nextCursor = RecipeCursor.ofTimestamp(last.getCreatedAt(), last.getRecipeId()).encode();
+    }
+    return buildCursorResponse(page, size, first, nextCursor, includeDetails);
   }
 
   /**
-   * Finds an existing step by step number.
+   * Builds a cursor-mode response. Totals are not computed in cursor mode and are reported as -1.
    *
-   * @param currentSteps the list of current recipe steps
-   * @param stepNumber the step number to find
-   * @return the matching RecipeStep if found, null otherwise
+   * @param recipes the recipes on this page
+   * @param size the page size
+   * @param first whether this is the first page
+   * @param nextCursor the cursor for the next page, or null if this is the last page
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return SearchRecipesResponse with the next cursor
    */
-  private RecipeStep findExistingStep(
-      final List<RecipeStep> currentSteps, final Integer stepNumber) {
-    return currentSteps.stream()
-        .filter(step -> step.getStepNumber().equals(stepNumber))
-        .findFirst()
-        .orElse(null);
+  private SearchRecipesResponse buildCursorResponse(
+      final List<Recipe> recipes,
+      final int size,
+      final boolean first,
+      final String nextCursor,
+      final boolean includeDetails) {
+    return SearchRecipesResponse.builder()
+        .recipes(toRecipeViews(recipes, includeDetails))
+        .page(0)
+        .size(size)
+        .totalElements(-1)
+        .totalPages(-1)
+        .first(first)
+        .last(nextCursor == null)
+        .numberOfElements(recipes.size())
+        .empty(recipes.isEmpty())
+        .nextCursor(nextCursor)
+        .build();
   }
 
   /**
-   * Creates update revisions for ingredient field changes.
+   * Converts a page of recipes for a list response.
    *
-   * @param recipe the recipe being updated
-   * @param currentUserId the ID of the user making the changes
-   * @param existingIngredient the existing ingredient
-   * @param newIngredient the new ingredient data
-   * @return list of revision objects representing the changes
+   * <p>Summaries are built from one projection query for the whole page (own columns plus favorite
+   * and comment counts), so none of the recipes' lazy collections are touched. Full details map
+   * each recipe through {@link RecipeMapper#toDto}, which loads every collection.
+   *
+   * @param recipes the recipes on the page, in order
+   * @param includeDetails whether to return full recipe graphs instead of summaries
+   * @return the recipe views, in the same order
    */
-  private List<RecipeRevision> createIngredientUpdateRevisions(
-      final Recipe recipe,
-      final UUID currentUserId,
-      final RecipeIngredient existingIngredient,
-      final RecipeIngredientDto newIngredient) {
-    List<RecipeRevision> revisions = new ArrayList<>();
-
-    // Check quantity changes
-    if (!existingIngredient.getQuantity().equals(newIngredient.getQuantity())) {
-      var updateRevision =
-          IngredientUpdateRevision.builder()
-              .category(RevisionCategory.INGREDIENT)
-              .type(RevisionType.UPDATE)
-              .ingredientId(existingIngredient.getIngredient().getIngredientId())
-              .ingredientName(existingIngredient.getIngredient().getName())
-              .changedField(IngredientField.QUANTITY)
-              .previousValue(existingIngredient.getQuantity())
-              .newValue(newIngredient.getQuantity())
-              .changeComment("Ingredient quantity updated")
-              .build();
-
-      revisions.add(
-          createRevisionEntity(
-              recipe,
-              currentUserId,
-              RevisionCategory.INGREDIENT,
-              RevisionType.UPDATE,
-              updateRevision,
-              updateRevision));
+  private List<? extends RecipeView> toRecipeViews(
+      final List<Recipe> recipes, final boolean includeDetails) {
+    if (includeDetails) {
+      return recipes.stream().map(recipeMapper::toDto).toList();
     }
-
-    // Check unit changes
-    if (!existingIngredient.getUnit().equals(newIngredient.getUnit())) {
-      var updateRevision =
-          IngredientUpdateRevision.builder()
-              .category(RevisionCategory.INGREDIENT)
-              .type(RevisionType.UPDATE)
-              .ingredientId(existingIngredient.getIngredient().getIngredientId())
-              .ingredientName(existingIngredient.getIngredient().getName())
-              .changedField(IngredientField.UNIT)
-              .previousValue(existingIngredient.getUnit())
-              .newValue(newIngredient.getUnit())
-              .changeComment("Ingredient unit updated")
-              .build();
-
-      revisions.add(
-          createRevisionEntity(
-              recipe,
-              currentUserId,
-              RevisionCategory.INGREDIENT,
-              RevisionType.UPDATE,
-              updateRevision,
-              updateRevision));
+    if (recipes.isEmpty()) {
+      return List.of();
     }
-
-    // Check optional flag changes
-    boolean newOptional = Boolean.TRUE.equals(newIngredient.getIsOptional());
-    if (!existingIngredient.getIsOptional().equals(newOptional)) {
-      var updateRevision =
-          IngredientUpdateRevision.builder()
-              .category(RevisionCategory.INGREDIENT)
-              .type(RevisionType.UPDATE)
-              .ingredientId(existingIngredient.getIngredient().getIngredientId())
-              .ingredientName(existingIngredient.getIngredient().getName())
-              .changedField(IngredientField.OPTIONAL_STATUS)
-              .previousValue(existingIngredient.getIsOptional())
-              .newValue(newOptional)
-              .changeComment("Ingredient optional flag updated")
-              .build();
-
-      revisions.add(
-          createRevisionEntity(
-              recipe,
-              currentUserId,
-              RevisionCategory.INGREDIENT,
-              RevisionType.UPDATE,
-              updateRevision,
-              updateRevision));
+    List<Long> recipeIds = recipes.stream().map(Recipe::getRecipeId).toList();
+    Map<Long, RecipeSummaryDto> byId = new HashMap<>();
+    for (RecipeSummaryProjection row : recipeRepository.findSummariesByRecipeIdIn(recipeIds)) {
+      byId.put(row.getRecipeId(), recipeMapper.toSummaryDto(row));
     }
+    return recipeIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+  }
 
-    return revisions;
+  /**
+   * Whether a cursor token denotes the first page.
+   *
+   * @param cursor the cursor token
+   * @return true if the token is null or blank
+   */
+  private static boolean isFirstPage(final String cursor) {
+    return cursor == null || cursor.isBlank();
   }
 
   /**
-   * Creates update revisions for step field changes.
+   * Wraps the revisions produced by a diff into entities attributed to the current user.
    *
    * @param recipe the recipe being updated
-   * @param currentUserId the ID of the user making the changes
-   * @param existingStep the existing step
-   * @param newStep the new step data
-   * @return list of revision objects representing the changes
+   * @param revisions the revision data from {@link RevisionDiff}
+   * @return list of revision entities to be saved
    */
-  private List<RecipeRevision> createStepUpdateRevisions(
-      final Recipe recipe,
-      final UUID currentUserId,
-      final RecipeStep existingStep,
-      final RecipeStepDto newStep) {
-    List<RecipeRevision> revisions = new ArrayList<>();
-
-    // Check instruction changes
-    if (!existingStep.getInstruction().equals(newStep.getInstruction())) {
-      var updateRevision =
-          StepUpdateRevision.builder()
-              .category(RevisionCategory.STEP)
-              .type(RevisionType.UPDATE)
-              .stepId(existingStep.getStepId())
-              .stepNumber(newStep.getStepNumber())
-              .changedField(StepField.INSTRUCTION)
-              .previousValue(existingStep.getInstruction())
-              .newValue(newStep.getInstruction())
-              .changeComment("Step instruction updated")
-              .build();
-
-      revisions.add(
+  private List<RecipeRevision> toRevisionEntities(
+      final Recipe recipe, final List<AbstractRevision> revisions) {
+    if (revisions.isEmpty()) {
+      return new ArrayList<>();
+    }
+    UUID currentUserId = SecurityUtils.getCurrentUserId();
+    List<RecipeRevision> entities = new ArrayList<>(revisions.size());
+    for (AbstractRevision revision : revisions) {
+      entities.add(
           createRevisionEntity(
               recipe,
               currentUserId,
-              RevisionCategory.STEP,
-              RevisionType.UPDATE,
-              updateRevision,
-              updateRevision));
+              revision.getCategory(),
+              revision.getType(),
+              revision,
+              revision));
     }
-
-    return revisions;
+    return entities;
   }
 
   /**
@@ -958,8 +1158,8 @@ public class RecipeService {
       final UUID userId,
       final RevisionCategory category,
       final RevisionType type,
-      final com.recipe_manager.model.dto.revision.AbstractRevision previousData,
-      final com.recipe_manager.model.dto.revision.AbstractRevision newData) {
+      final AbstractRevision previousData,
+      final AbstractRevision newData) {
     return RecipeRevision.builder()
         .recipe(recipe)
         .userId(userId)
@@ -980,17 +1180,7 @@ public class RecipeService {
    * @throws AccessDeniedException if the user doesn't have permission to view the recipe
    */
   public RecipeRevisionsResponse getRevisions(final Long recipeId) {
-    // Verify recipe exists and user has access
-    Recipe recipe =
-        recipeRepository
-            .findById(recipeId)
-            .orElseThrow(
-                () -> new ResourceNotFoundException("Recipe not found with id: " + recipeId));
-
-    if (!recipe.getUserId().equals(SecurityUtils.getCurrentUserId())) {
-      throw new AccessDeniedException(
-          "You don't have permission to view revisions for this recipe");
-    }
+    findRecipeForRevisions(recipeId);
 
     // Get all revisions for the recipe
     List<RecipeRevision> revisions = recipeRevisionRepository.findByRecipeId(recipeId);
@@ -1005,6 +1195,81 @@ public class RecipeService {
         .build();
   }
 
+  /**
+   * Get a page of a recipe's revisions using keyset (cursor) pagination, newest first.
+   *
+   * @param recipeId the recipe ID
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @return RecipeRevisionsResponse with the page of revisions and the next cursor
+   * @throws ResourceNotFoundException if the recipe is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   * @throws BusinessException if the cursor is malformed
+   */
+  public RecipeRevisionsResponse getRevisions(
+      final Long recipeId, final String cursor, final int size) {
+    findRecipeForRevisions(recipeId);
+    RevisionCursor after = RevisionCursor.decode(cursor);
+
+    List<RecipeRevision> revisions =
+        recipeRevisionRepository.findPageByRecipeId(
+            recipeId,
+            after == null ? null : after.getCreatedAt(),
+            after == null ? null : after.getRevisionId(),
+            size + 1);
+    String nextCursor = null;
+    if (revisions.size() > size) {
+      revisions = revisions.subList(0, size);
+      RecipeRevision last = revisions.get(size - 1);
+      nextCursor = RevisionCursor.of(last.getCreatedAt(), last.getRevisionId()).encode();
+    }
+    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
+
+    return RecipeRevisionsResponse.builder()
+        .recipeId(recipeId)
+        .revisions(revisionDtos)
+        .totalCount(revisionDtos.size())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Get a recipe's ingredients and steps as they were right after a revision.
+   *
+   * @param recipeId the recipe ID
+   * @param asOfRevisionId the revision ID, or null for the latest revision
+   * @return RecipeHistoryResponse with the rebuilt ingredients and steps
+   * @throws ResourceNotFoundException if the recipe or revision is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   */
+  @Transactional
+  public RecipeHistoryResponse getRecipeHistory(final Long recipeId, final Long asOfRevisionId) {
+    Recipe recipe = findRecipeForRevisions(recipeId);
+    return recipeHistoryService.getHistory(recipe, asOfRevisionId);
+  }
+
+  /**
+   * Loads a recipe whose revisions the current user is about to read.
+   *
+   * @param recipeId the recipe ID
+   * @return the recipe
+   * @throws ResourceNotFoundException if the recipe is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   */
+  private Recipe findRecipeForRevisions(final Long recipeId) {
+    Recipe recipe =
+        recipeRepository
+            .findById(recipeId)
+            .orElseThrow(
+                () -> new ResourceNotFoundException("Recipe not found with id: " + recipeId));
+
+    if (!recipe.getUserId().equals(SecurityUtils.getCurrentUserId())) {
+      throw new AccessDeniedException(
+          "You don't have permission to view revisions for this recipe");
+    }
+    return recipe;
+  }
+
   /**
    * Add a comment to a recipe.
    *
@@ -1033,6 +1298,8 @@ public class RecipeService {
             .build();
 
     RecipeComment savedComment = recipeCommentRepository.save(comment);
+    trendingScoreService.recordComment(recipeId);
+    recipeCacheService.evict(recipeId);
     RecipeCommentDto commentDto = recipeCommentMapper.toDto(savedComment);
 
     // Trigger async notification for recipe commented (with self-notification filtering)
@@ -1074,6 +1341,7 @@ public class RecipeService {
 
     comment.setCommentText(request.getCommentText());
     RecipeComment savedComment = recipeCommentRepository.save(comment);
+    recipeCacheService.evict(recipeId);
     return recipeCommentMapper.toDto(savedComment);
   }
 
@@ -1105,6 +1373,7 @@ public class RecipeService {
     }
 
     recipeCommentRepository.delete(comment);
+    recipeCacheService.evict(recipeId);
   }
 
   /**
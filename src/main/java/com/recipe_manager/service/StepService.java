@@ -7,6 +7,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.recipe_manager.exception.BusinessException;
 import com.recipe_manager.exception.ResourceNotFoundException;
 import com.recipe_manager.model.dto.recipe.RecipeStepDto;
 import com.recipe_manager.model.dto.recipe.StepCommentDto;
@@ -28,6 +29,7 @@ import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
 import com.recipe_manager.repository.recipe.RecipeStepRepository;
 import com.recipe_manager.repository.recipe.StepCommentRepository;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.util.RevisionCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 /** Service for step-related operations. */
@@ -255,6 +257,73 @@ public class StepService {
    * @throws AccessDeniedException if the user doesn't have permission to view the recipe
    */
   public StepRevisionsResponse getStepRevisions(final Long recipeId, final Long stepId) {
+    validateStepRevisionAccess(recipeId, stepId);
+
+    // Get all step revisions for the recipe and step
+    List<RecipeRevision> revisions =
+        recipeRevisionRepository.findStepRevisionsByRecipeIdAndStepId(recipeId, stepId);
+
+    // Convert to DTOs
+    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
+
+    return StepRevisionsResponse.builder()
+        .recipeId(recipeId)
+        .stepId(stepId)
+        .revisions(revisionDtos)
+        .totalCount(revisionDtos.size())
+        .build();
+  }
+
+  /**
+   * Get a page of a step's revisions using keyset (cursor) pagination, newest first.
+   *
+   * @param recipeId the recipe ID
+   * @param stepId the step ID
+   * @param cursor the cursor returned with the previous page, or null/blank for the first page
+   * @param size the page size
+   * @return StepRevisionsResponse with the page of revisions and the next cursor
+   * @throws ResourceNotFoundException if the recipe or step is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   * @throws BusinessException if the cursor is malformed
+   */
+  public StepRevisionsResponse getStepRevisions(
+      final Long recipeId, final Long stepId, final String cursor, final int size) {
+    validateStepRevisionAccess(recipeId, stepId);
+    RevisionCursor after = RevisionCursor.decode(cursor);
+
+    List<RecipeRevision> revisions =
+        recipeRevisionRepository.findStepRevisionPage(
+            recipeId,
+            stepId,
+            after == null ? null : after.getCreatedAt(),
+            after == null ? null : after.getRevisionId(),
+            size + 1);
+    String nextCursor = null;
+    if (revisions.size() > size) {
+      revisions = revisions.subList(0, size);
+      RecipeRevision last = revisions.get(size - 1);
+      nextCursor = RevisionCursor.of(last.getCreatedAt(), last.getRevisionId()).encode();
+    }
+    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
+
+    return StepRevisionsResponse.builder()
+        .recipeId(recipeId)
+        .stepId(stepId)
+        .revisions(revisionDtos)
+        .totalCount(revisionDtos.size())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Checks that the current user owns the recipe and that the step belongs to it.
+   *
+   * @param recipeId the recipe ID
+   * @param stepId the step ID
+   * @throws ResourceNotFoundException if the recipe or step is not found
+   * @throws AccessDeniedException if the user doesn't have permission to view the recipe
+   */
+  private void validateStepRevisionAccess(final Long recipeId, final Long stepId) {
     // Check user has access to the recipe
     Recipe recipe =
         recipeRepository
@@ -272,19 +341,5 @@ public class StepService {
     if (step == null) {
       throw new ResourceNotFoundException("Step not found with ID: " + stepId);
     }
-
-    // Get all step revisions for the recipe and step
-    List<RecipeRevision> revisions =
-        recipeRevisionRepository.findStepRevisionsByRecipeIdAndStepId(recipeId, stepId);
-
-    // Convert to DTOs
-    var revisionDtos = recipeRevisionMapper.toDtoList(revisions);
-
-    return StepRevisionsResponse.builder()
-        .recipeId(recipeId)
-        .stepId(stepId)
-        .revisions(revisionDtos)
-        .totalCount(revisionDtos.size())
-        .build();
   }
 }
@@ -2,6 +2,7 @@ package com.recipe_manager.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,9 @@ import com.recipe_manager.model.entity.recipe.RecipeTag;
 import com.recipe_manager.model.mapper.RecipeTagMapper;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.search.RecipeFilterIndex;
 
 /** Service for tag-related operations. */
 @Service
@@ -30,13 +34,28 @@ public class TagService {
   /** Mapper for converting between RecipeTag entities and DTOs. */
   private final RecipeTagMapper recipeTagMapper;
 
+  /** In-memory ingredient and tag index used for search filters. */
+  private final RecipeFilterIndex recipeFilterIndex;
+
+  /** Read-through cache of fully built recipe DTOs. */
+  private final RecipeCacheService recipeCacheService;
+
+  /** Set-based resolver that creates missing tags. */
+  private final ReferenceDataResolver referenceDataResolver;
+
   public TagService(
       final RecipeRepository recipeRepository,
       final RecipeTagRepository recipeTagRepository,
-      final RecipeTagMapper recipeTagMapper) {
+      final RecipeTagMapper recipeTagMapper,
+      final RecipeFilterIndex recipeFilterIndex,
+      final RecipeCacheService recipeCacheService,
+      final ReferenceDataResolver referenceDataResolver) {
     this.recipeRepository = recipeRepository;
     this.recipeTagRepository = recipeTagRepository;
     this.recipeTagMapper = recipeTagMapper;
+    this.recipeFilterIndex = recipeFilterIndex;
+    this.recipeCacheService = recipeCacheService;
+    this.referenceDataResolver = referenceDataResolver;
   }
 
   /**
@@ -55,15 +74,11 @@ public class TagService {
             .orElseThrow(
                 () -> new ResourceNotFoundException("Recipe not found with ID: " + recipeId));
 
-    // Find or create the tag
+    // Find the tag, creating it if it does not exist yet
     RecipeTag tag =
-        recipeTagRepository
-            .findByNameIgnoreCase(request.getName())
+        findTagByName(request.getName())
             .orElseGet(
-                () -> {
-                  RecipeTag newTag = RecipeTag.builder().name(request.getName().trim()).build();
-                  return recipeTagRepository.save(newTag);
-                });
+                () -> referenceDataResolver.resolveTags(List.of(request.getName())).get(0));
 
     // Add tag to recipe if not already present
     if (!recipe.getRecipeTags().contains(tag)) {
@@ -72,6 +87,8 @@ public class TagService {
       updatedTags.add(tag);
       recipe.setRecipeTags(updatedTags);
       recipeRepository.save(recipe);
+      recipeFilterIndex.indexRecipeTags(recipeId, updatedTags);
+      recipeCacheService.evict(recipeId);
     }
 
     // Return updated tag list
@@ -95,8 +112,7 @@ public class TagService {
                 () -> new ResourceNotFoundException("Recipe not found with ID: " + recipeId));
 
     RecipeTag tag =
-        recipeTagRepository
-            .findByNameIgnoreCase(request.getTagName())
+        findTagByName(request.getTagName())
             .orElseThrow(
                 () ->
                     new ResourceNotFoundException(
@@ -107,6 +123,8 @@ public class TagService {
     updatedTags.remove(tag);
     recipe.setRecipeTags(updatedTags);
     recipeRepository.save(recipe);
+    recipeFilterIndex.indexRecipeTags(recipeId, updatedTags);
+    recipeCacheService.evict(recipeId);
 
     // Return updated tag list
     return getTagsResponse(recipeId, recipe.getRecipeTags());
@@ -129,6 +147,19 @@ public class TagService {
     return getTagsResponse(recipeId, recipe.getRecipeTags());
   }
 
+  /**
+   * Find a tag by name, trying the cached natural-id lookup for an exact match before falling back
+   * to the case-insensitive query.
+   *
+   * @param name the tag name
+   * @return Optional containing the tag if found, empty otherwise
+   */
+  private Optional<RecipeTag> findTagByName(final String name) {
+    return recipeTagRepository
+        .findBySimpleNaturalId(name.trim())
+        .or(() -> recipeTagRepository.findByNameIgnoreCase(name));
+  }
+
   /**
    * Helper method to create TagResponse from recipe tags.
    *
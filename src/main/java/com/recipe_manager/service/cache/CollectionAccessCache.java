@@ -0,0 +1,308 @@
+package com.recipe_manager.service.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.recipe_manager.model.entity.collection.CollectionCollaboratorId;
+import com.recipe_manager.model.entity.collection.RecipeCollection;
+import com.recipe_manager.model.enums.CollaborationMode;
+import com.recipe_manager.model.enums.CollectionVisibility;
+import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.RecipeCollectionRepository;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * In-memory access control for recipe collections, replacing per-request probes of the
+ * vw_user_collection_access view and the collaborators table.
+ *
+ * <p>Two caches back it:
+ *
+ * <ul>
+ *   <li>per collection, an {@link CollectionAcl} with the owner, visibility, collaboration mode and
+ *       collaborators;
+ *   <li>per user, the IDs of the non-public collections the view grants them, which covers
+ *       friends-only access. Public collections are open to everyone and are recognised from the
+ *       ACL or, in listing queries, from the collection row, so they are never copied per user.
+ * </ul>
+ *
+ * <p>Every change that affects access calls one of the {@code evict} methods: collaborator changes
+ * and creation evict the collection's ACL and the affected user's set, visibility and collaboration
+ * mode changes (and friends-only creation) evict the ACL and every user's set, and deletes evict
+ * the ACL. Eviction happens immediately and again after the surrounding transaction commits, as in
+ * {@link RecipeCacheService}. Entries also expire after a configurable TTL, which bounds staleness
+ * from changes made by other instances and from friendships changing in the user management
+ * service.
+ */
+@Service
+public class CollectionAccessCache {
+
+  /** Accessible non-public collection IDs keyed by user ID. */
+  private final Cache<UUID, Set<Long>> accessibleByUser;
+
+  /** ACL entries keyed by collection ID. */
+  private final Cache<Long, CollectionAcl> aclByCollection;
+
+  /** Repository used to load collections and per-user access. */
+  private final RecipeCollectionRepository recipeCollectionRepository;
+
+  /** Repository used to load collaborators. */
+  private final CollectionCollaboratorRepository collectionCollaboratorRepository;
+
+  /**
+   * Creates a new CollectionAccessCache.
+   *
+   * @param accessibleByUser the per-user accessible collection cache
+   * @param aclByCollection the per-collection ACL cache
+   * @param recipeCollectionRepository the repository used to load collections and access
+   * @param collectionCollaboratorRepository the repository used to load collaborators
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "Spring-managed beans are safe to inject and not exposed externally")
+  public CollectionAccessCache(
+      @Qualifier("collectionAccessCache") final Cache<UUID, Set<Long>> accessibleByUser,
+      @Qualifier("collectionAclCache") final Cache<Long, CollectionAcl> aclByCollection,
+      final RecipeCollectionRepository recipeCollectionRepository,
+      final CollectionCollaboratorRepository collectionCollaboratorRepository) {
+    this.accessibleByUser = accessibleByUser;
+    this.aclByCollection = aclByCollection;
+    this.recipeCollectionRepository = recipeCollectionRepository;
+    this.collectionCollaboratorRepository = collectionCollaboratorRepository;
+  }
+
+  /**
+   * Checks whether a user can view a collection: as its owner or a collaborator, because it is
+   * public, or because the access view grants it (friends-only collections).
+   *
+   * @param collectionId the collection ID
+   * @param userId the user ID
+   * @return true if the collection exists and the user can view it
+   */
+  public boolean hasViewAccess(final Long collectionId, final UUID userId) {
+    return canView(collectionId, getAcl(collectionId), userId);
+  }
+
+  /**
+   * Filters a list of collections down to those a user can view, keeping their order. ACLs that
+   * are not cached yet are loaded together in one pass.
+   *
+   * @param collectionIds the collection IDs, in the order to keep
+   * @param userId the user ID
+   * @param limit the maximum number of collections to return
+   * @return the first {@code limit} viewable collection IDs, in their original order
+   */
+  public List<Long> filterViewable(
+      final List<Long> collectionIds, final UUID userId, final int limit) {
+    Map<Long, CollectionAcl> acls = aclByCollection.getAll(collectionIds, this::loadAcls);
+    List<Long> viewable = new ArrayList<>(Math.min(limit, collectionIds.size()));
+    for (Long collectionId : collectionIds) {
+      if (viewable.size() >= limit) {
+        break;
+      }
+      if (canView(collectionId, acls.get(collectionId), userId)) {
+        viewable.add(collectionId);
+      }
+    }
+    return viewable;
+  }
+
+  /**
+   * Checks whether a user is a collaborator on a collection.
+   *
+   * @param collectionId the collection ID
+   * @param userId the user ID
+   * @return true if the collection exists and the user is one of its collaborators
+   */
+  public boolean isCollaborator(final Long collectionId, final UUID userId) {
+    CollectionAcl acl = getAcl(collectionId);
+    return acl != null && acl.collaboratorIds().contains(userId);
+  }
+
+  /**
+   * Returns the IDs of the non-public collections a user can access. Listing queries combine
+   * these with a public-visibility filter.
+   *
+   * @param userId the user ID
+   * @return the accessible non-public collection IDs (immutable)
+   */
+  public Set<Long> getNonPublicAccessibleIds(final UUID userId) {
+    return accessibleByUser.get(
+        userId,
+        id -> Set.copyOf(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(id)));
+  }
+
+  /**
+   * Returns the access control entry of a collection.
+   *
+   * @param collectionId the collection ID
+   * @return the ACL, or null if the collection does not exist
+   */
+  public CollectionAcl getAcl(final Long collectionId) {
+    return aclByCollection.get(collectionId, this::loadAcl);
+  }
+
+  /**
+   * Evicts the entries affected by one user gaining or losing access to a collection: adding or
+   * removing a collaborator, or creating a collection for its owner.
+   *
+   * @param collectionId the collection ID
+   * @param userId the user ID
+   */
+  public void evictUserAccess(final Long collectionId, final UUID userId) {
+    runNowAndAfterCommit(
+        () -> {
+          aclByCollection.invalidate(collectionId);
+          accessibleByUser.invalidate(userId);
+        });
+  }
+
+  /**
+   * Evicts the entries affected by a change to who can see a collection (friends-only creation,
+   * visibility or collaboration mode). Any user may have gained or lost access, so every user's
+   * set is dropped.
+   *
+   * @param collectionId the collection ID
+   */
+  public void evictCollection(final Long collectionId) {
+    runNowAndAfterCommit(
+        () -> {
+          aclByCollection.invalidate(collectionId);
+          accessibleByUser.invalidateAll();
+        });
+  }
+
+  /**
+   * Evicts a deleted collection. Per-user sets may still list it, but every check consults the
+   * ACL first and listing queries join the collection rows, so the stale ID is never used.
+   *
+   * @param collectionId the collection ID
+   */
+  public void evictDeletedCollection(final Long collectionId) {
+    runNowAndAfterCommit(() -> aclByCollection.invalidate(collectionId));
+  }
+
+  /**
+   * Checks a user's view access against a collection's ACL.
+   *
+   * @param collectionId the collection ID
+   * @param acl the collection's ACL, or null if it does not exist
+   * @param userId the user ID
+   * @return true if the collection exists and the user can view it
+   */
+  private boolean canView(final Long collectionId, final CollectionAcl acl, final UUID userId) {
+    if (acl == null) {
+      return false;
+    }
+    return acl.ownerId().equals(userId)
+        || acl.visibility() == CollectionVisibility.PUBLIC
+        || acl.collaboratorIds().contains(userId)
+        || getNonPublicAccessibleIds(userId).contains(collectionId);
+  }
+
+  /**
+   * Loads the ACL of a collection.
+   *
+   * @param collectionId the collection ID
+   * @return the ACL, or null if the collection does not exist (not cached)
+   */
+  private CollectionAcl loadAcl(final Long collectionId) {
+    return recipeCollectionRepository
+        .findById(collectionId)
+        .map(
+            collection ->
+                CollectionAcl.of(
+                    collection,
+                    Set.copyOf(
+                        collectionCollaboratorRepository.findUserIdsByCollectionId(
+                            collectionId))))
+        .orElse(null);
+  }
+
+  /**
+   * Loads the ACLs of several collections with one query for the collections and one for their
+   * collaborators.
+   *
+   * @param collectionIds the collection IDs
+   * @return the ACLs by collection ID; collections that do not exist are left out (not cached)
+   */
+  private Map<Long, CollectionAcl> loadAcls(final Set<? extends Long> collectionIds) {
+    List<Long> ids = List.copyOf(collectionIds);
+    Map<Long, Set<UUID>> collaboratorIds = new HashMap<>();
+    for (CollectionCollaboratorId collaborator :
+        collectionCollaboratorRepository.findIdsByCollectionIdIn(ids)) {
+      collaboratorIds
+          .computeIfAbsent(collaborator.getCollectionId(), key -> new HashSet<>())
+          .add(collaborator.getUserId());
+    }
+    Map<Long, CollectionAcl> acls = new HashMap<>();
+    for (RecipeCollection collection : recipeCollectionRepository.findAllById(ids)) {
+      Long collectionId = collection.getCollectionId();
+      acls.put(
+          collectionId,
+          CollectionAcl.of(
+              collection, Set.copyOf(collaboratorIds.getOrDefault(collectionId, Set.of()))));
+    }
+    return acls;
+  }
+
+  /**
+   * Runs an eviction now and, inside a transaction, again once it commits. The second run drops
+   * entries a concurrent reader loaded from the pre-commit state in between.
+   *
+   * @param eviction the eviction to run
+   */
+  private static void runNowAndAfterCommit(final Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              eviction.run();
+            }
+          });
+    }
+  }
+
+  /**
+   * Access control entry of a collection.
+   *
+   * @param ownerId the owner's user ID
+   * @param visibility the collection visibility
+   * @param collaborationMode who besides the owner may edit
+   * @param collaboratorIds the collaborators' user IDs (immutable)
+   */
+  public record CollectionAcl(
+      UUID ownerId,
+      CollectionVisibility visibility,
+      CollaborationMode collaborationMode,
+      Set<UUID> collaboratorIds) {
+
+    /**
+     * Builds the ACL of a collection.
+     *
+     * @param collection the collection
+     * @param collaboratorIds the collaborators' user IDs
+     * @return the ACL
+     */
+    static CollectionAcl of(final RecipeCollection collection, final Set<UUID> collaboratorIds) {
+      return new CollectionAcl(
+          collection.getUserId(),
+          collection.getVisibility(),
+          collection.getCollaborationMode(),
+          collaboratorIds);
+    }
+  }
+}
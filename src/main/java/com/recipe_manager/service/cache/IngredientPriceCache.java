@@ -0,0 +1,303 @@
+package com.recipe_manager.service.cache;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInfoDto;
+import com.recipe_manager.model.dto.ingredient.QuantityDto;
+import com.recipe_manager.model.enums.IngredientUnit;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * In-memory ingredient prices for shopping lists, replacing the per-recipe cache of recipe scraper
+ * responses.
+ *
+ * <p>Prices are cached per ingredient as a price per canonical unit (see {@link
+ * IngredientUnit#getCanonicalUnit()}), so a price learned from one recipe prices the same
+ * ingredient in any other recipe and at any quantity. Only ingredients that are not cached cause a
+ * scraper call before the shopping list is returned. The scraper can only be asked for whole
+ * recipes, so the missing ingredients are covered by as few recipe requests as possible, sent
+ * concurrently, and every ingredient in each response is cached. Ingredients the scraper cannot
+ * price, because it quotes no price or no usable quantity for them or leaves them out of a recipe's
+ * response, are cached as {@linkplain IngredientPrice#unpriced unpriced} so they are not requested
+ * again until they are refreshed like any other entry.
+ *
+ * <p>Prices older than the configured TTL are stale: they are still served, and reading them
+ * starts a background refresh through {@link IngredientPriceLoader}, which also keeps the
+ * last-known-good price while the scraper is unavailable. {@link #isStale} lets responses say
+ * which prices are being revalidated.
+ *
+ * <p>Each ingredient looked up counts as one hit or miss in the cache statistics, published to
+ * Micrometer under {@code cache="ingredient-prices"}.
+ */
+@Service
+public class IngredientPriceCache {
+
+  /** Logger for cache operations. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(IngredientPriceCache.class);
+
+  /** Scale of computed prices. */
+  private static final int PRICE_SCALE = 2;
+
+  /** Unit prices keyed by ingredient ID. */
+  private final Cache<Long, IngredientPrice> pricesByIngredient;
+
+  /** Loader used to fetch pricing for ingredients that are not cached. */
+  private final IngredientPriceLoader loader;
+
+  /** How long a price is fresh, or null if prices never go stale. */
+  private final Duration freshFor;
+
+  /**
+   * Creates a new IngredientPriceCache.
+   *
+   * @param pricesByIngredient the per-ingredient price cache
+   * @param loader the loader used to fetch missing prices
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "Spring-managed beans are safe to inject and not exposed externally")
+  public IngredientPriceCache(
+      @Qualifier("ingredientPriceCache") final Cache<Long, IngredientPrice> pricesByIngredient,
+      final IngredientPriceLoader loader) {
+    this.pricesByIngredient = pricesByIngredient;
+    this.loader = loader;
+    this.freshFor =
+        pricesByIngredient
+            .policy()
+            .refreshAfterWrite()
+            .map(refresh -> refresh.getRefreshesAfter())
+            .orElse(null);
+  }
+
+  /**
+   * Returns the prices of the ingredients of one or more recipes, fetching those that are missing
+   * from the recipe scraper. Stale prices are returned as they are and refreshed in the
+   * background.
+   *
+   * @param ingredientIdsByRecipe the ingredient IDs to price, keyed by the recipe they belong to
+   * @return the unit prices by ingredient ID; ingredients without known pricing are left out
+   */
+  public Map<Long, IngredientPrice> getPrices(
+      final Map<Long, ? extends Collection<Long>> ingredientIdsByRecipe) {
+    Set<Long> ingredientIds = new HashSet<>();
+    for (Collection<Long> ids : ingredientIdsByRecipe.values()) {
+      for (Long id : ids) {
+        if (id != null) {
+          ingredientIds.add(id);
+        }
+      }
+    }
+
+    Map<Long, IngredientPrice> cached = pricesByIngredient.getAllPresent(ingredientIds);
+    Map<Long, IngredientPrice> prices = new HashMap<>();
+    putPriced(prices, cached, ingredientIds);
+    Set<Long> missing = new HashSet<>(ingredientIds);
+    missing.removeAll(cached.keySet());
+    if (missing.isEmpty()) {
+      return prices;
+    }
+
+    Map<Long, CompletableFuture<Map<Long, IngredientPrice>>> requests = new LinkedHashMap<>();
+    for (Long recipeId : selectRecipes(ingredientIdsByRecipe, missing)) {
+      requests.put(recipeId, loader.fetch(recipeId));
+    }
+    LOGGER.debug(
+        "Fetching pricing for {} of {} ingredients from recipes {}",
+        missing.size(),
+        ingredientIds.size(),
+        requests.keySet());
+
+    Map<Long, IngredientPrice> loaded = new HashMap<>();
+    Map<Long, Long> unreturned = new HashMap<>();
+    for (Map.Entry<Long, CompletableFuture<Map<Long, IngredientPrice>>> request :
+        requests.entrySet()) {
+      Map<Long, IngredientPrice> fetched = request.getValue().join();
+      if (fetched.isEmpty()) {
+        // Pricing was unavailable, so nothing is known about the recipe's ingredients
+        continue;
+      }
+      for (Map.Entry<Long, IngredientPrice> price : fetched.entrySet()) {
+        loaded.merge(
+            price.getKey(),
+            price.getValue(),
+            (current, other) -> current.isPriced() ? current : other);
+      }
+      for (Long id : ingredientIdsByRecipe.get(request.getKey())) {
+        if (missing.contains(id) && !fetched.containsKey(id)) {
+          unreturned.putIfAbsent(id, request.getKey());
+        }
+      }
+    }
+    Instant pricedAt = Instant.now();
+    for (Map.Entry<Long, Long> id : unreturned.entrySet()) {
+      loaded.putIfAbsent(id.getKey(), IngredientPrice.unpriced(id.getValue(), pricedAt));
+    }
+    pricesByIngredient.putAll(loaded);
+    putPriced(prices, loaded, ingredientIds);
+    return prices;
+  }
+
+  /**
+   * Checks whether a price is older than the cache TTL and is being revalidated.
+   *
+   * @param price the price
+   * @return true if the price is stale
+   */
+  public boolean isStale(final IngredientPrice price) {
+    return freshFor != null && price.pricedAt().plus(freshFor).isBefore(Instant.now());
+  }
+
+  /**
+   * Copies the priced entries for the given ingredients, leaving out unpriced ones.
+   *
+   * @param target the map to copy into
+   * @param source the entries to copy from
+   * @param ingredientIds the ingredient IDs to copy
+   */
+  private static void putPriced(
+      final Map<Long, IngredientPrice> target,
+      final Map<Long, IngredientPrice> source,
+      final Set<Long> ingredientIds) {
+    for (Map.Entry<Long, IngredientPrice> price : source.entrySet()) {
+      if (price.getValue().isPriced() && ingredientIds.contains(price.getKey())) {
+        target.put(price.getKey(), price.getValue());
+      }
+    }
+  }
+
+  /**
+   * Chooses the recipes to request pricing for: repeatedly the recipe that contains the most
+   * still-missing ingredients, until every missing ingredient is covered.
+   *
+   * @param ingredientIdsByRecipe the ingredient IDs keyed by recipe
+   * @param missing the ingredient IDs that need pricing
+   * @return the recipe IDs to request, in the order chosen
+   */
+  private static Set<Long> selectRecipes(
+      final Map<Long, ? extends Collection<Long>> ingredientIdsByRecipe, final Set<Long> missing) {
+    Set<Long> uncovered = new HashSet<>(missing);
+    Set<Long> recipeIds = new LinkedHashSet<>();
+    while (!uncovered.isEmpty()) {
+      Long bestRecipeId = null;
+      int bestCount = 0;
+      for (Map.Entry<Long, ? extends Collection<Long>> recipe : ingredientIdsByRecipe.entrySet()) {
+        int count = 0;
+        for (Long id : recipe.getValue()) {
+          if (uncovered.contains(id)) {
+            count++;
+          }
+        }
+        if (count > bestCount) {
+          bestRecipeId = recipe.getKey();
+          bestCount = count;
+        }
+      }
+      if (bestRecipeId == null) {
+        break;
+      }
+      recipeIds.add(bestRecipeId);
+      uncovered.removeAll(ingredientIdsByRecipe.get(bestRecipeId));
+    }
+    return recipeIds;
+  }
+
+  /**
+   * Price of an ingredient per canonical unit, or a record that the recipe scraper has no usable
+   * price for it.
+   *
+   * @param unit the canonical unit the price is per, or null if unpriced
+   * @param unitPrice the price of one canonical unit, or null if unpriced
+   * @param recipeId the recipe the price was quoted for, used to refresh it
+   * @param pricedAt when the price was quoted
+   */
+  public record IngredientPrice(
+      IngredientUnit unit, BigDecimal unitPrice, Long recipeId, Instant pricedAt) {
+
+    /**
+     * Derives the unit price from a recipe scraper quote.
+     *
+     * @param recipeId the recipe the quote is for
+     * @param info the quote for the quantity the recipe uses
+     * @param pricedAt when the quote was received
+     * @return the unit price, or null if the quote has no price or no usable quantity
+     */
+    static IngredientPrice of(
+        final Long recipeId, final IngredientShoppingInfoDto info, final Instant pricedAt) {
+      if (info == null || info.getEstimatedPrice() == null) {
+        return null;
+      }
+      QuantityDto quantity = info.getQuantity();
+      if (quantity == null || quantity.getMeasurement() == null || !(quantity.getAmount() > 0)) {
+        return null;
+      }
+      IngredientUnit measurement = quantity.getMeasurement();
+      BigDecimal canonicalAmount =
+          measurement.toCanonical(BigDecimal.valueOf(quantity.getAmount()));
+      return new IngredientPrice(
+          measurement.getCanonicalUnit(),
+          info.getEstimatedPrice().divide(canonicalAmount, MathContext.DECIMAL64),
+          recipeId,
+          pricedAt);
+    }
+
+    /**
+     * Records that the recipe scraper has no usable price for an ingredient of a recipe.
+     *
+     * @param recipeId the recipe that was priced, used to refresh the entry
+     * @param pricedAt when the recipe was priced
+     * @return the unpriced entry
+     */
+    static IngredientPrice unpriced(final Long recipeId, final Instant pricedAt) {
+      return new IngredientPrice(null, null, recipeId, pricedAt);
+    }
+
+    /**
+     * Checks whether this entry holds a price.
+     *
+     * @return false if the recipe scraper has no usable price for the ingredient
+     */
+    public boolean isPriced() {
+      return unitPrice != null;
+    }
+
+    /**
+     * Prices a quantity of the ingredient.
+     *
+     * @param quantity the quantity
+     * @param quantityUnit the unit of the quantity
+     * @return the price, or null if unpriced or the quantity cannot be converted to this price's
+     *     unit
+     */
+    public BigDecimal priceOf(final BigDecimal quantity, final IngredientUnit quantityUnit) {
+      if (!isPriced()
+          || quantity == null
+          || quantityUnit == null
+          || quantityUnit.getCanonicalUnit() != unit) {
+        return null;
+      }
+      return quantityUnit
+          .toCanonical(quantity)
+          .multiply(unitPrice)
+          .setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.recipe_manager.service.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInfoDto;
+import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.model.enums.ExternalServiceName;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
+import com.recipe_manager.service.external.RecipeScraperService;
+import com.recipe_manager.service.external.SingleFlight;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fetches ingredient prices from the recipe scraper and refreshes them in the background.
+ *
+ * <p>The scraper prices whole recipes, so every fetch is for one recipe and yields the prices of
+ * all its ingredients. Concurrent fetches of the same recipe share one call to {@link
+ * RecipeScraperService#getShoppingInfo}; in particular, the ingredients of a recipe were cached
+ * together and fall due for refresh together, so refreshing them costs one scraper call. Calls are
+ * shared in front of the service, so a shared call passes its circuit breaker and retries once,
+ * however many fetches wait for it.
+ *
+ * <p>As the {@link IngredientPriceCache} loader, a refresh keeps the last-known-good price whenever
+ * the scraper has no new one for the ingredient, for example while the {@code recipe-scraper}
+ * circuit breaker is open and the scraper service answers with its empty fallback. A price is kept
+ * this way until it is older than the configured maximum staleness, and then dropped. An
+ * {@linkplain IngredientPrice#unpriced unpriced} entry has nothing to keep, so it is replaced by
+ * the new price if there is one and otherwise recorded as unpriced again.
+ */
+@Component
+public class IngredientPriceLoader implements CacheLoader<Long, IngredientPrice> {
+
+  /** Logger for loader operations. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(IngredientPriceLoader.class);
+
+  /** Service used to fetch recipe pricing. */
+  private final RecipeScraperService recipeScraperService;
+
+  /** How long after it was quoted a price may still be served. */
+  private final Duration maxStale;
+
+  /** Shares concurrent shopping info calls for the same recipe. */
+  private final SingleFlight<Long, RecipeScraperShoppingDto> shoppingInfoCalls =
+      new SingleFlight<>(ExternalServiceName.RECIPE_SCRAPER, "getShoppingInfo");
+
+  /**
+   * Creates a new IngredientPriceLoader.
+   *
+   * @param recipeScraperService the service used to fetch recipe pricing
+   * @param maxStale how long after it was quoted a price may still be served
+   * @param meterRegistry registry for request coalescing metrics
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "Spring-managed beans are safe to inject and not exposed externally")
+  public IngredientPriceLoader(
+      final RecipeScraperService recipeScraperService,
+      @Value("${cache.external-services.recipe-scraper-max-stale:24h}") final Duration maxStale,
+      final MeterRegistry meterRegistry) {
+    this.recipeScraperService = recipeScraperService;
+    this.maxStale = maxStale;
+    if (meterRegistry != null) {
+      shoppingInfoCalls.bindTo(meterRegistry);
+    }
+  }
+
+  /**
+   * Fetches the prices of a recipe's ingredients. Concurrent calls for the same recipe share one
+   * scraper request.
+   *
+   * @param recipeId the recipe ID
+   * @return the unit prices by ingredient ID, with an unpriced entry for every ingredient the
+   *     scraper returned without a usable price, completing with an empty map if pricing is
+   *     unavailable
+   */
+  public CompletableFuture<Map<Long, IngredientPrice>> fetch(final Long recipeId) {
+    return requestPricing(recipeId).thenApply(pricingData -> toPrices(recipeId, pricingData));
+  }
+
+  /**
+   * Not supported: an ingredient can only be priced through a recipe that uses it, so {@link
+   * IngredientPriceCache} loads missing prices itself.
+   *
+   * @param ingredientId the ingredient ID
+   * @return null, leaving the ingredient unpriced
+   */
+  @Override
+  public IngredientPrice load(final Long ingredientId) {
+    return null;
+  }
+
+  /**
+   * Refreshes a price from the recipe it was last quoted for, keeping the old price if the scraper
+   * has no new one and it is not older than the maximum staleness.
+   *
+   * @param ingredientId the ingredient ID
+   * @param oldValue the price being refreshed
+   * @param executor the cache executor (unused; the scraper call is already asynchronous)
+   * @return the refreshed price, the old price, or null to drop the entry
+   */
+  @Override
+  public CompletableFuture<IngredientPrice> asyncReload(
+      final Long ingredientId, final IngredientPrice oldValue, final Executor executor) {
+    return fetch(oldValue.recipeId())
+        .thenApply(
+            prices -> {
+              IngredientPrice price = prices.get(ingredientId);
+              if (price != null && price.isPriced()) {
+                return price;
+              }
+              if (!oldValue.isPriced()) {
+                return IngredientPrice.unpriced(oldValue.recipeId(), Instant.now());
+              }
+              if (oldValue.pricedAt().plus(maxStale).isBefore(Instant.now())) {
+                LOGGER.debug(
+                    "Dropping price of ingredient {} older than {}", ingredientId, maxStale);
+                return null;
+              }
+              LOGGER.debug("Keeping last known price of ingredient {}", ingredientId);
+              return oldValue;
+            });
+  }
+
+  /**
+   * Starts a pricing request for a recipe that completes with null instead of failing.
+   *
+   * @param recipeId the recipe ID
+   * @return the pending pricing data, completing with null if it is unavailable
+   */
+  private CompletableFuture<RecipeScraperShoppingDto> requestPricing(final Long recipeId) {
+    try {
+      return shoppingInfoCalls
+          .execute(recipeId, () -> recipeScraperService.getShoppingInfo(recipeId))
+          .exceptionally(
+              e -> {
+                LOGGER.warn(
+                    "Failed to retrieve pricing data for recipe {}: {}", recipeId, e.getMessage());
+                return null;
+              });
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to request pricing data for recipe {}: {}", recipeId, e.getMessage());
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  /**
+   * Derives the unit price of every ingredient in a recipe scraper response.
+   *
+   * @param recipeId the recipe the response is for
+   * @param pricingData the response, or null if pricing was unavailable
+   * @return the unit prices by ingredient ID, unpriced for ingredients without a usable quote
+   */
+  private static Map<Long, IngredientPrice> toPrices(
+      final Long recipeId, final RecipeScraperShoppingDto pricingData) {
+    if (pricingData == null || pricingData.getIngredients() == null) {
+      return Map.of();
+    }
+    Instant pricedAt = Instant.now();
+    Map<Long, IngredientPrice> prices = new HashMap<>();
+    for (Map.Entry<String, IngredientShoppingInfoDto> entry :
+        pricingData.getIngredients().entrySet()) {
+      IngredientPrice price = IngredientPrice.of(recipeId, entry.getValue(), pricedAt);
+      if (price == null) {
+        price = IngredientPrice.unpriced(recipeId, pricedAt);
+      }
+      try {
+        prices.put(Long.valueOf(entry.getKey()), price);
+      } catch (NumberFormatException e) {
+        LOGGER.debug("Ignoring pricing for unknown ingredient key {}", entry.getKey());
+      }
+    }
+    return prices;
+  }
+}
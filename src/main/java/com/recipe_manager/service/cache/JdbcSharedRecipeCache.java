@@ -0,0 +1,149 @@
+package com.recipe_manager.service.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe_manager.config.CacheConfig;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+
+/**
+ * {@link SharedRecipeCache} backed by the unlogged {@code recipe_cache_entries} table, so every
+ * instance sees the same entries without extra infrastructure. Each row records the recipe
+ * version its payload was built at, and reads only return rows at the version asked for.
+ *
+ * <p>Eviction writes a short-lived tombstone rather than deleting the row. A put that arrives while
+ * the tombstone is live is ignored, which stops a reader that built its DTO before a change
+ * committed from writing it back afterwards.
+ *
+ * <p>Every statement runs outside the caller's transaction, so the tombstone is visible to other
+ * instances as soon as it is written and a failing cache statement cannot abort the caller's
+ * work. Any database error is logged and treated as a miss.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.recipe.shared-tier.enabled", havingValue = "true")
+public class JdbcSharedRecipeCache implements SharedRecipeCache {
+
+  /** Logger for shared cache failures. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(JdbcSharedRecipeCache.class);
+
+  /** How long an eviction tombstone blocks puts, in milliseconds. */
+  static final long TOMBSTONE_MILLIS = 30_000L;
+
+  /** Reads a live entry at a version. */
+  static final String GET_SQL =
+      "SELECT payload FROM recipe_manager.recipe_cache_entries "
+          + "WHERE recipe_id = ? AND version = ? AND payload IS NOT NULL AND expires_at > NOW()";
+
+  /** Writes an entry unless a live tombstone is present. */
+  static final String PUT_SQL =
+      "INSERT INTO recipe_manager.recipe_cache_entries (recipe_id, version, payload, expires_at) "
+          + "VALUES (?, ?, ?, NOW() + ? * INTERVAL '1 millisecond') "
+          + "ON CONFLICT (recipe_id) DO UPDATE "
+          + "SET version = EXCLUDED.version, payload = EXCLUDED.payload, "
+          + "    expires_at = EXCLUDED.expires_at "
+          + "WHERE recipe_manager.recipe_cache_entries.payload IS NOT NULL "
+          + "   OR recipe_manager.recipe_cache_entries.expires_at <= NOW()";
+
+  /** Replaces an entry with a tombstone. */
+  static final String EVICT_SQL =
+      "INSERT INTO recipe_manager.recipe_cache_entries (recipe_id, payload, expires_at) "
+          + "VALUES (?, NULL, NOW() + ? * INTERVAL '1 millisecond') "
+          + "ON CONFLICT (recipe_id) DO UPDATE "
+          + "SET payload = NULL, expires_at = EXCLUDED.expires_at";
+
+  /** Drops expired entries and tombstones. */
+  static final String PURGE_SQL =
+      "DELETE FROM recipe_manager.recipe_cache_entries WHERE expires_at <= NOW()";
+
+  /** ObjectMapper instance configured with JavaTimeModule for JSON processing. */
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new JavaTimeModule());
+
+  /** JdbcTemplate used for cache table access. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Runs cache statements with the caller's transaction suspended. */
+  private final TransactionTemplate outsideTransaction;
+
+  /** TTL for stored entries, in milliseconds. */
+  private final long ttlMillis;
+
+  /**
+   * Creates a new JdbcSharedRecipeCache.
+   *
+   * @param jdbcTemplate the JdbcTemplate used for cache table access
+   * @param transactionManager the transaction manager used to suspend the caller's transaction
+   * @param cacheConfig the cache configuration
+   */
+  public JdbcSharedRecipeCache(
+      final JdbcTemplate jdbcTemplate,
+      final PlatformTransactionManager transactionManager,
+      final CacheConfig cacheConfig) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.outsideTransaction = new TransactionTemplate(transactionManager);
+    outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    this.ttlMillis = cacheConfig.getRecipe().getSharedTier().getTtl().toMillis();
+  }
+
+  @Override
+  public Optional<RecipeDto> get(final Long recipeId, final String version) {
+    try {
+      List<String> payloads =
+          outsideTransaction.execute(
+              status -> jdbcTemplate.queryForList(GET_SQL, String.class, recipeId, version));
+      if (payloads == null || payloads.isEmpty()) {
+        return Optional.empty();
+      }
+      return Optional.of(OBJECT_MAPPER.readValue(payloads.get(0), RecipeDto.class));
+    } catch (DataAccessException | JsonProcessingException e) {
+      LOGGER.warn("Shared recipe cache read failed for recipe {}: {}", recipeId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(final Long recipeId, final String version, final RecipeDto recipe) {
+    try {
+      String payload = OBJECT_MAPPER.writeValueAsString(recipe);
+      outsideTransaction.executeWithoutResult(
+          status -> jdbcTemplate.update(PUT_SQL, recipeId, version, payload, ttlMillis));
+    } catch (DataAccessException | JsonProcessingException e) {
+      LOGGER.warn("Shared recipe cache write failed for recipe {}: {}", recipeId, e.getMessage());
+    }
+  }
+
+  @Override
+  public void evict(final Long recipeId) {
+    try {
+      outsideTransaction.executeWithoutResult(
+          status -> jdbcTemplate.update(EVICT_SQL, recipeId, TOMBSTONE_MILLIS));
+    } catch (DataAccessException e) {
+      LOGGER.warn("Shared recipe cache evict failed for recipe {}: {}", recipeId, e.getMessage());
+    }
+  }
+
+  /** Periodically removes expired entries and tombstones. */
+  @Scheduled(fixedDelayString = "${cache.recipe.shared-tier.purge-interval-ms:300000}")
+  public void purgeExpired() {
+    try {
+      int purged = jdbcTemplate.update(PURGE_SQL);
+      LOGGER.debug("Purged {} expired shared recipe cache entries", purged);
+    } catch (DataAccessException e) {
+      LOGGER.warn("Shared recipe cache purge failed: {}", e.getMessage());
+    }
+  }
+}
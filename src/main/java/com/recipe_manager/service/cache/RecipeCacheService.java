@@ -0,0 +1,165 @@
+package com.recipe_manager.service.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+
+/**
+ * Read-through cache of fully built recipe DTOs for {@code GET /recipes/{recipeId}}.
+ *
+ * <p>Each entry is stored with the recipe version it was built at, the recipe ETag from {@link
+ * RecipeVersionService}. Readers pass in the version they have just probed, and an entry is only
+ * served if its version matches; otherwise it is treated as a miss and replaced. A cached DTO can
+ * therefore never be served under a newer ETag than the one it was built at.
+ *
+ * <p>Lookups go to the in-process Caffeine cache first, then to the optional {@link
+ * SharedRecipeCache}, and only then to the database. Every service that changes something a {@link
+ * RecipeDto} contains calls {@link #evict(Long)} for the affected recipe.
+ *
+ * <p>The version check is also what keeps instances coherent. {@link #evict(Long)} only reaches
+ * the local tier of the instance that made the change (and the shared tier), so other instances
+ * may still hold the old DTO locally; the next read there probes the new version, misses, and
+ * reloads through the shared tier, which is checked against the same version.
+ *
+ * <p>Eviction happens immediately and again after the surrounding transaction commits. The first
+ * eviction stops this transaction's own later reads from seeing the old DTO; the second drops any
+ * DTO that a concurrent reader built from the pre-commit state in between. A load that is still
+ * running when the key is evicted finishes first and is then discarded, so a stale DTO cannot be
+ * written back after the final eviction.
+ */
+@Service
+public class RecipeCacheService {
+
+  /** In-process cache keyed by recipe ID. */
+  private final Cache<Long, VersionedRecipe> localCache;
+
+  /** Shared second tier, or null when disabled. */
+  private final SharedRecipeCache sharedCache;
+
+  /**
+   * Creates a new RecipeCacheService.
+   *
+   * @param localCache the in-process recipe cache
+   * @param sharedCache the shared second tier, if enabled
+   */
+  public RecipeCacheService(
+      @Qualifier("recipeDetailsCache") final Cache<Long, VersionedRecipe> localCache,
+      final Optional<SharedRecipeCache> sharedCache) {
+    this.localCache = localCache;
+    this.sharedCache = sharedCache.orElse(null);
+  }
+
+  /**
+   * Returns the cached DTO for a recipe at the given version, loading and caching it on a miss or
+   * when the cached copy was built at another version. Without a version the cache is bypassed,
+   * since nothing would tell a current entry from a stale one. Exceptions thrown by the loader
+   * propagate and nothing is cached.
+   *
+   * @param recipeId the recipe ID
+   * @param version the recipe's current version, or null if it is unknown
+   * @param loader builds the DTO from the database
+   * @return the recipe DTO
+   */
+  public RecipeDto get(
+      final Long recipeId, final String version, final Function<Long, RecipeDto> loader) {
+    if (version == null) {
+      return loader.apply(recipeId);
+    }
+    VersionedRecipe cached = localCache.getIfPresent(recipeId);
+    if (cached != null && cached.isAt(version)) {
+      return cached.recipe();
+    }
+    return localCache
+        .asMap()
+        .compute(
+            recipeId,
+            (id, current) ->
+                current != null && current.isAt(version)
+                    ? current
+                    : new VersionedRecipe(version, loadThroughSharedTier(id, version, loader)))
+        .recipe();
+  }
+
+  /**
+   * Evicts a recipe from every tier, now and again once the current transaction commits.
+   *
+   * @param recipeId the recipe ID
+   */
+  public void evict(final Long recipeId) {
+    if (recipeId == null) {
+      return;
+    }
+    invalidate(recipeId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidate(recipeId);
+            }
+          });
+    }
+  }
+
+  /**
+   * Loads a recipe at a version from the shared tier, falling back to the loader and populating
+   * the shared tier.
+   *
+   * @param recipeId the recipe ID
+   * @param version the recipe's current version
+   * @param loader builds the DTO from the database
+   * @return the recipe DTO
+   */
+  private RecipeDto loadThroughSharedTier(
+      final Long recipeId, final String version, final Function<Long, RecipeDto> loader) {
+    if (sharedCache == null) {
+      return loader.apply(recipeId);
+    }
+    return sharedCache
+        .get(recipeId, version)
+        .orElseGet(
+            () -> {
+              RecipeDto recipe = loader.apply(recipeId);
+              sharedCache.put(recipeId, version, recipe);
+              return recipe;
+            });
+  }
+
+  /**
+   * Removes a recipe from both tiers.
+   *
+   * @param recipeId the recipe ID
+   */
+  private void invalidate(final Long recipeId) {
+    localCache.invalidate(recipeId);
+    if (sharedCache != null) {
+      sharedCache.evict(recipeId);
+    }
+  }
+
+  /**
+   * A cached recipe DTO together with the version it was built at.
+   *
+   * @param version the recipe ETag the DTO was built at
+   * @param recipe the recipe DTO
+   */
+  public record VersionedRecipe(String version, RecipeDto recipe) {
+
+    /**
+     * Checks whether this entry was built at the given version.
+     *
+     * @param currentVersion the version to compare against
+     * @return true if the entry is current
+     */
+    boolean isAt(final String currentVersion) {
+      return version.equals(currentVersion);
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package com.recipe_manager.service.cache;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.ETag;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes strong ETags for a recipe and its child resources from a single-row version probe, so
+ * that conditional GETs can be answered without loading the recipe graph.
+ *
+ * <p>The probe reads {@code recipes.updated_at} together with the change counters in {@code
+ * recipe_versions}, which database triggers increment whenever a child row of the recipe is
+ * written (see migration V006). Each resource's tag is built only from the inputs its
+ * representation depends on, so adding a review does not invalidate cached ingredients.
+ */
+@Service
+public class RecipeVersionService {
+
+  /**
+   * Version of the representations covered by the tags. Bump it whenever a response body
+   * changes shape, so that clients holding tags from the old format revalidate in full.
+   */
+  static final String REPRESENTATION_VERSION = "v1";
+
+  /** Reads the recipe timestamp and every child counter in one index lookup. */
+  static final String PROBE_SQL =
+      "SELECT r.updated_at, "
+          + "COALESCE(v.ingredients_version, 0) AS ingredients_version, "
+          + "COALESCE(v.steps_version, 0) AS steps_version, "
+          + "COALESCE(v.tags_version, 0) AS tags_version, "
+          + "COALESCE(v.reviews_version, 0) AS reviews_version, "
+          + "COALESCE(v.comments_version, 0) AS comments_version, "
+          + "COALESCE(v.favorites_version, 0) AS favorites_version, "
+          + "COALESCE(v.revisions_version, 0) AS revisions_version "
+          + "FROM recipe_manager.recipes r "
+          + "LEFT JOIN recipe_manager.recipe_versions v ON v.recipe_id = r.recipe_id "
+          + "WHERE r.recipe_id = ?";
+
+  /** Recipe resources that carry an ETag. */
+  public enum Resource {
+    /** The full recipe, including everything it embeds except reviews. */
+    RECIPE("recipe"),
+    /** Recipe ingredients and their comments. */
+    INGREDIENTS("ingredients"),
+    /** Recipe steps. */
+    STEPS("steps"),
+    /** Recipe tags. */
+    TAGS("tags"),
+    /** Recipe reviews. */
+    REVIEWS("reviews"),
+    /** Recipe comments. */
+    COMMENTS("comments");
+
+    /** Name used in the tag value. */
+    private final String tagName;
+
+    Resource(final String tagName) {
+      this.tagName = tagName;
+    }
+  }
+
+  /** JdbcTemplate used for the version probe. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates a new RecipeVersionService.
+   *
+   * @param jdbcTemplate the JdbcTemplate used for the version probe
+   */
+  public RecipeVersionService(final JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Returns the current ETag of a recipe resource.
+   *
+   * @param recipeId the recipe ID
+   * @param resource the resource to tag
+   * @return the quoted strong ETag, or empty if the recipe does not exist
+   */
+  public Optional<String> currentEtag(final Long recipeId, final Resource resource) {
+    List<String> tags =
+        jdbcTemplate.query(
+            PROBE_SQL,
+            (rs, rowNum) ->
+                etag(
+                    recipeId,
+                    resource,
+                    new Versions(
+                        rs.getTimestamp("updated_at"),
+                        rs.getLong("ingredients_version"),
+                        rs.getLong("steps_version"),
+                        rs.getLong("tags_version"),
+                        rs.getLong("reviews_version"),
+                        rs.getLong("comments_version"),
+                        rs.getLong("favorites_version"),
+                        rs.getLong("revisions_version"))),
+            recipeId);
+    return tags.stream().findFirst();
+  }
+
+  /**
+   * Checks whether an {@code If-None-Match} header value matches the current ETag. Comparison is
+   * weak, as RFC 9110 requires for {@code If-None-Match}.
+   *
+   * @param ifNoneMatch the header value, possibly null
+   * @param currentEtag the current quoted ETag
+   * @return true if the client's copy is current
+   */
+  public static boolean matches(final String ifNoneMatch, final String currentEtag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    ETag current = ETag.create(currentEtag);
+    for (ETag candidate : ETag.parse(ifNoneMatch)) {
+      if (candidate.isWildcard() || candidate.compare(current, false)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Builds the tag for one resource from the probed versions.
+   *
+   * @param recipeId the recipe ID
+   * @param resource the resource to tag
+   * @param versions the probed versions
+   * @return the quoted strong ETag
+   */
+  static String etag(final Long recipeId, final Resource resource, final Versions versions) {
+    String version =
+        switch (resource) {
+          case RECIPE ->
+              versions.updatedAtMicros()
+                  + "."
+                  + versions.ingredients()
+                  + "."
+                  + versions.steps()
+                  + "."
+                  + versions.tags()
+                  + "."
+                  + versions.comments()
+                  + "."
+                  + versions.favorites()
+                  + "."
+                  + versions.revisions();
+          case INGREDIENTS -> Long.toString(versions.ingredients());
+          case STEPS -> Long.toString(versions.steps());
+          case TAGS -> Long.toString(versions.tags());
+          case REVIEWS -> Long.toString(versions.reviews());
+          case COMMENTS -> Long.toString(versions.comments());
+        };
+    return "\""
+        + REPRESENTATION_VERSION
+        + "-"
+        + resource.tagName
+        + "-"
+        + recipeId
+        + "-"
+        + version
+        + "\"";
+  }
+
+  /**
+   * Versions read by the probe.
+   *
+   * @param updatedAt the recipe's last update time
+   * @param ingredients ingredient change counter
+   * @param steps step change counter
+   * @param tags tag change counter
+   * @param reviews review change counter
+   * @param comments comment change counter
+   * @param favorites favorite change counter
+   * @param revisions revision change counter
+   */
+  record Versions(
+      Timestamp updatedAt,
+      long ingredients,
+      long steps,
+      long tags,
+      long reviews,
+      long comments,
+      long favorites,
+      long revisions) {
+
+    /**
+     * Returns the update time in microseconds, the resolution PostgreSQL stores.
+     *
+     * @return microseconds since the epoch, or 0 if unset
+     */
+    long updatedAtMicros() {
+      if (updatedAt == null) {
+        return 0L;
+      }
+      return updatedAt.getTime() / 1000L * 1_000_000L + updatedAt.getNanos() / 1000L;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.recipe_manager.service.cache;
+
+import java.util.Optional;
+
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+
+/**
+ * Second cache tier for fully built recipe DTOs, shared by every instance of the service. Entries
+ * carry the recipe version they were built at, and lookups only return an entry at the requested
+ * version.
+ *
+ * <p>Implementations must treat failures as misses: a shared tier that is unavailable should slow
+ * reads down, never fail them.
+ */
+public interface SharedRecipeCache {
+
+  /**
+   * Looks up a cached recipe at a version.
+   *
+   * @param recipeId the recipe ID
+   * @param version the recipe version
+   * @return the cached recipe, or empty on a miss or if the entry is at another version
+   */
+  Optional<RecipeDto> get(Long recipeId, String version);
+
+  /**
+   * Stores a recipe built at a version.
+   *
+   * @param recipeId the recipe ID
+   * @param version the version the recipe was built at
+   * @param recipe the recipe DTO
+   */
+  void put(Long recipeId, String version, RecipeDto recipe);
+
+  /**
+   * Removes a recipe.
+   *
+   * @param recipeId the recipe ID
+   */
+  void evict(Long recipeId);
+}
@@ -0,0 +1,74 @@
+package com.recipe_manager.service.collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the stored {@code recipe_count} and {@code collaborator_count} columns on {@code
+ * recipe_collections} consistent with the items and collaborators they count.
+ *
+ * <p>{@code CollectionService} adjusts the counts in the same transaction as every item and
+ * collaborator it adds or removes. Rows removed outside of it are not seen there: deleting a
+ * recipe or a user cascades to {@code recipe_collection_items} and {@code collection_collaborators}
+ * in the database. This pass recomputes the counts from the source tables and rewrites only the
+ * collections whose stored values differ. A pass racing a concurrent add or remove may write a
+ * count that is off by that change; the next pass corrects it.
+ */
+@Service
+public class CollectionCountRepairService {
+
+  /** Logger for repair pass events. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(CollectionCountRepairService.class);
+
+  /** Rewrites the counts of every collection whose stored values have drifted. */
+  static final String REPAIR_COUNTS_SQL =
+      "UPDATE recipe_manager.recipe_collections c "
+          + "SET recipe_count = actual.recipe_count, "
+          + "    collaborator_count = actual.collaborator_count "
+          + "FROM ("
+          + "  SELECT rc.collection_id, "
+          + "    (SELECT COUNT(*) FROM recipe_manager.recipe_collection_items rci "
+          + "     WHERE rci.collection_id = rc.collection_id) AS recipe_count, "
+          + "    (SELECT COUNT(*) FROM recipe_manager.collection_collaborators cc "
+          + "     WHERE cc.collection_id = rc.collection_id) AS collaborator_count "
+          + "  FROM recipe_manager.recipe_collections rc"
+          + ") actual "
+          + "WHERE c.collection_id = actual.collection_id "
+          + "AND (c.recipe_count <> actual.recipe_count "
+          + "  OR c.collaborator_count <> actual.collaborator_count)";
+
+  /** JdbcTemplate used for the repair update. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates a new CollectionCountRepairService.
+   *
+   * @param jdbcTemplate the JdbcTemplate used to repair the counts
+   */
+  public CollectionCountRepairService(final JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Periodically recomputes the stored counts and fixes any that have drifted.
+   *
+   * @return the number of collections whose counts were corrected
+   */
+  @Scheduled(
+      fixedDelayString = "${app.collections.count-repair-interval-ms:3600000}",
+      initialDelayString = "${app.collections.count-repair-interval-ms:3600000}")
+  @Transactional
+  public int repairCounts() {
+    int repaired = jdbcTemplate.update(REPAIR_COUNTS_SQL);
+    if (repaired > 0) {
+      LOGGER.info("Repaired stored recipe and collaborator counts of {} collections", repaired);
+    } else {
+      LOGGER.debug("Collection counts are consistent");
+    }
+    return repaired;
+  }
+}
@@ -1,16 +1,18 @@
 package com.recipe_manager.service.external;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import com.recipe_manager.client.recipescraper.RecipeScraperClient;
+import com.recipe_manager.config.AsyncConfig;
 import com.recipe_manager.config.ExternalServicesConfig;
 import com.recipe_manager.exception.ExternalServiceException;
 import com.recipe_manager.exception.ExternalServiceTimeoutException;
@@ -27,7 +29,7 @@ import io.micrometer.core.instrument.Timer;
 
 /**
  * Service wrapper for recipe scraper external service integration. Provides business logic layer
- * with caching, circuit breaker, retry, and error handling for recipe scraper service calls.
+ * with circuit breaker, retry, and error handling for recipe scraper service calls.
  */
 @Service
 public class RecipeScraperService {
@@ -50,6 +52,11 @@ public class RecipeScraperService {
   /** Metrics registry for observability. */
   @Autowired private MeterRegistry meterRegistry;
 
+  /** Executor running recipe scraper calls on virtual threads. */
+  @Autowired
+  @Qualifier(AsyncConfig.EXTERNAL_SERVICE_EXECUTOR)
+  private Executor externalServiceExecutor;
+
   /** Counter for tracking service calls. */
   private Counter callsCounter;
 
@@ -84,18 +91,15 @@ public class RecipeScraperService {
   }
 
   /**
-   * Retrieves shopping information with pricing for a recipe. Includes caching, circuit breaker,
-   * and retry logic for resilient external service integration.
+   * Retrieves shopping information with pricing for a recipe. Includes circuit breaker and retry
+   * logic for resilient external service integration. Responses are not cached here; callers price
+   * shopping lists through {@link com.recipe_manager.service.cache.IngredientPriceCache}, which
+   * keeps prices per ingredient.
    *
    * @param recipeId the recipe ID to get shopping info for
    * @return CompletableFuture with shopping information with pricing details
    * @throws RecipeScraperException if the service call fails after retries
    */
-  @Cacheable(
-      value = "recipe-scraper-shopping-info",
-      key = "#recipeId",
-      cacheManager = "externalServicesCacheManager",
-      condition = "#recipeId != null")
   @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "getShoppingInfoFallback")
   @Retry(name = RETRY_NAME)
   @TimeLimiter(name = CIRCUIT_BREAKER_NAME)
@@ -151,12 +155,16 @@ public class RecipeScraperService {
             MDC.remove("externalService");
             MDC.remove("recipeId");
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
    * Fallback method for when recipe scraper service is unavailable. Returns empty pricing data to
-   * allow the application to continue functioning without pricing information.
+   * allow the application to continue functioning without pricing information. Shopping lists keep
+   * serving the last known ingredient prices meanwhile, since {@link
+   * com.recipe_manager.service.cache.IngredientPriceLoader} does not replace a cached price with
+   * an empty response.
    *
    * @param recipeId the recipe ID
    * @param exception the exception that triggered the fallback
@@ -0,0 +1,155 @@
+package com.recipe_manager.service.external;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.recipe_manager.model.enums.ExternalServiceName;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Coalesces concurrent identical calls to an external service, so that callers asking for the same
+ * key while a call for it is in flight share that call instead of making their own.
+ *
+ * <p>Only calls that overlap are shared: once a call completes, successfully or not, the next
+ * caller for its key starts a new one. Results are not cached here; callers that need caching keep
+ * their own cache in front of the flight.
+ *
+ * <p>Flights belong in the caller, in front of the service method carrying the Resilience4j
+ * annotations, so a shared call passes the circuit breaker, retries and time limiter once rather
+ * than once per caller. Asynchronous callers each receive their own copy of the shared future, so
+ * a caller that cancels its copy does not cancel the call for the others.
+ *
+ * <p>Once bound to a registry, publishes {@code external.service.calls.coalesced}, the number of
+ * callers that shared another caller's call, and {@code external.service.calls.in.flight}, the
+ * number of keys with a call in flight, both tagged with {@code service} and {@code operation}.
+ *
+ * @param <K> the key identifying identical calls
+ * @param <V> the call result
+ */
+public final class SingleFlight<K, V> implements MeterBinder {
+
+  /** Logger for coalesced calls. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(SingleFlight.class);
+
+  /** The service called. */
+  private final ExternalServiceName service;
+
+  /** The operation called, used to tell flights of one service apart. */
+  private final String operation;
+
+  /** Calls in flight keyed by call key. */
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /** Counter for callers that shared another caller's call. */
+  private Counter coalescedCounter;
+
+  /**
+   * Creates a new SingleFlight.
+   *
+   * @param service the service called
+   * @param operation the operation called
+   */
+  public SingleFlight(final ExternalServiceName service, final String operation) {
+    this.service = service;
+    this.operation = operation;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    coalescedCounter =
+        Counter.builder("external.service.calls.coalesced")
+            .description("Calls that shared an identical call already in flight")
+            .tag("service", service.getServiceName())
+            .tag("operation", operation)
+            .register(registry);
+    Gauge.builder("external.service.calls.in.flight", inFlight, ConcurrentMap::size)
+        .description("Distinct calls currently in flight")
+        .tag("service", service.getServiceName())
+        .tag("operation", operation)
+        .register(registry);
+  }
+
+  /**
+   * Starts an asynchronous call, or joins the one in flight for the same key.
+   *
+   * @param key the key identifying identical calls
+   * @param call starts the call; only invoked if no call for the key is in flight
+   * @return a future of the shared call's result, owned by this caller
+   */
+  public CompletableFuture<V> execute(final K key, final Supplier<CompletableFuture<V>> call) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> shared = inFlight.putIfAbsent(key, created);
+    if (shared != null) {
+      recordCoalesced();
+      return shared.copy();
+    }
+    try {
+      call.get()
+          .whenComplete(
+              (result, e) -> {
+                inFlight.remove(key, created);
+                if (e != null) {
+                  created.completeExceptionally(e);
+                } else {
+                  created.complete(result);
+                }
+              });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, created);
+      created.completeExceptionally(e);
+    }
+    return created.copy();
+  }
+
+  /**
+   * Makes a blocking call on the calling thread, or waits for the one in flight for the same key.
+   * Callers that shared a failed call see the exception it failed with.
+   *
+   * @param key the key identifying identical calls
+   * @param call makes the call; only invoked if no call for the key is in flight
+   * @return the shared call's result
+   */
+  public V call(final K key, final Supplier<V> call) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> shared = inFlight.putIfAbsent(key, created);
+    if (shared != null) {
+      recordCoalesced();
+      try {
+        return shared.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+    try {
+      V result = call.get();
+      inFlight.remove(key, created);
+      created.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, created);
+      created.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /** Counts a caller that shared another caller's call. */
+  private void recordCoalesced() {
+    LOGGER.debug("Coalesced {} {} call with one in flight", service, operation);
+    if (coalescedCounter != null) {
+      coalescedCounter.increment();
+    }
+  }
+}
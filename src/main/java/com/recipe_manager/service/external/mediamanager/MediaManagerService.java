@@ -2,17 +2,20 @@ package com.recipe_manager.service.external.mediamanager;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.recipe_manager.client.mediamanager.MediaManagerClient;
+import com.recipe_manager.config.AsyncConfig;
 import com.recipe_manager.config.ExternalServicesConfig;
 import com.recipe_manager.exception.ExternalServiceException;
 import com.recipe_manager.exception.ExternalServiceTimeoutException;
@@ -58,6 +61,11 @@ public class MediaManagerService {
   /** Metrics registry for observability. */
   @Autowired private MeterRegistry meterRegistry;
 
+  /** Executor running media manager calls on virtual threads. */
+  @Autowired
+  @Qualifier(AsyncConfig.EXTERNAL_SERVICE_EXECUTOR)
+  private Executor externalServiceExecutor;
+
   /** Counter for tracking service calls. */
   private Counter callsCounter;
 
@@ -124,7 +132,8 @@ public class MediaManagerService {
           } finally {
             cleanupMDC();
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -160,7 +169,8 @@ public class MediaManagerService {
           } finally {
             cleanupMDC();
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -202,7 +212,8 @@ public class MediaManagerService {
             cleanupMDC();
             MDC.remove("filename");
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -258,7 +269,8 @@ public class MediaManagerService {
             MDC.remove("offset");
             MDC.remove("status");
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -301,7 +313,8 @@ public class MediaManagerService {
             cleanupMDC();
             MDC.remove("mediaId");
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
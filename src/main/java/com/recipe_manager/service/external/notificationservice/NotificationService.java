@@ -4,14 +4,17 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import com.recipe_manager.client.notificationservice.NotificationServiceClient;
 import com.recipe_manager.client.usermanagement.UserManagementClient;
+import com.recipe_manager.config.AsyncConfig;
 import com.recipe_manager.model.dto.external.notificationservice.request.RecipeCollectedRequestDto;
 import com.recipe_manager.model.dto.external.notificationservice.request.RecipeCommentedRequestDto;
 import com.recipe_manager.model.dto.external.notificationservice.request.RecipePublishedRequestDto;
@@ -39,17 +42,23 @@ public class NotificationService {
   /** Feign client for user-management service. */
   private final UserManagementClient userManagementClient;
 
+  /** Executor running notification calls on virtual threads. */
+  private final Executor externalServiceExecutor;
+
   /**
    * Constructor for NotificationService.
    *
    * @param notificationServiceClient feign client for notification service
    * @param userManagementClient feign client for user-management service
+   * @param externalServiceExecutor executor for the asynchronous notification calls
    */
   public NotificationService(
       final NotificationServiceClient notificationServiceClient,
-      final UserManagementClient userManagementClient) {
+      final UserManagementClient userManagementClient,
+      @Qualifier(AsyncConfig.EXTERNAL_SERVICE_EXECUTOR) final Executor externalServiceExecutor) {
     this.notificationServiceClient = notificationServiceClient;
     this.userManagementClient = userManagementClient;
+    this.externalServiceExecutor = externalServiceExecutor;
   }
 
   /**
@@ -111,7 +120,8 @@ public class NotificationService {
                 e.getMessage(),
                 e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -163,7 +173,8 @@ public class NotificationService {
                 e.getMessage(),
                 e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -232,7 +243,8 @@ public class NotificationService {
                 e.getMessage(),
                 e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 
   /**
@@ -288,6 +300,7 @@ public class NotificationService {
                 e.getMessage(),
                 e);
           }
-        });
+        },
+        externalServiceExecutor);
   }
 }
@@ -0,0 +1,212 @@
+package com.recipe_manager.service.reference;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.repository.ingredient.IngredientRepository;
+import com.recipe_manager.repository.recipe.RecipeTagRepository;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Resolves the ingredient and tag references of a request to entities in a constant number of
+ * statements, creating the ones that do not exist yet.
+ *
+ * <p>Resolution is set-based: ingredient IDs are loaded with one {@code IN} query and names with
+ * one case-insensitive {@code IN} query. Missing names are created with a single {@code INSERT ...
+ * ON CONFLICT DO NOTHING} and then read back with a second {@code IN} query, which also picks up
+ * rows a concurrent request inserted first. Names are unique case-insensitively (migration V008),
+ * so two requests creating the same ingredient both end up with the same row instead of one of
+ * them failing.
+ *
+ * <p>The insert runs through Hibernate with the entity registered as a synchronized space. That
+ * invalidates cached "not found" query results for the table, at the cost of also clearing the
+ * entity's second-level cache region, which only happens when a new name is actually created.
+ */
+@Service
+public class ReferenceDataResolver {
+
+  /** Creates ingredients for the given names, skipping any that already exist. */
+  static final String INSERT_INGREDIENTS_SQL =
+      "INSERT INTO recipe_manager.ingredients (name, is_optional, created_at, updated_at) "
+          + "SELECT n, FALSE, NOW(), NOW() FROM UNNEST(CAST(:names AS TEXT[])) AS n "
+          + "ON CONFLICT DO NOTHING";
+
+  /** Creates tags for the given names, skipping any that already exist. */
+  static final String INSERT_TAGS_SQL =
+      "INSERT INTO recipe_manager.recipe_tags (name) "
+          + "SELECT n FROM UNNEST(CAST(:names AS TEXT[])) AS n "
+          + "ON CONFLICT DO NOTHING";
+
+  /** Repository for ingredient lookups. */
+  private final IngredientRepository ingredientRepository;
+
+  /** Repository for tag lookups. */
+  private final RecipeTagRepository recipeTagRepository;
+
+  /** Entity manager used for the insert statements. */
+  private final EntityManager entityManager;
+
+  /**
+   * Creates a new ReferenceDataResolver.
+   *
+   * @param ingredientRepository the ingredient repository
+   * @param recipeTagRepository the recipe tag repository
+   * @param entityManager the entity manager used for the insert statements
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "Spring-managed beans are safe to inject and not exposed externally")
+  public ReferenceDataResolver(
+      final IngredientRepository ingredientRepository,
+      final RecipeTagRepository recipeTagRepository,
+      final EntityManager entityManager) {
+    this.ingredientRepository = ingredientRepository;
+    this.recipeTagRepository = recipeTagRepository;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Resolves ingredient references. A reference resolves by ID when it has one that exists, and
+   * otherwise by name, creating the ingredient if no ingredient has that name.
+   *
+   * @param references the ingredient references of a request
+   * @return the resolved ingredients, in the same order as the references
+   * @throws IllegalArgumentException if a reference has neither a valid ID nor a name
+   */
+  @Transactional
+  public List<Ingredient> resolveIngredients(final List<RecipeIngredientDto> references) {
+    List<Long> ids =
+        references.stream()
+            .map(RecipeIngredientDto::getIngredientId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    Map<Long, Ingredient> byId = new HashMap<>();
+    if (!ids.isEmpty()) {
+      ingredientRepository.findAllById(ids).forEach(i -> byId.put(i.getIngredientId(), i));
+    }
+
+    List<String> names = new ArrayList<>();
+    for (RecipeIngredientDto reference : references) {
+      if (!byId.containsKey(reference.getIngredientId())
+          && reference.getIngredientName() != null) {
+        names.add(reference.getIngredientName());
+      }
+    }
+    Map<String, Ingredient> byName =
+        resolveNames(
+            names,
+            ingredientRepository::findAllByLowerCaseNameIn,
+            Ingredient::getName,
+            INSERT_INGREDIENTS_SQL,
+            Ingredient.class);
+
+    List<Ingredient> resolved = new ArrayList<>(references.size());
+    for (RecipeIngredientDto reference : references) {
+      Ingredient ingredient = byId.get(reference.getIngredientId());
+      if (ingredient == null && reference.getIngredientName() != null) {
+        ingredient = byName.get(key(reference.getIngredientName()));
+      }
+      if (ingredient == null) {
+        throw new IllegalArgumentException("Ingredient must have either a valid ID or name");
+      }
+      resolved.add(ingredient);
+    }
+    return resolved;
+  }
+
+  /**
+   * Resolves tag names, creating tags that do not exist yet. Names differing only in case resolve
+   * to the same tag.
+   *
+   * @param names the tag names
+   * @return the distinct resolved tags, in order of first occurrence
+   */
+  @Transactional
+  public List<RecipeTag> resolveTags(final Collection<String> names) {
+    List<String> trimmed = names.stream().map(String::trim).toList();
+    Map<String, RecipeTag> byName =
+        resolveNames(
+            trimmed,
+            recipeTagRepository::findAllByLowerCaseNameIn,
+            RecipeTag::getName,
+            INSERT_TAGS_SQL,
+            RecipeTag.class);
+    return trimmed.stream()
+        .map(name -> byName.get(key(name)))
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Looks up entities by name and creates the missing ones.
+   *
+   * @param names the names to resolve, possibly with duplicates
+   * @param lookup finds entities by lower-cased name
+   * @param nameOf reads an entity's name
+   * @param insertSql inserts the names bound to {@code :names}, skipping existing ones
+   * @param entityClass the entity stored in the table the insert writes to
+   * @param <T> the entity type
+   * @return the entities keyed by lower-cased name
+   */
+  private <T> Map<String, T> resolveNames(
+      final Collection<String> names,
+      final Function<Collection<String>, List<T>> lookup,
+      final Function<T, String> nameOf,
+      final String insertSql,
+      final Class<T> entityClass) {
+    Map<String, String> wanted = new LinkedHashMap<>();
+    names.forEach(name -> wanted.putIfAbsent(key(name), name));
+    Map<String, T> found = new HashMap<>();
+    if (wanted.isEmpty()) {
+      return found;
+    }
+    lookup
+        .apply(List.copyOf(wanted.keySet()))
+        .forEach(entity -> found.put(key(nameOf.apply(entity)), entity));
+
+    List<String> missing =
+        wanted.entrySet().stream()
+            .filter(entry -> !found.containsKey(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .toList();
+    if (!missing.isEmpty()) {
+      NativeQuery<?> insert = entityManager.createNativeQuery(insertSql).unwrap(NativeQuery.class);
+      insert.addSynchronizedEntityClass(entityClass);
+      insert.setParameter("names", missing.toArray(String[]::new));
+      insert.executeUpdate();
+      lookup
+          .apply(missing.stream().map(ReferenceDataResolver::key).toList())
+          .forEach(entity -> found.put(key(nameOf.apply(entity)), entity));
+    }
+    return found;
+  }
+
+  /**
+   * Normalizes a name for case-insensitive matching.
+   *
+   * @param name the name
+   * @return the lookup key
+   */
+  private static String key(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
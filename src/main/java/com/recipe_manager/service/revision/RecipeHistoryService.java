@@ -0,0 +1,283 @@
+package com.recipe_manager.service.revision;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipe_manager.exception.ResourceNotFoundException;
+import com.recipe_manager.model.dto.response.RecipeHistoryResponse;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeRevision;
+import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Stores recipe snapshots and rebuilds recipes as of past revisions.
+ *
+ * <p>Revision rows are the deltas between consecutive versions of a recipe's ingredients and
+ * steps. Every {@code app.revisions.snapshot-interval} (K) revisions a full {@link RecipeState} is
+ * stored in {@code recipe_snapshots}. A recipe is rebuilt as of a revision by starting from the
+ * nearest snapshot at or before it and applying the revisions in between, or, if that is more
+ * than K revisions away, by starting from the next snapshot (or the current recipe) and reverting
+ * back to it. Either way at most K deltas are replayed.
+ *
+ * <p>Recipes whose revisions predate snapshots have no snapshots to start from, so a request may
+ * have to revert further than K revisions from the current recipe. Such a request stores a
+ * snapshot every K revisions on its way back, and later requests for that stretch of history are
+ * bounded again.
+ */
+@Service
+public class RecipeHistoryService {
+
+  /**
+   * Counts a recipe's revisions after its latest snapshot, up to a limit. Row comparison with
+   * {@code > ALL} is true for every revision when the recipe has no snapshot.
+   */
+  static final String COUNT_SINCE_SNAPSHOT_SQL =
+      "SELECT COUNT(*) FROM (SELECT 1 FROM recipe_manager.recipe_revisions r "
+          + "WHERE r.recipe_id = ? AND (r.created_at, r.revision_id) > ALL ("
+          + "  SELECT s.revision_created_at, s.revision_id FROM recipe_manager.recipe_snapshots s "
+          + "  WHERE s.recipe_id = ? "
+          + "  ORDER BY s.revision_created_at DESC, s.revision_id DESC LIMIT 1) "
+          + "LIMIT ?) AS pending";
+
+  /** Finds the latest snapshot at or before a revision. */
+  static final String FLOOR_SNAPSHOT_SQL =
+      "SELECT revision_id, revision_created_at, state FROM recipe_manager.recipe_snapshots "
+          + "WHERE recipe_id = ? AND (revision_created_at, revision_id) <= (?, ?) "
+          + "ORDER BY revision_created_at DESC, revision_id DESC LIMIT 1";
+
+  /** Finds the earliest snapshot after a revision. */
+  static final String CEILING_SNAPSHOT_SQL =
+      "SELECT revision_id, revision_created_at, state FROM recipe_manager.recipe_snapshots "
+          + "WHERE recipe_id = ? AND (revision_created_at, revision_id) > (?, ?) "
+          + "ORDER BY revision_created_at, revision_id LIMIT 1";
+
+  /** Stores a snapshot, copying the position from its revision. */
+  static final String INSERT_SNAPSHOT_SQL =
+      "INSERT INTO recipe_manager.recipe_snapshots "
+          + "(recipe_id, revision_id, revision_created_at, state) "
+          + "SELECT r.recipe_id, r.revision_id, r.created_at, CAST(? AS JSONB) "
+          + "FROM recipe_manager.recipe_revisions r WHERE r.revision_id = ? "
+          + "ON CONFLICT (recipe_id, revision_id) DO NOTHING";
+
+  /** Order in which revisions are applied. */
+  private static final Comparator<RecipeRevision> REVISION_ORDER =
+      Comparator.comparing(RecipeRevision::getCreatedAt)
+          .thenComparing(RecipeRevision::getRevisionId);
+
+  /** JdbcTemplate used for snapshot access; participates in the caller's transaction. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Repository for the revision deltas. */
+  private final RecipeRevisionRepository recipeRevisionRepository;
+
+  /** Number of revisions between snapshots (K). */
+  private final int snapshotInterval;
+
+  /**
+   * Creates a new RecipeHistoryService.
+   *
+   * @param jdbcTemplate the JdbcTemplate used for snapshot access
+   * @param recipeRevisionRepository the recipe revision repository
+   * @param snapshotInterval the number of revisions between snapshots
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "Spring-managed beans are safe to inject and not exposed externally")
+  public RecipeHistoryService(
+      final JdbcTemplate jdbcTemplate,
+      final RecipeRevisionRepository recipeRevisionRepository,
+      @Value("${app.revisions.snapshot-interval:20}") final int snapshotInterval) {
+    if (snapshotInterval < 1) {
+      throw new IllegalArgumentException("Snapshot interval must be positive");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.recipeRevisionRepository = recipeRevisionRepository;
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  /**
+   * Stores the snapshots due after an update. Each revision that is the K-th since the previous
+   * snapshot gets one; its state is derived from the updated recipe by reverting the revisions
+   * that follow it in the same update.
+   *
+   * @param recipe the recipe after the update
+   * @param revisions the revisions the update saved
+   */
+  @Transactional
+  public void recordRevisions(final Recipe recipe, final List<RecipeRevision> revisions) {
+    if (revisions.isEmpty()) {
+      return;
+    }
+    // Snapshots reference their revision rows and read back their positions
+    recipeRevisionRepository.flush();
+    List<RecipeRevision> ordered = revisions.stream().sorted(REVISION_ORDER).toList();
+
+    Integer pending =
+        jdbcTemplate.queryForObject(
+            COUNT_SINCE_SNAPSHOT_SQL,
+            Integer.class,
+            recipe.getRecipeId(),
+            recipe.getRecipeId(),
+            snapshotInterval + ordered.size());
+    int distance = Math.max(0, (pending == null ? 0 : pending) - ordered.size());
+    int firstDue = -1;
+    boolean[] due = new boolean[ordered.size()];
+    for (int i = 0; i < ordered.size(); i++) {
+      if (++distance >= snapshotInterval) {
+        due[i] = true;
+        distance = 0;
+        firstDue = firstDue < 0 ? i : firstDue;
+      }
+    }
+    if (firstDue < 0) {
+      return;
+    }
+
+    RecipeState state = RecipeState.of(recipe);
+    List<Object[]> snapshots = new ArrayList<>();
+    for (int i = ordered.size() - 1; i >= firstDue; i--) {
+      if (due[i]) {
+        snapshots.add(new Object[] {state.toJson(), ordered.get(i).getRevisionId()});
+      }
+      state.revert(ordered.get(i).getNewData());
+    }
+    jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, snapshots);
+  }
+
+  /**
+   * Rebuilds a recipe's ingredients and steps as of a revision.
+   *
+   * @param recipe the recipe
+   * @param asOfRevisionId the revision to rebuild the recipe as of, or null for the latest
+   * @return the recipe's ingredients and steps right after the revision
+   * @throws ResourceNotFoundException if the revision does not exist or belongs to another recipe
+   */
+  @Transactional
+  public RecipeHistoryResponse getHistory(final Recipe recipe, final Long asOfRevisionId) {
+    Long recipeId = recipe.getRecipeId();
+    if (asOfRevisionId == null) {
+      RecipeRevision latest =
+          recipeRevisionRepository.findPageByRecipeId(recipeId, null, null, 1).stream()
+              .findFirst()
+              .orElse(null);
+      return response(recipe, latest, RecipeState.of(recipe), 0);
+    }
+    RecipeRevision target =
+        recipeRevisionRepository
+            .findById(asOfRevisionId)
+            .filter(revision -> recipeId.equals(revision.getRecipe().getRecipeId()))
+            .orElseThrow(
+                () ->
+                    new ResourceNotFoundException(
+                        "Revision " + asOfRevisionId + " not found for recipe " + recipeId));
+
+    Optional<Snapshot> floor = findSnapshot(FLOOR_SNAPSHOT_SQL, recipeId, target);
+    if (floor.isPresent()) {
+      List<RecipeRevision> forward =
+          recipeRevisionRepository.findRangeByRecipeId(
+              recipeId,
+              floor.get().createdAt(),
+              floor.get().revisionId(),
+              target.getCreatedAt(),
+              target.getRevisionId(),
+              snapshotInterval + 1);
+      if (forward.size() <= snapshotInterval) {
+        RecipeState state = floor.get().state();
+        forward.forEach(revision -> state.apply(revision.getNewData()));
+        return response(recipe, target, state, forward.size());
+      }
+    }
+
+    Optional<Snapshot> ceiling = findSnapshot(CEILING_SNAPSHOT_SQL, recipeId, target);
+    RecipeState state = ceiling.map(Snapshot::state).orElseGet(() -> RecipeState.of(recipe));
+    List<RecipeRevision> backward =
+        recipeRevisionRepository.findRangeByRecipeId(
+            recipeId,
+            target.getCreatedAt(),
+            target.getRevisionId(),
+            ceiling.map(Snapshot::createdAt).orElse(null),
+            ceiling.map(Snapshot::revisionId).orElse(null),
+            Integer.MAX_VALUE);
+    List<Object[]> repaired = new ArrayList<>();
+    for (int i = backward.size() - 1; i >= 0; i--) {
+      state.revert(backward.get(i).getNewData());
+      int replayed = backward.size() - i;
+      if (backward.size() > snapshotInterval && replayed % snapshotInterval == 0) {
+        RecipeRevision position = i > 0 ? backward.get(i - 1) : target;
+        repaired.add(new Object[] {state.toJson(), position.getRevisionId()});
+      }
+    }
+    if (!repaired.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, repaired);
+    }
+    return response(recipe, target, state, backward.size());
+  }
+
+  /**
+   * Finds the snapshot nearest to a revision in one direction.
+   *
+   * @param sql the floor or ceiling query
+   * @param recipeId the recipe ID
+   * @param revision the revision
+   * @return the snapshot, if any
+   */
+  private Optional<Snapshot> findSnapshot(
+      final String sql, final Long recipeId, final RecipeRevision revision) {
+    return jdbcTemplate
+        .query(
+            sql,
+            (rs, rowNum) ->
+                new Snapshot(
+                    rs.getLong("revision_id"),
+                    rs.getObject("revision_created_at", LocalDateTime.class),
+                    RecipeState.fromJson(rs.getString("state"))),
+            recipeId,
+            revision.getCreatedAt(),
+            revision.getRevisionId())
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Builds the history response.
+   *
+   * @param recipe the recipe
+   * @param revision the revision the state is as of, or null if the recipe has none
+   * @param state the state
+   * @param replayed the number of revisions replayed
+   * @return the response
+   */
+  private static RecipeHistoryResponse response(
+      final Recipe recipe,
+      final RecipeRevision revision,
+      final RecipeState state,
+      final int replayed) {
+    return RecipeHistoryResponse.builder()
+        .recipeId(recipe.getRecipeId())
+        .revisionId(revision == null ? null : revision.getRevisionId())
+        .revisionCreatedAt(revision == null ? null : revision.getCreatedAt())
+        .ingredients(state.getIngredients())
+        .steps(state.getSteps())
+        .replayedRevisions(replayed)
+        .build();
+  }
+
+  /**
+   * A stored snapshot.
+   *
+   * @param revisionId the revision the snapshot was taken after
+   * @param createdAt that revision's creation time
+   * @param state the recipe's ingredients and steps right after the revision
+   */
+  private record Snapshot(Long revisionId, LocalDateTime createdAt, RecipeState state) {}
+}
@@ -0,0 +1,419 @@
+package com.recipe_manager.service.revision;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe_manager.exception.RevisionSerializationException;
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.revision.AbstractIngredientRevision;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.FieldChange;
+import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
+import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
+import com.recipe_manager.model.dto.revision.StepAddRevision;
+import com.recipe_manager.model.dto.revision.StepDeleteRevision;
+import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.IngredientField;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.model.enums.StepField;
+
+/**
+ * The revisioned part of a recipe, its ingredients and steps, as of some revision.
+ *
+ * <p>Ingredients are keyed by ingredient ID and steps by step number, the same keys {@link
+ * RevisionDiff} matches on, so a revision can be applied to move the state forward or reverted to
+ * move it back. Every revision carries enough to be undone: deletes hold the removed item and
+ * updates hold the previous value of each changed field.
+ */
+public final class RecipeState {
+
+  /** ObjectMapper instance configured with JavaTimeModule for JSON processing. */
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new JavaTimeModule());
+
+  /** Reader for stored states, bound to their type so the deserializer is resolved once. */
+  private static final ObjectReader PAYLOAD_READER = OBJECT_MAPPER.readerFor(Payload.class);
+
+  /** Writer for stored states. */
+  private static final ObjectWriter PAYLOAD_WRITER = OBJECT_MAPPER.writerFor(Payload.class);
+
+  /** Ingredients by key, in insertion order. */
+  private final Map<String, RecipeIngredientDto> ingredients = new LinkedHashMap<>();
+
+  /** Steps by step number. */
+  private final Map<Integer, RecipeStepDto> steps = new TreeMap<>();
+
+  private RecipeState() {}
+
+  /**
+   * Captures a recipe's current ingredients and steps.
+   *
+   * @param recipe the recipe
+   * @return the state
+   */
+  public static RecipeState of(final Recipe recipe) {
+    RecipeState state = new RecipeState();
+    if (recipe.getRecipeIngredients() != null) {
+      for (RecipeIngredient ingredient : recipe.getRecipeIngredients()) {
+        state.putIngredient(
+            RecipeIngredientDto.builder()
+                .ingredientId(ingredient.getIngredient().getIngredientId())
+                .ingredientName(ingredient.getIngredient().getName())
+                .quantity(ingredient.getQuantity())
+                .unit(ingredient.getUnit())
+                .isOptional(ingredient.getIsOptional())
+                .build());
+      }
+    }
+    if (recipe.getRecipeSteps() != null) {
+      for (RecipeStep step : recipe.getRecipeSteps()) {
+        state.steps.put(
+            step.getStepNumber(),
+            RecipeStepDto.builder()
+                .stepId(step.getStepId())
+                .stepNumber(step.getStepNumber())
+                .instruction(step.getInstruction())
+                .optional(step.getOptional())
+                .timerSeconds(step.getTimerSeconds())
+                .build());
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Reads a state stored with {@link #toJson()}.
+   *
+   * @param json the stored state
+   * @return the state
+   * @throws RevisionSerializationException if the JSON cannot be read
+   */
+  public static RecipeState fromJson(final String json) {
+    try {
+      Payload payload = PAYLOAD_READER.readValue(json);
+      RecipeState state = new RecipeState();
+      payload.ingredients().forEach(state::putIngredient);
+      payload.steps().forEach(step -> state.steps.put(step.getStepNumber(), step));
+      return state;
+    } catch (JsonProcessingException e) {
+      throw new RevisionSerializationException("Failed to read recipe snapshot", e);
+    }
+  }
+
+  /**
+   * Serializes the state for storage in a snapshot.
+   *
+   * @return the JSON
+   * @throws RevisionSerializationException if the state cannot be written
+   */
+  public String toJson() {
+    try {
+      return PAYLOAD_WRITER.writeValueAsString(new Payload(getIngredients(), getSteps()));
+    } catch (JsonProcessingException e) {
+      throw new RevisionSerializationException("Failed to write recipe snapshot", e);
+    }
+  }
+
+  /**
+   * Gets the ingredients.
+   *
+   * @return copies of the ingredients, in the order they were added
+   */
+  public List<RecipeIngredientDto> getIngredients() {
+    return ingredients.values().stream().map(RecipeState::copyOf).toList();
+  }
+
+  /**
+   * Gets the steps.
+   *
+   * @return copies of the steps, ordered by step number
+   */
+  public List<RecipeStepDto> getSteps() {
+    return steps.values().stream().map(RecipeState::copyOf).toList();
+  }
+
+  /**
+   * Moves the state forward past a revision.
+   *
+   * @param revision the revision's data
+   */
+  public void apply(final AbstractRevision revision) {
+    switch (revision) {
+      case IngredientAddRevision add ->
+          putIngredient(
+              RecipeIngredientDto.builder()
+                  .ingredientId(add.getIngredientId())
+                  .ingredientName(add.getIngredientName())
+                  .quantity(add.getQuantity())
+                  .unit(add.getUnit())
+                  .isOptional(add.getIsOptional())
+                  .build());
+      case IngredientDeleteRevision delete -> ingredients.remove(key(delete));
+      case IngredientUpdateRevision update -> updateIngredient(update, false);
+      case StepAddRevision add ->
+          steps.put(
+              add.getStepNumber(),
+              RecipeStepDto.builder()
+                  .stepNumber(add.getStepNumber())
+                  .instruction(add.getInstruction())
+                  .optional(add.getOptional())
+                  .timerSeconds(add.getTimerSeconds())
+                  .build());
+      case StepDeleteRevision delete -> steps.remove(delete.getStepNumber());
+      case StepUpdateRevision update -> updateStep(update, false);
+      default -> {
+        // Other revision kinds do not touch ingredients or steps
+      }
+    }
+  }
+
+  /**
+   * Moves the state back to before a revision.
+   *
+   * @param revision the revision's data
+   */
+  public void revert(final AbstractRevision revision) {
+    switch (revision) {
+      case IngredientAddRevision add -> ingredients.remove(key(add));
+      case IngredientDeleteRevision delete ->
+          putIngredient(
+              RecipeIngredientDto.builder()
+                  .ingredientId(delete.getIngredientId())
+                  .ingredientName(delete.getIngredientName())
+                  .quantity(delete.getQuantity())
+                  .unit(delete.getUnit())
+                  .isOptional(delete.getIsOptional())
+                  .build());
+      case IngredientUpdateRevision update -> updateIngredient(update, true);
+      case StepAddRevision add -> steps.remove(add.getStepNumber());
+      case StepDeleteRevision delete ->
+          steps.put(
+              delete.getStepNumber(),
+              RecipeStepDto.builder()
+                  .stepId(delete.getStepId())
+                  .stepNumber(delete.getStepNumber())
+                  .instruction(delete.getInstruction())
+                  .optional(delete.getOptional())
+                  .timerSeconds(delete.getTimerSeconds())
+                  .build());
+      case StepUpdateRevision update -> updateStep(update, true);
+      default -> {
+        // Other revision kinds do not touch ingredients or steps
+      }
+    }
+  }
+
+  /**
+   * Copies the state.
+   *
+   * @return an independent copy
+   */
+  public RecipeState copy() {
+    RecipeState copy = new RecipeState();
+    getIngredients().forEach(copy::putIngredient);
+    getSteps().forEach(step -> copy.steps.put(step.getStepNumber(), step));
+    return copy;
+  }
+
+  /**
+   * Sets the changed fields of an ingredient to their new or previous values.
+   *
+   * @param update the update revision
+   * @param previous whether to set the previous values
+   */
+  private void updateIngredient(final IngredientUpdateRevision update, final boolean previous) {
+    RecipeIngredientDto ingredient = ingredients.get(key(update));
+    if (ingredient == null) {
+      return;
+    }
+    for (Map.Entry<IngredientField, FieldChange> change : update.getFieldChanges().entrySet()) {
+      Object value = valueOf(change.getValue(), previous);
+      switch (change.getKey()) {
+        case QUANTITY -> ingredient.setQuantity(value == null ? null : toDecimal(value));
+        case UNIT -> ingredient.setUnit(value == null ? null : toUnit(value));
+        case OPTIONAL_STATUS -> ingredient.setIsOptional(toBoolean(value));
+        case DESCRIPTION -> {
+          // Descriptions belong to the shared ingredient, not to the recipe
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets the changed fields of a step to their new or previous values.
+   *
+   * @param update the update revision
+   * @param previous whether to set the previous values
+   */
+  private void updateStep(final StepUpdateRevision update, final boolean previous) {
+    Map<StepField, FieldChange> changes = update.getFieldChanges();
+    FieldChange renumber = changes.get(StepField.STEP_NUMBER);
+    Integer number =
+        renumber == null ? update.getStepNumber() : toInteger(valueOf(renumber, !previous));
+    RecipeStepDto step = steps.remove(number);
+    if (step == null) {
+      return;
+    }
+    for (Map.Entry<StepField, FieldChange> change : changes.entrySet()) {
+      Object value = valueOf(change.getValue(), previous);
+      switch (change.getKey()) {
+        case STEP_NUMBER -> step.setStepNumber(toInteger(value));
+        case INSTRUCTION -> step.setInstruction(value == null ? null : value.toString());
+        case OPTIONAL_STATUS -> step.setOptional(toBoolean(value));
+        case TIMER -> step.setTimerSeconds(toInteger(value));
+      }
+    }
+    steps.put(step.getStepNumber(), step);
+  }
+
+  /**
+   * Adds or replaces an ingredient.
+   *
+   * @param ingredient the ingredient
+   */
+  private void putIngredient(final RecipeIngredientDto ingredient) {
+    ingredients.put(key(ingredient.getIngredientId(), ingredient.getIngredientName()), ingredient);
+  }
+
+  /**
+   * Copies an ingredient.
+   *
+   * @param ingredient the ingredient
+   * @return the copy
+   */
+  private static RecipeIngredientDto copyOf(final RecipeIngredientDto ingredient) {
+    return RecipeIngredientDto.builder()
+        .ingredientId(ingredient.getIngredientId())
+        .ingredientName(ingredient.getIngredientName())
+        .quantity(ingredient.getQuantity())
+        .unit(ingredient.getUnit())
+        .isOptional(ingredient.getIsOptional())
+        .build();
+  }
+
+  /**
+   * Copies a step.
+   *
+   * @param step the step
+   * @return the copy
+   */
+  private static RecipeStepDto copyOf(final RecipeStepDto step) {
+    return RecipeStepDto.builder()
+        .stepId(step.getStepId())
+        .stepNumber(step.getStepNumber())
+        .instruction(step.getInstruction())
+        .optional(step.getOptional())
+        .timerSeconds(step.getTimerSeconds())
+        .build();
+  }
+
+  /**
+   * Keys an ingredient revision.
+   *
+   * @param revision the revision
+   * @return the ingredient key
+   */
+  private static String key(final AbstractIngredientRevision revision) {
+    return key(revision.getIngredientId(), revision.getIngredientName());
+  }
+
+  /**
+   * Keys an ingredient by ID, or by lower-cased name when it has no ID.
+   *
+   * @param ingredientId the ingredient ID
+   * @param name the ingredient name
+   * @return the key
+   */
+  private static String key(final Long ingredientId, final String name) {
+    if (ingredientId != null) {
+      return ingredientId.toString();
+    }
+    return name == null ? "" : "name:" + name.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Picks the new or previous value of a change.
+   *
+   * @param change the change
+   * @param previous whether to pick the previous value
+   * @return the value
+   */
+  private static Object valueOf(final FieldChange change, final boolean previous) {
+    return previous ? change.getPreviousValue() : change.getNewValue();
+  }
+
+  /**
+   * Reads a quantity, which is a number once read back from JSON.
+   *
+   * @param value the stored value
+   * @return the quantity
+   */
+  private static BigDecimal toDecimal(final Object value) {
+    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+  }
+
+  /**
+   * Reads a unit, which is its name once read back from JSON.
+   *
+   * @param value the stored value
+   * @return the unit
+   */
+  private static IngredientUnit toUnit(final Object value) {
+    return value instanceof IngredientUnit unit ? unit : IngredientUnit.valueOf(value.toString());
+  }
+
+  /**
+   * Reads a flag.
+   *
+   * @param value the stored value
+   * @return the flag, false if absent
+   */
+  private static Boolean toBoolean(final Object value) {
+    return value != null && Boolean.parseBoolean(value.toString());
+  }
+
+  /**
+   * Reads a whole number.
+   *
+   * @param value the stored value
+   * @return the number, or null if absent
+   */
+  private static Integer toInteger(final Object value) {
+    return value == null ? null : Integer.valueOf(value.toString());
+  }
+
+  /**
+   * Stored form of a state.
+   *
+   * @param ingredients the ingredients
+   * @param steps the steps
+   */
+  private record Payload(List<RecipeIngredientDto> ingredients, List<RecipeStepDto> steps) {
+
+    /**
+     * Normalizes missing lists to empty ones.
+     *
+     * @param ingredients the ingredients
+     * @param steps the steps
+     */
+    Payload {
+      ingredients = ingredients == null ? new ArrayList<>() : ingredients;
+      steps = steps == null ? new ArrayList<>() : steps;
+    }
+  }
+}
@@ -0,0 +1,371 @@
+package com.recipe_manager.service.revision;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.FieldChange;
+import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
+import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
+import com.recipe_manager.model.dto.revision.StepAddRevision;
+import com.recipe_manager.model.dto.revision.StepDeleteRevision;
+import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.IngredientField;
+import com.recipe_manager.model.enums.RevisionCategory;
+import com.recipe_manager.model.enums.RevisionType;
+import com.recipe_manager.model.enums.StepField;
+
+/**
+ * Computes the revisions an update produces by diffing a recipe's current ingredients and steps
+ * against the requested ones.
+ *
+ * <p>The current items are indexed once by their key (ingredient ID, step number), so each side
+ * is walked a single time and the diff is linear in the size of the recipe. Each matched item
+ * yields at most one update revision: when several fields changed they are coalesced into that
+ * revision's field-level change map instead of one revision per field.
+ *
+ * <p>Revisions are returned with removals first, followed by additions and updates in request
+ * order.
+ */
+public final class RevisionDiff {
+
+  private RevisionDiff() {}
+
+  /**
+   * Diffs a recipe's ingredients.
+   *
+   * @param current the recipe's current ingredients
+   * @param requested the requested ingredients
+   * @param resolved the ingredients the requested ones resolve to, in the same order
+   * @return the ingredient revisions
+   */
+  public static List<AbstractRevision> diffIngredients(
+      final List<RecipeIngredient> current,
+      final List<RecipeIngredientDto> requested,
+      final List<Ingredient> resolved) {
+    Map<Object, RecipeIngredient> currentByKey = HashMap.newHashMap(current.size());
+    for (RecipeIngredient ingredient : current) {
+      currentByKey.putIfAbsent(key(ingredient.getIngredient()), ingredient);
+    }
+    Set<Object> requestedKeys = HashSet.newHashSet(resolved.size());
+    for (Ingredient ingredient : resolved) {
+      requestedKeys.add(key(ingredient));
+    }
+
+    List<AbstractRevision> revisions = new ArrayList<>();
+    for (RecipeIngredient ingredient : current) {
+      if (!requestedKeys.contains(key(ingredient.getIngredient()))) {
+        revisions.add(ingredientDeleted(ingredient));
+      }
+    }
+    for (int i = 0; i < requested.size(); i++) {
+      RecipeIngredient existing = currentByKey.get(key(resolved.get(i)));
+      if (existing == null) {
+        revisions.add(ingredientAdded(resolved.get(i), requested.get(i)));
+      } else {
+        IngredientUpdateRevision update = ingredientUpdated(existing, requested.get(i));
+        if (update != null) {
+          revisions.add(update);
+        }
+      }
+    }
+    return revisions;
+  }
+
+  /**
+   * Diffs a recipe's steps.
+   *
+   * @param current the recipe's current steps
+   * @param requested the requested steps
+   * @return the step revisions
+   */
+  public static List<AbstractRevision> diffSteps(
+      final List<RecipeStep> current, final List<RecipeStepDto> requested) {
+    Map<Integer, RecipeStep> currentByNumber = HashMap.newHashMap(current.size());
+    for (RecipeStep step : current) {
+      currentByNumber.putIfAbsent(step.getStepNumber(), step);
+    }
+    Set<Integer> requestedNumbers = HashSet.newHashSet(requested.size());
+    for (RecipeStepDto step : requested) {
+      requestedNumbers.add(step.getStepNumber());
+    }
+
+    List<AbstractRevision> revisions = new ArrayList<>();
+    for (RecipeStep step : current) {
+      if (!requestedNumbers.contains(step.getStepNumber())) {
+        revisions.add(stepDeleted(step));
+      }
+    }
+    for (RecipeStepDto step : requested) {
+      RecipeStep existing = currentByNumber.get(step.getStepNumber());
+      if (existing == null) {
+        revisions.add(stepAdded(step));
+      } else {
+        StepUpdateRevision update = stepUpdated(existing, step);
+        if (update != null) {
+          revisions.add(update);
+        }
+      }
+    }
+    return revisions;
+  }
+
+  /**
+   * Keys an ingredient by ID, or by lower-cased name when it has not been assigned an ID.
+   *
+   * @param ingredient the ingredient
+   * @return the match key
+   */
+  private static Object key(final Ingredient ingredient) {
+    if (ingredient.getIngredientId() != null) {
+      return ingredient.getIngredientId();
+    }
+    return ingredient.getName() == null ? null : ingredient.getName().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Builds the revision for an ingredient removed from the recipe.
+   *
+   * @param ingredient the removed ingredient
+   * @return the delete revision
+   */
+  private static IngredientDeleteRevision ingredientDeleted(final RecipeIngredient ingredient) {
+    return IngredientDeleteRevision.builder()
+        .category(RevisionCategory.INGREDIENT)
+        .type(RevisionType.DELETE)
+        .ingredientId(ingredient.getIngredient().getIngredientId())
+        .ingredientName(ingredient.getIngredient().getName())
+        .quantity(ingredient.getQuantity())
+        .unit(ingredient.getUnit())
+        .isOptional(ingredient.getIsOptional())
+        .changeComment("Ingredient removed from recipe")
+        .build();
+  }
+
+  /**
+   * Builds the revision for an ingredient added to the recipe.
+   *
+   * @param ingredient the resolved ingredient
+   * @param requested the requested ingredient
+   * @return the add revision
+   */
+  private static IngredientAddRevision ingredientAdded(
+      final Ingredient ingredient, final RecipeIngredientDto requested) {
+    return IngredientAddRevision.builder()
+        .category(RevisionCategory.INGREDIENT)
+        .type(RevisionType.ADD)
+        .ingredientId(ingredient.getIngredientId())
+        .ingredientName(ingredient.getName())
+        .quantity(requested.getQuantity())
+        .unit(requested.getUnit())
+        .isOptional(Boolean.TRUE.equals(requested.getIsOptional()))
+        .changeComment("New ingredient added to recipe")
+        .build();
+  }
+
+  /**
+   * Builds the update revision for an ingredient present on both sides.
+   *
+   * @param existing the current ingredient
+   * @param requested the requested ingredient
+   * @return the update revision, or null if nothing changed
+   */
+  private static IngredientUpdateRevision ingredientUpdated(
+      final RecipeIngredient existing, final RecipeIngredientDto requested) {
+    Map<IngredientField, FieldChange> changes = new EnumMap<>(IngredientField.class);
+    if (!sameQuantity(existing.getQuantity(), requested.getQuantity())) {
+      changes.put(
+          IngredientField.QUANTITY,
+          new FieldChange(existing.getQuantity(), requested.getQuantity()));
+    }
+    if (!Objects.equals(existing.getUnit(), requested.getUnit())) {
+      changes.put(IngredientField.UNIT, new FieldChange(existing.getUnit(), requested.getUnit()));
+    }
+    boolean wasOptional = Boolean.TRUE.equals(existing.getIsOptional());
+    boolean isOptional = Boolean.TRUE.equals(requested.getIsOptional());
+    if (wasOptional != isOptional) {
+      changes.put(IngredientField.OPTIONAL_STATUS, new FieldChange(wasOptional, isOptional));
+    }
+    if (changes.isEmpty()) {
+      return null;
+    }
+
+    var builder =
+        IngredientUpdateRevision.builder()
+            .category(RevisionCategory.INGREDIENT)
+            .type(RevisionType.UPDATE)
+            .ingredientId(existing.getIngredient().getIngredientId())
+            .ingredientName(existing.getIngredient().getName());
+    if (changes.size() == 1) {
+      var change = changes.entrySet().iterator().next();
+      return builder
+          .changedField(change.getKey())
+          .previousValue(change.getValue().getPreviousValue())
+          .newValue(change.getValue().getNewValue())
+          .changeComment(ingredientComment(change.getKey()))
+          .build();
+    }
+    return builder
+        .changes(changes)
+        .changeComment("Ingredient " + describe(changes) + " updated")
+        .build();
+  }
+
+  /**
+   * Builds the revision for a step removed from the recipe.
+   *
+   * @param step the removed step
+   * @return the delete revision
+   */
+  private static StepDeleteRevision stepDeleted(final RecipeStep step) {
+    return StepDeleteRevision.builder()
+        .category(RevisionCategory.STEP)
+        .type(RevisionType.DELETE)
+        .stepId(step.getStepId())
+        .stepNumber(step.getStepNumber())
+        .instruction(step.getInstruction())
+        .optional(step.getOptional())
+        .timerSeconds(step.getTimerSeconds())
+        .changeComment("Step removed from recipe")
+        .build();
+  }
+
+  /**
+   * Builds the revision for a step added to the recipe.
+   *
+   * @param step the requested step
+   * @return the add revision
+   */
+  private static StepAddRevision stepAdded(final RecipeStepDto step) {
+    return StepAddRevision.builder()
+        .category(RevisionCategory.STEP)
+        .type(RevisionType.ADD)
+        .stepNumber(step.getStepNumber())
+        .instruction(step.getInstruction())
+        .optional(Boolean.TRUE.equals(step.getOptional()))
+        .timerSeconds(step.getTimerSeconds())
+        .changeComment("New step added to recipe")
+        .build();
+  }
+
+  /**
+   * Builds the update revision for a step present on both sides.
+   *
+   * @param existing the current step
+   * @param requested the requested step
+   * @return the update revision, or null if nothing changed
+   */
+  private static StepUpdateRevision stepUpdated(
+      final RecipeStep existing, final RecipeStepDto requested) {
+    Map<StepField, FieldChange> changes = new EnumMap<>(StepField.class);
+    if (!Objects.equals(existing.getInstruction(), requested.getInstruction())) {
+      changes.put(
+          StepField.INSTRUCTION,
+          new FieldChange(existing.getInstruction(), requested.getInstruction()));
+    }
+    boolean wasOptional = Boolean.TRUE.equals(existing.getOptional());
+    boolean isOptional = Boolean.TRUE.equals(requested.getOptional());
+    if (wasOptional != isOptional) {
+      changes.put(StepField.OPTIONAL_STATUS, new FieldChange(wasOptional, isOptional));
+    }
+    if (!Objects.equals(existing.getTimerSeconds(), requested.getTimerSeconds())) {
+      changes.put(
+          StepField.TIMER,
+          new FieldChange(existing.getTimerSeconds(), requested.getTimerSeconds()));
+    }
+    if (changes.isEmpty()) {
+      return null;
+    }
+
+    var builder =
+        StepUpdateRevision.builder()
+            .category(RevisionCategory.STEP)
+            .type(RevisionType.UPDATE)
+            .stepId(existing.getStepId())
+            .stepNumber(requested.getStepNumber());
+    if (changes.size() == 1) {
+      var change = changes.entrySet().iterator().next();
+      return builder
+          .changedField(change.getKey())
+          .previousValue(change.getValue().getPreviousValue())
+          .newValue(change.getValue().getNewValue())
+          .changeComment(stepComment(change.getKey()))
+          .build();
+    }
+    return builder
+        .changes(changes)
+        .changeComment("Step " + describe(changes) + " updated")
+        .build();
+  }
+
+  /**
+   * Compares quantities by value, so 2.0 and 2.000 are the same quantity.
+   *
+   * @param current the current quantity
+   * @param requested the requested quantity
+   * @return true if the quantities are equal in value
+   */
+  private static boolean sameQuantity(final BigDecimal current, final BigDecimal requested) {
+    if (current == null || requested == null) {
+      return current == requested;
+    }
+    return current.compareTo(requested) == 0;
+  }
+
+  /**
+   * Returns the change comment for a single-field ingredient update.
+   *
+   * @param field the changed field
+   * @return the comment
+   */
+  private static String ingredientComment(final IngredientField field) {
+    return switch (field) {
+      case QUANTITY -> "Ingredient quantity updated";
+      case UNIT -> "Ingredient unit updated";
+      case OPTIONAL_STATUS -> "Ingredient optional flag updated";
+      case DESCRIPTION -> "Ingredient description updated";
+    };
+  }
+
+  /**
+   * Returns the change comment for a single-field step update.
+   *
+   * @param field the changed field
+   * @return the comment
+   */
+  private static String stepComment(final StepField field) {
+    return switch (field) {
+      case STEP_NUMBER -> "Step number updated";
+      case INSTRUCTION -> "Step instruction updated";
+      case OPTIONAL_STATUS -> "Step optional flag updated";
+      case TIMER -> "Step timer updated";
+    };
+  }
+
+  /**
+   * Lists the changed fields for a coalesced revision's comment, e.g. "quantity, unit".
+   *
+   * @param changes the changed fields
+   * @return the field names, lower-cased and comma-separated
+   */
+  private static String describe(final Map<? extends Enum<?>, FieldChange> changes) {
+    return changes.keySet().stream()
+        .map(field -> field.name().toLowerCase(Locale.ROOT).replace('_', ' '))
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -0,0 +1,556 @@
+package com.recipe_manager.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.model.enums.IngredientMatchMode;
+
+/**
+ * In-memory inverted index from ingredient and tag IDs to the recipes that use them.
+ *
+ * <p>Each ingredient and tag maps to a compressed bitmap of recipe IDs, so AND / OR / NONE filters
+ * are evaluated as bitmap intersections, unions and differences instead of correlated {@code
+ * EXISTS} subqueries. The index is built from the junction tables once the application is ready,
+ * is kept current from the recipe and tag write paths (changes are applied after the surrounding
+ * transaction commits), and is periodically rebuilt so that writes made by other instances are
+ * picked up. Until the first build completes {@link #isReady()} returns false and callers should
+ * fall back to SQL filtering.
+ */
+@Component
+public class RecipeFilterIndex {
+
+  /** Logger for index build events. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecipeFilterIndex.class);
+
+  /** Empty ID array used for recipes without ingredients or tags. */
+  private static final long[] NO_IDS = new long[0];
+
+  /** JdbcTemplate used to stream the junction tables during a rebuild. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Whether the index is enabled; when disabled it never becomes ready. */
+  private final boolean enabled;
+
+  /** Guards {@link #state} and {@link #pendingChanges}. */
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Whether a complete build has been published. */
+  private final AtomicBoolean ready = new AtomicBoolean(false);
+
+  /** Whether a rebuild is currently running. */
+  private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+  /** The live index state. */
+  private IndexState state = new IndexState();
+
+  /** Changes made while a rebuild is loading, replayed onto the new state before it is swapped. */
+  private List<Consumer<IndexState>> pendingChanges;
+
+  /**
+   * Creates a new RecipeFilterIndex.
+   *
+   * @param jdbcTemplate the JdbcTemplate used to load the junction tables
+   * @param enabled whether the index should be built and used
+   */
+  public RecipeFilterIndex(
+      final JdbcTemplate jdbcTemplate,
+      @Value("${app.search.filter-index.enabled:true}") final boolean enabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Whether the index has been built and can answer filter queries.
+   *
+   * @return true if the index is ready
+   */
+  public boolean isReady() {
+    return ready.get();
+  }
+
+  /** Builds the index once the application has started. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /** Periodically rebuilds the index to pick up writes made by other instances. */
+  @Scheduled(
+      fixedDelayString = "${app.search.filter-index.rebuild-interval-ms:600000}",
+      initialDelayString = "${app.search.filter-index.rebuild-interval-ms:600000}")
+  public void scheduledRebuild() {
+    rebuild();
+  }
+
+  /**
+   * Rebuilds the index from the database and swaps it in. Changes recorded while the rebuild is
+   * loading are replayed onto the new state, so no write is lost. Failures leave the current state
+   * in place.
+   */
+  public void rebuild() {
+    if (!enabled || !rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      lock.writeLock().lock();
+      try {
+        pendingChanges = new ArrayList<>();
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      long started = System.nanoTime();
+      IndexState rebuilt = load();
+
+      lock.writeLock().lock();
+      try {
+        pendingChanges.forEach(change -> change.accept(rebuilt));
+        rebuilt.runOptimize();
+        state = rebuilt;
+      } finally {
+        pendingChanges = null;
+        lock.writeLock().unlock();
+      }
+      ready.set(true);
+      LOGGER.info(
+          "Recipe filter index built: {} recipes, {} ingredients, {} tags in {} ms",
+          rebuilt.allRecipes.getLongCardinality(),
+          rebuilt.recipesByIngredient.size(),
+          rebuilt.recipesByTag.size(),
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        pendingChanges = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      LOGGER.warn("Failed to build recipe filter index: {}", e.getMessage());
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  /**
+   * Records the current ingredients and tags of a recipe. IDs are captured immediately; the change
+   * is applied once the surrounding transaction commits.
+   *
+   * @param recipe the saved recipe
+   */
+  public void indexRecipe(final Recipe recipe) {
+    Long recipeId = recipe.getRecipeId();
+    if (recipeId == null) {
+      return;
+    }
+    long[] ingredientIds = ingredientIdsOf(recipe.getRecipeIngredients());
+    long[] tagIds = tagIdsOf(recipe.getRecipeTags());
+    apply(
+        index -> {
+          index.replaceIngredients(recipeId, ingredientIds);
+          index.replaceTags(recipeId, tagIds);
+        });
+  }
+
+  /**
+   * Records the current tags of a recipe, leaving its ingredients untouched.
+   *
+   * @param recipeId the recipe ID
+   * @param tags the recipe's tags
+   */
+  public void indexRecipeTags(final Long recipeId, final Collection<RecipeTag> tags) {
+    long[] tagIds = tagIdsOf(tags);
+    apply(index -> index.replaceTags(recipeId, tagIds));
+  }
+
+  /**
+   * Removes a recipe from the index once the surrounding transaction commits.
+   *
+   * @param recipeId the deleted recipe ID
+   */
+  public void removeRecipe(final Long recipeId) {
+    apply(index -> index.remove(recipeId));
+  }
+
+  /**
+   * Evaluates ingredient and tag filters against the index.
+   *
+   * <p>Each filter is given as a list of ID groups, one group per requested name (a name can
+   * resolve to more than one ID, or to none). A recipe satisfies a group when it uses any ID in
+   * it. AND requires every group, OR any group, and NONE excludes recipes matching any group. A
+   * null or empty list leaves that facet unfiltered.
+   *
+   * @param ingredientGroups ingredient ID groups
+   * @param ingredientMode how ingredient groups are combined
+   * @param tagGroups tag ID groups
+   * @param tagMode how tag groups are combined
+   * @return the matching recipe IDs
+   */
+  public Match match(
+      final List<Set<Long>> ingredientGroups,
+      final IngredientMatchMode ingredientMode,
+      final List<Set<Long>> tagGroups,
+      final IngredientMatchMode tagMode) {
+    lock.readLock().lock();
+    try {
+      Roaring64Bitmap ingredientMatches =
+          evaluate(state.recipesByIngredient, ingredientGroups, ingredientMode);
+      Roaring64Bitmap tagMatches = evaluate(state.recipesByTag, tagGroups, tagMode);
+
+      if (ingredientMatches == null && tagMatches == null) {
+        return new Match(state.allRecipes.clone());
+      }
+      if (ingredientMatches == null) {
+        return new Match(tagMatches);
+      }
+      if (tagMatches != null) {
+        ingredientMatches.and(tagMatches);
+      }
+      return new Match(ingredientMatches);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Evaluates one facet. Must be called with the read lock held.
+   *
+   * @param postings the facet's postings
+   * @param groups the ID groups to evaluate
+   * @param mode how groups are combined
+   * @return a new bitmap of matching recipe IDs, or null if the facet is unfiltered
+   */
+  private Roaring64Bitmap evaluate(
+      final Map<Long, Roaring64Bitmap> postings,
+      final List<Set<Long>> groups,
+      final IngredientMatchMode mode) {
+    if (groups == null || groups.isEmpty()) {
+      return null;
+    }
+
+    List<Roaring64Bitmap> groupMatches = new ArrayList<>(groups.size());
+    for (Set<Long> group : groups) {
+      groupMatches.add(union(postings, group));
+    }
+
+    IngredientMatchMode effectiveMode = mode != null ? mode : IngredientMatchMode.AND;
+    switch (effectiveMode) {
+      case OR:
+        return unionAll(groupMatches);
+      case NONE:
+        Roaring64Bitmap remaining = state.allRecipes.clone();
+        remaining.andNot(unionAll(groupMatches));
+        return remaining;
+      case AND:
+      default:
+        // Intersect smallest first so the working set shrinks as quickly as possible
+        groupMatches.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+        Roaring64Bitmap result = groupMatches.get(0);
+        for (int i = 1; i < groupMatches.size() && !result.isEmpty(); i++) {
+          result.and(groupMatches.get(i));
+        }
+        return result;
+    }
+  }
+
+  /**
+   * Unions the postings of a group of IDs into a new bitmap.
+   *
+   * @param postings the facet's postings
+   * @param ids the IDs to union
+   * @return a new bitmap
+   */
+  private static Roaring64Bitmap union(
+      final Map<Long, Roaring64Bitmap> postings, final Set<Long> ids) {
+    Roaring64Bitmap result = new Roaring64Bitmap();
+    if (ids != null) {
+      for (Long id : ids) {
+        Roaring64Bitmap recipes = postings.get(id);
+        if (recipes != null) {
+          result.or(recipes);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Unions a list of bitmaps into a new bitmap.
+   *
+   * @param bitmaps the bitmaps to union
+   * @return a new bitmap
+   */
+  private static Roaring64Bitmap unionAll(final List<Roaring64Bitmap> bitmaps) {
+    Roaring64Bitmap result = new Roaring64Bitmap();
+    for (Roaring64Bitmap bitmap : bitmaps) {
+      result.or(bitmap);
+    }
+    return result;
+  }
+
+  /**
+   * Applies a change after the current transaction commits, or immediately outside a transaction.
+   *
+   * @param change the change to apply
+   */
+  private void apply(final Consumer<IndexState> change) {
+    if (!enabled) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              applyNow(change);
+            }
+          });
+    } else {
+      applyNow(change);
+    }
+  }
+
+  /**
+   * Applies a change to the live state and records it for any rebuild in progress.
+   *
+   * @param change the change to apply
+   */
+  private void applyNow(final Consumer<IndexState> change) {
+    lock.writeLock().lock();
+    try {
+      change.accept(state);
+      if (pendingChanges != null) {
+        pendingChanges.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Loads a fresh index state from the database.
+   *
+   * @return the loaded state
+   */
+  private IndexState load() {
+    IndexState loaded = new IndexState();
+    Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+    Map<Long, List<Long>> tagsByRecipe = new HashMap<>();
+
+    jdbcTemplate.query(
+        "SELECT recipe_id FROM recipe_manager.recipes",
+        rs -> {
+          loaded.allRecipes.addLong(rs.getLong(1));
+        });
+    jdbcTemplate.query(
+        "SELECT recipe_id, ingredient_id FROM recipe_manager.recipe_ingredients",
+        rs -> {
+          ingredientsByRecipe
+              .computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+              .add(rs.getLong(2));
+        });
+    jdbcTemplate.query(
+        "SELECT recipe_id, tag_id FROM recipe_manager.recipe_tag_junction",
+        rs -> {
+          tagsByRecipe.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+        });
+
+    ingredientsByRecipe.forEach(
+        (recipeId, ids) -> loaded.replaceIngredients(recipeId, toArray(ids)));
+    tagsByRecipe.forEach((recipeId, ids) -> loaded.replaceTags(recipeId, toArray(ids)));
+    return loaded;
+  }
+
+  /**
+   * Extracts the distinct ingredient IDs of a recipe's ingredients.
+   *
+   * @param recipeIngredients the recipe ingredients
+   * @return the ingredient IDs
+   */
+  private static long[] ingredientIdsOf(final Collection<RecipeIngredient> recipeIngredients) {
+    if (recipeIngredients == null || recipeIngredients.isEmpty()) {
+      return NO_IDS;
+    }
+    return recipeIngredients.stream()
+        .map(RecipeIngredient::getIngredient)
+        .filter(Objects::nonNull)
+        .map(Ingredient::getIngredientId)
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .distinct()
+        .toArray();
+  }
+
+  /**
+   * Extracts the distinct tag IDs of a recipe's tags.
+   *
+   * @param tags the recipe tags
+   * @return the tag IDs
+   */
+  private static long[] tagIdsOf(final Collection<RecipeTag> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return NO_IDS;
+    }
+    return tags.stream()
+        .map(RecipeTag::getTagId)
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .distinct()
+        .toArray();
+  }
+
+  /**
+   * Converts a list of IDs to a distinct primitive array.
+   *
+   * @param ids the IDs
+   * @return the distinct IDs
+   */
+  private static long[] toArray(final List<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).distinct().toArray();
+  }
+
+  /** Result of an index lookup: the set of matching recipe IDs. */
+  public static final class Match {
+
+    /** The matching recipe IDs. */
+    private final Roaring64Bitmap recipeIds;
+
+    private Match(final Roaring64Bitmap recipeIds) {
+      this.recipeIds = recipeIds;
+    }
+
+    /**
+     * Number of matching recipes.
+     *
+     * @return the match count
+     */
+    public long count() {
+      return recipeIds.getLongCardinality();
+    }
+
+    /**
+     * Whether nothing matched.
+     *
+     * @return true if there are no matching recipes
+     */
+    public boolean isEmpty() {
+      return recipeIds.isEmpty();
+    }
+
+    /**
+     * Returns one page of matching recipe IDs, newest (highest ID) first.
+     *
+     * @param offset the number of IDs to skip
+     * @param limit the maximum number of IDs to return
+     * @return the page of recipe IDs
+     */
+    public List<Long> pageDescending(final long offset, final int limit) {
+      long count = count();
+      List<Long> page = new ArrayList<>(limit);
+      for (long i = offset; i < count && page.size() < limit; i++) {
+        page.add(recipeIds.select(count - 1 - i));
+      }
+      return page;
+    }
+
+    /**
+     * All matching recipe IDs, for handing to a database query as a candidate set.
+     *
+     * @return the matching recipe IDs
+     */
+    public Long[] toArray() {
+      return Arrays.stream(recipeIds.toArray()).boxed().toArray(Long[]::new);
+    }
+  }
+
+  /** Postings and forward maps for one generation of the index. */
+  private static final class IndexState {
+
+    /** Every known recipe, used as the universe for NONE filters. */
+    private final Roaring64Bitmap allRecipes = new Roaring64Bitmap();
+
+    /** Ingredient ID to recipe IDs. */
+    private final Map<Long, Roaring64Bitmap> recipesByIngredient = new HashMap<>();
+
+    /** Tag ID to recipe IDs. */
+    private final Map<Long, Roaring64Bitmap> recipesByTag = new HashMap<>();
+
+    /** Recipe ID to its indexed ingredient IDs, used to clear old postings on update. */
+    private final Map<Long, long[]> ingredientsByRecipe = new HashMap<>();
+
+    /** Recipe ID to its indexed tag IDs, used to clear old postings on update. */
+    private final Map<Long, long[]> tagsByRecipe = new HashMap<>();
+
+    void replaceIngredients(final long recipeId, final long[] ingredientIds) {
+      allRecipes.addLong(recipeId);
+      replace(recipeId, ingredientIds, ingredientsByRecipe, recipesByIngredient);
+    }
+
+    void replaceTags(final long recipeId, final long[] tagIds) {
+      allRecipes.addLong(recipeId);
+      replace(recipeId, tagIds, tagsByRecipe, recipesByTag);
+    }
+
+    void remove(final long recipeId) {
+      allRecipes.removeLong(recipeId);
+      replace(recipeId, NO_IDS, ingredientsByRecipe, recipesByIngredient);
+      replace(recipeId, NO_IDS, tagsByRecipe, recipesByTag);
+    }
+
+    void runOptimize() {
+      allRecipes.runOptimize();
+      recipesByIngredient.values().forEach(Roaring64Bitmap::runOptimize);
+      recipesByTag.values().forEach(Roaring64Bitmap::runOptimize);
+    }
+
+    private static void replace(
+        final long recipeId,
+        final long[] ids,
+        final Map<Long, long[]> forward,
+        final Map<Long, Roaring64Bitmap> postings) {
+      long[] previous = forward.remove(recipeId);
+      if (previous != null) {
+        for (long id : previous) {
+          Roaring64Bitmap recipes = postings.get(id);
+          if (recipes != null) {
+            recipes.removeLong(recipeId);
+            if (recipes.isEmpty()) {
+              postings.remove(id);
+            }
+          }
+        }
+      }
+      if (ids.length > 0) {
+        forward.put(recipeId, ids);
+        for (long id : ids) {
+          postings.computeIfAbsent(id, key -> new Roaring64Bitmap()).addLong(recipeId);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.recipe_manager.service.trending;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory global ranking of trending collections.
+ *
+ * <p>Scores are kept current in {@code collection_trending_scores} by {@link TrendingScoreService}
+ * as collections are favorited and recipes are added to them. This component holds the IDs of the
+ * top-scoring collections, in trending order, and reloads them from the score index once the
+ * application is ready and then periodically. Forward decay means the stored scores keep their
+ * relative order between events, so a reload only has to pick up new events and collections
+ * pruned or deleted since the last one. Requests filter the ranking through the caller's access
+ * instead of scoring collections themselves. The ranking keeps only the top {@code
+ * app.trending.collections.ranking-size} collections; see {@link #isTruncated}.
+ */
+@Component
+public class TrendingCollectionRanking {
+
+  /** Logger for ranking reload events. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(TrendingCollectionRanking.class);
+
+  /** Loads the top of the score index. */
+  static final String TOP_COLLECTIONS_SQL =
+      "SELECT collection_id FROM recipe_manager.collection_trending_scores "
+          + "ORDER BY score DESC, collection_id DESC "
+          + "LIMIT ?";
+
+  /** JdbcTemplate used to read the score index. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Number of collections kept in the ranking. */
+  private final int size;
+
+  /** Whether a reload is currently running. */
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+  /** The current ranking (immutable), highest score first. */
+  private volatile List<Long> ranking = List.of();
+
+  /**
+   * Creates a new TrendingCollectionRanking.
+   *
+   * @param jdbcTemplate the JdbcTemplate used to read the score index
+   * @param size the number of collections to keep in the ranking
+   */
+  public TrendingCollectionRanking(
+      final JdbcTemplate jdbcTemplate,
+      @Value("${app.trending.collections.ranking-size:1000}") final int size) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.size = size;
+  }
+
+  /**
+   * Returns the IDs of the top trending collections, highest score first. Collections deleted
+   * since the last reload may still be listed.
+   *
+   * @return the ranked collection IDs (immutable)
+   */
+  public List<Long> getRanking() {
+    return ranking;
+  }
+
+  /**
+   * Returns whether the ranking stopped at its size limit, so that collections outside it may
+   * still have a score.
+   *
+   * @return true if the ranking holds as many collections as it keeps
+   */
+  public boolean isTruncated() {
+    return ranking.size() >= size;
+  }
+
+  /** Loads the ranking once the application has started. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    refresh();
+  }
+
+  /** Periodically reloads the ranking to pick up new events from every instance. */
+  @Scheduled(
+      fixedDelayString = "${app.trending.collections.refresh-interval-ms:60000}",
+      initialDelayString = "${app.trending.collections.refresh-interval-ms:60000}")
+  public void scheduledRefresh() {
+    refresh();
+  }
+
+  /** Reloads the ranking from the score index. Failures leave the current ranking in place. */
+  public void refresh() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      ranking = List.copyOf(jdbcTemplate.queryForList(TOP_COLLECTIONS_SQL, Long.class, size));
+      LOGGER.debug("Trending collection ranking reloaded: {} collections", ranking.size());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to reload trending collection ranking: {}", e.getMessage());
+    } finally {
+      refreshing.set(false);
+    }
+  }
+}
@@ -0,0 +1,318 @@
+package com.recipe_manager.service.trending;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the precomputed {@code recipe_trending_scores} and {@code collection_trending_scores}
+ * tables behind the trending recipes and trending collections listings.
+ *
+ * <p>A recipe's trending score is the sum of its recent engagement events, each weighted by kind
+ * and decayed exponentially with age: {@code Sum(Weight * exp(-DecayRate * AgeInDays))}. Weights
+ * are Favorites=3.0, Comments=2.0 and CollectionAdds=4.0, and the decay rate of 0.23 per day gives
+ * a half-life of about three days. A collection's score is built the same way from Favorites=3.0
+ * and RecipeAdds=4.0.
+ *
+ * <p>Scores are stored with forward decay: each event is folded in as {@code Weight *
+ * exp(DecayRate * (EventTime - Epoch))} against a shared epoch held in {@code
+ * recipe_trending_state}. Every stored score is then off from its live value by the same factor,
+ * so ordering by the stored column is ordering by the live score and the listing is a plain index
+ * read. Recording an event is a single upsert in the caller's transaction. Undoing an event, such
+ * as removing a favorite, subtracts the contribution it made at its original time, so scores only
+ * count events whose rows still exist. The scheduled decay pass moves the epoch forward, rescales
+ * every score in both tables to it (keeping values bounded) and prunes recipes and collections
+ * whose score has decayed below that of a single event older than the 30-day window.
+ */
+@Service
+public class TrendingScoreService {
+
+  /** Logger for decay pass events. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(TrendingScoreService.class);
+
+  /** Weight of a favorite event. */
+  public static final double FAVORITE_WEIGHT = 3.0;
+
+  /** Weight of a comment event. */
+  public static final double COMMENT_WEIGHT = 2.0;
+
+  /** Weight of a collection add event. */
+  public static final double COLLECTION_ADD_WEIGHT = 4.0;
+
+  /** Weight of a recipe being added to a collection, counted towards the collection. */
+  public static final double RECIPE_ADD_WEIGHT = 4.0;
+
+  /** Exponential decay rate per day (half-life of about three days). */
+  public static final double DECAY_RATE_PER_DAY = 0.23;
+
+  /** Age in days beyond which an event no longer counts towards trending. */
+  public static final int WINDOW_DAYS = 30;
+
+  /** Scores below this are pruned: the lightest event once it has aged out of the window. */
+  static final double PRUNE_THRESHOLD =
+      Math.min(COMMENT_WEIGHT, Math.min(FAVORITE_WEIGHT, COLLECTION_ADD_WEIGHT))
+          * Math.exp(-DECAY_RATE_PER_DAY * WINDOW_DAYS);
+
+  /** Collection scores below this are pruned, as for {@link #PRUNE_THRESHOLD}. */
+  static final double COLLECTION_PRUNE_THRESHOLD =
+      Math.min(FAVORITE_WEIGHT, RECIPE_ADD_WEIGHT) * Math.exp(-DECAY_RATE_PER_DAY * WINDOW_DAYS);
+
+  /**
+   * Folds one event into a recipe's score. The epoch row is read FOR SHARE so that a concurrent
+   * decay pass cannot rescale the table between reading the epoch and writing the score.
+   */
+  static final String RECORD_EVENT_SQL =
+      "INSERT INTO recipe_manager.recipe_trending_scores (recipe_id, score, updated_at) "
+          + "SELECT ?, CAST(? AS DOUBLE PRECISION) * EXP(CAST(? AS DOUBLE PRECISION) "
+          + "  * EXTRACT(EPOCH FROM (NOW() - s.epoch)) / 86400), NOW() "
+          + "FROM recipe_manager.recipe_trending_state s "
+          + "FOR SHARE OF s "
+          + "ON CONFLICT (recipe_id) DO UPDATE "
+          + "SET score = recipe_manager.recipe_trending_scores.score + EXCLUDED.score, "
+          + "    updated_at = EXCLUDED.updated_at";
+
+  /**
+   * Takes back the contribution of one event at a given time from a recipe's score, if the event
+   * is still inside the window. A recipe without a score is left alone; a score that
+   * drops to zero is pruned by the next decay pass.
+   */
+  static final String WITHDRAW_EVENT_SQL =
+      "UPDATE recipe_manager.recipe_trending_scores "
+          + "SET score = GREATEST(score - CAST(? AS DOUBLE PRECISION) "
+          + "  * EXP(CAST(? AS DOUBLE PRECISION) "
+          + "  * (SELECT EXTRACT(EPOCH FROM (CAST(? AS TIMESTAMP) - s.epoch)) "
+          + "     FROM recipe_manager.recipe_trending_state s FOR SHARE) / 86400), 0), "
+          + "    updated_at = NOW() "
+          + "WHERE recipe_id = ? "
+          + "AND CAST(? AS TIMESTAMP) > NOW() - INTERVAL '"
+          + WINDOW_DAYS
+          + " days'";
+
+  /** Folds one event into a collection's score, as {@link #RECORD_EVENT_SQL} does for recipes. */
+  static final String RECORD_COLLECTION_EVENT_SQL =
+      "INSERT INTO recipe_manager.collection_trending_scores (collection_id, score, updated_at) "
+          + "SELECT ?, CAST(? AS DOUBLE PRECISION) * EXP(CAST(? AS DOUBLE PRECISION) "
+          + "  * EXTRACT(EPOCH FROM (NOW() - s.epoch)) / 86400), NOW() "
+          + "FROM recipe_manager.recipe_trending_state s "
+          + "FOR SHARE OF s "
+          + "ON CONFLICT (collection_id) DO UPDATE "
+          + "SET score = recipe_manager.collection_trending_scores.score + EXCLUDED.score, "
+          + "    updated_at = EXCLUDED.updated_at";
+
+  /**
+   * Takes back one event from a collection's score, as {@link #WITHDRAW_EVENT_SQL} does for
+   * recipes.
+   */
+  static final String WITHDRAW_COLLECTION_EVENT_SQL =
+      "UPDATE recipe_manager.collection_trending_scores "
+          + "SET score = GREATEST(score - CAST(? AS DOUBLE PRECISION) "
+          + "  * EXP(CAST(? AS DOUBLE PRECISION) "
+          + "  * (SELECT EXTRACT(EPOCH FROM (CAST(? AS TIMESTAMP) - s.epoch)) "
+          + "     FROM recipe_manager.recipe_trending_state s FOR SHARE) / 86400), 0), "
+          + "    updated_at = NOW() "
+          + "WHERE collection_id = ? "
+          + "AND CAST(? AS TIMESTAMP) > NOW() - INTERVAL '"
+          + WINDOW_DAYS
+          + " days'";
+
+  /** Locks the epoch row and returns the days elapsed since it. */
+  static final String LOCK_EPOCH_SQL =
+      "SELECT EXTRACT(EPOCH FROM (NOW() - epoch)) / 86400 "
+          + "FROM recipe_manager.recipe_trending_state FOR UPDATE";
+
+  /** Rescales every score to the new epoch. */
+  static final String RESCALE_SQL =
+      "UPDATE recipe_manager.recipe_trending_scores SET score = score * ?";
+
+  /** Drops scores that have decayed out of the window. */
+  static final String PRUNE_SQL =
+      "DELETE FROM recipe_manager.recipe_trending_scores WHERE score < ?";
+
+  /** Rescales every collection score to the new epoch. */
+  static final String RESCALE_COLLECTIONS_SQL =
+      "UPDATE recipe_manager.collection_trending_scores SET score = score * ?";
+
+  /** Drops collection scores that have decayed out of the window. */
+  static final String PRUNE_COLLECTIONS_SQL =
+      "DELETE FROM recipe_manager.collection_trending_scores WHERE score < ?";
+
+  /** Moves the epoch to the current time. */
+  static final String ADVANCE_EPOCH_SQL =
+      "UPDATE recipe_manager.recipe_trending_state SET epoch = NOW()";
+
+  /** JdbcTemplate used for score updates; participates in the caller's transaction. */
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates a new TrendingScoreService.
+   *
+   * @param jdbcTemplate the JdbcTemplate used to update scores
+   */
+  public TrendingScoreService(final JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Records that a recipe was favorited.
+   *
+   * @param recipeId the favorited recipe ID
+   */
+  public void recordFavorite(final Long recipeId) {
+    recordEvent(recipeId, FAVORITE_WEIGHT);
+  }
+
+  /**
+   * Takes back a removed favorite's contribution to the recipe's score.
+   *
+   * @param recipeId the unfavorited recipe ID
+   * @param favoritedAt when the removed favorite was made
+   */
+  public void withdrawFavorite(final Long recipeId, final LocalDateTime favoritedAt) {
+    withdrawEvent(recipeId, FAVORITE_WEIGHT, favoritedAt);
+  }
+
+  /**
+   * Records that a recipe was commented on.
+   *
+   * @param recipeId the commented recipe ID
+   */
+  public void recordComment(final Long recipeId) {
+    recordEvent(recipeId, COMMENT_WEIGHT);
+  }
+
+  /**
+   * Records that a recipe was added to a collection.
+   *
+   * @param recipeId the collected recipe ID
+   */
+  public void recordCollectionAdd(final Long recipeId) {
+    recordEvent(recipeId, COLLECTION_ADD_WEIGHT);
+  }
+
+  /**
+   * Records that a collection was favorited.
+   *
+   * @param collectionId the favorited collection ID
+   */
+  public void recordCollectionFavorite(final Long collectionId) {
+    recordCollectionEvent(collectionId, FAVORITE_WEIGHT);
+  }
+
+  /**
+   * Takes back a removed collection favorite's contribution to the collection's score.
+   *
+   * @param collectionId the unfavorited collection ID
+   * @param favoritedAt when the removed favorite was made
+   */
+  public void withdrawCollectionFavorite(
+      final Long collectionId, final LocalDateTime favoritedAt) {
+    withdrawCollectionEvent(collectionId, FAVORITE_WEIGHT, favoritedAt);
+  }
+
+  /**
+   * Records that a recipe was added to a collection, counted towards the collection.
+   *
+   * @param collectionId the collection the recipe was added to
+   */
+  public void recordCollectionRecipeAdd(final Long collectionId) {
+    recordCollectionEvent(collectionId, RECIPE_ADD_WEIGHT);
+  }
+
+  /** Periodically rebases scores onto a fresh epoch and prunes expired ones. */
+  @Scheduled(
+      fixedDelayString = "${app.trending.decay-interval-ms:3600000}",
+      initialDelayString = "${app.trending.decay-interval-ms:3600000}")
+  @Transactional
+  public void decay() {
+    Double elapsedDays = jdbcTemplate.queryForObject(LOCK_EPOCH_SQL, Double.class);
+    if (elapsedDays == null) {
+      return;
+    }
+    double factor = Math.exp(-DECAY_RATE_PER_DAY * elapsedDays);
+
+    int rescaled = jdbcTemplate.update(RESCALE_SQL, factor);
+    int pruned = jdbcTemplate.update(PRUNE_SQL, PRUNE_THRESHOLD);
+    int collectionsRescaled = jdbcTemplate.update(RESCALE_COLLECTIONS_SQL, factor);
+    int collectionsPruned =
+        jdbcTemplate.update(PRUNE_COLLECTIONS_SQL, COLLECTION_PRUNE_THRESHOLD);
+    jdbcTemplate.update(ADVANCE_EPOCH_SQL);
+
+    LOGGER.debug(
+        "Trending scores decayed by {} over {} days: {} recipes rescaled, {} pruned; "
+            + "{} collections rescaled, {} pruned",
+        factor,
+        elapsedDays,
+        rescaled,
+        pruned,
+        collectionsRescaled,
+        collectionsPruned);
+  }
+
+  /**
+   * Folds a weighted event at the current time into a recipe's score.
+   *
+   * @param recipeId the recipe ID
+   * @param weight the event weight
+   */
+  private void recordEvent(final Long recipeId, final double weight) {
+    if (recipeId == null) {
+      return;
+    }
+    jdbcTemplate.update(RECORD_EVENT_SQL, recipeId, weight, DECAY_RATE_PER_DAY);
+  }
+
+  /**
+   * Takes back a weighted event made at the given time from a recipe's score.
+   *
+   * @param recipeId the recipe ID
+   * @param weight the event weight
+   * @param occurredAt when the event was recorded
+   */
+  private void withdrawEvent(
+      final Long recipeId, final double weight, final LocalDateTime occurredAt) {
+    if (recipeId == null || occurredAt == null) {
+      return;
+    }
+    jdbcTemplate.update(
+        WITHDRAW_EVENT_SQL, weight, DECAY_RATE_PER_DAY, occurredAt, recipeId, occurredAt);
+  }
+
+  /**
+   * Folds a weighted event at the current time into a collection's score.
+   *
+   * @param collectionId the collection ID
+   * @param weight the event weight
+   */
+  private void recordCollectionEvent(final Long collectionId, final double weight) {
+    if (collectionId == null) {
+      return;
+    }
+    jdbcTemplate.update(RECORD_COLLECTION_EVENT_SQL, collectionId, weight, DECAY_RATE_PER_DAY);
+  }
+
+  /**
+   * Takes back a weighted event made at the given time from a collection's score.
+   *
+   * @param collectionId the collection ID
+   * @param weight the event weight
+   * @param occurredAt when the event was recorded
+   */
+  private void withdrawCollectionEvent(
+      final Long collectionId, final double weight, final LocalDateTime occurredAt) {
+    if (collectionId == null || occurredAt == null) {
+      return;
+    }
+    jdbcTemplate.update(
+        WITHDRAW_COLLECTION_EVENT_SQL,
+        weight,
+        DECAY_RATE_PER_DAY,
+        occurredAt,
+        collectionId,
+        occurredAt);
+  }
+}
@@ -0,0 +1,101 @@
+package com.recipe_manager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.recipe_manager.exception.BusinessException;
+
+/**
+ * Opaque keyset pagination cursor for the recipes in a collection.
+ *
+ * <p>Collection recipes are listed by (display order, recipe ID) ascending; a cursor records that
+ * position for the last row on a page and the next page seeks past it. Tokens are URL-safe Base64
+ * and carry their own kind, distinct from {@link RecipeCursor}'s and {@link RevisionCursor}'s, so
+ * a cursor from another listing is rejected here rather than misread.
+ */
+public final class CollectionItemCursor {
+
+  /** Token prefix for collection item cursors. */
+  private static final String KIND = "o";
+
+  /** Separator between token parts. */
+  private static final String SEPARATOR = "|";
+
+  /** Number of parts in a decoded token. */
+  private static final int TOKEN_PARTS = 3;
+
+  /** Display order of the last row. */
+  private final int displayOrder;
+
+  /** Recipe ID of the last row. */
+  private final Long recipeId;
+
+  private CollectionItemCursor(final int displayOrder, final Long recipeId) {
+    this.displayOrder = displayOrder;
+    this.recipeId = recipeId;
+  }
+
+  /**
+   * Creates a cursor positioned after a collection item.
+   *
+   * @param displayOrder the item's display order
+   * @param recipeId the item's recipe ID
+   * @return the cursor
+   */
+  public static CollectionItemCursor of(final int displayOrder, final Long recipeId) {
+    return new CollectionItemCursor(displayOrder, recipeId);
+  }
+
+  /**
+   * Decodes a cursor token.
+   *
+   * @param token the token, or null/blank for the first page
+   * @return the decoded cursor, or null for the first page
+   * @throws BusinessException if the token is malformed or not a collection item cursor
+   */
+  public static CollectionItemCursor decode(final String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR, -1);
+      if (parts.length != TOKEN_PARTS || !KIND.equals(parts[0])) {
+        throw new BusinessException("Invalid cursor: " + token);
+      }
+      return of(Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException e) {
+      throw new BusinessException("Invalid cursor: " + token, e);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque token.
+   *
+   * @return the token
+   */
+  public String encode() {
+    String raw = KIND + SEPARATOR + displayOrder + SEPARATOR + recipeId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Gets the display order of the last row.
+   *
+   * @return the display order
+   */
+  public int getDisplayOrder() {
+    return displayOrder;
+  }
+
+  /**
+   * Gets the recipe ID of the last row.
+   *
+   * @return the recipe ID
+   */
+  public Long getRecipeId() {
+    return recipeId;
+  }
+}
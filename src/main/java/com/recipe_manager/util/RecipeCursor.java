@@ -0,0 +1,173 @@
+package com.recipe_manager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.recipe_manager.exception.BusinessException;
+
+/**
+ * Opaque keyset pagination cursor for recipe listings.
+ *
+ * <p>A cursor records the sort key and recipe ID of the last row on a page; the next page seeks
+ * past that position instead of skipping an OFFSET. Recipes listed newest first seek on a
+ * timestamp (creation or favorite time), ranked full-text results seek on the relevance rank. The
+ * recipe ID breaks ties so that the order is total. Tokens are URL-safe Base64 and carry their
+ * kind, so a cursor from one ordering cannot be replayed against another.
+ */
+public final class RecipeCursor {
+
+  /** Token prefix for timestamp-ordered cursors. */
+  private static final String TIMESTAMP_KIND = "t";
+
+  /** Token prefix for rank-ordered cursors. */
+  private static final String RANK_KIND = "r";
+
+  /** Separator between token parts. */
+  private static final String SEPARATOR = "|";
+
+  /** Number of parts in a decoded token. */
+  private static final int TOKEN_PARTS = 3;
+
+  /** Sort timestamp of the last row, for timestamp-ordered cursors. */
+  private final LocalDateTime timestamp;
+
+  /** Relevance rank of the last row, for rank-ordered cursors. */
+  private final Float rank;
+
+  /** Recipe ID of the last row. */
+  private final Long recipeId;
+
+  private RecipeCursor(final LocalDateTime timestamp, final Float rank, final Long recipeId) {
+    this.timestamp = timestamp;
+    this.rank = rank;
+    this.recipeId = recipeId;
+  }
+
+  /**
+   * Creates a cursor positioned after a row ordered by timestamp.
+   *
+   * @param timestamp the row's sort timestamp
+   * @param recipeId the row's recipe ID
+   * @return the cursor
+   */
+  public static RecipeCursor ofTimestamp(final LocalDateTime timestamp, final Long recipeId) {
+    return new RecipeCursor(timestamp, null, recipeId);
+  }
+
+  /**
+   * Creates a cursor positioned after a row ordered by relevance rank.
+   *
+   * @param rank the row's rank
+   * @param recipeId the row's recipe ID
+   * @return the cursor
+   */
+  public static RecipeCursor ofRank(final Float rank, final Long recipeId) {
+    return new RecipeCursor(null, rank, recipeId);
+  }
+
+  /**
+   * Decodes a timestamp cursor token.
+   *
+   * @param token the token, or null/blank for the first page
+   * @return the decoded cursor, or null for the first page
+   * @throws BusinessException if the token is malformed or not a timestamp cursor
+   */
+  public static RecipeCursor decodeTimestamp(final String token) {
+    String[] parts = split(token, TIMESTAMP_KIND);
+    if (parts == null) {
+      return null;
+    }
+    try {
+      return ofTimestamp(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new BusinessException("Invalid cursor: " + token, e);
+    }
+  }
+
+  /**
+   * Decodes a rank cursor token.
+   *
+   * @param token the token, or null/blank for the first page
+   * @return the decoded cursor, or null for the first page
+   * @throws BusinessException if the token is malformed or not a rank cursor
+   */
+  public static RecipeCursor decodeRank(final String token) {
+    String[] parts = split(token, RANK_KIND);
+    if (parts == null) {
+      return null;
+    }
+    try {
+      return ofRank(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+    } catch (NumberFormatException e) {
+      throw new BusinessException("Invalid cursor: " + token, e);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque token.
+   *
+   * @return the token
+   */
+  public String encode() {
+    String raw =
+        timestamp != null
+            ? TIMESTAMP_KIND + SEPARATOR + timestamp + SEPARATOR + recipeId
+            : RANK_KIND + SEPARATOR + rank + SEPARATOR + recipeId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Gets the sort timestamp of the last row.
+   *
+   * @return the timestamp, or null for rank cursors
+   */
+  public LocalDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Gets the relevance rank of the last row.
+   *
+   * @return the rank, or null for timestamp cursors
+   */
+  public Float getRank() {
+    return rank;
+  }
+
+  /**
+   * Gets the recipe ID of the last row.
+   *
+   * @return the recipe ID
+   */
+  public Long getRecipeId() {
+    return recipeId;
+  }
+
+  /**
+   * Decodes a token and checks its kind.
+   *
+   * @param token the token
+   * @param expectedKind the expected kind prefix
+   * @return the token parts, or null for a null/blank token
+   */
+  private static String[] split(final String token, final String expectedKind) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new BusinessException("Invalid cursor: " + token, e);
+    }
+    String[] parts = raw.split("\\" + SEPARATOR, -1);
+    if (parts.length != TOKEN_PARTS || !expectedKind.equals(parts[0])) {
+      throw new BusinessException("Invalid cursor: " + token);
+    }
+    return parts;
+  }
+}
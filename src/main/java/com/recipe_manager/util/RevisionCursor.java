@@ -0,0 +1,103 @@
+package com.recipe_manager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.recipe_manager.exception.BusinessException;
+
+/**
+ * Opaque keyset pagination cursor for revision listings.
+ *
+ * <p>Revisions are listed newest first by (creation time, revision ID); a cursor records that
+ * position for the last row on a page and the next page seeks past it. Tokens are URL-safe Base64
+ * and carry their own kind, distinct from {@link RecipeCursor}'s, so a recipe listing cursor is
+ * rejected here rather than misread.
+ */
+public final class RevisionCursor {
+
+  /** Token prefix for revision cursors. */
+  private static final String KIND = "v";
+
+  /** Separator between token parts. */
+  private static final String SEPARATOR = "|";
+
+  /** Number of parts in a decoded token. */
+  private static final int TOKEN_PARTS = 3;
+
+  /** Creation time of the last row. */
+  private final LocalDateTime createdAt;
+
+  /** Revision ID of the last row. */
+  private final Long revisionId;
+
+  private RevisionCursor(final LocalDateTime createdAt, final Long revisionId) {
+    this.createdAt = createdAt;
+    this.revisionId = revisionId;
+  }
+
+  /**
+   * Creates a cursor positioned after a revision.
+   *
+   * @param createdAt the revision's creation time
+   * @param revisionId the revision ID
+   * @return the cursor
+   */
+  public static RevisionCursor of(final LocalDateTime createdAt, final Long revisionId) {
+    return new RevisionCursor(createdAt, revisionId);
+  }
+
+  /**
+   * Decodes a cursor token.
+   *
+   * @param token the token, or null/blank for the first page
+   * @return the decoded cursor, or null for the first page
+   * @throws BusinessException if the token is malformed or not a revision cursor
+   */
+  public static RevisionCursor decode(final String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR, -1);
+      if (parts.length != TOKEN_PARTS || !KIND.equals(parts[0])) {
+        throw new BusinessException("Invalid cursor: " + token);
+      }
+      return of(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BusinessException("Invalid cursor: " + token, e);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque token.
+   *
+   * @return the token
+   */
+  public String encode() {
+    String raw = KIND + SEPARATOR + createdAt + SEPARATOR + revisionId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Gets the creation time of the last row.
+   *
+   * @return the creation time
+   */
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  /**
+   * Gets the revision ID of the last row.
+   *
+   * @return the revision ID
+   */
+  public Long getRevisionId() {
+    return revisionId;
+  }
+}
@@ -0,0 +1,154 @@
+package com.recipe_manager.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.enums.IngredientUnit;
+
+/**
+ * Sums recipe ingredients into shopping list items in a single pass.
+ *
+ * <p>Ingredients are combined by name and by canonical unit (see {@link
+ * IngredientUnit#getCanonicalUnit()}), so "500 g flour" and "1 kg flour" become one item while "2
+ * cloves garlic" and "1 tsp garlic" stay separate. An item whose rows all used the same unit keeps
+ * that unit and its exact sum; an item that mixed units is reported in the largest unit it used,
+ * rounded to the quantity scale of {@code recipe_ingredients}. Items keep the order in which their
+ * ingredients were first seen.
+ *
+ * <p>Only one accumulator is allocated per item, and the map lookup uses the ingredient name
+ * directly. Instances are not thread-safe.
+ */
+public final class ShoppingListAggregator {
+
+  /** Scale of quantities reported for items that mixed units. */
+  private static final int QUANTITY_SCALE = 3;
+
+  /** Accumulators keyed by ingredient name, each heading a chain of one per canonical unit. */
+  private final Map<String, Line> lines = new LinkedHashMap<>();
+
+  /**
+   * Adds a recipe ingredient to the list.
+   *
+   * @param recipeIngredient the recipe ingredient
+   * @param multiplier the factor to scale its quantity by
+   */
+  public void add(final RecipeIngredient recipeIngredient, final BigDecimal multiplier) {
+    Ingredient ingredient = recipeIngredient.getIngredient();
+    IngredientUnit unit = recipeIngredient.getUnit();
+    IngredientUnit canonicalUnit = unit == null ? null : unit.getCanonicalUnit();
+    BigDecimal quantity =
+        recipeIngredient.getQuantity() == null ? BigDecimal.ZERO : recipeIngredient.getQuantity();
+    if (multiplier != null && BigDecimal.ONE.compareTo(multiplier) != 0) {
+      quantity = quantity.multiply(multiplier);
+    }
+
+    String name = ingredient.getName();
+    Line head = lines.get(name);
+    Line line = head;
+    while (line != null && line.canonicalUnit != canonicalUnit) {
+      line = line.next;
+    }
+    if (line == null) {
+      line = new Line(ingredient.getIngredientId(), name, unit, canonicalUnit);
+      if (head == null) {
+        lines.put(name, line);
+      } else {
+        line.next = head.next;
+        head.next = line;
+      }
+    }
+    line.add(unit, quantity, Boolean.TRUE.equals(recipeIngredient.getIsOptional()));
+  }
+
+  /**
+   * Builds the shopping list items.
+   *
+   * @return the items, in the order their ingredients were first added
+   */
+  public List<ShoppingListItemDto> toItems() {
+    List<ShoppingListItemDto> items = new ArrayList<>(lines.size());
+    for (Line head : lines.values()) {
+      for (Line line = head; line != null; line = line.next) {
+        items.add(line.toItem());
+      }
+    }
+    return items;
+  }
+
+  /** Running totals for one ingredient in one canonical unit. */
+  private static final class Line {
+    /** The ingredient ID. */
+    private final Long ingredientId;
+
+    /** The ingredient name. */
+    private final String name;
+
+    /** The canonical unit of every row in this line. */
+    private final IngredientUnit canonicalUnit;
+
+    /** The largest unit seen. */
+    private IngredientUnit unit;
+
+    /** Sum of the quantities as given, valid while every row used the same unit. */
+    private BigDecimal quantity = BigDecimal.ZERO;
+
+    /** Sum of the quantities in the canonical unit. */
+    private BigDecimal canonicalQuantity = BigDecimal.ZERO;
+
+    /** Whether rows used more than one unit. */
+    private boolean mixedUnits;
+
+    /** Whether every row was optional. */
+    private boolean optional = true;
+
+    /** The line for the same ingredient in another canonical unit. */
+    private Line next;
+
+    Line(
+        final Long ingredientId,
+        final String name,
+        final IngredientUnit unit,
+        final IngredientUnit canonicalUnit) {
+      this.ingredientId = ingredientId;
+      this.name = name;
+      this.unit = unit;
+      this.canonicalUnit = canonicalUnit;
+    }
+
+    void add(final IngredientUnit rowUnit, final BigDecimal rowQuantity, final boolean rowOptional) {
+      if (rowUnit != unit) {
+        mixedUnits = true;
+        if (rowUnit.getCanonicalFactor().compareTo(unit.getCanonicalFactor()) > 0) {
+          unit = rowUnit;
+        }
+      }
+      if (!mixedUnits) {
+        quantity = quantity.add(rowQuantity);
+      }
+      canonicalQuantity =
+          canonicalQuantity.add(rowUnit == null ? rowQuantity : rowUnit.toCanonical(rowQuantity));
+      optional &= rowOptional;
+    }
+
+    ShoppingListItemDto toItem() {
+      BigDecimal totalQuantity =
+          mixedUnits
+              ? unit.fromCanonical(canonicalQuantity).setScale(QUANTITY_SCALE, RoundingMode.HALF_UP)
+              : quantity;
+      return ShoppingListItemDto.builder()
+          .ingredientId(ingredientId)
+          .ingredientName(name)
+          .totalQuantity(totalQuantity)
+          .unit(unit)
+          .isOptional(optional)
+          .build();
+    }
+  }
+}
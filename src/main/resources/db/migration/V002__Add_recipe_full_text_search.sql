@@ -0,0 +1,167 @@
+-- Recipe full-text search
+--
+-- Adds a weighted tsvector search document to recipes so that text search can be served from a
+-- GIN index instead of a sequential scan with leading-wildcard LIKE filters.
+--
+-- Document weights:
+--   A - recipe title
+--   B - tag names
+--   C - ingredient names
+--   D - recipe description
+--
+-- The document spans the recipe_ingredients and recipe_tag_junction tables, so it cannot be a
+-- generated column. It is kept current by triggers on recipes (title/description changes), on the
+-- junction tables (statement-level, so a batch of ingredient inserts refreshes each recipe once)
+-- and on ingredient/tag renames.
+--
+-- Trigram indexes are added as well so the default substring (CONTAINS) search mode can use an
+-- index for its LIKE '%...%' predicates.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE recipe_manager.recipes
+    ADD COLUMN IF NOT EXISTS search_document tsvector;
+
+CREATE OR REPLACE FUNCTION recipe_manager.build_recipe_search_document(
+    p_recipe_id BIGINT,
+    p_title TEXT,
+    p_description TEXT
+) RETURNS tsvector
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT
+        setweight(to_tsvector('english', COALESCE(p_title, '')), 'A')
+        || setweight(to_tsvector('english', COALESCE((
+            SELECT string_agg(rt.name, ' ')
+            FROM recipe_manager.recipe_tag_junction rtj
+            JOIN recipe_manager.recipe_tags rt ON rt.tag_id = rtj.tag_id
+            WHERE rtj.recipe_id = p_recipe_id
+        ), '')), 'B')
+        || setweight(to_tsvector('english', COALESCE((
+            SELECT string_agg(i.name, ' ')
+            FROM recipe_manager.recipe_ingredients ri
+            JOIN recipe_manager.ingredients i ON i.ingredient_id = ri.ingredient_id
+            WHERE ri.recipe_id = p_recipe_id
+        ), '')), 'C')
+        || setweight(to_tsvector('english', COALESCE(p_description, '')), 'D')
+$$;
+
+-- Row-level trigger on recipes: recompute the document when the recipe's own text changes
+CREATE OR REPLACE FUNCTION recipe_manager.recipes_search_document_trigger()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_document := recipe_manager.build_recipe_search_document(
+        NEW.recipe_id, NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_recipes_search_document ON recipe_manager.recipes;
+CREATE TRIGGER trg_recipes_search_document
+    BEFORE INSERT OR UPDATE OF title, description ON recipe_manager.recipes
+    FOR EACH ROW
+    EXECUTE FUNCTION recipe_manager.recipes_search_document_trigger();
+
+-- Statement-level triggers on the junction tables: refresh each affected recipe once per statement
+CREATE OR REPLACE FUNCTION recipe_manager.refresh_recipe_search_document_from_changes()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE recipe_manager.recipes r
+    SET search_document = recipe_manager.build_recipe_search_document(
+        r.recipe_id, r.title, r.description)
+    WHERE r.recipe_id IN (SELECT DISTINCT recipe_id FROM changed_rows);
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_recipe_ingredients_search_insert ON recipe_manager.recipe_ingredients;
+CREATE TRIGGER trg_recipe_ingredients_search_insert
+    AFTER INSERT ON recipe_manager.recipe_ingredients
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_from_changes();
+
+DROP TRIGGER IF EXISTS trg_recipe_ingredients_search_delete ON recipe_manager.recipe_ingredients;
+CREATE TRIGGER trg_recipe_ingredients_search_delete
+    AFTER DELETE ON recipe_manager.recipe_ingredients
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_from_changes();
+
+DROP TRIGGER IF EXISTS trg_recipe_tag_junction_search_insert ON recipe_manager.recipe_tag_junction;
+CREATE TRIGGER trg_recipe_tag_junction_search_insert
+    AFTER INSERT ON recipe_manager.recipe_tag_junction
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_from_changes();
+
+DROP TRIGGER IF EXISTS trg_recipe_tag_junction_search_delete ON recipe_manager.recipe_tag_junction;
+CREATE TRIGGER trg_recipe_tag_junction_search_delete
+    AFTER DELETE ON recipe_manager.recipe_tag_junction
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_from_changes();
+
+-- Renaming a shared ingredient or tag changes the document of every recipe that uses it
+CREATE OR REPLACE FUNCTION recipe_manager.refresh_recipe_search_document_for_ingredient()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE recipe_manager.recipes r
+    SET search_document = recipe_manager.build_recipe_search_document(
+        r.recipe_id, r.title, r.description)
+    WHERE r.recipe_id IN (
+        SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri
+        WHERE ri.ingredient_id = NEW.ingredient_id);
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_ingredients_search_rename ON recipe_manager.ingredients;
+CREATE TRIGGER trg_ingredients_search_rename
+    AFTER UPDATE OF name ON recipe_manager.ingredients
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_for_ingredient();
+
+CREATE OR REPLACE FUNCTION recipe_manager.refresh_recipe_search_document_for_tag()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE recipe_manager.recipes r
+    SET search_document = recipe_manager.build_recipe_search_document(
+        r.recipe_id, r.title, r.description)
+    WHERE r.recipe_id IN (
+        SELECT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj
+        WHERE rtj.tag_id = NEW.tag_id);
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_recipe_tags_search_rename ON recipe_manager.recipe_tags;
+CREATE TRIGGER trg_recipe_tags_search_rename
+    AFTER UPDATE OF name ON recipe_manager.recipe_tags
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION recipe_manager.refresh_recipe_search_document_for_tag();
+
+-- Backfill existing recipes
+UPDATE recipe_manager.recipes r
+SET search_document = recipe_manager.build_recipe_search_document(
+    r.recipe_id, r.title, r.description);
+
+CREATE INDEX IF NOT EXISTS idx_recipes_search_document
+    ON recipe_manager.recipes USING GIN (search_document);
+
+CREATE INDEX IF NOT EXISTS idx_recipes_title_trgm
+    ON recipe_manager.recipes USING GIN (LOWER(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_recipes_description_trgm
+    ON recipe_manager.recipes USING GIN (LOWER(description) gin_trgm_ops);
@@ -0,0 +1,17 @@
+-- Keyset pagination indexes
+--
+-- Cursor-paginated listings seek on (sort key, recipe_id) instead of skipping an OFFSET. These
+-- composite indexes match the seek predicate and ORDER BY of each listing so every page is an
+-- index range scan that stops after page size + 1 rows, however deep the client has paged.
+
+-- GET /recipes?cursor=
+CREATE INDEX IF NOT EXISTS idx_recipes_created_at_recipe_id
+    ON recipe_manager.recipes (created_at DESC, recipe_id DESC);
+
+-- GET /users/me/recipes?cursor=
+CREATE INDEX IF NOT EXISTS idx_recipes_user_created_at_recipe_id
+    ON recipe_manager.recipes (user_id, created_at DESC, recipe_id DESC);
+
+-- GET /favorites/recipes?cursor=
+CREATE INDEX IF NOT EXISTS idx_recipe_favorites_user_favorited_at_recipe_id
+    ON recipe_manager.recipe_favorites (user_id, favorited_at DESC, recipe_id DESC);
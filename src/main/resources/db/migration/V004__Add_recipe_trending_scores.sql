@@ -0,0 +1,56 @@
+-- Precomputed recipe trending scores
+--
+-- The trending listing used to LEFT JOIN favorites, comments and collection items before
+-- GROUP BY, which multiplied the event rows per recipe (inflating both cost and score) and
+-- recomputed the EXP() decay for every event on every request. Scores are now maintained
+-- incrementally by the application as events happen and read through an index.
+--
+-- Scores use forward decay: an event at time t contributes
+--     weight * exp(0.23 * (t - epoch) / 1 day)
+-- relative to the shared epoch in recipe_trending_state. All stored scores differ from their
+-- live decayed values by the same factor, so ORDER BY score is the live trending order. A
+-- scheduled pass moves the epoch forward, rescales the table and prunes expired scores.
+--
+-- Weights: favorites 3.0, comments 2.0, collection adds 4.0. Decay rate 0.23/day (~3 day
+-- half-life). Events older than 30 days do not count.
+
+CREATE TABLE IF NOT EXISTS recipe_manager.recipe_trending_state (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    epoch TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO recipe_manager.recipe_trending_state (id, epoch)
+VALUES (TRUE, NOW())
+ON CONFLICT (id) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS recipe_manager.recipe_trending_scores (
+    recipe_id BIGINT PRIMARY KEY
+        REFERENCES recipe_manager.recipes (recipe_id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_recipe_trending_scores_score
+    ON recipe_manager.recipe_trending_scores (score DESC, recipe_id DESC);
+
+-- Backfill from the last 30 days of events, aggregating each source separately
+INSERT INTO recipe_manager.recipe_trending_scores (recipe_id, score, updated_at)
+SELECT e.recipe_id,
+       SUM(e.weight * EXP(0.23 * EXTRACT(EPOCH FROM (e.occurred_at - s.epoch)) / 86400)),
+       NOW()
+FROM (
+    SELECT rf.recipe_id, 3.0 AS weight, rf.favorited_at AS occurred_at
+    FROM recipe_manager.recipe_favorites rf
+    WHERE rf.favorited_at > NOW() - INTERVAL '30 days'
+    UNION ALL
+    SELECT rc.recipe_id, 2.0, rc.created_at
+    FROM recipe_manager.recipe_comments rc
+    WHERE rc.created_at > NOW() - INTERVAL '30 days'
+    UNION ALL
+    SELECT rci.recipe_id, 4.0, rci.added_at
+    FROM recipe_manager.recipe_collection_items rci
+    WHERE rci.added_at > NOW() - INTERVAL '30 days'
+) e
+CROSS JOIN recipe_manager.recipe_trending_state s
+GROUP BY e.recipe_id
+ON CONFLICT (recipe_id) DO NOTHING;
@@ -0,0 +1,19 @@
+-- Shared second tier for the recipe details cache
+--
+-- Each instance keeps fully built recipe DTOs in an in-process cache. When
+-- cache.recipe.shared-tier.enabled is set, misses fall through to this table before rebuilding
+-- the recipe from its ingredient, step, tag, revision, favorite and comment rows, so a recipe
+-- built by one instance is served to all of them.
+--
+-- The table is UNLOGGED: it is only a cache, so skipping WAL is worth losing its contents after
+-- a crash. A row with a NULL payload is a tombstone written on eviction; it blocks a concurrent
+-- reader from writing back a recipe it built before the change committed.
+
+CREATE UNLOGGED TABLE IF NOT EXISTS recipe_manager.recipe_cache_entries (
+    recipe_id BIGINT PRIMARY KEY,
+    payload TEXT,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_recipe_cache_entries_expires_at
+ON recipe_manager.recipe_cache_entries (expires_at);
@@ -0,0 +1,189 @@
+-- Recipe change counters for HTTP conditional requests
+--
+-- GET /recipes/{id} and its child resources return strong ETags built from recipes.updated_at and
+-- a per-resource change counter, so that a revalidation request can be answered with a 304 after
+-- reading a single row instead of loading and mapping the recipe graph.
+--
+-- recipes.updated_at only moves when the recipe row itself changes, so each child table gets a
+-- counter that statement-level triggers increment whenever rows for a recipe are inserted,
+-- updated or deleted:
+--   ingredients - recipe_ingredients, ingredient_comments, ingredient renames
+--   steps       - recipe_steps
+--   tags        - recipe_tag_junction, tag renames
+--   reviews     - reviews
+--   comments    - recipe_comments
+--   favorites   - recipe_favorites
+--   revisions   - recipe_revisions
+--
+-- Ingredient comments are shown with the ingredient in every recipe that uses it, not only the
+-- recipe they were written on, so a comment bumps the ingredients counter of all those recipes.
+--
+-- Counters only ever increase. Recipes without a row have never had a child change since this
+-- migration and read as all zeros.
+
+CREATE TABLE IF NOT EXISTS recipe_manager.recipe_versions (
+    recipe_id BIGINT PRIMARY KEY
+        REFERENCES recipe_manager.recipes (recipe_id) ON DELETE CASCADE,
+    ingredients_version BIGINT NOT NULL DEFAULT 0,
+    steps_version BIGINT NOT NULL DEFAULT 0,
+    tags_version BIGINT NOT NULL DEFAULT 0,
+    reviews_version BIGINT NOT NULL DEFAULT 0,
+    comments_version BIGINT NOT NULL DEFAULT 0,
+    favorites_version BIGINT NOT NULL DEFAULT 0,
+    revisions_version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Increment one counter for each of the given recipes. Joining recipes skips recipes that are
+-- being deleted in the same statement (cascaded child deletes), which would otherwise violate the
+-- foreign key.
+CREATE OR REPLACE FUNCTION recipe_manager.bump_recipe_versions(
+    p_recipe_ids BIGINT[],
+    p_counter TEXT
+) RETURNS void
+LANGUAGE sql
+AS $$
+    INSERT INTO recipe_manager.recipe_versions AS v (
+        recipe_id, ingredients_version, steps_version, tags_version, reviews_version,
+        comments_version, favorites_version, revisions_version)
+    SELECT r.recipe_id,
+           (p_counter = 'ingredients')::INT,
+           (p_counter = 'steps')::INT,
+           (p_counter = 'tags')::INT,
+           (p_counter = 'reviews')::INT,
+           (p_counter = 'comments')::INT,
+           (p_counter = 'favorites')::INT,
+           (p_counter = 'revisions')::INT
+    FROM recipe_manager.recipes r
+    WHERE r.recipe_id = ANY(p_recipe_ids)
+    ON CONFLICT (recipe_id) DO UPDATE SET
+        ingredients_version = v.ingredients_version + EXCLUDED.ingredients_version,
+        steps_version = v.steps_version + EXCLUDED.steps_version,
+        tags_version = v.tags_version + EXCLUDED.tags_version,
+        reviews_version = v.reviews_version + EXCLUDED.reviews_version,
+        comments_version = v.comments_version + EXCLUDED.comments_version,
+        favorites_version = v.favorites_version + EXCLUDED.favorites_version,
+        revisions_version = v.revisions_version + EXCLUDED.revisions_version
+$$;
+
+-- Statement-level trigger body: bump the counter named by the trigger argument once for every
+-- recipe touched by the statement
+CREATE OR REPLACE FUNCTION recipe_manager.bump_recipe_versions_from_changes()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM recipe_manager.bump_recipe_versions(
+        ARRAY(SELECT DISTINCT recipe_id FROM changed_rows), TG_ARGV[0]);
+    RETURN NULL;
+END;
+$$;
+
+-- Statement-level trigger body for ingredient comments: bump the counter named by the trigger
+-- argument for the recipe each comment was written on and every recipe using its ingredient
+CREATE OR REPLACE FUNCTION recipe_manager.bump_recipe_versions_from_ingredient_comments()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM recipe_manager.bump_recipe_versions(
+        ARRAY(
+            SELECT recipe_id FROM changed_rows
+            UNION
+            SELECT ri.recipe_id FROM recipe_manager.recipe_ingredients ri
+            WHERE ri.ingredient_id IN (SELECT ingredient_id FROM changed_rows)),
+        TG_ARGV[0]);
+    RETURN NULL;
+END;
+$$;
+
+-- Insert, update and delete triggers for every child table. Transition tables cannot be shared
+-- between events, hence three triggers per table.
+DO $$
+DECLARE
+    source RECORD;
+BEGIN
+    FOR source IN
+        SELECT * FROM (VALUES
+            ('recipe_ingredients', 'ingredients', 'bump_recipe_versions_from_changes'),
+            ('ingredient_comments', 'ingredients',
+                'bump_recipe_versions_from_ingredient_comments'),
+            ('recipe_steps', 'steps', 'bump_recipe_versions_from_changes'),
+            ('recipe_tag_junction', 'tags', 'bump_recipe_versions_from_changes'),
+            ('reviews', 'reviews', 'bump_recipe_versions_from_changes'),
+            ('recipe_comments', 'comments', 'bump_recipe_versions_from_changes'),
+            ('recipe_favorites', 'favorites', 'bump_recipe_versions_from_changes'),
+            ('recipe_revisions', 'revisions', 'bump_recipe_versions_from_changes')
+        ) AS t (table_name, counter, function_name)
+    LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS %I ON recipe_manager.%I',
+            'trg_' || source.table_name || '_version_insert', source.table_name);
+        EXECUTE format(
+            'CREATE TRIGGER %I AFTER INSERT ON recipe_manager.%I '
+                || 'REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT '
+                || 'EXECUTE FUNCTION recipe_manager.%I(%L)',
+            'trg_' || source.table_name || '_version_insert', source.table_name,
+            source.function_name, source.counter);
+
+        EXECUTE format('DROP TRIGGER IF EXISTS %I ON recipe_manager.%I',
+            'trg_' || source.table_name || '_version_update', source.table_name);
+        EXECUTE format(
+            'CREATE TRIGGER %I AFTER UPDATE ON recipe_manager.%I '
+                || 'REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT '
+                || 'EXECUTE FUNCTION recipe_manager.%I(%L)',
+            'trg_' || source.table_name || '_version_update', source.table_name,
+            source.function_name, source.counter);
+
+        EXECUTE format('DROP TRIGGER IF EXISTS %I ON recipe_manager.%I',
+            'trg_' || source.table_name || '_version_delete', source.table_name);
+        EXECUTE format(
+            'CREATE TRIGGER %I AFTER DELETE ON recipe_manager.%I '
+                || 'REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT '
+                || 'EXECUTE FUNCTION recipe_manager.%I(%L)',
+            'trg_' || source.table_name || '_version_delete', source.table_name,
+            source.function_name, source.counter);
+    END LOOP;
+END;
+$$;
+
+-- Renaming a shared ingredient or tag changes the child resources of every recipe that uses it
+CREATE OR REPLACE FUNCTION recipe_manager.bump_recipe_versions_for_ingredient()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM recipe_manager.bump_recipe_versions(
+        ARRAY(
+            SELECT DISTINCT ri.recipe_id FROM recipe_manager.recipe_ingredients ri
+            WHERE ri.ingredient_id = NEW.ingredient_id),
+        'ingredients');
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_ingredients_version_rename ON recipe_manager.ingredients;
+CREATE TRIGGER trg_ingredients_version_rename
+    AFTER UPDATE OF name ON recipe_manager.ingredients
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION recipe_manager.bump_recipe_versions_for_ingredient();
+
+CREATE OR REPLACE FUNCTION recipe_manager.bump_recipe_versions_for_tag()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM recipe_manager.bump_recipe_versions(
+        ARRAY(
+            SELECT DISTINCT rtj.recipe_id FROM recipe_manager.recipe_tag_junction rtj
+            WHERE rtj.tag_id = NEW.tag_id),
+        'tags');
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_recipe_tags_version_rename ON recipe_manager.recipe_tags;
+CREATE TRIGGER trg_recipe_tags_version_rename
+    AFTER UPDATE OF name ON recipe_manager.recipe_tags
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION recipe_manager.bump_recipe_versions_for_tag();
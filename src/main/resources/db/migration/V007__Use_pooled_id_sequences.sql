@@ -0,0 +1,69 @@
+-- Pooled ID sequences for JDBC insert batching
+--
+-- Hibernate cannot batch inserts into identity-keyed tables: it has to run each insert on its own
+-- to read back the generated key. The entities now take their IDs from the column's sequence with
+-- a pooled optimizer instead, reserving 50 IDs per nextval() call, so inserts are deferred to
+-- flush and sent in JDBC batches.
+--
+-- For each table this migration:
+--   1. finds the sequence behind the ID column (serial or identity),
+--   2. relaxes GENERATED ALWAYS identities to BY DEFAULT so the application can supply IDs,
+--   3. renames the sequence to the <table>_<column>_seq name the entities reference, if needed,
+--   4. sets INCREMENT BY 50 to match SequenceIds.ALLOCATION_SIZE.
+--
+-- The column defaults keep working for rows inserted outside Hibernate: nextval() always returns
+-- the top of a block, and Hibernate only hands out IDs at or below values it has already drawn,
+-- so the two never collide. Such inserts simply skip ahead by 50.
+
+DO $$
+DECLARE
+    id_column RECORD;
+    sequence_name TEXT;
+    identity_kind TEXT;
+    target_name TEXT;
+BEGIN
+    FOR id_column IN
+        SELECT * FROM (VALUES
+            ('recipes', 'recipe_id'),
+            ('recipe_steps', 'step_id'),
+            ('recipe_revisions', 'revision_id'),
+            ('recipe_comments', 'comment_id'),
+            ('step_comments', 'comment_id'),
+            ('ingredient_comments', 'comment_id'),
+            ('reviews', 'review_id'),
+            ('media', 'media_id'),
+            ('ingredients', 'ingredient_id'),
+            ('recipe_tags', 'tag_id'),
+            ('collection_tags', 'tag_id'),
+            ('recipe_collections', 'collection_id')
+        ) AS t (table_name, column_name)
+    LOOP
+        SELECT c.is_identity_generation INTO identity_kind
+        FROM information_schema.columns c
+        WHERE c.table_schema = 'recipe_manager'
+          AND c.table_name = id_column.table_name
+          AND c.column_name = id_column.column_name;
+
+        IF identity_kind = 'ALWAYS' THEN
+            EXECUTE format(
+                'ALTER TABLE recipe_manager.%I ALTER COLUMN %I SET GENERATED BY DEFAULT',
+                id_column.table_name, id_column.column_name);
+        END IF;
+
+        sequence_name := pg_get_serial_sequence(
+            format('recipe_manager.%I', id_column.table_name), id_column.column_name);
+        IF sequence_name IS NULL THEN
+            RAISE EXCEPTION 'No sequence behind recipe_manager.%.%',
+                id_column.table_name, id_column.column_name;
+        END IF;
+
+        target_name := id_column.table_name || '_' || id_column.column_name || '_seq';
+        IF sequence_name <> format('recipe_manager.%I', target_name) THEN
+            EXECUTE format('ALTER SEQUENCE %s RENAME TO %I', sequence_name, target_name);
+        END IF;
+
+        EXECUTE format(
+            'ALTER SEQUENCE recipe_manager.%I INCREMENT BY 50', target_name);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,101 @@
+-- Case-insensitive uniqueness for ingredient and tag names
+--
+-- Ingredient and tag references are resolved by case-insensitive name and created on demand with
+-- INSERT ... ON CONFLICT DO NOTHING. These indexes are the conflict that makes concurrent creation
+-- of the same name safe: the losing insert skips the row and the follow-up lookup finds the
+-- winner's. They also back the LOWER(name) IN (...) lookups.
+--
+-- Creating an index fails if names already collide case-insensitively, so existing duplicates are
+-- merged first: every reference is repointed to the lowest ID sharing the name and the other rows
+-- are deleted. Where a recipe references several spellings of one name, only its row for the
+-- lowest of their IDs is kept.
+
+-- Ingredients
+CREATE TEMPORARY TABLE ingredient_merges AS
+SELECT ingredient_id AS duplicate_id, canonical_id
+FROM (
+    SELECT ingredient_id, MIN(ingredient_id) OVER (PARTITION BY LOWER(name)) AS canonical_id
+    FROM recipe_manager.ingredients
+) named
+WHERE ingredient_id <> canonical_id;
+
+DELETE FROM recipe_manager.ingredient_media im
+USING ingredient_merges m
+WHERE im.ingredient_id = m.duplicate_id
+  AND EXISTS (
+      SELECT 1
+      FROM recipe_manager.ingredient_media kept
+      LEFT JOIN ingredient_merges km ON km.duplicate_id = kept.ingredient_id
+      WHERE kept.recipe_id = im.recipe_id
+        AND kept.media_id = im.media_id
+        AND COALESCE(km.canonical_id, kept.ingredient_id) = m.canonical_id
+        AND kept.ingredient_id < im.ingredient_id);
+
+DELETE FROM recipe_manager.recipe_ingredients ri
+USING ingredient_merges m
+WHERE ri.ingredient_id = m.duplicate_id
+  AND EXISTS (
+      SELECT 1
+      FROM recipe_manager.recipe_ingredients kept
+      LEFT JOIN ingredient_merges km ON km.duplicate_id = kept.ingredient_id
+      WHERE kept.recipe_id = ri.recipe_id
+        AND COALESCE(km.canonical_id, kept.ingredient_id) = m.canonical_id
+        AND kept.ingredient_id < ri.ingredient_id);
+
+UPDATE recipe_manager.recipe_ingredients ri
+SET ingredient_id = m.canonical_id
+FROM ingredient_merges m
+WHERE ri.ingredient_id = m.duplicate_id;
+
+UPDATE recipe_manager.ingredient_media im
+SET ingredient_id = m.canonical_id
+FROM ingredient_merges m
+WHERE im.ingredient_id = m.duplicate_id;
+
+UPDATE recipe_manager.ingredient_comments ic
+SET ingredient_id = m.canonical_id
+FROM ingredient_merges m
+WHERE ic.ingredient_id = m.duplicate_id;
+
+DELETE FROM recipe_manager.ingredients i
+USING ingredient_merges m
+WHERE i.ingredient_id = m.duplicate_id;
+
+DROP TABLE ingredient_merges;
+
+-- Recipe tags
+CREATE TEMPORARY TABLE recipe_tag_merges AS
+SELECT tag_id AS duplicate_id, canonical_id
+FROM (
+    SELECT tag_id, MIN(tag_id) OVER (PARTITION BY LOWER(name)) AS canonical_id
+    FROM recipe_manager.recipe_tags
+) named
+WHERE tag_id <> canonical_id;
+
+DELETE FROM recipe_manager.recipe_tag_junction rtj
+USING recipe_tag_merges m
+WHERE rtj.tag_id = m.duplicate_id
+  AND EXISTS (
+      SELECT 1
+      FROM recipe_manager.recipe_tag_junction kept
+      LEFT JOIN recipe_tag_merges km ON km.duplicate_id = kept.tag_id
+      WHERE kept.recipe_id = rtj.recipe_id
+        AND COALESCE(km.canonical_id, kept.tag_id) = m.canonical_id
+        AND kept.tag_id < rtj.tag_id);
+
+UPDATE recipe_manager.recipe_tag_junction rtj
+SET tag_id = m.canonical_id
+FROM recipe_tag_merges m
+WHERE rtj.tag_id = m.duplicate_id;
+
+DELETE FROM recipe_manager.recipe_tags t
+USING recipe_tag_merges m
+WHERE t.tag_id = m.duplicate_id;
+
+DROP TABLE recipe_tag_merges;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_ingredients_lower_name
+    ON recipe_manager.ingredients (LOWER(name));
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_recipe_tags_lower_name
+    ON recipe_manager.recipe_tags (LOWER(name));
@@ -0,0 +1,33 @@
+-- Recipe snapshots for point-in-time history
+--
+-- recipe_revisions rows are the deltas of a recipe's ingredients and steps. GET
+-- /recipes/{id}/history?asOf= rebuilds the recipe as of a revision by taking the nearest full
+-- snapshot and replaying the deltas between it and the requested revision. Every delta can also
+-- be undone, so the current recipe acts as a snapshot positioned after its latest revision.
+--
+-- A snapshot holds the ingredients and steps of a recipe right after the revision it references.
+-- Updates write one every app.revisions.snapshot-interval revisions, and a history request that
+-- has to replay more than that many deltas (recipes whose revisions predate this table) stores
+-- the snapshots it passes, so later requests for the same stretch of history are bounded again.
+--
+-- Revisions are ordered by (created_at, revision_id). The snapshot copies its revision's
+-- created_at so that both tables are searched on the same key.
+
+CREATE TABLE IF NOT EXISTS recipe_manager.recipe_snapshots (
+    recipe_id BIGINT NOT NULL
+        REFERENCES recipe_manager.recipes (recipe_id) ON DELETE CASCADE,
+    revision_id BIGINT NOT NULL
+        REFERENCES recipe_manager.recipe_revisions (revision_id) ON DELETE CASCADE,
+    revision_created_at TIMESTAMP NOT NULL,
+    state JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (recipe_id, revision_id)
+);
+
+-- Nearest snapshot at or before / after a revision
+CREATE INDEX IF NOT EXISTS idx_recipe_snapshots_recipe_position
+    ON recipe_manager.recipe_snapshots (recipe_id, revision_created_at DESC, revision_id DESC);
+
+-- GET /recipes/{id}/revisions?cursor= and the delta ranges replayed by history requests
+CREATE INDEX IF NOT EXISTS idx_recipe_revisions_recipe_created_at_revision_id
+    ON recipe_manager.recipe_revisions (recipe_id, created_at DESC, revision_id DESC);
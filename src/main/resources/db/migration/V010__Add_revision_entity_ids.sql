@@ -0,0 +1,33 @@
+-- Step and ingredient IDs on recipe revisions
+--
+-- GET /recipes/{id}/steps/{stepId}/revisions and /ingredients/{ingredientId}/revisions used to
+-- match stepId / ingredientId inside the previous_data and new_data JSONB, which no index covers,
+-- so every revision of the recipe was read and parsed. The IDs now get their own columns, filled
+-- in when a revision is written, and the lookups are range scans of a composite index in the
+-- order the endpoints list revisions.
+
+ALTER TABLE recipe_manager.recipe_revisions
+    ADD COLUMN IF NOT EXISTS step_id BIGINT,
+    ADD COLUMN IF NOT EXISTS ingredient_id BIGINT;
+
+-- Backfill existing revisions. A revision stores the same item in previous_data and new_data;
+-- new_data is preferred in case they ever differ.
+UPDATE recipe_manager.recipe_revisions
+SET step_id = COALESCE(
+        CAST(new_data->>'stepId' AS BIGINT), CAST(previous_data->>'stepId' AS BIGINT))
+WHERE revision_category = 'STEP' AND step_id IS NULL;
+
+UPDATE recipe_manager.recipe_revisions
+SET ingredient_id = COALESCE(
+        CAST(new_data->>'ingredientId' AS BIGINT), CAST(previous_data->>'ingredientId' AS BIGINT))
+WHERE revision_category = 'INGREDIENT' AND ingredient_id IS NULL;
+
+-- GET /recipes/{id}/steps/{stepId}/revisions[?cursor=]
+CREATE INDEX IF NOT EXISTS idx_recipe_revisions_recipe_step_created_at_revision_id
+    ON recipe_manager.recipe_revisions (recipe_id, step_id, created_at DESC, revision_id DESC)
+    WHERE step_id IS NOT NULL;
+
+-- GET /recipes/{id}/ingredients/{ingredientId}/revisions[?cursor=]
+CREATE INDEX IF NOT EXISTS idx_recipe_revisions_recipe_ingredient_created_at_revision_id
+    ON recipe_manager.recipe_revisions (recipe_id, ingredient_id, created_at DESC, revision_id DESC)
+    WHERE ingredient_id IS NOT NULL;
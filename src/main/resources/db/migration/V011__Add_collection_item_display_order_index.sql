@@ -0,0 +1,8 @@
+-- Display order index for recipe collection items
+--
+-- Appending a recipe to a collection reads MAX(display_order) for the collection, and every
+-- listing of a collection's recipes sorts by display_order. Both become a range scan of this
+-- index instead of a read and sort of every item in the collection.
+
+CREATE INDEX IF NOT EXISTS idx_recipe_collection_items_collection_display_order
+    ON recipe_manager.recipe_collection_items (collection_id, display_order);
@@ -0,0 +1,39 @@
+-- Precomputed collection trending scores
+--
+-- The trending collections listing recomputed decayed favorite and recipe-add scores over 30
+-- days of collection_favorites and recipe_collection_items on every request, before filtering by
+-- the caller's access and capping at 100. Scores are now maintained incrementally in the same
+-- way as recipe_trending_scores (V004), sharing its forward-decay epoch in
+-- recipe_trending_state so that one decay pass rescales both tables. The application keeps the
+-- global top of this table in memory and filters it per request.
+--
+-- Weights: favorites 3.0, recipe adds 4.0. Decay rate 0.23/day (~3 day half-life). Events older
+-- than 30 days do not count.
+
+CREATE TABLE IF NOT EXISTS recipe_manager.collection_trending_scores (
+    collection_id BIGINT PRIMARY KEY
+        REFERENCES recipe_manager.recipe_collections (collection_id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_collection_trending_scores_score
+    ON recipe_manager.collection_trending_scores (score DESC, collection_id DESC);
+
+-- Backfill from the last 30 days of events, aggregating each source separately
+INSERT INTO recipe_manager.collection_trending_scores (collection_id, score, updated_at)
+SELECT e.collection_id,
+       SUM(e.weight * EXP(0.23 * EXTRACT(EPOCH FROM (e.occurred_at - s.epoch)) / 86400)),
+       NOW()
+FROM (
+    SELECT cf.collection_id, 3.0 AS weight, cf.favorited_at AS occurred_at
+    FROM recipe_manager.collection_favorites cf
+    WHERE cf.favorited_at > NOW() - INTERVAL '30 days'
+    UNION ALL
+    SELECT rci.collection_id, 4.0, rci.added_at
+    FROM recipe_manager.recipe_collection_items rci
+    WHERE rci.added_at > NOW() - INTERVAL '30 days'
+) e
+CROSS JOIN recipe_manager.recipe_trending_state s
+GROUP BY e.collection_id
+ON CONFLICT (collection_id) DO NOTHING;
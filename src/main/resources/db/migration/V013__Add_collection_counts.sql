@@ -0,0 +1,21 @@
+-- Stored recipe and collaborator counts on recipe_collections
+--
+-- Every collection listing read recipe_count and collaborator_count from vw_collection_summary,
+-- which aggregates recipe_collection_items and collection_collaborators for every collection the
+-- listing touches. The counts are now columns on recipe_collections, kept up to date by the
+-- application in the same transaction that adds or removes an item or collaborator. Rows removed
+-- by foreign-key cascades (deleting a recipe or a user) are picked up by a periodic repair pass
+-- that recomputes the counts from the source tables.
+
+ALTER TABLE recipe_manager.recipe_collections
+    ADD COLUMN IF NOT EXISTS recipe_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS collaborator_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from the current items and collaborators
+UPDATE recipe_manager.recipe_collections c
+SET recipe_count = (
+        SELECT COUNT(*) FROM recipe_manager.recipe_collection_items rci
+        WHERE rci.collection_id = c.collection_id),
+    collaborator_count = (
+        SELECT COUNT(*) FROM recipe_manager.collection_collaborators cc
+        WHERE cc.collection_id = c.collection_id);
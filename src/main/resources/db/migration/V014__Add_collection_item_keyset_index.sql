@@ -0,0 +1,11 @@
+-- Keyset index for paging through a collection's recipes
+--
+-- Collection recipes are now listed a page at a time, ordered by (display_order, recipe_id) and
+-- seeking past the last row of the previous page. Display orders are not unique, so the recipe ID
+-- breaks ties; with it in the index every page is a range scan however deep the client has paged.
+-- The index replaces the (collection_id, display_order) index from V011, which it also serves.
+
+CREATE INDEX IF NOT EXISTS idx_recipe_collection_items_collection_order_recipe
+    ON recipe_manager.recipe_collection_items (collection_id, display_order, recipe_id);
+
+DROP INDEX IF EXISTS recipe_manager.idx_recipe_collection_items_collection_display_order;
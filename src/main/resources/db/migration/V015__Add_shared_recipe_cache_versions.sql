@@ -0,0 +1,12 @@
+-- Record the recipe version of each shared recipe cache entry
+--
+-- GET /recipes/{recipeId} tags its response with an ETag probed from recipes.updated_at and the
+-- recipe_versions counters (V006), while the body could come from a cache entry built before the
+-- latest change. Entries now carry the ETag they were built at and are only read back at that
+-- version, so a cached body always matches the tag it is served with.
+--
+-- Existing entries have no version and are never read again; the purge job drops them once they
+-- expire.
+
+ALTER TABLE recipe_manager.recipe_cache_entries
+    ADD COLUMN IF NOT EXISTS version TEXT;
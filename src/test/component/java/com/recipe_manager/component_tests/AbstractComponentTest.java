@@ -1,5 +1,12 @@
 package com.recipe_manager.component_tests;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.recipe_manager.config.RequestIdFilter;
 import com.recipe_manager.controller.RecipeManagementController;
 import com.recipe_manager.exception.GlobalExceptionHandler;
@@ -26,9 +33,18 @@ import com.recipe_manager.service.RecipeService;
 import com.recipe_manager.service.ReviewService;
 import com.recipe_manager.service.StepService;
 import com.recipe_manager.service.TagService;
+import com.recipe_manager.service.cache.IngredientPriceCache;
+import com.recipe_manager.service.cache.IngredientPriceLoader;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.cache.RecipeVersionService;
 import com.recipe_manager.service.external.RecipeScraperService;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
+import org.hibernate.query.NativeQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -38,6 +54,8 @@ import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import jakarta.persistence.EntityManager;
+
 public abstract class AbstractComponentTest {
   protected MockMvc mockMvc;
 
@@ -91,6 +109,36 @@ public abstract class AbstractComponentTest {
   @Mock
   protected RecipeCommentRepository recipeCommentRepository;
 
+  @Mock
+  protected RecipeFilterIndex recipeFilterIndex;
+
+  @Mock
+  protected TrendingScoreService trendingScoreService;
+
+  // Unstubbed, so every request takes the unconditional path
+  @Mock
+  protected RecipeVersionService recipeVersionService;
+
+  // Backs the reference resolver's insert of missing names; lookups go through the repositories
+  @Mock
+  protected EntityManager entityManager;
+
+  @Mock
+  protected NativeQuery<Object> nativeQuery;
+
+  // Snapshot store for revisions; history is covered by its own unit tests
+  @Mock
+  protected RecipeHistoryService recipeHistoryService;
+
+  // Real resolver over the mocked repositories
+  protected ReferenceDataResolver referenceDataResolver;
+
+  // Real recipe cache, recreated per test so cached DTOs never leak between tests
+  protected RecipeCacheService recipeCacheService;
+
+  // Real price cache over the mocked scraper, so stubbed responses price the shopping lists
+  protected IngredientPriceCache ingredientPriceCache;
+
   // Real mappers for component testing
   @Autowired(required = false)
   protected RecipeMapper recipeMapper;
@@ -131,18 +179,28 @@ public abstract class AbstractComponentTest {
   @BeforeEach
   protected void setUp() {
     MockitoAnnotations.openMocks(this);
+    recipeCacheService = new RecipeCacheService(Caffeine.newBuilder().build(), Optional.empty());
+    ingredientPriceCache =
+        new IngredientPriceCache(
+            Caffeine.newBuilder().build(),
+            new IngredientPriceLoader(recipeScraperService, Duration.ofDays(1), null));
+    when(entityManager.createNativeQuery(anyString())).thenReturn(nativeQuery);
+    when(nativeQuery.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+    referenceDataResolver =
+        new ReferenceDataResolver(ingredientRepository, recipeTagRepository, entityManager);
 
     // Create real service instances for repository-level component testing
     if (recipeMapper != null && recipeRevisionMapper != null) {
       realRecipeService = new RecipeService(
           recipeRepository, ingredientRepository, recipeTagRepository, recipeRevisionRepository, recipeMapper,
           recipeRevisionMapper, recipeStepMapper, recipeCommentRepository, recipeCommentMapper,
-          notificationService);
+          notificationService, recipeFilterIndex, trendingScoreService, recipeCacheService,
+          referenceDataResolver, recipeHistoryService);
     }
     if (recipeIngredientMapper != null && recipeRevisionMapper != null) {
       realIngredientService = new IngredientService(recipeIngredientRepository,
           ingredientCommentRepository, recipeRepository, recipeRevisionRepository, recipeIngredientMapper,
-          ingredientCommentMapper, recipeRevisionMapper, shoppingListMapper, recipeScraperService,
+          ingredientCommentMapper, recipeRevisionMapper, shoppingListMapper, ingredientPriceCache,
           notificationService);
     }
     if (stepCommentMapper != null && recipeStepMapper != null && recipeRevisionMapper != null) {
@@ -151,7 +209,8 @@ public abstract class AbstractComponentTest {
           notificationService);
     }
     if (recipeTagMapper != null) {
-      realTagService = new TagService(recipeRepository, recipeTagRepository, recipeTagMapper);
+      realTagService = new TagService(recipeRepository, recipeTagRepository, recipeTagMapper,
+          recipeFilterIndex, recipeCacheService, referenceDataResolver);
     }
 
     mockMvc = MockMvcBuilders.standaloneSetup(controller)
@@ -49,7 +49,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -89,8 +92,14 @@ class AddCollaboratorTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -137,7 +146,10 @@ class AddCollaboratorTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -48,7 +48,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -88,8 +91,14 @@ class AddRecipeToCollectionTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -130,7 +139,10 @@ class AddRecipeToCollectionTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -171,7 +183,7 @@ class AddRecipeToCollectionTest {
             .addedAt(LocalDateTime.now())
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
     when(recipeCollectionItemRepository.findMaxDisplayOrderByCollectionId(collectionId))
@@ -193,7 +205,7 @@ class AddRecipeToCollectionTest {
         .andExpect(jsonPath("$.displayOrder").value(10))
         .andExpect(jsonPath("$.addedBy").value(testUserId.toString()));
 
-    verify(recipeCollectionRepository).findById(collectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
     verify(recipeCollectionItemRepository).save(any(RecipeCollectionItem.class));
   }
 
@@ -225,7 +237,7 @@ class AddRecipeToCollectionTest {
             .addedAt(LocalDateTime.now())
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
     when(recipeCollectionItemRepository.findMaxDisplayOrderByCollectionId(collectionId))
@@ -255,7 +267,7 @@ class AddRecipeToCollectionTest {
     Long nonExistentCollectionId = 999L;
     Long recipeId = 100L;
 
-    when(recipeCollectionRepository.findById(nonExistentCollectionId))
+    when(recipeCollectionRepository.findByIdForUpdate(nonExistentCollectionId))
         .thenReturn(Optional.empty());
 
     // When/Then
@@ -269,7 +281,7 @@ class AddRecipeToCollectionTest {
         .andExpect(jsonPath("$.error").value("Resource not found"))
         .andExpect(jsonPath("$.message").value("Collection not found"));
 
-    verify(recipeCollectionRepository).findById(nonExistentCollectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(nonExistentCollectionId);
   }
 
   @Test
@@ -289,7 +301,7 @@ class AddRecipeToCollectionTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY) // Only owner can edit
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
 
     // When/Then
     mockMvc
@@ -298,7 +310,7 @@ class AddRecipeToCollectionTest {
         .andExpect(jsonPath("$.error").value("Access denied"))
         .andExpect(jsonPath("$.message").value("You don't have permission to access this resource"));
 
-    verify(recipeCollectionRepository).findById(collectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
   }
 
   @Test
@@ -317,7 +329,7 @@ class AddRecipeToCollectionTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(true); // Recipe already exists
 
@@ -358,7 +370,7 @@ class AddRecipeToCollectionTest {
             .addedBy(testUserId)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
     when(recipeCollectionItemRepository.findMaxDisplayOrderByCollectionId(collectionId))
@@ -407,7 +419,7 @@ class AddRecipeToCollectionTest {
             .addedBy(testUserId)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
     when(recipeCollectionItemRepository.findMaxDisplayOrderByCollectionId(collectionId))
@@ -456,9 +468,8 @@ class AddRecipeToCollectionTest {
             .addedBy(testUserId)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collectionId, testUserId))
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(true); // User is a collaborator
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -481,8 +492,7 @@ class AddRecipeToCollectionTest {
         .andExpect(jsonPath("$.collectionId").value(collectionId))
         .andExpect(jsonPath("$.recipeId").value(recipeId));
 
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
   }
 
   @Test
@@ -501,9 +511,8 @@ class AddRecipeToCollectionTest {
             .collaborationMode(CollaborationMode.SPECIFIC_USERS)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collectionId, testUserId))
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(false); // User is NOT a collaborator
 
     // When/Then
@@ -512,7 +521,6 @@ class AddRecipeToCollectionTest {
         .andExpect(status().isForbidden())
         .andExpect(jsonPath("$.error").value("Access denied"));
 
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
   }
 }
@@ -43,7 +43,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -83,8 +86,14 @@ class DeleteCollectionTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -125,7 +134,10 @@ class DeleteCollectionTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -44,7 +44,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -90,8 +93,14 @@ class GetCollaboratorsTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   private CollectionService collectionService;
@@ -130,7 +139,10 @@ class GetCollaboratorsTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
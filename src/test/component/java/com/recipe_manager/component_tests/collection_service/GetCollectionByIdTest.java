@@ -23,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -43,13 +44,17 @@ import com.recipe_manager.model.mapper.CollectionMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionItemMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionMapper;
 import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
 import com.recipe_manager.repository.collection.CollectionTagRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionItemRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -89,8 +94,14 @@ class GetCollectionByIdTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -131,7 +142,10 @@ class GetCollectionByIdTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -149,9 +163,10 @@ class GetCollectionByIdTest {
     Long collectionId = 1L;
     RecipeCollection collection = createTestCollectionWithRecipes(collectionId, testUserId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -170,6 +185,7 @@ class GetCollectionByIdTest {
         .andExpect(jsonPath("$.recipes[0].recipeTitle").value("Test Recipe"))
         .andExpect(jsonPath("$.recipes[0].recipeDescription").value("Test Description"))
         .andExpect(jsonPath("$.recipes[0].displayOrder").value(10))
+        .andExpect(jsonPath("$.recipesNextCursor").doesNotExist())
         .andExpect(jsonPath("$.createdAt").exists())
         .andExpect(jsonPath("$.updatedAt").exists());
   }
@@ -183,9 +199,10 @@ class GetCollectionByIdTest {
     RecipeCollection collection =
         createTestCollectionWithRecipes(collectionId, otherUserId); // Owned by different user
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -203,7 +220,7 @@ class GetCollectionByIdTest {
     // Given
     Long collectionId = 3L;
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(false);
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(false);
 
     // When & Then
     mockMvc
@@ -220,9 +237,8 @@ class GetCollectionByIdTest {
     // Given
     Long collectionId = 999L;
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.empty());
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.empty());
 
     // When & Then
     mockMvc
@@ -252,9 +268,10 @@ class GetCollectionByIdTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -276,9 +293,10 @@ class GetCollectionByIdTest {
     Long collectionId = 5L;
     RecipeCollection collection = createTestCollectionWithMultipleRecipes(collectionId, testUserId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -314,9 +332,10 @@ class GetCollectionByIdTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -346,9 +365,10 @@ class GetCollectionByIdTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -367,9 +387,10 @@ class GetCollectionByIdTest {
     Long collectionId = 8L;
     RecipeCollection collection = createTestCollectionWithRecipes(collectionId, testUserId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
-        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionItemRepository.findRecipePage(eq(collectionId), any(Pageable.class)))
+        .thenReturn(toRecipeRows(collection));
 
     // When & Then
     mockMvc
@@ -387,6 +408,45 @@ class GetCollectionByIdTest {
         .andExpect(jsonPath("$.updatedAt").exists());
   }
 
+  private List<CollectionRecipeProjection> toRecipeRows(RecipeCollection collection) {
+    List<CollectionRecipeProjection> rows = new ArrayList<>();
+    for (RecipeCollectionItem item : collection.getCollectionItems()) {
+      rows.add(
+          new CollectionRecipeProjection() {
+            @Override
+            public Long getRecipeId() {
+              return item.getId().getRecipeId();
+            }
+
+            @Override
+            public String getRecipeTitle() {
+              return item.getRecipe().getTitle();
+            }
+
+            @Override
+            public String getRecipeDescription() {
+              return item.getRecipe().getDescription();
+            }
+
+            @Override
+            public Integer getDisplayOrder() {
+              return item.getDisplayOrder();
+            }
+
+            @Override
+            public UUID getAddedBy() {
+              return item.getAddedBy();
+            }
+
+            @Override
+            public LocalDateTime getAddedAt() {
+              return item.getAddedAt();
+            }
+          });
+    }
+    return rows;
+  }
+
   private RecipeCollection createTestCollectionWithRecipes(Long collectionId, UUID ownerId) {
     Recipe recipe =
         Recipe.builder().recipeId(1L).title("Test Recipe").description("Test Description").build();
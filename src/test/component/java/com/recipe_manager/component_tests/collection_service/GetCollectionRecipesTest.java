@@ -0,0 +1,269 @@
+package com.recipe_manager.component_tests.collection_service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.recipe_manager.config.RequestIdFilter;
+import com.recipe_manager.controller.CollectionController;
+import com.recipe_manager.exception.GlobalExceptionHandler;
+import com.recipe_manager.model.mapper.CollectionMapper;
+import com.recipe_manager.model.mapper.RecipeCollectionItemMapper;
+import com.recipe_manager.model.mapper.RecipeCollectionMapper;
+import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
+import com.recipe_manager.repository.collection.CollectionTagRepository;
+import com.recipe_manager.repository.collection.RecipeCollectionItemRepository;
+import com.recipe_manager.repository.collection.RecipeCollectionRepository;
+import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.service.CollectionService;
+import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
+import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.CollectionItemCursor;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Component test for GET /collections/{collectionId}/recipes endpoint.
+ *
+ * <p>Tests the integration between CollectionController, CollectionService, and CollectionMapper
+ * with mocked repository layer.
+ */
+@Tag("component")
+@SpringBootTest(
+    classes = {
+      com.recipe_manager.model.mapper.CollectionMapperImpl.class,
+      com.recipe_manager.model.mapper.RecipeCollectionMapperImpl.class,
+      com.recipe_manager.model.mapper.RecipeCollectionItemMapperImpl.class,
+      com.recipe_manager.model.mapper.CollectionCollaboratorMapperImpl.class
+    })
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:testdb",
+      "spring.jpa.hibernate.ddl-auto=none",
+      "spring.flyway.enabled=false"
+    })
+class GetCollectionRecipesTest {
+
+  private MockMvc mockMvc;
+
+  @Mock private RecipeCollectionRepository recipeCollectionRepository;
+
+  @Mock private RecipeCollectionItemRepository recipeCollectionItemRepository;
+
+  @Mock private CollectionCollaboratorRepository collectionCollaboratorRepository;
+
+  @Mock private CollectionTagRepository collectionTagRepository;
+
+  @Mock private RecipeRepository recipeRepository;
+
+  @Mock private NotificationService notificationService;
+
+  @Mock private TrendingScoreService trendingScoreService;
+
+  @Mock private EntityManager entityManager;
+
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
+  @Mock private CollectionTagService collectionTagService;
+
+  @Autowired private CollectionMapper collectionMapper;
+
+  @Autowired private RecipeCollectionMapper recipeCollectionMapper;
+
+  @Autowired private RecipeCollectionItemMapper recipeCollectionItemMapper;
+
+  private CollectionService collectionService;
+  private CollectionController collectionController;
+
+  private UUID testUserId;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    // Set up security context with test user ID
+    SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(
+            testUserId.toString(), null, Collections.emptyList());
+    securityContext.setAuthentication(authentication);
+    SecurityContextHolder.setContext(securityContext);
+
+    // Create real service with mocked repository
+    collectionService =
+        new CollectionService(
+            recipeCollectionRepository,
+            recipeCollectionItemRepository,
+            collectionCollaboratorRepository,
+            collectionTagRepository,
+            collectionMapper,
+            recipeCollectionMapper,
+            recipeCollectionItemMapper,
+            recipeRepository,
+            notificationService,
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
+    collectionController = new CollectionController(collectionService, collectionTagService);
+
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(collectionController)
+            .addFilters(new RequestIdFilter())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+  }
+
+  @Test
+  @DisplayName("Should return the first page of recipes with a cursor to the next page")
+  @Tag("standard-processing")
+  void shouldReturnFirstPageWithNextCursor() throws Exception {
+    // Given
+    Long collectionId = 1L;
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionItemRepository.findRecipePage(collectionId, PageRequest.of(0, 3)))
+        .thenReturn(List.of(recipeRow(1L, 10), recipeRow(2L, 20), recipeRow(3L, 30)));
+
+    // When & Then
+    mockMvc
+        .perform(get("/collections/{collectionId}/recipes", collectionId).param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.collectionId").value(collectionId))
+        .andExpect(jsonPath("$.recipes.length()").value(2))
+        .andExpect(jsonPath("$.recipes[0].recipeId").value(1))
+        .andExpect(jsonPath("$.recipes[0].recipeTitle").value("Recipe 1"))
+        .andExpect(jsonPath("$.recipes[0].displayOrder").value(10))
+        .andExpect(jsonPath("$.recipes[1].recipeId").value(2))
+        .andExpect(jsonPath("$.nextCursor").value(CollectionItemCursor.of(20, 2L).encode()));
+  }
+
+  @Test
+  @DisplayName("Should seek past the cursor and omit the cursor on the last page")
+  @Tag("standard-processing")
+  void shouldSeekPastCursorOnLastPage() throws Exception {
+    // Given
+    Long collectionId = 2L;
+    String cursor = CollectionItemCursor.of(20, 2L).encode();
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionItemRepository.findRecipePageAfter(
+            collectionId, 20, 2L, PageRequest.of(0, 3)))
+        .thenReturn(List.of(recipeRow(3L, 30)));
+
+    // When & Then
+    mockMvc
+        .perform(
+            get("/collections/{collectionId}/recipes", collectionId)
+                .param("cursor", cursor)
+                .param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.recipes.length()").value(1))
+        .andExpect(jsonPath("$.recipes[0].recipeId").value(3))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+    verify(recipeCollectionItemRepository, never()).findRecipePage(any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when user has no view access")
+  @Tag("error-handling")
+  void shouldReturn404WhenUserHasNoViewAccess() throws Exception {
+    // Given
+    Long collectionId = 3L;
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(false);
+
+    // When & Then
+    mockMvc
+        .perform(get("/collections/{collectionId}/recipes", collectionId))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Collection not found or access denied"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 for a malformed cursor")
+  @Tag("error-handling")
+  void shouldReturn400ForMalformedCursor() throws Exception {
+    // Given
+    Long collectionId = 4L;
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+
+    // When & Then
+    mockMvc
+        .perform(
+            get("/collections/{collectionId}/recipes", collectionId)
+                .param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private CollectionRecipeProjection recipeRow(Long recipeId, int displayOrder) {
+    return new CollectionRecipeProjection() {
+      @Override
+      public Long getRecipeId() {
+        return recipeId;
+      }
+
+      @Override
+      public String getRecipeTitle() {
+        return "Recipe " + recipeId;
+      }
+
+      @Override
+      public String getRecipeDescription() {
+        return null;
+      }
+
+      @Override
+      public Integer getDisplayOrder() {
+        return displayOrder;
+      }
+
+      @Override
+      public UUID getAddedBy() {
+        return testUserId;
+      }
+
+      @Override
+      public LocalDateTime getAddedAt() {
+        return LocalDateTime.now();
+      }
+    };
+  }
+}
@@ -49,7 +49,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -89,8 +92,14 @@ class GetCollectionsTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -128,7 +137,10 @@ class GetCollectionsTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -150,7 +162,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(projections, pageable, 2);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
@@ -182,7 +194,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> emptyPage =
         new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(emptyPage);
 
     // When & Then
@@ -210,7 +222,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(projections, Pageable.ofSize(5), 10);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
@@ -233,7 +245,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(projections, Pageable.ofSize(10).withPage(1), 25);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
@@ -257,7 +269,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(Arrays.asList(projection), pageable, 1);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
@@ -278,7 +290,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(Arrays.asList(projection), pageable, 1);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
@@ -300,7 +312,7 @@ class GetCollectionsTest {
     Page<CollectionSummaryProjection> projectionPage =
         new PageImpl<>(Arrays.asList(projection), pageable, 1);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When & Then
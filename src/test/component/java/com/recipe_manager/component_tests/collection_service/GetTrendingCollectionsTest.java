@@ -1,6 +1,8 @@
 package com.recipe_manager.component_tests.collection_service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -11,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +23,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -47,7 +47,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -87,8 +90,14 @@ class GetTrendingCollectionsTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -127,7 +136,10 @@ class GetTrendingCollectionsTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -143,13 +155,8 @@ class GetTrendingCollectionsTest {
   @Tag("standard-processing")
   void shouldGetTrendingCollectionsSuccessfully() throws Exception {
     // Given
-    Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 20);
-    List<RecipeCollection> collections =
-        Arrays.asList(createTestCollection(1L), createTestCollection(2L));
-    Page<RecipeCollection> collectionPage = new PageImpl<>(collections, pageable, 2);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(collectionPage);
+    givenTrending(
+        List.of(1L, 2L), Arrays.asList(createTestCollection(1L), createTestCollection(2L)));
 
     // When & Then
     mockMvc
@@ -174,11 +181,7 @@ class GetTrendingCollectionsTest {
   @Tag("standard-processing")
   void shouldReturnEmptyPageWhenNoTrendingCollections() throws Exception {
     // Given
-    Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 20);
-    Page<RecipeCollection> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(emptyPage);
+    givenTrending(Collections.emptyList(), Collections.emptyList());
 
     // When & Then
     mockMvc
@@ -202,10 +205,7 @@ class GetTrendingCollectionsTest {
             createTestCollection(3L),
             createTestCollection(4L),
             createTestCollection(5L));
-    Page<RecipeCollection> collectionPage = new PageImpl<>(collections, Pageable.ofSize(5), 10);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(collectionPage);
+    givenTrending(LongStream.rangeClosed(1, 10).boxed().toList(), collections);
 
     // When & Then
     mockMvc
@@ -223,18 +223,15 @@ class GetTrendingCollectionsTest {
   void shouldHandleSecondPageRequest() throws Exception {
     // Given
     List<RecipeCollection> collections =
-        Arrays.asList(createTestCollection(11L), createTestCollection(12L));
-    Page<RecipeCollection> collectionPage =
-        new PageImpl<>(collections, Pageable.ofSize(10).withPage(1), 25);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(collectionPage);
+        LongStream.rangeClosed(11, 20).mapToObj(this::createTestCollection).toList();
+    givenTrending(LongStream.rangeClosed(1, 25).boxed().toList(), collections);
 
     // When & Then
     mockMvc
         .perform(get("/collections/trending").param("page", "1").param("size", "10"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.content.length()").value(10))
+        .andExpect(jsonPath("$.content[0].collectionId").value(11))
         .andExpect(jsonPath("$.number").value(1))
         .andExpect(jsonPath("$.first").value(false))
         .andExpect(jsonPath("$.totalPages").value(3));
@@ -245,12 +242,7 @@ class GetTrendingCollectionsTest {
   @Tag("standard-processing")
   void shouldMapAllCollectionFieldsCorrectly() throws Exception {
     // Given
-    Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 20);
-    RecipeCollection collection = createTestCollection(123L);
-    Page<RecipeCollection> collectionPage = new PageImpl<>(List.of(collection), pageable, 1);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(collectionPage);
+    givenTrending(List.of(123L), List.of(createTestCollection(123L)));
 
     // When & Then
     mockMvc
@@ -273,11 +265,7 @@ class GetTrendingCollectionsTest {
   @Tag("standard-processing")
   void shouldUseDefaultPageSizeWhenNotSpecified() throws Exception {
     // Given
-    Page<RecipeCollection> emptyPage =
-        new PageImpl<>(Collections.emptyList(), Pageable.ofSize(20), 0);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(emptyPage);
+    givenTrending(Collections.emptyList(), Collections.emptyList());
 
     // When & Then
     mockMvc
@@ -286,6 +274,36 @@ class GetTrendingCollectionsTest {
         .andExpect(jsonPath("$.size").value(20));
   }
 
+  @Test
+  @DisplayName("Should list only the trending collections the user can view, in ranking order")
+  @Tag("standard-processing")
+  void shouldFilterRankingThroughAccessCheck() throws Exception {
+    // Given
+    List<Long> ranking = List.of(3L, 2L, 1L);
+    when(trendingCollectionRanking.getRanking()).thenReturn(ranking);
+    when(collectionAccessCache.filterViewable(ranking, testUserId, 100))
+        .thenReturn(List.of(3L, 1L));
+    when(recipeCollectionRepository.findAllById(List.of(3L, 1L)))
+        .thenReturn(List.of(createTestCollection(1L), createTestCollection(3L)));
+
+    // When & Then
+    mockMvc
+        .perform(get("/collections/trending"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.content[0].collectionId").value(3))
+        .andExpect(jsonPath("$.content[1].collectionId").value(1))
+        .andExpect(jsonPath("$.totalElements").value(2));
+  }
+
+  private void givenTrending(
+      final List<Long> viewableIds, final List<RecipeCollection> pageCollections) {
+    when(trendingCollectionRanking.getRanking()).thenReturn(viewableIds);
+    when(collectionAccessCache.filterViewable(eq(viewableIds), any(UUID.class), anyInt()))
+        .thenReturn(viewableIds);
+    when(recipeCollectionRepository.findAllById(any())).thenReturn(pageCollections);
+  }
+
   private RecipeCollection createTestCollection(Long collectionId) {
     return RecipeCollection.builder()
         .collectionId(collectionId)
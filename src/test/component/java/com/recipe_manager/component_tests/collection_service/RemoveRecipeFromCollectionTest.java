@@ -42,7 +42,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -82,8 +85,14 @@ class RemoveRecipeFromCollectionTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -124,7 +133,10 @@ class RemoveRecipeFromCollectionTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -326,8 +338,7 @@ class RemoveRecipeFromCollectionTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(true); // User is a collaborator
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(true);
@@ -337,8 +348,7 @@ class RemoveRecipeFromCollectionTest {
         .perform(delete("/collections/{collectionId}/recipes/{recipeId}", collectionId, recipeId))
         .andExpect(status().isNoContent());
 
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
     verify(recipeCollectionItemRepository)
         .deleteByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
   }
@@ -360,8 +370,7 @@ class RemoveRecipeFromCollectionTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(false); // User is NOT a collaborator
 
     // When/Then
@@ -370,7 +379,6 @@ class RemoveRecipeFromCollectionTest {
         .andExpect(status().isForbidden())
         .andExpect(jsonPath("$.error").value("Access denied"));
 
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
   }
 }
@@ -1,6 +1,7 @@
 package com.recipe_manager.component_tests.collection_service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -8,9 +9,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -44,13 +49,17 @@ import com.recipe_manager.model.mapper.CollectionMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionItemMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionMapper;
 import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
 import com.recipe_manager.repository.collection.CollectionTagRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionItemRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -90,8 +99,14 @@ class ReorderRecipesTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -134,7 +149,10 @@ class ReorderRecipesTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -200,21 +218,17 @@ class ReorderRecipesTest {
         ReorderRecipesRequest.builder().recipes(Arrays.asList(order1, order2)).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionId(collectionId))
-        .thenReturn(Arrays.asList(item1, item2));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId1))
-        .thenReturn(Optional.of(item1));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId2))
-        .thenReturn(Optional.of(item2));
-    when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
-
-    // Update display orders
+    when(recipeCollectionItemRepository.updateDisplayOrders(
+            collectionId, Map.of(recipeId1, 5, recipeId2, 10)))
+        .thenReturn(2);
+
+    // Display orders as reloaded after the update
     item1.setDisplayOrder(5);
     item2.setDisplayOrder(10);
 
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(Arrays.asList(item1, item2));
+    when(recipeCollectionItemRepository.findRecipesByIds(
+            collectionId, Set.of(recipeId1, recipeId2)))
+        .thenReturn(toRecipeRows(Arrays.asList(item1, item2)));
 
     // When/Then
     mockMvc
@@ -233,7 +247,12 @@ class ReorderRecipesTest {
         .andExpect(jsonPath("$[1].recipeTitle").value("Recipe 2"));
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(recipeCollectionItemRepository).findByIdCollectionIdWithRecipe(collectionId);
+    verify(recipeCollectionItemRepository)
+        .updateDisplayOrders(collectionId, Map.of(recipeId1, 5, recipeId2, 10));
+    verify(recipeCollectionItemRepository)
+        .findRecipesByIds(collectionId, Set.of(recipeId1, recipeId2));
+    verify(recipeCollectionItemRepository, never()).findByIdCollectionIdWithRecipe(any());
+    verify(recipeCollectionItemRepository, never()).save(any(RecipeCollectionItem.class));
   }
 
   @Test
@@ -344,7 +363,6 @@ class ReorderRecipesTest {
   void shouldReturn404WhenRecipeNotInCollection() throws Exception {
     // Given
     Long collectionId = 4L;
-    Long existingRecipeId = 1L;
     Long nonExistentRecipeId = 999L;
 
     RecipeCollection collection =
@@ -355,15 +373,6 @@ class ReorderRecipesTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY)
             .build();
 
-    RecipeCollectionItemId itemId1 =
-        RecipeCollectionItemId.builder()
-            .collectionId(collectionId)
-            .recipeId(existingRecipeId)
-            .build();
-
-    RecipeCollectionItem item1 =
-        RecipeCollectionItem.builder().id(itemId1).displayOrder(10).addedBy(testUserId).build();
-
     ReorderRecipesRequest.RecipeOrder order1 =
         ReorderRecipesRequest.RecipeOrder.builder()
             .recipeId(nonExistentRecipeId)
@@ -374,8 +383,12 @@ class ReorderRecipesTest {
         ReorderRecipesRequest.builder().recipes(Collections.singletonList(order1)).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionId(collectionId))
-        .thenReturn(Collections.singletonList(item1));
+    when(recipeCollectionItemRepository.updateDisplayOrders(
+            collectionId, Map.of(nonExistentRecipeId, 10)))
+        .thenReturn(0);
+    when(recipeCollectionItemRepository.findRecipesByIds(
+            collectionId, Set.of(nonExistentRecipeId)))
+        .thenReturn(Collections.emptyList());
 
     // When/Then
     mockMvc
@@ -388,7 +401,7 @@ class ReorderRecipesTest {
         .andExpect(jsonPath("$.message").value("Recipe with ID 999 not found in this collection"));
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(recipeCollectionItemRepository).findByIdCollectionId(collectionId);
+    verify(recipeCollectionItemRepository).updateDisplayOrders(collectionId, Map.of(999L, 10));
   }
 
   @Test
@@ -427,17 +440,13 @@ class ReorderRecipesTest {
         ReorderRecipesRequest.builder().recipes(Collections.singletonList(order1)).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionId(collectionId))
-        .thenReturn(Collections.singletonList(item));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
-        .thenReturn(Optional.of(item));
-    when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(recipeCollectionItemRepository.updateDisplayOrders(collectionId, Map.of(recipeId, 15)))
+        .thenReturn(1);
 
     item.setDisplayOrder(15);
 
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(Collections.singletonList(item));
+    when(recipeCollectionItemRepository.findRecipesByIds(collectionId, Set.of(recipeId)))
+        .thenReturn(toRecipeRows(Collections.singletonList(item)));
 
     // When/Then
     mockMvc
@@ -451,4 +460,43 @@ class ReorderRecipesTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
   }
+
+  private List<CollectionRecipeProjection> toRecipeRows(List<RecipeCollectionItem> items) {
+    List<CollectionRecipeProjection> rows = new ArrayList<>();
+    for (RecipeCollectionItem item : items) {
+      rows.add(
+          new CollectionRecipeProjection() {
+            @Override
+            public Long getRecipeId() {
+              return item.getId().getRecipeId();
+            }
+
+            @Override
+            public String getRecipeTitle() {
+              return item.getRecipe().getTitle();
+            }
+
+            @Override
+            public String getRecipeDescription() {
+              return item.getRecipe().getDescription();
+            }
+
+            @Override
+            public Integer getDisplayOrder() {
+              return item.getDisplayOrder();
+            }
+
+            @Override
+            public UUID getAddedBy() {
+              return item.getAddedBy();
+            }
+
+            @Override
+            public LocalDateTime getAddedAt() {
+              return item.getAddedAt();
+            }
+          });
+    }
+    return rows;
+  }
 }
@@ -10,7 +10,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -51,7 +50,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.CollectionTagService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 
 import jakarta.persistence.EntityManager;
 
@@ -91,8 +93,14 @@ class UpdateRecipeOrderTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock private CollectionTagService collectionTagService;
 
   @Autowired private CollectionMapper collectionMapper;
@@ -135,7 +143,10 @@ class UpdateRecipeOrderTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     collectionController = new CollectionController(collectionService, collectionTagService);
 
     mockMvc =
@@ -174,18 +185,10 @@ class UpdateRecipeOrderTest {
             .build();
 
     RecipeCollectionItem item =
-        RecipeCollectionItem.builder()
-            .id(itemId)
-            .displayOrder(10) // Old order
-            .addedBy(testUserId)
-            .addedAt(LocalDateTime.now())
-            .build();
-
-    RecipeCollectionItem updatedItem =
         RecipeCollectionItem.builder()
             .id(itemId)
             .recipe(recipe)
-            .displayOrder(newDisplayOrder)
+            .displayOrder(10) // Old order
             .addedBy(testUserId)
             .addedAt(LocalDateTime.now())
             .build();
@@ -194,11 +197,10 @@ class UpdateRecipeOrderTest {
         UpdateRecipeOrderRequest.builder().displayOrder(newDisplayOrder).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
+    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeIdWithRecipe(
+            collectionId, recipeId))
         .thenReturn(Optional.of(item));
     when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class))).thenReturn(item);
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(List.of(updatedItem));
 
     // When & Then
     mockMvc
@@ -214,7 +216,7 @@ class UpdateRecipeOrderTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
     verify(recipeCollectionItemRepository)
-        .findByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
+        .findByIdCollectionIdAndIdRecipeIdWithRecipe(collectionId, recipeId);
     verify(recipeCollectionItemRepository).save(any(RecipeCollectionItem.class));
   }
 
@@ -246,18 +248,10 @@ class UpdateRecipeOrderTest {
             .build();
 
     RecipeCollectionItem item =
-        RecipeCollectionItem.builder()
-            .id(itemId)
-            .displayOrder(10)
-            .addedBy(otherUserId)
-            .addedAt(LocalDateTime.now())
-            .build();
-
-    RecipeCollectionItem updatedItem =
         RecipeCollectionItem.builder()
             .id(itemId)
             .recipe(recipe)
-            .displayOrder(newDisplayOrder)
+            .displayOrder(10)
             .addedBy(otherUserId)
             .addedAt(LocalDateTime.now())
             .build();
@@ -266,11 +260,10 @@ class UpdateRecipeOrderTest {
         UpdateRecipeOrderRequest.builder().displayOrder(newDisplayOrder).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
+    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeIdWithRecipe(
+            collectionId, recipeId))
         .thenReturn(Optional.of(item));
     when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class))).thenReturn(item);
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(List.of(updatedItem));
 
     // When & Then
     mockMvc
@@ -326,7 +319,8 @@ class UpdateRecipeOrderTest {
         UpdateRecipeOrderRequest.builder().displayOrder(15).build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
+    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeIdWithRecipe(
+            collectionId, recipeId))
         .thenReturn(Optional.empty());
 
     // When & Then
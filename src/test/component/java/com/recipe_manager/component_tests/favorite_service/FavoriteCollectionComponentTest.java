@@ -39,6 +39,7 @@ import com.recipe_manager.repository.collection.CollectionFavoriteRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeFavoriteRepository;
 import com.recipe_manager.service.FavoriteService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.util.SecurityUtils;
 
 /**
@@ -71,6 +72,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
   private UserManagementClient userManagementClient;
   private CollectionFavoriteRepository collectionFavoriteRepository;
   private RecipeCollectionRepository recipeCollectionRepository;
+  private CollectionAccessCache collectionAccessCache;
 
   @Autowired(required = false)
   private RecipeFavoriteMapper recipeFavoriteMapper;
@@ -101,6 +103,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
     this.userManagementClient = Mockito.mock(UserManagementClient.class);
     this.collectionFavoriteRepository = Mockito.mock(CollectionFavoriteRepository.class);
     this.recipeCollectionRepository = Mockito.mock(RecipeCollectionRepository.class);
+    this.collectionAccessCache = Mockito.mock(CollectionAccessCache.class);
 
     if (collectionFavoriteMapper == null) {
       throw new RuntimeException("CollectionFavoriteMapper not available in test context");
@@ -117,7 +120,11 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
             testRecipeMapper,
             collectionFavoriteMapper,
             collectionMapper,
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            collectionAccessCache,
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     // Create controller
     this.favoriteController = new FavoriteController(favoriteService);
@@ -142,7 +149,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
+    when(collectionAccessCache.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
     when(collectionFavoriteRepository.save(any(CollectionFavorite.class)))
         .thenReturn(savedFavorite);
 
@@ -230,7 +237,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, testUserId)).thenReturn(false);
+    when(collectionAccessCache.hasViewAccess(testCollectionId, testUserId)).thenReturn(false);
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock =
@@ -242,7 +249,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
           .andExpect(status().isForbidden());
     }
 
-    verify(recipeCollectionRepository).hasViewAccess(testCollectionId, testUserId);
+    verify(collectionAccessCache).hasViewAccess(testCollectionId, testUserId);
   }
 
   @Test
@@ -258,7 +265,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
+    when(collectionAccessCache.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
     when(collectionFavoriteRepository.save(any(CollectionFavorite.class)))
         .thenReturn(savedFavorite);
 
@@ -294,7 +301,7 @@ class FavoriteCollectionComponentTest extends AbstractComponentTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
+    when(collectionAccessCache.hasViewAccess(testCollectionId, testUserId)).thenReturn(true);
     when(collectionFavoriteRepository.save(any(CollectionFavorite.class)))
         .thenReturn(savedFavorite);
 
@@ -132,7 +132,11 @@ class GetFavoriteCollectionsComponentTest extends AbstractComponentTest {
             testRecipeMapper,
             collectionFavoriteMapper,
             collectionMapper,
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            Mockito.mock(com.recipe_manager.service.cache.CollectionAccessCache.class),
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     // Create controller
     this.favoriteController = new FavoriteController(favoriteService);
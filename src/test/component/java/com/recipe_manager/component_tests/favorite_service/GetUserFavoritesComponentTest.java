@@ -110,7 +110,11 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
             recipeFavoriteMapper, testRecipeMapper,
             Mockito.mock(com.recipe_manager.model.mapper.CollectionFavoriteMapper.class),
             Mockito.mock(com.recipe_manager.model.mapper.CollectionMapper.class),
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            Mockito.mock(com.recipe_manager.service.cache.CollectionAccessCache.class),
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     this.favoriteController = new FavoriteController(favoriteService);
 
@@ -139,7 +143,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("page", "0").param("size", "20"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isArray())
           .andExpect(jsonPath("$.recipes.length()").value(2))
@@ -166,7 +170,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("userId", testUserId.toString()).param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("userId", testUserId.toString()).param("page", "0").param("size", "20"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes.length()").value(1));
     }
@@ -188,7 +192,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("page", "0").param("size", "20"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isEmpty())
           .andExpect(jsonPath("$.totalElements").value(0));
@@ -214,7 +218,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes.length()").value(1));
     }
@@ -243,7 +247,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
           .andExpect(status().isOk());
     }
 
@@ -265,7 +269,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
           .andExpect(status().isForbidden());
     }
 
@@ -283,7 +287,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("userId", otherUserId.toString()).param("page", "0").param("size", "20"))
           .andExpect(status().isForbidden());
     }
 
@@ -307,7 +311,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("page", "0").param("size", "10"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("page", "0").param("size", "10"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.page").value(0))
           .andExpect(jsonPath("$.size").value(10))
@@ -333,7 +337,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("page", "0").param("size", "5"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("page", "0").param("size", "5"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.size").value(5));
     }
@@ -356,7 +360,7 @@ class GetUserFavoritesComponentTest extends AbstractComponentTest {
       mock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
 
       mockMvc
-          .perform(get("/favorites/recipes").param("page", "0").param("size", "20"))
+          .perform(get("/favorites/recipes").param("includeDetails", "true").param("page", "0").param("size", "20"))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").exists())
           .andExpect(jsonPath("$.page").exists())
@@ -94,7 +94,11 @@ class IsFavoritedComponentTest extends AbstractComponentTest {
             testRecipeMapper, // Mocked for this test
             Mockito.mock(com.recipe_manager.model.mapper.CollectionFavoriteMapper.class),
             Mockito.mock(com.recipe_manager.model.mapper.CollectionMapper.class),
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            Mockito.mock(com.recipe_manager.service.cache.CollectionAccessCache.class),
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     // Create controller
     this.favoriteController = new FavoriteController(favoriteService);
@@ -1,5 +1,6 @@
 package com.recipe_manager.component_tests.favorite_service;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -7,6 +8,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,8 @@ import com.recipe_manager.client.usermanagement.UserManagementClient;
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.controller.FavoriteController;
 import com.recipe_manager.exception.GlobalExceptionHandler;
+import com.recipe_manager.model.entity.recipe.RecipeFavorite;
+import com.recipe_manager.model.entity.recipe.RecipeFavoriteId;
 import com.recipe_manager.model.mapper.RecipeFavoriteMapper;
 import com.recipe_manager.model.mapper.RecipeMapper;
 import com.recipe_manager.repository.recipe.RecipeFavoriteRepository;
@@ -94,7 +99,11 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
             testRecipeMapper, // Mocked for this test
             Mockito.mock(com.recipe_manager.model.mapper.CollectionFavoriteMapper.class),
             Mockito.mock(com.recipe_manager.model.mapper.CollectionMapper.class),
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            Mockito.mock(com.recipe_manager.service.cache.CollectionAccessCache.class),
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     // Create controller
     this.favoriteController = new FavoriteController(favoriteService);
@@ -111,8 +120,8 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
   @DisplayName("Should remove favorite successfully and return 204 No Content")
   void shouldRemoveFavoriteSuccessfully() throws Exception {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
-        .thenReturn(true);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
+        .thenReturn(Optional.of(createFavorite()));
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -123,8 +132,9 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
           .andExpect(status().isNoContent());
     }
 
-    verify(recipeFavoriteRepository).existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId);
+    verify(recipeFavoriteRepository).findByIdUserIdAndIdRecipeId(testUserId, testRecipeId);
     verify(recipeFavoriteRepository).deleteByIdUserIdAndIdRecipeId(testUserId, testRecipeId);
+    verify(trendingScoreService).withdrawFavorite(eq(testRecipeId), any(LocalDateTime.class));
   }
 
   @Test
@@ -132,8 +142,8 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
   @DisplayName("Should return 404 Not Found when favorite does not exist")
   void shouldReturn404WhenFavoriteNotFound() throws Exception {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
-        .thenReturn(false);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
+        .thenReturn(Optional.empty());
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -146,7 +156,7 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
           .andExpect(jsonPath("$.message").value("Favorite not found for this user and recipe"));
     }
 
-    verify(recipeFavoriteRepository).existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId);
+    verify(recipeFavoriteRepository).findByIdUserIdAndIdRecipeId(testUserId, testRecipeId);
   }
 
   @Test
@@ -154,8 +164,8 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
   @DisplayName("Should verify repository delete method called with correct parameters")
   void shouldVerifyRepositoryDeleteMethodCalled() throws Exception {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
-        .thenReturn(true);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
+        .thenReturn(Optional.of(createFavorite()));
 
     // When
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -175,8 +185,8 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
   @DisplayName("Should return empty response body on successful deletion")
   void shouldReturnEmptyResponseBodyOnSuccess() throws Exception {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
-        .thenReturn(true);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(testUserId, testRecipeId))
+        .thenReturn(Optional.of(createFavorite()));
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -188,4 +198,11 @@ class RemoveFavoriteComponentTest extends AbstractComponentTest {
           .andExpect(jsonPath("$").doesNotExist());
     }
   }
+
+  private RecipeFavorite createFavorite() {
+    return RecipeFavorite.builder()
+        .id(RecipeFavoriteId.builder().userId(testUserId).recipeId(testRecipeId).build())
+        .favoritedAt(LocalDateTime.now().minusDays(1))
+        .build();
+  }
 }
@@ -1,5 +1,6 @@
 package com.recipe_manager.component_tests.favorite_service;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -7,6 +8,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,8 @@ import com.recipe_manager.client.usermanagement.UserManagementClient;
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.controller.FavoriteController;
 import com.recipe_manager.exception.GlobalExceptionHandler;
+import com.recipe_manager.model.entity.collection.CollectionFavorite;
+import com.recipe_manager.model.entity.collection.CollectionFavoriteId;
 import com.recipe_manager.model.mapper.CollectionFavoriteMapper;
 import com.recipe_manager.model.mapper.CollectionMapper;
 import com.recipe_manager.model.mapper.RecipeFavoriteMapper;
@@ -110,7 +115,11 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
             testRecipeMapper,
             collectionFavoriteMapper,
             collectionMapper,
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            Mockito.mock(com.recipe_manager.service.cache.CollectionAccessCache.class),
+            new io.micrometer.core.instrument.simple.SimpleMeterRegistry());
 
     // Create controller
     this.favoriteController = new FavoriteController(favoriteService);
@@ -127,9 +136,9 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
   @DisplayName("Should remove collection favorite successfully and return 204 No Content")
   void shouldRemoveCollectionFavoriteSuccessfully() throws Exception {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             testUserId, testCollectionId))
-        .thenReturn(true);
+        .thenReturn(Optional.of(createFavorite()));
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock =
@@ -142,9 +151,11 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
     }
 
     verify(collectionFavoriteRepository)
-        .existsByIdUserIdAndIdCollectionId(testUserId, testCollectionId);
+        .findByIdUserIdAndIdCollectionId(testUserId, testCollectionId);
     verify(collectionFavoriteRepository)
         .deleteByIdUserIdAndIdCollectionId(testUserId, testCollectionId);
+    verify(trendingScoreService)
+        .withdrawCollectionFavorite(eq(testCollectionId), any(LocalDateTime.class));
   }
 
   @Test
@@ -152,9 +163,9 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
   @DisplayName("Should return 404 Not Found when collection favorite does not exist")
   void shouldReturn404WhenFavoriteNotFound() throws Exception {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             testUserId, testCollectionId))
-        .thenReturn(false);
+        .thenReturn(Optional.empty());
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock =
@@ -170,7 +181,7 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
     }
 
     verify(collectionFavoriteRepository)
-        .existsByIdUserIdAndIdCollectionId(testUserId, testCollectionId);
+        .findByIdUserIdAndIdCollectionId(testUserId, testCollectionId);
   }
 
   @Test
@@ -178,9 +189,9 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
   @DisplayName("Should verify repository delete method called with correct parameters")
   void shouldVerifyRepositoryDeleteMethodCalled() throws Exception {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             testUserId, testCollectionId))
-        .thenReturn(true);
+        .thenReturn(Optional.of(createFavorite()));
 
     // When
     try (MockedStatic<SecurityUtils> securityUtilsMock =
@@ -202,9 +213,9 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
   @DisplayName("Should return empty response body on successful deletion")
   void shouldReturnEmptyResponseBodyOnSuccess() throws Exception {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             testUserId, testCollectionId))
-        .thenReturn(true);
+        .thenReturn(Optional.of(createFavorite()));
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock =
@@ -217,4 +228,15 @@ class UnfavoriteCollectionComponentTest extends AbstractComponentTest {
           .andExpect(jsonPath("$").doesNotExist());
     }
   }
+
+  private CollectionFavorite createFavorite() {
+    return CollectionFavorite.builder()
+        .id(
+            CollectionFavoriteId.builder()
+                .userId(testUserId)
+                .collectionId(testCollectionId)
+                .build())
+        .favoritedAt(LocalDateTime.now().minusDays(1))
+        .build();
+  }
 }
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
@@ -76,7 +77,7 @@ class AddIngredientCommentComponentTest extends AbstractComponentTest {
         .thenReturn(Optional.of(recipeIngredient));
     when(ingredientCommentRepository.save(any(IngredientComment.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(456L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(456L)))
         .thenReturn(List.of()); // Return empty list for this test
 
     // When & Then
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Optional;
+import java.util.Set;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
@@ -74,7 +75,7 @@ class DeleteIngredientCommentComponentTest extends AbstractComponentTest {
     when(ingredientRepository.save(any(Ingredient.class))).thenReturn(ingredient);
     when(ingredientCommentRepository.findByCommentIdAndIngredientIngredientId(1L, 456L))
         .thenReturn(Optional.of(createMockIngredientComment(1L, "Test comment")));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(456L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(456L)))
         .thenReturn(java.util.Collections.emptyList());
 
     // When & Then - Delete comment with ID 1
@@ -113,7 +114,7 @@ class DeleteIngredientCommentComponentTest extends AbstractComponentTest {
     when(ingredientRepository.save(any(Ingredient.class))).thenReturn(ingredient);
     when(ingredientCommentRepository.findByCommentIdAndIngredientIngredientId(1L, 456L))
         .thenReturn(Optional.of(createMockIngredientComment(1L, "Test comment")));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(456L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(456L)))
         .thenReturn(java.util.Collections.emptyList());
 
     // When & Then
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Optional;
+import java.util.Set;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
@@ -75,7 +76,7 @@ class EditIngredientCommentComponentTest extends AbstractComponentTest {
     when(ingredientCommentRepository.findByCommentIdAndIngredientIngredientId(1L, 456L))
         .thenReturn(Optional.of(createMockIngredientComment(1L, "Original comment")));
     when(ingredientCommentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(456L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(456L)))
         .thenReturn(java.util.Collections.emptyList());
 
     // When & Then
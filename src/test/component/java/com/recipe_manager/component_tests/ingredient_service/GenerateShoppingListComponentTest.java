@@ -2,8 +2,11 @@ package com.recipe_manager.component_tests.ingredient_service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -11,13 +14,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
+import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInfoDto;
 import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.model.dto.ingredient.QuantityDto;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
 import com.recipe_manager.model.entity.recipe.Recipe;
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
 import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.model.mapper.RecipeIngredientMapperImpl;
 import com.recipe_manager.model.mapper.ShoppingListMapperImpl;
@@ -173,4 +180,117 @@ class GenerateShoppingListComponentTest extends AbstractComponentTest {
         .andExpect(jsonPath("$.items[0].totalQuantity").value(1.5))
         .andExpect(header().exists("X-Request-ID"));
   }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should combine meal plan recipes into one shopping list")
+  void shouldGenerateMealPlanShoppingList() throws Exception {
+    // Recipe 10 uses flour in grams, recipe 11 in kilograms
+    Ingredient flour = Ingredient.builder().ingredientId(5L).name("Flour").build();
+
+    RecipeIngredient ingredient1 = RecipeIngredient.builder()
+        .id(new RecipeIngredientId(10L, 5L))
+        .ingredient(flour)
+        .quantity(new BigDecimal("250"))
+        .unit(IngredientUnit.G)
+        .isOptional(false)
+        .build();
+
+    RecipeIngredient ingredient2 = RecipeIngredient.builder()
+        .id(new RecipeIngredientId(11L, 5L))
+        .ingredient(flour)
+        .quantity(new BigDecimal("1"))
+        .unit(IngredientUnit.KG)
+        .isOptional(false)
+        .build();
+
+    when(recipeRepository.findExistingRecipeIds(any())).thenReturn(List.of(10L, 11L));
+    when(recipeIngredientRepository.findByRecipeIdsWithIngredient(any()))
+        .thenReturn(Arrays.asList(ingredient1, ingredient2));
+
+    mockMvc.perform(post("/recipes/shopping-list")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"recipes\":[{\"recipeId\":10,\"servingMultiplier\":2},{\"recipeId\":11}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.recipeIds[0]").value(10))
+        .andExpect(jsonPath("$.recipeIds[1]").value(11))
+        .andExpect(jsonPath("$.totalCount").value(1))
+        .andExpect(jsonPath("$.items[0].ingredientName").value("Flour"))
+        .andExpect(jsonPath("$.items[0].unit").value("KG"))
+        .andExpect(jsonPath("$.items[0].totalQuantity").value(1.5))
+        .andExpect(header().exists("X-Request-ID"));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should price meal plan items from one scraper response per shared ingredient")
+  void shouldPriceMealPlanFromIngredientPrices() throws Exception {
+    Ingredient flour = Ingredient.builder().ingredientId(5L).name("Flour").build();
+
+    RecipeIngredient ingredient1 = RecipeIngredient.builder()
+        .id(new RecipeIngredientId(10L, 5L))
+        .ingredient(flour)
+        .quantity(new BigDecimal("500"))
+        .unit(IngredientUnit.G)
+        .isOptional(false)
+        .build();
+
+    RecipeIngredient ingredient2 = RecipeIngredient.builder()
+        .id(new RecipeIngredientId(11L, 5L))
+        .ingredient(flour)
+        .quantity(new BigDecimal("1"))
+        .unit(IngredientUnit.KG)
+        .isOptional(false)
+        .build();
+
+    when(recipeRepository.findExistingRecipeIds(any())).thenReturn(List.of(10L, 11L));
+    when(recipeIngredientRepository.findByRecipeIdsWithIngredient(any()))
+        .thenReturn(Arrays.asList(ingredient1, ingredient2));
+
+    // 2.00 per kilogram, quoted for whichever recipe is asked
+    RecipeScraperShoppingDto pricingData = RecipeScraperShoppingDto.builder()
+        .ingredients(Map.of("5", IngredientShoppingInfoDto.builder()
+            .ingredientName("Flour")
+            .quantity(new QuantityDto(1.0, IngredientUnit.KG))
+            .estimatedPrice(new BigDecimal("2.00"))
+            .build()))
+        .totalEstimatedCost(new BigDecimal("2.00"))
+        .build();
+    when(recipeScraperService.getShoppingInfo(any(Long.class)))
+        .thenReturn(CompletableFuture.completedFuture(pricingData));
+
+    mockMvc.perform(post("/recipes/shopping-list")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"recipes\":[{\"recipeId\":10},{\"recipeId\":11}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalCount").value(1))
+        .andExpect(jsonPath("$.items[0].totalQuantity").value(1.5))
+        .andExpect(jsonPath("$.items[0].estimatedPrice").value(3.0))
+        .andExpect(jsonPath("$.totalEstimatedCost").value(3.0));
+
+    // Flour is in both recipes, so one recipe's pricing covers it
+    verify(recipeScraperService, times(1)).getShoppingInfo(any(Long.class));
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Should return 404 for a meal plan listing an unknown recipe")
+  void shouldRejectMealPlanWithUnknownRecipe() throws Exception {
+    when(recipeRepository.findExistingRecipeIds(any())).thenReturn(List.of(10L));
+
+    mockMvc.perform(post("/recipes/shopping-list")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"recipes\":[{\"recipeId\":10},{\"recipeId\":404}]}"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Should return 400 for an empty meal plan")
+  void shouldRejectEmptyMealPlan() throws Exception {
+    mockMvc.perform(post("/recipes/shopping-list")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"recipes\":[]}"))
+        .andExpect(status().isBadRequest());
+  }
 }
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -79,7 +80,7 @@ class GetIngredientsComponentTest extends AbstractComponentTest {
         .thenReturn(Arrays.asList(recipeIngredient));
 
     // Mock comment repository for the ingredient
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(1L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L)))
         .thenReturn(Collections.emptyList());
 
     // When & Then
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
@@ -90,10 +91,8 @@ class ScaleRecipeIngredientsComponentTest extends AbstractComponentTest {
     when(recipeIngredientRepository.findByRecipeRecipeId(123L))
         .thenReturn(Arrays.asList(recipeIngredient1, recipeIngredient2));
 
-    // Mock comment repository for both ingredients
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(1L))
-        .thenReturn(Collections.emptyList());
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(2L))
+    // Mock the bulk comment lookup for both ingredients
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L, 2L)))
         .thenReturn(Collections.emptyList());
 
     // When & Then
@@ -8,7 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
@@ -86,7 +86,8 @@ class CreateRecipeComponentTest extends AbstractComponentTest {
         .difficulty(DifficultyLevel.BEGINNER)
         .build();
 
-    when(ingredientRepository.findByNameIgnoreCase("Flour")).thenReturn(Optional.of(flourIngredient));
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("flour")))
+        .thenReturn(List.of(flourIngredient));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
 
     String validRequestJson = "{" +
@@ -128,7 +129,7 @@ class CreateRecipeComponentTest extends AbstractComponentTest {
   @Tag("standard-processing")
   @DisplayName("Should create recipe and new ingredient when ingredient doesn't exist")
   void shouldCreateRecipeWithNewIngredient() throws Exception {
-    // Setup repository mocks - ingredient doesn't exist, so service will create it
+    // Setup repository mocks - ingredient doesn't exist, so it is inserted and read back
     Ingredient newIngredient = Ingredient.builder()
         .name("New Spice")
         .build();
@@ -144,8 +145,8 @@ class CreateRecipeComponentTest extends AbstractComponentTest {
         .difficulty(DifficultyLevel.EASY)
         .build();
 
-    when(ingredientRepository.findByNameIgnoreCase("New Spice")).thenReturn(Optional.empty());
-    when(ingredientRepository.save(any(Ingredient.class))).thenReturn(newIngredient);
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("new spice")))
+        .thenReturn(List.of(), List.of(newIngredient));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
 
     String validRequestJson = "{" +
@@ -95,7 +95,7 @@ class GetAllRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findAll(any(Pageable.class))).thenReturn(recipePage);
 
     // When & Then
-    mockMvc.perform(get("/recipes")
+    mockMvc.perform(get("/recipes").param("includeDetails", "true")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.recipes").isArray())
@@ -134,7 +134,7 @@ class GetAllRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
 
     // When & Then
-    mockMvc.perform(get("/recipes")
+    mockMvc.perform(get("/recipes").param("includeDetails", "true")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.recipes").isArray())
@@ -159,7 +159,7 @@ class GetAllRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findAll(any(Pageable.class))).thenReturn(pagedRecipes);
 
     // When & Then
-    mockMvc.perform(get("/recipes")
+    mockMvc.perform(get("/recipes").param("includeDetails", "true")
         .param("page", "1")
         .param("size", "1")
         .accept(MediaType.APPLICATION_JSON))
@@ -188,7 +188,7 @@ class GetAllRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findAll(any(Pageable.class))).thenReturn(recipePage);
 
     // When & Then
-    mockMvc.perform(get("/recipes")
+    mockMvc.perform(get("/recipes").param("includeDetails", "true")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.recipes").isArray())
@@ -94,7 +94,7 @@ class GetTrendingRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findTrendingRecipes(any(Pageable.class))).thenReturn(recipePage);
 
     // When & Then
-    mockMvc.perform(get("/recipes/trending")
+    mockMvc.perform(get("/recipes/trending").param("includeDetails", "true")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.recipes").isArray())
@@ -128,7 +128,7 @@ class GetTrendingRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findTrendingRecipes(any(Pageable.class))).thenReturn(emptyPage);
 
     // When & Then
-    mockMvc.perform(get("/recipes/trending")
+    mockMvc.perform(get("/recipes/trending").param("includeDetails", "true")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.recipes").isArray())
@@ -153,7 +153,7 @@ class GetTrendingRecipesComponentTest extends AbstractComponentTest {
     when(recipeRepository.findTrendingRecipes(any(Pageable.class))).thenReturn(pagedRecipes);
 
     // When & Then
-    mockMvc.perform(get("/recipes/trending")
+    mockMvc.perform(get("/recipes/trending").param("includeDetails", "true")
         .param("page", "1")
         .param("size", "1")
         .accept(MediaType.APPLICATION_JSON))
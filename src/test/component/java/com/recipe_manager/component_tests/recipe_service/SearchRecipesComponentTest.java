@@ -114,12 +114,14 @@ class SearchRecipesComponentTest extends AbstractComponentTest {
         isNull(),
         isNull(),
         eq(new String[0]),
+        eq("AND"),
         eq(new String[0]),
+        eq("OR"),
         any(Pageable.class)))
         .thenReturn(recipePage);
 
     // When & Then
-    mockMvc.perform(post("/recipes/search")
+    mockMvc.perform(post("/recipes/search").param("includeDetails", "true")
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(searchRequest))
         .header("Authorization", "Bearer valid-token"))
@@ -164,12 +166,14 @@ class SearchRecipesComponentTest extends AbstractComponentTest {
         eq(BigDecimal.valueOf(2)),
         eq(BigDecimal.valueOf(6)),
         eq(new String[]{"chicken", "pasta"}),
+        eq("AND"),
         eq(new String[0]),
+        eq("OR"),
         any(Pageable.class)))
         .thenReturn(recipePage);
 
     // When & Then
-    mockMvc.perform(post("/recipes/search")
+    mockMvc.perform(post("/recipes/search").param("includeDetails", "true")
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(searchRequest))
         .header("Authorization", "Bearer valid-token"))
@@ -196,12 +200,14 @@ class SearchRecipesComponentTest extends AbstractComponentTest {
         isNull(),
         isNull(),
         eq(new String[0]),
+        eq("AND"),
         eq(new String[0]),
+        eq("OR"),
         any(Pageable.class)))
         .thenReturn(emptyPage);
 
     // When & Then
-    mockMvc.perform(post("/recipes/search")
+    mockMvc.perform(post("/recipes/search").param("includeDetails", "true")
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(searchRequest))
         .header("Authorization", "Bearer valid-token"))
@@ -228,12 +234,14 @@ class SearchRecipesComponentTest extends AbstractComponentTest {
         isNull(),
         isNull(),
         eq(new String[0]),
+        eq("AND"),
         eq(new String[0]),
+        eq("OR"),
         any(Pageable.class)))
         .thenReturn(paginatedPage);
 
     // When & Then
-    mockMvc.perform(post("/recipes/search?page=1&size=1")
+    mockMvc.perform(post("/recipes/search?page=1&size=1&includeDetails=true")
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(searchRequest))
         .header("Authorization", "Bearer valid-token"))
@@ -262,12 +270,14 @@ class SearchRecipesComponentTest extends AbstractComponentTest {
         isNull(),
         isNull(),
         eq(new String[0]),
+        eq("AND"),
         eq(new String[0]),
+        eq("OR"),
         any(Pageable.class)))
         .thenReturn(allRecipes);
 
     // When & Then
-    mockMvc.perform(post("/recipes/search")
+    mockMvc.perform(post("/recipes/search").param("includeDetails", "true")
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(searchRequest))
         .header("Authorization", "Bearer valid-token"))
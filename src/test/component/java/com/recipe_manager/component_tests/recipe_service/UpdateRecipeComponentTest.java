@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -98,7 +99,8 @@ class UpdateRecipeComponentTest extends AbstractComponentTest {
         .build();
 
     when(recipeRepository.findById(123L)).thenReturn(Optional.of(existingRecipe));
-    when(ingredientRepository.findByNameIgnoreCase("Salt")).thenReturn(Optional.of(existingIngredient));
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("salt")))
+        .thenReturn(List.of(existingIngredient));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(updatedRecipe);
 
     String updateRequestJson = "{\"title\":\"Updated Recipe\",\"description\":\"Updated description\",\"servings\":6,\"preparationTime\":20,\"cookingTime\":40,\"difficulty\":\"EXPERT\",\"ingredients\":[{\"ingredientName\":\"Salt\",\"quantity\":0.5,\"unit\":\"TSP\",\"isOptional\":false}],\"steps\":[]}";
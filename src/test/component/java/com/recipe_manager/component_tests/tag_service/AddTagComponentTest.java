@@ -1,6 +1,5 @@
 package com.recipe_manager.component_tests.tag_service;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -9,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import com.recipe_manager.component_tests.AbstractComponentTest;
@@ -74,7 +74,8 @@ class AddTagComponentTest extends AbstractComponentTest {
 
     when(recipeRepository.findById(123L)).thenReturn(Optional.of(testRecipe));
     when(recipeTagRepository.findByNameIgnoreCase(tagName)).thenReturn(Optional.empty());
-    when(recipeTagRepository.save(any(RecipeTag.class))).thenReturn(newTag);
+    when(recipeTagRepository.findAllByLowerCaseNameIn(List.of("italian")))
+        .thenReturn(List.of(), List.of(newTag));
 
     String requestBody = """
         {
@@ -208,7 +209,8 @@ class AddTagComponentTest extends AbstractComponentTest {
 
     when(recipeRepository.findById(789L)).thenReturn(Optional.of(recipeWithTags));
     when(recipeTagRepository.findByNameIgnoreCase(newTagName)).thenReturn(Optional.empty());
-    when(recipeTagRepository.save(any(RecipeTag.class))).thenReturn(vegetarianTag);
+    when(recipeTagRepository.findAllByLowerCaseNameIn(List.of("vegetarian")))
+        .thenReturn(List.of(), List.of(vegetarianTag));
 
     String requestBody = """
         {
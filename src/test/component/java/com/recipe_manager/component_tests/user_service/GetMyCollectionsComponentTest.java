@@ -32,7 +32,10 @@ import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.RecipeService;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
 import com.recipe_manager.util.SecurityUtils;
 
 import jakarta.persistence.EntityManager;
@@ -91,8 +94,14 @@ class GetMyCollectionsComponentTest {
 
   @Mock protected NotificationService notificationService;
 
+  @Mock protected TrendingScoreService trendingScoreService;
+
   @Mock protected EntityManager entityManager;
 
+  @Mock protected CollectionAccessCache collectionAccessCache;
+
+  @Mock protected TrendingCollectionRanking trendingCollectionRanking;
+
   @Mock protected RecipeService recipeService;
 
   @Autowired protected CollectionMapper collectionMapper;
@@ -125,7 +134,10 @@ class GetMyCollectionsComponentTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
 
     userController = new UserController(recipeService, collectionService);
 
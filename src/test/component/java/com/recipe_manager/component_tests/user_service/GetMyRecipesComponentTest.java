@@ -35,7 +35,12 @@ import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
 import com.recipe_manager.service.CollectionService;
 import com.recipe_manager.service.RecipeService;
+import com.recipe_manager.service.cache.RecipeCacheService;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.trending.TrendingScoreService;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -95,6 +100,16 @@ class GetMyRecipesComponentTest {
 
   @Mock protected NotificationService notificationService;
 
+  @Mock protected RecipeFilterIndex recipeFilterIndex;
+
+  @Mock protected TrendingScoreService trendingScoreService;
+
+  @Mock protected RecipeCacheService recipeCacheService;
+
+  @Mock protected ReferenceDataResolver referenceDataResolver;
+
+  @Mock protected RecipeHistoryService recipeHistoryService;
+
   @Mock protected CollectionService collectionService;
 
   @Autowired protected RecipeMapper recipeMapper;
@@ -129,7 +144,9 @@ class GetMyRecipesComponentTest {
             recipeStepMapper,
             recipeCommentRepository,
             recipeCommentMapper,
-            notificationService);
+            notificationService,
+            recipeFilterIndex, trendingScoreService, recipeCacheService, referenceDataResolver,
+            recipeHistoryService);
 
     userController = new UserController(recipeService, collectionService);
 
@@ -177,7 +194,7 @@ class GetMyRecipesComponentTest {
 
       // When & Then
       mockMvc
-          .perform(get("/users/me/recipes").accept(MediaType.APPLICATION_JSON))
+          .perform(get("/users/me/recipes").param("includeDetails", "true").accept(MediaType.APPLICATION_JSON))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isArray())
           .andExpect(jsonPath("$.recipes.length()").value(2))
@@ -212,7 +229,7 @@ class GetMyRecipesComponentTest {
 
       // When & Then
       mockMvc
-          .perform(get("/users/me/recipes").accept(MediaType.APPLICATION_JSON))
+          .perform(get("/users/me/recipes").param("includeDetails", "true").accept(MediaType.APPLICATION_JSON))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isArray())
           .andExpect(jsonPath("$.recipes.length()").value(0))
@@ -243,7 +260,7 @@ class GetMyRecipesComponentTest {
       // When & Then
       mockMvc
           .perform(
-              get("/users/me/recipes")
+              get("/users/me/recipes").param("includeDetails", "true")
                   .param("page", "1")
                   .param("size", "1")
                   .accept(MediaType.APPLICATION_JSON))
@@ -287,7 +304,7 @@ class GetMyRecipesComponentTest {
 
       // When & Then
       mockMvc
-          .perform(get("/users/me/recipes").accept(MediaType.APPLICATION_JSON))
+          .perform(get("/users/me/recipes").param("includeDetails", "true").accept(MediaType.APPLICATION_JSON))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isArray())
           .andExpect(jsonPath("$.recipes.length()").value(0))
@@ -310,7 +327,7 @@ class GetMyRecipesComponentTest {
 
       // When & Then
       mockMvc
-          .perform(get("/users/me/recipes").accept(MediaType.APPLICATION_JSON))
+          .perform(get("/users/me/recipes").param("includeDetails", "true").accept(MediaType.APPLICATION_JSON))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.recipes").isArray())
           .andExpect(jsonPath("$.recipes.length()").value(1))
@@ -0,0 +1,198 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.ingredient.IngredientComment;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that migration V008 merges ingredients and tags whose names
+ * differ only in case before it makes such names unique.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class NameUniquenessMigrationTest {
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  private static JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true"));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Case-insensitive duplicates should be merged into the lowest ID")
+  void shouldMergeDuplicatesIntoLowestId() throws Exception {
+    String suffix = "-" + UUID.randomUUID();
+    Ingredient salt = createIngredient("Salt" + suffix);
+    Ingredient lowerSalt = createIngredient("salt" + suffix);
+    Ingredient upperSalt = createIngredient("SALT" + suffix.toUpperCase());
+    RecipeTag vegan = createTag("Vegan" + suffix);
+    RecipeTag lowerVegan = createTag("vegan" + suffix);
+    Long recipeA =
+        createRecipe("Recipe A", List.of(lowerSalt, upperSalt), List.of(vegan, lowerVegan));
+    Long recipeB = createRecipe("Recipe B", List.of(salt, lowerSalt), List.of(lowerVegan));
+    addComment(upperSalt, recipeA);
+
+    jdbcTemplate.execute(
+        new ClassPathResource("db/migration/V008__Add_case_insensitive_name_uniqueness.sql")
+            .getContentAsString(StandardCharsets.UTF_8));
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT ingredient_id FROM recipe_manager.ingredients WHERE LOWER(name) = ?",
+                Long.class,
+                ("salt" + suffix).toLowerCase()))
+        .containsExactly(salt.getIngredientId());
+    assertThat(ingredientIds(recipeA)).containsExactly(salt.getIngredientId());
+    assertThat(ingredientIds(recipeB)).containsExactly(salt.getIngredientId());
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT ingredient_id FROM recipe_manager.ingredient_comments WHERE recipe_id = ?",
+                Long.class,
+                recipeA))
+        .containsExactly(salt.getIngredientId());
+    assertThat(tagIds(recipeA)).containsExactly(vegan.getTagId());
+    assertThat(tagIds(recipeB)).containsExactly(vegan.getTagId());
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM recipe_manager.recipe_tags WHERE LOWER(name) = ?",
+                Long.class,
+                ("vegan" + suffix).toLowerCase()))
+        .isEqualTo(1L);
+  }
+
+  private static List<Long> ingredientIds(final Long recipeId) {
+    return jdbcTemplate.queryForList(
+        "SELECT ingredient_id FROM recipe_manager.recipe_ingredients WHERE recipe_id = ?",
+        Long.class,
+        recipeId);
+  }
+
+  private static List<Long> tagIds(final Long recipeId) {
+    return jdbcTemplate.queryForList(
+        "SELECT tag_id FROM recipe_manager.recipe_tag_junction WHERE recipe_id = ?",
+        Long.class,
+        recipeId);
+  }
+
+  private static Ingredient createIngredient(final String name) {
+    Ingredient ingredient = Ingredient.builder().name(name).build();
+    inTransaction(entityManager -> entityManager.persist(ingredient));
+    return ingredient;
+  }
+
+  private static RecipeTag createTag(final String name) {
+    RecipeTag tag = RecipeTag.builder().name(name).build();
+    inTransaction(entityManager -> entityManager.persist(tag));
+    return tag;
+  }
+
+  private static Long createRecipe(
+      final String title, final List<Ingredient> ingredients, final List<RecipeTag> tags) {
+    Recipe recipe = Recipe.builder().userId(UUID.randomUUID()).title(title).build();
+    inTransaction(
+        entityManager -> {
+          for (Ingredient ingredient : ingredients) {
+            recipe
+                .getRecipeIngredients()
+                .add(
+                    RecipeIngredient.builder()
+                        .id(
+                            RecipeIngredientId.builder()
+                                .ingredientId(ingredient.getIngredientId())
+                                .build())
+                        .recipe(recipe)
+                        .ingredient(
+                            entityManager.getReference(
+                                Ingredient.class, ingredient.getIngredientId()))
+                        .quantity(BigDecimal.ONE)
+                        .build());
+          }
+          List<RecipeTag> recipeTags = new ArrayList<>();
+          for (RecipeTag tag : tags) {
+            recipeTags.add(entityManager.getReference(RecipeTag.class, tag.getTagId()));
+          }
+          recipe.setRecipeTags(recipeTags);
+          entityManager.persist(recipe);
+        });
+    return recipe.getRecipeId();
+  }
+
+  private static void addComment(final Ingredient ingredient, final Long recipeId) {
+    inTransaction(
+        entityManager ->
+            entityManager.persist(
+                IngredientComment.builder()
+                    .ingredient(
+                        entityManager.getReference(Ingredient.class, ingredient.getIngredientId()))
+                    .recipeId(recipeId)
+                    .userId(UUID.randomUUID())
+                    .commentText("Use flaky sea salt")
+                    .build()));
+  }
+
+  private static void inTransaction(final Consumer<EntityManager> work) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    work.accept(entityManager);
+    entityManager.getTransaction().commit();
+    entityManager.close();
+  }
+}
@@ -0,0 +1,177 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe_manager.config.CacheConfig;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.service.cache.JdbcSharedRecipeCache;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.cache.RecipeVersionService;
+import com.recipe_manager.service.cache.RecipeVersionService.Resource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that two instances, each with its own in-process recipe
+ * cache and both using the shared tier, never serve a recipe older than the current version after
+ * a change made through the other instance.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipeCacheCoherenceTest {
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private static RecipeVersionService recipeVersionService;
+
+  private static DataSourceTransactionManager transactionManager;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Function<Long, RecipeDto> loader =
+      id -> {
+        loads.incrementAndGet();
+        return RecipeDto.builder()
+            .recipeId(id)
+            .title(
+                jdbcTemplate.queryForObject(
+                    "SELECT title FROM recipe_manager.recipes WHERE recipe_id = ?",
+                    String.class,
+                    id))
+            .build();
+      };
+
+  private RecipeCacheService instanceA;
+
+  private RecipeCacheService instanceB;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true"));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    for (String migration :
+        new String[] {
+          "V005__Add_shared_recipe_cache.sql",
+          "V006__Add_recipe_versions.sql",
+          "V015__Add_shared_recipe_cache_versions.sql"
+        }) {
+      jdbcTemplate.execute(
+          new ClassPathResource("db/migration/" + migration)
+              .getContentAsString(StandardCharsets.UTF_8));
+    }
+    recipeVersionService = new RecipeVersionService(jdbcTemplate);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @BeforeEach
+  void createInstances() {
+    instanceA = newInstance();
+    instanceB = newInstance();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A change evicted on one instance should not leave the other serving its copy")
+  void shouldNotServeStaleLocalCopyAfterChangeOnOtherInstance() {
+    Long recipeId = createRecipe("Before");
+    assertThat(read(instanceA, recipeId).getTitle()).isEqualTo("Before");
+    assertThat(read(instanceB, recipeId).getTitle()).isEqualTo("Before");
+
+    // Instance A makes the change; only its own local tier and the shared tier are evicted
+    jdbcTemplate.update(
+        "UPDATE recipe_manager.recipes SET title = ?, updated_at = NOW() WHERE recipe_id = ?",
+        "After",
+        recipeId);
+    instanceA.evict(recipeId);
+
+    assertThat(read(instanceB, recipeId).getTitle()).isEqualTo("After");
+    assertThat(read(instanceA, recipeId).getTitle()).isEqualTo("After");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A recipe built by one instance should be served to the other from the shared tier")
+  void shouldShareBuiltRecipeBetweenInstances() {
+    Long recipeId = createRecipe("Shared");
+
+    read(instanceA, recipeId);
+    RecipeDto fromB = read(instanceB, recipeId);
+
+    assertThat(fromB.getTitle()).isEqualTo("Shared");
+    assertThat(loads).hasValue(1);
+  }
+
+  private RecipeDto read(final RecipeCacheService instance, final Long recipeId) {
+    String version = recipeVersionService.currentEtag(recipeId, Resource.RECIPE).orElseThrow();
+    return instance.get(recipeId, version, loader);
+  }
+
+  private RecipeCacheService newInstance() {
+    return new RecipeCacheService(
+        Caffeine.newBuilder().build(),
+        Optional.of(
+            new JdbcSharedRecipeCache(jdbcTemplate, transactionManager, new CacheConfig())));
+  }
+
+  private static Long createRecipe(final String title) {
+    Recipe recipe = Recipe.builder().userId(UUID.randomUUID()).title(title).build();
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    entityManager.persist(recipe);
+    entityManager.getTransaction().commit();
+    entityManager.close();
+    return recipe.getRecipeId();
+  }
+}
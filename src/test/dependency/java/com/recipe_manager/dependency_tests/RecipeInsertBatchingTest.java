@@ -0,0 +1,145 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that sequence-generated IDs let Hibernate write a recipe's
+ * children in JDBC batches instead of one statement per row.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipeInsertBatchingTest {
+
+  private static final int INGREDIENT_COUNT = 30;
+
+  private static final int BATCH_SIZE = 20;
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  @BeforeAll
+  static void setUp() {
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true",
+            AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE),
+            AvailableSettings.ORDER_INSERTS, "true",
+            AvailableSettings.ORDER_UPDATES, "true",
+            AvailableSettings.STATEMENT_INSPECTOR,
+                (StatementInspector)
+                    sql -> {
+                      STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+                      return sql;
+                    }));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A 30-ingredient recipe should be inserted with a handful of batched statements")
+  void shouldBatchRecipeChildInserts() {
+    List<Long> ingredientIds = createIngredients();
+    STATEMENTS.clear();
+
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    Recipe recipe =
+        Recipe.builder().userId(UUID.randomUUID()).title("Thirty ingredient stew").build();
+    List<RecipeIngredient> recipeIngredients = new ArrayList<>();
+    List<RecipeStep> recipeSteps = new ArrayList<>();
+    for (int i = 0; i < INGREDIENT_COUNT; i++) {
+      recipeIngredients.add(
+          RecipeIngredient.builder()
+              .id(RecipeIngredientId.builder().ingredientId(ingredientIds.get(i)).build())
+              .recipe(recipe)
+              .ingredient(entityManager.getReference(Ingredient.class, ingredientIds.get(i)))
+              .quantity(BigDecimal.ONE)
+              .build());
+      recipeSteps.add(
+          RecipeStep.builder().recipe(recipe).stepNumber(i + 1).instruction("Step " + i).build());
+    }
+    recipe.setRecipeIngredients(recipeIngredients);
+    recipe.setRecipeSteps(recipeSteps);
+    entityManager.persist(recipe);
+    entityManager.getTransaction().commit();
+    entityManager.close();
+
+    // Each table's rows go out in ceil(30 / 20) = 2 batches at most, each prepared once
+    int maxBatches = (INGREDIENT_COUNT + BATCH_SIZE - 1) / BATCH_SIZE;
+    assertThat(count("insert into recipe_manager.recipes")).isEqualTo(1);
+    assertThat(count("insert into recipe_manager.recipe_ingredients"))
+        .isBetween(1L, (long) maxBatches);
+    assertThat(count("insert into recipe_manager.recipe_steps")).isBetween(1L, (long) maxBatches);
+    // One sequence call each for the recipe and its steps
+    assertThat(count("nextval")).isLessThanOrEqualTo(2);
+  }
+
+  private static List<Long> createIngredients() {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    List<Ingredient> ingredients = new ArrayList<>();
+    for (int i = 0; i < INGREDIENT_COUNT; i++) {
+      Ingredient ingredient =
+          Ingredient.builder().name("ingredient-" + UUID.randomUUID()).build();
+      entityManager.persist(ingredient);
+      ingredients.add(ingredient);
+    }
+    entityManager.getTransaction().commit();
+    entityManager.close();
+    return ingredients.stream().map(Ingredient::getIngredientId).toList();
+  }
+
+  private static long count(final String fragment) {
+    return STATEMENTS.stream().filter(sql -> sql.contains(fragment)).count();
+  }
+}
@@ -0,0 +1,252 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.repository.recipe.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that the SQL ingredient and tag filters, used while the
+ * in-memory filter index is not ready, honour the AND, OR and NONE match modes.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipeSearchFallbackTest {
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  private static Long chickenAndRice;
+
+  private static Long chickenOnly;
+
+  private static Long riceOnly;
+
+  private EntityManager entityManager;
+
+  private RecipeRepository recipeRepository;
+
+  @BeforeAll
+  static void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true"));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+
+    Ingredient chicken = createIngredient("Chicken");
+    Ingredient rice = createIngredient("Rice");
+    RecipeTag quick = createTag("Quick");
+    RecipeTag spicy = createTag("Spicy");
+    chickenAndRice =
+        createRecipe("Chicken and rice", List.of(chicken, rice), List.of(quick, spicy));
+    chickenOnly = createRecipe("Roast chicken", List.of(chicken), List.of(quick));
+    riceOnly = createRecipe("Plain rice", List.of(rice), List.of());
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @BeforeEach
+  void createRepository() {
+    entityManager = entityManagerFactory.createEntityManager();
+    recipeRepository =
+        new JpaRepositoryFactory(entityManager).getRepository(RecipeRepository.class);
+  }
+
+  @AfterEach
+  void closeEntityManager() {
+    entityManager.close();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("AND should require every ingredient")
+  void andShouldRequireEveryIngredient() {
+    assertThat(searchIngredients("AND", "chicken", "rice")).containsExactly(chickenAndRice);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("OR should accept any ingredient")
+  void orShouldAcceptAnyIngredient() {
+    assertThat(searchIngredients("OR", "chicken", "rice"))
+        .containsExactlyInAnyOrder(chickenAndRice, chickenOnly, riceOnly);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("NONE should exclude recipes with any of the ingredients")
+  void noneShouldExcludeIngredients() {
+    assertThat(searchIngredients("NONE", "chicken")).containsExactly(riceOnly);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("AND with an unknown ingredient should match nothing")
+  void andWithUnknownIngredientShouldMatchNothing() {
+    assertThat(searchIngredients("AND", "chicken", "saffron")).isEmpty();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Tag modes should match tag names case-insensitively")
+  void tagModesShouldMatchCaseInsensitively() {
+    assertThat(searchTags("AND", "quick", "spicy")).containsExactly(chickenAndRice);
+    assertThat(searchTags("OR", "spicy")).containsExactly(chickenAndRice);
+    assertThat(searchTags("NONE", "quick")).containsExactly(riceOnly);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The keyset search should apply the same match modes")
+  void keysetSearchShouldApplyMatchModes() {
+    List<Long> ids =
+        recipeRepository
+            .searchRecipesAfter(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new String[] {"rice"},
+                "AND",
+                new String[] {"spicy"},
+                "NONE",
+                new Long[0],
+                null,
+                null,
+                PageRequest.of(0, 10))
+            .stream()
+            .map(Recipe::getRecipeId)
+            .toList();
+
+    assertThat(ids).containsExactly(riceOnly);
+  }
+
+  private List<Long> searchIngredients(final String mode, final String... names) {
+    return search(names, mode, new String[0], "OR");
+  }
+
+  private List<Long> searchTags(final String mode, final String... names) {
+    return search(new String[0], "AND", names, mode);
+  }
+
+  private List<Long> search(
+      final String[] ingredients,
+      final String ingredientMode,
+      final String[] tags,
+      final String tagMode) {
+    return recipeRepository
+        .searchRecipes(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            ingredients,
+            ingredientMode,
+            tags,
+            tagMode,
+            PageRequest.of(0, 10))
+        .map(Recipe::getRecipeId)
+        .getContent();
+  }
+
+  private static Ingredient createIngredient(final String name) {
+    Ingredient ingredient = Ingredient.builder().name(name).build();
+    inTransaction(manager -> manager.persist(ingredient));
+    return ingredient;
+  }
+
+  private static RecipeTag createTag(final String name) {
+    RecipeTag tag = RecipeTag.builder().name(name).build();
+    inTransaction(manager -> manager.persist(tag));
+    return tag;
+  }
+
+  private static Long createRecipe(
+      final String title, final List<Ingredient> ingredients, final List<RecipeTag> tags) {
+    Recipe recipe = Recipe.builder().userId(UUID.randomUUID()).title(title).build();
+    inTransaction(
+        manager -> {
+          for (Ingredient ingredient : ingredients) {
+            recipe
+                .getRecipeIngredients()
+                .add(
+                    RecipeIngredient.builder()
+                        .id(
+                            RecipeIngredientId.builder()
+                                .ingredientId(ingredient.getIngredientId())
+                                .build())
+                        .recipe(recipe)
+                        .ingredient(
+                            manager.getReference(Ingredient.class, ingredient.getIngredientId()))
+                        .quantity(BigDecimal.ONE)
+                        .build());
+          }
+          List<RecipeTag> recipeTags = new ArrayList<>();
+          for (RecipeTag tag : tags) {
+            recipeTags.add(manager.getReference(RecipeTag.class, tag.getTagId()));
+          }
+          recipe.setRecipeTags(recipeTags);
+          manager.persist(recipe);
+        });
+    return recipe.getRecipeId();
+  }
+
+  private static void inTransaction(final Consumer<EntityManager> work) {
+    EntityManager manager = entityManagerFactory.createEntityManager();
+    manager.getTransaction().begin();
+    work.accept(manager);
+    manager.getTransaction().commit();
+    manager.close();
+  }
+}
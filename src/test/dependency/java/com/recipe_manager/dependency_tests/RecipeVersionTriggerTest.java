@@ -0,0 +1,168 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.ingredient.IngredientComment;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
+import com.recipe_manager.service.cache.RecipeVersionService;
+import com.recipe_manager.service.cache.RecipeVersionService.Resource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that the change counters of migration V006 move whenever a
+ * recipe's ingredients representation changes.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipeVersionTriggerTest {
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  private static RecipeVersionService recipeVersionService;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true"));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        new ClassPathResource("db/migration/V006__Add_recipe_versions.sql")
+            .getContentAsString(StandardCharsets.UTF_8));
+    recipeVersionService = new RecipeVersionService(jdbcTemplate);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A comment on a shared ingredient in another recipe should change the ETag")
+  void shouldChangeEtagForCommentsFromOtherRecipes() {
+    Ingredient salt = createIngredient("salt");
+    Ingredient saffron = createIngredient("saffron");
+    Long recipeA = createRecipe("Recipe A", List.of(salt));
+    Long recipeB = createRecipe("Recipe B", List.of(salt, saffron));
+    String before = ingredientsEtag(recipeA);
+
+    addComment(salt, recipeB);
+
+    assertThat(ingredientsEtag(recipeA)).isNotEqualTo(before);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A comment on an ingredient the recipe does not use should keep the ETag")
+  void shouldKeepEtagForCommentsOnOtherIngredients() {
+    Ingredient salt = createIngredient("salt");
+    Ingredient saffron = createIngredient("saffron");
+    Long recipeA = createRecipe("Recipe A", List.of(salt));
+    Long recipeB = createRecipe("Recipe B", List.of(salt, saffron));
+    String before = ingredientsEtag(recipeA);
+
+    addComment(saffron, recipeB);
+
+    assertThat(ingredientsEtag(recipeA)).isEqualTo(before);
+  }
+
+  private static String ingredientsEtag(final Long recipeId) {
+    return recipeVersionService.currentEtag(recipeId, Resource.INGREDIENTS).orElseThrow();
+  }
+
+  private static Ingredient createIngredient(final String name) {
+    Ingredient ingredient = Ingredient.builder().name(name + "-" + UUID.randomUUID()).build();
+    inTransaction(entityManager -> entityManager.persist(ingredient));
+    return ingredient;
+  }
+
+  private static Long createRecipe(final String title, final List<Ingredient> ingredients) {
+    Recipe recipe = Recipe.builder().userId(UUID.randomUUID()).title(title).build();
+    inTransaction(
+        entityManager -> {
+          for (Ingredient ingredient : ingredients) {
+            recipe
+                .getRecipeIngredients()
+                .add(
+                    RecipeIngredient.builder()
+                        .id(
+                            RecipeIngredientId.builder()
+                                .ingredientId(ingredient.getIngredientId())
+                                .build())
+                        .recipe(recipe)
+                        .ingredient(
+                            entityManager.getReference(
+                                Ingredient.class, ingredient.getIngredientId()))
+                        .quantity(BigDecimal.ONE)
+                        .build());
+          }
+          entityManager.persist(recipe);
+        });
+    return recipe.getRecipeId();
+  }
+
+  private static void addComment(final Ingredient ingredient, final Long recipeId) {
+    inTransaction(
+        entityManager ->
+            entityManager.persist(
+                IngredientComment.builder()
+                    .ingredient(
+                        entityManager.getReference(Ingredient.class, ingredient.getIngredientId()))
+                    .recipeId(recipeId)
+                    .userId(UUID.randomUUID())
+                    .commentText("Use flaky sea salt")
+                    .build()));
+  }
+
+  private static void inTransaction(final Consumer<EntityManager> work) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    work.accept(entityManager);
+    entityManager.getTransaction().commit();
+    entityManager.close();
+  }
+}
@@ -0,0 +1,130 @@
+package com.recipe_manager.dependency_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.service.trending.TrendingScoreService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies against a real PostgreSQL that removing a favorite takes its weight back out of the
+ * trending score, so repeatedly favoriting and unfavoriting a recipe cannot inflate it.
+ */
+@Tag("dependency")
+@Testcontainers(disabledWithoutDocker = true)
+class TrendingScoreWithdrawalTest {
+
+  @Container
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static LocalContainerEntityManagerFactoryBean factoryBean;
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private static TrendingScoreService trendingScoreService;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+    factoryBean.setPackagesToScan("com.recipe_manager.model.entity");
+    factoryBean.setJpaPropertyMap(
+        Map.of(
+            AvailableSettings.HBM2DDL_AUTO, "create",
+            AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true"));
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        new ClassPathResource("db/migration/V004__Add_recipe_trending_scores.sql")
+            .getContentAsString(StandardCharsets.UTF_8));
+    trendingScoreService = new TrendingScoreService(jdbcTemplate);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A favorite, unfavorite, favorite cycle should score as a single favorite")
+  void favoriteCycleShouldScoreAsSingleFavorite() {
+    Long recipeId = createRecipe();
+
+    LocalDateTime favoritedAt = now();
+    trendingScoreService.recordFavorite(recipeId);
+    double singleFavorite = score(recipeId);
+    trendingScoreService.withdrawFavorite(recipeId, favoritedAt);
+    double withdrawn = score(recipeId);
+    trendingScoreService.recordFavorite(recipeId);
+
+    assertThat(singleFavorite).isGreaterThan(0.0);
+    assertThat(withdrawn).isCloseTo(0.0, within(1e-3));
+    assertThat(score(recipeId)).isCloseTo(singleFavorite, within(1e-3));
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Removing a favorite older than the window should leave the score alone")
+  void removingExpiredFavoriteShouldKeepScore() {
+    Long recipeId = createRecipe();
+
+    trendingScoreService.recordFavorite(recipeId);
+    double before = score(recipeId);
+    trendingScoreService.withdrawFavorite(
+        recipeId, now().minusDays(TrendingScoreService.WINDOW_DAYS + 1L));
+
+    assertThat(score(recipeId)).isEqualTo(before);
+  }
+
+  private static double score(final Long recipeId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT score FROM recipe_manager.recipe_trending_scores WHERE recipe_id = ?",
+        Double.class,
+        recipeId);
+  }
+
+  private static LocalDateTime now() {
+    return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+  }
+
+  private static Long createRecipe() {
+    Recipe recipe = Recipe.builder().userId(UUID.randomUUID()).title("Trending").build();
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    entityManager.persist(recipe);
+    entityManager.getTransaction().commit();
+    entityManager.close();
+    return recipe.getRecipeId();
+  }
+}
@@ -0,0 +1,119 @@
+package com.recipe_manager.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Compares the {@link AsyncConfig#EXTERNAL_SERVICE_EXECUTOR} virtual-thread executor with the
+ * common fork-join pool that {@code CompletableFuture.supplyAsync} used before it, for bursts of
+ * concurrent blocking external service calls.
+ *
+ * <p>Each operation starts {@code concurrentCalls} calls that block for {@code latencyMillis}, as a
+ * Feign call waiting on a remote service does, and waits for all of them. The common pool runs only
+ * as many calls at a time as it has threads, one fewer than the cores, so its throughput falls as
+ * bursts grow; the virtual-thread executor runs them all at once. Calls per second are operations
+ * per second times {@code concurrentCalls}. Run with {@code make benchmark
+ * BENCH=ExternalServiceExecutor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExternalServiceExecutorBenchmark {
+
+  /** Number of external service calls started at once. */
+  @Param({"16", "64", "256"})
+  private int concurrentCalls;
+
+  /** How long each call blocks, standing in for the remote service's latency. */
+  @Param({"20"})
+  private long latencyMillis;
+
+  /** The executor external service calls run on. */
+  private SimpleAsyncTaskExecutor externalServiceExecutor;
+
+  /** Creates the executor as the application configures it. */
+  @Setup
+  public void setUp() {
+    externalServiceExecutor =
+        new AsyncConfig().externalServiceExecutor(new ExternalServicesConfig());
+  }
+
+  /** Shuts the executor down. */
+  @TearDown
+  public void tearDown() {
+    externalServiceExecutor.close();
+  }
+
+  /**
+   * Runs a burst of calls on the common fork-join pool.
+   *
+   * @return the call results
+   */
+  @Benchmark
+  public List<String> commonPool() {
+    return burst(CompletableFuture::supplyAsync);
+  }
+
+  /**
+   * Runs a burst of calls on the virtual-thread executor.
+   *
+   * @return the call results
+   */
+  @Benchmark
+  public List<String> virtualThreadExecutor() {
+    return burst(call -> CompletableFuture.supplyAsync(call, externalServiceExecutor));
+  }
+
+  /**
+   * Starts {@code concurrentCalls} blocking calls and waits for all of them.
+   *
+   * @param submit starts a call asynchronously
+   * @return the call results
+   */
+  private List<String> burst(final Function<Supplier<String>, CompletableFuture<String>> submit) {
+    List<CompletableFuture<String>> calls = new ArrayList<>(concurrentCalls);
+    for (int i = 0; i < concurrentCalls; i++) {
+      calls.add(submit.apply(this::blockingCall));
+    }
+    List<String> results = new ArrayList<>(concurrentCalls);
+    for (CompletableFuture<String> call : calls) {
+      results.add(call.join());
+    }
+    return results;
+  }
+
+  /**
+   * Blocks for the simulated latency, as a synchronous HTTP call does.
+   *
+   * @return the call result
+   */
+  private String blockingCall() {
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return "ok";
+  }
+}
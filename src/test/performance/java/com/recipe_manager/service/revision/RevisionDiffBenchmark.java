@@ -0,0 +1,319 @@
+package com.recipe_manager.service.revision;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
+import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
+import com.recipe_manager.model.dto.revision.StepAddRevision;
+import com.recipe_manager.model.dto.revision.StepDeleteRevision;
+import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.IngredientField;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.model.enums.RevisionCategory;
+import com.recipe_manager.model.enums.RevisionType;
+import com.recipe_manager.model.enums.StepField;
+
+/**
+ * Compares {@link RevisionDiff} against the scan-based diff {@code RecipeService.updateRecipe}
+ * used before it, which looked up every requested item with a linear search of the current ones
+ * and wrote one revision per changed field.
+ *
+ * <p>Each update keeps most items, changes several fields on a quarter of them, and replaces a
+ * tenth. Run with {@code make benchmark BENCH=RevisionDiff}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevisionDiffBenchmark {
+
+  /** Every n-th item has its fields changed. */
+  private static final int CHANGED_EVERY = 4;
+
+  /** Every n-th item is replaced by a new one. */
+  private static final int REPLACED_EVERY = 10;
+
+  /** Offset for the IDs and step numbers of replacement items. */
+  private static final int NEW_ITEM_OFFSET = 1_000_000;
+
+  /** Number of ingredients and steps in the recipe. */
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  /** The recipe's current ingredients. */
+  private List<RecipeIngredient> currentIngredients;
+
+  /** The requested ingredients. */
+  private List<RecipeIngredientDto> requestedIngredients;
+
+  /** The ingredients the requested ones resolve to. */
+  private List<Ingredient> resolvedIngredients;
+
+  /** The recipe's current steps. */
+  private List<RecipeStep> currentSteps;
+
+  /** The requested steps. */
+  private List<RecipeStepDto> requestedSteps;
+
+  /** Builds the current and requested recipe contents. */
+  @Setup
+  public void setUp() {
+    currentIngredients = new ArrayList<>(size);
+    requestedIngredients = new ArrayList<>(size);
+    resolvedIngredients = new ArrayList<>(size);
+    currentSteps = new ArrayList<>(size);
+    requestedSteps = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      Ingredient ingredient =
+          Ingredient.builder().ingredientId((long) i).name("Ingredient " + i).build();
+      currentIngredients.add(
+          RecipeIngredient.builder()
+              .ingredient(ingredient)
+              .quantity(BigDecimal.ONE)
+              .unit(IngredientUnit.CUP)
+              .isOptional(false)
+              .build());
+      currentSteps.add(
+          RecipeStep.builder()
+              .stepId((long) i)
+              .stepNumber(i)
+              .instruction("Step " + i)
+              .optional(false)
+              .build());
+
+      boolean replaced = i % REPLACED_EVERY == 0;
+      boolean changed = i % CHANGED_EVERY == 0;
+      int key = replaced ? i + NEW_ITEM_OFFSET : i;
+      Ingredient target =
+          replaced
+              ? Ingredient.builder().ingredientId((long) key).name("Ingredient " + key).build()
+              : ingredient;
+      resolvedIngredients.add(target);
+      requestedIngredients.add(
+          RecipeIngredientDto.builder()
+              .ingredientId(target.getIngredientId())
+              .ingredientName(target.getName())
+              .quantity(changed ? BigDecimal.TEN : BigDecimal.ONE)
+              .unit(changed ? IngredientUnit.TBSP : IngredientUnit.CUP)
+              .isOptional(changed)
+              .build());
+      requestedSteps.add(
+          RecipeStepDto.builder()
+              .stepNumber(key)
+              .instruction(changed ? "Revised step " + key : "Step " + key)
+              .optional(false)
+              .build());
+    }
+  }
+
+  /**
+   * Diffs with the key-indexed engine.
+   *
+   * @return the revisions
+   */
+  @Benchmark
+  public List<AbstractRevision> keyedDiff() {
+    List<AbstractRevision> revisions =
+        RevisionDiff.diffIngredients(
+            currentIngredients, requestedIngredients, resolvedIngredients);
+    revisions.addAll(RevisionDiff.diffSteps(currentSteps, requestedSteps));
+    return revisions;
+  }
+
+  /**
+   * Diffs with the previous scan-based implementation.
+   *
+   * @return the revisions
+   */
+  @Benchmark
+  public List<AbstractRevision> scanDiff() {
+    List<AbstractRevision> revisions = new ArrayList<>();
+    scanIngredients(revisions);
+    scanSteps(revisions);
+    return revisions;
+  }
+
+  /**
+   * The previous ingredient diff: a scan of the request per current ingredient, a scan of the
+   * current ingredients per requested one, and one revision per changed field.
+   *
+   * @param revisions receives the revisions
+   */
+  private void scanIngredients(final List<AbstractRevision> revisions) {
+    for (RecipeIngredient current : currentIngredients) {
+      boolean kept = requestedIngredients.stream().anyMatch(r -> matches(current, r));
+      if (!kept) {
+        revisions.add(
+            IngredientDeleteRevision.builder()
+                .category(RevisionCategory.INGREDIENT)
+                .type(RevisionType.DELETE)
+                .ingredientId(current.getIngredient().getIngredientId())
+                .ingredientName(current.getIngredient().getName())
+                .quantity(current.getQuantity())
+                .unit(current.getUnit())
+                .isOptional(current.getIsOptional())
+                .changeComment("Ingredient removed from recipe")
+                .build());
+      }
+    }
+    for (int i = 0; i < requestedIngredients.size(); i++) {
+      RecipeIngredientDto requested = requestedIngredients.get(i);
+      RecipeIngredient existing =
+          currentIngredients.stream()
+              .filter(current -> matches(current, requested))
+              .findFirst()
+              .orElse(null);
+      if (existing == null) {
+        Ingredient resolved = resolvedIngredients.get(i);
+        revisions.add(
+            IngredientAddRevision.builder()
+                .category(RevisionCategory.INGREDIENT)
+                .type(RevisionType.ADD)
+                .ingredientId(resolved.getIngredientId())
+                .ingredientName(resolved.getName())
+                .quantity(requested.getQuantity())
+                .unit(requested.getUnit())
+                .isOptional(Boolean.TRUE.equals(requested.getIsOptional()))
+                .changeComment("New ingredient added to recipe")
+                .build());
+        continue;
+      }
+      if (!existing.getQuantity().equals(requested.getQuantity())) {
+        revisions.add(
+            ingredientUpdate(
+                existing,
+                IngredientField.QUANTITY,
+                existing.getQuantity(),
+                requested.getQuantity()));
+      }
+      if (!existing.getUnit().equals(requested.getUnit())) {
+        revisions.add(
+            ingredientUpdate(
+                existing, IngredientField.UNIT, existing.getUnit(), requested.getUnit()));
+      }
+      boolean optional = Boolean.TRUE.equals(requested.getIsOptional());
+      if (!existing.getIsOptional().equals(optional)) {
+        revisions.add(
+            ingredientUpdate(
+                existing, IngredientField.OPTIONAL_STATUS, existing.getIsOptional(), optional));
+      }
+    }
+  }
+
+  /**
+   * The previous step diff, which only tracked instruction changes.
+   *
+   * @param revisions receives the revisions
+   */
+  private void scanSteps(final List<AbstractRevision> revisions) {
+    for (RecipeStep current : currentSteps) {
+      boolean kept =
+          requestedSteps.stream().anyMatch(r -> r.getStepNumber().equals(current.getStepNumber()));
+      if (!kept) {
+        revisions.add(
+            StepDeleteRevision.builder()
+                .category(RevisionCategory.STEP)
+                .type(RevisionType.DELETE)
+                .stepId(current.getStepId())
+                .stepNumber(current.getStepNumber())
+                .instruction(current.getInstruction())
+                .changeComment("Step removed from recipe")
+                .build());
+      }
+    }
+    for (RecipeStepDto requested : requestedSteps) {
+      RecipeStep existing =
+          currentSteps.stream()
+              .filter(step -> step.getStepNumber().equals(requested.getStepNumber()))
+              .findFirst()
+              .orElse(null);
+      if (existing == null) {
+        revisions.add(
+            StepAddRevision.builder()
+                .category(RevisionCategory.STEP)
+                .type(RevisionType.ADD)
+                .stepNumber(requested.getStepNumber())
+                .instruction(requested.getInstruction())
+                .changeComment("New step added to recipe")
+                .build());
+      } else if (!existing.getInstruction().equals(requested.getInstruction())) {
+        revisions.add(
+            StepUpdateRevision.builder()
+                .category(RevisionCategory.STEP)
+                .type(RevisionType.UPDATE)
+                .stepId(existing.getStepId())
+                .stepNumber(requested.getStepNumber())
+                .changedField(StepField.INSTRUCTION)
+                .previousValue(existing.getInstruction())
+                .newValue(requested.getInstruction())
+                .changeComment("Step instruction updated")
+                .build());
+      }
+    }
+  }
+
+  /**
+   * The previous ingredient match: same ID, or same name ignoring case.
+   *
+   * @param current a current ingredient
+   * @param requested a requested ingredient
+   * @return true if they refer to the same ingredient
+   */
+  private static boolean matches(
+      final RecipeIngredient current, final RecipeIngredientDto requested) {
+    return (requested.getIngredientId() != null
+            && requested.getIngredientId().equals(current.getIngredient().getIngredientId()))
+        || (requested.getIngredientName() != null
+            && requested.getIngredientName().equalsIgnoreCase(current.getIngredient().getName()));
+  }
+
+  /**
+   * Builds a single-field ingredient update revision.
+   *
+   * @param existing the current ingredient
+   * @param field the changed field
+   * @param previous the previous value
+   * @param next the new value
+   * @return the update revision
+   */
+  private static IngredientUpdateRevision ingredientUpdate(
+      final RecipeIngredient existing,
+      final IngredientField field,
+      final Object previous,
+      final Object next) {
+    return IngredientUpdateRevision.builder()
+        .category(RevisionCategory.INGREDIENT)
+        .type(RevisionType.UPDATE)
+        .ingredientId(existing.getIngredient().getIngredientId())
+        .ingredientName(existing.getIngredient().getName())
+        .changedField(field)
+        .previousValue(previous)
+        .newValue(next)
+        .build();
+  }
+}
@@ -0,0 +1,68 @@
+package com.recipe_manager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/** Unit tests for {@link AsyncConfig}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AsyncConfigTest {
+
+  @Mock private ExternalServicesConfig externalServicesConfig;
+
+  @Mock private ExternalServicesConfig.CommonConfig commonConfig;
+
+  private SimpleAsyncTaskExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    when(externalServicesConfig.getCommon()).thenReturn(commonConfig);
+    when(commonConfig.getExecutorShutdownTimeout()).thenReturn(Duration.ofSeconds(5));
+    executor = new AsyncConfig().externalServiceExecutor(externalServicesConfig);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+    MDC.clear();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("External service calls should run on named virtual threads")
+  void shouldRunCallsOnVirtualThreads() throws Exception {
+    Thread thread =
+        CompletableFuture.supplyAsync(Thread::currentThread, executor).get(5, TimeUnit.SECONDS);
+
+    assertThat(thread.isVirtual()).isTrue();
+    assertThat(thread.getName()).startsWith("external-service-");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("External service calls should log with the submitting request's MDC")
+  void shouldPropagateMdc() throws Exception {
+    MDC.put("requestId", "request-1");
+
+    String requestId =
+        CompletableFuture.supplyAsync(() -> MDC.get("requestId"), executor)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(requestId).isEqualTo("request-1");
+  }
+}
@@ -1,9 +1,14 @@
 package com.recipe_manager.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,7 +19,16 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.security.OAuth2Client.TokenIntrospectionResponse;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
+import com.recipe_manager.service.cache.IngredientPriceLoader;
+import com.recipe_manager.service.cache.RecipeCacheService.VersionedRecipe;
+import com.recipe_manager.service.external.RecipeScraperService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @Tag("unit")
 class CacheConfigTest {
@@ -62,8 +76,10 @@ class CacheConfigTest {
     assertThat(caffeineCacheManager.isAllowNullValues()).isTrue();
 
     // Create a cache and verify its configuration
-    assertThat(caffeineCacheManager.getCache("recipe-scraper-shopping-info"))
+    assertThat(caffeineCacheManager.getCache("media-manager-list"))
         .isNotNull();
+    // Scraper pricing is cached per ingredient instead
+    assertThat(caffeineCacheManager.getCache("recipe-scraper-shopping-info")).isNull();
   }
 
   @Test
@@ -230,4 +246,86 @@ class CacheConfigTest {
     assertThat(cached).isNotNull();
     assertThat(cached.getActive()).isNull();
   }
+
+  @Test
+  @DisplayName("Recipe weight should grow with the number of rows the DTO was built from")
+  void shouldWeighRecipeByRowCount() {
+    RecipeDto empty = RecipeDto.builder().recipeId(1L).build();
+    RecipeDto populated =
+        RecipeDto.builder()
+            .recipeId(2L)
+            .ingredients(
+                List.of(RecipeIngredientDto.builder().build(), RecipeIngredientDto.builder().build()))
+            .steps(List.of(RecipeStepDto.builder().build()))
+            .build();
+
+    assertThat(CacheConfig.weighRecipe(empty)).isEqualTo(1);
+    assertThat(CacheConfig.weighRecipe(populated)).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should create recipe details cache and publish its metrics")
+  void shouldCreateRecipeDetailsCacheWithMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Cache<Long, VersionedRecipe> cache = cacheConfig.recipeDetailsCache(meterRegistry);
+
+    cache.put(1L, new VersionedRecipe("\"v1\"", RecipeDto.builder().recipeId(1L).build()));
+    cache.getIfPresent(1L);
+    cache.getIfPresent(2L);
+
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(
+            meterRegistry.find("cache.gets").tag("cache", CacheConfig.RECIPE_CACHE_NAME).meters())
+        .isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("Should create collection access caches and publish their metrics")
+  void shouldCreateCollectionAccessCachesWithMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Cache<UUID, Set<Long>> accessCache = cacheConfig.collectionAccessCache(meterRegistry);
+    cacheConfig.collectionAclCache(meterRegistry);
+
+    UUID userId = UUID.randomUUID();
+    accessCache.put(userId, Set.of(1L));
+
+    assertThat(accessCache.getIfPresent(userId)).containsExactly(1L);
+    assertThat(
+            meterRegistry
+                .find("cache.gets")
+                .tag("cache", CacheConfig.COLLECTION_ACCESS_CACHE_NAME)
+                .meters())
+        .isNotEmpty();
+    assertThat(
+            meterRegistry
+                .find("cache.gets")
+                .tag("cache", CacheConfig.COLLECTION_ACL_CACHE_NAME)
+                .meters())
+        .isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("Should create ingredient price cache and publish its hit rate")
+  void shouldCreateIngredientPriceCacheWithMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Cache<Long, IngredientPrice> cache =
+        cacheConfig.ingredientPriceCache(
+            meterRegistry,
+            new IngredientPriceLoader(
+                mock(RecipeScraperService.class), Duration.ofHours(24), null));
+
+    cache.put(
+        1L, new IngredientPrice(IngredientUnit.G, new BigDecimal("0.002"), 1L, Instant.now()));
+    cache.getAllPresent(List.of(1L, 2L));
+
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .find("cache.gets")
+                .tag("cache", CacheConfig.INGREDIENT_PRICE_CACHE_NAME)
+                .meters())
+        .isNotEmpty();
+  }
 }
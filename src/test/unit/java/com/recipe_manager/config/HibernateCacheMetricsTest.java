@@ -0,0 +1,100 @@
+package com.recipe_manager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/** Unit tests for {@link HibernateCacheMetrics}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class HibernateCacheMetricsTest {
+
+  @Mock private EntityManagerFactory entityManagerFactory;
+
+  @Mock private SessionFactory sessionFactory;
+
+  @Mock private Statistics statistics;
+
+  @Mock private CacheRegionStatistics regionStatistics;
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  private HibernateCacheMetrics createMetrics() {
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getStatistics()).thenReturn(statistics);
+    return new HibernateCacheMetrics(entityManagerFactory);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should publish hits, misses and hit ratio for every cache region")
+  void shouldPublishRegionMetrics() {
+    when(statistics.isStatisticsEnabled()).thenReturn(true);
+    when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] {"recipe-tags"});
+    when(statistics.getCacheRegionStatistics("recipe-tags")).thenReturn(regionStatistics);
+    when(regionStatistics.getHitCount()).thenReturn(3L);
+    when(regionStatistics.getMissCount()).thenReturn(1L);
+
+    createMetrics().bindTo(registry);
+
+    assertThat(
+            registry
+                .get("hibernate.cache.region.requests")
+                .tags("region", "recipe-tags", "result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(3.0);
+    assertThat(
+            registry
+                .get("hibernate.cache.region.requests")
+                .tags("region", "recipe-tags", "result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+    assertThat(
+            registry
+                .get("hibernate.cache.region.hit.ratio")
+                .tag("region", "recipe-tags")
+                .gauge()
+                .value())
+        .isEqualTo(0.75);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Hit ratio should be NaN before the first lookup")
+  void shouldReportNaNHitRatioWithoutLookups() {
+    when(statistics.getCacheRegionStatistics("ingredients")).thenReturn(regionStatistics);
+
+    assertThat(HibernateCacheMetrics.hitRatio(statistics, "ingredients")).isNaN();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Should register nothing when Hibernate statistics are disabled")
+  void shouldSkipRegistrationWhenStatisticsDisabled() {
+    when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+    createMetrics().bindTo(registry);
+
+    assertThat(registry.getMeters()).isEmpty();
+  }
+}
@@ -0,0 +1,86 @@
+package com.recipe_manager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
+/** Unit tests for {@link RequestContextTaskDecorator}. */
+@Tag("unit")
+class RequestContextTaskDecoratorTest {
+
+  private static final ContextKey<String> TRACE_KEY = ContextKey.named("trace");
+
+  private final RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The task should run with the MDC captured at submission")
+  void shouldRunWithSubmitterMdc() {
+    MDC.put("requestId", "request-1");
+    AtomicReference<String> seen = new AtomicReference<>();
+    Runnable task = decorator.decorate(() -> seen.set(MDC.get("requestId")));
+    MDC.put("requestId", "request-2");
+
+    task.run();
+
+    assertThat(seen).hasValue("request-1");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The running thread's own MDC should be restored after the task")
+  void shouldRestoreRunnerMdc() {
+    Runnable task = decorator.decorate(() -> MDC.put("recipeId", "1"));
+    MDC.put("requestId", "runner");
+
+    task.run();
+
+    assertThat(MDC.getCopyOfContextMap()).isEqualTo(Map.of("requestId", "runner"));
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A task submitted without an MDC should leave the running thread's MDC empty")
+  void shouldClearMdcWhenSubmitterHadNone() {
+    AtomicReference<Map<String, String>> seen = new AtomicReference<>();
+    Runnable task = decorator.decorate(() -> seen.set(MDC.getCopyOfContextMap()));
+    MDC.put("requestId", "runner");
+
+    task.run();
+
+    assertThat(seen.get()).isNullOrEmpty();
+    assertThat(MDC.get("requestId")).isEqualTo("runner");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The task should run in the tracing context captured at submission")
+  void shouldRunInSubmitterTraceContext() {
+    AtomicReference<String> seen = new AtomicReference<>();
+    Runnable task;
+    try (Scope scope = Context.current().with(TRACE_KEY, "span-1").makeCurrent()) {
+      task = decorator.decorate(() -> seen.set(Context.current().get(TRACE_KEY)));
+    }
+
+    task.run();
+
+    assertThat(seen).hasValue("span-1");
+    assertThat(Context.current().get(TRACE_KEY)).isNull();
+  }
+}
@@ -64,12 +64,12 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(recipes, pageable, 2);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(testUserId, pageable);
+        favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
     assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -77,7 +77,7 @@ class FavoriteControllerTest {
     assertThat(result.getBody().getRecipes()).hasSize(2);
     assertThat(result.getBody().getTotalElements()).isEqualTo(2);
 
-    verify(favoriteService).getUserFavorites(testUserId, pageable);
+    verify(favoriteService).getUserFavorites(testUserId, pageable, false);
   }
 
   @Test
@@ -90,19 +90,19 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(recipes, pageable, 1);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(null), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(null), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(null, pageable);
+        favoriteController.getUserFavorites(null, null, false, pageable);
 
     // Then
     assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(result.getBody()).isNotNull();
     assertThat(result.getBody().getRecipes()).hasSize(1);
 
-    verify(favoriteService).getUserFavorites(null, pageable);
+    verify(favoriteService).getUserFavorites(null, pageable, false);
   }
 
   @Test
@@ -114,12 +114,12 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(Collections.emptyList(), pageable, 0);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(testUserId, pageable);
+        favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
     assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -138,12 +138,12 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(recipes, pageable, 25);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(testUserId, pageable);
+        favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
     assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -152,7 +152,7 @@ class FavoriteControllerTest {
     assertThat(result.getBody().getSize()).isEqualTo(5);
     assertThat(result.getBody().getTotalElements()).isEqualTo(25);
 
-    verify(favoriteService).getUserFavorites(testUserId, pageable);
+    verify(favoriteService).getUserFavorites(testUserId, pageable, false);
   }
 
   @Test
@@ -166,12 +166,12 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(recipes, pageable, 30);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(testUserId, pageable);
+        favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
     assertThat(result.getBody()).isNotNull();
@@ -190,12 +190,12 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(recipes, pageable, 21);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
     ResponseEntity<SearchRecipesResponse> result =
-        favoriteController.getUserFavorites(testUserId, pageable);
+        favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
     assertThat(result.getBody()).isNotNull();
@@ -213,14 +213,32 @@ class FavoriteControllerTest {
     SearchRecipesResponse response = createSearchResponse(Collections.emptyList(), pageable, 0);
     ResponseEntity<SearchRecipesResponse> expectedResponse = ResponseEntity.ok(response);
 
-    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getUserFavorites(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
-    favoriteController.getUserFavorites(testUserId, pageable);
+    favoriteController.getUserFavorites(testUserId, null, false, pageable);
 
     // Then
-    verify(favoriteService).getUserFavorites(testUserId, pageable);
+    verify(favoriteService).getUserFavorites(testUserId, pageable, false);
+  }
+
+  @Test
+  @DisplayName("Should delegate to cursor pagination when a cursor is supplied")
+  @Tag("standard-processing")
+  void shouldDelegateToCursorPaginationWhenCursorSupplied() throws AccessDeniedException {
+    // Given
+    Pageable pageable = PageRequest.of(0, 10);
+    SearchRecipesResponse response = createSearchResponse(Collections.emptyList(), pageable, 0);
+
+    when(favoriteService.getUserFavorites(testUserId, "", 10, false))
+        .thenReturn(ResponseEntity.ok(response));
+
+    // When
+    favoriteController.getUserFavorites(testUserId, "", false, pageable);
+
+    // Then
+    verify(favoriteService).getUserFavorites(testUserId, "", 10, false);
   }
 
   // ==================== addFavorite Tests ====================
@@ -370,7 +388,7 @@ class FavoriteControllerTest {
     Page<CollectionDto> emptyPage = Page.empty(pageable);
     ResponseEntity<Page<CollectionDto>> expectedResponse = ResponseEntity.ok(emptyPage);
 
-    when(favoriteService.getFavoriteCollections(eq(testUserId), any(Pageable.class)))
+    when(favoriteService.getFavoriteCollections(eq(testUserId), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
@@ -392,7 +410,7 @@ class FavoriteControllerTest {
     Page<CollectionDto> emptyPage = Page.empty(pageable);
     ResponseEntity<Page<CollectionDto>> expectedResponse = ResponseEntity.ok(emptyPage);
 
-    when(favoriteService.getFavoriteCollections(eq(null), any(Pageable.class)))
+    when(favoriteService.getFavoriteCollections(eq(null), any(Pageable.class), eq(false)))
         .thenReturn(expectedResponse);
 
     // When
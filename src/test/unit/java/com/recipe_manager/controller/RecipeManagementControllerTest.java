@@ -2,7 +2,9 @@ package com.recipe_manager.controller;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,10 +12,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
@@ -41,6 +45,8 @@ import com.recipe_manager.service.RecipeService;
 import com.recipe_manager.service.ReviewService;
 import com.recipe_manager.service.StepService;
 import com.recipe_manager.service.TagService;
+import com.recipe_manager.service.cache.RecipeVersionService;
+import com.recipe_manager.service.cache.RecipeVersionService.Resource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -52,6 +58,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
@@ -80,6 +87,9 @@ class RecipeManagementControllerTest {
   @Mock
   private ReviewService reviewService;
 
+  @Mock
+  private RecipeVersionService recipeVersionService;
+
   @InjectMocks
   private RecipeManagementController recipeManagementController;
 
@@ -112,7 +122,7 @@ class RecipeManagementControllerTest {
     SearchRecipesResponse mockResponse = SearchRecipesResponse.builder()
         .build();
 
-    when(recipeService.searchRecipes(any(SearchRecipesRequest.class), any()))
+    when(recipeService.searchRecipes(any(SearchRecipesRequest.class), any(), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     String validSearchRequestJson = "{" +
@@ -150,14 +160,14 @@ class RecipeManagementControllerTest {
         .empty(true)
         .build();
 
-    when(recipeService.getTrendingRecipes(any(Pageable.class)))
+    when(recipeService.getTrendingRecipes(any(Pageable.class), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     mockMvc.perform(get("/recipes/trending")
         .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk());
 
-    verify(recipeService).getTrendingRecipes(any(Pageable.class));
+    verify(recipeService).getTrendingRecipes(any(Pageable.class), anyBoolean());
   }
 
   /**
@@ -198,6 +208,89 @@ class RecipeManagementControllerTest {
         .andExpect(status().isOk());
   }
 
+  /**
+   * Test GET /recipe-management/recipes/{recipeId} returns the current ETag.
+   */
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should return the current ETag with GET /recipe-management/recipes/{recipeId}")
+  void shouldReturnEtagWithRecipe() throws Exception {
+    String etag = "\"v1-recipe-1-0.0.0.0.0.0.0\"";
+    when(recipeVersionService.currentEtag(1L, Resource.RECIPE)).thenReturn(Optional.of(etag));
+    when(recipeService.getRecipe("1", etag))
+        .thenReturn(ResponseEntity.ok(RecipeDto.builder().recipeId(1L).build()));
+
+    mockMvc.perform(get("/recipes/1"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+  }
+
+  /**
+   * Test GET /recipe-management/recipes/{recipeId} returns 304 for a current ETag.
+   */
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should return 304 without loading the recipe when If-None-Match is current")
+  void shouldReturnNotModifiedForCurrentRecipeEtag() throws Exception {
+    String etag = "\"v1-recipe-1-0.0.0.0.0.0.0\"";
+    when(recipeVersionService.currentEtag(1L, Resource.RECIPE)).thenReturn(Optional.of(etag));
+
+    mockMvc.perform(get("/recipes/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+    verify(recipeService, never()).getRecipe(any(), any());
+  }
+
+  /**
+   * Test GET /recipe-management/recipes/{recipeId}/steps reloads for an outdated ETag.
+   */
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should return the steps with the new ETag when If-None-Match is outdated")
+  void shouldReturnStepsForOutdatedEtag() throws Exception {
+    when(recipeVersionService.currentEtag(1L, Resource.STEPS))
+        .thenReturn(Optional.of("\"v1-steps-1-2\""));
+    when(stepService.getSteps(1L))
+        .thenReturn(StepResponse.builder().recipeId(1L).steps(List.of()).build());
+
+    mockMvc.perform(get("/recipes/1/steps").header(HttpHeaders.IF_NONE_MATCH, "\"v1-steps-1-1\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v1-steps-1-2\""));
+  }
+
+  /**
+   * Test GET /recipe-management/recipes/{recipeId}/tags returns 304 for a wildcard.
+   */
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Should return 304 for If-None-Match: * when the recipe exists")
+  void shouldReturnNotModifiedForWildcard() throws Exception {
+    when(recipeVersionService.currentEtag(1L, Resource.TAGS))
+        .thenReturn(Optional.of("\"v1-tags-1-0\""));
+
+    mockMvc.perform(get("/recipes/1/tags").header(HttpHeaders.IF_NONE_MATCH, "*"))
+        .andExpect(status().isNotModified());
+
+    verify(tagService, never()).getTags(any());
+  }
+
+  /**
+   * Test GET /recipe-management/recipes/{recipeId} skips the probe for a malformed ID.
+   */
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Should pass malformed recipe IDs straight to the service")
+  void shouldSkipProbeForMalformedRecipeId() throws Exception {
+    when(recipeService.getRecipe("abc", null)).thenReturn(ResponseEntity.badRequest().build());
+
+    mockMvc.perform(get("/recipes/abc").header(HttpHeaders.IF_NONE_MATCH, "*"))
+        .andExpect(status().isBadRequest());
+
+    verify(recipeVersionService, never()).currentEtag(any(), any());
+  }
+
   /**
    * Test POST /recipe-management/recipes endpoint.
    */
@@ -95,7 +95,7 @@ class UserControllerTest {
             .empty(false)
             .build();
 
-    when(recipeService.getMyRecipes(any(Pageable.class)))
+    when(recipeService.getMyRecipes(any(Pageable.class), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     mockMvc
@@ -131,7 +131,7 @@ class UserControllerTest {
             .empty(false)
             .build();
 
-    when(recipeService.getMyRecipes(any(Pageable.class)))
+    when(recipeService.getMyRecipes(any(Pageable.class), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     mockMvc
@@ -167,7 +167,7 @@ class UserControllerTest {
             .empty(true)
             .build();
 
-    when(recipeService.getMyRecipes(any(Pageable.class)))
+    when(recipeService.getMyRecipes(any(Pageable.class), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     mockMvc
@@ -197,7 +197,7 @@ class UserControllerTest {
             .empty(false)
             .build();
 
-    when(recipeService.getMyRecipes(any(Pageable.class)))
+    when(recipeService.getMyRecipes(any(Pageable.class), anyBoolean()))
         .thenReturn(ResponseEntity.ok(mockResponse));
 
     mockMvc
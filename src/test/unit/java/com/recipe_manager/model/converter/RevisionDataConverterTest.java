@@ -8,15 +8,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 
 import com.recipe_manager.exception.RevisionSerializationException;
 import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.FieldChange;
 import com.recipe_manager.model.dto.revision.IngredientAddRevision;
 import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
 import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
 import com.recipe_manager.model.dto.revision.StepAddRevision;
 import com.recipe_manager.model.dto.revision.StepDeleteRevision;
 import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.enums.IngredientField;
 import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.model.enums.RevisionCategory;
 import com.recipe_manager.model.enums.RevisionType;
@@ -120,6 +125,33 @@ class RevisionDataConverterTest {
     assertJson(result);
   }
 
+  @Test
+  void testCoalescedIngredientUpdateRevision_RoundTripsFieldChanges() {
+    Map<IngredientField, FieldChange> changes = new EnumMap<>(IngredientField.class);
+    changes.put(IngredientField.QUANTITY,
+        new FieldChange(new BigDecimal("1.0"), new BigDecimal("2.0")));
+    changes.put(IngredientField.UNIT, new FieldChange(IngredientUnit.TSP, IngredientUnit.TBSP));
+    IngredientUpdateRevision revision = IngredientUpdateRevision.builder()
+        .category(RevisionCategory.INGREDIENT)
+        .type(RevisionType.UPDATE)
+        .changeComment("Ingredient quantity, unit updated")
+        .ingredientId(3L)
+        .ingredientName("Sugar")
+        .changes(changes)
+        .build();
+
+    AbstractRevision result =
+        converter.convertToEntityAttribute(converter.convertToDatabaseColumn(revision));
+
+    assertTrue(result instanceof IngredientUpdateRevision);
+    IngredientUpdateRevision update = (IngredientUpdateRevision) result;
+    assertNull(update.getChangedField());
+    assertEquals(Set.of(IngredientField.QUANTITY, IngredientField.UNIT),
+        update.getFieldChanges().keySet());
+    assertEquals("TBSP", update.getFieldChanges().get(IngredientField.UNIT).getNewValue());
+    assertTrue(update.isValid());
+  }
+
   @Test
   void testConvertToDatabaseColumn_StepAddRevision_ReturnsJsonString() {
     StepAddRevision revision = StepAddRevision.builder()
@@ -0,0 +1,95 @@
+package com.recipe_manager.model.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.exception.RevisionSerializationException;
+import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.RevisionPayload;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.model.enums.RevisionCategory;
+import com.recipe_manager.model.enums.RevisionType;
+
+/** Unit tests for {@link RevisionPayloadConverter} and the payloads it produces. */
+@Tag("unit")
+class RevisionPayloadConverterTest {
+
+  /** Stored the way PostgreSQL renders JSONB: keys reordered, spaces after separators. */
+  private static final String STORED =
+      "{\"type\": \"ADD\", \"unit\": \"CUP\", \"category\": \"INGREDIENT\", "
+          + "\"quantity\": 2.0, \"isOptional\": false, \"ingredientId\": 1, "
+          + "\"ingredientName\": \"Flour\"}";
+
+  private final RevisionPayloadConverter converter = new RevisionPayloadConverter();
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Loaded JSON should be passed through unchanged")
+  void loadedJsonShouldPassThrough() {
+    RevisionPayload payload = converter.convertToEntityAttribute(STORED);
+
+    assertThat(payload.getJson()).isSameAs(STORED);
+    assertThat(converter.convertToDatabaseColumn(payload)).isSameAs(STORED);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Loaded JSON should be parsed once, on first typed access")
+  void loadedJsonShouldParseOnDemand() {
+    RevisionPayload payload = converter.convertToEntityAttribute(STORED);
+
+    IngredientAddRevision revision = (IngredientAddRevision) payload.getRevision();
+
+    assertThat(revision.getIngredientName()).isEqualTo("Flour");
+    assertThat(revision.getUnit()).isEqualTo(IngredientUnit.CUP);
+    assertThat(payload.getRevision()).isSameAs(revision);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A payload created from a revision should serialize it for storage")
+  void revisionPayloadShouldSerializeForStorage() {
+    IngredientAddRevision revision =
+        IngredientAddRevision.builder()
+            .category(RevisionCategory.INGREDIENT)
+            .type(RevisionType.ADD)
+            .ingredientId(1L)
+            .ingredientName("Flour")
+            .quantity(new BigDecimal("2.0"))
+            .unit(IngredientUnit.CUP)
+            .isOptional(false)
+            .build();
+
+    String json = converter.convertToDatabaseColumn(RevisionPayload.of(revision));
+
+    assertThat(json).contains("\"ingredientName\":\"Flour\"");
+    assertThat(RevisionPayload.ofJson(json).getRevision()).isEqualTo(revision);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Null or blank columns should convert to no payload")
+  void emptyColumnShouldConvertToNull() {
+    assertThat(converter.convertToEntityAttribute(null)).isNull();
+    assertThat(converter.convertToEntityAttribute("  ")).isNull();
+    assertThat(converter.convertToDatabaseColumn(null)).isNull();
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Invalid JSON should only fail once the typed revision is requested")
+  void invalidJsonShouldFailOnTypedAccess() {
+    RevisionPayload payload = converter.convertToEntityAttribute("{\"category\": \"UNKNOWN\"}");
+
+    assertThat(payload.getJson()).isEqualTo("{\"category\": \"UNKNOWN\"}");
+    assertThatThrownBy(payload::getRevision)
+        .isInstanceOf(RevisionSerializationException.class)
+        .hasMessage("Failed to convert JSON to revision");
+  }
+}
@@ -0,0 +1,76 @@
+package com.recipe_manager.model.dto.recipe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.recipe_manager.model.enums.DifficultyLevel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class RecipeSummaryDtoTest {
+
+  @Test
+  @DisplayName("Builder assigns all fields")
+  @Tag("standard-processing")
+  void builderAssignsFields() {
+    UUID userId = UUID.randomUUID();
+    LocalDateTime now = LocalDateTime.now();
+    RecipeSummaryDto dto =
+        RecipeSummaryDto.builder()
+            .recipeId(1L)
+            .userId(userId)
+            .title("Pancakes")
+            .servings(new BigDecimal("4"))
+            .difficulty(DifficultyLevel.EASY)
+            .createdAt(now)
+            .favoriteCount(12L)
+            .commentCount(3L)
+            .build();
+    assertThat(dto.getRecipeId()).isEqualTo(1L);
+    assertThat(dto.getUserId()).isEqualTo(userId);
+    assertThat(dto.getTitle()).isEqualTo("Pancakes");
+    assertThat(dto.getServings()).isEqualByComparingTo("4");
+    assertThat(dto.getDifficulty()).isEqualTo(DifficultyLevel.EASY);
+    assertThat(dto.getCreatedAt()).isEqualTo(now);
+    assertThat(dto.getFavoriteCount()).isEqualTo(12L);
+    assertThat(dto.getCommentCount()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("No-args constructor sets nulls and zero counts")
+  @Tag("standard-processing")
+  void noArgsConstructorSetsDefaults() {
+    RecipeSummaryDto dto = new RecipeSummaryDto();
+    assertThat(dto.getRecipeId()).isNull();
+    assertThat(dto.getTitle()).isNull();
+    assertThat(dto.getFavoriteCount()).isZero();
+    assertThat(dto.getCommentCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Summary and full DTO share the recipe view")
+  @Tag("standard-processing")
+  void summaryAndFullDtoShareRecipeView() {
+    RecipeView summary = RecipeSummaryDto.builder().recipeId(2L).title("Soup").build();
+    RecipeView full = RecipeDto.builder().recipeId(2L).title("Soup").build();
+    assertThat(summary.getRecipeId()).isEqualTo(full.getRecipeId());
+    assertThat(summary.getTitle()).isEqualTo(full.getTitle());
+  }
+
+  @Test
+  @DisplayName("Equals and hashCode use all fields")
+  @Tag("standard-processing")
+  void equalsAndHashCodeUseAllFields() {
+    RecipeSummaryDto a = RecipeSummaryDto.builder().recipeId(1L).favoriteCount(1L).build();
+    RecipeSummaryDto b = RecipeSummaryDto.builder().recipeId(1L).favoriteCount(1L).build();
+    RecipeSummaryDto c = RecipeSummaryDto.builder().recipeId(1L).favoriteCount(2L).build();
+    assertThat(a).isEqualTo(b).hasSameHashCodeAs(b);
+    assertThat(a).isNotEqualTo(c);
+  }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 
 import com.recipe_manager.model.enums.DifficultyLevel;
 import com.recipe_manager.model.enums.IngredientMatchMode;
+import com.recipe_manager.model.enums.TextSearchMode;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -60,6 +61,8 @@ class SearchRecipesRequestTest {
 
     // Then
     assertThat(request.getIngredientMatchMode()).isEqualTo(IngredientMatchMode.AND);
+    assertThat(request.getTextSearchMode()).isEqualTo(TextSearchMode.CONTAINS);
+    assertThat(request.getTagMatchMode()).isEqualTo(IngredientMatchMode.OR);
   }
 
   @Test
@@ -131,7 +134,9 @@ class SearchRecipesRequestTest {
         20,
         BigDecimal.valueOf(3),
         BigDecimal.valueOf(8),
-        tags);
+        tags,
+        TextSearchMode.FULL_TEXT,
+        IngredientMatchMode.NONE);
 
     // Then
     assertThat(request.getRecipeNameQuery()).isEqualTo("Beef Stew");
@@ -143,6 +148,8 @@ class SearchRecipesRequestTest {
     assertThat(request.getMinServings()).isEqualTo(BigDecimal.valueOf(3));
     assertThat(request.getMaxServings()).isEqualTo(BigDecimal.valueOf(8));
     assertThat(request.getTags()).isSameAs(tags);
+    assertThat(request.getTextSearchMode()).isEqualTo(TextSearchMode.FULL_TEXT);
+    assertThat(request.getTagMatchMode()).isEqualTo(IngredientMatchMode.NONE);
   }
 
   @Test
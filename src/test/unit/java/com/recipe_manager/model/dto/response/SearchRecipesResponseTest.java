@@ -118,7 +118,7 @@ class SearchRecipesResponseTest {
 
     // When
     SearchRecipesResponse response = new SearchRecipesResponse(
-        recipes, 0, 20, 2L, 1, true, true, 2, false);
+        recipes, 0, 20, 2L, 1, true, true, 2, false, "next");
 
     // Then
     assertThat(response.getRecipes()).isSameAs(recipes);
@@ -130,6 +130,7 @@ class SearchRecipesResponseTest {
     assertThat(response.isLast()).isTrue();
     assertThat(response.getNumberOfElements()).isEqualTo(2);
     assertThat(response.isEmpty()).isFalse();
+    assertThat(response.getNextCursor()).isEqualTo("next");
   }
 
   @Test
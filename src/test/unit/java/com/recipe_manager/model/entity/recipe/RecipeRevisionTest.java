@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.StepDeleteRevision;
 import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.model.enums.RevisionCategory;
 import com.recipe_manager.model.enums.RevisionType;
@@ -169,4 +170,34 @@ class RecipeRevisionTest {
     assertThat(r1.hashCode()).isEqualTo(r2.hashCode());
     assertThat(r1.toString()).contains("Test Ingredient");
   }
+
+  @Test
+  @DisplayName("Step and ingredient IDs are copied from the revision data on persist")
+  @Tag("standard-processing")
+  void onCreateCopiesEntityIds() {
+    StepDeleteRevision stepData = StepDeleteRevision.builder()
+        .category(RevisionCategory.STEP)
+        .type(RevisionType.DELETE)
+        .stepId(7L)
+        .stepNumber(2)
+        .instruction("Bake")
+        .build();
+    IngredientAddRevision ingredientData = IngredientAddRevision.builder()
+        .category(RevisionCategory.INGREDIENT)
+        .type(RevisionType.ADD)
+        .ingredientId(3L)
+        .ingredientName("Salt")
+        .build();
+
+    RecipeRevision step = RecipeRevision.builder().previousData(stepData).newData(stepData).build();
+    RecipeRevision ingredient =
+        RecipeRevision.builder().previousData(ingredientData).newData(ingredientData).build();
+    step.onCreate();
+    ingredient.onCreate();
+
+    assertThat(step.getStepId()).isEqualTo(7L);
+    assertThat(step.getIngredientId()).isNull();
+    assertThat(ingredient.getIngredientId()).isEqualTo(3L);
+    assertThat(ingredient.getStepId()).isNull();
+  }
 }
@@ -20,10 +20,11 @@ class IngredientMatchModeTest {
     IngredientMatchMode[] values = IngredientMatchMode.values();
 
     // Then
-    assertThat(values).hasSize(2);
+    assertThat(values).hasSize(3);
     assertThat(values).containsExactlyInAnyOrder(
         IngredientMatchMode.AND,
-        IngredientMatchMode.OR);
+        IngredientMatchMode.OR,
+        IngredientMatchMode.NONE);
   }
 
   @Test
@@ -33,6 +34,7 @@ class IngredientMatchModeTest {
     // Then
     assertThat(IngredientMatchMode.AND.ordinal()).isEqualTo(0);
     assertThat(IngredientMatchMode.OR.ordinal()).isEqualTo(1);
+    assertThat(IngredientMatchMode.NONE.ordinal()).isEqualTo(2);
   }
 
   @Test
@@ -42,10 +44,12 @@ class IngredientMatchModeTest {
     // Given
     String andString = "AND";
     String orString = "OR";
+    String noneString = "NONE";
 
     // When & Then
     assertThat(IngredientMatchMode.valueOf(andString)).isEqualTo(IngredientMatchMode.AND);
     assertThat(IngredientMatchMode.valueOf(orString)).isEqualTo(IngredientMatchMode.OR);
+    assertThat(IngredientMatchMode.valueOf(noneString)).isEqualTo(IngredientMatchMode.NONE);
   }
 
   @Test
@@ -55,6 +59,7 @@ class IngredientMatchModeTest {
     // Then
     assertThat(IngredientMatchMode.AND.name()).isEqualTo("AND");
     assertThat(IngredientMatchMode.OR.name()).isEqualTo("OR");
+    assertThat(IngredientMatchMode.NONE.name()).isEqualTo("NONE");
   }
 
   @Test
@@ -63,5 +68,6 @@ class IngredientMatchModeTest {
   void shouldBeDistinctTypes() {
     // Then
     assertThat(IngredientMatchMode.AND).isNotEqualTo(IngredientMatchMode.OR);
+    assertThat(IngredientMatchMode.OR).isNotEqualTo(IngredientMatchMode.NONE);
   }
 }
@@ -120,4 +120,29 @@ class IngredientUnitTest {
     assertThat(IngredientUnit.TBSP.name()).isEqualTo("TBSP");
     assertThat(IngredientUnit.TSP.name()).isEqualTo("TSP");
   }
+
+  @Test
+  @DisplayName("Should convert weights and volumes to their canonical units")
+  @Tag("standard-processing")
+  void shouldConvertToCanonicalUnits() {
+    assertThat(IngredientUnit.KG.getCanonicalUnit()).isEqualTo(IngredientUnit.G);
+    assertThat(IngredientUnit.LB.getCanonicalUnit()).isEqualTo(IngredientUnit.G);
+    assertThat(IngredientUnit.CUP.getCanonicalUnit()).isEqualTo(IngredientUnit.ML);
+    assertThat(IngredientUnit.KG.toCanonical(new java.math.BigDecimal("1.5")))
+        .isEqualByComparingTo("1500");
+    assertThat(IngredientUnit.TBSP.toCanonical(java.math.BigDecimal.ONE))
+        .isEqualByComparingTo(IngredientUnit.TSP.toCanonical(new java.math.BigDecimal("3")));
+    assertThat(IngredientUnit.L.fromCanonical(new java.math.BigDecimal("250")))
+        .isEqualByComparingTo("0.25");
+  }
+
+  @Test
+  @DisplayName("Should keep count units as their own canonical unit")
+  @Tag("standard-processing")
+  void shouldKeepCountUnitsCanonical() {
+    assertThat(IngredientUnit.PIECE.getCanonicalUnit()).isEqualTo(IngredientUnit.PIECE);
+    assertThat(IngredientUnit.G.getCanonicalUnit()).isEqualTo(IngredientUnit.G);
+    assertThat(IngredientUnit.CLOVE.toCanonical(new java.math.BigDecimal("2")))
+        .isEqualByComparingTo("2");
+  }
 }
@@ -0,0 +1,67 @@
+package com.recipe_manager.model.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TextSearchMode enum.
+ */
+@Tag("unit")
+class TextSearchModeTest {
+
+  @Test
+  @DisplayName("Should have correct enum values")
+  @Tag("standard-processing")
+  void shouldHaveCorrectEnumValues() {
+    // Given & When
+    TextSearchMode[] values = TextSearchMode.values();
+
+    // Then
+    assertThat(values).hasSize(2);
+    assertThat(values).containsExactlyInAnyOrder(
+        TextSearchMode.CONTAINS,
+        TextSearchMode.FULL_TEXT);
+  }
+
+  @Test
+  @DisplayName("Should have correct ordinal values")
+  @Tag("standard-processing")
+  void shouldHaveCorrectOrdinalValues() {
+    // Then
+    assertThat(TextSearchMode.CONTAINS.ordinal()).isEqualTo(0);
+    assertThat(TextSearchMode.FULL_TEXT.ordinal()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should convert from string correctly")
+  @Tag("standard-processing")
+  void shouldConvertFromStringCorrectly() {
+    // Given
+    String containsString = "CONTAINS";
+    String fullTextString = "FULL_TEXT";
+
+    // When & Then
+    assertThat(TextSearchMode.valueOf(containsString)).isEqualTo(TextSearchMode.CONTAINS);
+    assertThat(TextSearchMode.valueOf(fullTextString)).isEqualTo(TextSearchMode.FULL_TEXT);
+  }
+
+  @Test
+  @DisplayName("Should have correct string representation")
+  @Tag("standard-processing")
+  void shouldHaveCorrectStringRepresentation() {
+    // Then
+    assertThat(TextSearchMode.CONTAINS.name()).isEqualTo("CONTAINS");
+    assertThat(TextSearchMode.FULL_TEXT.name()).isEqualTo("FULL_TEXT");
+  }
+
+  @Test
+  @DisplayName("Should be distinct types")
+  @Tag("standard-processing")
+  void shouldBeDistinctTypes() {
+    // Then
+    assertThat(TextSearchMode.CONTAINS).isNotEqualTo(TextSearchMode.FULL_TEXT);
+  }
+}
@@ -12,7 +12,6 @@ import com.recipe_manager.model.dto.response.CollectionSummaryResponse;
 import com.recipe_manager.model.entity.collection.CollectionTag;
 import com.recipe_manager.model.entity.collection.RecipeCollection;
 import com.recipe_manager.model.entity.collection.RecipeCollectionItem;
-import com.recipe_manager.model.entity.collection.CollectionCollaborator;
 import com.recipe_manager.model.enums.CollaborationMode;
 import com.recipe_manager.model.enums.CollectionVisibility;
 import com.recipe_manager.repository.collection.CollectionSummaryProjection;
@@ -464,17 +463,12 @@ class CollectionMapperTest {
   }
 
   @Test
-  @DisplayName("Should calculate recipe count from collection items")
+  @DisplayName("Should map recipe count from the stored count column")
   @Tag("standard-processing")
-  void shouldCalculateRecipeCountFromCollectionItems() {
+  void shouldMapRecipeCountFromStoredColumn() {
     UUID userId = UUID.randomUUID();
     LocalDateTime now = LocalDateTime.now();
 
-    List<RecipeCollectionItem> items = new ArrayList<>();
-    items.add(new RecipeCollectionItem()); // Add mock items
-    items.add(new RecipeCollectionItem());
-    items.add(new RecipeCollectionItem());
-
     RecipeCollection collection =
         RecipeCollection.builder()
             .collectionId(1L)
@@ -482,9 +476,10 @@ class CollectionMapperTest {
             .name("Collection With Items")
             .visibility(CollectionVisibility.PUBLIC)
             .collaborationMode(CollaborationMode.OWNER_ONLY)
+            .recipeCount(3)
             .createdAt(now)
             .updatedAt(now)
-            .collectionItems(items)
+            .collectionItems(new ArrayList<>())
             .collaborators(new ArrayList<>())
             .build();
 
@@ -495,16 +490,12 @@ class CollectionMapperTest {
   }
 
   @Test
-  @DisplayName("Should calculate collaborator count from collaborators list")
+  @DisplayName("Should map collaborator count from the stored count column")
   @Tag("standard-processing")
-  void shouldCalculateCollaboratorCountFromCollaboratorsList() {
+  void shouldMapCollaboratorCountFromStoredColumn() {
     UUID userId = UUID.randomUUID();
     LocalDateTime now = LocalDateTime.now();
 
-    List<CollectionCollaborator> collaborators = new ArrayList<>();
-    collaborators.add(new CollectionCollaborator()); // Add mock collaborators
-    collaborators.add(new CollectionCollaborator());
-
     RecipeCollection collection =
         RecipeCollection.builder()
             .collectionId(1L)
@@ -512,10 +503,11 @@ class CollectionMapperTest {
             .name("Collection With Collaborators")
             .visibility(CollectionVisibility.PUBLIC)
             .collaborationMode(CollaborationMode.SPECIFIC_USERS)
+            .collaboratorCount(2)
             .createdAt(now)
             .updatedAt(now)
             .collectionItems(new ArrayList<>())
-            .collaborators(collaborators)
+            .collaborators(new ArrayList<>())
             .build();
 
     CollectionDto result = collectionMapper.toDto(collection);
@@ -1,6 +1,7 @@
 package com.recipe_manager.model.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.UUID;
 import com.recipe_manager.model.dto.recipe.RecipeDto;
 import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
 import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.recipe.RecipeSummaryDto;
 import com.recipe_manager.model.dto.request.UpdateRecipeRequest;
 import com.recipe_manager.model.dto.revision.IngredientAddRevision;
 import com.recipe_manager.model.entity.ingredient.Ingredient;
@@ -24,10 +26,12 @@ import com.recipe_manager.model.enums.DifficultyLevel;
 import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.model.enums.RevisionCategory;
 import com.recipe_manager.model.enums.RevisionType;
+import com.recipe_manager.repository.recipe.RecipeSummaryProjection;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
@@ -107,6 +111,28 @@ class RecipeMapperTest {
     assertThat(result.getTags()).isNotNull();
   }
 
+  @Test
+  @DisplayName("Should map summary projection to RecipeSummaryDto")
+  void shouldMapSummaryProjectionToSummaryDto() {
+    UUID userId = UUID.randomUUID();
+    RecipeSummaryProjection projection = Mockito.mock(RecipeSummaryProjection.class);
+    when(projection.getRecipeId()).thenReturn(5L);
+    when(projection.getUserId()).thenReturn(userId);
+    when(projection.getTitle()).thenReturn("Summary Recipe");
+    when(projection.getDifficulty()).thenReturn(DifficultyLevel.MEDIUM);
+    when(projection.getFavoriteCount()).thenReturn(7L);
+    when(projection.getCommentCount()).thenReturn(2L);
+
+    RecipeSummaryDto result = recipeMapper.toSummaryDto(projection);
+
+    assertThat(result.getRecipeId()).isEqualTo(5L);
+    assertThat(result.getUserId()).isEqualTo(userId);
+    assertThat(result.getTitle()).isEqualTo("Summary Recipe");
+    assertThat(result.getDifficulty()).isEqualTo(DifficultyLevel.MEDIUM);
+    assertThat(result.getFavoriteCount()).isEqualTo(7L);
+    assertThat(result.getCommentCount()).isEqualTo(2L);
+  }
+
   @Test
   @DisplayName("Should handle null Recipe entity")
   void shouldHandleNullRecipeEntity() {
@@ -11,6 +11,7 @@ import java.util.UUID;
 import com.recipe_manager.model.dto.recipe.RecipeRevisionDto;
 import com.recipe_manager.model.dto.revision.IngredientAddRevision;
 import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
+import com.recipe_manager.model.dto.revision.RevisionPayload;
 import com.recipe_manager.model.dto.revision.StepAddRevision;
 import com.recipe_manager.model.dto.revision.StepDeleteRevision;
 import com.recipe_manager.model.entity.recipe.Recipe;
@@ -647,4 +648,13 @@ class RecipeRevisionMapperTest {
     assertThat(result.getRevisionCategory()).isEqualTo(RevisionCategory.STEP);
     assertThat(result.getRevisionType()).isEqualTo(RevisionType.UPDATE);
   }
+
+  @Test
+  @DisplayName("Should pass stored revision JSON through without rewriting it")
+  void shouldPassStoredRevisionJsonThrough() {
+    String stored = "{\"type\": \"ADD\", \"category\": \"STEP\", \"stepNumber\": 1}";
+
+    assertThat(mapper.payloadToString(RevisionPayload.ofJson(stored))).isSameAs(stored);
+    assertThat(mapper.payloadToString(null)).isNull();
+  }
 }
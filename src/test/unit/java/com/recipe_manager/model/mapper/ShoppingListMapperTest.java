@@ -185,6 +185,42 @@ class ShoppingListMapperTest {
         .isEqualByComparingTo(new BigDecimal("1.5"));
   }
 
+  @Test
+  @DisplayName("Should aggregate the same ingredient across convertible units")
+  void shouldAggregateIngredientAcrossConvertibleUnits() {
+    // Arrange
+    Recipe recipe = Recipe.builder().recipeId(123L).build();
+    Ingredient flour = Ingredient.builder()
+        .ingredientId(3L)
+        .name("Flour")
+        .build();
+
+    List<RecipeIngredient> ingredients = Arrays.asList(
+        RecipeIngredient.builder()
+            .recipe(recipe)
+            .ingredient(flour)
+            .quantity(new BigDecimal("500"))
+            .unit(IngredientUnit.G)
+            .isOptional(false)
+            .build(),
+        RecipeIngredient.builder()
+            .recipe(recipe)
+            .ingredient(flour)
+            .quantity(new BigDecimal("1"))
+            .unit(IngredientUnit.KG)
+            .isOptional(false)
+            .build());
+
+    // Act
+    List<ShoppingListItemDto> items = mapper.toAggregatedShoppingListItems(ingredients);
+
+    // Assert
+    assertThat(items).hasSize(1);
+    assertThat(items.get(0).getUnit()).isEqualTo(IngredientUnit.KG);
+    assertThat(items.get(0).getTotalQuantity())
+        .isEqualByComparingTo(new BigDecimal("1.5"));
+  }
+
   private List<RecipeIngredient> createTestIngredients(Recipe recipe) {
     Ingredient salt = Ingredient.builder()
         .ingredientId(1L)
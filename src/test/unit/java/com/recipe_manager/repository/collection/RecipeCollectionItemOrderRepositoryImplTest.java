@@ -0,0 +1,85 @@
+package com.recipe_manager.repository.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.recipe_manager.model.entity.collection.RecipeCollectionItem;
+
+import jakarta.persistence.EntityManager;
+
+/** Unit tests for {@link RecipeCollectionItemOrderRepositoryImpl}. */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class RecipeCollectionItemOrderRepositoryImplTest {
+
+  @Mock private EntityManager entityManager;
+
+  @Mock private NativeQuery<Object> query;
+
+  private RecipeCollectionItemOrderRepositoryImpl repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new RecipeCollectionItemOrderRepositoryImpl();
+    ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should update every display order with one VALUES statement")
+  void shouldUpdateAllDisplayOrdersInOneStatement() {
+    Map<Long, Integer> displayOrders = new LinkedHashMap<>();
+    displayOrders.put(10L, 20);
+    displayOrders.put(11L, 10);
+    displayOrders.put(12L, 30);
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.unwrap(NativeQuery.class)).thenReturn(query);
+    when(query.executeUpdate()).thenReturn(3);
+
+    int updated = repository.updateDisplayOrders(1L, displayOrders);
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(entityManager).createNativeQuery(sql.capture());
+    assertThat(sql.getValue())
+        .contains(
+            "FROM (VALUES (CAST(? AS BIGINT), CAST(? AS INTEGER)), "
+                + "(CAST(? AS BIGINT), CAST(? AS INTEGER)), "
+                + "(CAST(? AS BIGINT), CAST(? AS INTEGER))) AS v(recipe_id, display_order)")
+        .endsWith("WHERE i.collection_id = ? AND i.recipe_id = v.recipe_id");
+    verify(query).setParameter(1, 10L);
+    verify(query).setParameter(2, 20);
+    verify(query).setParameter(3, 11L);
+    verify(query).setParameter(4, 10);
+    verify(query).setParameter(5, 12L);
+    verify(query).setParameter(6, 30);
+    verify(query).setParameter(7, 1L);
+    verify(query).addSynchronizedEntityClass(RecipeCollectionItem.class);
+    assertThat(updated).isEqualTo(3);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Should not run a statement when there is nothing to reorder")
+  void shouldSkipEmptyReorder() {
+    assertThat(repository.updateDisplayOrders(1L, Map.of())).isZero();
+
+    verifyNoInteractions(entityManager);
+  }
+}
@@ -36,6 +36,8 @@ import org.springframework.data.domain.Pageable;
 @Tag("unit")
 class RecipeCollectionRepositoryTest {
 
+  private static final Long[] ACCESSIBLE_IDS = {1L, 2L};
+
   private RecipeCollectionRepository recipeCollectionRepository;
   private UUID testUserId;
 
@@ -266,19 +268,19 @@ class RecipeCollectionRepositoryTest {
         Arrays.asList(createTestProjection(1L), createTestProjection(2L));
     Page<CollectionSummaryProjection> expectedPage = new PageImpl<>(projections, pageable, 2);
 
-    when(recipeCollectionRepository.findAccessibleCollections(testUserId, pageable))
+    when(recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable))
         .thenReturn(expectedPage);
 
     // When
     Page<CollectionSummaryProjection> result =
-        recipeCollectionRepository.findAccessibleCollections(testUserId, pageable);
+        recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable);
 
     // Then
     assertThat(result.getContent()).hasSize(2);
     assertThat(result.getTotalElements()).isEqualTo(2);
     assertThat(result.getNumber()).isEqualTo(0);
     assertThat(result.getSize()).isEqualTo(20);
-    verify(recipeCollectionRepository).findAccessibleCollections(testUserId, pageable);
+    verify(recipeCollectionRepository).findAccessibleCollections(ACCESSIBLE_IDS, pageable);
   }
 
   @Test
@@ -296,12 +298,12 @@ class RecipeCollectionRepositoryTest {
             createTestProjection(5L));
     Page<CollectionSummaryProjection> expectedPage = new PageImpl<>(projections, pageable, 10);
 
-    when(recipeCollectionRepository.findAccessibleCollections(testUserId, pageable))
+    when(recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable))
         .thenReturn(expectedPage);
 
     // When
     Page<CollectionSummaryProjection> result =
-        recipeCollectionRepository.findAccessibleCollections(testUserId, pageable);
+        recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable);
 
     // Then
     assertThat(result.getContent()).hasSize(5);
@@ -318,12 +320,12 @@ class RecipeCollectionRepositoryTest {
     Page<CollectionSummaryProjection> emptyPage =
         new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(recipeCollectionRepository.findAccessibleCollections(testUserId, pageable))
+    when(recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable))
         .thenReturn(emptyPage);
 
     // When
     Page<CollectionSummaryProjection> result =
-        recipeCollectionRepository.findAccessibleCollections(testUserId, pageable);
+        recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable);
 
     // Then
     assertThat(result.getContent()).isEmpty();
@@ -340,12 +342,12 @@ class RecipeCollectionRepositoryTest {
         Arrays.asList(createTestProjection(11L), createTestProjection(12L));
     Page<CollectionSummaryProjection> expectedPage = new PageImpl<>(projections, pageable, 25);
 
-    when(recipeCollectionRepository.findAccessibleCollections(testUserId, pageable))
+    when(recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable))
         .thenReturn(expectedPage);
 
     // When
     Page<CollectionSummaryProjection> result =
-        recipeCollectionRepository.findAccessibleCollections(testUserId, pageable);
+        recipeCollectionRepository.findAccessibleCollections(ACCESSIBLE_IDS, pageable);
 
     // Then
     assertThat(result.getContent()).hasSize(2);
@@ -450,75 +452,6 @@ class RecipeCollectionRepositoryTest {
     assertThat(hasAccess).isFalse();
   }
 
-  @Test
-  @DisplayName("findTrendingCollections returns paginated trending collections for user")
-  @Tag("standard-processing")
-  void findTrendingCollections_returnsPaginatedResults() {
-    // Given
-    UUID userId = UUID.randomUUID();
-    Pageable pageable = PageRequest.of(0, 10);
-    List<RecipeCollection> collections =
-        Arrays.asList(createTestCollection(1L), createTestCollection(2L));
-    Page<RecipeCollection> expectedPage = new PageImpl<>(collections, pageable, 2);
-
-    when(recipeCollectionRepository.findTrendingCollections(userId, pageable))
-        .thenReturn(expectedPage);
-
-    // When
-    Page<RecipeCollection> result =
-        recipeCollectionRepository.findTrendingCollections(userId, pageable);
-
-    // Then
-    assertThat(result).isNotNull();
-    assertThat(result.getContent()).hasSize(2);
-    assertThat(result.getTotalElements()).isEqualTo(2);
-  }
-
-  @Test
-  @DisplayName("findTrendingCollections returns empty page when no accessible trending collections")
-  @Tag("standard-processing")
-  void findTrendingCollections_returnsEmptyPageWhenNoTrendingCollections() {
-    // Given
-    UUID userId = UUID.randomUUID();
-    Pageable pageable = PageRequest.of(0, 10);
-    Page<RecipeCollection> emptyPage = Page.empty(pageable);
-
-    when(recipeCollectionRepository.findTrendingCollections(userId, pageable))
-        .thenReturn(emptyPage);
-
-    // When
-    Page<RecipeCollection> result =
-        recipeCollectionRepository.findTrendingCollections(userId, pageable);
-
-    // Then
-    assertThat(result).isNotNull();
-    assertThat(result.getContent()).isEmpty();
-    assertThat(result.getTotalElements()).isZero();
-  }
-
-  @Test
-  @DisplayName("findTrendingCollections respects pagination parameters")
-  @Tag("standard-processing")
-  void findTrendingCollections_respectsPaginationParameters() {
-    // Given
-    UUID userId = UUID.randomUUID();
-    Pageable pageable = PageRequest.of(1, 5); // Second page, 5 items per page
-    List<RecipeCollection> collections = Arrays.asList(createTestCollection(1L));
-    Page<RecipeCollection> expectedPage = new PageImpl<>(collections, pageable, 6);
-
-    when(recipeCollectionRepository.findTrendingCollections(userId, pageable))
-        .thenReturn(expectedPage);
-
-    // When
-    Page<RecipeCollection> result =
-        recipeCollectionRepository.findTrendingCollections(userId, pageable);
-
-    // Then
-    assertThat(result.getNumber()).isEqualTo(1);
-    assertThat(result.getSize()).isEqualTo(5);
-    assertThat(result.getTotalPages()).isEqualTo(2);
-  }
-
   private RecipeCollection createTestCollection(Long collectionId) {
     return RecipeCollection.builder()
         .collectionId(collectionId)
@@ -8,11 +8,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +31,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.recipe_manager.config.ExternalServicesConfig;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Test class for JwtService.
  * Verifies that JWT service works correctly with OAuth2 integration.
@@ -39,6 +47,8 @@ class JwtServiceTest {
 
   @Mock private ExternalServicesConfig.OAuth2ServiceConfig oauth2ServiceConfig;
 
+  private SimpleMeterRegistry meterRegistry;
+
   private JwtService jwtService;
 
   @BeforeEach
@@ -49,7 +59,8 @@ class JwtServiceTest {
     lenient().when(oauth2ServiceConfig.getEnabled()).thenReturn(false);
     lenient().when(oauth2ServiceConfig.getIntrospectionEnabled()).thenReturn(false);
 
-    jwtService = new JwtService(oauth2Client, externalServicesConfig);
+    meterRegistry = new SimpleMeterRegistry();
+    jwtService = new JwtService(oauth2Client, externalServicesConfig, meterRegistry);
 
     // Set test values for JWT configuration
     ReflectionTestUtils.setField(jwtService, "secretKey", "test-secret-key-for-jwt-service-testing-very-long-key");
@@ -431,4 +442,45 @@ class JwtServiceTest {
     // Then
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Concurrent introspections of the same token should share one client call")
+  void shouldShareConcurrentIntrospections() throws Exception {
+    // Given
+    String token = "shared-token";
+    CompletableFuture<OAuth2Client.TokenIntrospectionResponse> introspection =
+        new CompletableFuture<>();
+    when(oauth2Client.introspectToken(token)).thenReturn(introspection);
+
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      // When
+      Future<Boolean> first =
+          executor.submit(() -> jwtService.isTokenValidViaIntrospection(token));
+      Future<Boolean> second =
+          executor.submit(() -> jwtService.isTokenValidViaIntrospection(token));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (coalesced() < 1 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      introspection.complete(
+          OAuth2Client.TokenIntrospectionResponse.builder().active(true).build());
+
+      // Then
+      assertTrue(first.get(5, TimeUnit.SECONDS));
+      assertTrue(second.get(5, TimeUnit.SECONDS));
+      verify(oauth2Client, times(1)).introspectToken(token);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private double coalesced() {
+    return meterRegistry
+        .get("external.service.calls.coalesced")
+        .tag("operation", "introspectToken")
+        .counter()
+        .count();
+  }
 }
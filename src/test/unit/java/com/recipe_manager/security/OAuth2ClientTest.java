@@ -7,7 +7,10 @@ import static org.mockito.Mockito.*;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -41,6 +44,8 @@ class OAuth2ClientTest {
 
   @Mock private Cache<String, OAuth2Client.TokenIntrospectionResponse> tokenIntrospectionCache;
 
+  private ExecutorService externalServiceExecutor;
+
   private OAuth2Client oauth2Client;
 
   @BeforeEach
@@ -58,7 +63,18 @@ class OAuth2ClientTest {
     lenient().when(oauth2ServiceConfig.getClientSecret()).thenReturn("test-client-secret");
     lenient().when(oauth2ServiceConfig.getScopes()).thenReturn("read write");
 
-    oauth2Client = new OAuth2Client(externalServicesConfig, restTemplate, tokenIntrospectionCache);
+    externalServiceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    oauth2Client =
+        new OAuth2Client(
+            externalServicesConfig,
+            restTemplate,
+            tokenIntrospectionCache,
+            externalServiceExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    externalServiceExecutor.close();
   }
 
   @Test
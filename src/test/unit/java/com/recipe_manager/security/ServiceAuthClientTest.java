@@ -53,7 +53,9 @@ class ServiceAuthClientTest {
     lenient().when(oauth2ServiceConfig.getClientSecret()).thenReturn("test-client-secret");
     lenient().when(oauth2ServiceConfig.getScopes()).thenReturn("read write");
 
-    serviceAuthClient = new ServiceAuthClient(restTemplate, externalServicesConfig);
+    // Run token requests on the test thread
+    serviceAuthClient =
+        new ServiceAuthClient(restTemplate, externalServicesConfig, Runnable::run);
   }
 
   @Test
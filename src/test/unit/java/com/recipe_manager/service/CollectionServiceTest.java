@@ -3,6 +3,8 @@ package com.recipe_manager.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -10,14 +12,18 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.LongStream;
 
 import jakarta.persistence.EntityManager;
 
@@ -50,6 +56,7 @@ import com.recipe_manager.model.dto.request.SearchCollectionsRequest;
 import com.recipe_manager.model.dto.request.UpdateCollectionRequest;
 import com.recipe_manager.model.dto.response.CollectionDetailsDto;
 import com.recipe_manager.model.dto.response.CollectionDto;
+import com.recipe_manager.model.dto.response.CollectionRecipesResponse;
 import com.recipe_manager.model.entity.collection.CollectionCollaborator;
 import com.recipe_manager.model.entity.collection.CollectionTag;
 import com.recipe_manager.model.entity.collection.RecipeCollection;
@@ -62,12 +69,17 @@ import com.recipe_manager.model.mapper.CollectionMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionItemMapper;
 import com.recipe_manager.model.mapper.RecipeCollectionMapper;
 import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.CollectionRecipeProjection;
 import com.recipe_manager.repository.collection.CollectionSummaryProjection;
 import com.recipe_manager.repository.collection.CollectionTagRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionItemRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.service.cache.CollectionAccessCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.trending.TrendingCollectionRanking;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.CollectionItemCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 /** Unit tests for CollectionService. */
@@ -93,8 +105,14 @@ class CollectionServiceTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
   @Mock private EntityManager entityManager;
 
+  @Mock private CollectionAccessCache collectionAccessCache;
+
+  @Mock private TrendingCollectionRanking trendingCollectionRanking;
+
   private CollectionService collectionService;
 
   private UUID testUserId;
@@ -122,7 +140,10 @@ class CollectionServiceTest {
             recipeCollectionItemMapper,
             recipeRepository,
             notificationService,
-            entityManager);
+            trendingScoreService,
+            entityManager,
+            collectionAccessCache,
+            trendingCollectionRanking);
     testUserId = UUID.randomUUID();
   }
 
@@ -139,7 +160,7 @@ class CollectionServiceTest {
     CollectionDto dto1 = createTestDto(1L);
     CollectionDto dto2 = createTestDto(2L);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
     when(collectionMapper.fromProjection(projections.get(0))).thenReturn(dto1);
     when(collectionMapper.fromProjection(projections.get(1))).thenReturn(dto2);
@@ -160,7 +181,8 @@ class CollectionServiceTest {
     assertThat(resultPage.getNumber()).isEqualTo(0);
     assertThat(resultPage.getSize()).isEqualTo(20);
 
-    verify(recipeCollectionRepository).findAccessibleCollections(testUserId, pageable);
+    verify(collectionAccessCache).getNonPublicAccessibleIds(testUserId);
+    verify(recipeCollectionRepository).findAccessibleCollections(new Long[0], pageable);
   }
 
   @Test
@@ -172,7 +194,7 @@ class CollectionServiceTest {
     Page<CollectionSummaryProjection> emptyPage =
         new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(emptyPage);
 
     // When
@@ -189,7 +211,8 @@ class CollectionServiceTest {
     assertThat(resultPage.getContent()).isEmpty();
     assertThat(resultPage.getTotalElements()).isEqualTo(0);
 
-    verify(recipeCollectionRepository).findAccessibleCollections(testUserId, pageable);
+    verify(collectionAccessCache).getNonPublicAccessibleIds(testUserId);
+    verify(recipeCollectionRepository).findAccessibleCollections(new Long[0], pageable);
   }
 
   @Test
@@ -212,7 +235,7 @@ class CollectionServiceTest {
           .thenReturn(createTestDto((long) (i + 1)));
     }
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When
@@ -245,7 +268,7 @@ class CollectionServiceTest {
     when(collectionMapper.fromProjection(projections.get(0))).thenReturn(createTestDto(11L));
     when(collectionMapper.fromProjection(projections.get(1))).thenReturn(createTestDto(12L));
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When
@@ -274,7 +297,8 @@ class CollectionServiceTest {
     Page<CollectionSummaryProjection> emptyPage =
         new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(recipeCollectionRepository.findAccessibleCollections(expectedUserId, pageable))
+    when(collectionAccessCache.getNonPublicAccessibleIds(expectedUserId)).thenReturn(Set.of(7L));
+    when(recipeCollectionRepository.findAccessibleCollections(new Long[] {7L}, pageable))
         .thenReturn(emptyPage);
 
     // When
@@ -284,7 +308,7 @@ class CollectionServiceTest {
     }
 
     // Then
-    verify(recipeCollectionRepository).findAccessibleCollections(expectedUserId, pageable);
+    verify(recipeCollectionRepository).findAccessibleCollections(new Long[] {7L}, pageable);
   }
 
   @Test
@@ -302,7 +326,7 @@ class CollectionServiceTest {
     CollectionDto dto2 = createTestDto(2L);
     CollectionDto dto3 = createTestDto(3L);
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
     when(collectionMapper.fromProjection(projections.get(0))).thenReturn(dto1);
     when(collectionMapper.fromProjection(projections.get(1))).thenReturn(dto2);
@@ -340,7 +364,7 @@ class CollectionServiceTest {
 
     when(collectionMapper.fromProjection(any())).thenReturn(createTestDto(21L));
 
-    when(recipeCollectionRepository.findAccessibleCollections(any(UUID.class), any(Pageable.class)))
+    when(recipeCollectionRepository.findAccessibleCollections(any(Long[].class), any(Pageable.class)))
         .thenReturn(projectionPage);
 
     // When
@@ -742,10 +766,10 @@ class CollectionServiceTest {
     RecipeCollection collection = createTestCollectionWithRecipes(collectionId);
     CollectionDetailsDto expectedDto = createTestDetailsDto(collectionId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId))
         .thenReturn(Optional.of(collection));
-    when(collectionMapper.toDetailsDto(collection)).thenReturn(expectedDto);
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
 
     // When
     ResponseEntity<CollectionDetailsDto> response;
@@ -759,9 +783,9 @@ class CollectionServiceTest {
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody()).isEqualTo(expectedDto);
 
-    verify(recipeCollectionRepository).hasViewAccess(collectionId, testUserId);
-    verify(recipeCollectionRepository).findByIdWithItems(collectionId);
-    verify(collectionMapper).toDetailsDto(collection);
+    verify(collectionAccessCache).hasViewAccess(collectionId, testUserId);
+    verify(recipeCollectionRepository).findById(collectionId);
+    verify(collectionMapper).toDetailsDtoWithoutRecipes(collection);
   }
 
   @Test
@@ -775,10 +799,10 @@ class CollectionServiceTest {
     collection.setUserId(otherUserId); // Collection owned by different user
     CollectionDetailsDto expectedDto = createTestDetailsDto(collectionId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId))
         .thenReturn(Optional.of(collection));
-    when(collectionMapper.toDetailsDto(collection)).thenReturn(expectedDto);
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
 
     // When
     ResponseEntity<CollectionDetailsDto> response;
@@ -790,7 +814,7 @@ class CollectionServiceTest {
     // Then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).isNotNull();
-    verify(recipeCollectionRepository).hasViewAccess(collectionId, testUserId);
+    verify(collectionAccessCache).hasViewAccess(collectionId, testUserId);
   }
 
   @Test
@@ -800,7 +824,7 @@ class CollectionServiceTest {
     // Given
     Long collectionId = 3L;
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(false);
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(false);
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -811,7 +835,7 @@ class CollectionServiceTest {
           .hasMessage("Collection not found or access denied");
     }
 
-    verify(recipeCollectionRepository).hasViewAccess(collectionId, testUserId);
+    verify(collectionAccessCache).hasViewAccess(collectionId, testUserId);
   }
 
   @Test
@@ -821,8 +845,8 @@ class CollectionServiceTest {
     // Given
     Long collectionId = 999L;
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId)).thenReturn(Optional.empty());
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.empty());
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -833,8 +857,8 @@ class CollectionServiceTest {
           .hasMessage("Collection not found");
     }
 
-    verify(recipeCollectionRepository).hasViewAccess(collectionId, testUserId);
-    verify(recipeCollectionRepository).findByIdWithItems(collectionId);
+    verify(collectionAccessCache).hasViewAccess(collectionId, testUserId);
+    verify(recipeCollectionRepository).findById(collectionId);
   }
 
   @Test
@@ -868,10 +892,10 @@ class CollectionServiceTest {
             .updatedAt(collection.getUpdatedAt())
             .build();
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId))
         .thenReturn(Optional.of(collection));
-    when(collectionMapper.toDetailsDto(collection)).thenReturn(expectedDto);
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
 
     // When
     ResponseEntity<CollectionDetailsDto> response;
@@ -925,10 +949,12 @@ class CollectionServiceTest {
             .updatedAt(collection.getUpdatedAt())
             .build();
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, testUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId))
         .thenReturn(Optional.of(collection));
-    when(collectionMapper.toDetailsDto(collection)).thenReturn(expectedDto);
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
+    when(collectionMapper.fromRecipeProjections(anyList()))
+        .thenReturn(Arrays.asList(recipe1, recipe2));
 
     // When
     ResponseEntity<CollectionDetailsDto> response;
@@ -941,6 +967,91 @@ class CollectionServiceTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody().getRecipes()).hasSize(2);
+    assertThat(response.getBody().getRecipesNextCursor()).isNull();
+    verify(recipeCollectionItemRepository).findRecipePage(collectionId, PageRequest.of(0, 51));
+    verify(recipeCollectionRepository, never()).findByIdWithItems(any());
+  }
+
+  @Test
+  @DisplayName("Should return a cursor when a collection has more recipes than the details list")
+  @Tag("standard-processing")
+  void shouldReturnRecipesCursorForLargeCollection() {
+    // Given
+    Long collectionId = 7L;
+    RecipeCollection collection = createTestCollectionWithRecipes(collectionId);
+    CollectionDetailsDto expectedDto = createTestDetailsDto(collectionId);
+    List<CollectionRecipeProjection> rows = new ArrayList<>();
+    for (int i = 1; i <= 51; i++) {
+      rows.add(recipeRow((long) i, i * 10));
+    }
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
+    when(recipeCollectionItemRepository.findRecipePage(collectionId, PageRequest.of(0, 51)))
+        .thenReturn(rows);
+
+    // When
+    ResponseEntity<CollectionDetailsDto> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+      response = collectionService.getCollectionById(collectionId);
+    }
+
+    // Then - only the first 50 rows are mapped and the cursor points past the 50th
+    verify(collectionMapper).fromRecipeProjections(rows.subList(0, 50));
+    CollectionItemCursor cursor =
+        CollectionItemCursor.decode(response.getBody().getRecipesNextCursor());
+    assertThat(cursor.getDisplayOrder()).isEqualTo(500);
+    assertThat(cursor.getRecipeId()).isEqualTo(50L);
+  }
+
+  @Test
+  @DisplayName("Should page collection recipes after the cursor position")
+  @Tag("standard-processing")
+  void shouldPageCollectionRecipesAfterCursor() {
+    // Given
+    Long collectionId = 8L;
+    String cursor = CollectionItemCursor.of(20, 2L).encode();
+    List<CollectionRecipeProjection> rows = List.of(recipeRow(3L, 30), recipeRow(4L, 40));
+
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(true);
+    when(recipeCollectionItemRepository.findRecipePageAfter(
+            collectionId, 20, 2L, PageRequest.of(0, 3)))
+        .thenReturn(rows);
+
+    // When
+    ResponseEntity<CollectionRecipesResponse> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+      response = collectionService.getCollectionRecipes(collectionId, cursor, 2);
+    }
+
+    // Then - a full page with no extra row is the last page
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getCollectionId()).isEqualTo(collectionId);
+    assertThat(response.getBody().getNextCursor()).isNull();
+    verify(collectionMapper).fromRecipeProjections(rows);
+    verify(recipeCollectionItemRepository, never()).findRecipePage(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should not list collection recipes without view access")
+  @Tag("error-processing")
+  void shouldNotListCollectionRecipesWithoutAccess() {
+    // Given
+    Long collectionId = 9L;
+    when(collectionAccessCache.hasViewAccess(collectionId, testUserId)).thenReturn(false);
+
+    // When/Then
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+
+      assertThatThrownBy(() -> collectionService.getCollectionRecipes(collectionId, null, 20))
+          .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    verifyNoInteractions(recipeCollectionItemRepository);
   }
 
   @Test
@@ -953,10 +1064,10 @@ class CollectionServiceTest {
     RecipeCollection collection = createTestCollectionWithRecipes(collectionId);
     CollectionDetailsDto expectedDto = createTestDetailsDto(collectionId);
 
-    when(recipeCollectionRepository.hasViewAccess(collectionId, expectedUserId)).thenReturn(true);
-    when(recipeCollectionRepository.findByIdWithItems(collectionId))
+    when(collectionAccessCache.hasViewAccess(collectionId, expectedUserId)).thenReturn(true);
+    when(recipeCollectionRepository.findById(collectionId))
         .thenReturn(Optional.of(collection));
-    when(collectionMapper.toDetailsDto(collection)).thenReturn(expectedDto);
+    when(collectionMapper.toDetailsDtoWithoutRecipes(collection)).thenReturn(expectedDto);
 
     // When
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -967,7 +1078,7 @@ class CollectionServiceTest {
       securityUtilsMock.verify(SecurityUtils::getCurrentUserId);
     }
 
-    verify(recipeCollectionRepository).hasViewAccess(collectionId, expectedUserId);
+    verify(collectionAccessCache).hasViewAccess(collectionId, expectedUserId);
   }
 
   private RecipeCollection createTestCollectionWithRecipes(Long collectionId) {
@@ -1042,6 +1153,40 @@ class CollectionServiceTest {
         .build();
   }
 
+  private CollectionRecipeProjection recipeRow(Long recipeId, int displayOrder) {
+    return new CollectionRecipeProjection() {
+      @Override
+      public Long getRecipeId() {
+        return recipeId;
+      }
+
+      @Override
+      public String getRecipeTitle() {
+        return "Recipe " + recipeId;
+      }
+
+      @Override
+      public String getRecipeDescription() {
+        return null;
+      }
+
+      @Override
+      public Integer getDisplayOrder() {
+        return displayOrder;
+      }
+
+      @Override
+      public UUID getAddedBy() {
+        return testUserId;
+      }
+
+      @Override
+      public LocalDateTime getAddedAt() {
+        return null;
+      }
+    };
+  }
+
   private CollectionDetailsDto createTestDetailsDto(Long collectionId) {
     CollectionRecipeDto recipeDto =
         CollectionRecipeDto.builder()
@@ -1817,32 +1962,20 @@ class CollectionServiceTest {
   void shouldGetTrendingCollectionsSuccessfully() {
     // Given
     Pageable pageable = PageRequest.of(0, 20);
-    List<RecipeCollection> collections =
-        Arrays.asList(
-            RecipeCollection.builder()
-                .collectionId(1L)
-                .userId(testUserId)
-                .name("Trending Collection 1")
-                .visibility(CollectionVisibility.PUBLIC)
-                .collaborationMode(CollaborationMode.OWNER_ONLY)
-                .build(),
-            RecipeCollection.builder()
-                .collectionId(2L)
-                .userId(testUserId)
-                .name("Trending Collection 2")
-                .visibility(CollectionVisibility.PUBLIC)
-                .collaborationMode(CollaborationMode.OWNER_ONLY)
-                .build());
-
-    Page<RecipeCollection> collectionPage = new PageImpl<>(collections, pageable, 2);
+    List<Long> ranking = List.of(5L, 2L, 1L);
+    RecipeCollection collection1 = createTrendingCollection(1L);
+    RecipeCollection collection2 = createTrendingCollection(2L);
 
     CollectionDto dto1 = createTestDto(1L);
     CollectionDto dto2 = createTestDto(2L);
 
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(collectionPage);
-    when(collectionMapper.toDto(collections.get(0))).thenReturn(dto1);
-    when(collectionMapper.toDto(collections.get(1))).thenReturn(dto2);
+    when(trendingCollectionRanking.getRanking()).thenReturn(ranking);
+    when(collectionAccessCache.filterViewable(ranking, testUserId, 100))
+        .thenReturn(List.of(2L, 1L));
+    when(recipeCollectionRepository.findAllById(List.of(2L, 1L)))
+        .thenReturn(List.of(collection1, collection2));
+    when(collectionMapper.toDto(collection1)).thenReturn(dto1);
+    when(collectionMapper.toDto(collection2)).thenReturn(dto2);
 
     // When
     ResponseEntity<Page<CollectionDto>> response;
@@ -1854,10 +1987,9 @@ class CollectionServiceTest {
     // Then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).isNotNull();
-    assertThat(response.getBody().getContent()).hasSize(2);
+    assertThat(response.getBody().getContent()).containsExactly(dto2, dto1);
     assertThat(response.getBody().getTotalElements()).isEqualTo(2);
 
-    verify(recipeCollectionRepository).findTrendingCollections(testUserId, pageable);
     verify(collectionMapper, times(2)).toDto(any(RecipeCollection.class));
   }
 
@@ -1867,10 +1999,9 @@ class CollectionServiceTest {
   void shouldGetTrendingCollectionsWithEmptyResults() {
     // Given
     Pageable pageable = PageRequest.of(0, 20);
-    Page<RecipeCollection> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), any(Pageable.class)))
-        .thenReturn(emptyPage);
+    when(trendingCollectionRanking.getRanking()).thenReturn(List.of());
+    when(collectionAccessCache.filterViewable(List.of(), testUserId, 100)).thenReturn(List.of());
 
     // When
     ResponseEntity<Page<CollectionDto>> response;
@@ -1884,6 +2015,7 @@ class CollectionServiceTest {
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody().getContent()).isEmpty();
     assertThat(response.getBody().getTotalElements()).isEqualTo(0);
+    verify(collectionMapper, never()).toDto(any(RecipeCollection.class));
   }
 
   @Test
@@ -1892,22 +2024,13 @@ class CollectionServiceTest {
   void shouldApplyPaginationCorrectlyForTrendingCollections() {
     // Given
     Pageable pageable = PageRequest.of(1, 10);
-    List<RecipeCollection> collections =
-        Collections.singletonList(
-            RecipeCollection.builder()
-                .collectionId(11L)
-                .userId(testUserId)
-                .name("Page 2 Collection")
-                .visibility(CollectionVisibility.PUBLIC)
-                .collaborationMode(CollaborationMode.OWNER_ONLY)
-                .build());
-
-    // Total must be >= offset + pageSize (10 + 10 = 20) to avoid PageImpl recalculating total
-    Page<RecipeCollection> collectionPage = new PageImpl<>(collections, pageable, 25);
-
-    when(recipeCollectionRepository.findTrendingCollections(any(UUID.class), eq(pageable)))
-        .thenReturn(collectionPage);
+    List<Long> viewable = LongStream.rangeClosed(1, 25).boxed().toList();
+    List<Long> secondPage = LongStream.rangeClosed(11, 20).boxed().toList();
 
+    when(trendingCollectionRanking.getRanking()).thenReturn(viewable);
+    when(collectionAccessCache.filterViewable(viewable, testUserId, 100)).thenReturn(viewable);
+    when(recipeCollectionRepository.findAllById(secondPage))
+        .thenReturn(secondPage.stream().map(this::createTrendingCollection).toList());
     when(collectionMapper.toDto(any(RecipeCollection.class)))
         .thenAnswer(
             invocation -> {
@@ -1932,6 +2055,107 @@ class CollectionServiceTest {
     assertThat(response.getBody().getSize()).isEqualTo(10);
     assertThat(response.getBody().getTotalElements()).isEqualTo(25);
     assertThat(response.getBody().getTotalPages()).isEqualTo(3);
+    assertThat(response.getBody().getContent())
+        .extracting(CollectionDto::getCollectionId)
+        .containsExactlyElementsOf(secondPage);
+  }
+
+  @Test
+  @DisplayName("Should skip trending collections deleted since the ranking was loaded")
+  @Tag("edge-case")
+  void shouldSkipDeletedTrendingCollections() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 20);
+    RecipeCollection collection1 = createTrendingCollection(1L);
+    CollectionDto dto1 = createTestDto(1L);
+
+    when(trendingCollectionRanking.getRanking()).thenReturn(List.of(1L, 2L));
+    when(collectionAccessCache.filterViewable(List.of(1L, 2L), testUserId, 100))
+        .thenReturn(List.of(1L, 2L));
+    when(recipeCollectionRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(collection1));
+    when(collectionMapper.toDto(collection1)).thenReturn(dto1);
+
+    // When
+    ResponseEntity<Page<CollectionDto>> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+      response = collectionService.getTrendingCollections(pageable);
+    }
+
+    // Then
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).containsExactly(dto1);
+  }
+
+  @Test
+  @DisplayName("Should read the score index when the truncated ranking has too few viewable")
+  @Tag("edge-case")
+  void shouldFallBackToScoreIndexWhenRankingHasTooFewViewable() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 20);
+    RecipeCollection collection1 = createTrendingCollection(1L);
+    RecipeCollection collection7 = createTrendingCollection(7L);
+    CollectionDto dto1 = createTestDto(1L);
+    CollectionDto dto7 = createTestDto(7L);
+
+    when(trendingCollectionRanking.getRanking()).thenReturn(List.of(1L, 2L));
+    when(trendingCollectionRanking.isTruncated()).thenReturn(true);
+    when(collectionAccessCache.filterViewable(List.of(1L, 2L), testUserId, 100))
+        .thenReturn(List.of(1L));
+    when(collectionAccessCache.getNonPublicAccessibleIds(testUserId)).thenReturn(Set.of(7L));
+    when(recipeCollectionRepository.findTrendingAccessibleCollectionIds(new Long[] {7L}, 100))
+        .thenReturn(List.of(1L, 7L));
+    when(recipeCollectionRepository.findAllById(List.of(1L, 7L)))
+        .thenReturn(List.of(collection7, collection1));
+    when(collectionMapper.toDto(collection1)).thenReturn(dto1);
+    when(collectionMapper.toDto(collection7)).thenReturn(dto7);
+
+    // When
+    ResponseEntity<Page<CollectionDto>> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+      response = collectionService.getTrendingCollections(pageable);
+    }
+
+    // Then
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).containsExactly(dto1, dto7);
+    assertThat(response.getBody().getTotalElements()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should not read the score index when the ranking holds every scored collection")
+  @Tag("edge-case")
+  void shouldNotFallBackWhenRankingIsComplete() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 20);
+
+    when(trendingCollectionRanking.getRanking()).thenReturn(List.of(2L));
+    when(trendingCollectionRanking.isTruncated()).thenReturn(false);
+    when(collectionAccessCache.filterViewable(List.of(2L), testUserId, 100)).thenReturn(List.of());
+
+    // When
+    ResponseEntity<Page<CollectionDto>> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+      response = collectionService.getTrendingCollections(pageable);
+    }
+
+    // Then
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).isEmpty();
+    verify(recipeCollectionRepository, never())
+        .findTrendingAccessibleCollectionIds(any(Long[].class), anyInt());
+  }
+
+  private RecipeCollection createTrendingCollection(final Long collectionId) {
+    return RecipeCollection.builder()
+        .collectionId(collectionId)
+        .userId(testUserId)
+        .name("Trending Collection " + collectionId)
+        .visibility(CollectionVisibility.PUBLIC)
+        .collaborationMode(CollaborationMode.OWNER_ONLY)
+        .build();
   }
 
   @Test
@@ -1974,7 +2198,7 @@ class CollectionServiceTest {
         .userId(UUID.randomUUID())
         .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -1995,8 +2219,11 @@ class CollectionServiceTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody().getDisplayOrder()).isEqualTo(10);
-    verify(recipeCollectionRepository).findById(collectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
     verify(recipeCollectionItemRepository).save(any(RecipeCollectionItem.class));
+    verify(recipeCollectionRepository).adjustRecipeCount(collectionId, 1);
+    verify(trendingScoreService).recordCollectionAdd(recipeId);
+    verify(trendingScoreService).recordCollectionRecipeAdd(collectionId);
   }
 
   @Test
@@ -2039,7 +2266,7 @@ class CollectionServiceTest {
         .userId(UUID.randomUUID())
         .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -2071,7 +2298,7 @@ class CollectionServiceTest {
     Long nonExistentCollectionId = 999L;
     Long recipeId = 100L;
 
-    when(recipeCollectionRepository.findById(nonExistentCollectionId))
+    when(recipeCollectionRepository.findByIdForUpdate(nonExistentCollectionId))
         .thenReturn(Optional.empty());
 
     // When/Then
@@ -2084,7 +2311,7 @@ class CollectionServiceTest {
           .hasMessage("Collection not found");
     }
 
-    verify(recipeCollectionRepository).findById(nonExistentCollectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(nonExistentCollectionId);
     verify(recipeCollectionItemRepository, never()).save(any());
   }
 
@@ -2105,7 +2332,7 @@ class CollectionServiceTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY) // Only owner can edit
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -2116,7 +2343,7 @@ class CollectionServiceTest {
           .hasMessage("User doesn't have edit permission for this collection");
     }
 
-    verify(recipeCollectionRepository).findById(collectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
     verify(recipeCollectionItemRepository, never()).save(any());
   }
 
@@ -2136,7 +2363,7 @@ class CollectionServiceTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(true); // Recipe already exists
 
@@ -2149,7 +2376,7 @@ class CollectionServiceTest {
           .hasMessage("Recipe is already in this collection");
     }
 
-    verify(recipeCollectionRepository).findById(collectionId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
     verify(recipeCollectionItemRepository)
         .existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
     verify(recipeCollectionItemRepository, never()).save(any());
@@ -2193,7 +2420,7 @@ class CollectionServiceTest {
         .userId(UUID.randomUUID())
         .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -2254,7 +2481,7 @@ class CollectionServiceTest {
         .userId(UUID.randomUUID())
         .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -2315,9 +2542,9 @@ class CollectionServiceTest {
         .userId(UUID.randomUUID())
         .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(true); // User is a collaborator
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(false);
@@ -2337,8 +2564,7 @@ class CollectionServiceTest {
     // Then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     assertThat(response.getBody()).isNotNull();
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
   }
 
   @Test
@@ -2358,8 +2584,8 @@ class CollectionServiceTest {
             .collaborationMode(CollaborationMode.SPECIFIC_USERS)
             .build();
 
-    when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(collectionId, testUserId))
+    when(recipeCollectionRepository.findByIdForUpdate(collectionId)).thenReturn(Optional.of(collection));
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(false); // User is NOT a collaborator
 
     // When/Then
@@ -2371,9 +2597,8 @@ class CollectionServiceTest {
           .hasMessage("User doesn't have edit permission for this collection");
     }
 
-    verify(recipeCollectionRepository).findById(collectionId);
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(recipeCollectionRepository).findByIdForUpdate(collectionId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
     verify(recipeCollectionItemRepository, never()).save(any());
   }
 
@@ -2412,6 +2637,7 @@ class CollectionServiceTest {
         .existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
     verify(recipeCollectionItemRepository)
         .deleteByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
+    verify(recipeCollectionRepository).adjustRecipeCount(collectionId, -1);
   }
 
   @Test
@@ -2562,7 +2788,7 @@ class CollectionServiceTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(true); // User is a collaborator
     when(recipeCollectionItemRepository.existsByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
         .thenReturn(true);
@@ -2576,8 +2802,7 @@ class CollectionServiceTest {
 
     // Then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
     verify(recipeCollectionItemRepository)
         .deleteByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
   }
@@ -2642,14 +2867,6 @@ class CollectionServiceTest {
     RecipeCollectionItemId itemId =
         RecipeCollectionItemId.builder().collectionId(collectionId).recipeId(recipeId).build();
 
-    RecipeCollectionItem item =
-        RecipeCollectionItem.builder()
-            .id(itemId)
-            .displayOrder(10) // Old display order
-            .addedBy(testUserId)
-            .addedAt(LocalDateTime.now())
-            .build();
-
     com.recipe_manager.model.entity.recipe.Recipe recipe =
         com.recipe_manager.model.entity.recipe.Recipe.builder()
             .recipeId(recipeId)
@@ -2658,11 +2875,11 @@ class CollectionServiceTest {
             .userId(testUserId)
             .build();
 
-    RecipeCollectionItem updatedItem =
+    RecipeCollectionItem item =
         RecipeCollectionItem.builder()
             .id(itemId)
             .recipe(recipe)
-            .displayOrder(newDisplayOrder)
+            .displayOrder(10) // Old display order
             .addedBy(testUserId)
             .addedAt(LocalDateTime.now())
             .build();
@@ -2678,12 +2895,11 @@ class CollectionServiceTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
+    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeIdWithRecipe(
+            collectionId, recipeId))
         .thenReturn(Optional.of(item));
     when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class))).thenReturn(item);
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(List.of(updatedItem));
-    when(collectionMapper.toRecipeDto(updatedItem)).thenReturn(expectedDto);
+    when(collectionMapper.toRecipeDto(item)).thenReturn(expectedDto);
 
     // When
     ResponseEntity<CollectionRecipeDto> response;
@@ -2700,10 +2916,11 @@ class CollectionServiceTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
     verify(recipeCollectionItemRepository)
-        .findByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
+        .findByIdCollectionIdAndIdRecipeIdWithRecipe(collectionId, recipeId);
     verify(recipeCollectionItemRepository).save(any(RecipeCollectionItem.class));
-    verify(recipeCollectionItemRepository).findByIdCollectionIdWithRecipe(collectionId);
-    verify(collectionMapper).toRecipeDto(updatedItem);
+    verify(recipeCollectionItemRepository, never()).findByIdCollectionIdWithRecipe(any());
+    verify(collectionMapper).toRecipeDto(item);
+    assertThat(item.getDisplayOrder()).isEqualTo(newDisplayOrder);
   }
 
   @Test
@@ -2733,7 +2950,7 @@ class CollectionServiceTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
     verify(recipeCollectionItemRepository, never())
-        .findByIdCollectionIdAndIdRecipeId(any(), any());
+        .findByIdCollectionIdAndIdRecipeIdWithRecipe(any(), any());
   }
 
   @Test
@@ -2757,7 +2974,8 @@ class CollectionServiceTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId))
+    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeIdWithRecipe(
+            collectionId, recipeId))
         .thenReturn(Optional.empty());
 
     // When & Then
@@ -2772,7 +2990,7 @@ class CollectionServiceTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
     verify(recipeCollectionItemRepository)
-        .findByIdCollectionIdAndIdRecipeId(collectionId, recipeId);
+        .findByIdCollectionIdAndIdRecipeIdWithRecipe(collectionId, recipeId);
     verify(recipeCollectionItemRepository, never()).save(any());
   }
 
@@ -2811,7 +3029,7 @@ class CollectionServiceTest {
 
     verify(recipeCollectionRepository).findById(collectionId);
     verify(recipeCollectionItemRepository, never())
-        .findByIdCollectionIdAndIdRecipeId(any(), any());
+        .findByIdCollectionIdAndIdRecipeIdWithRecipe(any(), any());
   }
 
   @Test
@@ -2848,57 +3066,18 @@ class CollectionServiceTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY)
             .build();
 
-    RecipeCollectionItemId itemId1 =
-        RecipeCollectionItemId.builder().collectionId(collectionId).recipeId(recipeId1).build();
-    RecipeCollectionItemId itemId2 =
-        RecipeCollectionItemId.builder().collectionId(collectionId).recipeId(recipeId2).build();
-
-    com.recipe_manager.model.entity.recipe.Recipe recipe1 =
-        com.recipe_manager.model.entity.recipe.Recipe.builder()
-            .recipeId(recipeId1)
-            .title("Recipe 1")
-            .description("Description 1")
-            .build();
-
-    com.recipe_manager.model.entity.recipe.Recipe recipe2 =
-        com.recipe_manager.model.entity.recipe.Recipe.builder()
-            .recipeId(recipeId2)
-            .title("Recipe 2")
-            .description("Description 2")
-            .build();
-
-    RecipeCollectionItem item1 =
-        RecipeCollectionItem.builder()
-            .id(itemId1)
-            .recipe(recipe1)
-            .displayOrder(30)
-            .addedBy(testUserId)
-            .build();
-
-    RecipeCollectionItem item2 =
-        RecipeCollectionItem.builder()
-            .id(itemId2)
-            .recipe(recipe2)
-            .displayOrder(40)
-            .addedBy(testUserId)
-            .build();
+    java.util.Map<Long, Integer> expectedOrders = new java.util.LinkedHashMap<>();
+    expectedOrders.put(recipeId1, 20);
+    expectedOrders.put(recipeId2, 10);
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionId(collectionId))
-        .thenReturn(java.util.Arrays.asList(item1, item2));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId1))
-        .thenReturn(Optional.of(item1));
-    when(recipeCollectionItemRepository.findByIdCollectionIdAndIdRecipeId(collectionId, recipeId2))
-        .thenReturn(Optional.of(item2));
-    when(recipeCollectionItemRepository.save(any(RecipeCollectionItem.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
-
-    // Update display orders after save
-    item1.setDisplayOrder(20);
-    item2.setDisplayOrder(10);
+    when(recipeCollectionItemRepository.updateDisplayOrders(collectionId, expectedOrders))
+        .thenReturn(2);
 
-    when(recipeCollectionItemRepository.findByIdCollectionIdWithRecipe(collectionId))
-        .thenReturn(java.util.Arrays.asList(item2, item1)); // Sorted by display order
+    List<CollectionRecipeProjection> updatedRows =
+        java.util.Arrays.asList(recipeRow(recipeId2, 10), recipeRow(recipeId1, 20));
+    when(recipeCollectionItemRepository.findRecipesByIds(collectionId, expectedOrders.keySet()))
+        .thenReturn(updatedRows); // Sorted by display order
 
     com.recipe_manager.model.dto.collection.CollectionRecipeDto dto1 =
         com.recipe_manager.model.dto.collection.CollectionRecipeDto.builder()
@@ -2916,8 +3095,8 @@ class CollectionServiceTest {
             .displayOrder(20)
             .build();
 
-    when(collectionMapper.toRecipeDto(item2)).thenReturn(dto1);
-    when(collectionMapper.toRecipeDto(item1)).thenReturn(dto2);
+    when(collectionMapper.fromRecipeProjections(updatedRows))
+        .thenReturn(java.util.Arrays.asList(dto1, dto2));
 
     // When
     ResponseEntity<java.util.List<com.recipe_manager.model.dto.collection.CollectionRecipeDto>>
@@ -2937,9 +3116,11 @@ class CollectionServiceTest {
     assertThat(response.getBody().get(1).getDisplayOrder()).isEqualTo(20);
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(recipeCollectionItemRepository).findByIdCollectionId(collectionId);
-    verify(recipeCollectionItemRepository, times(2)).save(any(RecipeCollectionItem.class));
-    verify(recipeCollectionItemRepository).findByIdCollectionIdWithRecipe(collectionId);
+    verify(recipeCollectionItemRepository).updateDisplayOrders(collectionId, expectedOrders);
+    verify(recipeCollectionItemRepository).findRecipesByIds(collectionId, expectedOrders.keySet());
+    verify(recipeCollectionItemRepository, never()).findByIdCollectionIdWithRecipe(any());
+    verify(recipeCollectionItemRepository, never()).findByIdCollectionIdAndIdRecipeId(any(), any());
+    verify(recipeCollectionItemRepository, never()).save(any(RecipeCollectionItem.class));
   }
 
   @Test
@@ -3061,7 +3242,7 @@ class CollectionServiceTest {
     }
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(recipeCollectionItemRepository, never()).findByIdCollectionId(any());
+    verify(recipeCollectionItemRepository, never()).updateDisplayOrders(any(), any());
   }
 
   @Test
@@ -3070,7 +3251,6 @@ class CollectionServiceTest {
   void shouldThrowExceptionWhenRecipeNotInCollectionDuringReorder() {
     // Given
     Long collectionId = 400L;
-    Long existingRecipeId = 1L;
     Long nonExistentRecipeId = 999L;
 
     com.recipe_manager.model.dto.request.ReorderRecipesRequest.RecipeOrder order1 =
@@ -3092,18 +3272,13 @@ class CollectionServiceTest {
             .collaborationMode(CollaborationMode.OWNER_ONLY)
             .build();
 
-    RecipeCollectionItemId itemId1 =
-        RecipeCollectionItemId.builder()
-            .collectionId(collectionId)
-            .recipeId(existingRecipeId)
-            .build();
-
-    RecipeCollectionItem item1 =
-        RecipeCollectionItem.builder().id(itemId1).displayOrder(10).addedBy(testUserId).build();
-
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(recipeCollectionItemRepository.findByIdCollectionId(collectionId))
-        .thenReturn(java.util.Collections.singletonList(item1));
+    when(recipeCollectionItemRepository.updateDisplayOrders(
+            collectionId, java.util.Map.of(nonExistentRecipeId, 10)))
+        .thenReturn(0);
+    when(recipeCollectionItemRepository.findRecipesByIds(
+            collectionId, java.util.Set.of(nonExistentRecipeId)))
+        .thenReturn(Collections.emptyList());
 
     // When/Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -3111,12 +3286,13 @@ class CollectionServiceTest {
 
       assertThatThrownBy(() -> collectionService.reorderRecipes(collectionId, request))
           .isInstanceOf(ResourceNotFoundException.class)
-          .hasMessageContaining("not found in this collection");
+          .hasMessage("Recipe with ID 999 not found in this collection");
     }
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(recipeCollectionItemRepository).findByIdCollectionId(collectionId);
-    verify(recipeCollectionItemRepository, never()).save(any());
+    verify(recipeCollectionItemRepository)
+        .findRecipesByIds(collectionId, java.util.Set.of(nonExistentRecipeId));
+    verify(collectionMapper, never()).fromRecipeProjections(any());
   }
 
   @Test
@@ -3178,8 +3354,7 @@ class CollectionServiceTest {
     verify(recipeCollectionRepository).findById(collectionId);
     verify(collectionCollaboratorRepository)
         .findCollaboratorsWithUsernamesByCollectionId(collectionId);
-    verify(collectionCollaboratorRepository, never())
-        .existsByIdCollectionIdAndIdUserId(any(), any());
+    verify(collectionAccessCache, never()).isCollaborator(any(), any());
   }
 
   @Test
@@ -3223,7 +3398,7 @@ class CollectionServiceTest {
             .build();
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(false);
 
     // When/Then
@@ -3236,8 +3411,7 @@ class CollectionServiceTest {
     }
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
     verify(collectionCollaboratorRepository, never())
         .findCollaboratorsWithUsernamesByCollectionId(any());
   }
@@ -3335,8 +3509,7 @@ class CollectionServiceTest {
             new Object[] {collectionId, collaboratorId, "collaborator1", ownerId, "owner", now});
 
     when(recipeCollectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
-    when(collectionCollaboratorRepository.existsByIdCollectionIdAndIdUserId(
-            collectionId, testUserId))
+    when(collectionAccessCache.isCollaborator(collectionId, testUserId))
         .thenReturn(true);
     when(collectionCollaboratorRepository.findCollaboratorsWithUsernamesByCollectionId(
             collectionId))
@@ -3356,8 +3529,7 @@ class CollectionServiceTest {
     }
 
     verify(recipeCollectionRepository).findById(collectionId);
-    verify(collectionCollaboratorRepository)
-        .existsByIdCollectionIdAndIdUserId(collectionId, testUserId);
+    verify(collectionAccessCache).isCollaborator(collectionId, testUserId);
     verify(collectionCollaboratorRepository)
         .findCollaboratorsWithUsernamesByCollectionId(collectionId);
   }
@@ -3417,6 +3589,7 @@ class CollectionServiceTest {
     verify(collectionCollaboratorRepository)
         .existsByIdCollectionIdAndIdUserId(collectionId, collaboratorId);
     verify(collectionCollaboratorRepository).save(any(CollectionCollaborator.class));
+    verify(recipeCollectionRepository).adjustCollaboratorCount(collectionId, 1);
   }
 
   @Test
@@ -3675,6 +3848,7 @@ class CollectionServiceTest {
         .existsByIdCollectionIdAndIdUserId(collectionId, collaboratorId);
     verify(collectionCollaboratorRepository)
         .deleteByIdCollectionIdAndIdUserId(collectionId, collaboratorId);
+    verify(recipeCollectionRepository).adjustCollaboratorCount(collectionId, -1);
   }
 
   @Test
@@ -3918,6 +4092,11 @@ class CollectionServiceTest {
     assertThat(savedItems.get(1).getCollection()).isEqualTo(savedEntity);
     assertThat(savedItems.get(1).getRecipe()).isEqualTo(recipe2);
 
+    // Verify each added recipe counts towards trending, as single adds do
+    verify(trendingScoreService).recordCollectionAdd(recipeId1);
+    verify(trendingScoreService).recordCollectionAdd(recipeId2);
+    verify(trendingScoreService, times(2)).recordCollectionRecipeAdd(1L);
+
     // Verify notifications were sent
     verify(notificationService, times(2))
         .notifyRecipeCollectedAsync(eq(recipeAuthorId), anyLong(), eq(1L), eq(testUserId));
@@ -4327,6 +4506,8 @@ class CollectionServiceTest {
     // Verify only one recipe was saved (duplicates skipped)
     verify(recipeCollectionItemRepository, times(1)).save(any(RecipeCollectionItem.class));
     verify(recipeRepository, times(1)).findById(recipeId); // Only looked up once
+    verify(trendingScoreService).recordCollectionAdd(recipeId);
+    verify(trendingScoreService).recordCollectionRecipeAdd(1L);
   }
 
   @Test
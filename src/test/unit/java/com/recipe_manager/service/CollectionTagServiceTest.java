@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -121,6 +122,30 @@ class CollectionTagServiceTest {
     verify(collectionRepository).save(collection);
   }
 
+  @Test
+  @DisplayName("addTag should resolve an exact tag name through the natural-id cache")
+  @Tag("standard-processing")
+  void addTag_shouldResolveExactNameByNaturalId() {
+    // Given
+    Long collectionId = 1L;
+    AddTagRequest request = AddTagRequest.builder().name("dessert").build();
+    RecipeCollection collection = createTestCollection(collectionId);
+    CollectionTag existingTag = CollectionTag.builder().tagId(1L).name("dessert").build();
+
+    when(collectionRepository.findById(collectionId)).thenReturn(Optional.of(collection));
+    when(collectionTagRepository.findBySimpleNaturalId("dessert"))
+        .thenReturn(Optional.of(existingTag));
+    when(collectionTagMapper.toDtoList(any())).thenReturn(Collections.emptyList());
+
+    // When
+    collectionTagService.addTag(collectionId, request);
+
+    // Then
+    verify(collectionTagRepository, never()).findByNameIgnoreCase(any());
+    verify(collectionTagRepository, never()).save(any(CollectionTag.class));
+    verify(collectionRepository).save(collection);
+  }
+
   @Test
   @DisplayName("addTag should throw exception for non-existent collection")
   @Tag("error-processing")
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -62,8 +64,14 @@ import com.recipe_manager.repository.collection.CollectionFavoriteRepository;
 import com.recipe_manager.repository.collection.RecipeCollectionRepository;
 import com.recipe_manager.repository.recipe.RecipeFavoriteRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.service.cache.CollectionAccessCache;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.RecipeCursor;
 import com.recipe_manager.util.SecurityUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /** Unit tests for FavoriteService including privacy controls. */
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -87,6 +95,12 @@ class FavoriteServiceTest {
 
   @Mock private UserManagementClient userManagementClient;
 
+  @Mock private TrendingScoreService trendingScoreService;
+
+  @Mock private RecipeCacheService recipeCacheService;
+
+  @Mock private CollectionAccessCache collectionAccessCache;
+
   private FavoriteService favoriteService;
 
   private UUID authenticatedUserId;
@@ -106,7 +120,11 @@ class FavoriteServiceTest {
             recipeMapper,
             collectionFavoriteMapper,
             collectionMapper,
-            userManagementClient);
+            userManagementClient,
+            trendingScoreService,
+            recipeCacheService,
+            collectionAccessCache,
+            new SimpleMeterRegistry());
     authenticatedUserId = UUID.randomUUID();
     targetUserId = UUID.randomUUID();
     testRecipeId = 100L;
@@ -289,6 +307,39 @@ class FavoriteServiceTest {
     assertThat(response.getBody().getTotalElements()).isZero();
   }
 
+  @Test
+  @DisplayName("Should page own favorites by cursor and return the next cursor")
+  @Tag("standard-processing")
+  void shouldPageOwnFavoritesByCursor() throws AccessDeniedException {
+    // Given
+    RecipeFavorite newest = createTestFavorite(authenticatedUserId, 102L);
+    RecipeFavorite older = createTestFavorite(authenticatedUserId, 101L);
+    older.setFavoritedAt(newest.getFavoritedAt().minusMinutes(5));
+
+    when(recipeFavoriteRepository.findLatestByUserIdWithRecipe(
+            authenticatedUserId, PageRequest.of(0, 2)))
+        .thenReturn(Arrays.asList(newest, older));
+    when(recipeMapper.toDto(any(Recipe.class))).thenReturn(createTestRecipeDto(102L));
+
+    // When
+    ResponseEntity<SearchRecipesResponse> response;
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(authenticatedUserId);
+      response = favoriteService.getUserFavorites(null, "", 1, true);
+    }
+
+    // Then
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getRecipes()).hasSize(1);
+    assertThat(response.getBody().getTotalElements()).isEqualTo(-1L);
+    assertThat(response.getBody().isLast()).isFalse();
+
+    RecipeCursor next = RecipeCursor.decodeTimestamp(response.getBody().getNextCursor());
+    assertThat(next.getTimestamp()).isEqualTo(newest.getFavoritedAt());
+    assertThat(next.getRecipeId()).isEqualTo(102L);
+    verify(recipeFavoriteRepository, never()).findByUserIdWithRecipe(any(), any());
+  }
+
   // ==================== addFavorite Tests ====================
 
   @Test
@@ -318,6 +369,8 @@ class FavoriteServiceTest {
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody()).isEqualTo(dto);
     verify(recipeFavoriteRepository).save(any(RecipeFavorite.class));
+    verify(trendingScoreService).recordFavorite(testRecipeId);
+    verify(recipeCacheService).evict(testRecipeId);
   }
 
   @Test
@@ -368,8 +421,9 @@ class FavoriteServiceTest {
   @Tag("standard-processing")
   void shouldRemoveFavoriteSuccessfully() {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
-        .thenReturn(true);
+    RecipeFavorite favorite = createTestFavorite(authenticatedUserId, testRecipeId);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
+        .thenReturn(Optional.of(favorite));
 
     // When
     ResponseEntity<Void> response;
@@ -381,6 +435,41 @@ class FavoriteServiceTest {
     // Then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
     verify(recipeFavoriteRepository).deleteByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId);
+    verify(trendingScoreService).withdrawFavorite(testRecipeId, favorite.getFavoritedAt());
+    verify(recipeCacheService).evict(testRecipeId);
+  }
+
+  @Test
+  @DisplayName("Should withdraw each removed favorite's weight across a favorite cycle")
+  @Tag("edge-case")
+  void shouldWithdrawRemovedFavoriteWeightAcrossFavoriteCycle() {
+    // Given
+    Recipe recipe = createTestRecipe(testRecipeId);
+    RecipeFavorite first = createTestFavorite(authenticatedUserId, testRecipeId);
+    first.setFavoritedAt(LocalDateTime.now().minusHours(2));
+    RecipeFavorite second = createTestFavorite(authenticatedUserId, testRecipeId);
+
+    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
+        .thenReturn(false);
+    when(recipeRepository.findById(testRecipeId)).thenReturn(Optional.of(recipe));
+    when(recipeFavoriteRepository.save(any(RecipeFavorite.class))).thenReturn(first, second);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
+        .thenReturn(Optional.of(first));
+
+    // When
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(authenticatedUserId);
+      favoriteService.addFavorite(testRecipeId);
+      favoriteService.removeFavorite(testRecipeId);
+      favoriteService.addFavorite(testRecipeId);
+    }
+
+    // Then
+    InOrder order = inOrder(trendingScoreService);
+    order.verify(trendingScoreService).recordFavorite(testRecipeId);
+    order.verify(trendingScoreService).withdrawFavorite(testRecipeId, first.getFavoritedAt());
+    order.verify(trendingScoreService).recordFavorite(testRecipeId);
+    order.verifyNoMoreInteractions();
   }
 
   @Test
@@ -388,8 +477,8 @@ class FavoriteServiceTest {
   @Tag("error-handling")
   void shouldThrowExceptionWhenFavoriteNotFoundForRemoval() {
     // Given
-    when(recipeFavoriteRepository.existsByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
-        .thenReturn(false);
+    when(recipeFavoriteRepository.findByIdUserIdAndIdRecipeId(authenticatedUserId, testRecipeId))
+        .thenReturn(Optional.empty());
 
     // When / Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -401,6 +490,7 @@ class FavoriteServiceTest {
     }
 
     verify(recipeFavoriteRepository, never()).deleteByIdUserIdAndIdRecipeId(any(), any());
+    verify(trendingScoreService, never()).withdrawFavorite(any(), any());
   }
 
   // ==================== isFavorited Tests ====================
@@ -634,7 +724,7 @@ class FavoriteServiceTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, authenticatedUserId))
+    when(collectionAccessCache.hasViewAccess(testCollectionId, authenticatedUserId))
         .thenReturn(true);
     when(collectionFavoriteRepository.save(any(CollectionFavorite.class))).thenReturn(favorite);
     when(collectionFavoriteMapper.toDto(favorite)).thenReturn(dto);
@@ -651,6 +741,7 @@ class FavoriteServiceTest {
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody()).isEqualTo(dto);
     verify(collectionFavoriteRepository).save(any(CollectionFavorite.class));
+    verify(trendingScoreService).recordCollectionFavorite(testCollectionId);
   }
 
   @Test
@@ -708,7 +799,7 @@ class FavoriteServiceTest {
         .thenReturn(false);
     when(recipeCollectionRepository.findById(testCollectionId))
         .thenReturn(Optional.of(collection));
-    when(recipeCollectionRepository.hasViewAccess(testCollectionId, authenticatedUserId))
+    when(collectionAccessCache.hasViewAccess(testCollectionId, authenticatedUserId))
         .thenReturn(false);
 
     // When / Then
@@ -730,9 +821,11 @@ class FavoriteServiceTest {
   @Tag("standard-processing")
   void shouldUnfavoriteCollectionSuccessfully() {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    CollectionFavorite favorite =
+        createTestCollectionFavorite(authenticatedUserId, testCollectionId);
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             authenticatedUserId, testCollectionId))
-        .thenReturn(true);
+        .thenReturn(Optional.of(favorite));
 
     // When
     ResponseEntity<Void> response;
@@ -745,6 +838,51 @@ class FavoriteServiceTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
     verify(collectionFavoriteRepository)
         .deleteByIdUserIdAndIdCollectionId(authenticatedUserId, testCollectionId);
+    verify(trendingScoreService)
+        .withdrawCollectionFavorite(testCollectionId, favorite.getFavoritedAt());
+  }
+
+  @Test
+  @DisplayName("Should withdraw each removed collection favorite's weight across a favorite cycle")
+  @Tag("edge-case")
+  void shouldWithdrawRemovedCollectionFavoriteWeightAcrossFavoriteCycle()
+      throws AccessDeniedException {
+    // Given
+    RecipeCollection collection = createTestCollection(testCollectionId);
+    CollectionFavorite first = createTestCollectionFavorite(authenticatedUserId, testCollectionId);
+    first.setFavoritedAt(LocalDateTime.now().minusHours(2));
+    CollectionFavorite second =
+        createTestCollectionFavorite(authenticatedUserId, testCollectionId);
+
+    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+            authenticatedUserId, testCollectionId))
+        .thenReturn(false);
+    when(recipeCollectionRepository.findById(testCollectionId))
+        .thenReturn(Optional.of(collection));
+    when(collectionAccessCache.hasViewAccess(testCollectionId, authenticatedUserId))
+        .thenReturn(true);
+    when(collectionFavoriteRepository.save(any(CollectionFavorite.class)))
+        .thenReturn(first, second);
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
+            authenticatedUserId, testCollectionId))
+        .thenReturn(Optional.of(first));
+
+    // When
+    try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
+      securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(authenticatedUserId);
+      favoriteService.favoriteCollection(testCollectionId);
+      favoriteService.unfavoriteCollection(testCollectionId);
+      favoriteService.favoriteCollection(testCollectionId);
+    }
+
+    // Then
+    InOrder order = inOrder(trendingScoreService);
+    order.verify(trendingScoreService).recordCollectionFavorite(testCollectionId);
+    order
+        .verify(trendingScoreService)
+        .withdrawCollectionFavorite(testCollectionId, first.getFavoritedAt());
+    order.verify(trendingScoreService).recordCollectionFavorite(testCollectionId);
+    order.verifyNoMoreInteractions();
   }
 
   @Test
@@ -752,9 +890,9 @@ class FavoriteServiceTest {
   @Tag("error-handling")
   void shouldThrowExceptionWhenCollectionFavoriteNotFoundForRemoval() {
     // Given
-    when(collectionFavoriteRepository.existsByIdUserIdAndIdCollectionId(
+    when(collectionFavoriteRepository.findByIdUserIdAndIdCollectionId(
             authenticatedUserId, testCollectionId))
-        .thenReturn(false);
+        .thenReturn(Optional.empty());
 
     // When / Then
     try (MockedStatic<SecurityUtils> securityUtilsMock = Mockito.mockStatic(SecurityUtils.class)) {
@@ -766,6 +904,7 @@ class FavoriteServiceTest {
     }
 
     verify(collectionFavoriteRepository, never()).deleteByIdUserIdAndIdCollectionId(any(), any());
+    verify(trendingScoreService, never()).withdrawCollectionFavorite(any(), any());
   }
 
   // ==================== isCollectionFavorited Tests ====================
@@ -1,10 +1,12 @@
 package com.recipe_manager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -26,8 +28,9 @@ import com.recipe_manager.repository.ingredient.IngredientCommentRepository;
 import com.recipe_manager.repository.recipe.RecipeIngredientRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
-import com.recipe_manager.service.external.RecipeScraperService;
+import com.recipe_manager.service.cache.IngredientPriceCache;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.util.RevisionCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -72,7 +75,7 @@ class IngredientServiceRevisionsTest {
   private ShoppingListMapper shoppingListMapper;
 
   @Mock
-  private RecipeScraperService recipeScraperService;
+  private IngredientPriceCache ingredientPriceCache;
 
   @Mock
   private NotificationService notificationService;
@@ -97,7 +100,7 @@ class IngredientServiceRevisionsTest {
         ingredientCommentMapper,
         recipeRevisionMapper,
         shoppingListMapper,
-        recipeScraperService,
+        ingredientPriceCache,
         notificationService);
 
     currentUserId = UUID.randomUUID();
@@ -249,4 +252,65 @@ class IngredientServiceRevisionsTest {
       assertEquals(emptyRevisionDtos, response.getRevisions());
     }
   }
+
+  @Test
+  void getIngredientRevisions_WithCursor_ShouldSeekPastCursorAndReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+    Long ingredientId = 1L;
+    LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+    LocalDateTime createdAt = cursorCreatedAt.minusMinutes(1);
+    String cursor = RevisionCursor.of(cursorCreatedAt, 9L).encode();
+    RecipeRevision first = RecipeRevision.builder().revisionId(8L).createdAt(createdAt).build();
+    RecipeRevision extra =
+        RecipeRevision.builder().revisionId(7L).createdAt(createdAt.minusMinutes(1)).build();
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeIngredientRepository.findByRecipeRecipeIdAndIngredientIngredientId(recipeId, ingredientId))
+          .thenReturn(Optional.of(testRecipeIngredient));
+      when(recipeRevisionRepository.findIngredientRevisionPage(
+              recipeId, ingredientId, cursorCreatedAt, 9L, 2))
+          .thenReturn(Arrays.asList(first, extra));
+      when(recipeRevisionMapper.toDtoList(List.of(first))).thenReturn(testRevisionDtos.subList(0, 1));
+
+      // Act
+      IngredientRevisionsResponse response =
+          ingredientService.getIngredientRevisions(recipeId, ingredientId, cursor, 1);
+
+      // Assert
+      assertEquals(1, response.getTotalCount());
+      RevisionCursor next = RevisionCursor.decode(response.getNextCursor());
+      assertEquals(createdAt, next.getCreatedAt());
+      assertEquals(8L, next.getRevisionId());
+    }
+  }
+
+  @Test
+  void getIngredientRevisions_WithCursorOnLastPage_ShouldNotReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+    Long ingredientId = 1L;
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeIngredientRepository.findByRecipeRecipeIdAndIngredientIngredientId(recipeId, ingredientId))
+          .thenReturn(Optional.of(testRecipeIngredient));
+      when(recipeRevisionRepository.findIngredientRevisionPage(recipeId, ingredientId, null, null, 21))
+          .thenReturn(testRevisions);
+      when(recipeRevisionMapper.toDtoList(testRevisions)).thenReturn(testRevisionDtos);
+
+      // Act
+      IngredientRevisionsResponse response =
+          ingredientService.getIngredientRevisions(recipeId, ingredientId, "", 20);
+
+      // Assert
+      assertEquals(2, response.getTotalCount());
+      assertNull(response.getNextCursor());
+    }
+  }
 }
@@ -5,24 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import com.recipe_manager.exception.BusinessException;
-import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.exception.ResourceNotFoundException;
 import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
 import com.recipe_manager.model.dto.request.AddIngredientCommentRequest;
 import com.recipe_manager.model.dto.request.DeleteIngredientCommentRequest;
 import com.recipe_manager.model.dto.request.EditIngredientCommentRequest;
+import com.recipe_manager.model.dto.request.MealPlanShoppingListRequest;
+import com.recipe_manager.model.dto.request.MealPlanShoppingListRequest.MealPlanRecipe;
 import com.recipe_manager.model.dto.response.IngredientCommentResponse;
+import com.recipe_manager.model.dto.response.MealPlanShoppingListResponse;
 import com.recipe_manager.model.dto.response.RecipeIngredientsResponse;
 import com.recipe_manager.model.dto.response.ShoppingListResponse;
 import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
@@ -30,13 +36,16 @@ import com.recipe_manager.model.entity.ingredient.Ingredient;
 import com.recipe_manager.model.entity.ingredient.IngredientComment;
 import com.recipe_manager.model.entity.recipe.Recipe;
 import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredientId;
 import com.recipe_manager.model.enums.IngredientUnit;
 import com.recipe_manager.model.mapper.IngredientCommentMapper;
 import com.recipe_manager.model.mapper.RecipeIngredientMapper;
 import com.recipe_manager.model.mapper.ShoppingListMapper;
 import com.recipe_manager.repository.ingredient.IngredientCommentRepository;
 import com.recipe_manager.repository.recipe.RecipeIngredientRepository;
-import com.recipe_manager.service.external.RecipeScraperService;
+import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.service.cache.IngredientPriceCache;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.DisplayName;
@@ -59,6 +68,7 @@ import org.springframework.http.ResponseEntity;
  * <li>getIngredients</li>
  * <li>scaleIngredients</li>
  * <li>generateShoppingList</li>
+ * <li>generateMealPlanShoppingList</li>
  * <li>addComment</li>
  * <li>editComment</li>
  * <li>deleteComment</li>
@@ -74,6 +84,9 @@ class IngredientServiceTest {
   @Mock
   private RecipeIngredientRepository recipeIngredientRepository;
 
+  @Mock
+  private RecipeRepository recipeRepository;
+
   @Mock
   private IngredientCommentRepository ingredientCommentRepository;
 
@@ -87,7 +100,7 @@ class IngredientServiceTest {
   private ShoppingListMapper shoppingListMapper;
 
   @Mock
-  private RecipeScraperService recipeScraperService;
+  private IngredientPriceCache ingredientPriceCache;
 
   @Mock
   private com.recipe_manager.service.external.notificationservice.NotificationService notificationService;
@@ -117,10 +130,8 @@ class IngredientServiceTest {
     when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
     when(recipeIngredientMapper.toDtoList(ingredients)).thenReturn(dtos);
 
-    // Mock comment repository calls for each ingredient
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(1L))
-        .thenReturn(new ArrayList<>());
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(2L))
+    // Mock a single bulk comment lookup for all ingredients
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L, 2L)))
         .thenReturn(new ArrayList<>());
     when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(new ArrayList<>());
 
@@ -134,9 +145,10 @@ class IngredientServiceTest {
     assertThat(response.getBody().getIngredients()).hasSize(2);
     assertThat(response.getBody().getTotalCount()).isEqualTo(2);
 
-    // Verify comment repository was called for each ingredient
-    verify(ingredientCommentRepository).findByIngredientIngredientIdOrderByCreatedAtAsc(1L);
-    verify(ingredientCommentRepository).findByIngredientIngredientIdOrderByCreatedAtAsc(2L);
+    // Verify comments were loaded in one query rather than once per ingredient
+    verify(ingredientCommentRepository).findByIngredientIdsWithIngredient(Set.of(1L, 2L));
+    verify(ingredientCommentRepository, never())
+        .findByIngredientIngredientIdOrderByCreatedAtAsc(any());
   }
 
   @Test
@@ -163,10 +175,8 @@ class IngredientServiceTest {
     when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
     when(recipeIngredientMapper.toDtoListWithScale(ingredients, scaleFactor)).thenReturn(scaledDtos);
 
-    // Mock comment repository calls for each ingredient
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(1L))
-        .thenReturn(new ArrayList<>());
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(2L))
+    // Mock a single bulk comment lookup for all ingredients
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L, 2L)))
         .thenReturn(new ArrayList<>());
     when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(new ArrayList<>());
 
@@ -201,17 +211,10 @@ class IngredientServiceTest {
     ShoppingListItemDto item2 = createMockShoppingListItem("Pepper", new BigDecimal("0.5"), IngredientUnit.TSP, false);
     List<ShoppingListItemDto> shoppingListItems = Arrays.asList(item1, item2);
 
-    // Mock external service to return empty pricing data for unit tests
-    RecipeScraperShoppingDto emptyPricingData = RecipeScraperShoppingDto.builder()
-        .recipeId(id)
-        .ingredients(java.util.Collections.emptyMap())
-        .totalEstimatedCost(BigDecimal.ZERO)
-        .build();
-
     when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
     when(shoppingListMapper.toAggregatedShoppingListItems(ingredients)).thenReturn(shoppingListItems);
-    when(recipeScraperService.getShoppingInfo(id)).thenReturn(CompletableFuture.completedFuture(emptyPricingData));
-    when(shoppingListMapper.mergeWithPricingData(shoppingListItems, emptyPricingData)).thenReturn(shoppingListItems);
+    // No pricing available for unit tests
+    when(ingredientPriceCache.getPrices(Map.of(id, List.of(1L, 2L)))).thenReturn(Map.of());
 
     // When
     ResponseEntity<ShoppingListResponse> response = ingredientService.generateShoppingList(recipeId);
@@ -256,7 +259,7 @@ class IngredientServiceTest {
     when(recipeIngredientRepository.findByRecipeRecipeIdAndIngredientIngredientId(recipeIdLong, ingredientIdLong))
         .thenReturn(Optional.of(recipeIngredient));
     when(ingredientCommentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(ingredientIdLong))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(ingredientIdLong)))
         .thenReturn(java.util.Collections.emptyList());
     when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(java.util.Collections.emptyList());
 
@@ -308,7 +311,7 @@ class IngredientServiceTest {
     when(ingredientCommentRepository.findByCommentIdAndIngredientIngredientId(1L, ingredientIdLong))
         .thenReturn(Optional.of(new IngredientComment()));
     when(ingredientCommentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(ingredientIdLong))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(ingredientIdLong)))
         .thenReturn(java.util.Collections.emptyList());
     when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(java.util.Collections.emptyList());
 
@@ -350,7 +353,7 @@ class IngredientServiceTest {
         .thenReturn(Optional.of(recipeIngredient));
     when(ingredientCommentRepository.findByCommentIdAndIngredientIngredientId(1L, ingredientIdLong))
         .thenReturn(Optional.of(new IngredientComment()));
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(ingredientIdLong))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(ingredientIdLong)))
         .thenReturn(java.util.Collections.emptyList());
     when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(java.util.Collections.emptyList());
 
@@ -394,8 +397,12 @@ class IngredientServiceTest {
     List<RecipeIngredientDto> dtos = Arrays.asList(dto1);
 
     // Create mock comments
+    Ingredient commentedIngredient = new Ingredient();
+    commentedIngredient.setIngredientId(1L);
+
     IngredientComment comment1 = IngredientComment.builder()
         .commentId(1L)
+        .ingredient(commentedIngredient)
         .recipeId(id)
         .userId(UUID.randomUUID())
         .commentText("Great ingredient!")
@@ -404,6 +411,7 @@ class IngredientServiceTest {
 
     IngredientComment comment2 = IngredientComment.builder()
         .commentId(2L)
+        .ingredient(commentedIngredient)
         .recipeId(id)
         .userId(UUID.randomUUID())
         .commentText("Very fresh")
@@ -414,7 +422,7 @@ class IngredientServiceTest {
 
     when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
     when(recipeIngredientMapper.toDtoList(ingredients)).thenReturn(dtos);
-    when(ingredientCommentRepository.findByIngredientIngredientIdOrderByCreatedAtAsc(1L))
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L)))
         .thenReturn(comments);
     when(ingredientCommentMapper.toDtoList(comments)).thenReturn(Arrays.asList(
         com.recipe_manager.model.dto.ingredient.IngredientCommentDto.builder()
@@ -433,10 +441,51 @@ class IngredientServiceTest {
     assertThat(response.getBody().getIngredients().get(0).getComments()).hasSize(2);
 
     // Verify comment repository was called
-    verify(ingredientCommentRepository).findByIngredientIngredientIdOrderByCreatedAtAsc(1L);
+    verify(ingredientCommentRepository).findByIngredientIdsWithIngredient(Set.of(1L));
     verify(ingredientCommentMapper).toDtoList(comments);
   }
 
+  @Test
+  @Tag("batch-operations")
+  @DisplayName("Should group bulk-loaded comments by ingredient")
+  void shouldGroupBulkLoadedCommentsByIngredient() {
+    // Given
+    String recipeId = "123";
+    Long id = 123L;
+
+    List<RecipeIngredient> ingredients = Arrays.asList(
+        createMockRecipeIngredient(id, 1L, "Salt", new BigDecimal("1.5"), IngredientUnit.TSP),
+        createMockRecipeIngredient(id, 2L, "Pepper", new BigDecimal("0.5"), IngredientUnit.TSP),
+        createMockRecipeIngredient(id, 3L, "Oil", new BigDecimal("2"), IngredientUnit.TBSP));
+    RecipeIngredientDto salt = createMockRecipeIngredientDto(id, 1L, "Salt", new BigDecimal("1.5"),
+        IngredientUnit.TSP);
+    RecipeIngredientDto pepper = createMockRecipeIngredientDto(id, 2L, "Pepper", new BigDecimal("0.5"),
+        IngredientUnit.TSP);
+    RecipeIngredientDto oil = createMockRecipeIngredientDto(id, 3L, "Oil", new BigDecimal("2"),
+        IngredientUnit.TBSP);
+
+    IngredientComment saltFirst = IngredientComment.builder()
+        .commentId(10L).ingredient(ingredients.get(0).getIngredient()).commentText("first").build();
+    IngredientComment pepperOnly = IngredientComment.builder()
+        .commentId(11L).ingredient(ingredients.get(1).getIngredient()).commentText("pepper").build();
+    IngredientComment saltSecond = IngredientComment.builder()
+        .commentId(12L).ingredient(ingredients.get(0).getIngredient()).commentText("second").build();
+
+    when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
+    when(recipeIngredientMapper.toDtoList(ingredients)).thenReturn(Arrays.asList(salt, pepper, oil));
+    when(ingredientCommentRepository.findByIngredientIdsWithIngredient(Set.of(1L, 2L, 3L)))
+        .thenReturn(Arrays.asList(saltFirst, pepperOnly, saltSecond));
+    when(ingredientCommentMapper.toDtoList(anyList())).thenReturn(new ArrayList<>());
+
+    // When
+    ingredientService.getIngredients(recipeId);
+
+    // Then
+    verify(ingredientCommentMapper).toDtoList(Arrays.asList(saltFirst, saltSecond));
+    verify(ingredientCommentMapper).toDtoList(List.of(pepperOnly));
+    verify(ingredientCommentMapper).toDtoList(List.of());
+  }
+
   private RecipeIngredient createMockRecipeIngredient(Long recipeId, Long ingredientId, String ingredientName,
       BigDecimal quantity, IngredientUnit unit) {
     Recipe recipe = new Recipe();
@@ -542,17 +591,10 @@ class IngredientServiceTest {
         false);
     List<ShoppingListItemDto> shoppingListItems = Arrays.asList(aggregatedItem);
 
-    // Mock external service to return empty pricing data for unit tests
-    RecipeScraperShoppingDto emptyPricingData = RecipeScraperShoppingDto.builder()
-        .recipeId(id)
-        .ingredients(java.util.Collections.emptyMap())
-        .totalEstimatedCost(BigDecimal.ZERO)
-        .build();
-
     when(recipeIngredientRepository.findByRecipeRecipeId(id)).thenReturn(ingredients);
     when(shoppingListMapper.toAggregatedShoppingListItems(ingredients)).thenReturn(shoppingListItems);
-    when(recipeScraperService.getShoppingInfo(id)).thenReturn(CompletableFuture.completedFuture(emptyPricingData));
-    when(shoppingListMapper.mergeWithPricingData(shoppingListItems, emptyPricingData)).thenReturn(shoppingListItems);
+    // No pricing available for unit tests
+    when(ingredientPriceCache.getPrices(Map.of(id, List.of(1L, 2L)))).thenReturn(Map.of());
 
     // When
     ResponseEntity<ShoppingListResponse> response = ingredientService.generateShoppingList(recipeId);
@@ -579,4 +621,143 @@ class IngredientServiceTest {
 
     assertThat(exception.getMessage()).isEqualTo("Invalid recipe ID: invalid");
   }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should combine meal plan recipes into one shopping list")
+  void shouldGenerateMealPlanShoppingList() {
+    // Given - recipe 1 twice over, recipe 2 once; flour is listed in grams and in kilograms
+    List<RecipeIngredient> ingredients = Arrays.asList(
+        createMealPlanIngredient(1L, 10L, "Flour", new BigDecimal("500"), IngredientUnit.G),
+        createMealPlanIngredient(1L, 11L, "Egg", new BigDecimal("2"), IngredientUnit.PIECE),
+        createMealPlanIngredient(2L, 10L, "Flour", new BigDecimal("1"), IngredientUnit.KG));
+
+    MealPlanShoppingListRequest request = MealPlanShoppingListRequest.builder()
+        .recipes(Arrays.asList(
+            MealPlanRecipe.builder().recipeId(1L).servingMultiplier(new BigDecimal("2")).build(),
+            MealPlanRecipe.builder().recipeId(2L).build()))
+        .build();
+
+    // Flour costs 0.50 per kilogram; eggs have no known price
+    when(recipeRepository.findExistingRecipeIds(Set.of(1L, 2L))).thenReturn(List.of(2L, 1L));
+    when(recipeIngredientRepository.findByRecipeIdsWithIngredient(Set.of(1L, 2L)))
+        .thenReturn(ingredients);
+    when(ingredientPriceCache.getPrices(Map.of(1L, List.of(10L, 11L), 2L, List.of(10L))))
+        .thenReturn(Map.of(10L, new IngredientPrice(
+            IngredientUnit.G, new BigDecimal("0.0005"), 1L, Instant.now())));
+
+    // When
+    ResponseEntity<MealPlanShoppingListResponse> response =
+        ingredientService.generateMealPlanShoppingList(request);
+
+    // Then - 2 x 500 g + 1 kg is 2 kg, priced once for the combined quantity
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getRecipeIds()).containsExactly(1L, 2L);
+    assertThat(response.getBody().getTotalCount()).isEqualTo(2);
+
+    ShoppingListItemDto flour = response.getBody().getItems().get(0);
+    assertThat(flour.getIngredientName()).isEqualTo("Flour");
+    assertThat(flour.getUnit()).isEqualTo(IngredientUnit.KG);
+    assertThat(flour.getTotalQuantity()).isEqualByComparingTo(new BigDecimal("2"));
+    assertThat(flour.getEstimatedPrice()).isEqualByComparingTo(new BigDecimal("1.00"));
+
+    ShoppingListItemDto egg = response.getBody().getItems().get(1);
+    assertThat(egg.getTotalQuantity()).isEqualByComparingTo(new BigDecimal("4"));
+    assertThat(egg.getUnit()).isEqualTo(IngredientUnit.PIECE);
+    assertThat(response.getBody().getTotalEstimatedCost()).isEqualByComparingTo(new BigDecimal("1.00"));
+
+    verify(shoppingListMapper, never()).toAggregatedShoppingListItems(anyList());
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Should sum the multipliers of a recipe listed twice in a meal plan")
+  void shouldSumMultipliersOfRepeatedMealPlanRecipe() {
+    // Given
+    MealPlanShoppingListRequest request = MealPlanShoppingListRequest.builder()
+        .recipes(Arrays.asList(
+            MealPlanRecipe.builder().recipeId(3L).servingMultiplier(new BigDecimal("0.5")).build(),
+            MealPlanRecipe.builder().recipeId(3L).build()))
+        .build();
+
+    when(recipeRepository.findExistingRecipeIds(Set.of(3L))).thenReturn(List.of(3L));
+    when(recipeIngredientRepository.findByRecipeIdsWithIngredient(Set.of(3L)))
+        .thenReturn(List.of(
+            createMealPlanIngredient(3L, 30L, "Milk", new BigDecimal("2"), IngredientUnit.CUP)));
+    when(ingredientPriceCache.getPrices(Map.of(3L, List.of(30L)))).thenReturn(Map.of());
+
+    // When
+    ResponseEntity<MealPlanShoppingListResponse> response =
+        ingredientService.generateMealPlanShoppingList(request);
+
+    // Then - the recipe is priced once and the quantity scaled by 1.5
+    assertThat(response.getBody().getRecipeIds()).containsExactly(3L);
+    assertThat(response.getBody().getItems().get(0).getTotalQuantity())
+        .isEqualByComparingTo(new BigDecimal("3"));
+    assertThat(response.getBody().getItems().get(0).getUnit()).isEqualTo(IngredientUnit.CUP);
+    assertThat(response.getBody().getTotalEstimatedCost()).isEqualByComparingTo(BigDecimal.ZERO);
+    verify(ingredientPriceCache).getPrices(Map.of(3L, List.of(30L)));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Should flag prices that are being revalidated as stale")
+  void shouldFlagStalePrices() {
+    // Given
+    MealPlanShoppingListRequest request = MealPlanShoppingListRequest.builder()
+        .recipes(List.of(MealPlanRecipe.builder().recipeId(3L).build()))
+        .build();
+    IngredientPrice stale = new IngredientPrice(
+        IngredientUnit.G, new BigDecimal("0.0005"), 3L, Instant.now().minusSeconds(3600));
+
+    when(recipeRepository.findExistingRecipeIds(Set.of(3L))).thenReturn(List.of(3L));
+    when(recipeIngredientRepository.findByRecipeIdsWithIngredient(Set.of(3L)))
+        .thenReturn(List.of(
+            createMealPlanIngredient(3L, 30L, "Flour", new BigDecimal("1"), IngredientUnit.KG)));
+    when(ingredientPriceCache.getPrices(Map.of(3L, List.of(30L))))
+        .thenReturn(Map.of(30L, stale));
+    when(ingredientPriceCache.isStale(stale)).thenReturn(true);
+
+    // When
+    ResponseEntity<MealPlanShoppingListResponse> response =
+        ingredientService.generateMealPlanShoppingList(request);
+
+    // Then - the stale price is still used
+    assertThat(response.getBody().getPricingStale()).isTrue();
+    assertThat(response.getBody().getItems().get(0).getPriceStale()).isTrue();
+    assertThat(response.getBody().getTotalEstimatedCost())
+        .isEqualByComparingTo(new BigDecimal("0.50"));
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Should reject a meal plan listing unknown recipes")
+  void shouldRejectMealPlanWithUnknownRecipes() {
+    // Given
+    MealPlanShoppingListRequest request = MealPlanShoppingListRequest.builder()
+        .recipes(Arrays.asList(
+            MealPlanRecipe.builder().recipeId(1L).build(),
+            MealPlanRecipe.builder().recipeId(404L).build()))
+        .build();
+    when(recipeRepository.findExistingRecipeIds(Set.of(1L, 404L))).thenReturn(List.of(1L));
+
+    // When/Then
+    ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+        () -> ingredientService.generateMealPlanShoppingList(request));
+
+    assertThat(exception.getMessage()).isEqualTo("Recipes not found with ids: [404]");
+    verify(recipeIngredientRepository, never()).findByRecipeIdsWithIngredient(any());
+    verify(ingredientPriceCache, never()).getPrices(any());
+  }
+
+  private RecipeIngredient createMealPlanIngredient(Long recipeId, Long ingredientId,
+      String ingredientName, BigDecimal quantity, IngredientUnit unit) {
+    RecipeIngredient recipeIngredient =
+        createMockRecipeIngredient(recipeId, ingredientId, ingredientName, quantity, unit);
+    recipeIngredient.setId(RecipeIngredientId.builder()
+        .recipeId(recipeId)
+        .ingredientId(ingredientId)
+        .build());
+    return recipeIngredient;
+  }
 }
@@ -37,6 +37,11 @@ import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.trending.TrendingScoreService;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -77,6 +82,16 @@ class RecipeServiceRevisionTest {
   private RecipeCommentMapper recipeCommentMapper;
   @Mock
   private NotificationService notificationService;
+  @Mock
+  private RecipeFilterIndex recipeFilterIndex;
+  @Mock
+  private TrendingScoreService trendingScoreService;
+  @Mock
+  private RecipeCacheService recipeCacheService;
+  @Mock
+  private ReferenceDataResolver referenceDataResolver;
+  @Mock
+  private RecipeHistoryService recipeHistoryService;
 
   private RecipeService recipeService;
   private UUID currentUserId;
@@ -94,7 +109,9 @@ class RecipeServiceRevisionTest {
         recipeStepMapper,
         recipeCommentRepository,
         recipeCommentMapper,
-        notificationService);
+        notificationService,
+        recipeFilterIndex, trendingScoreService, recipeCacheService, referenceDataResolver,
+        recipeHistoryService);
 
     currentUserId = UUID.randomUUID();
     setupExistingRecipe();
@@ -156,15 +173,12 @@ class RecipeServiceRevisionTest {
 
     // Mock dependencies
     when(recipeRepository.findById(1L)).thenReturn(Optional.of(existingRecipe));
-    when(ingredientRepository.findById(1L))
-        .thenReturn(Optional.of(existingRecipe.getRecipeIngredients().get(0).getIngredient()));
-
     Ingredient newIngredient = Ingredient.builder()
         .ingredientId(2L)
         .name("Pepper")
         .build();
-    when(ingredientRepository.findByNameIgnoreCase("Pepper")).thenReturn(Optional.empty());
-    when(ingredientRepository.save(any(Ingredient.class))).thenReturn(newIngredient);
+    when(referenceDataResolver.resolveIngredients(request.getIngredients()))
+        .thenReturn(List.of(existingRecipe.getRecipeIngredients().get(0).getIngredient(), newIngredient));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
 
     try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
@@ -341,8 +355,8 @@ class RecipeServiceRevisionTest {
         .build();
 
     when(recipeRepository.findById(1L)).thenReturn(Optional.of(existingRecipe));
-    when(ingredientRepository.findById(1L))
-        .thenReturn(Optional.of(existingRecipe.getRecipeIngredients().get(0).getIngredient()));
+    when(referenceDataResolver.resolveIngredients(request.getIngredients()))
+        .thenReturn(List.of(existingRecipe.getRecipeIngredients().get(0).getIngredient()));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
     when(recipeStepMapper.toEntityList(anyList())).thenReturn(Arrays.asList(
         RecipeStep.builder()
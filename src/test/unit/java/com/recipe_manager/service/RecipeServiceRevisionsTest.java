@@ -1,9 +1,11 @@
 package com.recipe_manager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +26,12 @@ import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.RevisionCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +81,17 @@ class RecipeServiceRevisionsTest {
   @Mock
   private NotificationService notificationService;
 
+  @Mock
+  private RecipeFilterIndex recipeFilterIndex;
+  @Mock
+  private TrendingScoreService trendingScoreService;
+  @Mock
+  private RecipeCacheService recipeCacheService;
+  @Mock
+  private ReferenceDataResolver referenceDataResolver;
+  @Mock
+  private RecipeHistoryService recipeHistoryService;
+
   private RecipeService recipeService;
 
   private Recipe testRecipe;
@@ -92,7 +111,9 @@ class RecipeServiceRevisionsTest {
         recipeStepMapper,
         recipeCommentRepository,
         recipeCommentMapper,
-        notificationService);
+        notificationService,
+        recipeFilterIndex, trendingScoreService, recipeCacheService, referenceDataResolver,
+        recipeHistoryService);
 
     currentUserId = UUID.randomUUID();
     testRecipe = Recipe.builder()
@@ -195,4 +216,56 @@ class RecipeServiceRevisionsTest {
       assertEquals(emptyRevisionDtos, response.getRevisions());
     }
   }
+
+  @Test
+  void getRevisions_WithCursor_ShouldSeekPastCursorAndReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+    LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+    LocalDateTime createdAt = cursorCreatedAt.minusMinutes(1);
+    String cursor = RevisionCursor.of(cursorCreatedAt, 9L).encode();
+    RecipeRevision first = RecipeRevision.builder().revisionId(8L).createdAt(createdAt).build();
+    RecipeRevision extra =
+        RecipeRevision.builder().revisionId(7L).createdAt(createdAt.minusMinutes(1)).build();
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeRevisionRepository.findPageByRecipeId(recipeId, cursorCreatedAt, 9L, 2))
+          .thenReturn(Arrays.asList(first, extra));
+      when(recipeRevisionMapper.toDtoList(List.of(first))).thenReturn(testRevisionDtos.subList(0, 1));
+
+      // Act
+      RecipeRevisionsResponse response = recipeService.getRevisions(recipeId, cursor, 1);
+
+      // Assert
+      assertEquals(1, response.getTotalCount());
+      RevisionCursor next = RevisionCursor.decode(response.getNextCursor());
+      assertEquals(createdAt, next.getCreatedAt());
+      assertEquals(8L, next.getRevisionId());
+    }
+  }
+
+  @Test
+  void getRevisions_WithCursorOnLastPage_ShouldNotReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeRevisionRepository.findPageByRecipeId(recipeId, null, null, 21))
+          .thenReturn(testRevisions);
+      when(recipeRevisionMapper.toDtoList(testRevisions)).thenReturn(testRevisionDtos);
+
+      // Act
+      RecipeRevisionsResponse response = recipeService.getRevisions(recipeId, "", 20);
+
+      // Assert
+      assertEquals(2, response.getTotalCount());
+      assertNull(response.getNextCursor());
+    }
+  }
 }
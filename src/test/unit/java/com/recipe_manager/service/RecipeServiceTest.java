@@ -3,24 +3,30 @@ package com.recipe_manager.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.recipe_manager.exception.BusinessException;
 import com.recipe_manager.exception.ResourceNotFoundException;
 import com.recipe_manager.model.dto.recipe.RecipeDto;
 import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
 import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.recipe.RecipeSummaryDto;
 import com.recipe_manager.model.dto.recipe.RecipeTagDto;
+import com.recipe_manager.model.dto.recipe.RecipeView;
 import com.recipe_manager.model.dto.request.CreateRecipeRequest;
 import com.recipe_manager.model.dto.request.SearchRecipesRequest;
 import com.recipe_manager.model.dto.request.UpdateRecipeRequest;
@@ -32,11 +38,19 @@ import com.recipe_manager.model.entity.recipe.RecipeTag;
 import com.recipe_manager.model.enums.DifficultyLevel;
 import com.recipe_manager.model.enums.IngredientMatchMode;
 import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.model.enums.TextSearchMode;
 import com.recipe_manager.model.mapper.RecipeMapper;
 import com.recipe_manager.model.mapper.RecipeStepMapper;
 import com.recipe_manager.repository.ingredient.IngredientRepository;
 import com.recipe_manager.repository.recipe.RecipeRepository;
+import com.recipe_manager.repository.recipe.RecipeSummaryProjection;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.revision.RecipeHistoryService;
+import com.recipe_manager.service.search.RecipeFilterIndex;
+import com.recipe_manager.service.trending.TrendingScoreService;
+import com.recipe_manager.util.RecipeCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +63,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -93,6 +108,22 @@ class RecipeServiceTest {
   @Mock
   private com.recipe_manager.service.external.notificationservice.NotificationService notificationService;
 
+  @Mock
+  private RecipeFilterIndex recipeFilterIndex;
+
+  @Mock
+  private TrendingScoreService trendingScoreService;
+
+  @Mock
+  private ReferenceDataResolver referenceDataResolver;
+
+  @Mock
+  private RecipeHistoryService recipeHistoryService;
+
+  @Spy
+  private RecipeCacheService recipeCacheService =
+      new RecipeCacheService(Caffeine.newBuilder().build(), Optional.empty());
+
   @InjectMocks
   private RecipeService recipeService;
 
@@ -169,8 +200,7 @@ class RecipeServiceTest {
         assertThat(response.getBody()).isEqualTo(recipeDto);
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
-        verify(ingredientRepository, never()).findById(any());
-        verify(ingredientRepository, never()).findByNameIgnoreCase(anyString());
+        verify(referenceDataResolver, never()).resolveIngredients(any());
       }
     }
 
@@ -206,7 +236,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findById(1L)).thenReturn(Optional.of(existingIngredient));
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(existingIngredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -216,8 +247,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(ingredientRepository).findById(1L);
-        verify(ingredientRepository, never()).findByNameIgnoreCase(anyString());
+        verify(referenceDataResolver).resolveIngredients(List.of(ingredientDto));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -254,7 +284,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findByNameIgnoreCase("Sugar")).thenReturn(Optional.of(existingIngredient));
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(existingIngredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -264,7 +295,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(ingredientRepository).findByNameIgnoreCase("Sugar");
+        verify(referenceDataResolver).resolveIngredients(List.of(ingredientDto));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -300,8 +331,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findByNameIgnoreCase("New Spice")).thenReturn(Optional.empty());
-        when(ingredientRepository.save(any(Ingredient.class))).thenReturn(newIngredient);
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(newIngredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -311,8 +342,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(ingredientRepository).findByNameIgnoreCase("New Spice");
-        verify(ingredientRepository).save(any(Ingredient.class));
+        verify(referenceDataResolver).resolveIngredients(List.of(ingredientDto));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -349,8 +379,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findById(999L)).thenReturn(Optional.empty());
-        when(ingredientRepository.findByNameIgnoreCase("Backup Ingredient")).thenReturn(Optional.of(backupIngredient));
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(backupIngredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -360,8 +390,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(ingredientRepository).findById(999L);
-        verify(ingredientRepository).findByNameIgnoreCase("Backup Ingredient");
+        verify(referenceDataResolver).resolveIngredients(List.of(ingredientDto));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -381,6 +410,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenThrow(new IllegalArgumentException("Ingredient must have either a valid ID or name"));
 
         // When & Then
         assertThatThrownBy(() -> recipeService.createRecipe(createRecipeRequest))
@@ -407,14 +438,14 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findById(999L)).thenReturn(Optional.empty());
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenThrow(new IllegalArgumentException("Ingredient must have either a valid ID or name"));
 
         // When & Then
         assertThatThrownBy(() -> recipeService.createRecipe(createRecipeRequest))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Ingredient must have either a valid ID or name");
 
-        verify(ingredientRepository).findById(999L);
         verify(recipeRepository, never()).save(any(Recipe.class));
       }
     }
@@ -450,7 +481,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findByNameIgnoreCase("Test Ingredient")).thenReturn(Optional.of(ingredient));
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(ingredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -496,7 +528,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findByNameIgnoreCase("Optional Ingredient")).thenReturn(Optional.of(ingredient));
+        when(referenceDataResolver.resolveIngredients(List.of(ingredientDto)))
+            .thenReturn(List.of(ingredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -657,7 +690,7 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(recipeTagRepository.findByNameIgnoreCase("Italian")).thenReturn(Optional.of(existingTag));
+        when(referenceDataResolver.resolveTags(List.of("Italian"))).thenReturn(List.of(existingTag));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -667,8 +700,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(recipeTagRepository).findByNameIgnoreCase("Italian");
-        verify(recipeTagRepository, never()).save(any(RecipeTag.class));
+        verify(referenceDataResolver).resolveTags(List.of("Italian"));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -702,8 +734,7 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(recipeTagRepository.findByNameIgnoreCase("Mexican")).thenReturn(Optional.empty());
-        when(recipeTagRepository.save(any(RecipeTag.class))).thenReturn(newTag);
+        when(referenceDataResolver.resolveTags(List.of("Mexican"))).thenReturn(List.of(newTag));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -713,8 +744,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(recipeTagRepository).findByNameIgnoreCase("Mexican");
-        verify(recipeTagRepository).save(any(RecipeTag.class));
+        verify(referenceDataResolver).resolveTags(List.of("Mexican"));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -748,8 +778,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(recipeTagRepository, never()).findByNameIgnoreCase(anyString());
-        verify(recipeTagRepository, never()).save(any(RecipeTag.class));
+        verify(referenceDataResolver, never()).resolveTags(any());
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -783,8 +812,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(recipeTagRepository, never()).findByNameIgnoreCase(anyString());
-        verify(recipeTagRepository, never()).save(any(RecipeTag.class));
+        verify(referenceDataResolver, never()).resolveTags(any());
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -825,9 +853,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(recipeTagRepository.findByNameIgnoreCase("Italian")).thenReturn(Optional.of(existingTag));
-        when(recipeTagRepository.findByNameIgnoreCase("Vegetarian")).thenReturn(Optional.empty());
-        when(recipeTagRepository.save(any(RecipeTag.class))).thenReturn(newTag);
+        when(referenceDataResolver.resolveTags(List.of("Italian", "Vegetarian")))
+            .thenReturn(List.of(existingTag, newTag));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -837,9 +864,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(recipeTagRepository).findByNameIgnoreCase("Italian");
-        verify(recipeTagRepository).findByNameIgnoreCase("Vegetarian");
-        verify(recipeTagRepository).save(any(RecipeTag.class));
+        verify(referenceDataResolver).resolveTags(List.of("Italian", "Vegetarian"));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
@@ -883,6 +908,7 @@ class RecipeServiceTest {
         verify(recipeRepository).findById(1L);
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(updatedRecipe);
+        verify(recipeCacheService).evict(1L);
       }
     }
 
@@ -1022,6 +1048,7 @@ class RecipeServiceTest {
         assertThat(response.getBody()).isNull();
         verify(recipeRepository).findById(id);
         verify(recipeRepository).delete(recipe);
+        verify(recipeCacheService).evict(id);
       }
     }
 
@@ -1139,7 +1166,7 @@ class RecipeServiceTest {
       when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
 
       // When
-      ResponseEntity<RecipeDto> response = recipeService.getRecipe(recipeId);
+      ResponseEntity<RecipeDto> response = recipeService.getRecipe(recipeId, "\"v1\"");
 
       // Then
       assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -1148,6 +1175,72 @@ class RecipeServiceTest {
       verify(recipeMapper).toDto(recipe);
     }
 
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should serve repeated reads from the cache until the recipe is evicted")
+    void shouldServeRepeatedReadsFromCacheUntilEvicted() {
+      // Given
+      Long id = 1L;
+      Recipe recipe = Recipe.builder().recipeId(id).title("Test Recipe").build();
+      RecipeDto recipeDto = RecipeDto.builder().recipeId(id).title("Test Recipe").build();
+
+      when(recipeRepository.findById(id)).thenReturn(Optional.of(recipe));
+      when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+      // When
+      recipeService.getRecipe("1", "\"v1\"");
+      ResponseEntity<RecipeDto> cached = recipeService.getRecipe("1", "\"v1\"");
+      recipeCacheService.evict(id);
+      recipeService.getRecipe("1", "\"v1\"");
+
+      // Then
+      assertThat(cached.getBody()).isSameAs(recipeDto);
+      verify(recipeRepository, times(2)).findById(id);
+      verify(recipeMapper, times(2)).toDto(recipe);
+    }
+
+    @Test
+    @Tag("edge-case")
+    @DisplayName("Should not serve a cached recipe built at another version")
+    void shouldReloadCachedRecipeAtAnotherVersion() {
+      // Given
+      Long id = 1L;
+      Recipe recipe = Recipe.builder().recipeId(id).title("Test Recipe").build();
+      RecipeDto before = RecipeDto.builder().recipeId(id).title("Test Recipe").build();
+      RecipeDto after = RecipeDto.builder().recipeId(id).title("Renamed Recipe").build();
+
+      when(recipeRepository.findById(id)).thenReturn(Optional.of(recipe));
+      when(recipeMapper.toDto(recipe)).thenReturn(before, after);
+
+      // When
+      recipeService.getRecipe("1", "\"v1\"");
+      ResponseEntity<RecipeDto> current = recipeService.getRecipe("1", "\"v2\"");
+
+      // Then
+      assertThat(current.getBody()).isSameAs(after);
+      verify(recipeRepository, times(2)).findById(id);
+    }
+
+    @Test
+    @Tag("edge-case")
+    @DisplayName("Should load the recipe without caching when no version is known")
+    void shouldBypassCacheWithoutVersion() {
+      // Given
+      Long id = 1L;
+      Recipe recipe = Recipe.builder().recipeId(id).title("Test Recipe").build();
+      RecipeDto recipeDto = RecipeDto.builder().recipeId(id).title("Test Recipe").build();
+
+      when(recipeRepository.findById(id)).thenReturn(Optional.of(recipe));
+      when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+      // When
+      recipeService.getRecipe("1", null);
+      recipeService.getRecipe("1", null);
+
+      // Then
+      verify(recipeRepository, times(2)).findById(id);
+    }
+
     @Test
     @Tag("error-processing")
     @DisplayName("Should throw ResourceNotFoundException for non-existent recipe ID")
@@ -1159,7 +1252,7 @@ class RecipeServiceTest {
       when(recipeRepository.findById(id)).thenReturn(Optional.empty());
 
       // When & Then
-      assertThatThrownBy(() -> recipeService.getRecipe(recipeId))
+      assertThatThrownBy(() -> recipeService.getRecipe(recipeId, null))
           .isInstanceOf(ResourceNotFoundException.class)
           .hasMessage("Recipe not found: " + recipeId);
 
@@ -1175,7 +1268,7 @@ class RecipeServiceTest {
       String recipeId = "invalid";
 
       // When & Then
-      assertThatThrownBy(() -> recipeService.getRecipe(recipeId))
+      assertThatThrownBy(() -> recipeService.getRecipe(recipeId, null))
           .isInstanceOf(BusinessException.class)
           .hasMessage("Invalid recipe ID: " + recipeId);
 
@@ -1191,7 +1284,7 @@ class RecipeServiceTest {
       String recipeId = null;
 
       // When & Then
-      assertThatThrownBy(() -> recipeService.getRecipe(recipeId))
+      assertThatThrownBy(() -> recipeService.getRecipe(recipeId, null))
           .isInstanceOf(BusinessException.class)
           .hasMessage("Invalid recipe ID: null");
 
@@ -1275,6 +1368,36 @@ class RecipeServiceTest {
       verify(recipeMapper).toDto(recipe2);
     }
 
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("should return summaries from a single projection query by default")
+    void shouldReturnSummariesInPageOrderWithoutMappingFullGraph() {
+      // Given
+      RecipeSummaryProjection row1 = Mockito.mock(RecipeSummaryProjection.class);
+      RecipeSummaryProjection row2 = Mockito.mock(RecipeSummaryProjection.class);
+      when(row1.getRecipeId()).thenReturn(1L);
+      when(row2.getRecipeId()).thenReturn(2L);
+      RecipeSummaryDto summary1 =
+          RecipeSummaryDto.builder().recipeId(1L).favoriteCount(3L).commentCount(1L).build();
+      RecipeSummaryDto summary2 = RecipeSummaryDto.builder().recipeId(2L).build();
+
+      when(recipeRepository.findAll(pageable)).thenReturn(recipePage);
+      when(recipeRepository.findSummariesByRecipeIdIn(List.of(1L, 2L)))
+          .thenReturn(List.of(row2, row1));
+      when(recipeMapper.toSummaryDto(row1)).thenReturn(summary1);
+      when(recipeMapper.toSummaryDto(row2)).thenReturn(summary2);
+
+      // When
+      var response = recipeService.getAllRecipes(pageable, false);
+
+      // Then
+      SearchRecipesResponse responseBody = response.getBody();
+      assertThat(responseBody).isNotNull();
+      assertThat(responseBody.getRecipes()).containsExactly(summary1, summary2);
+      assertThat(responseBody.getTotalElements()).isEqualTo(2L);
+      verify(recipeMapper, never()).toDto(any(Recipe.class));
+    }
+
     @Test
     @Tag("standard-processing")
     @DisplayName("should return empty page when no recipes exist")
@@ -1339,6 +1462,57 @@ class RecipeServiceTest {
       verify(recipeRepository).findAll(secondPage);
       verify(recipeMapper).toDto(recipe2);
     }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("should return a next cursor when more recipes follow the first page")
+    void shouldReturnNextCursorForFirstKeysetPage() {
+      // Given
+      recipe1.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+      recipe2.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+      when(recipeRepository.findAllByOrderByCreatedAtDescRecipeIdDesc(PageRequest.of(0, 2)))
+          .thenReturn(Arrays.asList(recipe1, recipe2));
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+
+      // When
+      var response = recipeService.getAllRecipes("", 1, true);
+
+      // Then
+      SearchRecipesResponse responseBody = response.getBody();
+      assertThat(responseBody).isNotNull();
+      assertThat(responseBody.getRecipes()).containsExactly(recipeDto1);
+      assertThat(responseBody.getTotalElements()).isEqualTo(-1L);
+      assertThat(responseBody.isFirst()).isTrue();
+      assertThat(responseBody.isLast()).isFalse();
+
+      RecipeCursor next = RecipeCursor.decodeTimestamp(responseBody.getNextCursor());
+      assertThat(next.getTimestamp()).isEqualTo(recipe1.getCreatedAt());
+      assertThat(next.getRecipeId()).isEqualTo(1L);
+      verify(recipeRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("should seek past the cursor and end without a next cursor")
+    void shouldSeekPastCursorAndEndOnLastPage() {
+      // Given
+      LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 10, 0);
+      String cursor = RecipeCursor.ofTimestamp(createdAt, 1L).encode();
+      when(recipeRepository.findAllCreatedBefore(createdAt, 1L, PageRequest.of(0, 2)))
+          .thenReturn(List.of(recipe2));
+      when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
+
+      // When
+      var response = recipeService.getAllRecipes(cursor, 1, true);
+
+      // Then
+      SearchRecipesResponse responseBody = response.getBody();
+      assertThat(responseBody).isNotNull();
+      assertThat(responseBody.getRecipes()).containsExactly(recipeDto2);
+      assertThat(responseBody.isFirst()).isFalse();
+      assertThat(responseBody.isLast()).isTrue();
+      assertThat(responseBody.getNextCursor()).isNull();
+    }
   }
 
   @Nested
@@ -1697,7 +1871,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[]{"chicken", "pasta"},
+          "AND",
           new String[0],
+          "OR",
           pageable)).thenReturn(recipePage);
       when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
       when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
@@ -1724,7 +1900,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[]{"chicken", "pasta"},
+          "AND",
           new String[0],
+          "OR",
           pageable);
       verify(recipeMapper).toDto(recipe1);
       verify(recipeMapper).toDto(recipe2);
@@ -1746,7 +1924,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           pageable)).thenReturn(emptyPage);
 
       // When
@@ -1767,7 +1947,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           pageable);
       verify(recipeMapper, never()).toDto(any(Recipe.class));
     }
@@ -1788,7 +1970,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           secondPage)).thenReturn(paginatedPage);
       when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
 
@@ -1814,7 +1998,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           secondPage);
     }
 
@@ -1831,7 +2017,9 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           pageable))
           .thenThrow(new RuntimeException("Database error"));
 
@@ -1848,10 +2036,247 @@ class RecipeServiceTest {
           searchRequest.getMinServings(),
           searchRequest.getMaxServings(),
           new String[0],
+          "AND",
           new String[0],
+          "OR",
           pageable);
       verify(recipeMapper, never()).toDto(any(Recipe.class));
     }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should use ranked full-text search when FULL_TEXT mode is requested")
+    void shouldUseFullTextSearchWhenRequested() {
+      // Given
+      searchRequest.setRecipeNameQuery("  chicken pasta ");
+      searchRequest.setTextSearchMode(TextSearchMode.FULL_TEXT);
+
+      when(recipeRepository.fullTextSearchRecipes(
+          "chicken pasta",
+          null,
+          null,
+          null,
+          null,
+          null,
+          new String[0],
+          "AND",
+          new String[0],
+          "OR",
+          pageable)).thenReturn(recipePage);
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+      when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getRecipes()).extracting(RecipeView::getRecipeId)
+          .containsExactly(1L, 2L);
+      verify(recipeRepository, never()).searchRecipes(
+          any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+          any(Pageable.class));
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should fall back to filter search when FULL_TEXT query is blank")
+    void shouldFallBackToFilterSearchWhenFullTextQueryIsBlank() {
+      // Given
+      searchRequest.setRecipeNameQuery("   ");
+      searchRequest.setTextSearchMode(TextSearchMode.FULL_TEXT);
+      Page<Recipe> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
+
+      when(recipeRepository.searchRecipes(
+          "   ",
+          null,
+          null,
+          null,
+          null,
+          null,
+          new String[0],
+          "AND",
+          new String[0],
+          "OR",
+          pageable)).thenReturn(emptyPage);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().isEmpty()).isTrue();
+      verify(recipeRepository, never()).fullTextSearchRecipes(
+          any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+          any(Pageable.class));
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should hydrate only the indexed page when the filter index is ready")
+    void shouldHydrateOnlyIndexedPageWhenFilterIndexIsReady() {
+      // Given
+      searchRequest.setIngredients(Arrays.asList("Chicken"));
+      searchRequest.setIngredientMatchMode(IngredientMatchMode.AND);
+      Ingredient chicken = Ingredient.builder().ingredientId(7L).name("chicken").build();
+      RecipeFilterIndex.Match match = Mockito.mock(RecipeFilterIndex.Match.class);
+
+      when(recipeFilterIndex.isReady()).thenReturn(true);
+      when(ingredientRepository.findAllByLowerCaseNameIn(Set.of("chicken")))
+          .thenReturn(List.of(chicken));
+      when(recipeFilterIndex.match(
+          List.of(Set.of(7L)), IngredientMatchMode.AND, List.of(), IngredientMatchMode.OR))
+          .thenReturn(match);
+      when(match.isEmpty()).thenReturn(false);
+      when(match.pageDescending(0L, 10)).thenReturn(List.of(2L, 1L));
+      when(match.count()).thenReturn(2L);
+      when(recipeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(recipe1, recipe2));
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+      when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getRecipes()).containsExactly(recipeDto2, recipeDto1);
+      assertThat(response.getBody().getTotalElements()).isEqualTo(2);
+      verify(recipeRepository, never()).searchRecipes(
+          any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+          any(Pageable.class));
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should return empty results without loading recipes when the index matches nothing")
+    void shouldReturnEmptyWhenFilterIndexMatchesNothing() {
+      // Given
+      searchRequest.setTags(Arrays.asList("Vegan"));
+      searchRequest.setTagMatchMode(IngredientMatchMode.AND);
+      RecipeFilterIndex.Match match = Mockito.mock(RecipeFilterIndex.Match.class);
+
+      when(recipeFilterIndex.isReady()).thenReturn(true);
+      when(recipeTagRepository.findAllByLowerCaseNameIn(Set.of("vegan"))).thenReturn(List.of());
+      when(recipeFilterIndex.match(
+          List.of(), IngredientMatchMode.AND, List.of(Set.of()), IngredientMatchMode.AND))
+          .thenReturn(match);
+      when(match.isEmpty()).thenReturn(true);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().isEmpty()).isTrue();
+      assertThat(response.getBody().getTotalElements()).isZero();
+      verify(recipeRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should restrict the database search to indexed candidates when other criteria apply")
+    void shouldRestrictDatabaseSearchToIndexedCandidates() {
+      // Given
+      searchRequest.setIngredients(Arrays.asList("chicken"));
+      searchRequest.setIngredientMatchMode(IngredientMatchMode.OR);
+      searchRequest.setDifficulty(DifficultyLevel.EASY);
+      Ingredient chicken = Ingredient.builder().ingredientId(7L).name("Chicken").build();
+      RecipeFilterIndex.Match match = Mockito.mock(RecipeFilterIndex.Match.class);
+
+      when(recipeFilterIndex.isReady()).thenReturn(true);
+      when(ingredientRepository.findAllByLowerCaseNameIn(Set.of("chicken")))
+          .thenReturn(List.of(chicken));
+      when(recipeFilterIndex.match(
+          List.of(Set.of(7L)), IngredientMatchMode.OR, List.of(), IngredientMatchMode.OR))
+          .thenReturn(match);
+      when(match.isEmpty()).thenReturn(false);
+      when(match.toArray()).thenReturn(new Long[] {1L, 2L});
+      when(recipeRepository.searchRecipesWithinIds(
+          new Long[] {1L, 2L}, null, false, "EASY", null, null, null, null, pageable))
+          .thenReturn(recipePage);
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+      when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getRecipes()).containsExactly(recipeDto1, recipeDto2);
+      verify(recipeRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should pass match modes to the database search while the index is not ready")
+    void shouldPassMatchModesToDatabaseSearchWhenFilterIndexIsNotReady() {
+      // Given
+      searchRequest.setIngredients(Arrays.asList(" Chicken", "chicken", "Rice"));
+      searchRequest.setIngredientMatchMode(IngredientMatchMode.NONE);
+      searchRequest.setTags(Arrays.asList("Vegan", "Quick"));
+      searchRequest.setTagMatchMode(IngredientMatchMode.AND);
+
+      when(recipeFilterIndex.isReady()).thenReturn(false);
+      when(recipeRepository.searchRecipes(
+          null,
+          null,
+          null,
+          null,
+          null,
+          null,
+          new String[]{"chicken", "rice"},
+          "NONE",
+          new String[]{"vegan", "quick"},
+          "AND",
+          pageable)).thenReturn(recipePage);
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+      when(recipeMapper.toDto(recipe2)).thenReturn(recipeDto2);
+
+      // When
+      ResponseEntity<SearchRecipesResponse> response = recipeService.searchRecipes(searchRequest, pageable);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getRecipes()).containsExactly(recipeDto1, recipeDto2);
+      verify(recipeFilterIndex, never()).match(any(), any(), any(), any());
+    }
+
+    @Test
+    @Tag("standard-processing")
+    @DisplayName("Should pass match modes to the keyset search while the index is not ready")
+    void shouldPassMatchModesToKeysetSearchWhenFilterIndexIsNotReady() {
+      // Given
+      searchRequest.setIngredients(Arrays.asList("Chicken", "Rice"));
+      searchRequest.setTags(Arrays.asList("Spicy"));
+      searchRequest.setTagMatchMode(IngredientMatchMode.NONE);
+
+      when(recipeFilterIndex.isReady()).thenReturn(false);
+      when(recipeRepository.searchRecipesAfter(
+          null,
+          null,
+          null,
+          null,
+          null,
+          null,
+          new String[]{"chicken", "rice"},
+          "AND",
+          new String[]{"spicy"},
+          "NONE",
+          new Long[0],
+          null,
+          null,
+          PageRequest.of(0, 11))).thenReturn(List.of(recipe1));
+      when(recipeMapper.toDto(recipe1)).thenReturn(recipeDto1);
+
+      // When
+      var response = recipeService.searchRecipes(searchRequest, null, 10, true);
+
+      // Then
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getRecipes()).containsExactly(recipeDto1);
+      assertThat(response.getBody().getNextCursor()).isNull();
+      verify(recipeFilterIndex, never()).match(any(), any(), any(), any());
+    }
   }
 
   @Nested
@@ -1899,9 +2324,8 @@ class RecipeServiceTest {
 
       try (MockedStatic<SecurityUtils> mockedSecurity = Mockito.mockStatic(SecurityUtils.class)) {
         mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
-        when(ingredientRepository.findById(1L)).thenReturn(Optional.of(existingIngredient));
-        when(ingredientRepository.findByNameIgnoreCase("New Ingredient")).thenReturn(Optional.empty());
-        when(ingredientRepository.save(any(Ingredient.class))).thenReturn(newIngredient);
+        when(referenceDataResolver.resolveIngredients(List.of(ingredient1, ingredient2)))
+            .thenReturn(List.of(existingIngredient, newIngredient));
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         when(recipeMapper.toDto(savedRecipe)).thenReturn(recipeDto);
 
@@ -1911,9 +2335,7 @@ class RecipeServiceTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(recipeDto);
-        verify(ingredientRepository).findById(1L);
-        verify(ingredientRepository).findByNameIgnoreCase("New Ingredient");
-        verify(ingredientRepository).save(any(Ingredient.class));
+        verify(referenceDataResolver).resolveIngredients(List.of(ingredient1, ingredient2));
         verify(recipeRepository).save(any(Recipe.class));
         verify(recipeMapper).toDto(savedRecipe);
       }
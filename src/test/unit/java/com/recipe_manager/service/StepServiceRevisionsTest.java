@@ -1,9 +1,11 @@
 package com.recipe_manager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +25,7 @@ import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
 import com.recipe_manager.repository.recipe.RecipeStepRepository;
 import com.recipe_manager.repository.recipe.StepCommentRepository;
 import com.recipe_manager.service.external.notificationservice.NotificationService;
+import com.recipe_manager.util.RevisionCursor;
 import com.recipe_manager.util.SecurityUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -231,4 +234,64 @@ class StepServiceRevisionsTest {
       assertEquals(emptyRevisionDtos, response.getRevisions());
     }
   }
+
+  @Test
+  void getStepRevisions_WithCursor_ShouldSeekPastCursorAndReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+    Long stepId = 1L;
+    LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+    LocalDateTime createdAt = cursorCreatedAt.minusMinutes(1);
+    String cursor = RevisionCursor.of(cursorCreatedAt, 9L).encode();
+    RecipeRevision first = RecipeRevision.builder().revisionId(8L).createdAt(createdAt).build();
+    RecipeRevision extra =
+        RecipeRevision.builder().revisionId(7L).createdAt(createdAt.minusMinutes(1)).build();
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeRepository.existsById(recipeId)).thenReturn(true);
+      when(recipeStepRepository.findByStepIdAndRecipeRecipeId(stepId, recipeId))
+          .thenReturn(Optional.of(testStep));
+      when(recipeRevisionRepository.findStepRevisionPage(recipeId, stepId, cursorCreatedAt, 9L, 2))
+          .thenReturn(Arrays.asList(first, extra));
+      when(recipeRevisionMapper.toDtoList(List.of(first))).thenReturn(testRevisionDtos.subList(0, 1));
+
+      // Act
+      StepRevisionsResponse response = stepService.getStepRevisions(recipeId, stepId, cursor, 1);
+
+      // Assert
+      assertEquals(1, response.getTotalCount());
+      RevisionCursor next = RevisionCursor.decode(response.getNextCursor());
+      assertEquals(createdAt, next.getCreatedAt());
+      assertEquals(8L, next.getRevisionId());
+    }
+  }
+
+  @Test
+  void getStepRevisions_WithCursorOnLastPage_ShouldNotReturnNextCursor() {
+    // Arrange
+    Long recipeId = 1L;
+    Long stepId = 1L;
+
+    try (MockedStatic<SecurityUtils> mockedSecurityUtils = Mockito.mockStatic(SecurityUtils.class)) {
+      mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(currentUserId);
+
+      when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(testRecipe));
+      when(recipeRepository.existsById(recipeId)).thenReturn(true);
+      when(recipeStepRepository.findByStepIdAndRecipeRecipeId(stepId, recipeId))
+          .thenReturn(Optional.of(testStep));
+      when(recipeRevisionRepository.findStepRevisionPage(recipeId, stepId, null, null, 21))
+          .thenReturn(testRevisions);
+      when(recipeRevisionMapper.toDtoList(testRevisions)).thenReturn(testRevisionDtos);
+
+      // Act
+      StepRevisionsResponse response = stepService.getStepRevisions(recipeId, stepId, "", 20);
+
+      // Assert
+      assertEquals(2, response.getTotalCount());
+      assertNull(response.getNextCursor());
+    }
+  }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +32,9 @@ import com.recipe_manager.model.entity.recipe.RecipeTag;
 import com.recipe_manager.model.mapper.RecipeTagMapper;
 import com.recipe_manager.repository.recipe.RecipeRepository;
 import com.recipe_manager.repository.recipe.RecipeTagRepository;
+import com.recipe_manager.service.cache.RecipeCacheService;
+import com.recipe_manager.service.reference.ReferenceDataResolver;
+import com.recipe_manager.service.search.RecipeFilterIndex;
 
 /**
  * Unit tests for {@link TagService}.
@@ -48,11 +52,22 @@ class TagServiceTest {
   @Mock
   private RecipeTagMapper recipeTagMapper;
 
+  @Mock
+  private RecipeFilterIndex recipeFilterIndex;
+
+  @Mock
+  private RecipeCacheService recipeCacheService;
+
+  @Mock
+  private ReferenceDataResolver referenceDataResolver;
+
   private TagService tagService;
 
   @BeforeEach
   void setUp() {
-    tagService = new TagService(recipeRepository, recipeTagRepository, recipeTagMapper);
+    tagService = new TagService(
+        recipeRepository, recipeTagRepository, recipeTagMapper, recipeFilterIndex,
+        recipeCacheService, referenceDataResolver);
   }
 
   @Test
@@ -67,7 +82,7 @@ class TagServiceTest {
 
     when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
     when(recipeTagRepository.findByNameIgnoreCase("Italian")).thenReturn(Optional.empty());
-    when(recipeTagRepository.save(any(RecipeTag.class))).thenReturn(newTag);
+    when(referenceDataResolver.resolveTags(List.of("Italian"))).thenReturn(List.of(newTag));
     when(recipeTagMapper.toDtoList(any())).thenReturn(tagDtos);
 
     // When
@@ -78,8 +93,9 @@ class TagServiceTest {
     assertEquals(recipeId, response.getRecipeId());
     assertEquals(1, response.getTags().size());
     assertEquals("Italian", response.getTags().get(0).getName());
-    verify(recipeTagRepository).save(any(RecipeTag.class));
+    verify(referenceDataResolver).resolveTags(List.of("Italian"));
     verify(recipeRepository).save(recipe);
+    verify(recipeCacheService).evict(recipeId);
   }
 
   @Test
@@ -106,6 +122,28 @@ class TagServiceTest {
     verify(recipeRepository).save(recipe);
   }
 
+  @Test
+  @DisplayName("addTag should resolve an exact tag name through the natural-id cache")
+  void addTag_shouldResolveExactNameByNaturalId() {
+    // Given
+    Long recipeId = 1L;
+    AddTagRequest request = AddTagRequest.builder().name("Italian ").build();
+    Recipe recipe = Recipe.builder().recipeId(recipeId).recipeTags(Collections.emptyList()).build();
+    RecipeTag existingTag = RecipeTag.builder().tagId(1L).name("Italian").build();
+
+    when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
+    when(recipeTagRepository.findBySimpleNaturalId("Italian")).thenReturn(Optional.of(existingTag));
+    when(recipeTagMapper.toDtoList(any())).thenReturn(Collections.emptyList());
+
+    // When
+    tagService.addTag(recipeId, request);
+
+    // Then
+    verify(recipeTagRepository, never()).findByNameIgnoreCase(any());
+    verify(referenceDataResolver, never()).resolveTags(any());
+    verify(recipeRepository).save(recipe);
+  }
+
   @Test
   @DisplayName("addTag should throw exception for non-existent recipe")
   void addTag_shouldThrowExceptionForNonExistentRecipe() {
@@ -140,6 +178,7 @@ class TagServiceTest {
     assertEquals(recipeId, response.getRecipeId());
     assertTrue(response.getTags().isEmpty());
     verify(recipeRepository).save(recipe);
+    verify(recipeCacheService).evict(recipeId);
   }
 
   @Test
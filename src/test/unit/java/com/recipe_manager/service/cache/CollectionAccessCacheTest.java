@@ -0,0 +1,216 @@
+package com.recipe_manager.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe_manager.model.entity.collection.CollectionCollaboratorId;
+import com.recipe_manager.model.entity.collection.RecipeCollection;
+import com.recipe_manager.model.enums.CollaborationMode;
+import com.recipe_manager.model.enums.CollectionVisibility;
+import com.recipe_manager.repository.collection.CollectionCollaboratorRepository;
+import com.recipe_manager.repository.collection.RecipeCollectionRepository;
+
+/** Unit tests for {@link CollectionAccessCache}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class CollectionAccessCacheTest {
+
+  private static final Long COLLECTION_ID = 1L;
+
+  private final UUID ownerId = UUID.randomUUID();
+
+  private final UUID userId = UUID.randomUUID();
+
+  @Mock private RecipeCollectionRepository recipeCollectionRepository;
+
+  @Mock private CollectionCollaboratorRepository collectionCollaboratorRepository;
+
+  private CollectionAccessCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new CollectionAccessCache(
+            Caffeine.newBuilder().build(),
+            Caffeine.newBuilder().build(),
+            recipeCollectionRepository,
+            collectionCollaboratorRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Owners, collaborators and everyone on a public collection should have view access")
+  void shouldGrantViewAccessFromAcl() {
+    UUID collaboratorId = UUID.randomUUID();
+    givenCollection(CollectionVisibility.PRIVATE, List.of(collaboratorId));
+    when(recipeCollectionRepository.findById(2L))
+        .thenReturn(Optional.of(collection(2L, CollectionVisibility.PUBLIC)));
+    when(collectionCollaboratorRepository.findUserIdsByCollectionId(2L)).thenReturn(List.of());
+
+    assertThat(cache.hasViewAccess(COLLECTION_ID, ownerId)).isTrue();
+    assertThat(cache.hasViewAccess(COLLECTION_ID, collaboratorId)).isTrue();
+    assertThat(cache.hasViewAccess(2L, userId)).isTrue();
+    verify(recipeCollectionRepository, never()).findNonPublicAccessibleCollectionIds(userId);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Friends-only access should come from the user's accessible collection IDs")
+  void shouldGrantViewAccessFromUserSet() {
+    givenCollection(CollectionVisibility.FRIENDS_ONLY, List.of());
+    when(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(userId))
+        .thenReturn(List.of(COLLECTION_ID));
+
+    assertThat(cache.hasViewAccess(COLLECTION_ID, userId)).isTrue();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Repeated checks should load the ACL and the user's IDs once")
+  void shouldLoadOnce() {
+    givenCollection(CollectionVisibility.PRIVATE, List.of());
+    when(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(userId))
+        .thenReturn(List.of());
+
+    assertThat(cache.hasViewAccess(COLLECTION_ID, userId)).isFalse();
+    assertThat(cache.hasViewAccess(COLLECTION_ID, userId)).isFalse();
+    assertThat(cache.isCollaborator(COLLECTION_ID, userId)).isFalse();
+
+    verify(recipeCollectionRepository, times(1)).findById(COLLECTION_ID);
+    verify(collectionCollaboratorRepository, times(1)).findUserIdsByCollectionId(COLLECTION_ID);
+    verify(recipeCollectionRepository, times(1)).findNonPublicAccessibleCollectionIds(userId);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Evicting a user's access should reload the ACL and that user's IDs")
+  void shouldReloadAfterEvictUserAccess() {
+    givenCollection(CollectionVisibility.PRIVATE, List.of());
+    assertThat(cache.isCollaborator(COLLECTION_ID, userId)).isFalse();
+    when(collectionCollaboratorRepository.findUserIdsByCollectionId(COLLECTION_ID))
+        .thenReturn(List.of(userId));
+
+    cache.evictUserAccess(COLLECTION_ID, userId);
+
+    assertThat(cache.isCollaborator(COLLECTION_ID, userId)).isTrue();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Evicting a collection should drop every user's accessible IDs")
+  void shouldDropAllUserSetsAfterEvictCollection() {
+    UUID otherUserId = UUID.randomUUID();
+    when(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(userId))
+        .thenReturn(List.of());
+    when(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(otherUserId))
+        .thenReturn(List.of());
+    cache.getNonPublicAccessibleIds(userId);
+    cache.getNonPublicAccessibleIds(otherUserId);
+
+    cache.evictCollection(COLLECTION_ID);
+    cache.getNonPublicAccessibleIds(userId);
+    cache.getNonPublicAccessibleIds(otherUserId);
+
+    verify(recipeCollectionRepository, times(2)).findNonPublicAccessibleCollectionIds(userId);
+    verify(recipeCollectionRepository, times(2)).findNonPublicAccessibleCollectionIds(otherUserId);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Eviction should be repeated once the surrounding transaction commits")
+  void shouldEvictAgainAfterCommit() {
+    givenCollection(CollectionVisibility.PRIVATE, List.of());
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.evictDeletedCollection(COLLECTION_ID);
+    // A concurrent reader repopulates the entry from pre-commit state
+    cache.getAcl(COLLECTION_ID);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    cache.getAcl(COLLECTION_ID);
+
+    verify(recipeCollectionRepository, times(2)).findById(COLLECTION_ID);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Filtering should keep viewable collections in order and load ACLs together")
+  void shouldFilterViewableInOrder() {
+    when(recipeCollectionRepository.findAllById(anyCollection()))
+        .thenReturn(
+            List.of(
+                collection(1L, CollectionVisibility.PUBLIC),
+                collection(2L, CollectionVisibility.PRIVATE),
+                collection(3L, CollectionVisibility.PRIVATE)));
+    when(collectionCollaboratorRepository.findIdsByCollectionIdIn(anyCollection()))
+        .thenReturn(List.of(new CollectionCollaboratorId(3L, userId)));
+    when(recipeCollectionRepository.findNonPublicAccessibleCollectionIds(userId))
+        .thenReturn(List.of());
+
+    List<Long> viewable = cache.filterViewable(List.of(3L, 2L, 1L, 4L), userId, 10);
+
+    assertThat(viewable).containsExactly(3L, 1L);
+    assertThat(cache.filterViewable(List.of(3L, 2L, 1L, 4L), userId, 1)).containsExactly(3L);
+    verify(recipeCollectionRepository, times(1)).findAllById(anyCollection());
+    verify(recipeCollectionRepository, never()).findById(COLLECTION_ID);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A missing collection should deny access and not be cached")
+  void shouldDenyMissingCollection() {
+    when(recipeCollectionRepository.findById(COLLECTION_ID)).thenReturn(Optional.empty());
+
+    assertThat(cache.hasViewAccess(COLLECTION_ID, userId)).isFalse();
+    assertThat(cache.isCollaborator(COLLECTION_ID, userId)).isFalse();
+
+    verify(recipeCollectionRepository, times(2)).findById(COLLECTION_ID);
+    verify(recipeCollectionRepository, never()).findNonPublicAccessibleCollectionIds(userId);
+  }
+
+  private void givenCollection(
+      final CollectionVisibility visibility, final List<UUID> collaboratorIds) {
+    when(recipeCollectionRepository.findById(COLLECTION_ID))
+        .thenReturn(Optional.of(collection(COLLECTION_ID, visibility)));
+    when(collectionCollaboratorRepository.findUserIdsByCollectionId(COLLECTION_ID))
+        .thenReturn(collaboratorIds);
+  }
+
+  private RecipeCollection collection(final Long collectionId, final CollectionVisibility visibility) {
+    return RecipeCollection.builder()
+        .collectionId(collectionId)
+        .userId(ownerId)
+        .name("Collection " + collectionId)
+        .visibility(visibility)
+        .collaborationMode(CollaborationMode.OWNER_ONLY)
+        .build();
+  }
+}
@@ -0,0 +1,265 @@
+package com.recipe_manager.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.recipe_manager.exception.RecipeScraperException;
+import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInfoDto;
+import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.model.dto.ingredient.QuantityDto;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
+import com.recipe_manager.service.external.RecipeScraperService;
+
+/** Unit tests for {@link IngredientPriceCache}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class IngredientPriceCacheTest {
+
+  @Mock private RecipeScraperService recipeScraperService;
+
+  private IngredientPriceLoader loader;
+
+  private Cache<Long, IngredientPrice> prices;
+
+  private IngredientPriceCache cache;
+
+  @BeforeEach
+  void setUp() {
+    loader = new IngredientPriceLoader(recipeScraperService, Duration.ofDays(1), null);
+    prices = Caffeine.newBuilder().recordStats().build();
+    cache = new IngredientPriceCache(prices, loader);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Prices learned from one recipe should price the same ingredients in another")
+  void shouldReusePricesAcrossRecipes() {
+    givenPricing(1L, Map.of("10", quote("2.00", 1.0, IngredientUnit.KG)));
+
+    Map<Long, IngredientPrice> first = cache.getPrices(Map.of(1L, List.of(10L)));
+    Map<Long, IngredientPrice> second = cache.getPrices(Map.of(2L, List.of(10L)));
+
+    assertThat(first).containsOnlyKeys(10L);
+    assertThat(second).isEqualTo(first);
+    verify(recipeScraperService, times(1)).getShoppingInfo(anyLong());
+    assertThat(prices.stats().hitCount()).isEqualTo(1);
+    assertThat(prices.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Missing ingredients should be covered by as few recipe requests as possible")
+  void shouldRequestFewestRecipes() {
+    Map<Long, List<Long>> ingredientIdsByRecipe = new LinkedHashMap<>();
+    ingredientIdsByRecipe.put(1L, List.of(10L));
+    ingredientIdsByRecipe.put(2L, List.of(10L, 11L));
+    ingredientIdsByRecipe.put(3L, List.of(11L));
+    givenPricing(
+        2L,
+        Map.of(
+            "10", quote("2.00", 1.0, IngredientUnit.KG),
+            "11", quote("0.30", 1.0, IngredientUnit.PIECE)));
+
+    Map<Long, IngredientPrice> result = cache.getPrices(ingredientIdsByRecipe);
+
+    assertThat(result).containsOnlyKeys(10L, 11L);
+    verify(recipeScraperService).getShoppingInfo(2L);
+    verify(recipeScraperService, never()).getShoppingInfo(1L);
+    verify(recipeScraperService, never()).getShoppingInfo(3L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Only recipes with uncached ingredients should be requested")
+  void shouldOnlyRequestRecipesWithMisses() {
+    givenPricing(1L, Map.of("10", quote("2.00", 1.0, IngredientUnit.KG)));
+    givenPricing(2L, Map.of("12", quote("1.00", 500.0, IngredientUnit.ML)));
+    cache.getPrices(Map.of(1L, List.of(10L)));
+
+    Map<Long, IngredientPrice> result =
+        cache.getPrices(Map.of(1L, List.of(10L), 2L, List.of(10L, 12L)));
+
+    assertThat(result).containsOnlyKeys(10L, 12L);
+    verify(recipeScraperService, times(1)).getShoppingInfo(1L);
+    verify(recipeScraperService, times(1)).getShoppingInfo(2L);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Failed pricing requests should leave ingredients unpriced and uncached")
+  void shouldNotCacheFailedPricing() {
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new RecipeScraperException(1L, "Service down", new RuntimeException())));
+
+    assertThat(cache.getPrices(Map.of(1L, List.of(10L)))).isEmpty();
+    assertThat(cache.getPrices(Map.of(1L, List.of(10L)))).isEmpty();
+    verify(recipeScraperService, times(2)).getShoppingInfo(1L);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Quotes without a price or quantity should be cached unpriced, not requested again")
+  void shouldCacheUnusableQuotesAsUnpriced() {
+    givenPricing(
+        1L,
+        Map.of(
+            "10", IngredientShoppingInfoDto.builder().ingredientName("Salt").build(),
+            "11", quote("1.00", 0.0, IngredientUnit.G),
+            "unknown", quote("1.00", 1.0, IngredientUnit.G)));
+
+    assertThat(cache.getPrices(Map.of(1L, List.of(10L, 11L)))).isEmpty();
+    assertThat(cache.getPrices(Map.of(1L, List.of(10L, 11L)))).isEmpty();
+
+    verify(recipeScraperService, times(1)).getShoppingInfo(1L);
+    assertThat(prices.asMap()).containsOnlyKeys(10L, 11L);
+    assertThat(prices.asMap().values()).noneMatch(IngredientPrice::isPriced);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Ingredients left out of a recipe's pricing should not be requested again")
+  void shouldCacheUnreturnedIngredientsAsUnpriced() {
+    givenPricing(1L, Map.of("10", quote("2.00", 1.0, IngredientUnit.KG)));
+
+    cache.getPrices(Map.of(1L, List.of(10L, 11L)));
+    Map<Long, IngredientPrice> result = cache.getPrices(Map.of(1L, List.of(10L, 11L)));
+
+    assertThat(result).containsOnlyKeys(10L);
+    verify(recipeScraperService, times(1)).getShoppingInfo(1L);
+    assertThat(prices.getIfPresent(11L).isPriced()).isFalse();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("An ingredient priced by one recipe should not be marked unpriced by another")
+  void shouldPreferPricesOverUnpricedEntries() {
+    Map<Long, List<Long>> ingredientIdsByRecipe = new LinkedHashMap<>();
+    ingredientIdsByRecipe.put(1L, List.of(10L, 11L));
+    ingredientIdsByRecipe.put(2L, List.of(11L, 12L));
+    givenPricing(
+        1L,
+        Map.of(
+            "10", quote("2.00", 1.0, IngredientUnit.KG),
+            "11", IngredientShoppingInfoDto.builder().ingredientName("Salt").build()));
+    givenPricing(
+        2L,
+        Map.of(
+            "11", quote("1.00", 1.0, IngredientUnit.KG),
+            "12", quote("1.00", 1.0, IngredientUnit.KG)));
+
+    assertThat(cache.getPrices(ingredientIdsByRecipe)).containsOnlyKeys(10L, 11L, 12L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Stale prices should be served while they are refreshed in the background")
+  void shouldServeStalePricesWhileRefreshing() {
+    AtomicLong nanos = new AtomicLong();
+    LoadingCache<Long, IngredientPrice> refreshing =
+        Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMinutes(10))
+            .ticker(nanos::get)
+            .build(loader);
+    cache = new IngredientPriceCache(refreshing, loader);
+    CompletableFuture<RecipeScraperShoppingDto> refresh = new CompletableFuture<>();
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(pricing(1L, Map.of("10", quote("2.00", 1.0, IngredientUnit.KG))), refresh);
+    cache.getPrices(Map.of(1L, List.of(10L)));
+
+    nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+    IngredientPrice stale = cache.getPrices(Map.of(2L, List.of(10L))).get(10L);
+    refresh.complete(pricingData(1L, Map.of("10", quote("3.00", 1.0, IngredientUnit.KG))));
+    IngredientPrice refreshed = cache.getPrices(Map.of(2L, List.of(10L))).get(10L);
+
+    assertThat(stale.priceOf(BigDecimal.ONE, IngredientUnit.KG))
+        .isEqualByComparingTo(new BigDecimal("2.00"));
+    assertThat(refreshed.priceOf(BigDecimal.ONE, IngredientUnit.KG))
+        .isEqualByComparingTo(new BigDecimal("3.00"));
+    verify(recipeScraperService, times(2)).getShoppingInfo(1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Prices older than the refresh interval should be reported as stale")
+  void shouldReportStalePrices() {
+    LoadingCache<Long, IngredientPrice> refreshing =
+        Caffeine.newBuilder().refreshAfterWrite(Duration.ofMinutes(10)).build(loader);
+    cache = new IngredientPriceCache(refreshing, loader);
+    Instant now = Instant.now();
+
+    assertThat(cache.isStale(price(now.minus(Duration.ofMinutes(11))))).isTrue();
+    assertThat(cache.isStale(price(now.minus(Duration.ofMinutes(1))))).isFalse();
+    // Without refresh-ahead prices are never stale
+    assertThat(new IngredientPriceCache(prices, loader).isStale(price(Instant.EPOCH))).isFalse();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Unit prices should convert between units of the same canonical unit only")
+  void shouldPriceQuantitiesInConvertibleUnits() {
+    IngredientPrice price =
+        IngredientPrice.of(1L, quote("2.00", 1.0, IngredientUnit.KG), Instant.now());
+
+    assertThat(price.unit()).isEqualTo(IngredientUnit.G);
+    assertThat(price.priceOf(new BigDecimal("250"), IngredientUnit.G))
+        .isEqualByComparingTo(new BigDecimal("0.50"));
+    assertThat(price.priceOf(new BigDecimal("1.5"), IngredientUnit.KG))
+        .isEqualByComparingTo(new BigDecimal("3.00"));
+    assertThat(price.priceOf(new BigDecimal("1"), IngredientUnit.CUP)).isNull();
+    assertThat(price.priceOf(new BigDecimal("1"), null)).isNull();
+  }
+
+  private void givenPricing(
+      final Long recipeId, final Map<String, IngredientShoppingInfoDto> ingredients) {
+    when(recipeScraperService.getShoppingInfo(recipeId)).thenReturn(pricing(recipeId, ingredients));
+  }
+
+  private static CompletableFuture<RecipeScraperShoppingDto> pricing(
+      final Long recipeId, final Map<String, IngredientShoppingInfoDto> ingredients) {
+    return CompletableFuture.completedFuture(pricingData(recipeId, ingredients));
+  }
+
+  private static RecipeScraperShoppingDto pricingData(
+      final Long recipeId, final Map<String, IngredientShoppingInfoDto> ingredients) {
+    return RecipeScraperShoppingDto.builder().recipeId(recipeId).ingredients(ingredients).build();
+  }
+
+  private static IngredientPrice price(final Instant pricedAt) {
+    return new IngredientPrice(IngredientUnit.G, new BigDecimal("0.002"), 1L, pricedAt);
+  }
+
+  private static IngredientShoppingInfoDto quote(
+      final String price, final double amount, final IngredientUnit unit) {
+    return IngredientShoppingInfoDto.builder()
+        .quantity(new QuantityDto(amount, unit))
+        .estimatedPrice(new BigDecimal(price))
+        .build();
+  }
+}
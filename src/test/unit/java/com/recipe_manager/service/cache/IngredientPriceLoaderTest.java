@@ -0,0 +1,167 @@
+package com.recipe_manager.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.recipe_manager.model.dto.external.recipescraper.IngredientShoppingInfoDto;
+import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
+import com.recipe_manager.model.dto.ingredient.QuantityDto;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.service.cache.IngredientPriceCache.IngredientPrice;
+import com.recipe_manager.service.external.RecipeScraperService;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Unit tests for {@link IngredientPriceLoader}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class IngredientPriceLoaderTest {
+
+  private static final Executor DIRECT = Runnable::run;
+
+  @Mock private RecipeScraperService recipeScraperService;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private IngredientPriceLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    loader = new IngredientPriceLoader(recipeScraperService, Duration.ofHours(24), meterRegistry);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A refresh should replace the price with the scraper's new quote")
+  void shouldRefreshFromRecipe() throws Exception {
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(CompletableFuture.completedFuture(pricing("3.00")));
+
+    IngredientPrice refreshed =
+        loader.asyncReload(10L, price(Instant.now().minus(Duration.ofMinutes(11))), DIRECT).get();
+
+    assertThat(refreshed.priceOf(BigDecimal.ONE, IngredientUnit.KG))
+        .isEqualByComparingTo(new BigDecimal("3.00"));
+    assertThat(refreshed.recipeId()).isEqualTo(1L);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("The last-known-good price should be kept while the scraper serves its fallback")
+  void shouldKeepLastKnownGoodPrice() throws Exception {
+    // An open circuit breaker answers with the empty fallback DTO
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                RecipeScraperShoppingDto.builder()
+                    .recipeId(1L)
+                    .ingredients(Collections.emptyMap())
+                    .totalEstimatedCost(BigDecimal.ZERO)
+                    .build()));
+    IngredientPrice old = price(Instant.now().minus(Duration.ofHours(1)));
+
+    assertThat(loader.asyncReload(10L, old, DIRECT).get()).isSameAs(old);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Prices past the maximum staleness should be dropped when they cannot be refreshed")
+  void shouldDropPricesPastMaxStale() throws Exception {
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Service down")));
+
+    IngredientPrice old = price(Instant.now().minus(Duration.ofHours(25)));
+
+    assertThat(loader.asyncReload(10L, old, DIRECT).get()).isNull();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("An unpriced entry should take a new quote, or stay unpriced without one")
+  void shouldRefreshUnpricedEntries() throws Exception {
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenReturn(
+            CompletableFuture.completedFuture(pricing("3.00")),
+            CompletableFuture.failedFuture(new RuntimeException("Service down")));
+    IngredientPrice unpriced =
+        IngredientPrice.unpriced(1L, Instant.now().minus(Duration.ofHours(25)));
+
+    IngredientPrice priced = loader.asyncReload(10L, unpriced, DIRECT).get();
+    IngredientPrice stillUnpriced = loader.asyncReload(10L, unpriced, DIRECT).get();
+
+    assertThat(priced.isPriced()).isTrue();
+    assertThat(stillUnpriced.isPriced()).isFalse();
+    assertThat(stillUnpriced.pricedAt()).isAfter(unpriced.pricedAt());
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Concurrent fetches of a failing recipe should record one circuit breaker failure")
+  void shouldRecordOneBreakerFailureForConcurrentFetches() throws Exception {
+    // The scraper call passes a real circuit breaker, as the annotated service method does
+    CircuitBreaker breaker = CircuitBreaker.ofDefaults("recipe-scraper");
+    CompletableFuture<RecipeScraperShoppingDto> pending = new CompletableFuture<>();
+    when(recipeScraperService.getShoppingInfo(1L))
+        .thenAnswer(
+            invocation -> breaker.executeCompletionStage(() -> pending).toCompletableFuture());
+
+    List<CompletableFuture<Map<Long, IngredientPrice>>> fetches = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      fetches.add(loader.fetch(1L));
+    }
+    pending.completeExceptionally(new RuntimeException("Service down"));
+
+    for (CompletableFuture<Map<Long, IngredientPrice>> fetch : fetches) {
+      assertThat(fetch.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+    verify(recipeScraperService, times(1)).getShoppingInfo(1L);
+    assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("external.service.calls.coalesced")
+                .tag("operation", "getShoppingInfo")
+                .counter()
+                .count())
+        .isEqualTo(7);
+  }
+
+  private static RecipeScraperShoppingDto pricing(final String pricePerKilogram) {
+    return RecipeScraperShoppingDto.builder()
+        .recipeId(1L)
+        .ingredients(
+            Map.of(
+                "10",
+                IngredientShoppingInfoDto.builder()
+                    .quantity(new QuantityDto(1.0, IngredientUnit.KG))
+                    .estimatedPrice(new BigDecimal(pricePerKilogram))
+                    .build()))
+        .build();
+  }
+
+  private static IngredientPrice price(final Instant pricedAt) {
+    return new IngredientPrice(IngredientUnit.G, new BigDecimal("0.002"), 1L, pricedAt);
+  }
+}
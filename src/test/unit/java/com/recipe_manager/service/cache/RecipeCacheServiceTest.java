@@ -0,0 +1,220 @@
+package com.recipe_manager.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe_manager.exception.ResourceNotFoundException;
+import com.recipe_manager.model.dto.recipe.RecipeDto;
+import com.recipe_manager.service.cache.RecipeCacheService.VersionedRecipe;
+
+/** Unit tests for {@link RecipeCacheService}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class RecipeCacheServiceTest {
+
+  @Mock private SharedRecipeCache sharedCache;
+
+  private static final String V1 = "\"v1-recipe-1-1\"";
+
+  private static final String V2 = "\"v1-recipe-1-2\"";
+
+  private Cache<Long, VersionedRecipe> localCache;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Function<Long, RecipeDto> loader =
+      id -> {
+        loads.incrementAndGet();
+        return RecipeDto.builder().recipeId(id).title("Recipe " + id).build();
+      };
+
+  @BeforeEach
+  void setUp() {
+    localCache = Caffeine.newBuilder().build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A cached recipe should be served without calling the loader again")
+  void shouldServeHitWithoutLoading() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.empty());
+
+    RecipeDto first = service.get(1L, V1, loader);
+    RecipeDto second = service.get(1L, V1, loader);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A cached recipe built at another version should be reloaded and replaced")
+  void shouldReloadEntryAtAnotherVersion() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.empty());
+
+    RecipeDto old = service.get(1L, V1, loader);
+    RecipeDto current = service.get(1L, V2, loader);
+
+    assertThat(current).isNotSameAs(old);
+    assertThat(loads).hasValue(2);
+    assertThat(localCache.getIfPresent(1L)).isEqualTo(new VersionedRecipe(V2, current));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Another instance's stale local copy should not be served after a change")
+  void shouldNotServeOtherInstanceStaleLocalCopy() {
+    RecipeCacheService writer = new RecipeCacheService(localCache, Optional.empty());
+    RecipeCacheService reader =
+        new RecipeCacheService(Caffeine.newBuilder().build(), Optional.empty());
+    RecipeDto stale = reader.get(1L, V1, loader);
+    writer.get(1L, V1, loader);
+
+    // The change is made through the writer, whose eviction never reaches the reader
+    writer.evict(1L);
+    RecipeDto current = reader.get(1L, V2, loader);
+
+    assertThat(current).isNotSameAs(stale);
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Without a version the cache should be bypassed")
+  void shouldBypassCacheWithoutVersion() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.of(sharedCache));
+
+    service.get(1L, null, loader);
+    service.get(1L, null, loader);
+
+    assertThat(loads).hasValue(2);
+    assertThat(localCache.getIfPresent(1L)).isNull();
+    verify(sharedCache, never()).get(any(), any());
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Evicting a recipe should force the next read to reload it")
+  void shouldReloadAfterEvict() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.empty());
+
+    service.get(1L, V1, loader);
+    service.evict(1L);
+    service.get(1L, V1, loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Eviction should be repeated once the surrounding transaction commits")
+  void shouldEvictAgainAfterCommit() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.empty());
+    TransactionSynchronizationManager.initSynchronization();
+
+    service.evict(1L);
+    // A concurrent reader repopulates the entry from pre-commit state
+    service.get(1L, V1, loader);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(localCache.getIfPresent(1L)).isNull();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A local miss should be served from the shared tier when it has the recipe")
+  void shouldServeLocalMissFromSharedTier() {
+    RecipeDto shared = RecipeDto.builder().recipeId(1L).title("Shared").build();
+    when(sharedCache.get(1L, V1)).thenReturn(Optional.of(shared));
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.of(sharedCache));
+
+    RecipeDto result = service.get(1L, V1, loader);
+
+    assertThat(result).isSameAs(shared);
+    assertThat(loads).hasValue(0);
+    verify(sharedCache, never()).put(any(), any(), any());
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A miss in both tiers should load the recipe and populate the shared tier")
+  void shouldPopulateSharedTierOnMiss() {
+    when(sharedCache.get(1L, V1)).thenReturn(Optional.empty());
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.of(sharedCache));
+
+    RecipeDto result = service.get(1L, V1, loader);
+
+    assertThat(loads).hasValue(1);
+    verify(sharedCache).put(1L, V1, result);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Evicting a recipe should evict it from the shared tier as well")
+  void shouldEvictSharedTier() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.of(sharedCache));
+
+    service.evict(1L);
+
+    verify(sharedCache).evict(1L);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A failing load should propagate and leave nothing cached")
+  void shouldNotCacheFailedLoad() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.empty());
+
+    assertThatThrownBy(
+            () ->
+                service.get(
+                    1L,
+                    V1,
+                    id -> {
+                      throw new ResourceNotFoundException("Recipe not found: " + id);
+                    }))
+        .isInstanceOf(ResourceNotFoundException.class);
+
+    assertThat(localCache.getIfPresent(1L)).isNull();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Evicting a null recipe ID should be a no-op")
+  void shouldIgnoreNullEvict() {
+    RecipeCacheService service = new RecipeCacheService(localCache, Optional.of(sharedCache));
+
+    service.evict(null);
+
+    verify(sharedCache, never()).evict(any());
+  }
+}
@@ -0,0 +1,92 @@
+package com.recipe_manager.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.recipe_manager.service.cache.RecipeVersionService.Resource;
+import com.recipe_manager.service.cache.RecipeVersionService.Versions;
+
+/** Unit tests for {@link RecipeVersionService}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class RecipeVersionServiceTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private static final Timestamp UPDATED_AT = Timestamp.valueOf("2026-01-02 03:04:05.123456");
+
+  private static Versions versions(final long reviews, final long steps) {
+    return new Versions(UPDATED_AT, 1, steps, 3, reviews, 5, 6, 7);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Child resource tags should change only with their own counter")
+  void shouldTagChildResourcesByTheirOwnCounter() {
+    String steps = RecipeVersionService.etag(1L, Resource.STEPS, versions(4, 2));
+
+    assertThat(steps).isEqualTo("\"v1-steps-1-2\"");
+    assertThat(RecipeVersionService.etag(1L, Resource.STEPS, versions(5, 2))).isEqualTo(steps);
+    assertThat(RecipeVersionService.etag(1L, Resource.STEPS, versions(4, 3))).isNotEqualTo(steps);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The recipe tag should cover updated_at and embedded children but not reviews")
+  void shouldTagRecipeWithEmbeddedVersions() {
+    String recipe = RecipeVersionService.etag(1L, Resource.RECIPE, versions(4, 2));
+
+    assertThat(RecipeVersionService.etag(1L, Resource.RECIPE, versions(5, 2))).isEqualTo(recipe);
+    assertThat(RecipeVersionService.etag(1L, Resource.RECIPE, versions(4, 3)))
+        .isNotEqualTo(recipe);
+    Versions touched = new Versions(Timestamp.valueOf("2026-01-02 03:04:05.123457"), 1, 2, 3, 4,
+        5, 6, 7);
+    assertThat(RecipeVersionService.etag(1L, Resource.RECIPE, touched)).isNotEqualTo(recipe);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("If-None-Match should match the current tag, a list containing it, or a wildcard")
+  void shouldMatchIfNoneMatch() {
+    String current = "\"v1-tags-1-3\"";
+
+    assertThat(RecipeVersionService.matches(current, current)).isTrue();
+    assertThat(RecipeVersionService.matches("\"v1-tags-1-2\", " + current, current)).isTrue();
+    assertThat(RecipeVersionService.matches("W/" + current, current)).isTrue();
+    assertThat(RecipeVersionService.matches("*", current)).isTrue();
+    assertThat(RecipeVersionService.matches("\"v1-tags-1-2\"", current)).isFalse();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A missing If-None-Match header should never match")
+  void shouldNotMatchMissingHeader() {
+    assertThat(RecipeVersionService.matches(null, "\"v1-tags-1-3\"")).isFalse();
+    assertThat(RecipeVersionService.matches(" ", "\"v1-tags-1-3\"")).isFalse();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A recipe the probe cannot find should have no ETag")
+  @SuppressWarnings("unchecked")
+  void shouldReturnEmptyForMissingRecipe() {
+    when(jdbcTemplate.query(eq(RecipeVersionService.PROBE_SQL), any(RowMapper.class), eq(9L)))
+        .thenReturn(List.of());
+
+    assertThat(new RecipeVersionService(jdbcTemplate).currentEtag(9L, Resource.RECIPE)).isEmpty();
+  }
+}
@@ -0,0 +1,57 @@
+package com.recipe_manager.service.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Unit tests for {@link CollectionCountRepairService}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class CollectionCountRepairServiceTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private CollectionCountRepairService repairService;
+
+  @BeforeEach
+  void setUp() {
+    repairService = new CollectionCountRepairService(jdbcTemplate);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A repair pass should report how many collections it corrected")
+  void shouldReportRepairedCollections() {
+    when(jdbcTemplate.update(CollectionCountRepairService.REPAIR_COUNTS_SQL)).thenReturn(3);
+
+    assertThat(repairService.repairCounts()).isEqualTo(3);
+    verify(jdbcTemplate).update(CollectionCountRepairService.REPAIR_COUNTS_SQL);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("A repair pass over consistent counts should change nothing")
+  void shouldReportNothingWhenConsistent() {
+    when(jdbcTemplate.update(CollectionCountRepairService.REPAIR_COUNTS_SQL)).thenReturn(0);
+
+    assertThat(repairService.repairCounts()).isZero();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("The repair should only rewrite collections whose counts differ")
+  void shouldOnlyRewriteDriftedCollections() {
+    assertThat(CollectionCountRepairService.REPAIR_COUNTS_SQL)
+        .contains("c.recipe_count <> actual.recipe_count")
+        .contains("c.collaborator_count <> actual.collaborator_count");
+  }
+}
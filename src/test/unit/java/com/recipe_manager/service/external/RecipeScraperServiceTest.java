@@ -7,11 +7,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.recipe_manager.client.recipescraper.RecipeScraperClient;
 import com.recipe_manager.config.ExternalServicesConfig;
 import com.recipe_manager.model.dto.external.recipescraper.RecipeScraperShoppingDto;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -49,9 +53,18 @@ class RecipeScraperServiceTest {
   @InjectMocks
   private RecipeScraperService recipeScraperService;
 
+  private ExecutorService externalServiceExecutor;
+
   @BeforeEach
   void setUp() {
-    // No default setup needed
+    externalServiceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    ReflectionTestUtils.setField(
+        recipeScraperService, "externalServiceExecutor", externalServiceExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    externalServiceExecutor.close();
   }
 
   @Test
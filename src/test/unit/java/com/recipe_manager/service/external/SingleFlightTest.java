@@ -0,0 +1,209 @@
+package com.recipe_manager.service.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.model.enums.ExternalServiceName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Unit tests for {@link SingleFlight}. */
+@Tag("unit")
+class SingleFlightTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private SingleFlight<Long, String> flight;
+
+  private AtomicInteger calls;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    flight = new SingleFlight<>(ExternalServiceName.RECIPE_SCRAPER, "getShoppingInfo");
+    flight.bindTo(meterRegistry);
+    calls = new AtomicInteger();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Concurrent calls for the same key should share one call")
+  void shouldShareConcurrentCalls() {
+    CompletableFuture<String> response = new CompletableFuture<>();
+
+    CompletableFuture<String> first = flight.execute(1L, () -> counted(response));
+    CompletableFuture<String> second = flight.execute(1L, () -> counted(response));
+    response.complete("priced");
+
+    assertThat(first.join()).isEqualTo("priced");
+    assertThat(second.join()).isEqualTo("priced");
+    assertThat(calls).hasValue(1);
+    assertThat(coalesced()).isEqualTo(1.0);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Calls for different keys should not be shared")
+  void shouldNotShareDifferentKeys() {
+    CompletableFuture<String> response = new CompletableFuture<>();
+
+    flight.execute(1L, () -> counted(response));
+    flight.execute(2L, () -> counted(response));
+
+    assertThat(calls).hasValue(2);
+    assertThat(coalesced()).isZero();
+    assertThat(meterRegistry.get("external.service.calls.in.flight").gauge().value())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A call made after the shared one completed should start a new call")
+  void shouldNotShareCompletedCalls() {
+    flight.execute(1L, () -> counted(CompletableFuture.completedFuture("first"))).join();
+
+    String result =
+        flight.execute(1L, () -> counted(CompletableFuture.completedFuture("second"))).join();
+
+    assertThat(result).isEqualTo("second");
+    assertThat(calls).hasValue(2);
+    assertThat(meterRegistry.get("external.service.calls.in.flight").gauge().value()).isZero();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Cancelling one caller's future should not cancel the shared call")
+  void shouldIsolateCancellation() {
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first = flight.execute(1L, () -> counted(response));
+    CompletableFuture<String> second = flight.execute(1L, () -> counted(response));
+
+    first.cancel(true);
+    response.complete("priced");
+
+    assertThat(response).isNotCancelled();
+    assertThat(second.join()).isEqualTo("priced");
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A failed call should fail every caller that shared it and not be reused")
+  void shouldShareFailuresOnce() {
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first = flight.execute(1L, () -> counted(response));
+    CompletableFuture<String> second = flight.execute(1L, () -> counted(response));
+
+    response.completeExceptionally(new IllegalStateException("Service down"));
+
+    assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+    flight.execute(1L, () -> counted(CompletableFuture.completedFuture("retried"))).join();
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A call that fails to start should fail its caller and free the key")
+  void shouldFreeKeyWhenCallFailsToStart() {
+    CompletableFuture<String> failed =
+        flight.execute(
+            1L,
+            () -> {
+              throw new IllegalStateException("No executor");
+            });
+
+    assertThatThrownBy(failed::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(flight.execute(1L, () -> counted(CompletableFuture.completedFuture("ok"))).join())
+        .isEqualTo("ok");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Blocking callers for the same key should wait for the call in flight")
+  void shouldShareBlockingCalls() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> leader =
+          executor.submit(
+              () ->
+                  flight.call(
+                      1L,
+                      () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "preferences";
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      Future<String> follower = executor.submit(() -> flight.call(1L, () -> "unexpected"));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (coalesced() < 1 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("preferences");
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("preferences");
+      assertThat(calls).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Blocking calls should rethrow the call's exception and free the key")
+  void shouldRethrowBlockingFailures() {
+    assertThatThrownBy(
+            () ->
+                flight.call(
+                    1L,
+                    () -> {
+                      throw new IllegalStateException("Service down");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(flight.call(1L, () -> "ok")).isEqualTo("ok");
+  }
+
+  private CompletableFuture<String> counted(final CompletableFuture<String> response) {
+    calls.incrementAndGet();
+    return response;
+  }
+
+  private double coalesced() {
+    return meterRegistry
+        .get("external.service.calls.coalesced")
+        .tag("service", "recipe-scraper")
+        .tag("operation", "getShoppingInfo")
+        .counter()
+        .count();
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import com.recipe_manager.client.mediamanager.MediaManagerClient;
 import com.recipe_manager.config.ExternalServicesConfig;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.micrometer.core.instrument.Counter;
@@ -76,6 +78,10 @@ class MediaManagerServiceTest {
     mediaManagerConfig.setEnabled(true);
     mediaManagerConfig.setTimeout(Duration.ofSeconds(5));
 
+    // Run calls on the test thread
+    ReflectionTestUtils.setField(
+        mediaManagerService, "externalServiceExecutor", (Executor) Runnable::run);
+
     // Don't initialize metrics in tests to avoid mocking complexity
     // The service will handle null metric objects gracefully
   }
@@ -20,7 +20,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -42,12 +41,15 @@ class NotificationServiceTest {
 
   @Mock private UserManagementClient userManagementClient;
 
-  @InjectMocks private NotificationService notificationService;
+  private NotificationService notificationService;
 
   private BatchNotificationResponseDto mockResponse;
 
   @BeforeEach
   void setUp() {
+    // Run notifications on the test thread
+    notificationService =
+        new NotificationService(notificationServiceClient, userManagementClient, Runnable::run);
     mockResponse =
         BatchNotificationResponseDto.builder()
             .notifications(Collections.emptyList())
@@ -0,0 +1,135 @@
+package com.recipe_manager.service.reference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.repository.ingredient.IngredientRepository;
+import com.recipe_manager.repository.recipe.RecipeTagRepository;
+
+import jakarta.persistence.EntityManager;
+
+/** Unit tests for {@link ReferenceDataResolver}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class ReferenceDataResolverTest {
+
+  @Mock private IngredientRepository ingredientRepository;
+
+  @Mock private RecipeTagRepository recipeTagRepository;
+
+  @Mock private EntityManager entityManager;
+
+  @Mock private NativeQuery<Object> nativeQuery;
+
+  private ReferenceDataResolver resolver;
+
+  private final Ingredient salt = Ingredient.builder().ingredientId(1L).name("Salt").build();
+
+  private final Ingredient pepper = Ingredient.builder().ingredientId(2L).name("Pepper").build();
+
+  @BeforeEach
+  void setUp() {
+    resolver = new ReferenceDataResolver(ingredientRepository, recipeTagRepository, entityManager);
+  }
+
+  private static RecipeIngredientDto byName(final String name) {
+    return RecipeIngredientDto.builder().ingredientName(name).build();
+  }
+
+  private static RecipeIngredientDto byId(final Long id, final String name) {
+    return RecipeIngredientDto.builder().ingredientId(id).ingredientName(name).build();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Existing names should resolve with one lookup and no insert")
+  void shouldResolveExistingNamesWithoutInsert() {
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("salt", "pepper")))
+        .thenReturn(List.of(pepper, salt));
+
+    List<Ingredient> resolved =
+        resolver.resolveIngredients(List.of(byName("SALT"), byName("Pepper"), byName("salt")));
+
+    assertThat(resolved).containsExactly(salt, pepper, salt);
+    verifyNoInteractions(entityManager);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Missing names should be inserted in one statement and read back")
+  void shouldInsertMissingNamesAndReadThemBack() {
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("salt", "pepper")))
+        .thenReturn(List.of(salt));
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("pepper")))
+        .thenReturn(List.of(pepper));
+    when(entityManager.createNativeQuery(ReferenceDataResolver.INSERT_INGREDIENTS_SQL))
+        .thenReturn(nativeQuery);
+    when(nativeQuery.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+
+    List<Ingredient> resolved =
+        resolver.resolveIngredients(List.of(byName("Salt"), byName("Pepper")));
+
+    assertThat(resolved).containsExactly(salt, pepper);
+    verify(nativeQuery).addSynchronizedEntityClass(Ingredient.class);
+    verify(nativeQuery).setParameter("names", new String[] {"Pepper"});
+    verify(nativeQuery).executeUpdate();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("IDs should resolve by ID and fall back to the name when not found")
+  void shouldResolveByIdAndFallBackToName() {
+    when(ingredientRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(salt));
+    when(ingredientRepository.findAllByLowerCaseNameIn(List.of("pepper")))
+        .thenReturn(List.of(pepper));
+
+    List<Ingredient> resolved =
+        resolver.resolveIngredients(List.of(byId(1L, "Renamed Salt"), byId(999L, "Pepper")));
+
+    assertThat(resolved).containsExactly(salt, pepper);
+    verifyNoInteractions(entityManager);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A reference with neither a known ID nor a name should be rejected")
+  void shouldRejectUnresolvableReference() {
+    when(ingredientRepository.findAllById(List.of(999L))).thenReturn(List.of());
+
+    assertThatThrownBy(() -> resolver.resolveIngredients(List.of(byId(999L, null))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Ingredient must have either a valid ID or name");
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Tag names differing in case or whitespace should resolve to one tag")
+  void shouldDeduplicateTagNames() {
+    RecipeTag vegan = RecipeTag.builder().tagId(1L).name("Vegan").build();
+    RecipeTag quick = RecipeTag.builder().tagId(2L).name("Quick").build();
+    when(recipeTagRepository.findAllByLowerCaseNameIn(List.of("vegan", "quick")))
+        .thenReturn(List.of(quick, vegan));
+
+    List<RecipeTag> resolved = resolver.resolveTags(List.of(" Vegan", "vegan", "Quick "));
+
+    assertThat(resolved).containsExactly(vegan, quick);
+    verifyNoInteractions(entityManager);
+  }
+}
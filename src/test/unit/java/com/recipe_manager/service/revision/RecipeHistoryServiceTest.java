@@ -0,0 +1,220 @@
+package com.recipe_manager.service.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.recipe_manager.exception.ResourceNotFoundException;
+import com.recipe_manager.model.dto.response.RecipeHistoryResponse;
+import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeRevision;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.RevisionType;
+import com.recipe_manager.model.enums.StepField;
+import com.recipe_manager.repository.recipe.RecipeRevisionRepository;
+
+/** Unit tests for {@link RecipeHistoryService}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class RecipeHistoryServiceTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Mock private RecipeRevisionRepository recipeRevisionRepository;
+
+  /** Builds a recipe with a single step. */
+  private static Recipe recipe(final Long recipeId, final String instruction) {
+    return Recipe.builder()
+        .recipeId(recipeId)
+        .recipeSteps(
+            new ArrayList<>(
+                List.of(
+                    RecipeStep.builder()
+                        .stepId(10L)
+                        .stepNumber(1)
+                        .instruction(instruction)
+                        .optional(false)
+                        .build())))
+        .build();
+  }
+
+  /** Builds a revision that rewrites step 1's instruction. */
+  private static RecipeRevision revision(
+      final Recipe recipe, final long revisionId, final String from, final String to) {
+    return RecipeRevision.builder()
+        .revisionId(revisionId)
+        .recipe(recipe)
+        .createdAt(START.plusMinutes(revisionId))
+        .newData(
+            StepUpdateRevision.builder()
+                .type(RevisionType.UPDATE)
+                .stepId(10L)
+                .stepNumber(1)
+                .changedField(StepField.INSTRUCTION)
+                .previousValue(from)
+                .newValue(to)
+                .build())
+        .build();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Without a revision the current recipe should be returned as of its latest revision")
+  void shouldReturnCurrentStateWithoutRevision() {
+    Recipe recipe = recipe(1L, "C");
+    RecipeRevision latest = revision(recipe, 2L, "B", "C");
+    when(recipeRevisionRepository.findPageByRecipeId(1L, null, null, 1))
+        .thenReturn(List.of(latest));
+
+    RecipeHistoryResponse response =
+        new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 20)
+            .getHistory(recipe, null);
+
+    assertThat(response.getRevisionId()).isEqualTo(2L);
+    assertThat(response.getSteps().get(0).getInstruction()).isEqualTo("C");
+    assertThat(response.getReplayedRevisions()).isZero();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A revision near a snapshot should be rebuilt by replaying forward from it")
+  void shouldReplayForwardFromFloorSnapshot() {
+    Recipe recipe = recipe(1L, "D");
+    RecipeRevision snapshotted = revision(recipe, 1L, "A", "B");
+    RecipeRevision target = revision(recipe, 2L, "B", "C");
+    String snapshot = RecipeState.of(recipe(1L, "B")).toJson();
+    when(recipeRevisionRepository.findById(2L)).thenReturn(Optional.of(target));
+    when(jdbcTemplate.query(
+            eq(RecipeHistoryService.FLOOR_SNAPSHOT_SQL),
+            any(RowMapper.class),
+            eq(1L),
+            eq(target.getCreatedAt()),
+            eq(2L)))
+        .thenAnswer(
+            invocation -> {
+              ResultSet rs = mock(ResultSet.class);
+              when(rs.getLong("revision_id")).thenReturn(1L);
+              when(rs.getObject("revision_created_at", LocalDateTime.class))
+                  .thenReturn(snapshotted.getCreatedAt());
+              when(rs.getString("state")).thenReturn(snapshot);
+              RowMapper<?> mapper = invocation.getArgument(1);
+              return List.of(mapper.mapRow(rs, 0));
+            });
+    when(recipeRevisionRepository.findRangeByRecipeId(
+            1L, snapshotted.getCreatedAt(), 1L, target.getCreatedAt(), 2L, 21))
+        .thenReturn(List.of(target));
+
+    RecipeHistoryResponse response =
+        new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 20)
+            .getHistory(recipe, 2L);
+
+    assertThat(response.getRevisionId()).isEqualTo(2L);
+    assertThat(response.getSteps().get(0).getInstruction()).isEqualTo("C");
+    assertThat(response.getReplayedRevisions()).isEqualTo(1);
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Without snapshots the current recipe should be reverted and snapshots repaired")
+  @SuppressWarnings("unchecked")
+  void shouldRevertFromCurrentRecipeAndRepairSnapshots() {
+    Recipe recipe = recipe(1L, "D");
+    RecipeRevision target = revision(recipe, 1L, "A", "B");
+    RecipeRevision second = revision(recipe, 2L, "B", "C");
+    RecipeRevision third = revision(recipe, 3L, "C", "D");
+    when(recipeRevisionRepository.findById(1L)).thenReturn(Optional.of(target));
+    when(recipeRevisionRepository.findRangeByRecipeId(
+            1L, target.getCreatedAt(), 1L, null, null, Integer.MAX_VALUE))
+        .thenReturn(List.of(second, third));
+
+    RecipeHistoryResponse response =
+        new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 1)
+            .getHistory(recipe, 1L);
+
+    assertThat(response.getSteps().get(0).getInstruction()).isEqualTo("B");
+    assertThat(response.getReplayedRevisions()).isEqualTo(2);
+    ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(eq(RecipeHistoryService.INSERT_SNAPSHOT_SQL), rows.capture());
+    assertThat(rows.getValue()).extracting(row -> row[1]).containsExactly(2L, 1L);
+    assertThat(RecipeState.fromJson((String) rows.getValue().get(0)[0]).getSteps())
+        .singleElement()
+        .extracting("instruction")
+        .isEqualTo("C");
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A revision of another recipe should not be found")
+  void shouldRejectRevisionOfOtherRecipe() {
+    Recipe recipe = recipe(1L, "B");
+    when(recipeRevisionRepository.findById(5L))
+        .thenReturn(Optional.of(revision(recipe(2L, "B"), 5L, "A", "B")));
+    RecipeHistoryService service =
+        new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 20);
+
+    assertThatThrownBy(() -> service.getHistory(recipe, 5L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessage("Revision 5 not found for recipe 1");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("An update reaching the snapshot interval should store a snapshot")
+  @SuppressWarnings("unchecked")
+  void shouldRecordSnapshotWhenIntervalReached() {
+    Recipe recipe = recipe(1L, "C");
+    when(jdbcTemplate.queryForObject(
+            RecipeHistoryService.COUNT_SINCE_SNAPSHOT_SQL, Integer.class, 1L, 1L, 3))
+        .thenReturn(2);
+
+    new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 2)
+        .recordRevisions(recipe, List.of(revision(recipe, 3L, "B", "C")));
+
+    ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+    verify(recipeRevisionRepository).flush();
+    verify(jdbcTemplate).batchUpdate(eq(RecipeHistoryService.INSERT_SNAPSHOT_SQL), rows.capture());
+    assertThat(rows.getValue()).singleElement().extracting(row -> row[1]).isEqualTo(3L);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("An update short of the snapshot interval should not store a snapshot")
+  void shouldNotRecordSnapshotBeforeIntervalReached() {
+    Recipe recipe = recipe(1L, "C");
+    when(jdbcTemplate.queryForObject(
+            RecipeHistoryService.COUNT_SINCE_SNAPSHOT_SQL, Integer.class, 1L, 1L, 3))
+        .thenReturn(1);
+
+    new RecipeHistoryService(jdbcTemplate, recipeRevisionRepository, 2)
+        .recordRevisions(recipe, List.of(revision(recipe, 3L, "B", "C")));
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+}
@@ -0,0 +1,195 @@
+package com.recipe_manager.service.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.model.converter.RevisionDataConverter;
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.IngredientUnit;
+
+/** Unit tests for {@link RecipeState}. */
+@Tag("unit")
+class RecipeStateTest {
+
+  private static final Ingredient SALT = Ingredient.builder().ingredientId(1L).name("Salt").build();
+
+  private static final Ingredient PEPPER =
+      Ingredient.builder().ingredientId(2L).name("Pepper").build();
+
+  private static final Ingredient SUGAR =
+      Ingredient.builder().ingredientId(3L).name("Sugar").build();
+
+  private static RecipeIngredient ingredient(
+      final Ingredient ingredient, final String quantity, final IngredientUnit unit) {
+    return RecipeIngredient.builder()
+        .ingredient(ingredient)
+        .quantity(new BigDecimal(quantity))
+        .unit(unit)
+        .isOptional(false)
+        .build();
+  }
+
+  private static RecipeStep step(final int number, final String instruction) {
+    return RecipeStep.builder()
+        .stepId((long) number)
+        .stepNumber(number)
+        .instruction(instruction)
+        .optional(false)
+        .build();
+  }
+
+  private static Recipe recipe(
+      final List<RecipeIngredient> ingredients, final List<RecipeStep> steps) {
+    return Recipe.builder()
+        .recipeId(1L)
+        .recipeIngredients(new ArrayList<>(ingredients))
+        .recipeSteps(new ArrayList<>(steps))
+        .build();
+  }
+
+  private static RecipeIngredientDto request(final RecipeIngredient ingredient) {
+    return RecipeIngredientDto.builder()
+        .ingredientName(ingredient.getIngredient().getName())
+        .quantity(ingredient.getQuantity())
+        .unit(ingredient.getUnit())
+        .isOptional(ingredient.getIsOptional())
+        .build();
+  }
+
+  private static RecipeStepDto request(final RecipeStep step) {
+    return RecipeStepDto.builder()
+        .stepNumber(step.getStepNumber())
+        .instruction(step.getInstruction())
+        .optional(step.getOptional())
+        .timerSeconds(step.getTimerSeconds())
+        .build();
+  }
+
+  /** Diffs two versions of a recipe the way an update does. */
+  private static List<AbstractRevision> diff(final Recipe before, final Recipe after) {
+    List<AbstractRevision> revisions = new ArrayList<>();
+    revisions.addAll(
+        RevisionDiff.diffIngredients(
+            before.getRecipeIngredients(),
+            after.getRecipeIngredients().stream().map(RecipeStateTest::request).toList(),
+            after.getRecipeIngredients().stream().map(RecipeIngredient::getIngredient).toList()));
+    revisions.addAll(
+        RevisionDiff.diffSteps(
+            before.getRecipeSteps(),
+            after.getRecipeSteps().stream().map(RecipeStateTest::request).toList()));
+    return revisions;
+  }
+
+  private static Recipe before() {
+    return recipe(
+        List.of(
+            ingredient(SALT, "1", IngredientUnit.TSP), ingredient(SUGAR, "2", IngredientUnit.CUP)),
+        List.of(step(1, "Mix"), step(2, "Bake"), step(3, "Serve")));
+  }
+
+  private static Recipe after() {
+    RecipeIngredient salt = ingredient(SALT, "1.5", IngredientUnit.TBSP);
+    salt.setIsOptional(true);
+    RecipeStep mix = step(1, "Whisk");
+    mix.setTimerSeconds(60);
+    return recipe(
+        List.of(ingredient(PEPPER, "1", IngredientUnit.TSP), salt),
+        List.of(mix, step(2, "Bake")));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Reverting an update's revisions should restore the previous state")
+  void revertShouldRestorePreviousState() {
+    List<AbstractRevision> revisions = diff(before(), after());
+    RecipeState state = RecipeState.of(after());
+
+    for (int i = revisions.size() - 1; i >= 0; i--) {
+      state.revert(revisions.get(i));
+    }
+
+    RecipeState expected = RecipeState.of(before());
+    assertThat(state.getSteps()).usingRecursiveComparison().isEqualTo(expected.getSteps());
+    assertThat(state.getIngredients())
+        .usingRecursiveComparison()
+        .ignoringCollectionOrder()
+        .isEqualTo(expected.getIngredients());
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Applying an update's revisions should reach the updated state")
+  void applyShouldReachUpdatedState() {
+    List<AbstractRevision> revisions = diff(before(), after());
+    RecipeState state = RecipeState.of(before());
+
+    revisions.forEach(state::apply);
+
+    RecipeState expected = RecipeState.of(after());
+    assertThat(state.getSteps())
+        .usingRecursiveComparison()
+        .ignoringFields("stepId")
+        .isEqualTo(expected.getSteps());
+    assertThat(state.getIngredients())
+        .usingRecursiveComparison()
+        .ignoringCollectionOrder()
+        .isEqualTo(expected.getIngredients());
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Revisions read back from storage should revert the same as in memory")
+  void storedRevisionsShouldRevert() {
+    RevisionDataConverter converter = new RevisionDataConverter();
+    List<AbstractRevision> stored =
+        diff(before(), after()).stream()
+            .map(converter::convertToDatabaseColumn)
+            .map(converter::convertToEntityAttribute)
+            .toList();
+    RecipeState state = RecipeState.of(after());
+
+    for (int i = stored.size() - 1; i >= 0; i--) {
+      state.revert(stored.get(i));
+    }
+
+    RecipeIngredientDto salt =
+        state.getIngredients().stream()
+            .filter(ingredient -> ingredient.getIngredientId().equals(1L))
+            .findFirst()
+            .orElseThrow();
+    assertThat(salt.getQuantity()).isEqualByComparingTo("1");
+    assertThat(salt.getUnit()).isEqualTo(IngredientUnit.TSP);
+    assertThat(salt.getIsOptional()).isFalse();
+    assertThat(state.getSteps())
+        .extracting(RecipeStepDto::getInstruction)
+        .containsExactly("Mix", "Bake", "Serve");
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A state should round-trip through its stored JSON")
+  void stateShouldRoundTripThroughJson() {
+    RecipeState state = RecipeState.of(after());
+
+    RecipeState read = RecipeState.fromJson(state.toJson());
+
+    assertThat(read.getIngredients())
+        .usingRecursiveComparison()
+        .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+        .isEqualTo(state.getIngredients());
+    assertThat(read.getSteps()).usingRecursiveComparison().isEqualTo(state.getSteps());
+  }
+}
@@ -0,0 +1,152 @@
+package com.recipe_manager.service.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.model.dto.recipe.RecipeIngredientDto;
+import com.recipe_manager.model.dto.recipe.RecipeStepDto;
+import com.recipe_manager.model.dto.revision.AbstractRevision;
+import com.recipe_manager.model.dto.revision.IngredientAddRevision;
+import com.recipe_manager.model.dto.revision.IngredientDeleteRevision;
+import com.recipe_manager.model.dto.revision.IngredientUpdateRevision;
+import com.recipe_manager.model.dto.revision.StepUpdateRevision;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeStep;
+import com.recipe_manager.model.enums.IngredientField;
+import com.recipe_manager.model.enums.IngredientUnit;
+import com.recipe_manager.model.enums.RevisionType;
+import com.recipe_manager.model.enums.StepField;
+
+/** Unit tests for {@link RevisionDiff}. */
+@Tag("unit")
+class RevisionDiffTest {
+
+  private static final Ingredient SALT = Ingredient.builder().ingredientId(1L).name("Salt").build();
+
+  private static final Ingredient PEPPER =
+      Ingredient.builder().ingredientId(2L).name("Pepper").build();
+
+  private static final Ingredient SUGAR =
+      Ingredient.builder().ingredientId(3L).name("Sugar").build();
+
+  private static RecipeIngredient current(
+      final Ingredient ingredient, final String quantity, final IngredientUnit unit) {
+    return RecipeIngredient.builder()
+        .ingredient(ingredient)
+        .quantity(new BigDecimal(quantity))
+        .unit(unit)
+        .isOptional(false)
+        .build();
+  }
+
+  private static RecipeIngredientDto requested(
+      final Ingredient ingredient, final String quantity, final IngredientUnit unit) {
+    return RecipeIngredientDto.builder()
+        .ingredientName(ingredient.getName())
+        .quantity(new BigDecimal(quantity))
+        .unit(unit)
+        .isOptional(false)
+        .build();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Removed, added and changed ingredients should each yield one revision")
+  void shouldDiffIngredients() {
+    List<AbstractRevision> revisions =
+        RevisionDiff.diffIngredients(
+            List.of(
+                current(SALT, "1", IngredientUnit.TSP), current(SUGAR, "2", IngredientUnit.CUP)),
+            List.of(
+                requested(PEPPER, "1", IngredientUnit.TSP),
+                requested(SALT, "2", IngredientUnit.TSP)),
+            List.of(PEPPER, SALT));
+
+    assertThat(revisions).hasSize(3);
+    assertThat(revisions.get(0)).isInstanceOf(IngredientDeleteRevision.class);
+    assertThat(((IngredientDeleteRevision) revisions.get(0)).getIngredientId()).isEqualTo(3L);
+    assertThat(revisions.get(1)).isInstanceOf(IngredientAddRevision.class);
+    assertThat(((IngredientAddRevision) revisions.get(1)).getIngredientId()).isEqualTo(2L);
+    IngredientUpdateRevision update = (IngredientUpdateRevision) revisions.get(2);
+    assertThat(update.getChangedField()).isEqualTo(IngredientField.QUANTITY);
+    assertThat(update.getChangeComment()).isEqualTo("Ingredient quantity updated");
+    assertThat(update.getChanges()).isNull();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Several field changes on one ingredient should coalesce into one revision")
+  void shouldCoalesceIngredientFieldChanges() {
+    RecipeIngredientDto request = requested(SALT, "2", IngredientUnit.TBSP);
+    request.setIsOptional(true);
+
+    List<AbstractRevision> revisions =
+        RevisionDiff.diffIngredients(
+            List.of(current(SALT, "1", IngredientUnit.TSP)), List.of(request), List.of(SALT));
+
+    assertThat(revisions).hasSize(1);
+    IngredientUpdateRevision update = (IngredientUpdateRevision) revisions.get(0);
+    assertThat(update.getType()).isEqualTo(RevisionType.UPDATE);
+    assertThat(update.getChangedField()).isNull();
+    assertThat(update.getChanges())
+        .containsOnlyKeys(
+            IngredientField.QUANTITY, IngredientField.UNIT, IngredientField.OPTIONAL_STATUS);
+    assertThat(update.getChanges().get(IngredientField.UNIT).getPreviousValue())
+        .isEqualTo(IngredientUnit.TSP);
+    assertThat(update.getChangeComment())
+        .isEqualTo("Ingredient quantity, unit, optional status updated");
+    assertThat(update.isValid()).isTrue();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Quantities equal in value but not in scale should not produce a revision")
+  void shouldCompareQuantitiesByValue() {
+    List<AbstractRevision> revisions =
+        RevisionDiff.diffIngredients(
+            List.of(current(SALT, "2.000", IngredientUnit.TSP)),
+            List.of(requested(SALT, "2", IngredientUnit.TSP)),
+            List.of(SALT));
+
+    assertThat(revisions).isEmpty();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Steps should be matched by number and coalesce their field changes")
+  void shouldDiffStepsByNumber() {
+    List<RecipeStep> current =
+        List.of(
+            RecipeStep.builder().stepId(10L).stepNumber(1).instruction("Mix").build(),
+            RecipeStep.builder().stepId(11L).stepNumber(2).instruction("Bake").build(),
+            RecipeStep.builder().stepId(12L).stepNumber(3).instruction("Serve").build());
+    List<RecipeStepDto> requested =
+        List.of(
+            RecipeStepDto.builder().stepNumber(3).instruction("Serve").build(),
+            RecipeStepDto.builder().stepNumber(2).instruction("Bake").timerSeconds(600).build(),
+            RecipeStepDto.builder()
+                .stepNumber(1)
+                .instruction("Whisk")
+                .optional(true)
+                .timerSeconds(60)
+                .build());
+
+    List<AbstractRevision> revisions = RevisionDiff.diffSteps(current, requested);
+
+    assertThat(revisions).hasSize(2);
+    StepUpdateRevision timer = (StepUpdateRevision) revisions.get(0);
+    assertThat(timer.getStepId()).isEqualTo(11L);
+    assertThat(timer.getChangedField()).isEqualTo(StepField.TIMER);
+    StepUpdateRevision coalesced = (StepUpdateRevision) revisions.get(1);
+    assertThat(coalesced.getStepId()).isEqualTo(10L);
+    assertThat(coalesced.getFieldChanges())
+        .containsOnlyKeys(StepField.INSTRUCTION, StepField.OPTIONAL_STATUS, StepField.TIMER);
+  }
+}
@@ -0,0 +1,266 @@
+package com.recipe_manager.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.Recipe;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.entity.recipe.RecipeTag;
+import com.recipe_manager.model.enums.IngredientMatchMode;
+
+/** Unit tests for {@link RecipeFilterIndex}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class RecipeFilterIndexTest {
+
+  private static final String RECIPES_SQL = "SELECT recipe_id FROM recipe_manager.recipes";
+  private static final String INGREDIENTS_SQL =
+      "SELECT recipe_id, ingredient_id FROM recipe_manager.recipe_ingredients";
+  private static final String TAGS_SQL =
+      "SELECT recipe_id, tag_id FROM recipe_manager.recipe_tag_junction";
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private RecipeFilterIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new RecipeFilterIndex(jdbcTemplate, true);
+
+    // Recipe 1: chicken(10), garlic(11); tags quick(100)
+    // Recipe 2: chicken(10), rice(12); tags quick(100), spicy(101)
+    // Recipe 3: garlic(11); no tags
+    index.indexRecipe(recipe(1L, List.of(10L, 11L), List.of(100L)));
+    index.indexRecipe(recipe(2L, List.of(10L, 12L), List.of(100L, 101L)));
+    index.indexRecipe(recipe(3L, List.of(11L), List.of()));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("AND should require every ingredient group")
+  void andShouldRequireEveryGroup() {
+    RecipeFilterIndex.Match match =
+        index.match(
+            List.of(Set.of(10L), Set.of(11L)), IngredientMatchMode.AND, null, null);
+
+    assertThat(match.count()).isEqualTo(1);
+    assertThat(match.pageDescending(0, 10)).containsExactly(1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("OR should match any ingredient group")
+  void orShouldMatchAnyGroup() {
+    RecipeFilterIndex.Match match =
+        index.match(List.of(Set.of(12L), Set.of(11L)), IngredientMatchMode.OR, null, null);
+
+    assertThat(match.pageDescending(0, 10)).containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("NONE should exclude recipes matching any group")
+  void noneShouldExcludeMatchingRecipes() {
+    RecipeFilterIndex.Match match =
+        index.match(List.of(Set.of(12L)), IngredientMatchMode.NONE, null, null);
+
+    assertThat(match.pageDescending(0, 10)).containsExactly(3L, 1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A group should match any of its IDs")
+  void groupShouldMatchAnyOfItsIds() {
+    RecipeFilterIndex.Match match =
+        index.match(List.of(Set.of(12L, 11L)), IngredientMatchMode.AND, null, null);
+
+    assertThat(match.count()).isEqualTo(3);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("An unresolved group should make AND match nothing")
+  void unresolvedGroupShouldMakeAndMatchNothing() {
+    RecipeFilterIndex.Match match =
+        index.match(List.of(Set.of(10L), Set.of()), IngredientMatchMode.AND, null, null);
+
+    assertThat(match.isEmpty()).isTrue();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Ingredient and tag facets should be intersected")
+  void shouldIntersectIngredientAndTagFacets() {
+    RecipeFilterIndex.Match match =
+        index.match(
+            List.of(Set.of(10L)),
+            IngredientMatchMode.AND,
+            List.of(Set.of(101L)),
+            IngredientMatchMode.NONE);
+
+    assertThat(match.pageDescending(0, 10)).containsExactly(1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Pages should be returned newest first")
+  void shouldPageNewestFirst() {
+    RecipeFilterIndex.Match match = index.match(null, null, null, null);
+
+    assertThat(match.count()).isEqualTo(3);
+    assertThat(match.pageDescending(1, 1)).containsExactly(2L);
+    assertThat(match.pageDescending(3, 10)).isEmpty();
+    assertThat(Arrays.asList(match.toArray())).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Re-indexing a recipe should replace its previous postings")
+  void reindexShouldReplacePostings() {
+    index.indexRecipe(recipe(1L, List.of(12L), List.of()));
+
+    assertThat(
+            index.match(List.of(Set.of(10L)), IngredientMatchMode.AND, null, null)
+                .pageDescending(0, 10))
+        .containsExactly(2L);
+    assertThat(
+            index.match(List.of(Set.of(12L)), IngredientMatchMode.AND, null, null)
+                .pageDescending(0, 10))
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Re-indexing tags should leave ingredients untouched")
+  void reindexTagsShouldLeaveIngredients() {
+    index.indexRecipeTags(3L, List.of(RecipeTag.builder().tagId(101L).build()));
+
+    assertThat(
+            index.match(
+                    List.of(Set.of(11L)),
+                    IngredientMatchMode.AND,
+                    List.of(Set.of(101L)),
+                    IngredientMatchMode.OR)
+                .pageDescending(0, 10))
+        .containsExactly(3L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Removed recipes should no longer match, including for NONE")
+  void removedRecipeShouldNotMatch() {
+    index.removeRecipe(3L);
+
+    assertThat(index.match(null, null, null, null).count()).isEqualTo(2);
+    assertThat(
+            index.match(List.of(Set.of(12L)), IngredientMatchMode.NONE, null, null)
+                .pageDescending(0, 10))
+        .containsExactly(1L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Rebuild should load the junction tables and become ready")
+  void rebuildShouldLoadFromDatabase() {
+    stubRows(RECIPES_SQL, new long[] {5L}, new long[] {6L});
+    stubRows(INGREDIENTS_SQL, new long[] {5L, 20L}, new long[] {6L, 21L});
+    stubRows(TAGS_SQL, new long[] {6L, 200L});
+
+    index.rebuild();
+
+    assertThat(index.isReady()).isTrue();
+    assertThat(index.match(null, null, null, null).pageDescending(0, 10))
+        .containsExactly(6L, 5L);
+    assertThat(
+            index.match(List.of(Set.of(21L)), IngredientMatchMode.AND, null, null)
+                .pageDescending(0, 10))
+        .containsExactly(6L);
+    assertThat(
+            index.match(null, null, List.of(Set.of(200L)), IngredientMatchMode.NONE)
+                .pageDescending(0, 10))
+        .containsExactly(5L);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A failed rebuild should keep the index not ready")
+  void failedRebuildShouldKeepIndexNotReady() {
+    doThrow(new DataAccessResourceFailureException("down"))
+        .when(jdbcTemplate)
+        .query(eq(RECIPES_SQL), any(RowCallbackHandler.class));
+
+    index.rebuild();
+
+    assertThat(index.isReady()).isFalse();
+    assertThat(index.match(null, null, null, null).count()).isEqualTo(3);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A disabled index should never build")
+  void disabledIndexShouldNotBuild() {
+    RecipeFilterIndex disabled = new RecipeFilterIndex(jdbcTemplate, false);
+
+    disabled.rebuild();
+
+    assertThat(disabled.isReady()).isFalse();
+    verify(jdbcTemplate, never()).query(any(String.class), any(RowCallbackHandler.class));
+  }
+
+  private void stubRows(final String sql, final long[]... rows) {
+    doAnswer(
+            invocation -> {
+              RowCallbackHandler handler = invocation.getArgument(1);
+              for (long[] row : rows) {
+                ResultSet resultSet = mock(ResultSet.class);
+                for (int column = 0; column < row.length; column++) {
+                  when(resultSet.getLong(column + 1)).thenReturn(row[column]);
+                }
+                handler.processRow(resultSet);
+              }
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(eq(sql), any(RowCallbackHandler.class));
+  }
+
+  private static Recipe recipe(
+      final Long recipeId, final List<Long> ingredientIds, final List<Long> tagIds) {
+    return Recipe.builder()
+        .recipeId(recipeId)
+        .recipeIngredients(
+            ingredientIds.stream()
+                .map(
+                    id ->
+                        RecipeIngredient.builder()
+                            .ingredient(Ingredient.builder().ingredientId(id).build())
+                            .build())
+                .toList())
+        .recipeTags(tagIds.stream().map(id -> RecipeTag.builder().tagId(id).build()).toList())
+        .build();
+  }
+}
@@ -0,0 +1,80 @@
+package com.recipe_manager.service.trending;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Unit tests for {@link TrendingCollectionRanking}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class TrendingCollectionRankingTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private TrendingCollectionRanking ranking;
+
+  @BeforeEach
+  void setUp() {
+    ranking = new TrendingCollectionRanking(jdbcTemplate, 50);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Refreshing should load the top of the score index in order")
+  void shouldLoadTopCollections() {
+    when(jdbcTemplate.queryForList(TrendingCollectionRanking.TOP_COLLECTIONS_SQL, Long.class, 50))
+        .thenReturn(List.of(3L, 1L, 2L));
+
+    ranking.refresh();
+
+    assertThat(ranking.getRanking()).containsExactly(3L, 1L, 2L);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("The ranking should be empty until it has been loaded")
+  void shouldBeEmptyBeforeFirstLoad() {
+    assertThat(ranking.getRanking()).isEmpty();
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("The ranking should be truncated only when it reached its size")
+  void shouldReportTruncationAtSize() {
+    when(jdbcTemplate.queryForList(TrendingCollectionRanking.TOP_COLLECTIONS_SQL, Long.class, 50))
+        .thenReturn(List.of(1L, 2L), LongStream.rangeClosed(1, 50).boxed().toList());
+
+    ranking.refresh();
+    boolean truncatedBelowSize = ranking.isTruncated();
+    ranking.refresh();
+
+    assertThat(truncatedBelowSize).isFalse();
+    assertThat(ranking.isTruncated()).isTrue();
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A failed refresh should keep the previous ranking")
+  void shouldKeepRankingWhenRefreshFails() {
+    when(jdbcTemplate.queryForList(TrendingCollectionRanking.TOP_COLLECTIONS_SQL, Long.class, 50))
+        .thenReturn(List.of(1L))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+    ranking.refresh();
+    ranking.refresh();
+
+    assertThat(ranking.getRanking()).containsExactly(1L);
+  }
+}
@@ -0,0 +1,200 @@
+package com.recipe_manager.service.trending;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Unit tests for {@link TrendingScoreService}. */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class TrendingScoreServiceTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private TrendingScoreService trendingScoreService;
+
+  @BeforeEach
+  void setUp() {
+    trendingScoreService = new TrendingScoreService(jdbcTemplate);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Each event kind should be folded in with its weight")
+  void shouldRecordEventsWithTheirWeights() {
+    trendingScoreService.recordFavorite(1L);
+    trendingScoreService.recordComment(2L);
+    trendingScoreService.recordCollectionAdd(3L);
+
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.RECORD_EVENT_SQL,
+            1L,
+            TrendingScoreService.FAVORITE_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY);
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.RECORD_EVENT_SQL,
+            2L,
+            TrendingScoreService.COMMENT_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY);
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.RECORD_EVENT_SQL,
+            3L,
+            TrendingScoreService.COLLECTION_ADD_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Collection events should be folded into the collection scores")
+  void shouldRecordCollectionEventsWithTheirWeights() {
+    trendingScoreService.recordCollectionFavorite(1L);
+    trendingScoreService.recordCollectionRecipeAdd(2L);
+
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.RECORD_COLLECTION_EVENT_SQL,
+            1L,
+            TrendingScoreService.FAVORITE_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY);
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.RECORD_COLLECTION_EVENT_SQL,
+            2L,
+            TrendingScoreService.RECIPE_ADD_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A removed favorite should be taken back at the time it was made")
+  void shouldWithdrawFavoriteAtItsOriginalTime() {
+    LocalDateTime favoritedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    trendingScoreService.withdrawFavorite(1L, favoritedAt);
+
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.WITHDRAW_EVENT_SQL,
+            TrendingScoreService.FAVORITE_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY,
+            favoritedAt,
+            1L,
+            favoritedAt);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("A removed collection favorite should be taken back at the time it was made")
+  void shouldWithdrawCollectionFavoriteAtItsOriginalTime() {
+    LocalDateTime favoritedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    trendingScoreService.withdrawCollectionFavorite(1L, favoritedAt);
+
+    verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.WITHDRAW_COLLECTION_EVENT_SQL,
+            TrendingScoreService.FAVORITE_WEIGHT,
+            TrendingScoreService.DECAY_RATE_PER_DAY,
+            favoritedAt,
+            1L,
+            favoritedAt);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Withdrawals without an ID or favorite time should be ignored")
+  void shouldIgnoreWithdrawalsWithoutIdOrTime() {
+    trendingScoreService.withdrawFavorite(null, LocalDateTime.now());
+    trendingScoreService.withdrawFavorite(1L, null);
+    trendingScoreService.withdrawCollectionFavorite(null, LocalDateTime.now());
+    trendingScoreService.withdrawCollectionFavorite(1L, null);
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Events without a recipe or collection ID should be ignored")
+  void shouldIgnoreEventsWithoutRecipeId() {
+    trendingScoreService.recordFavorite(null);
+    trendingScoreService.recordCollectionFavorite(null);
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Decay pass should rescale by the elapsed decay, prune, then advance the epoch")
+  void decayShouldRescalePruneAndAdvanceEpoch() {
+    when(jdbcTemplate.queryForObject(TrendingScoreService.LOCK_EPOCH_SQL, Double.class))
+        .thenReturn(3.0);
+
+    trendingScoreService.decay();
+
+    ArgumentCaptor<Object> factor = ArgumentCaptor.forClass(Object.class);
+    InOrder order = inOrder(jdbcTemplate);
+    order.verify(jdbcTemplate).queryForObject(TrendingScoreService.LOCK_EPOCH_SQL, Double.class);
+    order.verify(jdbcTemplate).update(eq(TrendingScoreService.RESCALE_SQL), factor.capture());
+    order
+        .verify(jdbcTemplate)
+        .update(TrendingScoreService.PRUNE_SQL, TrendingScoreService.PRUNE_THRESHOLD);
+    order
+        .verify(jdbcTemplate)
+        .update(TrendingScoreService.RESCALE_COLLECTIONS_SQL, factor.getValue());
+    order
+        .verify(jdbcTemplate)
+        .update(
+            TrendingScoreService.PRUNE_COLLECTIONS_SQL,
+            TrendingScoreService.COLLECTION_PRUNE_THRESHOLD);
+    order.verify(jdbcTemplate).update(TrendingScoreService.ADVANCE_EPOCH_SQL);
+
+    // Three days at 0.23/day is roughly one half-life
+    assertThat((Double) factor.getValue()).isCloseTo(Math.exp(-0.69), within(1e-9));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Prune threshold should be the lightest event after the 30-day window")
+  void pruneThresholdShouldMatchWindow() {
+    assertThat(TrendingScoreService.PRUNE_THRESHOLD)
+        .isCloseTo(2.0 * Math.exp(-0.23 * 30), within(1e-12));
+    assertThat(TrendingScoreService.COLLECTION_PRUNE_THRESHOLD)
+        .isCloseTo(3.0 * Math.exp(-0.23 * 30), within(1e-12));
+  }
+
+  @Test
+  @Tag("edge-case")
+  @DisplayName("Decay pass should do nothing when the epoch row is missing")
+  void decayShouldSkipWithoutEpoch() {
+    when(jdbcTemplate.queryForObject(TrendingScoreService.LOCK_EPOCH_SQL, Double.class))
+        .thenReturn(null);
+
+    trendingScoreService.decay();
+
+    verify(jdbcTemplate, never()).update(anyString(), anyDouble());
+    verify(jdbcTemplate, never()).update(TrendingScoreService.ADVANCE_EPOCH_SQL);
+  }
+}
@@ -0,0 +1,63 @@
+package com.recipe_manager.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.exception.BusinessException;
+
+/** Unit tests for {@link CollectionItemCursor}. */
+@Tag("unit")
+class CollectionItemCursorTest {
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Cursor should round-trip through its token")
+  void cursorShouldRoundTrip() {
+    String token = CollectionItemCursor.of(-20, 42L).encode();
+    CollectionItemCursor decoded = CollectionItemCursor.decode(token);
+
+    assertThat(token).doesNotContain("=", "+", "/");
+    assertThat(decoded.getDisplayOrder()).isEqualTo(-20);
+    assertThat(decoded.getRecipeId()).isEqualTo(42L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Null or blank tokens should decode to the first page")
+  void blankTokenShouldDecodeToFirstPage() {
+    assertThat(CollectionItemCursor.decode(null)).isNull();
+    assertThat(CollectionItemCursor.decode(" ")).isNull();
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Cursors from other listings should be rejected")
+  void shouldRejectOtherCursors() {
+    String recipeToken =
+        RecipeCursor.ofTimestamp(LocalDateTime.of(2024, 5, 1, 12, 0), 1L).encode();
+    String revisionToken = RevisionCursor.of(LocalDateTime.of(2024, 5, 1, 12, 0), 1L).encode();
+
+    assertThatThrownBy(() -> CollectionItemCursor.decode(recipeToken))
+        .isInstanceOf(BusinessException.class)
+        .hasMessageContaining("Invalid cursor");
+    assertThatThrownBy(() -> CollectionItemCursor.decode(revisionToken))
+        .isInstanceOf(BusinessException.class);
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Malformed tokens should be rejected")
+  void shouldRejectMalformedTokens() {
+    assertThatThrownBy(() -> CollectionItemCursor.decode("not base64!"))
+        .isInstanceOf(BusinessException.class);
+    // "o|ten|1"
+    assertThatThrownBy(() -> CollectionItemCursor.decode("b3x0ZW58MQ"))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,74 @@
+package com.recipe_manager.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.exception.BusinessException;
+
+/** Unit tests for {@link RecipeCursor}. */
+@Tag("unit")
+class RecipeCursorTest {
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Timestamp cursor should round-trip through its token")
+  void timestampCursorShouldRoundTrip() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+    String token = RecipeCursor.ofTimestamp(createdAt, 42L).encode();
+    RecipeCursor decoded = RecipeCursor.decodeTimestamp(token);
+
+    assertThat(token).doesNotContain("=", "+", "/");
+    assertThat(decoded.getTimestamp()).isEqualTo(createdAt);
+    assertThat(decoded.getRecipeId()).isEqualTo(42L);
+    assertThat(decoded.getRank()).isNull();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Rank cursor should round-trip through its token")
+  void rankCursorShouldRoundTrip() {
+    String token = RecipeCursor.ofRank(0.0759f, 7L).encode();
+    RecipeCursor decoded = RecipeCursor.decodeRank(token);
+
+    assertThat(decoded.getRank()).isEqualTo(0.0759f);
+    assertThat(decoded.getRecipeId()).isEqualTo(7L);
+    assertThat(decoded.getTimestamp()).isNull();
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Null or blank tokens should decode to the first page")
+  void blankTokenShouldDecodeToFirstPage() {
+    assertThat(RecipeCursor.decodeTimestamp(null)).isNull();
+    assertThat(RecipeCursor.decodeTimestamp("")).isNull();
+    assertThat(RecipeCursor.decodeRank("  ")).isNull();
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A cursor of one kind should be rejected by the other decoder")
+  void shouldRejectCursorOfOtherKind() {
+    String token = RecipeCursor.ofRank(0.5f, 1L).encode();
+
+    assertThatThrownBy(() -> RecipeCursor.decodeTimestamp(token))
+        .isInstanceOf(BusinessException.class)
+        .hasMessageContaining("Invalid cursor");
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Malformed tokens should be rejected")
+  void shouldRejectMalformedTokens() {
+    assertThatThrownBy(() -> RecipeCursor.decodeTimestamp("not base64!"))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> RecipeCursor.decodeRank("cnxhYmN8MQ"))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,60 @@
+package com.recipe_manager.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.exception.BusinessException;
+
+/** Unit tests for {@link RevisionCursor}. */
+@Tag("unit")
+class RevisionCursorTest {
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Cursor should round-trip through its token")
+  void cursorShouldRoundTrip() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    String token = RevisionCursor.of(createdAt, 42L).encode();
+    RevisionCursor decoded = RevisionCursor.decode(token);
+
+    assertThat(token).doesNotContain("=", "+", "/");
+    assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(decoded.getRevisionId()).isEqualTo(42L);
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Null or blank tokens should decode to the first page")
+  void blankTokenShouldDecodeToFirstPage() {
+    assertThat(RevisionCursor.decode(null)).isNull();
+    assertThat(RevisionCursor.decode(" ")).isNull();
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("A recipe listing cursor should be rejected")
+  void shouldRejectRecipeCursor() {
+    String token = RecipeCursor.ofTimestamp(LocalDateTime.of(2024, 5, 1, 12, 0), 1L).encode();
+
+    assertThatThrownBy(() -> RevisionCursor.decode(token))
+        .isInstanceOf(BusinessException.class)
+        .hasMessageContaining("Invalid cursor");
+  }
+
+  @Test
+  @Tag("error-processing")
+  @DisplayName("Malformed tokens should be rejected")
+  void shouldRejectMalformedTokens() {
+    assertThatThrownBy(() -> RevisionCursor.decode("not base64!"))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> RevisionCursor.decode("dnxub3QtYS1kYXRlfDE"))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,83 @@
+package com.recipe_manager.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipe_manager.model.dto.shopping.ShoppingListItemDto;
+import com.recipe_manager.model.entity.ingredient.Ingredient;
+import com.recipe_manager.model.entity.recipe.RecipeIngredient;
+import com.recipe_manager.model.enums.IngredientUnit;
+
+/** Unit tests for {@link ShoppingListAggregator}. */
+@Tag("unit")
+class ShoppingListAggregatorTest {
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Quantities in convertible units should combine into the largest unit")
+  void shouldCombineConvertibleUnits() {
+    ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    aggregator.add(row(1L, "Flour", "500", IngredientUnit.G, false), BigDecimal.ONE);
+    aggregator.add(row(1L, "Flour", "1", IngredientUnit.KG, false), BigDecimal.ONE);
+
+    List<ShoppingListItemDto> items = aggregator.toItems();
+
+    assertThat(items).hasSize(1);
+    assertThat(items.get(0).getUnit()).isEqualTo(IngredientUnit.KG);
+    assertThat(items.get(0).getTotalQuantity()).isEqualByComparingTo(new BigDecimal("1.5"));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Quantities in one unit should keep that unit and their exact sum")
+  void shouldKeepSingleUnitExact() {
+    ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    aggregator.add(row(2L, "Salt", "1.5", IngredientUnit.TSP, false), BigDecimal.ONE);
+    aggregator.add(row(2L, "Salt", "0.25", IngredientUnit.TSP, false), new BigDecimal("2"));
+
+    ShoppingListItemDto item = aggregator.toItems().get(0);
+
+    assertThat(item.getUnit()).isEqualTo(IngredientUnit.TSP);
+    assertThat(item.getTotalQuantity()).isEqualTo(new BigDecimal("2.00"));
+  }
+
+  @Test
+  @Tag("standard-processing")
+  @DisplayName("Weights, volumes and counts of one ingredient should stay separate")
+  void shouldSeparateIncompatibleUnits() {
+    ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    aggregator.add(row(3L, "Garlic", "2", IngredientUnit.CLOVE, false), BigDecimal.ONE);
+    aggregator.add(row(4L, "Onion", "1", IngredientUnit.PIECE, false), BigDecimal.ONE);
+    aggregator.add(row(3L, "Garlic", "1", IngredientUnit.TSP, true), BigDecimal.ONE);
+    aggregator.add(row(3L, "Garlic", "1", IngredientUnit.CLOVE, true), BigDecimal.ONE);
+
+    List<ShoppingListItemDto> items = aggregator.toItems();
+
+    assertThat(items)
+        .extracting(ShoppingListItemDto::getIngredientName, ShoppingListItemDto::getUnit)
+        .containsExactly(
+            tuple("Garlic", IngredientUnit.CLOVE),
+            tuple("Garlic", IngredientUnit.TSP),
+            tuple("Onion", IngredientUnit.PIECE));
+    assertThat(items.get(0).getTotalQuantity()).isEqualByComparingTo(new BigDecimal("3"));
+    assertThat(items.get(0).getIsOptional()).isFalse();
+    assertThat(items.get(1).getIsOptional()).isTrue();
+  }
+
+  private RecipeIngredient row(
+      Long ingredientId, String name, String quantity, IngredientUnit unit, boolean optional) {
+    return RecipeIngredient.builder()
+        .ingredient(Ingredient.builder().ingredientId(ingredientId).name(name).build())
+        .quantity(new BigDecimal(quantity))
+        .unit(unit)
+        .isOptional(optional)
+        .build();
+  }
+}